@@ -2,6 +2,8 @@ plugins {
     id("java")
     application
     id("org.openjfx.javafxplugin") version "0.1.0"
+    // 성능 측정(JMH)은 core 모듈에서만 사용한다.
+    id("me.champeau.jmh") version "0.7.3" apply false
 }
 
 group = "com.preview"
@@ -30,9 +32,8 @@ javafx {
 }
 
 dependencies {
-    // 디버그 모드에서 전역 키 입력을 관찰하기 위한 글로벌 훅 라이브러리
-    // Maven Central 기준 2.2.2 버전 사용. :contentReference[oaicite:0]{index=0}
-    implementation("com.github.kwhat:jnativehook:2.2.2")
+    // 도메인/서비스/인프라(JNativeHook 포함)는 core 모듈이 제공한다.
+    implementation(project(":core"))
 
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
@@ -0,0 +1,61 @@
+plugins {
+    `java-library`
+    application
+    // 성능 측정(JMH): src/jmh/java, 실행은 `gradle :core:jmh`
+    id("me.champeau.jmh")
+}
+
+group = "com.preview"
+version = "1.0-SNAPSHOT"
+
+repositories {
+    mavenCentral()
+}
+
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
+}
+
+application {
+    // 헤드리스(JavaFX 없는) 진입점: `gradle :core:run --args="--point=100,200 --repeat=10"`
+    mainClass.set("com.preview.mousemacroapp.cli.HeadlessMain")
+}
+
+dependencies {
+    // 디버그 모드에서 전역 키 입력을 관찰하기 위한 글로벌 훅 라이브러리
+    // UI 모듈도 훅 파사드 타입을 직접 사용하므로 api로 노출한다.
+    api("com.github.kwhat:jnativehook:2.2.2")
+
+    testImplementation(platform("org.junit:junit-bom:5.10.0"))
+    testImplementation("org.junit.jupiter:junit-jupiter")
+    testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+}
+
+tasks.test {
+    useJUnitPlatform()
+}
+
+jmh {
+    // 역할: 빌드/테스트에는 영향을 주지 않고, 필요할 때만 측정한다.
+    jmhVersion.set("1.37")
+    resultFormat.set("TEXT")
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.encoding = "UTF-8"
+}
+
+tasks.withType<JavaExec>().configureEach {
+    jvmArgs("-Dfile.encoding=UTF-8", "-Dsun.stdout.encoding=UTF-8", "-Dsun.stderr.encoding=UTF-8")
+}
+
+tasks.withType<Javadoc>().configureEach {
+    // 개발 규칙: DocLint strict + -Werror (경고도 실패 처리)
+    options.encoding = "UTF-8"
+    (options as StandardJavadocDocletOptions).apply {
+        addBooleanOption("Xdoclint:all", true)
+        addBooleanOption("Werror", true)
+    }
+}
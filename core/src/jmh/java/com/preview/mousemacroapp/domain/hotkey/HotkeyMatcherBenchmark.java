@@ -0,0 +1,84 @@
+package com.preview.mousemacroapp.domain.hotkey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단축키 매처의 키 입력 1건당 판단 비용 측정.
+ *
+ * <p>
+ * 바인딩 수(1/2단계 순서열 혼합)를 늘려도 입력 1건 비용이 일정한지(O(1)) 확인한다.
+ * 입력은 바인딩에 걸리는 조합과 무관한 키를 섞은 고정 시퀀스다.
+ * </p>
+ *
+ * <p>실행: {@code gradle :core:jmh}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HotkeyMatcherBenchmark {
+
+    private static final int EVENTS = 1024;
+
+    @Param({"3", "100", "1000"})
+    public int bindings;
+
+    private HotkeyMatcher matcher;
+    private int[] modifiers;
+    private int[] keyCodes;
+    private int cursor;
+    private long now;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<HotkeyBinding> list = new ArrayList<>();
+        for (int i = 0; i < bindings; i++) {
+            // 짝수: 단일 조합(Ctrl+Alt+키), 홀수: 2단계 순서열(Ctrl+Shift+키, 키)
+            HotkeyAction action = HotkeyAction.values()[i % 3];
+            int key = 1000 + i;
+            list.add(i % 2 == 0
+                    ? new HotkeyBinding(List.of(new KeyChord(KeyChord.CTRL | KeyChord.ALT, key)), action)
+                    : new HotkeyBinding(List.of(new KeyChord(KeyChord.CTRL | KeyChord.SHIFT, key), new KeyChord(0, 7)), action));
+        }
+        matcher = new HotkeyMatcher(list, Duration.ofSeconds(1));
+
+        modifiers = new int[EVENTS];
+        keyCodes = new int[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            int pick = random.nextInt(4);
+            modifiers[i] = switch (pick) {
+                case 0 -> KeyChord.CTRL | KeyChord.ALT;
+                case 1 -> KeyChord.CTRL | KeyChord.SHIFT;
+                default -> 0;
+            };
+            keyCodes[i] = pick == 3 ? 7 : 1000 + random.nextInt(Math.max(1, bindings));
+        }
+    }
+
+    @Benchmark
+    public HotkeyAction onKeyPressed() {
+        int i = cursor++ & (EVENTS - 1);
+        now += 50_000_000L;
+        return matcher.onKeyPressed(modifiers[i], keyCodes[i], now);
+    }
+}
@@ -0,0 +1,74 @@
+package com.preview.mousemacroapp.domain.motion;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클릭 좌표 사이 이동 경로 1개 생성 비용 측정.
+ *
+ * <p>
+ * 무작위 좌표 쌍(1920×1080) 고정 시퀀스로 경로를 만들며, 버퍼는 재사용한다.
+ * 출력 주기가 높을수록 점 수가 늘어나므로 주기별로 비교한다.
+ * </p>
+ *
+ * <p>실행: {@code gradle :core:jmh}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrajectoryBenchmark {
+
+    private static final int PAIRS = 1024;
+
+    @Param({"bezier", "wind"})
+    public String model;
+
+    @Param({"125", "1000"})
+    public int rateHz;
+
+    private TrajectoryModel trajectoryModel;
+    private MotionProfile profile;
+    private TrajectoryBuffer buffer;
+    private SplittableRandom random;
+    private int[] coordinates;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        trajectoryModel = "wind".equals(model) ? TrajectoryModel.windMouse() : TrajectoryModel.bezier();
+        profile = MotionProfile.withRate(rateHz);
+        buffer = TrajectoryBuffer.forProfile(profile);
+        random = new SplittableRandom(42);
+        coordinates = new int[PAIRS * 4];
+        for (int i = 0; i < PAIRS; i++) {
+            coordinates[i * 4] = random.nextInt(1920);
+            coordinates[i * 4 + 1] = random.nextInt(1080);
+            coordinates[i * 4 + 2] = random.nextInt(1920);
+            coordinates[i * 4 + 3] = random.nextInt(1080);
+        }
+    }
+
+    @Benchmark
+    public int generate() {
+        int i = (cursor++ & (PAIRS - 1)) * 4;
+        trajectoryModel.generate(coordinates[i], coordinates[i + 1], coordinates[i + 2], coordinates[i + 3],
+                profile, random, buffer);
+        return buffer.size();
+    }
+}
@@ -0,0 +1,87 @@
+package com.preview.mousemacroapp.domain.point;
+
+import com.preview.mousemacroapp.domain.action.policy.ClickPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.RandomAreaPositionPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 열 배열 포인트 라이브러리의 포인트 1개 방문 비용 측정.
+ *
+ * <p>
+ * 10만 포인트(고유 이름, 정책 3종)를 라이브러리(적재 뒤 trimToSize)와 레코드 목록으로 각각 만들고
+ * 좌표 합을 구한다. {@code records}는 레코드 목록 순회 기준선이다.
+ * 힙 사용량 비교는 테스트가 검증하고, 방문당 할당은 프로파일러 {@code -prof gc}로 볼 수 있다.
+ * </p>
+ *
+ * <p>실행: {@code gradle :core:jmh}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointLibraryBenchmark {
+
+    private static final int COUNT = 100_000;
+
+    private PointLibrary library;
+    private List<MacroPoint> records;
+    private long sum;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ClickPositionPolicy[] policies = {new ExactPositionPolicy(), new RandomAreaPositionPolicy(3, 3),
+                new RandomAreaPositionPolicy(10, 5)};
+        library = new PointLibrary(new StringTable(), COUNT);
+        records = new ArrayList<>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            library.add("point-" + i, i % 1920, i % 1080, policies[i % 3]);
+            records.add(new MacroPoint("point-" + i, new ScreenPoint(i % 1920, i % 1080), policies[i % 3]));
+        }
+        library.trimToSize();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long forEach() {
+        library.forEach(view -> sum += view.x() + view.y());
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long indexed() {
+        long total = 0;
+        for (int i = 0, n = library.size(); i < n; i++) {
+            total += library.x(i) + library.y(i);
+        }
+        return total;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(COUNT)
+    public long records() {
+        long total = 0;
+        for (MacroPoint point : records) {
+            total += point.base().x() + point.base().y();
+        }
+        return total;
+    }
+}
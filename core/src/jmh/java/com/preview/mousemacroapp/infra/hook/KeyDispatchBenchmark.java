@@ -0,0 +1,97 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.preview.mousemacroapp.domain.action.KeyAction;
+import com.preview.mousemacroapp.domain.action.KeyStrokes;
+import com.preview.mousemacroapp.domain.action.MouseButton;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.service.replay.DeadlineTimer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 문자열 키 입력 1건(순서열 컴파일 + 일괄 전달) 비용 측정.
+ *
+ * <p>
+ * 간격 0 입력은 순서열 전체를 한 번에 내보내므로, 실제 OS 입력 비용을 뺀 실행기 쪽 비용만 잰다
+ * (키보드는 연산 수만 센다). {@code compileOnly}는 같은 문자열의 순서열 컴파일만 잰 기준선이다.
+ * </p>
+ *
+ * <p>실행: {@code gradle :core:jmh}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeyDispatchBenchmark {
+
+    @Param({"16", "2048"})
+    public int length;
+
+    private String text;
+    private RobotClickExecutor executor;
+    private long ops;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String base = "The quick brown fox jumps over the lazy dog, 12345 times! ";
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append(base);
+        }
+        text = sb.substring(0, length);
+
+        RobotMouse mouse = new RobotMouse() {
+            @Override
+            public void move(ScreenPoint point) {
+            }
+
+            @Override
+            public void press(MouseButton button) {
+            }
+
+            @Override
+            public void release(MouseButton button) {
+            }
+
+            @Override
+            public void wheel(int notches) {
+            }
+        };
+        RobotKeyboard keyboard = new RobotKeyboard() {
+            @Override
+            public void dispatch(KeyStrokes strokes, int from, int to) {
+                ops += to - from;
+            }
+
+            @Override
+            public void release(int keyCode) {
+            }
+        };
+        executor = new RobotClickExecutor(mouse, keyboard, null, 125, DeadlineTimer.system());
+    }
+
+    @Benchmark
+    public long typeText() {
+        executor.key(KeyAction.type(text, 0));
+        return ops;
+    }
+
+    @Benchmark
+    public int compileOnly() {
+        return KeyStrokes.text(text).size();
+    }
+}
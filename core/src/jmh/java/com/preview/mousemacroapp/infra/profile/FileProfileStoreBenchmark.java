@@ -0,0 +1,95 @@
+package com.preview.mousemacroapp.infra.profile;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.policy.ClickPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.RandomAreaPositionPolicy;
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+import com.preview.mousemacroapp.service.MacroProfile;
+import com.preview.mousemacroapp.service.MacroProfiles;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로파일 파일 저장/적재 1회 시간 측정.
+ *
+ * <p>
+ * 이름 고유, 정책/스케줄을 섞은 프로파일 목록을 임시 디렉터리의 파일 하나에 쓴다.
+ * {@code save}는 임시 파일 쓰기 + force + 원자적 교체까지, {@code load}는 매핑 + CRC 확인 + 해석까지 잰다.
+ * 1회가 ms 단위라 결과도 ms로 낸다. 왕복 결과와 파일 크기는 테스트가 검증한다.
+ * </p>
+ *
+ * <p>실행: {@code gradle :core:jmh}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileProfileStoreBenchmark {
+
+    @Param({"100", "10000"})
+    public int count;
+
+    private Path dir;
+    private FileProfileStore store;
+    private MacroProfiles profiles;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        List<MacroProfile> list = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ClickPositionPolicy policy = (i % 2 == 0) ? new ExactPositionPolicy() : new RandomAreaPositionPolicy(i % 7, 2);
+            ExecutionSchedule schedule = (i % 3 == 0)
+                    ? new ExecutionSchedule.Always()
+                    : new ExecutionSchedule.Range(new DelayPolicy.LocalTimeRange(LocalTime.of(9, 0), LocalTime.of(18, i % 60)));
+            list.add(new MacroProfile("profile-" + i,
+                    new MacroPoint("point-" + (i % 100), new ScreenPoint(i % 1920, i % 1080), policy),
+                    ClickAction.singleLeft(), new DelayPolicy(300 + i % 10, 0, i % 50), schedule, i % 5));
+        }
+        profiles = new MacroProfiles(list, count - 1);
+        dir = Files.createTempDirectory("profile-bench");
+        store = new FileProfileStore(dir.resolve("library.mmpf"));
+        store.save(profiles);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(store.file());
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public Path save() throws IOException {
+        store.save(profiles);
+        return store.file();
+    }
+
+    @Benchmark
+    public MacroProfiles load() throws IOException {
+        return store.load();
+    }
+}
@@ -0,0 +1,83 @@
+package com.preview.mousemacroapp.infra.record;
+
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이동 경로 단순화 이동 1건 처리 비용 측정.
+ *
+ * <p>
+ * 1kHz 이동 입력(가감속 곡선 + ±0.5px 손 떨림) 고정 시퀀스를 버리는 전달 대상 앞의 단순화 단계에 계속 넣는다.
+ * 창이 찰 때마다 하는 선분 분할 비용이 평균에 포함되므로 창 크기별로 비교한다.
+ * 압축률/편차 상한은 테스트가 검증한다.
+ * </p>
+ *
+ * <p>실행: {@code gradle :core:jmh}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MotionSimplifierBenchmark {
+
+    private static final int SAMPLES = 1 << 16;
+    private static final long MS = 1_000_000L;
+
+    @Param({"64", "512"})
+    public int window;
+
+    private MotionSimplifier simplifier;
+    private int[] xs;
+    private int[] ys;
+    private long tick;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simplifier = new MotionSimplifier((t, type, x, y, code) -> { },
+                MotionSimplifier.DEFAULT_TOLERANCE_PIXELS, MotionSimplifier.DEFAULT_MAX_GAP_NANOS, window);
+        SplittableRandom random = new SplittableRandom(11);
+        xs = new int[SAMPLES];
+        ys = new int[SAMPLES];
+        double x = 960;
+        double y = 540;
+        int i = 0;
+        while (i < SAMPLES) {
+            double tx = random.nextInt(1920);
+            double ty = random.nextInt(1080);
+            int duration = 150 + random.nextInt(650);
+            for (int ms = 1; ms <= duration && i < SAMPLES; ms++, i++) {
+                double s = (double) ms / duration;
+                double f = 10 * s * s * s - 15 * s * s * s * s + 6 * s * s * s * s * s;
+                xs[i] = (int) Math.round(x + (tx - x) * f + random.nextDouble() - 0.5);
+                ys[i] = (int) Math.round(y + (ty - y) * f + random.nextDouble() - 0.5);
+            }
+            x = tx;
+            y = ty;
+        }
+    }
+
+    @Benchmark
+    public long accept() {
+        int i = cursor++ & (SAMPLES - 1);
+        tick += MS;
+        simplifier.accept(tick, InputEventType.MOUSE_MOVE, xs[i], ys[i], 0);
+        return simplifier.outputMoveCount();
+    }
+}
@@ -0,0 +1,87 @@
+package com.preview.mousemacroapp.infra.record;
+
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입력 기록기 이벤트 1건 기록 비용 측정.
+ *
+ * <p>
+ * 1kHz 폴링(±50µs 흔들림), 부드럽게 변하는 속도의 이동 입력 고정 시퀀스를 임시 파일에 계속 기록한다.
+ * 블록 마감/파일 쓰기 비용이 평균에 포함된다. 파일 크기(이벤트당 바이트)는 테스트가 검증한다.
+ * </p>
+ *
+ * <p>실행: {@code gradle :core:jmh}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordingWriterBenchmark {
+
+    private static final int SAMPLES = 1 << 16;
+
+    private Path file;
+    private RecordingWriter writer;
+    private int[] xs;
+    private int[] ys;
+    private int[] jitters;
+    private long tick;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        SplittableRandom random = new SplittableRandom(7);
+        xs = new int[SAMPLES];
+        ys = new int[SAMPLES];
+        jitters = new int[SAMPLES];
+        double x = 960;
+        double y = 540;
+        double vx = 0;
+        double vy = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            vx = Math.max(-20, Math.min(20, vx * 0.98 + (random.nextDouble() - 0.5) * 1.2));
+            vy = Math.max(-20, Math.min(20, vy * 0.98 + (random.nextDouble() - 0.5) * 1.2));
+            x = Math.max(0, Math.min(3839, x + vx));
+            y = Math.max(0, Math.min(2159, y + vy));
+            xs[i] = (int) x;
+            ys[i] = (int) y;
+            jitters[i] = random.nextInt(100_000) - 50_000;
+        }
+        file = Files.createTempFile("recording-bench", ".mrec");
+        writer = RecordingWriter.open(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        writer.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long writeMove() {
+        int i = cursor++ & (SAMPLES - 1);
+        tick += 1_000_000L;
+        writer.accept(tick + jitters[i], InputEventType.MOUSE_MOVE, xs[i], ys[i], 0);
+        return writer.eventCount();
+    }
+}
@@ -0,0 +1,75 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마우스 사용권 중재기를 거친 동작 1건 비용 측정(경합 없음).
+ *
+ * <p>
+ * {@code direct}는 같은 실행기를 바로 부른 기준선이고, {@code arbitrated}는 세션 하나가
+ * 사용권을 얻고 반납하며 같은 동작을 보낸다. 둘의 차이가 무경합 경로의 중재 비용이다.
+ * 프로파일러 {@code -prof gc}로 동작당 할당도 볼 수 있다.
+ * </p>
+ *
+ * <p>실행: {@code gradle :core:jmh}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MouseArbiterBenchmark {
+
+    private final ClickAction click = ClickAction.singleLeft();
+
+    private ClickExecutor direct;
+    private MouseArbiter.Session session;
+    private long checksum;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        direct = new ClickExecutor() {
+            @Override
+            public void execute(ClickAction action, ScreenPoint point) {
+                checksum += point.x() + point.y();
+            }
+
+            @Override
+            public void perform(MacroAction action, int x, int y) {
+                checksum += x + y;
+            }
+        };
+        session = new MouseArbiter(direct).session("solo", 0);
+    }
+
+    @Benchmark
+    public long direct() {
+        int i = cursor++;
+        direct.perform(click, i & 1023, i & 511);
+        return checksum;
+    }
+
+    @Benchmark
+    public long arbitrated() {
+        int i = cursor++;
+        session.perform(click, i & 1023, i & 511);
+        return checksum;
+    }
+}
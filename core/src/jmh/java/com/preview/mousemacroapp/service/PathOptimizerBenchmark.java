@@ -0,0 +1,65 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌표 방문 순서 최적화 1회(최근접 이웃 구성 + 개선) 시간 측정.
+ *
+ * <p>
+ * 1920×1080 화면의 무작위 좌표(고정 시드)를 화면 중앙에서 출발하도록 최적화한다.
+ * 1회가 ms 단위라 결과도 ms로 낸다. 경로 길이 감소율은 테스트가 검증한다.
+ * </p>
+ *
+ * <p>실행: {@code gradle :core:jmh}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathOptimizerBenchmark {
+
+    @Param({"1000", "10000"})
+    public int count;
+
+    private final ScreenPoint start = new ScreenPoint(960, 540);
+
+    private PathOptimizer optimizer;
+    private List<MacroPoint> points;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        optimizer = new PathOptimizer();
+        Random random = new Random(count);
+        points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            points.add(new MacroPoint("p" + i, new ScreenPoint(random.nextInt(1920), random.nextInt(1080)),
+                    new ExactPositionPolicy()));
+        }
+    }
+
+    @Benchmark
+    public double optimize() {
+        return optimizer.optimize(points, start).optimizedLength();
+    }
+}
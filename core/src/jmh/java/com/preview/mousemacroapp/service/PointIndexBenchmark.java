@@ -0,0 +1,91 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 공간 색인의 허용 거리 조회 1회 비용 측정.
+ *
+ * <p>
+ * 1920×1080에 포인트를 무작위로 넣고, 무작위 캡처 좌표 고정 시퀀스를 허용 거리 2px로 맞춘다.
+ * {@code linearScan}은 같은 조회를 전체 목록 전수 비교로 한 기준선이다(결과가 같다는 것은 테스트가 검증한다).
+ * </p>
+ *
+ * <p>실행: {@code gradle :core:jmh}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointIndexBenchmark {
+
+    private static final int QUERIES = 1 << 14;
+
+    @Param({"1000", "100000"})
+    public int points;
+
+    private PointIndex index;
+    private List<MacroPoint> all;
+    private ScreenPoint[] queries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(5);
+        index = new PointIndex(16);
+        all = new ArrayList<>(points);
+        ExactPositionPolicy exact = new ExactPositionPolicy();
+        for (int i = 0; i < points; i++) {
+            MacroPoint point = new MacroPoint("p" + i, new ScreenPoint(random.nextInt(1920), random.nextInt(1080)), exact);
+            index.add(point);
+            all.add(point);
+        }
+        queries = new ScreenPoint[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            queries[i] = new ScreenPoint(random.nextInt(1920), random.nextInt(1080));
+        }
+    }
+
+    @Benchmark
+    public Optional<MacroPoint> indexed() {
+        return index.nearest(queries[cursor++ & (QUERIES - 1)], 2);
+    }
+
+    @Benchmark
+    public MacroPoint linearScan() {
+        ScreenPoint at = queries[cursor++ & (QUERIES - 1)];
+        MacroPoint best = null;
+        long bestSquared = 4;
+        for (MacroPoint point : all) {
+            long dx = point.base().x() - at.x();
+            long dy = point.base().y() - at.y();
+            long squared = dx * dx + dy * dy;
+            if (squared <= bestSquared) {
+                bestSquared = squared;
+                best = point;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,106 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로파일 검색(입력하는 대로 찾기) 1회 지연 측정.
+ *
+ * <p>
+ * 단어 1~3개를 섞은 고유 이름의 프로파일을 넣고, 이름 조각(1~4글자) 검색어 고정 시퀀스로 결과 20개씩 찾는다.
+ * {@code linearScan}은 같은 검색어로 이름 부분 문자열을 전수 비교한 기준선이다(결과 일치는 테스트가 검증한다).
+ * 1회 지연은 ms보다 훨씬 작아야 한다(입력마다 UI 스레드에서 부른다).
+ * </p>
+ *
+ * <p>실행: {@code gradle :core:jmh}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfileSearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "야간", "주간", "확인", "확인창", "보스", "Login", "loot", "채집", "auto", "AutoRun", "상자", "클릭"
+    };
+    private static final int QUERIES = 1 << 12;
+    private static final int LIMIT = 20;
+
+    @Param({"10000"})
+    public int profiles;
+
+    private ProfileSearchIndex index;
+    private List<MacroProfile> all;
+    private String[] queries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(9);
+        index = new ProfileSearchIndex();
+        all = new ArrayList<>(profiles);
+        for (int i = 0; i < profiles; i++) {
+            MacroProfile profile = new MacroProfile(randomName(random, i),
+                    new MacroPoint(randomName(random, -1), new ScreenPoint(1, 2), new ExactPositionPolicy()),
+                    ClickAction.singleLeft(), new DelayPolicy(300, 0, 0), new ExecutionSchedule.Always(), 0);
+            index.put(profile);
+            all.add(profile);
+        }
+        queries = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String name = all.get(random.nextInt(all.size())).name();
+            int start = random.nextInt(name.length());
+            queries[i] = name.substring(start, Math.min(name.length(), start + 1 + random.nextInt(4)));
+        }
+    }
+
+    @Benchmark
+    public List<MacroProfile> indexed() {
+        return index.search(queries[cursor++ & (QUERIES - 1)], LIMIT);
+    }
+
+    @Benchmark
+    public int linearScan() {
+        String key = queries[cursor++ & (QUERIES - 1)].toLowerCase(Locale.ROOT);
+        int hits = 0;
+        for (MacroProfile profile : all) {
+            if (hits < LIMIT && profile.name().toLowerCase(Locale.ROOT).contains(key)) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    private static String randomName(Random random, int id) {
+        StringBuilder name = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        int words = 1 + random.nextInt(3);
+        for (int i = 1; i < words; i++) {
+            name.append(random.nextBoolean() ? ' ' : '_').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return id >= 0 ? name.append(' ').append(id).toString() : name.toString();
+    }
+}
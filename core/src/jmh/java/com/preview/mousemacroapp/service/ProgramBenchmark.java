@@ -0,0 +1,102 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.KeyAction;
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.domain.action.MouseButton;
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.RandomAreaPositionPolicy;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.program.MacroProgram;
+import com.preview.mousemacroapp.domain.program.ProgramCompiler;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매크로 프로그램 단계 1개당 컴파일/실행 비용 측정.
+ *
+ * <p>
+ * 10만 단계(클릭 3종 + 키 입력, 정확/랜덤 영역 좌표, 랜덤 딜레이) 프로그램을 쓴다.
+ * {@code run}은 좌표 객체 없는 경로만 세는 실행기와 즉시 반환하는 대기로 1회차를 돌리므로
+ * 인터프리터 자체 비용(좌표/딜레이 계산, 동작 분기)만 잰다.
+ * 단계당 할당이 없다는 계약은 테스트가 검증한다.
+ * </p>
+ *
+ * <p>실행: {@code gradle :core:jmh}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProgramBenchmark {
+
+    private static final int STEPS = 100_000;
+
+    private static final MacroAction[] ACTIONS = {ClickAction.singleLeft(), ClickAction.doubleLeft(),
+            ClickAction.hold(MouseButton.LEFT, 50), KeyAction.press(10)};
+
+    private MacroProgram program;
+    private MacroRunner runner;
+    private Random random;
+    private long checksum;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        program = compileSteps();
+        ClickExecutor counting = new ClickExecutor() {
+            @Override
+            public void execute(ClickAction action, ScreenPoint point) {
+                checksum += point.x() + point.y();
+            }
+
+            @Override
+            public void perform(MacroAction action, int x, int y) {
+                checksum += x + y;
+            }
+        };
+        runner = new MacroRunner(counting, Clock.systemUTC(), millis -> checksum += millis);
+        random = new Random(2);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public MacroProgram compile() {
+        return compileSteps();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public long run() {
+        runner.runProgramOnCurrentThread(program, new ExecutionSchedule.Always(), random, 1);
+        return checksum;
+    }
+
+    private static MacroProgram compileSteps() {
+        ProgramCompiler compiler = new ProgramCompiler(STEPS);
+        ExactPositionPolicy exact = new ExactPositionPolicy();
+        RandomAreaPositionPolicy area = new RandomAreaPositionPolicy(3, 3);
+        for (int i = 0; i < STEPS; i++) {
+            compiler.add(i % 1920, i % 1080, ACTIONS[i & 3], (i & 1) == 0 ? exact : area,
+                    new DelayPolicy(i % 7, 0, i % 5));
+        }
+        return compiler.compile();
+    }
+}
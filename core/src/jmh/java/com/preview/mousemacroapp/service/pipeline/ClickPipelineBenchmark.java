@@ -0,0 +1,87 @@
+package com.preview.mousemacroapp.service.pipeline;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.point.ScreenBounds;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.service.ClickExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파이프라인 단계별 오버헤드 측정.
+ *
+ * <p>
+ * 실제 실행기는 Blackhole로 대체하여 단계 자체 비용만 측정한다.
+ * {@code direct} 대비 {@code pipeline}의 차이가 단계 오버헤드다.
+ * </p>
+ *
+ * <p>실행: {@code gradle jmh}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClickPipelineBenchmark {
+
+    /**
+     * 측정 대상 구성.
+     * - passN: 아무 일도 하지 않는 단계 N개(순수 연결 비용)
+     * - 나머지: 해당 기본 단계 1개
+     */
+    @Param({"pass0", "pass1", "pass3", "pass5", "clamp", "metrics", "journal", "tee"})
+    public String stages;
+
+    private ClickExecutor direct;
+    private ClickExecutor pipeline;
+
+    private final ClickAction action = ClickAction.singleLeft();
+    private final ScreenPoint point = new ScreenPoint(300, 300);
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        direct = (a, p) -> blackhole.consume(p);
+
+        List<ClickInterceptor> list = new ArrayList<>();
+        switch (stages) {
+            case "clamp" -> list.add(new BoundsClampClickInterceptor(new ScreenBounds(0, 0, 1919, 1079)));
+            case "metrics" -> list.add(new MetricsClickInterceptor());
+            case "journal" -> list.add(new JournalClickInterceptor(1024, Clock.systemUTC()));
+            case "tee" -> list.add(new TeeClickInterceptor((a, p) -> blackhole.consume(a)));
+            default -> {
+                int n = Integer.parseInt(stages.substring("pass".length()));
+                for (int i = 0; i < n; i++) {
+                    list.add((a, p, next) -> next.execute(a, p));
+                }
+            }
+        }
+        pipeline = ClickPipeline.of(direct, list);
+    }
+
+    @Benchmark
+    public void direct() {
+        direct.execute(action, point);
+    }
+
+    @Benchmark
+    public void pipeline() {
+        pipeline.execute(action, point);
+    }
+}
@@ -0,0 +1,205 @@
+package com.preview.mousemacroapp.service.script;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.service.ClickExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스크립트 단계당 실행 비용 측정.
+ *
+ * <p>
+ * 같은 1000단계 루프(변수 갱신 + 조건 분기 + 클릭)를 세 가지로 실행한다.
+ * {@code handWritten}은 같은 일을 Java로 직접 작성해 {@link ClickExecutor}를 호출한 기준선이고,
+ * {@code compiled}는 {@link MacroScript}(MethodHandle 트리), {@code treeWalking}은 구문 트리를 순회하는 비교용 인터프리터다.
+ * 결과는 단계(클릭 1회)당 시간이며, 실제 실행기는 Blackhole로 대체한다.
+ * </p>
+ *
+ * <p>실행: {@code gradle :core:jmh}</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScriptBenchmark {
+
+    private static final int STEPS = 1000;
+
+    private static final String SOURCE = """
+            let x = 0
+            let i = 0
+            repeat 1000 {
+                x = 100 + i % 7 * 10
+                if i % 2 == 0 { click x, 200 } else { click x, 300 double }
+                i = i + 1
+            }
+            """;
+
+    private static final ClickAction SINGLE = ClickAction.singleLeft();
+    private static final ClickAction DOUBLE = ClickAction.doubleLeft();
+
+    private ClickExecutor executor;
+    private MacroScript script;
+    private ScriptParser.Parsed parsed;
+    private final Random random = new Random(1);
+    private final ScriptControl control = ScriptControl.of(millis -> {
+    });
+
+    @Setup(Level.Trial)
+    public void setUp(Blackhole blackhole) {
+        executor = new ClickExecutor() {
+            @Override
+            public void execute(ClickAction action, ScreenPoint point) {
+                blackhole.consume(point);
+            }
+
+            @Override
+            public void perform(MacroAction action, int x, int y) {
+                blackhole.consume(action);
+                blackhole.consume(x);
+                blackhole.consume(y);
+            }
+        };
+        script = MacroScript.compile(SOURCE);
+        parsed = ScriptParser.parse(SOURCE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public int handWritten() {
+        int x = 0;
+        int i = 0;
+        for (int n = 0; n < STEPS; n++) {
+            if (!control.checkpoint()) {
+                break;
+            }
+            x = 100 + i % 7 * 10;
+            if (i % 2 == 0) {
+                executor.perform(SINGLE, x, 200);
+            } else {
+                executor.perform(DOUBLE, x, 300);
+            }
+            i = i + 1;
+        }
+        return x + i;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public long compiled() {
+        return script.run(executor, random, control).actions();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STEPS)
+    public long treeWalking() {
+        TreeWalker walker = new TreeWalker(parsed.variables().size(), executor, random);
+        walker.execute(parsed.root());
+        return walker.actions;
+    }
+
+    /**
+     * 비교용: 구문 트리를 매번 순회하는 인터프리터.
+     */
+    private static final class TreeWalker {
+
+        private final int[] variables;
+        private final ClickExecutor executor;
+        private final Random random;
+        private long actions;
+
+        TreeWalker(int slots, ClickExecutor executor, Random random) {
+            this.variables = new int[slots];
+            this.executor = executor;
+            this.random = random;
+        }
+
+        void execute(ScriptNode.Statement node) {
+            switch (node) {
+                case ScriptNode.Block block -> {
+                    for (ScriptNode.Statement statement : block.statements()) {
+                        execute(statement);
+                    }
+                }
+                case ScriptNode.Assign assign -> variables[assign.slot()] = evaluate(assign.value());
+                case ScriptNode.Perform perform -> {
+                    executor.perform(perform.action(), evaluate(perform.x()), evaluate(perform.y()));
+                    actions++;
+                }
+                case ScriptNode.PerformFixed perform -> {
+                    executor.perform(perform.action(), 0, 0);
+                    actions++;
+                }
+                case ScriptNode.Wait wait -> evaluate(wait.millis());
+                case ScriptNode.Repeat repeat -> {
+                    int count = evaluate(repeat.count());
+                    for (int i = 0; i < count; i++) {
+                        execute(repeat.body());
+                    }
+                }
+                case ScriptNode.While loop -> {
+                    while (evaluate(loop.condition()) != 0) {
+                        execute(loop.body());
+                    }
+                }
+                case ScriptNode.If branch ->
+                        execute(evaluate(branch.condition()) != 0 ? branch.then() : branch.otherwise());
+                case ScriptNode.Parallel parallel -> parallel.branches().forEach(this::execute);
+            }
+        }
+
+        int evaluate(ScriptNode.Expression node) {
+            return switch (node) {
+                case ScriptNode.Literal literal -> literal.value();
+                case ScriptNode.Variable variable -> variables[variable.slot()];
+                case ScriptNode.Unary unary -> unary.operator() == '-'
+                        ? -evaluate(unary.operand()) : (evaluate(unary.operand()) == 0 ? 1 : 0);
+                case ScriptNode.Random r -> {
+                    int min = evaluate(r.min());
+                    yield (int) (min + random.nextLong((long) evaluate(r.max()) - min + 1));
+                }
+                case ScriptNode.Binary binary -> {
+                    int a = evaluate(binary.left());
+                    yield switch (binary.operator()) {
+                        case '&' -> a != 0 && evaluate(binary.right()) != 0 ? 1 : 0;
+                        case '|' -> a != 0 || evaluate(binary.right()) != 0 ? 1 : 0;
+                        default -> {
+                            int b = evaluate(binary.right());
+                            yield switch (binary.operator()) {
+                                case '+' -> a + b;
+                                case '-' -> a - b;
+                                case '*' -> a * b;
+                                case '/' -> a / b;
+                                case '%' -> a % b;
+                                case '<' -> a < b ? 1 : 0;
+                                case '>' -> a > b ? 1 : 0;
+                                case 'L' -> a <= b ? 1 : 0;
+                                case 'G' -> a >= b ? 1 : 0;
+                                case '=' -> a == b ? 1 : 0;
+                                default -> a != b ? 1 : 0;
+                            };
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.preview.mousemacroapp.cli;
+
+import com.preview.mousemacroapp.debug.DebugLog;
+import com.preview.mousemacroapp.debug.DebugMode;
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.launch.ClickExecutorAssembler;
+import com.preview.mousemacroapp.launch.ClickExecutorAssembly;
+import com.preview.mousemacroapp.launch.LaunchOptions;
+import com.preview.mousemacroapp.service.ClickExecutor;
+import com.preview.mousemacroapp.service.DefaultMacroService;
+import com.preview.mousemacroapp.service.MacroService;
+import com.preview.mousemacroapp.service.replay.ReplayOptions;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 헤드리스(JavaFX 없는) 실행 진입점.
+ *
+ * <p><b>책임</b></p>
+ * <ul>
+ *   <li>실행 인자/프로파일로 실행 요청({@link HeadlessOptions})과 실행기 구성({@link LaunchOptions})을 해석한다.</li>
+ *   <li>{@link DefaultMacroService}로 요청을 실행하고, 종료(반복 완료/최대 시간/Ctrl+C)까지 기다린다.</li>
+ *   <li>클릭 수, 첫 클릭까지 시간(JVM 시작 기준), 최대 RSS를 한 줄로 출력한다.</li>
+ *   <li>{@code --replay=PATH}가 있으면 반복 실행 대신 기록을 재생한다({@link HeadlessReplay}).</li>
+ * </ul>
+ *
+ * <p>
+ * 종료 코드: 0=정상, 2=실행 인자 오류.
+ * </p>
+ *
+ * @since 0.9
+ */
+public final class HeadlessMain {
+
+    private static final long POLL_MILLIS = 10;
+
+    private HeadlessMain() {
+    }
+
+    /**
+     * 헤드리스 실행을 시작한다.
+     *
+     * @param args 실행 인자
+     */
+    public static void main(String[] args) {
+        DebugMode.initialize(args);
+
+        if (Arrays.stream(args).anyMatch(a -> a != null && a.startsWith("--replay="))) {
+            System.exit(replay(args));
+            return;
+        }
+
+        HeadlessOptions options;
+        LaunchOptions launchOptions;
+        try {
+            options = HeadlessOptions.parse(args);
+            launchOptions = LaunchOptions.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println("[HEADLESS] 실행 인자 오류: " + ex.getMessage());
+            System.err.println("사용법: --point=X,Y [--action=..] [--delay=MS] [--jitter=MIN-MAX] [--repeat=N]"
+                    + " [--window=HH:mm-HH:mm] [--random=W,H] [--seed=N] [--duration=SEC] [--profile=PATH]"
+                    + " [--executor=dry-run|robot] ...");
+            System.exit(2);
+            return;
+        }
+
+        run(options, launchOptions, System.out);
+        System.exit(0);
+    }
+
+    private static int replay(String[] args) {
+        Path path;
+        ReplayOptions replayOptions;
+        LaunchOptions launchOptions;
+        try {
+            path = HeadlessReplay.replayPath(args).orElseThrow();
+            replayOptions = HeadlessReplay.parseOptions(args);
+            launchOptions = LaunchOptions.parse(args);
+        } catch (IllegalArgumentException ex) {
+            System.err.println("[HEADLESS] 실행 인자 오류: " + ex.getMessage());
+            System.err.println("사용법: --replay=PATH [--speed=N|max] [--max-idle=MS] [--window=HH:mm-HH:mm]"
+                    + " [--executor=dry-run|robot] ...");
+            return 2;
+        }
+        try {
+            HeadlessReplay.run(path, replayOptions, launchOptions, System.out);
+            return 0;
+        } catch (IOException ex) {
+            System.err.println("[HEADLESS] 기록 파일을 열 수 없다: " + ex.getMessage());
+            return 2;
+        }
+    }
+
+    /**
+     * 요청을 실행하고 종료까지 기다린 뒤 요약을 출력한다.
+     *
+     * @param options       실행 요청 구성
+     * @param launchOptions 실행기 구성
+     * @param out           요약 출력 대상
+     * @return 실행된 클릭 수
+     */
+    static long run(HeadlessOptions options, LaunchOptions launchOptions, PrintStream out) {
+        ClickExecutorAssembly assembly = ClickExecutorAssembler.assemble(launchOptions, Clock.systemDefaultZone());
+        FirstClickProbe probe = new FirstClickProbe(assembly.executor());
+        MacroService macroService = new DefaultMacroService(probe);
+
+        // 역할: Ctrl+C 시에도 실행 중지 + 출력 flush + 요약이 끝날 때까지 JVM 종료를 잠시 늦춘다.
+        CountDownLatch finished = new CountDownLatch(1);
+        Thread shutdownHook = new Thread(() -> {
+            macroService.stop();
+            try {
+                finished.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        }, "headless-shutdown");
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+
+        long startedNanos = System.nanoTime();
+        long deadlineNanos = options.maxDuration()
+                .map(d -> startedNanos + d.toNanos())
+                .orElse(Long.MAX_VALUE);
+
+        try {
+            macroService.start(options.toRequest());
+            while (macroService.status().isActive() && System.nanoTime() < deadlineNanos) {
+                Thread.sleep(POLL_MILLIS);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            macroService.stop();
+            assembly.metrics().ifPresent(m -> DebugLog.log("PIPELINE", () -> "metrics " + m));
+            try {
+                assembly.close();
+            } catch (Exception ex) {
+                DebugLog.log("PIPELINE", () -> "close failed: " + ex.getMessage());
+            }
+
+            long runMillis = (System.nanoTime() - startedNanos) / 1_000_000L;
+            out.println("[HEADLESS] clicks=" + probe.count()
+                    + " firstClickMs=" + format(probe.firstClickSinceJvmStartMillis())
+                    + " runMs=" + runMillis
+                    + " peakRssKiB=" + format(ProcessFootprint.peakRssKib()));
+            out.flush();
+            finished.countDown();
+            removeShutdownHookQuietly(shutdownHook);
+        }
+        return probe.count();
+    }
+
+    private static String format(OptionalLong value) {
+        return value.isPresent() ? Long.toString(value.getAsLong()) : "n/a";
+    }
+
+    private static void removeShutdownHookQuietly(Thread hook) {
+        try {
+            Runtime.getRuntime().removeShutdownHook(hook);
+        } catch (IllegalStateException ignored) {
+            // 역할: 이미 종료 중(훅 실행 중)이면 제거할 수 없으며, 정상 흐름이다.
+        }
+    }
+
+    /**
+     * 실행 횟수와 첫 클릭 시점을 기록하는 실행기 래퍼.
+     */
+    static final class FirstClickProbe implements ClickExecutor {
+
+        private final ClickExecutor delegate;
+        private final AtomicLong count = new AtomicLong();
+
+        private volatile OptionalLong firstClickMillis = OptionalLong.empty();
+
+        FirstClickProbe(ClickExecutor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void execute(ClickAction action, ScreenPoint point) {
+            if (count.getAndIncrement() == 0) {
+                // 역할: 측정은 첫 클릭 1회만 수행하여 반복 경로에 비용을 남기지 않는다.
+                firstClickMillis = OptionalLong.of(ProcessFootprint.millisSinceJvmStart());
+            }
+            delegate.execute(action, point);
+        }
+
+        long count() {
+            return count.get();
+        }
+
+        OptionalLong firstClickSinceJvmStartMillis() {
+            return firstClickMillis;
+        }
+    }
+}
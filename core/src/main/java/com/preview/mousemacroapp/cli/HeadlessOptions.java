@@ -0,0 +1,288 @@
+package com.preview.mousemacroapp.cli;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.MouseButton;
+import com.preview.mousemacroapp.domain.action.policy.ClickPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.RandomAreaPositionPolicy;
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+import com.preview.mousemacroapp.service.MacroRequest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 헤드리스 실행 인자로부터 해석한 실행 요청 구성.
+ *
+ * <p><b>지원 인자</b> (프로파일 파일의 키는 {@code --} 없이 같은 이름)</p>
+ * <ul>
+ *     <li>{@code --point=X,Y} : 기준 좌표(필수)</li>
+ *     <li>{@code --action=left|double|right|hold:BUTTON:MS} : 클릭 동작(기본 left)</li>
+ *     <li>{@code --delay=MS} : 기본 클릭 간격(기본 300)</li>
+ *     <li>{@code --jitter=MIN-MAX} : 추가 랜덤 딜레이 범위(기본 0-0)</li>
+ *     <li>{@code --repeat=N} : 반복 횟수(0=무한, 기본 1)</li>
+ *     <li>{@code --window=HH:mm-HH:mm} : 실행 허용 시간대(기본 항상)</li>
+ *     <li>{@code --random=HALF_W,HALF_H} : 기준 좌표 주변 랜덤 영역(기본 정확한 좌표)</li>
+ *     <li>{@code --seed=N} : 랜덤 시드(재현용)</li>
+ *     <li>{@code --duration=SECONDS} : 최대 실행 시간(0=제한 없음)</li>
+ *     <li>{@code --profile=PATH} : 위 키를 담은 properties 파일(명령행 값이 우선)</li>
+ * </ul>
+ *
+ * <p>
+ * 실행기/파이프라인 인자({@code --executor} 등)는 {@link com.preview.mousemacroapp.launch.LaunchOptions}가
+ * 해석하므로 여기서는 무시한다.
+ * </p>
+ *
+ * @param point             기준 좌표
+ * @param clickAction       클릭 동작
+ * @param delayPolicy       클릭 간격 정책
+ * @param repeatCount       반복 횟수(0=무한)
+ * @param schedule          실행 허용 시간대
+ * @param halfWidth         랜덤 영역 반폭(0=정확한 좌표)
+ * @param halfHeight        랜덤 영역 반높이(0=정확한 좌표)
+ * @param seed              랜덤 시드
+ * @param maxDurationOrNull 최대 실행 시간(null=제한 없음)
+ * @since 0.9
+ */
+public record HeadlessOptions(
+        ScreenPoint point,
+        ClickAction clickAction,
+        DelayPolicy delayPolicy,
+        int repeatCount,
+        ExecutionSchedule schedule,
+        int halfWidth,
+        int halfHeight,
+        long seed,
+        Duration maxDurationOrNull
+) {
+
+    private static final Set<String> KEYS = Set.of(
+            "point", "action", "delay", "jitter", "repeat", "window", "random", "seed", "duration"
+    );
+
+    /**
+     * 구성 불변식을 강제한다.
+     *
+     * @throws NullPointerException     point/clickAction/delayPolicy/schedule이 null인 경우
+     * @throws IllegalArgumentException 수치 값이 음수인 경우
+     */
+    public HeadlessOptions {
+        Objects.requireNonNull(point, "point");
+        Objects.requireNonNull(clickAction, "clickAction");
+        Objects.requireNonNull(delayPolicy, "delayPolicy");
+        Objects.requireNonNull(schedule, "schedule");
+        if (repeatCount < 0) {
+            throw new IllegalArgumentException("repeatCount는 0 이상이어야 한다. repeatCount=" + repeatCount);
+        }
+        if (halfWidth < 0 || halfHeight < 0) {
+            throw new IllegalArgumentException("랜덤 영역은 0 이상이어야 한다. halfWidth=%d, halfHeight=%d"
+                    .formatted(halfWidth, halfHeight));
+        }
+    }
+
+    /**
+     * 최대 실행 시간을 반환한다.
+     *
+     * @return 지정된 경우 최대 실행 시간
+     */
+    public Optional<Duration> maxDuration() {
+        return Optional.ofNullable(maxDurationOrNull);
+    }
+
+    /**
+     * 구성을 Service 실행 요청으로 변환한다.
+     *
+     * @return 실행 요청
+     */
+    public MacroRequest toRequest() {
+        ClickPositionPolicy positionPolicy = (halfWidth == 0 && halfHeight == 0)
+                ? new ExactPositionPolicy()
+                : new RandomAreaPositionPolicy(halfWidth, halfHeight);
+        MacroPoint macroPoint = new MacroPoint("cli", point, positionPolicy);
+
+        return new MacroRequest(
+                macroPoint,
+                clickAction,
+                positionPolicy,
+                delayPolicy,
+                schedule,
+                new Random(seed),
+                repeatCount
+        );
+    }
+
+    /**
+     * 실행 인자(및 {@code --profile} 파일)를 해석한다.
+     *
+     * @param args 실행 인자
+     * @return 실행 구성
+     * @throws NullPointerException     args가 null인 경우
+     * @throws IllegalArgumentException 필수 값 누락 또는 값 형식이 잘못된 경우
+     * @throws UncheckedIOException     프로파일 파일을 읽을 수 없는 경우
+     */
+    public static HeadlessOptions parse(String[] args) {
+        Objects.requireNonNull(args, "args");
+
+        Map<String, String> values = new HashMap<>();
+        Map<String, String> overrides = new HashMap<>();
+        for (String arg : args) {
+            if (arg == null || !arg.startsWith("--") || arg.indexOf('=') < 0) {
+                continue;
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1).trim();
+            if ("profile".equals(key)) {
+                values.putAll(loadProfile(value));
+            } else if (KEYS.contains(key)) {
+                overrides.put(key, value);
+            }
+        }
+        // 역할: 프로파일은 기본값, 명령행 인자는 덮어쓰기 값이다.
+        values.putAll(overrides);
+
+        String pointRaw = values.get("point");
+        if (pointRaw == null || pointRaw.isEmpty()) {
+            throw new IllegalArgumentException("--point=X,Y 는 필수이다.");
+        }
+        int[] point = parseIntPair("--point", pointRaw);
+        int[] random = values.containsKey("random") ? parseIntPair("--random", values.get("random")) : new int[]{0, 0};
+        long[] jitter = values.containsKey("jitter") ? parseRange(values.get("jitter")) : new long[]{0, 0};
+        long delay = values.containsKey("delay") ? parseNonNegativeLong("--delay", values.get("delay")) : 300;
+        long seed = values.containsKey("seed") ? parseLong("--seed", values.get("seed")) : System.nanoTime();
+        long durationSeconds = values.containsKey("duration")
+                ? parseNonNegativeLong("--duration", values.get("duration"))
+                : 0;
+
+        return new HeadlessOptions(
+                new ScreenPoint(point[0], point[1]),
+                values.containsKey("action") ? parseAction(values.get("action")) : ClickAction.singleLeft(),
+                new DelayPolicy(delay, jitter[0], jitter[1]),
+                values.containsKey("repeat") ? parseNonNegativeInt("--repeat", values.get("repeat")) : 1,
+                values.containsKey("window") ? parseWindow(values.get("window")) : new ExecutionSchedule.Always(),
+                random[0],
+                random[1],
+                seed,
+                durationSeconds == 0 ? null : Duration.ofSeconds(durationSeconds)
+        );
+    }
+
+    private static Map<String, String> loadProfile(String raw) {
+        if (raw.isEmpty()) {
+            throw new IllegalArgumentException("--profile 값은 비어 있을 수 없다.");
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(Path.of(raw), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("프로파일 파일을 읽을 수 없다. path=" + raw, ex);
+        }
+
+        Map<String, String> values = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            if (KEYS.contains(key)) {
+                values.put(key, properties.getProperty(key).trim());
+            }
+        }
+        return values;
+    }
+
+    private static ClickAction parseAction(String raw) {
+        String[] parts = raw.toLowerCase().split(":");
+        return switch (parts[0]) {
+            case "left", "single" -> ClickAction.singleLeft();
+            case "double" -> ClickAction.doubleLeft();
+            case "right" -> ClickAction.rightClick();
+            case "hold" -> {
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("--action=hold 형식은 hold:BUTTON:MS 이어야 한다. value=" + raw);
+                }
+                yield ClickAction.hold(parseButton(parts[1]), parseNonNegativeLong("--action", parts[2]));
+            }
+            default -> throw new IllegalArgumentException(
+                    "--action 값은 left, double, right, hold:BUTTON:MS 중 하나여야 한다. value=" + raw);
+        };
+    }
+
+    private static MouseButton parseButton(String raw) {
+        try {
+            return MouseButton.valueOf(raw.toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("버튼 값은 left, middle, right 중 하나여야 한다. value=" + raw, ex);
+        }
+    }
+
+    static ExecutionSchedule parseWindow(String raw) {
+        int dash = raw.indexOf('-');
+        if (dash < 0) {
+            throw new IllegalArgumentException("--window 형식은 HH:mm-HH:mm 이어야 한다. value=" + raw);
+        }
+        try {
+            LocalTime start = LocalTime.parse(raw.substring(0, dash).trim());
+            LocalTime end = LocalTime.parse(raw.substring(dash + 1).trim());
+            return new ExecutionSchedule.Range(new DelayPolicy.LocalTimeRange(start, end));
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("--window 형식은 HH:mm-HH:mm 이어야 한다. value=" + raw, ex);
+        }
+    }
+
+    private static int[] parseIntPair(String name, String raw) {
+        String[] parts = raw.split(",");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException(name + " 형식은 A,B 이어야 한다. value=" + raw);
+        }
+        try {
+            return new int[]{Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim())};
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(name + " 값은 숫자여야 한다. value=" + raw, ex);
+        }
+    }
+
+    private static long[] parseRange(String raw) {
+        String[] parts = raw.split("-");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("--jitter 형식은 MIN-MAX 이어야 한다. value=" + raw);
+        }
+        return new long[]{parseNonNegativeLong("--jitter", parts[0].trim()), parseNonNegativeLong("--jitter", parts[1].trim())};
+    }
+
+    private static int parseNonNegativeInt(String name, String raw) {
+        long value = parseNonNegativeLong(name, raw);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(name + " 값이 너무 크다. value=" + raw);
+        }
+        return (int) value;
+    }
+
+    private static long parseNonNegativeLong(String name, String raw) {
+        long value = parseLong(name, raw);
+        if (value < 0) {
+            throw new IllegalArgumentException(name + " 값은 0 이상이어야 한다. value=" + raw);
+        }
+        return value;
+    }
+
+    private static long parseLong(String name, String raw) {
+        try {
+            return Long.parseLong(raw.trim());
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(name + " 값은 숫자여야 한다. value=" + raw, ex);
+        }
+    }
+}
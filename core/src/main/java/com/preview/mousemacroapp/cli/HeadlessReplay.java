@@ -0,0 +1,155 @@
+package com.preview.mousemacroapp.cli;
+
+import com.preview.mousemacroapp.debug.DebugLog;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+import com.preview.mousemacroapp.infra.record.RecordingReader;
+import com.preview.mousemacroapp.launch.ClickExecutorAssembler;
+import com.preview.mousemacroapp.launch.ClickExecutorAssembly;
+import com.preview.mousemacroapp.launch.LaunchOptions;
+import com.preview.mousemacroapp.service.DefaultMacroService;
+import com.preview.mousemacroapp.service.MacroService;
+import com.preview.mousemacroapp.service.replay.ReplayOptions;
+import com.preview.mousemacroapp.service.replay.ReplayReport;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 헤드리스 기록 재생(--replay=PATH).
+ *
+ * <p><b>인자</b></p>
+ * <ul>
+ *     <li>--speed=N|max: 재생 배속({@value ReplayOptions#MIN_SPEED} 이상, 기본 1)</li>
+ *     <li>--max-idle=MS: 유휴 간격 상한(기본 없음)</li>
+ *     <li>--window=HH:mm-HH:mm: 재생 허용 시간대(기본 항상)</li>
+ * </ul>
+ *
+ * <p>
+ * 재생은 조립된 클릭 실행기(Dry-Run/파이프라인 포함)로 내보내고, 끝나면 오차 보고를 한 줄로 출력한다.
+ * </p>
+ *
+ * @since 0.9
+ */
+final class HeadlessReplay {
+
+    private static final long POLL_MILLIS = 10;
+
+    private HeadlessReplay() {
+    }
+
+    /**
+     * 재생할 기록 파일 경로를 찾는다.
+     *
+     * @param args 실행 인자
+     * @return --replay 값(없으면 empty)
+     * @throws IllegalArgumentException 값이 비어 있는 경우
+     */
+    static Optional<Path> replayPath(String[] args) {
+        String raw = value(args, "replay");
+        if (raw == null) {
+            return Optional.empty();
+        }
+        if (raw.isEmpty()) {
+            throw new IllegalArgumentException("--replay 값은 비어 있을 수 없다.");
+        }
+        return Optional.of(Path.of(raw));
+    }
+
+    /**
+     * 재생 구성을 해석한다.
+     *
+     * @param args 실행 인자
+     * @return 재생 구성
+     * @throws IllegalArgumentException 값 형식이 잘못된 경우
+     */
+    static ReplayOptions parseOptions(String[] args) {
+        String speedRaw = value(args, "speed");
+        double speed;
+        if (speedRaw == null) {
+            speed = 1.0;
+        } else if ("max".equalsIgnoreCase(speedRaw)) {
+            speed = ReplayOptions.MAX_SPEED;
+        } else {
+            try {
+                speed = Double.parseDouble(speedRaw);
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("--speed 값은 숫자 또는 max 여야 한다. value=" + speedRaw, ex);
+            }
+        }
+
+        String idleRaw = value(args, "max-idle");
+        Duration idleGapCap = null;
+        if (idleRaw != null) {
+            try {
+                idleGapCap = Duration.ofMillis(Long.parseLong(idleRaw));
+            } catch (NumberFormatException ex) {
+                throw new IllegalArgumentException("--max-idle 값은 정수(ms)여야 한다. value=" + idleRaw, ex);
+            }
+        }
+
+        String windowRaw = value(args, "window");
+        ExecutionSchedule schedule = windowRaw == null
+                ? new ExecutionSchedule.Always()
+                : HeadlessOptions.parseWindow(windowRaw);
+        return new ReplayOptions(speed, idleGapCap, schedule);
+    }
+
+    /**
+     * 기록을 끝까지(또는 중지까지) 재생하고 보고를 출력한다.
+     *
+     * @param path          기록 파일
+     * @param options       재생 구성
+     * @param launchOptions 실행기 구성
+     * @param out           보고 출력 대상
+     * @return 재생 보고(재생하지 못했으면 empty)
+     * @throws IOException 기록 파일을 열 수 없는 경우
+     */
+    static Optional<ReplayReport> run(Path path, ReplayOptions options, LaunchOptions launchOptions, PrintStream out)
+            throws IOException {
+        try (RecordingReader reader = RecordingReader.open(path)) {
+            ClickExecutorAssembly assembly = ClickExecutorAssembler.assemble(launchOptions, Clock.systemDefaultZone());
+            MacroService macroService = new DefaultMacroService(assembly.executor());
+            Thread shutdownHook = new Thread(macroService::stop, "headless-replay-shutdown");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+            try {
+                macroService.startReplay(reader.cursor(), options);
+                while (macroService.status().isActive()) {
+                    Thread.sleep(POLL_MILLIS);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                macroService.stop();
+                try {
+                    assembly.close();
+                } catch (Exception ex) {
+                    DebugLog.log("PIPELINE", () -> "close failed: " + ex.getMessage());
+                }
+                try {
+                    Runtime.getRuntime().removeShutdownHook(shutdownHook);
+                } catch (IllegalStateException ignored) {
+                    // 역할: 이미 종료 중(훅 실행 중)이면 제거할 수 없으며, 정상 흐름이다.
+                }
+            }
+            Optional<ReplayReport> report = macroService.lastReplayReport();
+            out.println("[REPLAY] " + report.map(ReplayReport::summary).orElse("not started"));
+            out.flush();
+            return report;
+        }
+    }
+
+    private static String value(String[] args, String key) {
+        String prefix = "--" + key + "=";
+        String found = null;
+        for (String arg : args) {
+            if (arg != null && arg.startsWith(prefix)) {
+                found = arg.substring(prefix.length()).trim();
+            }
+        }
+        return found;
+    }
+}
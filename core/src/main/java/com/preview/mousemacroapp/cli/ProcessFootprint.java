@@ -0,0 +1,64 @@
+package com.preview.mousemacroapp.cli;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+
+/**
+ * 현재 프로세스의 시작 이후 경과 시간/메모리 사용량 조회.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>경과 시간은 JVM 시작 시각 기준이다. OS 프로세스 시작 시각은 컨테이너/VM에서
+ *     부팅 시각 보정 오차가 커서 사용하지 않는다.</li>
+ *     <li>RSS는 Linux {@code /proc/self/status}에서만 제공한다. 그 외 환경은 빈 값.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+final class ProcessFootprint {
+
+    private static final Path PROC_STATUS = Path.of("/proc/self/status");
+
+    private ProcessFootprint() {
+    }
+
+    /**
+     * JVM 시작 이후 경과 시간(ms)을 반환한다.
+     *
+     * @return 경과 시간(ms)
+     */
+    static long millisSinceJvmStart() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+
+    /**
+     * 최대 상주 메모리(VmHWM, KiB)를 반환한다.
+     *
+     * @return 최대 RSS(KiB). 제공되지 않으면 빈 값
+     */
+    static OptionalLong peakRssKib() {
+        return readStatusKib("VmHWM:");
+    }
+
+    private static OptionalLong readStatusKib(String key) {
+        if (!Files.isReadable(PROC_STATUS)) {
+            return OptionalLong.empty();
+        }
+        try {
+            for (String line : Files.readAllLines(PROC_STATUS, StandardCharsets.US_ASCII)) {
+                if (line.startsWith(key)) {
+                    // 형식: "VmHWM:\t  123456 kB"
+                    String digits = line.substring(key.length()).replace("kB", "").trim();
+                    return OptionalLong.of(Long.parseLong(digits));
+                }
+            }
+        } catch (IOException | NumberFormatException ignored) {
+            // 역할: 측정 실패는 실행 결과에 영향을 주지 않는다.
+        }
+        return OptionalLong.empty();
+    }
+}
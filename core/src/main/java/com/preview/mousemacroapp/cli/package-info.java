@@ -0,0 +1,10 @@
+/**
+ * 헤드리스(JavaFX 없는) 실행 진입점 계층이다.
+ * <p>
+ * 실행 인자/프로파일 파일로 실행 요청을 만들고, UI 없이 Service를 구동한 뒤
+ * 요약(클릭 수, 첫 클릭까지 시간, 최대 RSS)을 출력하고 종료한다.
+ * </p>
+ *
+ * @since 0.9
+ */
+package com.preview.mousemacroapp.cli;
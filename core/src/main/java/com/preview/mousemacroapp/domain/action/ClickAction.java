@@ -19,7 +19,7 @@ public record ClickAction(
         MouseButton button,
         int clickCount,
         long holdMillis
-) {
+) implements MacroAction {
 
     /**
      * 단일 좌클릭 동작을 생성한다.
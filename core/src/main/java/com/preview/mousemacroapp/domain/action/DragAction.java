@@ -0,0 +1,51 @@
+package com.preview.mousemacroapp.domain.action;
+
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+
+import java.util.Objects;
+
+/**
+ * 드래그 동작(누름 → 경로 이동 → 뗌)을 표현하는 도메인 모델이다.
+ *
+ * <p>
+ * 시작 좌표는 실행 시점의 기준 좌표(Where 정책 결과)이고, 도착 좌표는 동작이 가진다.
+ * 이동 중간 점은 실행기가 고정 주기로 만들어 내보낸다.
+ * </p>
+ *
+ * @param button         누르고 있을 버튼
+ * @param to             도착 좌표
+ * @param durationMillis 누른 채 이동하는 시간(ms, 0이면 도착 좌표로 바로 옮긴 뒤 뗀다)
+ * @since 0.9
+ */
+public record DragAction(
+        MouseButton button,
+        ScreenPoint to,
+        long durationMillis
+) implements MacroAction {
+
+    /**
+     * 드래그 동작 생성 시 입력 값을 검증한다.
+     *
+     * @throws NullPointerException     button 또는 to가 null인 경우
+     * @throws IllegalArgumentException durationMillis가 0 미만인 경우
+     */
+    public DragAction {
+        Objects.requireNonNull(button, "button");
+        Objects.requireNonNull(to, "to");
+        if (durationMillis < 0) {
+            throw new IllegalArgumentException("durationMillis는 0 이상이어야 한다. durationMillis=%d"
+                    .formatted(durationMillis));
+        }
+    }
+
+    /**
+     * 좌버튼 드래그 동작을 생성한다.
+     *
+     * @param to             도착 좌표
+     * @param durationMillis 이동 시간(ms)
+     * @return 좌버튼 DragAction
+     */
+    public static DragAction left(ScreenPoint to, long durationMillis) {
+        return new DragAction(MouseButton.LEFT, to, durationMillis);
+    }
+}
@@ -0,0 +1,68 @@
+package com.preview.mousemacroapp.domain.action;
+
+import java.util.Objects;
+
+/**
+ * 키보드 동작(키 1개, 키 조합, 문자열 입력)을 표현하는 도메인 모델이다.
+ *
+ * <p>
+ * 키 순서열은 생성 시 {@link KeyStrokes}로 미리 컴파일한다.
+ * 문자열 전체가 동작 하나이므로, 긴 문자열도 실행 루프의 한 번(tick)에 입력된다.
+ * 좌표는 사용하지 않는다(현재 포커스 창으로 입력).
+ * </p>
+ *
+ * @param strokes           컴파일된 키 순서열
+ * @param minIntervalMillis 키 입력 사이 최소 간격(ms, 0이면 순서열 전체를 한 번에 내보낸다)
+ * @since 0.9
+ */
+public record KeyAction(
+        KeyStrokes strokes,
+        long minIntervalMillis
+) implements MacroAction {
+
+    /**
+     * 키보드 동작 생성 시 입력 값을 검증한다.
+     *
+     * @throws NullPointerException     strokes가 null인 경우
+     * @throws IllegalArgumentException minIntervalMillis가 0 미만인 경우
+     */
+    public KeyAction {
+        Objects.requireNonNull(strokes, "strokes");
+        if (minIntervalMillis < 0) {
+            throw new IllegalArgumentException("minIntervalMillis는 0 이상이어야 한다. minIntervalMillis=%d"
+                    .formatted(minIntervalMillis));
+        }
+    }
+
+    /**
+     * 키 하나를 누르는 동작을 생성한다.
+     *
+     * @param keyCode 가상 키 코드
+     * @return KeyAction
+     */
+    public static KeyAction press(int keyCode) {
+        return new KeyAction(KeyStrokes.key(keyCode), 0);
+    }
+
+    /**
+     * 키 조합 동작을 생성한다.
+     *
+     * @param modifiers 수정키 비트 집합
+     * @param keyCode   가상 키 코드
+     * @return KeyAction
+     */
+    public static KeyAction chord(int modifiers, int keyCode) {
+        return new KeyAction(KeyStrokes.chord(modifiers, keyCode), 0);
+    }
+
+    /**
+     * 문자열 입력 동작을 생성한다.
+     *
+     * @param text              입력할 문자열
+     * @param minIntervalMillis 문자 사이 최소 간격(ms)
+     * @return KeyAction
+     */
+    public static KeyAction type(String text, long minIntervalMillis) {
+        return new KeyAction(KeyStrokes.text(text), minIntervalMillis);
+    }
+}
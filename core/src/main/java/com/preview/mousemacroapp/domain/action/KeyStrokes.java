@@ -0,0 +1,303 @@
+package com.preview.mousemacroapp.domain.action;
+
+import com.preview.mousemacroapp.domain.hotkey.KeyChord;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 미리 컴파일한 키 입력 순서열(누름/뗌 연산을 int 하나씩 담은 압축 배열).
+ *
+ * <p><b>연산 인코딩</b></p>
+ * <ul>
+ *     <li>하위 24비트: 키 코드. 값은 AWT {@code KeyEvent.VK_*}와 같은 가상 키 코드(US 배열)다.
+ *     도메인은 AWT에 의존하지 않으므로 필요한 값만 상수로 둔다.</li>
+ *     <li>{@link #PRESS}/{@link #RELEASE}: 누름/뗌 구분</li>
+ *     <li>{@link #STROKE_END}: 한 키 입력(문자 1개/조합 1개)의 마지막 연산. 실행기는 이 경계 사이에 최소 간격을 둔다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>생성 시 1회만 컴파일하고 이후 변경하지 않는다. 실행기는 배열을 구간 단위로 읽기만 한다(입력 중 할당 없음).</li>
+ *     <li>문자열의 연속된 Shift 문자는 Shift를 한 번만 누른 채 입력한다(연산 수 절감).
+ *     따라서 입력 경계에서 눌린 채 남을 수 있는 키는 Shift뿐이다({@link #shiftHeldAt(int)}).</li>
+ *     <li>US 배열 ASCII 인쇄 문자와 줄바꿈/탭만 지원한다(한글 등은 가상 키로 직접 입력할 수 없다).</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class KeyStrokes {
+
+    /**
+     * 누름 연산 비트.
+     */
+    public static final int PRESS = 1 << 24;
+
+    /**
+     * 뗌 연산 비트.
+     */
+    public static final int RELEASE = 1 << 25;
+
+    /**
+     * 키 입력 경계 비트.
+     */
+    public static final int STROKE_END = 1 << 30;
+
+    /**
+     * 키 코드 마스크.
+     */
+    public static final int CODE_MASK = 0xFF_FFFF;
+
+    /**
+     * Enter 키 코드.
+     */
+    public static final int ENTER = 10;
+
+    /**
+     * Tab 키 코드.
+     */
+    public static final int TAB = 9;
+
+    /**
+     * Shift 키 코드.
+     */
+    public static final int SHIFT = 16;
+
+    /**
+     * Ctrl 키 코드.
+     */
+    public static final int CONTROL = 17;
+
+    /**
+     * Alt 키 코드.
+     */
+    public static final int ALT = 18;
+
+    /**
+     * Meta(Win/Cmd) 키 코드.
+     */
+    public static final int META = 157;
+
+    private static final int SHIFTED = 1 << 16;
+
+    /**
+     * ASCII 문자 → 키 코드(+ {@link #SHIFTED}). 0은 지원하지 않는 문자.
+     */
+    private static final int[] ASCII = buildAsciiTable();
+
+    private final int[] ops;
+    private final int strokes;
+    private final String label;
+
+    private KeyStrokes(int[] ops, int strokes, String label) {
+        this.ops = ops;
+        this.strokes = strokes;
+        this.label = label;
+    }
+
+    /**
+     * 키 하나를 누르고 떼는 순서열을 만든다.
+     *
+     * @param keyCode 가상 키 코드(1 ~ {@link #CODE_MASK})
+     * @return 순서열
+     * @throws IllegalArgumentException keyCode가 범위를 벗어난 경우
+     */
+    public static KeyStrokes key(int keyCode) {
+        return chord(0, keyCode);
+    }
+
+    /**
+     * 수정키를 누른 채 키 하나를 누르는 순서열을 만든다(Ctrl → Alt → Shift → Meta 순서로 누르고 역순으로 뗀다).
+     *
+     * @param modifiers 수정키 비트 집합({@link KeyChord#SHIFT}/{@link KeyChord#CTRL}/{@link KeyChord#META}/{@link KeyChord#ALT})
+     * @param keyCode   가상 키 코드(1 ~ {@link #CODE_MASK})
+     * @return 순서열
+     * @throws IllegalArgumentException 값이 범위를 벗어난 경우
+     */
+    public static KeyStrokes chord(int modifiers, int keyCode) {
+        if ((modifiers & ~KeyChord.ALL_MODIFIERS) != 0) {
+            throw new IllegalArgumentException("modifiers는 SHIFT/CTRL/META/ALT 비트만 허용한다. modifiers=" + modifiers);
+        }
+        if (keyCode <= 0 || keyCode > CODE_MASK) {
+            throw new IllegalArgumentException("keyCode가 범위를 벗어났다. keyCode=" + keyCode);
+        }
+        int[] order = {CONTROL, ALT, SHIFT, META};
+        int[] bits = {KeyChord.CTRL, KeyChord.ALT, KeyChord.SHIFT, KeyChord.META};
+        int[] ops = new int[2 + 2 * Integer.bitCount(modifiers)];
+        int n = 0;
+        for (int i = 0; i < order.length; i++) {
+            if ((modifiers & bits[i]) != 0) {
+                ops[n++] = PRESS | order[i];
+            }
+        }
+        ops[n++] = PRESS | keyCode;
+        ops[n++] = RELEASE | keyCode;
+        for (int i = order.length - 1; i >= 0; i--) {
+            if ((modifiers & bits[i]) != 0) {
+                ops[n++] = RELEASE | order[i];
+            }
+        }
+        ops[n - 1] |= STROKE_END;
+        return new KeyStrokes(ops, 1, "chord(" + modifierLabel(modifiers) + keyCode + ")");
+    }
+
+    /**
+     * 문자열을 입력하는 순서열을 만든다(문자 1개 = 키 입력 1개).
+     *
+     * @param text 입력할 문자열(US 배열 ASCII 인쇄 문자, 줄바꿈, 탭)
+     * @return 순서열
+     * @throws NullPointerException     text가 null인 경우
+     * @throws IllegalArgumentException 빈 문자열이거나 지원하지 않는 문자가 있는 경우
+     */
+    public static KeyStrokes text(String text) {
+        Objects.requireNonNull(text, "text");
+        if (text.isEmpty()) {
+            throw new IllegalArgumentException("text는 비어 있을 수 없다.");
+        }
+        // 역할: 최악(모든 문자가 Shift 전환)도 문자당 4연산을 넘지 않으므로 한 번에 잡고 끝에서 자른다.
+        int[] ops = new int[text.length() * 4];
+        int n = 0;
+        boolean shiftDown = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int mapped = c < ASCII.length ? ASCII[c] : 0;
+            if (mapped == 0) {
+                throw new IllegalArgumentException("가상 키로 입력할 수 없는 문자다. index=" + i + ", char=U+"
+                        + Integer.toHexString(c).toUpperCase());
+            }
+            boolean shifted = (mapped & SHIFTED) != 0;
+            if (shifted != shiftDown) {
+                ops[n++] = (shifted ? PRESS : RELEASE) | SHIFT;
+                shiftDown = shifted;
+            }
+            int code = mapped & CODE_MASK & ~SHIFTED;
+            ops[n++] = PRESS | code;
+            ops[n++] = RELEASE | code | STROKE_END;
+        }
+        if (shiftDown) {
+            ops[n - 1] &= ~STROKE_END;
+            ops[n++] = RELEASE | SHIFT | STROKE_END;
+        }
+        return new KeyStrokes(Arrays.copyOf(ops, n), text.length(), "text(" + text.length() + " chars)");
+    }
+
+    /**
+     * @return 연산 수
+     */
+    public int size() {
+        return ops.length;
+    }
+
+    /**
+     * @return 키 입력 수(문자열이면 문자 수)
+     */
+    public int strokeCount() {
+        return strokes;
+    }
+
+    /**
+     * @param index 연산 순번
+     * @return 인코딩된 연산
+     */
+    public int op(int index) {
+        return ops[index];
+    }
+
+    /**
+     * 지정 위치(연산 순번) 직전까지 실행했을 때 Shift가 눌린 채인지 판단한다(중단 시 정리용).
+     *
+     * @param index 다음에 실행할 연산 순번
+     * @return Shift가 눌린 채면 true
+     */
+    public boolean shiftHeldAt(int index) {
+        for (int i = Math.min(index, ops.length) - 1; i >= 0; i--) {
+            if ((ops[i] & CODE_MASK) == SHIFT) {
+                return isPress(ops[i]);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param op 인코딩된 연산
+     * @return 누름이면 true
+     */
+    public static boolean isPress(int op) {
+        return (op & PRESS) != 0;
+    }
+
+    /**
+     * @param op 인코딩된 연산
+     * @return 키 코드
+     */
+    public static int keyCode(int op) {
+        return op & CODE_MASK;
+    }
+
+    /**
+     * @param op 인코딩된 연산
+     * @return 키 입력의 마지막 연산이면 true
+     */
+    public static boolean endsStroke(int op) {
+        return (op & STROKE_END) != 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof KeyStrokes other && Arrays.equals(ops, other.ops);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ops);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+    private static String modifierLabel(int modifiers) {
+        StringBuilder sb = new StringBuilder();
+        if ((modifiers & KeyChord.CTRL) != 0) {
+            sb.append("Ctrl+");
+        }
+        if ((modifiers & KeyChord.ALT) != 0) {
+            sb.append("Alt+");
+        }
+        if ((modifiers & KeyChord.SHIFT) != 0) {
+            sb.append("Shift+");
+        }
+        if ((modifiers & KeyChord.META) != 0) {
+            sb.append("Meta+");
+        }
+        return sb.toString();
+    }
+
+    private static int[] buildAsciiTable() {
+        int[] table = new int[128];
+        table['\n'] = ENTER;
+        table['\t'] = TAB;
+        table[' '] = 32;
+        for (char c = 'a'; c <= 'z'; c++) {
+            table[c] = c - 'a' + 'A';
+            table[c - 'a' + 'A'] = (c - 'a' + 'A') | SHIFTED;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            table[c] = c;
+        }
+        // 역할: US 배열 기준 (기본 문자, Shift 문자, 가상 키 코드)
+        String plain = "-=[]\\;',./`";
+        String shifted = "_+{}|:\"<>?~";
+        int[] codes = {45, 61, 91, 93, 92, 59, 222, 44, 46, 47, 192};
+        for (int i = 0; i < codes.length; i++) {
+            table[plain.charAt(i)] = codes[i];
+            table[shifted.charAt(i)] = codes[i] | SHIFTED;
+        }
+        String shiftedDigits = ")!@#$%^&*(";
+        for (int i = 0; i < shiftedDigits.length(); i++) {
+            table[shiftedDigits.charAt(i)] = ('0' + i) | SHIFTED;
+        }
+        return table;
+    }
+}
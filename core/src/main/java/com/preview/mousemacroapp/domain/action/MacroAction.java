@@ -0,0 +1,16 @@
+package com.preview.mousemacroapp.domain.action;
+
+/**
+ * 매크로 한 단계에서 수행하는 입력 동작의 공통 타입.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>동작 종류는 닫힌 집합으로 관리한다(sealed). 실행기는 switch 패턴으로 종류별 실행 경로를 고른다.</li>
+ *     <li>동작은 기준 좌표(클릭/드래그 시작/스크롤 위치)와 분리된 "어떻게"만 표현한다. 좌표는 Where 정책이 정한다.
+ *     키보드 동작({@link KeyAction})은 좌표를 쓰지 않는다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public sealed interface MacroAction permits ClickAction, DragAction, ScrollAction, KeyAction {
+}
@@ -0,0 +1,34 @@
+package com.preview.mousemacroapp.domain.action;
+
+/**
+ * 휠 스크롤 동작을 표현하는 도메인 모델이다.
+ *
+ * <p>
+ * 휠 단위(notch)를 한 칸씩 나누어 일정 간격으로 내보낸다(한 번에 여러 칸을 보내면
+ * 일부 애플리케이션이 가속/무시 처리한다).
+ * </p>
+ *
+ * @param notches        휠 칸 수(양수=아래/사용자 쪽, 음수=위, 0 불가). AWT {@code mouseWheel} 부호와 같다.
+ * @param intervalMillis 칸 사이 간격(ms, 0 이상)
+ * @since 0.9
+ */
+public record ScrollAction(
+        int notches,
+        long intervalMillis
+) implements MacroAction {
+
+    /**
+     * 스크롤 동작 생성 시 입력 값을 검증한다.
+     *
+     * @throws IllegalArgumentException notches가 0이거나 intervalMillis가 0 미만인 경우
+     */
+    public ScrollAction {
+        if (notches == 0) {
+            throw new IllegalArgumentException("notches는 0일 수 없다.");
+        }
+        if (intervalMillis < 0) {
+            throw new IllegalArgumentException("intervalMillis는 0 이상이어야 한다. intervalMillis=%d"
+                    .formatted(intervalMillis));
+        }
+    }
+}
@@ -3,6 +3,7 @@
  *
  * <p>
  * 마우스 버튼(MouseButton) 및 클릭 동작(ClickAction)을 정의한다.
+ * 드래그(DragAction)/휠 스크롤(ScrollAction)/키보드(KeyAction)는 클릭과 함께 동작 공통 타입(MacroAction)으로 묶인다.
  * </p>
  *
  * <p>
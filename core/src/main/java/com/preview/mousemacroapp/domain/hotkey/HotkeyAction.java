@@ -0,0 +1,24 @@
+package com.preview.mousemacroapp.domain.hotkey;
+
+/**
+ * 전역 단축키로 요청할 수 있는 동작.
+ *
+ * @since 0.9
+ */
+public enum HotkeyAction {
+
+    /**
+     * 매크로 실행 시작.
+     */
+    START,
+
+    /**
+     * 매크로 실행 정지.
+     */
+    STOP,
+
+    /**
+     * 일시정지/재개 전환.
+     */
+    TOGGLE_PAUSE
+}
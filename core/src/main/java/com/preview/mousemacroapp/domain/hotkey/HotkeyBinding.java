@@ -0,0 +1,32 @@
+package com.preview.mousemacroapp.domain.hotkey;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 키 조합 순서열과 동작의 연결.
+ *
+ * <p>
+ * 순서열 길이가 1이면 단일 조합(예: Ctrl+Shift+F9), 2 이상이면 연속 입력(예: Ctrl+K 다음 S)이다.
+ * </p>
+ *
+ * @param sequence 키 조합 순서열(1개 이상, 불변 복사본으로 보관)
+ * @param action   순서열 완성 시 요청할 동작
+ * @since 0.9
+ */
+public record HotkeyBinding(List<KeyChord> sequence, HotkeyAction action) {
+
+    /**
+     * 바인딩 생성 시 입력 값을 검증한다.
+     *
+     * @throws NullPointerException     인자 또는 순서열 원소가 null인 경우
+     * @throws IllegalArgumentException 순서열이 비어 있는 경우
+     */
+    public HotkeyBinding {
+        Objects.requireNonNull(action, "action");
+        sequence = List.copyOf(Objects.requireNonNull(sequence, "sequence"));
+        if (sequence.isEmpty()) {
+            throw new IllegalArgumentException("sequence는 비어 있을 수 없다. action=" + action);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.preview.mousemacroapp.domain.hotkey;
+
+/**
+ * 단축키 입력부터 동작 처리 완료까지의 지연 시간 통계 스냅샷.
+ *
+ * @param count      처리된 단축키 수
+ * @param totalNanos 지연 시간 합(ns)
+ * @param maxNanos   최대 지연 시간(ns)
+ * @since 0.9
+ */
+public record HotkeyLatency(long count, long totalNanos, long maxNanos) {
+
+    /**
+     * 평균 지연 시간(ns)을 반환한다.
+     *
+     * @return 평균 지연 시간. 처리 건수가 0이면 0
+     */
+    public long meanNanos() {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+}
@@ -0,0 +1,187 @@
+package com.preview.mousemacroapp.domain.hotkey;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 단축키 바인딩 집합을 미리 컴파일한 상태 기계(트라이).
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>생성 시 모든 순서열을 하나의 트라이로 합치고, 전이 표를 (상태, 조합) 키의 개방 주소 해시 표로 평탄화한다.</li>
+ *     <li>키 입력 1건은 해시 조회 1~2회로 처리한다(바인딩 수와 무관한 O(1), 객체 할당 없음).</li>
+ *     <li>순서열 중간 상태는 다음 입력까지의 제한 시간이 지나면 처음으로 되돌린다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>같은 순서열의 중복 바인딩, 한 순서열이 다른 순서열의 접두어인 바인딩은 생성 시 거부한다
+ *     (짧은 쪽이 항상 먼저 완성되어 긴 쪽에 도달할 수 없기 때문).</li>
+ *     <li>순서열 도중 일치하지 않는 입력이 오면, 그 입력을 새 순서열의 첫 조합으로 다시 판단한다.</li>
+ *     <li>상태를 가지므로 스레드 안전하지 않다. 한 입력 스레드(또는 호출자 동기화)에서만 사용한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class HotkeyMatcher {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final long EMPTY = -1L;
+
+    private final long[] keys;
+    private final int[] targets;
+    private final int mask;
+    private final HotkeyAction[] accepting;
+    private final long sequenceTimeoutNanos;
+
+    private int state = ROOT;
+    private long lastInputNanos;
+
+    /**
+     * 바인딩 집합을 컴파일한다.
+     *
+     * @param bindings        바인딩 목록
+     * @param sequenceTimeout 순서열 입력 간 허용 시간
+     * @throws NullPointerException     인자가 null인 경우
+     * @throws IllegalArgumentException 중복/접두어 충돌 바인딩이 있거나 제한 시간이 0 이하인 경우
+     */
+    public HotkeyMatcher(List<HotkeyBinding> bindings, Duration sequenceTimeout) {
+        Objects.requireNonNull(bindings, "bindings");
+        Objects.requireNonNull(sequenceTimeout, "sequenceTimeout");
+        if (sequenceTimeout.isZero() || sequenceTimeout.isNegative()) {
+            throw new IllegalArgumentException("sequenceTimeout은 0보다 커야 한다. sequenceTimeout=" + sequenceTimeout);
+        }
+        this.sequenceTimeoutNanos = sequenceTimeout.toNanos();
+
+        // 1) 트라이 구성(컴파일 단계에서만 컬렉션 사용)
+        Map<Long, Integer> transitions = new HashMap<>();
+        List<HotkeyAction> actions = new ArrayList<>();
+        List<Boolean> hasChildren = new ArrayList<>();
+        actions.add(null);
+        hasChildren.add(false);
+
+        for (HotkeyBinding binding : bindings) {
+            Objects.requireNonNull(binding, "binding");
+            int current = ROOT;
+            for (KeyChord chord : binding.sequence()) {
+                if (actions.get(current) != null) {
+                    throw conflict(binding);
+                }
+                long key = key(current, chord.modifiers(), chord.keyCode());
+                Integer next = transitions.get(key);
+                if (next == null) {
+                    next = actions.size();
+                    actions.add(null);
+                    hasChildren.add(false);
+                    transitions.put(key, next);
+                    hasChildren.set(current, true);
+                }
+                current = next;
+            }
+            if (actions.get(current) != null || hasChildren.get(current)) {
+                throw conflict(binding);
+            }
+            actions.set(current, binding.action());
+        }
+
+        // 2) 전이 표 평탄화: 부하율 0.5 이하의 2의 거듭제곱 크기
+        int capacity = Integer.highestOneBit(Math.max(2, transitions.size() * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.targets = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+        for (Map.Entry<Long, Integer> e : transitions.entrySet()) {
+            int slot = slot(e.getKey());
+            while (keys[slot] != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = e.getKey();
+            targets[slot] = e.getValue();
+        }
+        this.accepting = actions.toArray(new HotkeyAction[0]);
+    }
+
+    /**
+     * 키 입력 1건을 처리한다.
+     *
+     * @param modifiers 정규화된 수정키 비트 집합({@link KeyChord#SHIFT} 등)
+     * @param keyCode   일반 키 코드
+     * @param nowNanos  입력 시각(단조 증가 ns, 예: {@link System#nanoTime()})
+     * @return 순서열이 완성되면 해당 동작, 아니면 null
+     */
+    public HotkeyAction onKeyPressed(int modifiers, int keyCode, long nowNanos) {
+        if (state != ROOT && nowNanos - lastInputNanos > sequenceTimeoutNanos) {
+            state = ROOT;
+        }
+
+        int target = lookup(state, modifiers, keyCode);
+        if (target == NONE && state != ROOT) {
+            // 역할: 순서열 도중 불일치 입력은 새 순서열의 시작으로 재판단한다.
+            target = lookup(ROOT, modifiers, keyCode);
+        }
+        if (target == NONE) {
+            state = ROOT;
+            return null;
+        }
+
+        HotkeyAction action = accepting[target];
+        if (action != null) {
+            state = ROOT;
+            return action;
+        }
+        state = target;
+        lastInputNanos = nowNanos;
+        return null;
+    }
+
+    /**
+     * 순서열 진행 상태를 처음으로 되돌린다.
+     */
+    public void reset() {
+        state = ROOT;
+    }
+
+    /**
+     * 컴파일된 상태 수(루트 포함)를 반환한다.
+     *
+     * @return 상태 수
+     */
+    public int stateCount() {
+        return accepting.length;
+    }
+
+    private int lookup(int from, int modifiers, int keyCode) {
+        long key = key(from, modifiers, keyCode);
+        int slot = slot(key);
+        while (true) {
+            long k = keys[slot];
+            if (k == key) {
+                return targets[slot];
+            }
+            if (k == EMPTY) {
+                return NONE;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static long key(int state, int modifiers, int keyCode) {
+        // 상태(상위 28비트) | 수정키(4비트) | 키 코드(하위 32비트). 음수가 되지 않으므로 EMPTY(-1)와 겹치지 않는다.
+        return ((long) state << 36) | ((long) (modifiers & KeyChord.ALL_MODIFIERS) << 32) | (keyCode & 0xFFFF_FFFFL);
+    }
+
+    private static IllegalArgumentException conflict(HotkeyBinding binding) {
+        return new IllegalArgumentException("다른 바인딩과 중복되거나 접두어가 겹친다. binding=" + binding);
+    }
+}
@@ -0,0 +1,55 @@
+package com.preview.mousemacroapp.domain.hotkey;
+
+/**
+ * 수정키(Shift/Ctrl/Meta/Alt) 조합 + 일반 키 1개로 이루어진 키 조합.
+ *
+ * <p>
+ * 수정키는 좌/우 구분 없이 정규화된 비트 집합으로 표현한다.
+ * 키 코드는 훅 라이브러리의 가상 키 코드(양수)를 그대로 사용한다.
+ * </p>
+ *
+ * @param modifiers 정규화된 수정키 비트 집합({@link #SHIFT}/{@link #CTRL}/{@link #META}/{@link #ALT})
+ * @param keyCode   일반 키 코드(양수)
+ * @since 0.9
+ */
+public record KeyChord(int modifiers, int keyCode) {
+
+    /**
+     * Shift 비트.
+     */
+    public static final int SHIFT = 1;
+
+    /**
+     * Ctrl 비트.
+     */
+    public static final int CTRL = 1 << 1;
+
+    /**
+     * Meta(Win/Cmd) 비트.
+     */
+    public static final int META = 1 << 2;
+
+    /**
+     * Alt 비트.
+     */
+    public static final int ALT = 1 << 3;
+
+    /**
+     * 허용되는 수정키 비트 전체.
+     */
+    public static final int ALL_MODIFIERS = SHIFT | CTRL | META | ALT;
+
+    /**
+     * 키 조합 생성 시 입력 값을 검증한다.
+     *
+     * @throws IllegalArgumentException 수정키 비트가 범위를 벗어나거나 키 코드가 양수가 아닌 경우
+     */
+    public KeyChord {
+        if ((modifiers & ~ALL_MODIFIERS) != 0) {
+            throw new IllegalArgumentException("modifiers는 SHIFT/CTRL/META/ALT 비트만 허용한다. modifiers=" + modifiers);
+        }
+        if (keyCode <= 0) {
+            throw new IllegalArgumentException("keyCode는 양수여야 한다. keyCode=" + keyCode);
+        }
+    }
+}
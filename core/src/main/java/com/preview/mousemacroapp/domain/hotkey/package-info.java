@@ -0,0 +1,15 @@
+/**
+ * 전역 단축키(Hotkey) 도메인 모델을 제공한다.
+ *
+ * <p>
+ * 키 조합(KeyChord), 조합의 순서열과 동작을 묶은 바인딩(HotkeyBinding),
+ * 그리고 바인딩 집합을 미리 컴파일한 매처(HotkeyMatcher)를 정의한다.
+ * </p>
+ *
+ * <p>
+ * 키 코드는 정수로만 다루며, 특정 훅 라이브러리의 키 이름/상수에 의존하지 않는다.
+ * </p>
+ *
+ * @since 0.9
+ */
+package com.preview.mousemacroapp.domain.hotkey;
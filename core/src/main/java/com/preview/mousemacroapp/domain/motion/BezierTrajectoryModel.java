@@ -0,0 +1,88 @@
+package com.preview.mousemacroapp.domain.motion;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * 3차 Bezier 곡선 + 가감속 경로 모델.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>제어점 두 개를 직선의 1/3, 2/3 부근에 두고, 직선에 수직 방향으로 거리 × 휨 × 정규분포(±2σ로 자름)만큼 민다.
+ *     같은 방향으로 휜 호 또는 S자 곡선이 된다.</li>
+ *     <li>출력 주기마다 시간 진행률을 {@link Easing} 표로 곡선 매개변수로 바꿔 점을 찍는다(출발/도착에서 느리고 중간에서 빠르다).</li>
+ *     <li>도착 픽셀에 일찍 닿아도 마지막 점 시각은 계획한 이동 시간으로 둔다(드래그 시간 보장).</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class BezierTrajectoryModel implements TrajectoryModel {
+
+    /**
+     * 기본 휨(거리 대비 제어점 수직 이동 비율의 표준편차).
+     */
+    public static final double DEFAULT_CURVATURE = 0.2;
+
+    private final Easing easing;
+    private final double curvature;
+
+    /**
+     * @param easing    가감속 곡선
+     * @param curvature 휨(0 이상 1 이하, 0이면 직선)
+     * @throws NullPointerException     easing이 null인 경우
+     * @throws IllegalArgumentException curvature가 범위를 벗어난 경우
+     */
+    public BezierTrajectoryModel(Easing easing, double curvature) {
+        this.easing = Objects.requireNonNull(easing, "easing");
+        if (!(curvature >= 0 && curvature <= 1)) {
+            throw new IllegalArgumentException("curvature는 0 이상 1 이하여야 한다. curvature=" + curvature);
+        }
+        this.curvature = curvature;
+    }
+
+    @Override
+    public void generate(int fromX, int fromY, int toX, int toY,
+                         MotionProfile profile, RandomGenerator random, TrajectoryBuffer out) {
+        TrajectoryModel.prepare(profile, out);
+        double dx = toX - fromX;
+        double dy = toY - fromY;
+        double distance = Math.sqrt(dx * dx + dy * dy);
+        if (distance == 0) {
+            return;
+        }
+
+        long step = profile.stepNanos();
+        int steps = (int) Math.max(1, Math.min(profile.maxSteps(), (profile.durationNanos(distance) + step - 1) / step));
+
+        // 역할: 수직 단위 벡터 방향으로 두 제어점을 민다(부호가 같으면 호, 다르면 S자).
+        double nx = -dy / distance;
+        double ny = dx / distance;
+        double bend1 = clampedGaussian(random) * curvature * distance;
+        double bend2 = clampedGaussian(random) * curvature * distance;
+        double along1 = 0.25 + random.nextDouble() * 0.15;
+        double along2 = 0.60 + random.nextDouble() * 0.15;
+        double c1x = fromX + dx * along1 + nx * bend1;
+        double c1y = fromY + dy * along1 + ny * bend1;
+        double c2x = fromX + dx * along2 + nx * bend2;
+        double c2y = fromY + dy * along2 + ny * bend2;
+
+        for (int i = 1; i < steps; i++) {
+            double s = easing.apply((double) i / steps);
+            double u = 1 - s;
+            double b0 = u * u * u;
+            double b1 = 3 * u * u * s;
+            double b2 = 3 * u * s * s;
+            double b3 = s * s * s;
+            out.append(
+                    (int) Math.round(b0 * fromX + b1 * c1x + b2 * c2x + b3 * toX),
+                    (int) Math.round(b0 * fromY + b1 * c1y + b2 * c2y + b3 * toY),
+                    i * step);
+        }
+        out.finish(toX, toY, steps * step);
+        out.holdUntil(steps * step);
+    }
+
+    private static double clampedGaussian(RandomGenerator random) {
+        return Math.max(-2, Math.min(2, random.nextGaussian()));
+    }
+}
@@ -0,0 +1,75 @@
+package com.preview.mousemacroapp.domain.motion;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * 이동 진행률(시간 0..1)을 경로상 진행률(0..1)로 바꾸는 가감속 곡선.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>곡선 값은 클래스 초기화 시 {@value #TABLE_STEPS}구간 표로 미리 계산하고,
+ *     {@link #apply(double)}는 표 두 칸을 선형 보간만 한다(거듭제곱 계산/할당 없음).</li>
+ *     <li>모든 곡선은 0에서 0, 1에서 정확히 1이다(도착 좌표 보장).</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public enum Easing {
+
+    /**
+     * 등속.
+     */
+    LINEAR(t -> t),
+
+    /**
+     * 3차 smoothstep(3t² − 2t³). 출발/도착 속도 0.
+     */
+    SMOOTHSTEP(t -> t * t * (3 - 2 * t)),
+
+    /**
+     * 최소 저크(10t³ − 15t⁴ + 6t⁵). 사람 팔 이동의 속도 곡선에 가깝다.
+     */
+    MINIMUM_JERK(t -> t * t * t * (10 + t * (-15 + 6 * t))),
+
+    /**
+     * 빠른 출발, 느린 도착(1 − (1 − t)⁴). 목표 근처에서 속도를 줄이는 조준 동작.
+     */
+    EASE_OUT_QUART(t -> {
+        double u = 1 - t;
+        return 1 - u * u * u * u;
+    });
+
+    /**
+     * 표 구간 수.
+     */
+    public static final int TABLE_STEPS = 1024;
+
+    private final double[] table = new double[TABLE_STEPS + 1];
+
+    Easing(DoubleUnaryOperator curve) {
+        for (int i = 0; i <= TABLE_STEPS; i++) {
+            table[i] = curve.applyAsDouble((double) i / TABLE_STEPS);
+        }
+        table[0] = 0.0;
+        table[TABLE_STEPS] = 1.0;
+    }
+
+    /**
+     * 진행률을 변환한다.
+     *
+     * @param t 시간 진행률(범위 밖은 0/1로 자른다)
+     * @return 경로 진행률
+     */
+    public double apply(double t) {
+        if (!(t > 0)) {
+            return 0.0;
+        }
+        if (t >= 1) {
+            return 1.0;
+        }
+        double position = t * TABLE_STEPS;
+        int index = (int) position;
+        double low = table[index];
+        return low + (table[index + 1] - low) * (position - index);
+    }
+}
@@ -0,0 +1,101 @@
+package com.preview.mousemacroapp.domain.motion;
+
+/**
+ * 이동 시간과 출력 주기 정책.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>이동 시간은 Fitts 법칙 형태로 정한다:
+ *     {@code baseMillis + millisPerBit × log2(1 + 거리 / }{@value #TARGET_WIDTH_PIXELS}{@code px)},
+ *     단 {@code maxMillis}를 넘지 않는다.</li>
+ *     <li>경로 점은 {@code rateHz} 주기로 하나씩 나간다. 한 이동의 점 수는 {@link #maxSteps()}를 넘지 않으므로
+ *     버퍼를 이 값으로 한 번만 잡으면 이후 할당이 없다.</li>
+ * </ul>
+ *
+ * @param rateHz       이동 명령 출력 주기(Hz, 1~1000)
+ * @param baseMillis   최소 이동 시간(ms, 0 이상)
+ * @param millisPerBit 난이도(bit)당 추가 시간(ms, 0 이상)
+ * @param maxMillis    최대 이동 시간(ms, baseMillis 이상, 1 이상)
+ * @since 0.9
+ */
+public record MotionProfile(int rateHz, long baseMillis, long millisPerBit, long maxMillis) {
+
+    /**
+     * Fitts 법칙의 목표 폭(px). 버튼/아이콘 크기 정도로 고정한다.
+     */
+    public static final double TARGET_WIDTH_PIXELS = 16.0;
+
+    /**
+     * 기본 출력 주기(125Hz, 일반 USB 마우스 폴링 주기).
+     */
+    public static final int DEFAULT_RATE_HZ = 125;
+
+    private static final double LN2 = Math.log(2);
+
+    /**
+     * 프로파일 불변식을 강제한다.
+     *
+     * @throws IllegalArgumentException 값이 범위를 벗어난 경우
+     */
+    public MotionProfile {
+        if (rateHz < 1 || rateHz > 1000) {
+            throw new IllegalArgumentException("rateHz는 1~1000이어야 한다. rateHz=" + rateHz);
+        }
+        if (baseMillis < 0 || millisPerBit < 0) {
+            throw new IllegalArgumentException("이동 시간 계수는 0 이상이어야 한다. baseMillis=" + baseMillis
+                    + ", millisPerBit=" + millisPerBit);
+        }
+        if (maxMillis < 1 || maxMillis < baseMillis) {
+            throw new IllegalArgumentException("maxMillis는 1 이상이고 baseMillis 이상이어야 한다. maxMillis=" + maxMillis);
+        }
+    }
+
+    /**
+     * 기본 프로파일(125Hz, 80ms + 70ms/bit, 최대 900ms)을 반환한다.
+     *
+     * @return 기본 프로파일
+     */
+    public static MotionProfile defaults() {
+        return withRate(DEFAULT_RATE_HZ);
+    }
+
+    /**
+     * 출력 주기만 바꾼 기본 프로파일을 반환한다.
+     *
+     * @param rateHz 출력 주기(Hz)
+     * @return 프로파일
+     * @throws IllegalArgumentException rateHz가 범위를 벗어난 경우
+     */
+    public static MotionProfile withRate(int rateHz) {
+        return new MotionProfile(rateHz, 80, 70, 900);
+    }
+
+    /**
+     * @return 점 사이 간격(ns)
+     */
+    public long stepNanos() {
+        return 1_000_000_000L / rateHz;
+    }
+
+    /**
+     * 거리에 따른 이동 시간을 계산한다.
+     *
+     * @param distancePixels 이동 거리(px)
+     * @return 이동 시간(ns, 최소 1주기)
+     */
+    public long durationNanos(double distancePixels) {
+        double bits = Math.log(1 + Math.max(0, distancePixels) / TARGET_WIDTH_PIXELS) / LN2;
+        double millis = Math.min(maxMillis, baseMillis + millisPerBit * bits);
+        return Math.max(stepNanos(), (long) (millis * 1_000_000L));
+    }
+
+    /**
+     * 한 이동의 최대 점 수를 반환한다.
+     *
+     * @return 최대 점 수(버퍼 용량)
+     */
+    public int maxSteps() {
+        long step = stepNanos();
+        return (int) ((maxMillis * 1_000_000L + step - 1) / step);
+    }
+}
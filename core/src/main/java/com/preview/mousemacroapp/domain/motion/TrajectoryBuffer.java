@@ -0,0 +1,148 @@
+package com.preview.mousemacroapp.domain.motion;
+
+/**
+ * 한 이동의 경로 점(좌표 + 시작 기준 시각)을 담는 재사용 버퍼.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>원시 배열(int x/y, long 시각)만 사용하고 생성 후 크기를 바꾸지 않는다.</li>
+ *     <li>시작 좌표는 담지 않으며, 마지막 점은 항상 목표 좌표다. 시각은 0보다 크고 엄격히 증가한다.</li>
+ *     <li>직전 점과 같은 픽셀은 담지 않는다(커서가 움직이지 않는 이동 명령은 내보낼 필요가 없다).</li>
+ *     <li>단일 스레드(이동 실행 스레드)에서만 사용한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class TrajectoryBuffer {
+
+    private final int[] xs;
+    private final int[] ys;
+    private final long[] offsets;
+    private int size;
+
+    /**
+     * @param capacity 최대 점 수(1 이상)
+     * @throws IllegalArgumentException capacity가 1 미만인 경우
+     */
+    public TrajectoryBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 한다. capacity=" + capacity);
+        }
+        this.xs = new int[capacity];
+        this.ys = new int[capacity];
+        this.offsets = new long[capacity];
+    }
+
+    /**
+     * 프로파일의 최대 점 수만큼 버퍼를 만든다.
+     *
+     * @param profile 이동 프로파일
+     * @return 버퍼
+     */
+    public static TrajectoryBuffer forProfile(MotionProfile profile) {
+        return new TrajectoryBuffer(profile.maxSteps());
+    }
+
+    /**
+     * @return 최대 점 수
+     */
+    public int capacity() {
+        return xs.length;
+    }
+
+    /**
+     * @return 담긴 점 수(이동 없음이면 0)
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index 점 순번
+     * @return X 좌표
+     */
+    public int x(int index) {
+        return xs[checked(index)];
+    }
+
+    /**
+     * @param index 점 순번
+     * @return Y 좌표
+     */
+    public int y(int index) {
+        return ys[checked(index)];
+    }
+
+    /**
+     * @param index 점 순번
+     * @return 이동 시작 기준 출력 시각(ns)
+     */
+    public long offsetNanos(int index) {
+        return offsets[checked(index)];
+    }
+
+    /**
+     * @return 마지막 점의 시각(이동 시간, ns). 비어 있으면 0
+     */
+    public long durationNanos() {
+        return size == 0 ? 0 : offsets[size - 1];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    boolean isFull() {
+        return size == xs.length;
+    }
+
+    /**
+     * 점을 덧붙인다. 직전 점과 같은 픽셀이면 무시한다.
+     *
+     * @throws IllegalStateException 버퍼가 가득 찬 경우(모델 계약 위반)
+     */
+    void append(int x, int y, long offsetNanos) {
+        if (size > 0 && xs[size - 1] == x && ys[size - 1] == y) {
+            return;
+        }
+        if (size == xs.length) {
+            throw new IllegalStateException("경로 버퍼가 가득 찼다. capacity=" + xs.length);
+        }
+        xs[size] = x;
+        ys[size] = y;
+        offsets[size] = offsetNanos;
+        size++;
+    }
+
+    /**
+     * 마지막 점을 목표 좌표로 맞춘다(반올림/조기 종료로 어긋난 경우).
+     */
+    void finish(int targetX, int targetY, long offsetNanos) {
+        if (size > 0 && xs[size - 1] == targetX && ys[size - 1] == targetY) {
+            return;
+        }
+        if (size == xs.length) {
+            // 역할: 용량을 넘지 않도록 마지막 점을 목표로 덮어쓴다(마지막 한 주기 안에서 조금 더 움직일 뿐이다).
+            xs[size - 1] = targetX;
+            ys[size - 1] = targetY;
+            return;
+        }
+        append(targetX, targetY, offsetNanos);
+    }
+
+    /**
+     * 마지막 점 시각을 지정 시각으로 늦춘다(가감속 끝부분이 같은 픽셀로 남아 일찍 끝난 경우, 계획한 이동 시간을 지킨다).
+     */
+    void holdUntil(long offsetNanos) {
+        if (size > 0 && offsets[size - 1] < offsetNanos) {
+            offsets[size - 1] = offsetNanos;
+        }
+    }
+
+    private int checked(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index=" + index + ", size=" + size);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,68 @@
+package com.preview.mousemacroapp.domain.motion;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 두 좌표 사이 커서 이동 경로 생성 모델.
+ *
+ * <p><b>계약</b></p>
+ * <ul>
+ *     <li>{@code out}을 비우고 시작 좌표를 뺀 경로 점을 채운다. 마지막 점은 정확히 목표 좌표다.</li>
+ *     <li>점 시각은 {@link MotionProfile#stepNanos()}의 배수이며, 점 수는 {@link MotionProfile#maxSteps()} 이하다.</li>
+ *     <li>시작과 목표가 같으면 점을 채우지 않는다.</li>
+ *     <li>무작위성은 주입한 생성기로만 얻는다(같은 시드면 같은 경로). 호출 중 객체를 만들지 않는다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public interface TrajectoryModel {
+
+    /**
+     * 경로를 생성한다.
+     *
+     * @param fromX   시작 X
+     * @param fromY   시작 Y
+     * @param toX     목표 X
+     * @param toY     목표 Y
+     * @param profile 이동 시간/주기 정책
+     * @param random  무작위 생성기
+     * @param out     결과 버퍼(용량은 {@code profile.maxSteps()} 이상)
+     * @throws IllegalArgumentException 버퍼 용량이 부족한 경우
+     */
+    void generate(int fromX, int fromY, int toX, int toY,
+                  MotionProfile profile, RandomGenerator random, TrajectoryBuffer out);
+
+    /**
+     * 기본 Bezier 모델(최소 저크 가감속, 휨 0.2)을 반환한다.
+     *
+     * @return Bezier 모델
+     */
+    static TrajectoryModel bezier() {
+        return new BezierTrajectoryModel(Easing.MINIMUM_JERK, BezierTrajectoryModel.DEFAULT_CURVATURE);
+    }
+
+    /**
+     * 기본 WindMouse 모델을 반환한다.
+     *
+     * @return WindMouse 모델
+     */
+    static TrajectoryModel windMouse() {
+        return new WindMouseTrajectoryModel(WindMouseTrajectoryModel.DEFAULT_GRAVITY,
+                WindMouseTrajectoryModel.DEFAULT_WIND, WindMouseTrajectoryModel.DEFAULT_TARGET_AREA);
+    }
+
+    /**
+     * 버퍼 용량을 확인하고 비운다(구현 공통 선행 단계).
+     *
+     * @param profile 이동 정책
+     * @param out     결과 버퍼
+     * @throws IllegalArgumentException 버퍼 용량이 부족한 경우
+     */
+    static void prepare(MotionProfile profile, TrajectoryBuffer out) {
+        if (out.capacity() < profile.maxSteps()) {
+            throw new IllegalArgumentException("경로 버퍼 용량이 부족하다. capacity=" + out.capacity()
+                    + ", maxSteps=" + profile.maxSteps());
+        }
+        out.clear();
+    }
+}
@@ -0,0 +1,116 @@
+package com.preview.mousemacroapp.domain.motion;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * WindMouse 방식 경로 모델(목표로 끌리는 중력 + 무작위 바람).
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>주기마다 속도에 중력(목표 방향 단위 벡터 × gravity)과 바람(무작위, 점점 감쇠)을 더하고,
+ *     속도 크기를 최대 보폭으로 자른 뒤 위치를 옮긴다.</li>
+ *     <li>목표 반경(targetArea) 안에서는 바람을 줄이고 보폭을 줄여 천천히 다가간다(조준 보정).</li>
+ *     <li>최대 보폭은 프로파일의 이동 시간 안에 도착하도록 거리/주기 수로 정한다.
+ *     점 수가 {@link MotionProfile#maxSteps()}에 닿으면 마지막 점을 목표 좌표로 둔다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class WindMouseTrajectoryModel implements TrajectoryModel {
+
+    /**
+     * 기본 중력(목표로 끌리는 가속도, px/주기²).
+     */
+    public static final double DEFAULT_GRAVITY = 9.0;
+
+    /**
+     * 기본 바람 세기(px/주기²).
+     */
+    public static final double DEFAULT_WIND = 3.0;
+
+    /**
+     * 기본 목표 반경(px).
+     */
+    public static final double DEFAULT_TARGET_AREA = 12.0;
+
+    private static final double SQRT3 = Math.sqrt(3);
+    private static final double SQRT5 = Math.sqrt(5);
+
+    private final double gravity;
+    private final double wind;
+    private final double targetArea;
+
+    /**
+     * @param gravity    중력(0보다 큼)
+     * @param wind       바람 세기(0 이상)
+     * @param targetArea 목표 반경(px, 0 이상)
+     * @throws IllegalArgumentException 값이 범위를 벗어난 경우
+     */
+    public WindMouseTrajectoryModel(double gravity, double wind, double targetArea) {
+        if (!(gravity > 0) || Double.isInfinite(gravity)) {
+            throw new IllegalArgumentException("gravity는 0보다 커야 한다. gravity=" + gravity);
+        }
+        if (!(wind >= 0) || Double.isInfinite(wind) || !(targetArea >= 0) || Double.isInfinite(targetArea)) {
+            throw new IllegalArgumentException("wind/targetArea는 0 이상이어야 한다. wind=" + wind
+                    + ", targetArea=" + targetArea);
+        }
+        this.gravity = gravity;
+        this.wind = wind;
+        this.targetArea = targetArea;
+    }
+
+    @Override
+    public void generate(int fromX, int fromY, int toX, int toY,
+                         MotionProfile profile, RandomGenerator random, TrajectoryBuffer out) {
+        TrajectoryModel.prepare(profile, out);
+        double distance = Math.hypot(toX - fromX, toY - fromY);
+        if (distance == 0) {
+            return;
+        }
+
+        long step = profile.stepNanos();
+        int maxSteps = profile.maxSteps();
+        double plannedSteps = Math.max(1, (double) profile.durationNanos(distance) / step);
+        // 역할: 보폭 상한에 걸릴 때 평균 보폭은 약 0.75배이므로, 예정 주기 수 안에 도착하도록 여유를 둔다.
+        double maxStep = Math.max(3, 1.5 * distance / plannedSteps);
+
+        double x = fromX;
+        double y = fromY;
+        double vx = 0;
+        double vy = 0;
+        double wx = 0;
+        double wy = 0;
+        int tick = 0;
+
+        while (tick < maxSteps - 1) {
+            double ex = toX - x;
+            double ey = toY - y;
+            double remaining = Math.sqrt(ex * ex + ey * ey);
+            if (remaining < 1) {
+                break;
+            }
+            double w = Math.min(wind, remaining);
+            if (remaining >= targetArea) {
+                wx = wx / SQRT3 + (2 * random.nextDouble() - 1) * w / SQRT5;
+                wy = wy / SQRT3 + (2 * random.nextDouble() - 1) * w / SQRT5;
+            } else {
+                wx /= SQRT3;
+                wy /= SQRT3;
+                maxStep = maxStep < 3 ? 3 + random.nextDouble() * 3 : maxStep / SQRT5;
+            }
+            vx += wx + gravity * ex / remaining;
+            vy += wy + gravity * ey / remaining;
+            double speed = Math.sqrt(vx * vx + vy * vy);
+            if (speed > maxStep) {
+                double clipped = maxStep / 2 + random.nextDouble() * maxStep / 2;
+                vx = vx / speed * clipped;
+                vy = vy / speed * clipped;
+            }
+            x += vx;
+            y += vy;
+            tick++;
+            out.append((int) Math.round(x), (int) Math.round(y), tick * step);
+        }
+        out.finish(toX, toY, (tick + 1) * step);
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * 커서 이동 경로(Trajectory) 도메인 모델을 제공한다.
+ *
+ * <p>
+ * 두 클릭 좌표 사이를 사람 손처럼 옮기는 경로 모델(Bezier 곡선 + 가감속, WindMouse 방식 흔들림)과
+ * 이동 시간/출력 주기를 정하는 프로파일, 경로를 담는 재사용 버퍼를 정의한다.
+ * </p>
+ *
+ * <p>
+ * 경로 생성은 미리 계산한 가감속 표와 원시 배열만 사용하며, 호출마다 객체를 만들지 않는다.
+ * 실제 커서 제어와 시각 대기는 infra 계층이 담당한다.
+ * </p>
+ *
+ * @since 0.9
+ */
+package com.preview.mousemacroapp.domain.motion;
@@ -0,0 +1,319 @@
+package com.preview.mousemacroapp.domain.point;
+
+import com.preview.mousemacroapp.domain.action.policy.ClickPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 저장된 매크로 포인트 목록(열 단위 배열).
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>포인트마다 좌표(x/y를 long 1개로 묶음), 이름 번호, 좌표 정책 번호를 열 배열에 담는다(포인트당 16바이트).</li>
+ *     <li>이름은 {@link StringTable}에, 좌표 정책은 값이 같으면 항목 1개를 공유하는 정책 표에 담는다.</li>
+ *     <li>{@link PointView}로 {@link MacroPoint}와 같은 모양(name/base/positionPolicy)으로 읽되,
+ *     포인트마다 객체를 만들지 않는다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>이름 규칙은 {@link MacroPoint}와 같다(비어 있으면 안 된다).</li>
+ *     <li>{@link ExactPositionPolicy}는 상태가 없으므로 인스턴스와 무관하게 정책 표 항목 1개로 합친다.</li>
+ *     <li>삭제는 마지막 포인트를 빈 자리로 옮긴다(O(1), 마지막 포인트의 번호가 바뀐다).</li>
+ *     <li>단일 스레드(UI 스레드)에서만 사용한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class PointLibrary {
+
+    private static final Object EXACT_KEY = new Object();
+
+    private final StringTable names;
+
+    private int size;
+    private long[] coordinates;
+    private int[] nameIds;
+    private int[] policyIds;
+
+    private final Map<Object, Integer> policyTable = new HashMap<>();
+    private final List<ClickPositionPolicy> policies = new ArrayList<>();
+
+    /**
+     * 전용 문자열 표로 생성한다.
+     */
+    public PointLibrary() {
+        this(new StringTable(), 16);
+    }
+
+    /**
+     * @param names          이름 문자열 표(다른 라이브러리와 공유 가능)
+     * @param expectedPoints 예상 포인트 수(열 배열 초기 크기, 1 이상)
+     * @throws NullPointerException     names가 null인 경우
+     * @throws IllegalArgumentException expectedPoints가 1 미만인 경우
+     */
+    public PointLibrary(StringTable names, int expectedPoints) {
+        this.names = Objects.requireNonNull(names, "names");
+        if (expectedPoints < 1) {
+            throw new IllegalArgumentException("expectedPoints는 1 이상이어야 한다. expectedPoints=" + expectedPoints);
+        }
+        coordinates = new long[expectedPoints];
+        nameIds = new int[expectedPoints];
+        policyIds = new int[expectedPoints];
+    }
+
+    /**
+     * 포인트를 추가한다(포인트 객체를 만들지 않는 적재용).
+     *
+     * @param name           사용자 표시명
+     * @param x              기준 X 좌표
+     * @param y              기준 Y 좌표
+     * @param positionPolicy 클릭 위치 결정 정책
+     * @return 포인트 번호
+     * @throws NullPointerException     name/positionPolicy가 null인 경우
+     * @throws IllegalArgumentException name이 비어 있는 경우
+     */
+    public int add(String name, int x, int y, ClickPositionPolicy positionPolicy) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(positionPolicy, "positionPolicy");
+        if (name.isBlank()) {
+            throw new IllegalArgumentException("name은 비어 있을 수 없다.");
+        }
+        if (size == coordinates.length) {
+            grow();
+        }
+        coordinates[size] = pack(x, y);
+        nameIds[size] = names.intern(name);
+        policyIds[size] = internPolicy(positionPolicy);
+        return size++;
+    }
+
+    /**
+     * 포인트를 추가한다.
+     *
+     * @param point 포인트
+     * @return 포인트 번호
+     * @throws NullPointerException point가 null인 경우
+     */
+    public int add(MacroPoint point) {
+        Objects.requireNonNull(point, "point");
+        return add(point.name(), point.base().x(), point.base().y(), point.positionPolicy());
+    }
+
+    /**
+     * 포인트의 기준 좌표를 바꾼다(이름/정책 유지).
+     *
+     * @param index 포인트 번호
+     * @param x     기준 X 좌표
+     * @param y     기준 Y 좌표
+     * @throws IndexOutOfBoundsException 번호가 범위를 벗어난 경우
+     */
+    public void move(int index, int x, int y) {
+        coordinates[Objects.checkIndex(index, size)] = pack(x, y);
+    }
+
+    /**
+     * 포인트를 삭제한다(마지막 포인트가 이 번호로 옮겨 온다).
+     *
+     * @param index 포인트 번호
+     * @throws IndexOutOfBoundsException 번호가 범위를 벗어난 경우
+     */
+    public void remove(int index) {
+        Objects.checkIndex(index, size);
+        size--;
+        coordinates[index] = coordinates[size];
+        nameIds[index] = nameIds[size];
+        policyIds[index] = policyIds[size];
+    }
+
+    /**
+     * @return 포인트 수
+     */
+    public int size() {
+        return size;
+    }
+
+    public int x(int index) {
+        return (int) (coordinates[Objects.checkIndex(index, size)] >> 32);
+    }
+
+    public int y(int index) {
+        return (int) coordinates[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * @param index 포인트 번호
+     * @return 사용자 표시명(호출마다 새로 만든다)
+     */
+    public String name(int index) {
+        return names.get(nameIds[Objects.checkIndex(index, size)]);
+    }
+
+    /**
+     * @param index 포인트 번호
+     * @return 이름 번호({@link #names()} 표 기준, 같은 이름이면 같은 번호)
+     */
+    public int nameId(int index) {
+        return nameIds[Objects.checkIndex(index, size)];
+    }
+
+    public ClickPositionPolicy positionPolicy(int index) {
+        return policies.get(policyIds[Objects.checkIndex(index, size)]);
+    }
+
+    /**
+     * @return 이름 문자열 표
+     */
+    public StringTable names() {
+        return names;
+    }
+
+    /**
+     * @return 정책 표 항목 수(서로 다른 좌표 정책 수)
+     */
+    public int policyCount() {
+        return policies.size();
+    }
+
+    /**
+     * 포인트를 객체로 만든다(저장/기존 API 전달용).
+     *
+     * @param index 포인트 번호
+     * @return 매크로 포인트
+     * @throws IndexOutOfBoundsException 번호가 범위를 벗어난 경우
+     */
+    public MacroPoint toMacroPoint(int index) {
+        return new MacroPoint(name(index), new ScreenPoint(x(index), y(index)), positionPolicy(index));
+    }
+
+    /**
+     * 새 읽기 view를 만든다(번호를 바꿔 가며 재사용한다).
+     *
+     * @return 0번 포인트를 가리키는 view
+     */
+    public PointView view() {
+        return new PointView();
+    }
+
+    /**
+     * 모든 포인트를 view 1개로 차례로 방문한다(방문 중 추가/삭제 금지).
+     *
+     * @param visitor 방문자(view를 보관하지 않는다)
+     * @throws NullPointerException visitor가 null인 경우
+     */
+    public void forEach(Consumer<PointView> visitor) {
+        Objects.requireNonNull(visitor, "visitor");
+        PointView view = new PointView();
+        for (int i = 0; i < size; i++) {
+            visitor.accept(view.at(i));
+        }
+    }
+
+    /**
+     * @return 열 배열과 이름 표 본문이 차지하는 바이트 수(객체 헤더/정책 표 제외, 여유 용량 포함)
+     */
+    public long footprintBytes() {
+        return 8L * coordinates.length + 4L * (nameIds.length + policyIds.length) + names.footprintBytes();
+    }
+
+    /**
+     * 열 배열과 이름 표의 여유 용량을 버린다(파일 적재처럼 대량 추가한 뒤 호출).
+     */
+    public void trimToSize() {
+        int capacity = Math.max(1, size);
+        coordinates = Arrays.copyOf(coordinates, capacity);
+        nameIds = Arrays.copyOf(nameIds, capacity);
+        policyIds = Arrays.copyOf(policyIds, capacity);
+        names.trimToSize();
+    }
+
+    private static long pack(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFF_FFFFL);
+    }
+
+    private int internPolicy(ClickPositionPolicy policy) {
+        Object key = policy instanceof ExactPositionPolicy ? EXACT_KEY : policy;
+        Integer id = policyTable.get(key);
+        if (id != null) {
+            return id;
+        }
+        int next = policies.size();
+        policies.add(policy);
+        policyTable.put(key, next);
+        return next;
+    }
+
+    private void grow() {
+        int capacity = Math.max(16, coordinates.length * 2);
+        coordinates = Arrays.copyOf(coordinates, capacity);
+        nameIds = Arrays.copyOf(nameIds, capacity);
+        policyIds = Arrays.copyOf(policyIds, capacity);
+    }
+
+    /**
+     * 포인트 하나를 {@link MacroPoint} 모양으로 읽는 view(가리키는 번호를 바꿔 재사용).
+     *
+     * <p>view는 라이브러리를 읽기만 하며, 가리키는 포인트가 삭제/이동되면 바뀐 값을 읽는다.</p>
+     */
+    public final class PointView {
+
+        private int index;
+
+        private PointView() {
+        }
+
+        /**
+         * @param index 포인트 번호
+         * @return this
+         * @throws IndexOutOfBoundsException 번호가 범위를 벗어난 경우
+         */
+        public PointView at(int index) {
+            this.index = Objects.checkIndex(index, size);
+            return this;
+        }
+
+        /**
+         * @return 가리키는 포인트 번호
+         */
+        public int index() {
+            return index;
+        }
+
+        public String name() {
+            return PointLibrary.this.name(index);
+        }
+
+        /**
+         * @return 기준 좌표(호출마다 새로 만든다, 할당 없이 읽으려면 {@link #x()}/{@link #y()})
+         */
+        public ScreenPoint base() {
+            return new ScreenPoint(x(), y());
+        }
+
+        public int x() {
+            return PointLibrary.this.x(index);
+        }
+
+        public int y() {
+            return PointLibrary.this.y(index);
+        }
+
+        public ClickPositionPolicy positionPolicy() {
+            return PointLibrary.this.positionPolicy(index);
+        }
+
+        /**
+         * @return 포인트 객체
+         */
+        public MacroPoint toMacroPoint() {
+            return PointLibrary.this.toMacroPoint(index);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.preview.mousemacroapp.domain.point;
+
+/**
+ * 화면 좌표의 허용 사각 영역을 표현하는 값 객체이다.
+ *
+ * <p>
+ * 경계는 양 끝을 모두 포함(inclusive)한다.
+ * 다중 모니터 환경에서는 모든 화면을 감싸는 영역으로 사용한다.
+ * </p>
+ *
+ * @param minX 최소 X 좌표(포함)
+ * @param minY 최소 Y 좌표(포함)
+ * @param maxX 최대 X 좌표(포함)
+ * @param maxY 최대 Y 좌표(포함)
+ * @since 0.9
+ */
+public record ScreenBounds(int minX, int minY, int maxX, int maxY) {
+
+    /**
+     * 경계 생성 시 입력 값을 검증한다.
+     *
+     * @throws IllegalArgumentException min이 max보다 큰 경우
+     */
+    public ScreenBounds {
+        // 역할: 뒤집힌 영역은 클램프 결과를 정의할 수 없으므로 금지
+        if (minX > maxX || minY > maxY) {
+            throw new IllegalArgumentException("min은 max 이하이어야 한다. minX=%d, minY=%d, maxX=%d, maxY=%d"
+                    .formatted(minX, minY, maxX, maxY));
+        }
+    }
+
+    /**
+     * 좌표가 경계 안에 있는지 판단한다.
+     *
+     * @param x X 좌표
+     * @param y Y 좌표
+     * @return 포함되면 true
+     */
+    public boolean contains(int x, int y) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY;
+    }
+
+    /**
+     * 좌표를 경계 안으로 보정한다.
+     *
+     * <p>
+     * 이미 경계 안에 있는 좌표는 같은 인스턴스를 그대로 반환한다(불필요한 객체 생성 방지).
+     * </p>
+     *
+     * @param point 보정할 좌표
+     * @return 경계 안의 좌표
+     * @throws NullPointerException point가 null인 경우
+     */
+    public ScreenPoint clamp(ScreenPoint point) {
+        int x = point.x();
+        int y = point.y();
+        if (contains(x, y)) {
+            return point;
+        }
+        return new ScreenPoint(Math.min(Math.max(x, minX), maxX), Math.min(Math.max(y, minY), maxY));
+    }
+}
@@ -0,0 +1,135 @@
+package com.preview.mousemacroapp.domain.point;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 문자열을 번호로 바꿔 한 번만 담는 문자열 표(여러 포인트 라이브러리가 공유할 수 있다).
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>같은 문자열은 같은 번호를 돌려준다(intern).</li>
+ *     <li>문자열은 UTF-8 바이트로 배열 하나에 이어 붙여 담는다(문자열마다 String 객체를 남기지 않는다).</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>번호는 0부터 추가 순서로 매기며 지우지 않는다.</li>
+ *     <li>조회용 해시 표는 열린 주소 방식(int 배열)이다. {@link #get(int)}은 호출마다 String을 만든다.</li>
+ *     <li>단일 스레드(UI 스레드)에서만 사용한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class StringTable {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private byte[] data = new byte[256];
+    private int dataSize;
+    private int[] starts = new int[INITIAL_CAPACITY + 1];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private int size;
+
+    // 역할: 해시 → (번호 + 1). 0은 빈 자리.
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+
+    /**
+     * 문자열의 번호를 돌려준다(처음 보는 문자열이면 추가한다).
+     *
+     * @param value 문자열
+     * @return 번호(0 이상)
+     * @throws NullPointerException value가 null인 경우
+     */
+    public int intern(String value) {
+        Objects.requireNonNull(value, "value");
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int hash = Arrays.hashCode(bytes);
+        int mask = slots.length - 1;
+        int slot = spread(hash) & mask;
+        for (int id = slots[slot] - 1; id >= 0; id = slots[slot] - 1) {
+            if (hashes[id] == hash && Arrays.equals(data, starts[id], starts[id + 1], bytes, 0, bytes.length)) {
+                return id;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return append(bytes, hash);
+    }
+
+    /**
+     * @param id 번호
+     * @return 문자열(호출마다 새로 만든다)
+     * @throws IndexOutOfBoundsException 번호가 범위를 벗어난 경우
+     */
+    public String get(int id) {
+        Objects.checkIndex(id, size);
+        return new String(data, starts[id], starts[id + 1] - starts[id], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return 담긴 문자열 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 배열 본문이 차지하는 바이트 수(객체 헤더 제외, 여유 용량 포함)
+     */
+    public long footprintBytes() {
+        return data.length + 4L * (starts.length + hashes.length + slots.length);
+    }
+
+    /**
+     * 여유 용량을 버린다(대량 적재 뒤 호출, 조회용 해시 표 크기는 유지).
+     */
+    public void trimToSize() {
+        data = Arrays.copyOf(data, dataSize);
+        starts = Arrays.copyOf(starts, size + 1);
+        hashes = Arrays.copyOf(hashes, size);
+    }
+
+    private int append(byte[] bytes, int hash) {
+        if (size == hashes.length) {
+            int capacity = Math.max(INITIAL_CAPACITY, size * 2);
+            starts = Arrays.copyOf(starts, capacity + 1);
+            hashes = Arrays.copyOf(hashes, capacity);
+            if (capacity * 2 > slots.length) {
+                rehash(Integer.highestOneBit(capacity * 2 - 1) << 1);
+            }
+        }
+        if (dataSize + bytes.length > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, dataSize + bytes.length));
+        }
+        System.arraycopy(bytes, 0, data, dataSize, bytes.length);
+        int id = size++;
+        starts[id] = dataSize;
+        dataSize += bytes.length;
+        starts[id + 1] = dataSize;
+        hashes[id] = hash;
+        place(id);
+        return id;
+    }
+
+    private void rehash(int capacity) {
+        slots = new int[capacity];
+        for (int id = 0; id < size; id++) {
+            place(id);
+        }
+    }
+
+    private void place(int id) {
+        int mask = slots.length - 1;
+        int slot = spread(hashes[id]) & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = id + 1;
+    }
+
+    private static int spread(int hash) {
+        int mixed = hash * 0x9E37_79B9;
+        return mixed ^ (mixed >>> 16);
+    }
+}
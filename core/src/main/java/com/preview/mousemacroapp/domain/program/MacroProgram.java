@@ -0,0 +1,219 @@
+package com.preview.mousemacroapp.domain.program;
+
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.domain.action.policy.ClickPositionPolicy;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 컴파일된 매크로 프로그램(열 단위 배열, 불변).
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>단계마다 x/y 좌표와 동작/좌표 정책/딜레이 정책 표 번호를 int 열에 담는다(단계당 20바이트).</li>
+ *     <li>동작/좌표 정책/딜레이 정책은 값이 같으면 표 항목 1개를 공유하며,
+ *     좌표 정책 종류와 반폭, 딜레이 값은 원시 배열 표로 풀어 둔다.</li>
+ *     <li>실행기는 단계 번호로 열을 읽기만 하므로 단계를 수행할 때 객체를 만들 필요가 없다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>생성은 {@link ProgramCompiler} 또는 {@link #compile(List)}로만 한다(단계 1개 이상).</li>
+ *     <li>생성 후 변경하지 않으므로 여러 스레드가 공유해도 된다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class MacroProgram {
+
+    /**
+     * 좌표 정책 종류(실행기가 할당 없이 처리할 수 있는 정책은 값으로 풀어 둔다).
+     */
+    public enum PositionKind {
+        /**
+         * 기준 좌표 그대로(랜덤 소스를 쓰지 않는다).
+         */
+        EXACT,
+        /**
+         * 기준 좌표 중심 랜덤 영역({@code RandomAreaPositionPolicy}와 같은 순서로 랜덤 소스를 쓴다).
+         */
+        AREA,
+        /**
+         * 그 밖의 정책(실행 시 {@link ClickPositionPolicy#resolve}를 호출한다).
+         */
+        CUSTOM
+    }
+
+    private final int size;
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] actionIds;
+    private final int[] positionIds;
+    private final int[] delayIds;
+
+    private final MacroAction[] actions;
+
+    private final ClickPositionPolicy[] positions;
+    private final PositionKind[] positionKinds;
+    private final int[] halfWidths;
+    private final int[] halfHeights;
+
+    private final DelayPolicy[] delays;
+    private final long[] baseDelays;
+    private final long[] minRandomDelays;
+    private final long[] maxRandomDelays;
+
+    MacroProgram(int size, int[] xs, int[] ys, int[] actionIds, int[] positionIds, int[] delayIds,
+                 MacroAction[] actions,
+                 ClickPositionPolicy[] positions, PositionKind[] positionKinds, int[] halfWidths, int[] halfHeights,
+                 DelayPolicy[] delays) {
+        this.size = size;
+        this.xs = xs;
+        this.ys = ys;
+        this.actionIds = actionIds;
+        this.positionIds = positionIds;
+        this.delayIds = delayIds;
+        this.actions = actions;
+        this.positions = positions;
+        this.positionKinds = positionKinds;
+        this.halfWidths = halfWidths;
+        this.halfHeights = halfHeights;
+        this.delays = delays;
+        this.baseDelays = new long[delays.length];
+        this.minRandomDelays = new long[delays.length];
+        this.maxRandomDelays = new long[delays.length];
+        for (int i = 0; i < delays.length; i++) {
+            baseDelays[i] = delays[i].baseIntervalMillis();
+            minRandomDelays[i] = delays[i].minRandomMillis();
+            maxRandomDelays[i] = delays[i].maxRandomMillis();
+        }
+    }
+
+    /**
+     * 단계 목록을 컴파일한다.
+     *
+     * @param steps 단계 목록(1개 이상)
+     * @return 프로그램
+     * @throws NullPointerException     steps 또는 요소가 null인 경우
+     * @throws IllegalArgumentException steps가 비어 있는 경우
+     */
+    public static MacroProgram compile(List<MacroStep> steps) {
+        Objects.requireNonNull(steps, "steps");
+        ProgramCompiler compiler = new ProgramCompiler(Math.max(1, steps.size()));
+        for (MacroStep step : steps) {
+            compiler.add(step);
+        }
+        return compiler.compile();
+    }
+
+    /**
+     * @return 단계 수(1 이상)
+     */
+    public int size() {
+        return size;
+    }
+
+    public int x(int step) {
+        return xs[checkIndex(step)];
+    }
+
+    public int y(int step) {
+        return ys[checkIndex(step)];
+    }
+
+    public MacroAction action(int step) {
+        return actions[actionIds[checkIndex(step)]];
+    }
+
+    public PositionKind positionKind(int step) {
+        return positionKinds[positionIds[checkIndex(step)]];
+    }
+
+    /**
+     * @param step 단계 번호
+     * @return 랜덤 영역 X 반폭(px, {@link PositionKind#AREA}가 아니면 0)
+     */
+    public int halfWidth(int step) {
+        return halfWidths[positionIds[checkIndex(step)]];
+    }
+
+    /**
+     * @param step 단계 번호
+     * @return 랜덤 영역 Y 반폭(px, {@link PositionKind#AREA}가 아니면 0)
+     */
+    public int halfHeight(int step) {
+        return halfHeights[positionIds[checkIndex(step)]];
+    }
+
+    public ClickPositionPolicy positionPolicy(int step) {
+        return positions[positionIds[checkIndex(step)]];
+    }
+
+    public long baseDelayMillis(int step) {
+        return baseDelays[delayIds[checkIndex(step)]];
+    }
+
+    public long minRandomDelayMillis(int step) {
+        return minRandomDelays[delayIds[checkIndex(step)]];
+    }
+
+    public long maxRandomDelayMillis(int step) {
+        return maxRandomDelays[delayIds[checkIndex(step)]];
+    }
+
+    /**
+     * 단계를 작성 모델로 되돌린다(표시/내보내기용, 호출마다 객체를 만든다).
+     *
+     * @param step 단계 번호
+     * @return 단계
+     * @throws IndexOutOfBoundsException 범위를 벗어난 경우
+     */
+    public MacroStep step(int step) {
+        checkIndex(step);
+        return new MacroStep(new ScreenPoint(xs[step], ys[step]), actions[actionIds[step]],
+                positions[positionIds[step]], delays[delayIds[step]]);
+    }
+
+    /**
+     * @return 서로 다른 동작 수(동작 표 크기)
+     */
+    public int distinctActions() {
+        return actions.length;
+    }
+
+    /**
+     * @return 서로 다른 좌표 정책 수(좌표 정책 표 크기)
+     */
+    public int distinctPositionPolicies() {
+        return positions.length;
+    }
+
+    /**
+     * @return 서로 다른 딜레이 정책 수(딜레이 표 크기)
+     */
+    public int distinctDelayPolicies() {
+        return delays.length;
+    }
+
+    /**
+     * 단계 열이 차지하는 바이트 수를 반환한다(표/배열 헤더 제외).
+     *
+     * @return 단계 수 × 20
+     */
+    public long columnBytes() {
+        return size * 5L * Integer.BYTES;
+    }
+
+    @Override
+    public String toString() {
+        return "MacroProgram{steps=" + size + ", actions=" + actions.length
+                + ", positions=" + positions.length + ", delays=" + delays.length + "}";
+    }
+
+    private int checkIndex(int step) {
+        return Objects.checkIndex(step, size);
+    }
+}
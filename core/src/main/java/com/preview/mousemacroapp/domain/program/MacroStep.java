@@ -0,0 +1,55 @@
+package com.preview.mousemacroapp.domain.program;
+
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.domain.action.policy.ClickPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+
+import java.util.Objects;
+
+/**
+ * 매크로 프로그램의 단일 단계.
+ *
+ * <p>
+ * 단계를 수행한 뒤 delayPolicy만큼 기다렸다가 다음 단계로 넘어간다.
+ * 프로그램 작성/표시용 모델이며, 실행은 컴파일된 {@link MacroProgram}으로 한다.
+ * </p>
+ *
+ * @param point          기준 좌표(키보드 동작은 사용하지 않음)
+ * @param action         동작(클릭/드래그/스크롤/키보드)
+ * @param positionPolicy 실제 좌표 결정 정책(Where)
+ * @param delayPolicy    다음 단계까지의 딜레이 정책(When)
+ * @since 0.9
+ */
+public record MacroStep(
+        ScreenPoint point,
+        MacroAction action,
+        ClickPositionPolicy positionPolicy,
+        DelayPolicy delayPolicy
+) {
+
+    /**
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    public MacroStep {
+        Objects.requireNonNull(point, "point");
+        Objects.requireNonNull(action, "action");
+        Objects.requireNonNull(positionPolicy, "positionPolicy");
+        Objects.requireNonNull(delayPolicy, "delayPolicy");
+    }
+
+    /**
+     * 정확 좌표, 고정 딜레이 단계를 생성한다.
+     *
+     * @param point       좌표
+     * @param action      동작
+     * @param delayMillis 다음 단계까지의 딜레이(ms, 0 이상)
+     * @return 단계
+     * @throws NullPointerException     point 또는 action이 null인 경우
+     * @throws IllegalArgumentException delayMillis가 음수인 경우
+     */
+    public static MacroStep at(ScreenPoint point, MacroAction action, long delayMillis) {
+        return new MacroStep(point, action, new ExactPositionPolicy(), new DelayPolicy(delayMillis, 0, 0));
+    }
+}
@@ -0,0 +1,170 @@
+package com.preview.mousemacroapp.domain.program;
+
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.domain.action.policy.ClickPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.RandomAreaPositionPolicy;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 단계를 하나씩 받아 {@link MacroProgram}으로 컴파일한다.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>단계는 열 배열에 바로 쓰며, 단계마다 {@link MacroStep} 객체를 만들지 않아도 된다(파일/DSL 적재용).</li>
+ *     <li>동작/딜레이 정책은 값(equals)이 같으면 같은 표 항목을 쓴다.
+ *     {@link ExactPositionPolicy}는 상태가 없으므로 인스턴스와 무관하게 항목 1개로 합친다.</li>
+ *     <li>단일 스레드에서만 사용하며, {@link #compile()} 후에도 이어서 추가할 수 있다(이미 만든 프로그램은 바뀌지 않는다).</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class ProgramCompiler {
+
+    private static final Object EXACT_KEY = new Object();
+
+    private int size;
+    private int[] xs;
+    private int[] ys;
+    private int[] actionIds;
+    private int[] positionIds;
+    private int[] delayIds;
+
+    private final Map<MacroAction, Integer> actionTable = new HashMap<>();
+    private final List<MacroAction> actions = new ArrayList<>();
+    private final Map<Object, Integer> positionTable = new HashMap<>();
+    private final List<ClickPositionPolicy> positions = new ArrayList<>();
+    private final Map<DelayPolicy, Integer> delayTable = new HashMap<>();
+    private final List<DelayPolicy> delays = new ArrayList<>();
+
+    public ProgramCompiler() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSteps 예상 단계 수(열 배열 초기 크기, 1 이상)
+     * @throws IllegalArgumentException expectedSteps가 1 미만인 경우
+     */
+    public ProgramCompiler(int expectedSteps) {
+        if (expectedSteps < 1) {
+            throw new IllegalArgumentException("expectedSteps는 1 이상이어야 한다. expectedSteps=" + expectedSteps);
+        }
+        xs = new int[expectedSteps];
+        ys = new int[expectedSteps];
+        actionIds = new int[expectedSteps];
+        positionIds = new int[expectedSteps];
+        delayIds = new int[expectedSteps];
+    }
+
+    /**
+     * 단계를 추가한다.
+     *
+     * @param x              기준 X 좌표
+     * @param y              기준 Y 좌표
+     * @param action         동작
+     * @param positionPolicy 좌표 정책
+     * @param delayPolicy    다음 단계까지의 딜레이 정책
+     * @return this
+     * @throws NullPointerException action/positionPolicy/delayPolicy가 null인 경우
+     */
+    public ProgramCompiler add(int x, int y, MacroAction action, ClickPositionPolicy positionPolicy,
+                               DelayPolicy delayPolicy) {
+        Objects.requireNonNull(action, "action");
+        Objects.requireNonNull(positionPolicy, "positionPolicy");
+        Objects.requireNonNull(delayPolicy, "delayPolicy");
+
+        if (size == xs.length) {
+            grow();
+        }
+        xs[size] = x;
+        ys[size] = y;
+        actionIds[size] = intern(actionTable, actions, action, action);
+        Object positionKey = positionPolicy instanceof ExactPositionPolicy ? EXACT_KEY : positionPolicy;
+        positionIds[size] = intern(positionTable, positions, positionKey, positionPolicy);
+        delayIds[size] = intern(delayTable, delays, delayPolicy, delayPolicy);
+        size++;
+        return this;
+    }
+
+    /**
+     * 단계를 추가한다.
+     *
+     * @param step 단계
+     * @return this
+     * @throws NullPointerException step이 null인 경우
+     */
+    public ProgramCompiler add(MacroStep step) {
+        Objects.requireNonNull(step, "step");
+        return add(step.point().x(), step.point().y(), step.action(), step.positionPolicy(), step.delayPolicy());
+    }
+
+    /**
+     * @return 지금까지 추가한 단계 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 지금까지 추가한 단계로 프로그램을 만든다.
+     *
+     * @return 프로그램
+     * @throws IllegalArgumentException 단계가 없는 경우
+     */
+    public MacroProgram compile() {
+        if (size == 0) {
+            throw new IllegalArgumentException("프로그램은 단계가 1개 이상이어야 한다.");
+        }
+
+        int n = positions.size();
+        MacroProgram.PositionKind[] kinds = new MacroProgram.PositionKind[n];
+        int[] halfWidths = new int[n];
+        int[] halfHeights = new int[n];
+        for (int i = 0; i < n; i++) {
+            ClickPositionPolicy policy = positions.get(i);
+            if (policy instanceof ExactPositionPolicy) {
+                kinds[i] = MacroProgram.PositionKind.EXACT;
+            } else if (policy instanceof RandomAreaPositionPolicy area) {
+                kinds[i] = MacroProgram.PositionKind.AREA;
+                halfWidths[i] = area.halfWidth();
+                halfHeights[i] = area.halfHeight();
+            } else {
+                kinds[i] = MacroProgram.PositionKind.CUSTOM;
+            }
+        }
+
+        return new MacroProgram(size,
+                Arrays.copyOf(xs, size), Arrays.copyOf(ys, size), Arrays.copyOf(actionIds, size),
+                Arrays.copyOf(positionIds, size), Arrays.copyOf(delayIds, size),
+                actions.toArray(new MacroAction[0]),
+                positions.toArray(new ClickPositionPolicy[0]), kinds, halfWidths, halfHeights,
+                delays.toArray(new DelayPolicy[0]));
+    }
+
+    private void grow() {
+        int capacity = Math.max(16, xs.length * 2);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        actionIds = Arrays.copyOf(actionIds, capacity);
+        positionIds = Arrays.copyOf(positionIds, capacity);
+        delayIds = Arrays.copyOf(delayIds, capacity);
+    }
+
+    private static <K, V> int intern(Map<K, Integer> table, List<V> values, K key, V value) {
+        Integer id = table.get(key);
+        if (id != null) {
+            return id;
+        }
+        int next = values.size();
+        values.add(value);
+        table.put(key, next);
+        return next;
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * 여러 단계로 이루어진 매크로 프로그램(Program) 도메인 모델을 제공한다.
+ *
+ * <p>
+ * 단계(MacroStep)는 좌표/동작/좌표 정책/다음 단계까지의 딜레이를 가지며,
+ * 실행 전에 열 단위 원시 배열(MacroProgram)로 컴파일된다.
+ * 동작/좌표 정책/딜레이 정책은 값이 같으면 표 1개 항목을 공유하므로, 단계 수만큼 객체가 늘지 않는다.
+ * </p>
+ *
+ * <p>
+ * 실행(인터프리터)은 service 계층의 Runner가 담당한다.
+ * </p>
+ *
+ * @since 0.9
+ */
+package com.preview.mousemacroapp.domain.program;
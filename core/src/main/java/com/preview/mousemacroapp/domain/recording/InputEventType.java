@@ -0,0 +1,71 @@
+package com.preview.mousemacroapp.domain.recording;
+
+/**
+ * 기록 대상 입력 이벤트 종류.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>{@link #code()}는 저장 형식에 기록되는 고정 값이다(선언 순서와 무관).</li>
+ *     <li>이벤트별 code 열 의미: 버튼 = 버튼 번호(1=왼쪽), 휠 = 회전량(부호 포함), 키 = 키 코드, 이동 = 0.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public enum InputEventType {
+
+    /** 마우스 이동(버튼을 누른 채 이동 포함). */
+    MOUSE_MOVE(1),
+
+    /** 마우스 버튼 누름. */
+    MOUSE_PRESS(2),
+
+    /** 마우스 버튼 뗌. */
+    MOUSE_RELEASE(3),
+
+    /** 마우스 휠 회전. */
+    MOUSE_WHEEL(4),
+
+    /** 키 누름. */
+    KEY_PRESS(5),
+
+    /** 키 뗌. */
+    KEY_RELEASE(6);
+
+    private static final InputEventType[] BY_CODE = new InputEventType[7];
+
+    static {
+        for (InputEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+
+    InputEventType(int code) {
+        this.code = code;
+    }
+
+    /**
+     * 저장 형식 코드를 반환한다.
+     *
+     * @return 1 이상의 고정 코드
+     */
+    public int code() {
+        return code;
+    }
+
+    /**
+     * 저장 형식 코드로 종류를 찾는다(객체 할당 없음).
+     *
+     * @param code 저장 형식 코드
+     * @return 종류
+     * @throws IllegalArgumentException 알 수 없는 코드인 경우
+     */
+    public static InputEventType ofCode(int code) {
+        InputEventType type = code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+        if (type == null) {
+            throw new IllegalArgumentException("알 수 없는 입력 이벤트 코드다. code=" + code);
+        }
+        return type;
+    }
+}
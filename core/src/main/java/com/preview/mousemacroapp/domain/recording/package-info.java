@@ -0,0 +1,11 @@
+/**
+ * 사용자 입력 기록(Recording) 도메인 모델을 제공한다.
+ *
+ * <p>
+ * 기록은 (시각, 종류, x, y, 코드) 다섯 값으로 이루어진 입력 이벤트의 순서열이다.
+ * 종류 코드는 파일 형식에 그대로 쓰이므로 한 번 정한 값은 바꾸지 않는다.
+ * </p>
+ *
+ * @since 0.9
+ */
+package com.preview.mousemacroapp.domain.recording;
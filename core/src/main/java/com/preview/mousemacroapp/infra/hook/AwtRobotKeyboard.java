@@ -0,0 +1,54 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.preview.mousemacroapp.domain.action.KeyStrokes;
+
+import java.awt.AWTException;
+import java.awt.Robot;
+
+/**
+ * AWT {@link Robot} 기반의 실제 키보드 제어 구현.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *   <li>Robot 자동 지연(autoDelay)은 0으로 두고, 간격은 실행기가 마감 시각으로 제어한다.</li>
+ *   <li>키 코드는 {@link KeyStrokes}의 가상 키 코드(= {@code KeyEvent.VK_*})를 그대로 넘긴다.</li>
+ *   <li>Headless 환경 또는 권한 이슈로 {@link Robot} 생성이 실패할 수 있으므로 생성 시점에 예외를 명확히 노출한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class AwtRobotKeyboard implements RobotKeyboard {
+
+    private final Robot robot;
+
+    /**
+     * 키 입력 전용 {@link Robot} 인스턴스를 생성한다.
+     *
+     * @throws IllegalStateException Robot 생성이 불가능한 환경인 경우
+     */
+    public AwtRobotKeyboard() {
+        try {
+            this.robot = new Robot();
+        } catch (AWTException e) {
+            throw new IllegalStateException("AWT Robot 생성에 실패했습니다. (headless/권한/환경 설정 확인 필요)", e);
+        }
+        robot.setAutoDelay(0);
+    }
+
+    @Override
+    public void dispatch(KeyStrokes strokes, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int op = strokes.op(i);
+            if (KeyStrokes.isPress(op)) {
+                robot.keyPress(KeyStrokes.keyCode(op));
+            } else {
+                robot.keyRelease(KeyStrokes.keyCode(op));
+            }
+        }
+    }
+
+    @Override
+    public void release(int keyCode) {
+        robot.keyRelease(keyCode);
+    }
+}
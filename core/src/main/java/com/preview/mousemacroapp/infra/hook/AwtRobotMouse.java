@@ -48,6 +48,17 @@ public final class AwtRobotMouse implements RobotMouse {
         robot.mouseMove(point.x(), point.y());
     }
 
+    /**
+     * 커서를 지정 좌표로 이동시킨다(좌표 객체 없이).
+     *
+     * @param x 화면 X 좌표
+     * @param y 화면 Y 좌표
+     */
+    @Override
+    public void move(int x, int y) {
+        robot.mouseMove(x, y);
+    }
+
     /**
      * 지정 버튼을 누른다(press).
      *
@@ -72,6 +83,16 @@ public final class AwtRobotMouse implements RobotMouse {
         robot.mouseRelease(toMask(button));
     }
 
+    /**
+     * 휠을 지정 칸 수만큼 굴린다.
+     *
+     * @param notches 휠 칸 수(양수=아래/사용자 쪽, 음수=위)
+     */
+    @Override
+    public void wheel(int notches) {
+        robot.mouseWheel(notches);
+    }
+
     private int toMask(MouseButton button) {
         // 역할: 도메인 버튼 의미를 OS 입력 마스크로 변환하는 단일 지점
         return switch (button) {
@@ -0,0 +1,413 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.MouseButton;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.service.ClickExecutor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 클릭 요청을 파일/채널에 일괄 기록하는 고처리량 Dry-Run 실행기.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>{@link DryRunClickExecutor}와 같은 목적(실제 마우스 미제어)이지만, 콘솔 I/O 대신 버퍼에 기록한다.</li>
+ *     <li>실행 스레드는 고정 크기 버퍼에 레코드를 인코딩만 하고, 실제 쓰기는 백그라운드 writer가 일괄 수행한다.</li>
+ *     <li>버퍼는 미리 할당한 풀을 순환하며, 레코드당 객체를 만들지 않는다.</li>
+ * </ul>
+ *
+ * <p><b>형식</b></p>
+ * <ul>
+ *     <li>{@link Format#TEXT}: {@link DryRunClickExecutor}와 같은 한 줄 로그(KST)</li>
+ *     <li>{@link Format#BINARY}: 헤더 8바이트 + 고정 {@value #BINARY_RECORD_BYTES}바이트 레코드(big-endian)</li>
+ * </ul>
+ *
+ * <p>
+ * writer가 밀리면 빈 버퍼가 생길 때까지 실행 스레드가 대기한다(기록 누락 대신 역압).
+ * 실행 스레드는 잠금을 쥔 채 대기하므로, writer는 그 잠금을 기다리지 않는다(주기 flush는 잠금을 못 얻으면 건너뛴다).
+ * 종료 시 {@link #close()}로 남은 버퍼를 모두 기록해야 한다.
+ * </p>
+ *
+ * @since 0.9
+ */
+public final class BufferedDryRunClickExecutor implements ClickExecutor, Closeable {
+
+    /**
+     * 출력 형식.
+     */
+    public enum Format {
+        /**
+         * 사람이 읽는 한 줄 로그.
+         */
+        TEXT,
+        /**
+         * 고정 길이 바이너리 레코드.
+         */
+        BINARY
+    }
+
+    /**
+     * 바이너리 파일 식별자("MMDR").
+     */
+    public static final int BINARY_MAGIC = 0x4D4D4452;
+
+    /**
+     * 바이너리 형식 버전.
+     */
+    public static final int BINARY_VERSION = 1;
+
+    /**
+     * 바이너리 레코드 크기.
+     * epochMillis(8) | x(4) | y(4) | holdMillis(8) | clickCount(4) | button ordinal(1) | reserved(3)
+     */
+    public static final int BINARY_RECORD_BYTES = 32;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private static final int DEFAULT_BUFFER_BYTES = 64 * 1024;
+    private static final int BUFFER_COUNT = 4;
+    private static final long FLUSH_INTERVAL_MILLIS = 200;
+
+    /**
+     * 텍스트 한 줄의 최대 길이(여유 포함).
+     */
+    private static final int MAX_TEXT_RECORD_BYTES = 192;
+
+    private static final byte[] ACTION_HEAD = ascii("action=ClickAction[button=");
+    private static final byte[] CLICK_COUNT = ascii(", clickCount=");
+    private static final byte[] HOLD_MILLIS = ascii(", holdMillis=");
+    private static final byte[] POINT_HEAD = ascii("] point=ScreenPoint[x=");
+    private static final byte[] POINT_Y = ascii(", y=");
+    private static final byte[] LINE_END = ascii("]\n");
+    private static final byte[][] BUTTON_NAMES = buttonNames();
+
+    /**
+     * writer 종료 표식(이 표식 앞의 버퍼는 모두 기록된 뒤 종료한다).
+     */
+    private static final ByteBuffer END_OF_STREAM = ByteBuffer.allocate(0);
+
+    private final Clock clock;
+    private final WritableByteChannel channel;
+    private final Format format;
+    private final int maxRecordBytes;
+
+    private final BlockingQueue<ByteBuffer> free;
+    private final BlockingQueue<ByteBuffer> filled;
+    private final TimestampPrefixCache prefixCache = new TimestampPrefixCache("[DRY-RUN] ", KST);
+    private final byte[] digits = new byte[20];
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Thread writer;
+
+    private ByteBuffer current;
+    private long recordCount;
+
+    private volatile boolean closed;
+    private volatile IOException writeFailure;
+
+    /**
+     * 채널에 기록하는 실행기를 생성하고 writer 스레드를 시작한다.
+     *
+     * @param clock   시간 소스
+     * @param channel 기록 대상 채널(소유권은 본 실행기로 넘어오며 close 시 함께 닫는다)
+     * @param format  출력 형식
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    public BufferedDryRunClickExecutor(Clock clock, WritableByteChannel channel, Format format) {
+        this(clock, channel, format, DEFAULT_BUFFER_BYTES);
+    }
+
+    BufferedDryRunClickExecutor(Clock clock, WritableByteChannel channel, Format format, int bufferBytes) {
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.channel = Objects.requireNonNull(channel, "channel");
+        this.format = Objects.requireNonNull(format, "format");
+        this.maxRecordBytes = (format == Format.TEXT) ? MAX_TEXT_RECORD_BYTES : BINARY_RECORD_BYTES;
+        if (bufferBytes < maxRecordBytes) {
+            throw new IllegalArgumentException("bufferBytes가 너무 작다. bufferBytes=" + bufferBytes);
+        }
+
+        this.free = new ArrayBlockingQueue<>(BUFFER_COUNT);
+        // 역할: 모든 버퍼 + 종료 표식이 동시에 들어갈 수 있어야 offer가 실패하지 않는다.
+        this.filled = new ArrayBlockingQueue<>(BUFFER_COUNT + 1);
+        for (int i = 0; i < BUFFER_COUNT - 1; i++) {
+            free.add(ByteBuffer.allocateDirect(bufferBytes));
+        }
+        this.current = ByteBuffer.allocateDirect(bufferBytes);
+
+        if (format == Format.BINARY) {
+            current.putInt(BINARY_MAGIC).putInt(BINARY_VERSION);
+        }
+
+        this.writer = new Thread(this::writeLoop, "dry-run-writer");
+        // 역할: 종료 누락 시에도 프로세스 종료를 막지 않도록 daemon 처리한다(정상 경로는 close로 flush).
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 파일에 기록하는 실행기를 연다(기존 파일은 덮어쓴다).
+     *
+     * @param path   출력 파일 경로
+     * @param format 출력 형식
+     * @param clock  시간 소스
+     * @return 실행기
+     * @throws UncheckedIOException 파일을 열 수 없는 경우
+     */
+    public static BufferedDryRunClickExecutor open(Path path, Format format, Clock clock) {
+        Objects.requireNonNull(path, "path");
+        try {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            return new BufferedDryRunClickExecutor(clock, channel, format);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Dry-Run 출력 파일을 열 수 없다. path=" + path, e);
+        }
+    }
+
+    @Override
+    public void execute(ClickAction action, ScreenPoint point) {
+        Objects.requireNonNull(action, "action");
+        Objects.requireNonNull(point, "point");
+
+        long epochMillis = clock.millis();
+
+        lock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("이미 닫힌 Dry-Run 실행기다.");
+            }
+            if (current.remaining() < maxRecordBytes) {
+                rotate();
+            }
+            if (format == Format.TEXT) {
+                encodeText(epochMillis, action, point);
+            } else {
+                encodeBinary(epochMillis, action, point);
+            }
+            recordCount++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지금까지 인코딩된 레코드 수를 반환한다.
+     *
+     * @return 레코드 수
+     */
+    public long recordCount() {
+        lock.lock();
+        try {
+            return recordCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 남은 버퍼를 모두 기록하고 채널을 닫는다(멱등).
+     *
+     * @throws IOException 기록 또는 닫기에 실패한 경우
+     */
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (current.position() > 0) {
+                filled.offer(current);
+            }
+            current = null;
+            filled.offer(END_OF_STREAM);
+        } finally {
+            lock.unlock();
+        }
+
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        channel.close();
+        IOException failure = writeFailure;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void rotate() {
+        filled.offer(current);
+
+        // 역할: writer가 버퍼를 돌려줄 때까지 대기한다(역압).
+        // - stop/resume interrupt로 레코드가 유실되지 않도록 대기는 끝까지 수행하고 플래그만 복원한다.
+        boolean interrupted = false;
+        ByteBuffer next = null;
+        while (next == null) {
+            try {
+                next = free.take();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        current = next;
+    }
+
+    private void writeLoop() {
+        while (true) {
+            ByteBuffer buffer;
+            try {
+                buffer = filled.poll(FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                // 역할: writer는 close(종료 표식)로만 종료한다.
+                continue;
+            }
+
+            if (buffer == END_OF_STREAM) {
+                return;
+            }
+            if (buffer == null) {
+                flushPartial();
+                continue;
+            }
+
+            write(buffer);
+            buffer.clear();
+            free.offer(buffer);
+        }
+    }
+
+    /**
+     * 일정 시간 동안 가득 차지 않은 버퍼도 주기적으로 내보낸다(저속 실행 시 지연 방지).
+     *
+     * <p>
+     * writer 스레드에서 부르므로 잠금을 기다리지 않는다. 실행 스레드가 잠금을 쥔 채 빈 버퍼를 기다리는 중이면
+     * 여기서 막혀 버퍼를 돌려주지 못해 서로 영원히 기다리게 된다. 잠금을 못 얻으면 이번 주기는 건너뛴다
+     * (실행 스레드가 잠금을 쥐고 있다면 어차피 기록이 진행 중이다).
+     * </p>
+     */
+    void flushPartial() {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            if (closed || current.position() == 0) {
+                return;
+            }
+            ByteBuffer next = free.poll();
+            if (next == null) {
+                return;
+            }
+            filled.offer(current);
+            current = next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(ByteBuffer buffer) {
+        if (writeFailure != null) {
+            return;
+        }
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            // 역할: 기록 실패는 close 시점에 호출자에게 전달한다(실행 루프는 막지 않는다).
+            writeFailure = e;
+        }
+    }
+
+    private void encodeText(long epochMillis, ClickAction action, ScreenPoint point) {
+        ByteBuffer b = current;
+        b.put(prefixCache.prefixFor(epochMillis));
+        b.put(ACTION_HEAD).put(BUTTON_NAMES[action.button().ordinal()]);
+        b.put(CLICK_COUNT);
+        putDecimal(b, action.clickCount());
+        b.put(HOLD_MILLIS);
+        putDecimal(b, action.holdMillis());
+        b.put(POINT_HEAD);
+        putDecimal(b, point.x());
+        b.put(POINT_Y);
+        putDecimal(b, point.y());
+        b.put(LINE_END);
+    }
+
+    private void encodeBinary(long epochMillis, ClickAction action, ScreenPoint point) {
+        ByteBuffer b = current;
+        b.putLong(epochMillis);
+        b.putInt(point.x());
+        b.putInt(point.y());
+        b.putLong(action.holdMillis());
+        b.putInt(action.clickCount());
+        b.put((byte) action.button().ordinal());
+        b.put((byte) 0).put((byte) 0).put((byte) 0);
+    }
+
+    /**
+     * 10진수를 ASCII로 기록한다(문자열 생성 없이).
+     */
+    private void putDecimal(ByteBuffer b, long value) {
+        if (value == 0) {
+            b.put((byte) '0');
+            return;
+        }
+        if (value == Long.MIN_VALUE) {
+            b.put(ascii(Long.toString(value)));
+            return;
+        }
+        if (value < 0) {
+            b.put((byte) '-');
+            value = -value;
+        }
+        int pos = digits.length;
+        while (value > 0) {
+            digits[--pos] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        b.put(digits, pos, digits.length - pos);
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[][] buttonNames() {
+        MouseButton[] buttons = MouseButton.values();
+        byte[][] names = new byte[buttons.length][];
+        for (MouseButton button : buttons) {
+            names[button.ordinal()] = ascii(button.name());
+        }
+        return names;
+    }
+}
@@ -1,6 +1,10 @@
 package com.preview.mousemacroapp.infra.hook;
 
 import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.DragAction;
+import com.preview.mousemacroapp.domain.action.KeyAction;
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.domain.action.ScrollAction;
 import com.preview.mousemacroapp.domain.point.ScreenPoint;
 import com.preview.mousemacroapp.service.ClickExecutor;
 
@@ -44,10 +48,41 @@ public final class DryRunClickExecutor implements ClickExecutor {
         Objects.requireNonNull(action, "action");
         Objects.requireNonNull(point, "point");
 
+        System.out.printf("[DRY-RUN] %s action=%s point=%s%n", kstNow(), action, point);
+    }
+
+    @Override
+    public void drag(DragAction action, ScreenPoint from) {
+        Objects.requireNonNull(action, "action");
+        Objects.requireNonNull(from, "from");
+
+        System.out.printf("[DRY-RUN] %s action=%s from=%s%n", kstNow(), action, from);
+    }
+
+    @Override
+    public void scroll(ScrollAction action, ScreenPoint at) {
+        Objects.requireNonNull(action, "action");
+        Objects.requireNonNull(at, "at");
+
+        System.out.printf("[DRY-RUN] %s action=%s point=%s%n", kstNow(), action, at);
+    }
+
+    @Override
+    public void key(KeyAction action) {
+        Objects.requireNonNull(action, "action");
+
+        System.out.printf("[DRY-RUN] %s action=%s%n", kstNow(), action);
+    }
+
+    @Override
+    public boolean supports(MacroAction action) {
+        Objects.requireNonNull(action, "action");
+        return true;
+    }
+
+    private String kstNow() {
         // 역할: 시간 포맷은 사람이 비교하기 쉽도록 KST(Asia/Seoul)로 통일한다.
         Instant now = Instant.now(clock);
-        String kstTime = ZonedDateTime.ofInstant(now, KST).format(KST_FORMAT);
-
-        System.out.printf("[DRY-RUN] %s action=%s point=%s%n", kstTime, action, point);
+        return ZonedDateTime.ofInstant(now, KST).format(KST_FORMAT);
     }
 }
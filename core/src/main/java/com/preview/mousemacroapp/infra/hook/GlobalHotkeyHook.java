@@ -0,0 +1,155 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.github.kwhat.jnativehook.keyboard.NativeKeyEvent;
+import com.github.kwhat.jnativehook.keyboard.NativeKeyListener;
+import com.preview.mousemacroapp.debug.DebugLog;
+import com.preview.mousemacroapp.domain.hotkey.HotkeyAction;
+import com.preview.mousemacroapp.domain.hotkey.HotkeyLatency;
+import com.preview.mousemacroapp.domain.hotkey.HotkeyMatcher;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 전역 단축키 훅.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>다른 앱에 포커스가 있어도 키 입력을 받아 {@link HotkeyMatcher}로 판단한다.</li>
+ *     <li>판단은 훅 디스패치 스레드에서 O(1)로 끝내고, 동작 처리는 주입된 실행기로 넘긴다
+ *     (훅 스레드가 UI/서비스 처리 시간에 묶이지 않게 한다).</li>
+ *     <li>입력 수신부터 동작 처리 완료까지의 지연 시간을 측정하여 {@link #latency()}로 노출한다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>수정키 단독 입력은 무시한다(조합의 일부로만 의미가 있다).</li>
+ *     <li>시작 전 전역 훅 등록은 호출자 책임이다({@link NativeHookBootstrap#ready()} 이후 {@link #start()}).</li>
+ *     <li>처리 실행기가 거부하거나 처리기가 예외를 던져도 훅은 계속 동작한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class GlobalHotkeyHook {
+
+    private final JNativeHookFacade facade;
+    private final HotkeyMatcher matcher;
+    private final Executor dispatchExecutor;
+    private final Consumer<HotkeyAction> handler;
+    private final NativeKeyListener listener = new MatchingKeyListener();
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    private volatile boolean started;
+
+    /**
+     * 단축키 훅을 생성한다. 리스너 연결은 {@link #start()}에서 수행한다.
+     *
+     * @param facade           전역 훅 파사드
+     * @param matcher          컴파일된 단축키 매처
+     * @param dispatchExecutor 동작 처리 실행기(예: UI 스레드 실행기)
+     * @param handler          동작 처리기
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    public GlobalHotkeyHook(JNativeHookFacade facade,
+                            HotkeyMatcher matcher,
+                            Executor dispatchExecutor,
+                            Consumer<HotkeyAction> handler) {
+        this.facade = Objects.requireNonNull(facade, "facade");
+        this.matcher = Objects.requireNonNull(matcher, "matcher");
+        this.dispatchExecutor = Objects.requireNonNull(dispatchExecutor, "dispatchExecutor");
+        this.handler = Objects.requireNonNull(handler, "handler");
+    }
+
+    /**
+     * 키 리스너를 연결한다(멱등).
+     */
+    public synchronized void start() {
+        if (started) {
+            return;
+        }
+        facade.addKeyListener(listener);
+        started = true;
+        DebugLog.log("HOTKEY", () -> "hotkeys started states=" + matcher.stateCount());
+    }
+
+    /**
+     * 키 리스너를 해제한다(멱등). 전역 훅 등록 해제는 하지 않는다.
+     */
+    public synchronized void stop() {
+        if (!started) {
+            return;
+        }
+        facade.removeKeyListener(listener);
+        started = false;
+        DebugLog.log("HOTKEY", () -> "hotkeys stopped latency=" + latency());
+    }
+
+    /**
+     * 현재까지의 단축키 처리 지연 시간 통계를 반환한다.
+     *
+     * @return 지연 시간 스냅샷
+     */
+    public HotkeyLatency latency() {
+        return new HotkeyLatency(count.sum(), totalNanos.sum(), maxNanos.get());
+    }
+
+    /**
+     * 키 입력 1건을 처리한다(테스트/디스패처 공용 진입점).
+     *
+     * @param nativeModifiers JNativeHook 수정키 마스크
+     * @param keyCode         JNativeHook 키 코드
+     */
+    void onKeyPressed(int nativeModifiers, int keyCode) {
+        if (NativeKeyNames.isModifierKey(keyCode)) {
+            return;
+        }
+        long received = System.nanoTime();
+
+        HotkeyAction action;
+        // 역할: 매처는 상태를 가지므로, 디스패처가 여러 스레드로 호출하더라도 순서대로 판단한다.
+        synchronized (matcher) {
+            action = matcher.onKeyPressed(NativeKeyNames.canonicalModifiers(nativeModifiers), keyCode, received);
+        }
+        if (action == null) {
+            return;
+        }
+
+        try {
+            dispatchExecutor.execute(() -> dispatch(action, received));
+        } catch (RejectedExecutionException ex) {
+            DebugLog.log("HOTKEY", () -> "dispatch rejected action=" + action);
+        }
+    }
+
+    private void dispatch(HotkeyAction action, long received) {
+        try {
+            handler.accept(action);
+        } catch (RuntimeException ex) {
+            DebugLog.log("HOTKEY", () -> "handler failed action=" + action + " msg=" + ex.getMessage());
+        } finally {
+            long elapsed = System.nanoTime() - received;
+            count.increment();
+            totalNanos.add(elapsed);
+            long current = maxNanos.get();
+            while (elapsed > current && !maxNanos.compareAndSet(current, elapsed)) {
+                current = maxNanos.get();
+            }
+            DebugLog.log("HOTKEY", () -> "action=" + action + " latencyUs=" + elapsed / 1_000L);
+        }
+    }
+
+    private final class MatchingKeyListener implements NativeKeyListener {
+
+        @Override
+        public void nativeKeyPressed(NativeKeyEvent e) {
+            onKeyPressed(e.getModifiers(), e.getKeyCode());
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.github.kwhat.jnativehook.GlobalScreen;
+import com.github.kwhat.jnativehook.NativeHookException;
+import com.github.kwhat.jnativehook.keyboard.NativeKeyListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseMotionListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseWheelListener;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * JNativeHook(GlobalScreen) 접근을 감싼 파사드.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>전역 훅 등록/해제 및 리스너 연결을 단일 책임으로 통제한다.</li>
+ *     <li>외부 라이브러리 의존을 경계로 고정하여, 상위 계층(서비스/UI)에 누수되지 않게 한다.</li>
+ * </ul>
+ */
+public interface JNativeHookFacade {
+
+    void register() throws NativeHookException;
+
+    void unregister() throws NativeHookException;
+
+    void addKeyListener(NativeKeyListener listener);
+
+    void removeKeyListener(NativeKeyListener listener);
+
+    void addMouseListener(NativeMouseListener listener);
+
+    void removeMouseListener(NativeMouseListener listener);
+
+    /**
+     * 마우스 이동/드래그 리스너를 연결한다.
+     *
+     * @param listener 리스너
+     * @since 0.9
+     */
+    void addMouseMotionListener(NativeMouseMotionListener listener);
+
+    /**
+     * 마우스 이동/드래그 리스너를 해제한다.
+     *
+     * @param listener 리스너
+     * @since 0.9
+     */
+    void removeMouseMotionListener(NativeMouseMotionListener listener);
+
+    /**
+     * 마우스 휠 리스너를 연결한다.
+     *
+     * @param listener 리스너
+     * @since 0.9
+     */
+    void addMouseWheelListener(NativeMouseWheelListener listener);
+
+    /**
+     * 마우스 휠 리스너를 해제한다.
+     *
+     * @param listener 리스너
+     * @since 0.9
+     */
+    void removeMouseWheelListener(NativeMouseWheelListener listener);
+
+    /**
+     * 훅 스레드에서 직접 호출되는 관찰자를 연결한다.
+     *
+     * @param tap 관찰자(무할당/비차단이어야 한다)
+     * @since 0.9
+     */
+    void addInputTap(NativeInputTap tap);
+
+    /**
+     * 훅 스레드 관찰자를 해제한다.
+     *
+     * @param tap 관찰자
+     * @since 0.9
+     */
+    void removeInputTap(NativeInputTap tap);
+
+    boolean isRegistered();
+
+    /**
+     * 기본 구현체.
+     *
+     * <p>
+     * 리스너는 {@link GlobalScreen}에 직접 붙이지 않고 {@link NativeEventMultiplexer}를 거친다.
+     * 등록 시 라이브러리 디스패처를 훅 스레드 직접 실행으로 교체하여,
+     * 훅 스레드는 구독 확인과 처리 실행기 위임만 하고 리스너 처리 시간에 묶이지 않는다.
+     * </p>
+     */
+    final class Default implements JNativeHookFacade {
+
+        // 역할: GlobalScreen은 프로세스 전역 상태이므로, 등록 상태/잠금도 인스턴스가 아닌 클래스 단위로 공유한다.
+        private static final Object LOCK = new Object();
+
+        private static volatile boolean registered;
+
+        private final NativeEventMultiplexer multiplexer;
+
+        public Default() {
+            this(NativeEventMultiplexer.DispatchMode.ORDERED);
+        }
+
+        /**
+         * 리스너 호출 방식을 지정하여 생성한다.
+         *
+         * @param dispatchMode 리스너 호출 방식
+         * @throws NullPointerException dispatchMode가 null인 경우
+         * @since 0.9
+         */
+        public Default(NativeEventMultiplexer.DispatchMode dispatchMode) {
+            this.multiplexer = new NativeEventMultiplexer(dispatchMode);
+            // JNativeHook 내부 로거가 콘솔을 오염시키는 것을 막는다.
+            Logger logger = Logger.getLogger(GlobalScreen.class.getPackage().getName());
+            logger.setLevel(Level.OFF);
+            logger.setUseParentHandlers(false);
+        }
+
+        @Override
+        public void register() throws NativeHookException {
+            if (registered) {
+                return;
+            }
+            // 역할: 백그라운드 초기화와 첫 캡처가 겹쳐도 네이티브 등록은 1회만 수행한다.
+            synchronized (LOCK) {
+                if (registered) {
+                    return;
+                }
+                NativeEventMultiplexer.installInlineDispatcher();
+                GlobalScreen.registerNativeHook();
+                registered = true;
+            }
+        }
+
+        @Override
+        public void unregister() throws NativeHookException {
+            synchronized (LOCK) {
+                if (!registered) {
+                    return;
+                }
+                GlobalScreen.unregisterNativeHook();
+                registered = false;
+            }
+        }
+
+        @Override
+        public void addKeyListener(NativeKeyListener listener) {
+            multiplexer.addKeyListener(listener);
+        }
+
+        @Override
+        public void removeKeyListener(NativeKeyListener listener) {
+            multiplexer.removeKeyListener(listener);
+        }
+
+        @Override
+        public void addMouseListener(NativeMouseListener listener) {
+            multiplexer.addMouseListener(listener);
+        }
+
+        @Override
+        public void removeMouseListener(NativeMouseListener listener) {
+            multiplexer.removeMouseListener(listener);
+        }
+
+        @Override
+        public void addMouseMotionListener(NativeMouseMotionListener listener) {
+            multiplexer.addMouseMotionListener(listener);
+        }
+
+        @Override
+        public void removeMouseMotionListener(NativeMouseMotionListener listener) {
+            multiplexer.removeMouseMotionListener(listener);
+        }
+
+        @Override
+        public void addMouseWheelListener(NativeMouseWheelListener listener) {
+            multiplexer.addMouseWheelListener(listener);
+        }
+
+        @Override
+        public void removeMouseWheelListener(NativeMouseWheelListener listener) {
+            multiplexer.removeMouseWheelListener(listener);
+        }
+
+        @Override
+        public void addInputTap(NativeInputTap tap) {
+            multiplexer.addInputTap(tap);
+        }
+
+        @Override
+        public void removeInputTap(NativeInputTap tap) {
+            multiplexer.removeInputTap(tap);
+        }
+
+        @Override
+        public boolean isRegistered() {
+            return registered;
+        }
+
+        /**
+         * 이벤트 다중화기를 반환한다(전달/필터 통계 확인용).
+         *
+         * @return 다중화기
+         * @since 0.9
+         */
+        public NativeEventMultiplexer multiplexer() {
+            return multiplexer;
+        }
+    }
+}
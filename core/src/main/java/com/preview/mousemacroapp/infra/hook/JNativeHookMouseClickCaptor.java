@@ -19,23 +19,36 @@ import java.util.concurrent.*;
  * <ul>
  *     <li>다음 클릭 1회를 캡처하면 즉시 리스너를 해제한다.</li>
  *     <li>취소/타임아웃을 지원한다.</li>
+ *     <li>전역 훅 준비 Future가 주어지면, 준비 완료 후에 리스너를 연결한다(UI 스레드 비차단).</li>
  * </ul>
  */
 public final class JNativeHookMouseClickCaptor implements MouseClickCaptor {
 
     private final JNativeHookFacade facade;
     private final ScheduledExecutorService scheduler;
+    private final CompletableFuture<Void> hookReady;
 
     private volatile CompletableFuture<CaptureResult<ScreenPoint>> inFlight;
     private volatile NativeMouseListener inFlightListener;
 
     public JNativeHookMouseClickCaptor(JNativeHookFacade facade) {
-        this.facade = Objects.requireNonNull(facade, "facade");
-        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        this(facade, CompletableFuture.completedFuture(null));
+    }
+
+    /**
+     * 백그라운드 전역 훅 준비({@link NativeHookBootstrap#ready()})와 연결하는 생성자.
+     *
+     * @param facade    전역 훅 파사드
+     * @param hookReady 전역 훅 준비 완료 Future
+     * @throws NullPointerException 인자가 null인 경우
+     * @since 0.9
+     */
+    public JNativeHookMouseClickCaptor(JNativeHookFacade facade, CompletableFuture<Void> hookReady) {
+        this(facade, Executors.newSingleThreadScheduledExecutor(r -> {
             Thread t = new Thread(r, "mouse-click-captor-timeout");
             t.setDaemon(true);
             return t;
-        });
+        }), hookReady);
     }
 
     /**
@@ -46,8 +59,15 @@ public final class JNativeHookMouseClickCaptor implements MouseClickCaptor {
      * - 테스트 종료 시 스케줄러 종료(shutdownNow) 등을 테스트 코드가 책임질 수 있게 한다.</p>
      */
     JNativeHookMouseClickCaptor(JNativeHookFacade facade, ScheduledExecutorService scheduler) {
+        this(facade, scheduler, CompletableFuture.completedFuture(null));
+    }
+
+    JNativeHookMouseClickCaptor(JNativeHookFacade facade,
+                                ScheduledExecutorService scheduler,
+                                CompletableFuture<Void> hookReady) {
         this.facade = Objects.requireNonNull(facade, "facade");
         this.scheduler = Objects.requireNonNull(scheduler, "scheduler");
+        this.hookReady = Objects.requireNonNull(hookReady, "hookReady");
     }
 
     @Override
@@ -61,13 +81,53 @@ public final class JNativeHookMouseClickCaptor implements MouseClickCaptor {
         CompletableFuture<CaptureResult<ScreenPoint>> future = new CompletableFuture<>();
         inFlight = future;
 
+        if (!hookReady.isDone()) {
+            // 역할: 백그라운드 준비가 끝나지 않았다면 호출 스레드(UI)를 막지 않고 완료 시점에 이어서 연결한다.
+            DebugLog.log("CAPTURE", () -> "waiting for hook init");
+        }
+        hookReady.whenComplete((v, ex) -> {
+            if (ex != null) {
+                // 역할: 네이티브 로드 실패(LinkageError 포함)도 캡처 실패로 수렴시켜 Future가 남지 않게 한다.
+                Throwable cause = (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+                DebugLog.log("CAPTURE", () -> "hook init failed: " + cause);
+                completeIfNotDone(future, CaptureResult.failed("전역 훅 준비 실패: " + cause.getMessage()));
+                return;
+            }
+            arm(future, timeout);
+        });
+
+        return future;
+    }
+
+    @Override
+    public void cancel() {
+        CompletableFuture<CaptureResult<ScreenPoint>> future = inFlight;
+        NativeMouseListener listener = inFlightListener;
+
+        if (future == null || future.isDone()) {
+            return;
+        }
+
+        DebugLog.log("CAPTURE", () -> "cancel requested");
+        if (listener != null) {
+            cleanupListener(listener);
+        }
+        completeIfNotDone(future, CaptureResult.cancelled());
+    }
+
+    private void arm(CompletableFuture<CaptureResult<ScreenPoint>> future, Duration timeout) {
+        // 역할: 준비 대기 중 취소된 경우 리스너를 연결하지 않는다.
+        if (future.isDone()) {
+            return;
+        }
+
         // 역할: 캡처는 전역 훅 등록이 전제이므로, 필요 시 여기서 보장한다.
         try {
             facade.register();
         } catch (NativeHookException e) {
             DebugLog.log("CAPTURE", () -> "register failed: " + e.getMessage());
             future.complete(CaptureResult.failed("전역 훅 등록 실패: " + e.getMessage()));
-            return future;
+            return;
         }
 
         DebugLog.log("CAPTURE", () -> "captureNextClick started timeout=" + timeout);
@@ -102,24 +162,6 @@ public final class JNativeHookMouseClickCaptor implements MouseClickCaptor {
                 DebugLog.log("CAPTURE", () -> "failed ex=" + ex.getClass().getSimpleName() + " msg=" + ex.getMessage());
             }
         });
-
-        return future;
-    }
-
-    @Override
-    public void cancel() {
-        CompletableFuture<CaptureResult<ScreenPoint>> future = inFlight;
-        NativeMouseListener listener = inFlightListener;
-
-        if (future == null || future.isDone()) {
-            return;
-        }
-
-        DebugLog.log("CAPTURE", () -> "cancel requested");
-        if (listener != null) {
-            cleanupListener(listener);
-        }
-        completeIfNotDone(future, CaptureResult.cancelled());
     }
 
     private void completeIfNotDone(CompletableFuture<CaptureResult<ScreenPoint>> future,
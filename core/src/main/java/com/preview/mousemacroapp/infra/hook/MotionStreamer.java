@@ -0,0 +1,96 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.preview.mousemacroapp.domain.motion.TrajectoryBuffer;
+import com.preview.mousemacroapp.service.replay.DeadlineTimer;
+
+/**
+ * 경로 버퍼의 점과 휠 칸을 절대 마감 시각에 맞춰 {@link RobotMouse}로 내보내는 공통 시간 엔진.
+ * 키 입력 간격도 같은 마감 대기를 쓴다.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>마감은 시작 시각 + 점 시각(또는 칸 순번 × 간격)으로 계산한다. 명령 지연이 다음 점으로 누적되지 않는다.</li>
+ *     <li>원시 버퍼를 읽어 {@link RobotMouse#move(int, int)}로 내보내므로 점마다 할당하지 않는다.</li>
+ *     <li>대기 중 인터럽트되면 인터럽트 플래그를 복원하고 false를 반환한다(남은 점 처리는 호출자 몫).</li>
+ *     <li>단일 스레드(클릭 실행 스레드)에서만 사용한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+final class MotionStreamer {
+
+    private final RobotMouse robotMouse;
+    private final DeadlineTimer timer;
+
+    private long commands;
+    private long maxLateness;
+
+    MotionStreamer(RobotMouse robotMouse, DeadlineTimer timer) {
+        this.robotMouse = robotMouse;
+        this.timer = timer;
+    }
+
+    /**
+     * 버퍼의 점을 차례로 내보낸다.
+     *
+     * @return 끝까지 내보냈으면 true, 인터럽트로 멈췄으면 false
+     */
+    boolean play(TrajectoryBuffer buffer) {
+        long origin = timer.nanoTime();
+        for (int i = 0; i < buffer.size(); i++) {
+            if (!awaitDeadline(origin + buffer.offsetNanos(i))) {
+                return false;
+            }
+            robotMouse.move(buffer.x(i), buffer.y(i));
+            commands++;
+        }
+        return true;
+    }
+
+    /**
+     * 휠을 한 칸씩 간격을 두고 굴린다(첫 칸은 바로).
+     *
+     * @return 끝까지 굴렸으면 true, 인터럽트로 멈췄으면 false
+     */
+    boolean wheel(int notches, long intervalNanos) {
+        int direction = Integer.signum(notches);
+        int count = Math.abs(notches);
+        long origin = timer.nanoTime();
+        for (int i = 0; i < count; i++) {
+            if (i > 0 && !awaitDeadline(origin + i * intervalNanos)) {
+                return false;
+            }
+            robotMouse.wheel(direction);
+            commands++;
+        }
+        return true;
+    }
+
+    long nanoTime() {
+        return timer.nanoTime();
+    }
+
+    long commandCount() {
+        return commands;
+    }
+
+    long maxLatenessNanos() {
+        return maxLateness;
+    }
+
+    /**
+     * 마감 시각까지 기다린다(다른 입력 종류도 같은 시간 엔진을 쓰도록 공개).
+     *
+     * @return 기다렸으면 true, 인터럽트되었으면 false(플래그 복원)
+     */
+    boolean awaitDeadline(long deadline) {
+        try {
+            timer.awaitDeadline(deadline);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        maxLateness = Math.max(maxLateness, timer.nanoTime() - deadline);
+        return true;
+    }
+}
@@ -0,0 +1,522 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.github.kwhat.jnativehook.GlobalScreen;
+import com.github.kwhat.jnativehook.NativeInputEvent;
+import com.github.kwhat.jnativehook.keyboard.NativeKeyEvent;
+import com.github.kwhat.jnativehook.keyboard.NativeKeyListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseEvent;
+import com.github.kwhat.jnativehook.mouse.NativeMouseListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseMotionListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseWheelEvent;
+import com.github.kwhat.jnativehook.mouse.NativeMouseWheelListener;
+import com.preview.mousemacroapp.debug.DebugLog;
+
+import java.util.Arrays;
+import java.util.EventListener;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 전역 입력 이벤트를 구독자에게 나눠 주는 다중화기.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>구독자는 종류(키/버튼/이동/휠)와 함께 하나의 copy-on-write 배열에 보관한다.</li>
+ *     <li>{@link GlobalScreen}에는 종류별로 다리(bridge) 리스너 1개만 연결하며, 구독자가 있는 종류만 연결한다.</li>
+ *     <li>훅 스레드에서는 구독 비트 확인 후 처리 실행기에 넘기기만 한다.
+ *     구독자가 없는 종류는 작업 객체를 만들기 전에 버린다.</li>
+ *     <li>구독자 호출은 처리 실행기(순서 보장 단일 스레드 또는 가상 스레드)에서 수행한다.</li>
+ *     <li>예외적으로 {@link NativeInputTap}은 훅 스레드에서 직접 호출한다(기록기처럼 무할당/비차단인 관찰자 전용).</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>구독 변경은 드물고 이벤트는 잦으므로, 변경 시 배열을 복사하고 읽기는 잠금 없이 한다.</li>
+ *     <li>이벤트는 전달 시점의 배열 스냅샷 기준으로 전달한다(전달 중 해제된 구독자도 그 이벤트는 받는다).</li>
+ *     <li>한 구독자의 예외는 기록만 하고 다른 구독자 전달을 막지 않는다.</li>
+ *     <li>{@link DispatchMode#VIRTUAL}은 이벤트 간 순서를 보장하지 않는다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class NativeEventMultiplexer {
+
+    /**
+     * 구독자 호출 방식.
+     */
+    public enum DispatchMode {
+        /** 전용 단일 스레드에서 수신 순서대로 호출한다(기본). */
+        ORDERED,
+        /** 이벤트마다 가상 스레드에서 호출한다(순서 미보장, 느린 구독자끼리 서로 막지 않음). */
+        VIRTUAL
+    }
+
+    static final int KEY = 1;
+    static final int BUTTON = 1 << 1;
+    static final int MOTION = 1 << 2;
+    static final int WHEEL = 1 << 3;
+    private static final int ALL_TYPES = KEY | BUTTON | MOTION | WHEEL;
+    private static final int[] TYPES = {KEY, BUTTON, MOTION, WHEEL};
+
+    private static final Subscriber[] NONE = new Subscriber[0];
+    private static final NativeInputTap[] NO_TAPS = new NativeInputTap[0];
+
+    private final ScreenPort screen;
+    private final Executor handlerExecutor;
+    private final Bridge bridge = new Bridge();
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder filtered = new LongAdder();
+
+    private volatile Subscriber[] subscribers = NONE;
+    private volatile NativeInputTap[] taps = NO_TAPS;
+    private volatile int subscribedTypes;
+
+    /**
+     * {@link GlobalScreen}에 연결하는 다중화기를 생성한다.
+     *
+     * @param mode 구독자 호출 방식
+     * @throws NullPointerException mode가 null인 경우
+     */
+    public NativeEventMultiplexer(DispatchMode mode) {
+        this(ScreenPort.GLOBAL, newHandlerExecutor(Objects.requireNonNull(mode, "mode")));
+    }
+
+    /**
+     * 연결 대상과 처리 실행기를 주입한다(테스트/조립용).
+     *
+     * @param screen          다리 리스너 연결 대상
+     * @param handlerExecutor 구독자 호출 실행기
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    NativeEventMultiplexer(ScreenPort screen, Executor handlerExecutor) {
+        this.screen = Objects.requireNonNull(screen, "screen");
+        this.handlerExecutor = Objects.requireNonNull(handlerExecutor, "handlerExecutor");
+    }
+
+    /**
+     * 라이브러리 기본 디스패처(별도 스레드 + 전체 리스너 순회)를 훅 스레드 직접 실행으로 교체한다.
+     *
+     * <p>
+     * 교체 후 훅 스레드는 다리 리스너의 구독 확인/전달 위임만 수행한다.
+     * 라이브러리는 등록 해제 시 디스패처를 종료하고, 종료된 디스패처를 등록 시 기본값으로 되돌리므로
+     * 매 등록 직전에 호출한다({@link GlobalScreen} 클래스 초기화, 즉 네이티브 로드를 유발한다).
+     * </p>
+     */
+    static void installInlineDispatcher() {
+        GlobalScreen.setEventDispatcher(new InlineExecutorService());
+    }
+
+    public void addKeyListener(NativeKeyListener listener) {
+        add(new KeySubscriber(Objects.requireNonNull(listener, "listener")));
+    }
+
+    public void removeKeyListener(NativeKeyListener listener) {
+        remove(KEY, Objects.requireNonNull(listener, "listener"));
+    }
+
+    public void addMouseListener(NativeMouseListener listener) {
+        add(new ButtonSubscriber(Objects.requireNonNull(listener, "listener")));
+    }
+
+    public void removeMouseListener(NativeMouseListener listener) {
+        remove(BUTTON, Objects.requireNonNull(listener, "listener"));
+    }
+
+    public void addMouseMotionListener(NativeMouseMotionListener listener) {
+        add(new MotionSubscriber(Objects.requireNonNull(listener, "listener")));
+    }
+
+    public void removeMouseMotionListener(NativeMouseMotionListener listener) {
+        remove(MOTION, Objects.requireNonNull(listener, "listener"));
+    }
+
+    public void addMouseWheelListener(NativeMouseWheelListener listener) {
+        add(new WheelSubscriber(Objects.requireNonNull(listener, "listener")));
+    }
+
+    public void removeMouseWheelListener(NativeMouseWheelListener listener) {
+        remove(WHEEL, Objects.requireNonNull(listener, "listener"));
+    }
+
+    /**
+     * 훅 스레드 관찰자를 연결한다.
+     *
+     * @param tap 관찰자
+     * @throws NullPointerException tap이 null인 경우
+     */
+    public synchronized void addInputTap(NativeInputTap tap) {
+        Objects.requireNonNull(tap, "tap");
+        NativeInputTap[] current = taps;
+        NativeInputTap[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = tap;
+        publish(subscribers, next);
+    }
+
+    /**
+     * 훅 스레드 관찰자를 해제한다. 이미 해제된 경우 무시한다.
+     *
+     * @param tap 관찰자
+     * @throws NullPointerException tap이 null인 경우
+     */
+    public synchronized void removeInputTap(NativeInputTap tap) {
+        Objects.requireNonNull(tap, "tap");
+        NativeInputTap[] current = taps;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == tap) {
+                NativeInputTap[] next = new NativeInputTap[current.length - 1];
+                System.arraycopy(current, 0, next, 0, i);
+                System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                publish(subscribers, next.length == 0 ? NO_TAPS : next);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 처리 실행기로 넘긴 이벤트 수를 반환한다.
+     *
+     * @return 전달 이벤트 수
+     */
+    public long dispatchedCount() {
+        return dispatched.sum();
+    }
+
+    /**
+     * 구독자가 없어 훅 스레드에서 바로 버린 이벤트 수를 반환한다.
+     *
+     * @return 버린 이벤트 수
+     */
+    public long filteredCount() {
+        return filtered.sum();
+    }
+
+    /**
+     * 다리 리스너를 반환한다(테스트에서 훅 스레드 호출을 흉내 내기 위함).
+     *
+     * @return 다리 리스너
+     */
+    Bridge bridge() {
+        return bridge;
+    }
+
+    private synchronized void add(Subscriber subscriber) {
+        Subscriber[] current = subscribers;
+        Subscriber[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = subscriber;
+        publish(next, taps);
+    }
+
+    private synchronized void remove(int type, EventListener listener) {
+        Subscriber[] current = subscribers;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].type == type && current[i].listener == listener) {
+                Subscriber[] next = new Subscriber[current.length - 1];
+                System.arraycopy(current, 0, next, 0, i);
+                System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                publish(next, taps);
+                return;
+            }
+        }
+    }
+
+    private void publish(Subscriber[] next, NativeInputTap[] nextTaps) {
+        int before = attachedTypes(subscribers, taps);
+        int after = attachedTypes(next, nextTaps);
+        // 역할: 새 구독 종류는 배열을 먼저 공개한 뒤 연결하고, 사라진 종류는 연결을 먼저 끊는다.
+        for (int type : TYPES) {
+            if ((before & type) != 0 && (after & type) == 0) {
+                screen.detach(type, bridge);
+            }
+        }
+        subscribers = next.length == 0 ? NONE : next;
+        taps = nextTaps;
+        subscribedTypes = attachedTypes(next, NO_TAPS);
+        for (int type : TYPES) {
+            if ((before & type) == 0 && (after & type) != 0) {
+                screen.attach(type, bridge);
+            }
+        }
+    }
+
+    private static int attachedTypes(Subscriber[] subs, NativeInputTap[] tapArray) {
+        int types = tapArray.length == 0 ? 0 : ALL_TYPES;
+        for (Subscriber s : subs) {
+            types |= s.type;
+        }
+        return types;
+    }
+
+    private void fanOut(int type, NativeInputEvent event) {
+        for (NativeInputTap tap : taps) {
+            try {
+                tap.onNativeEvent(event);
+            } catch (RuntimeException ex) {
+                DebugLog.log("HOOK", () -> "tap failed id=" + event.getID() + " msg=" + ex.getMessage());
+            }
+        }
+        if ((subscribedTypes & type) == 0) {
+            filtered.increment();
+            return;
+        }
+        Subscriber[] snapshot = subscribers;
+        try {
+            handlerExecutor.execute(() -> deliver(snapshot, type, event));
+            dispatched.increment();
+        } catch (RejectedExecutionException ex) {
+            DebugLog.log("HOOK", () -> "event dispatch rejected id=" + event.getID());
+        }
+    }
+
+    private static void deliver(Subscriber[] snapshot, int type, NativeInputEvent event) {
+        for (Subscriber s : snapshot) {
+            if (s.type != type) {
+                continue;
+            }
+            try {
+                s.deliver(event);
+            } catch (RuntimeException ex) {
+                DebugLog.log("HOOK", () -> "listener failed id=" + event.getID() + " msg=" + ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 호출 방식에 맞는 처리 실행기를 생성한다.
+     *
+     * @param mode 구독자 호출 방식
+     * @return 처리 실행기(데몬/가상 스레드)
+     */
+    static Executor newHandlerExecutor(DispatchMode mode) {
+        return switch (mode) {
+            // 역할: 무제한 큐이므로 훅 스레드는 넣기만 하고 대기하지 않는다.
+            case ORDERED -> new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(), task -> {
+                Thread t = new Thread(task, "native-event-dispatch");
+                t.setDaemon(true);
+                return t;
+            });
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("native-event-", 0).factory());
+        };
+    }
+
+    /**
+     * 다리 리스너 연결 대상.
+     */
+    interface ScreenPort {
+
+        ScreenPort GLOBAL = new ScreenPort() {
+            @Override
+            public void attach(int type, Bridge bridge) {
+                switch (type) {
+                    case KEY -> GlobalScreen.addNativeKeyListener(bridge);
+                    case BUTTON -> GlobalScreen.addNativeMouseListener(bridge);
+                    case MOTION -> GlobalScreen.addNativeMouseMotionListener(bridge);
+                    case WHEEL -> GlobalScreen.addNativeMouseWheelListener(bridge);
+                    default -> throw new IllegalArgumentException("알 수 없는 이벤트 종류다. type=" + type);
+                }
+            }
+
+            @Override
+            public void detach(int type, Bridge bridge) {
+                switch (type) {
+                    case KEY -> GlobalScreen.removeNativeKeyListener(bridge);
+                    case BUTTON -> GlobalScreen.removeNativeMouseListener(bridge);
+                    case MOTION -> GlobalScreen.removeNativeMouseMotionListener(bridge);
+                    case WHEEL -> GlobalScreen.removeNativeMouseWheelListener(bridge);
+                    default -> throw new IllegalArgumentException("알 수 없는 이벤트 종류다. type=" + type);
+                }
+            }
+        };
+
+        void attach(int type, Bridge bridge);
+
+        void detach(int type, Bridge bridge);
+    }
+
+    /**
+     * 훅 스레드에서 호출되는 다리 리스너. 구독 확인과 위임만 한다.
+     */
+    final class Bridge implements NativeKeyListener, NativeMouseListener,
+            NativeMouseMotionListener, NativeMouseWheelListener {
+
+        @Override
+        public void nativeKeyTyped(NativeKeyEvent e) {
+            fanOut(KEY, e);
+        }
+
+        @Override
+        public void nativeKeyPressed(NativeKeyEvent e) {
+            fanOut(KEY, e);
+        }
+
+        @Override
+        public void nativeKeyReleased(NativeKeyEvent e) {
+            fanOut(KEY, e);
+        }
+
+        @Override
+        public void nativeMouseClicked(NativeMouseEvent e) {
+            fanOut(BUTTON, e);
+        }
+
+        @Override
+        public void nativeMousePressed(NativeMouseEvent e) {
+            fanOut(BUTTON, e);
+        }
+
+        @Override
+        public void nativeMouseReleased(NativeMouseEvent e) {
+            fanOut(BUTTON, e);
+        }
+
+        @Override
+        public void nativeMouseMoved(NativeMouseEvent e) {
+            fanOut(MOTION, e);
+        }
+
+        @Override
+        public void nativeMouseDragged(NativeMouseEvent e) {
+            fanOut(MOTION, e);
+        }
+
+        @Override
+        public void nativeMouseWheelMoved(NativeMouseWheelEvent e) {
+            fanOut(WHEEL, e);
+        }
+    }
+
+    private abstract static sealed class Subscriber
+            permits KeySubscriber, ButtonSubscriber, MotionSubscriber, WheelSubscriber {
+
+        final int type;
+        final EventListener listener;
+
+        Subscriber(int type, EventListener listener) {
+            this.type = type;
+            this.listener = listener;
+        }
+
+        abstract void deliver(NativeInputEvent event);
+    }
+
+    private static final class KeySubscriber extends Subscriber {
+
+        KeySubscriber(NativeKeyListener listener) {
+            super(KEY, listener);
+        }
+
+        @Override
+        void deliver(NativeInputEvent event) {
+            NativeKeyListener l = (NativeKeyListener) listener;
+            NativeKeyEvent e = (NativeKeyEvent) event;
+            switch (e.getID()) {
+                case NativeKeyEvent.NATIVE_KEY_PRESSED -> l.nativeKeyPressed(e);
+                case NativeKeyEvent.NATIVE_KEY_RELEASED -> l.nativeKeyReleased(e);
+                case NativeKeyEvent.NATIVE_KEY_TYPED -> l.nativeKeyTyped(e);
+                default -> {
+                }
+            }
+        }
+    }
+
+    private static final class ButtonSubscriber extends Subscriber {
+
+        ButtonSubscriber(NativeMouseListener listener) {
+            super(BUTTON, listener);
+        }
+
+        @Override
+        void deliver(NativeInputEvent event) {
+            NativeMouseListener l = (NativeMouseListener) listener;
+            NativeMouseEvent e = (NativeMouseEvent) event;
+            switch (e.getID()) {
+                case NativeMouseEvent.NATIVE_MOUSE_PRESSED -> l.nativeMousePressed(e);
+                case NativeMouseEvent.NATIVE_MOUSE_RELEASED -> l.nativeMouseReleased(e);
+                case NativeMouseEvent.NATIVE_MOUSE_CLICKED -> l.nativeMouseClicked(e);
+                default -> {
+                }
+            }
+        }
+    }
+
+    private static final class MotionSubscriber extends Subscriber {
+
+        MotionSubscriber(NativeMouseMotionListener listener) {
+            super(MOTION, listener);
+        }
+
+        @Override
+        void deliver(NativeInputEvent event) {
+            NativeMouseMotionListener l = (NativeMouseMotionListener) listener;
+            NativeMouseEvent e = (NativeMouseEvent) event;
+            if (e.getID() == NativeMouseEvent.NATIVE_MOUSE_DRAGGED) {
+                l.nativeMouseDragged(e);
+            } else {
+                l.nativeMouseMoved(e);
+            }
+        }
+    }
+
+    private static final class WheelSubscriber extends Subscriber {
+
+        WheelSubscriber(NativeMouseWheelListener listener) {
+            super(WHEEL, listener);
+        }
+
+        @Override
+        void deliver(NativeInputEvent event) {
+            ((NativeMouseWheelListener) listener).nativeMouseWheelMoved((NativeMouseWheelEvent) event);
+        }
+    }
+
+    /**
+     * 호출 스레드(훅 스레드)에서 바로 실행하는 디스패처.
+     * 라이브러리의 {@code setEventDispatcher} 계약을 위해 {@link ExecutorService} 형태를 갖춘다.
+     */
+    private static final class InlineExecutorService extends AbstractExecutorService {
+
+        private volatile boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return List.of();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return shutdown;
+        }
+    }
+}
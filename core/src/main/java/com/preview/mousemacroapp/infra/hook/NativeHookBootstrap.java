@@ -0,0 +1,115 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.github.kwhat.jnativehook.NativeHookException;
+import com.preview.mousemacroapp.debug.DebugLog;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 전역 훅(네이티브 라이브러리 로드 + 등록)을 백그라운드에서 미리 준비하는 초기화 단계.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>앱 시작 직후 별도 스레드에서 {@link JNativeHookFacade#register()}를 호출한다.</li>
+ *     <li>준비 완료 여부를 {@link #ready()} Future로 노출하여, 캡처/키 훅이 완료 후에 이어서 동작하게 한다.</li>
+ *     <li>UI 스레드는 네이티브 로드 비용을 기다리지 않는다(장면 구성과 병렬 진행).</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>등록 실패는 Future를 예외로 완료할 뿐, 앱 기능(실행/Dry-Run)을 막지 않는다.</li>
+ *     <li>{@link #close()}는 등록을 해제하며 멱등이다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class NativeHookBootstrap implements AutoCloseable {
+
+    private final JNativeHookFacade facade;
+    private final CompletableFuture<Void> ready;
+
+    private NativeHookBootstrap(JNativeHookFacade facade, Executor executor) {
+        this.facade = facade;
+        this.ready = CompletableFuture.runAsync(this::registerTimed, executor);
+    }
+
+    /**
+     * 전용 데몬 스레드에서 전역 훅 준비를 시작한다.
+     *
+     * @param facade 전역 훅 파사드
+     * @return 시작된 초기화 단계
+     * @throws NullPointerException facade가 null인 경우
+     */
+    public static NativeHookBootstrap startInBackground(JNativeHookFacade facade) {
+        return start(facade, task -> {
+            Thread t = new Thread(task, "native-hook-init");
+            t.setDaemon(true);
+            t.start();
+        });
+    }
+
+    /**
+     * 주어진 실행기에서 전역 훅 준비를 시작한다(테스트/조립용).
+     *
+     * @param facade   전역 훅 파사드
+     * @param executor 초기화 실행기
+     * @return 시작된 초기화 단계
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    static NativeHookBootstrap start(JNativeHookFacade facade, Executor executor) {
+        Objects.requireNonNull(facade, "facade");
+        Objects.requireNonNull(executor, "executor");
+        return new NativeHookBootstrap(facade, executor);
+    }
+
+    /**
+     * 전역 훅 준비 완료 Future를 반환한다.
+     *
+     * <p>
+     * 등록에 실패하면 {@link NativeHookException}(또는 네이티브 로드 실패 시 {@link LinkageError})을
+     * 원인으로 예외 완료된다.
+     * 반환 Future를 완료/취소해도 초기화 자체에는 영향을 주지 않는다.
+     * </p>
+     *
+     * @return 준비 완료 Future
+     */
+    public CompletableFuture<Void> ready() {
+        return ready.copy();
+    }
+
+    /**
+     * 전역 훅 등록을 해제한다(멱등). 초기화가 진행 중이면 완료 후 해제한다.
+     */
+    @Override
+    public void close() {
+        ready.whenComplete((v, ex) -> {
+            if (ex != null) {
+                return;
+            }
+            try {
+                facade.unregister();
+            } catch (NativeHookException e) {
+                DebugLog.log("HOOK_INIT", () -> "unregister failed: " + e.getMessage());
+            }
+        });
+    }
+
+    private void registerTimed() {
+        long started = System.nanoTime();
+        try {
+            facade.register();
+        } catch (NativeHookException e) {
+            DebugLog.log("HOOK_INIT", () -> "register failed: " + e.getMessage());
+            throw new CompletionException(e);
+        } catch (LinkageError e) {
+            // 역할: 네이티브 라이브러리 로드 실패(의존 .so 누락 등)도 준비 실패로 전달한다.
+            DebugLog.log("HOOK_INIT", () -> "native load failed: " + e);
+            throw e;
+        }
+        long elapsedMicros = (System.nanoTime() - started) / 1_000L;
+        DebugLog.log("HOOK_INIT", () -> "registered in " + elapsedMicros + "us");
+    }
+}
@@ -0,0 +1,27 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.github.kwhat.jnativehook.NativeInputEvent;
+
+/**
+ * 훅 스레드에서 직접 호출되는 입력 관찰자.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>구독 종류와 무관하게 키/버튼/이동/휠 이벤트를 모두 받는다.</li>
+ *     <li>OS 입력 경로 위에서 실행되므로 상수 시간, 무할당, 비차단으로 끝나야 한다
+ *     (예: 미리 할당된 버퍼에 값만 복사).</li>
+ *     <li>일반 처리는 {@link JNativeHookFacade}의 리스너(처리 실행기에서 호출)로 한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+@FunctionalInterface
+public interface NativeInputTap {
+
+    /**
+     * 입력 이벤트 1건을 관찰한다.
+     *
+     * @param event JNativeHook 이벤트(호출 이후 보관하지 않는다)
+     */
+    void onNativeEvent(NativeInputEvent event);
+}
@@ -0,0 +1,161 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.github.kwhat.jnativehook.NativeInputEvent;
+import com.github.kwhat.jnativehook.keyboard.NativeKeyEvent;
+import com.preview.mousemacroapp.domain.hotkey.KeyChord;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JNativeHook 키 코드/수정키 마스크와 도메인 키 조합({@link KeyChord}) 사이의 변환.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>"Ctrl+Shift+F9", "Ctrl+K, S" 같은 문자열을 키 조합 순서열로 해석한다.</li>
+ *     <li>좌/우 구분이 있는 JNativeHook 수정키 마스크를 도메인 비트 집합으로 정규화한다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>키 이름은 {@code NativeKeyEvent.VC_*} 상수 이름에서 접두어를 뺀 값이며 대소문자를 구분하지 않는다.</li>
+ *     <li>수정키 이름: Ctrl/Control, Shift, Alt, Meta/Win/Cmd.</li>
+ *     <li>순서열의 조합은 쉼표 또는 공백으로 구분한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class NativeKeyNames {
+
+    private static final Map<String, Integer> KEY_CODES = loadKeyCodes();
+
+    private static final Map<String, Integer> MODIFIER_NAMES = Map.of(
+            "CTRL", KeyChord.CTRL,
+            "CONTROL", KeyChord.CTRL,
+            "SHIFT", KeyChord.SHIFT,
+            "ALT", KeyChord.ALT,
+            "META", KeyChord.META,
+            "WIN", KeyChord.META,
+            "CMD", KeyChord.META
+    );
+
+    private NativeKeyNames() {
+    }
+
+    /**
+     * 키 조합 순서열 문자열을 해석한다.
+     *
+     * @param raw 예: "Ctrl+Shift+F9", "Ctrl+K, S"
+     * @return 키 조합 순서열(1개 이상)
+     * @throws NullPointerException     raw가 null인 경우
+     * @throws IllegalArgumentException 알 수 없는 키 이름이거나 일반 키가 없는 경우
+     */
+    public static List<KeyChord> parseSequence(String raw) {
+        Objects.requireNonNull(raw, "raw");
+
+        List<KeyChord> sequence = new ArrayList<>();
+        for (String part : raw.trim().split("[,\\s]+")) {
+            if (!part.isEmpty()) {
+                sequence.add(parseChord(part));
+            }
+        }
+        if (sequence.isEmpty()) {
+            throw new IllegalArgumentException("단축키 값이 비어 있다. value=" + raw);
+        }
+        return List.copyOf(sequence);
+    }
+
+    /**
+     * 단일 키 조합 문자열을 해석한다.
+     *
+     * @param raw 예: "Ctrl+Shift+F9"
+     * @return 키 조합
+     * @throws IllegalArgumentException 알 수 없는 키 이름이거나 일반 키가 정확히 1개가 아닌 경우
+     */
+    public static KeyChord parseChord(String raw) {
+        int modifiers = 0;
+        Integer keyCode = null;
+        for (String token : raw.split("\\+")) {
+            String name = token.trim().toUpperCase(Locale.ROOT);
+            Integer modifier = MODIFIER_NAMES.get(name);
+            if (modifier != null) {
+                modifiers |= modifier;
+                continue;
+            }
+            Integer code = KEY_CODES.get(name);
+            if (code == null) {
+                throw new IllegalArgumentException("알 수 없는 키 이름이다. key=" + token + ", value=" + raw);
+            }
+            if (keyCode != null) {
+                throw new IllegalArgumentException("키 조합에는 일반 키가 1개만 허용된다. value=" + raw);
+            }
+            keyCode = code;
+        }
+        if (keyCode == null) {
+            throw new IllegalArgumentException("키 조합에 일반 키가 없다. value=" + raw);
+        }
+        return new KeyChord(modifiers, keyCode);
+    }
+
+    /**
+     * JNativeHook 수정키 마스크(좌/우, 마우스 버튼, 잠금키 포함)를 도메인 비트 집합으로 정규화한다.
+     *
+     * @param nativeModifiers {@link NativeInputEvent#getModifiers()} 값
+     * @return {@link KeyChord} 수정키 비트 집합
+     */
+    public static int canonicalModifiers(int nativeModifiers) {
+        int result = 0;
+        if ((nativeModifiers & NativeInputEvent.SHIFT_MASK) != 0) {
+            result |= KeyChord.SHIFT;
+        }
+        if ((nativeModifiers & NativeInputEvent.CTRL_MASK) != 0) {
+            result |= KeyChord.CTRL;
+        }
+        if ((nativeModifiers & NativeInputEvent.META_MASK) != 0) {
+            result |= KeyChord.META;
+        }
+        if ((nativeModifiers & NativeInputEvent.ALT_MASK) != 0) {
+            result |= KeyChord.ALT;
+        }
+        return result;
+    }
+
+    /**
+     * 키 코드가 수정키 자체인지 판단한다(수정키 단독 입력은 조합 판단에서 제외한다).
+     *
+     * @param keyCode 키 코드
+     * @return 수정키이면 true
+     */
+    public static boolean isModifierKey(int keyCode) {
+        return keyCode == NativeKeyEvent.VC_SHIFT
+                || keyCode == NativeKeyEvent.VC_CONTROL
+                || keyCode == NativeKeyEvent.VC_ALT
+                || keyCode == NativeKeyEvent.VC_META;
+    }
+
+    private static Map<String, Integer> loadKeyCodes() {
+        // 역할: 라이브러리 버전별 키 상수 차이를 흡수하기 위해 VC_* 상수를 리플렉션으로 수집한다.
+        Map<String, Integer> codes = new HashMap<>();
+        for (Field field : NativeKeyEvent.class.getFields()) {
+            int mods = field.getModifiers();
+            if (field.getName().startsWith("VC_") && field.getType() == int.class
+                    && Modifier.isStatic(mods) && Modifier.isFinal(mods)) {
+                try {
+                    int code = field.getInt(null);
+                    if (code > 0 && !isModifierKey(code)) {
+                        codes.put(field.getName().substring(3), code);
+                    }
+                } catch (IllegalAccessException ignored) {
+                    // public 상수만 대상으로 하므로 발생하지 않는다.
+                }
+            }
+        }
+        return Map.copyOf(codes);
+    }
+}
@@ -0,0 +1,292 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.DragAction;
+import com.preview.mousemacroapp.domain.action.KeyAction;
+import com.preview.mousemacroapp.domain.action.KeyStrokes;
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.domain.action.ScrollAction;
+import com.preview.mousemacroapp.domain.motion.BezierTrajectoryModel;
+import com.preview.mousemacroapp.domain.motion.Easing;
+import com.preview.mousemacroapp.domain.motion.MotionProfile;
+import com.preview.mousemacroapp.domain.motion.TrajectoryBuffer;
+import com.preview.mousemacroapp.domain.motion.TrajectoryModel;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.service.ClickExecutor;
+import com.preview.mousemacroapp.service.replay.DeadlineTimer;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RobotMouse 기반의 클릭 실행기.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>ClickAction(clickCount/holdMillis) 규칙을 실행 레벨에서 그대로 반영한다.</li>
+ *     <li>holdMillis &gt; 0 인 경우는 “단일 클릭 + 홀드”로 간주하고, press → 유지 → release 순서를 고정한다.</li>
+ *     <li>clickCount &gt; 1 인 경우는 “연속 클릭”으로 처리한다.</li>
+ *     <li>경로 이동기({@link TrajectoryMover})가 주어지면 커서를 바로 옮기지 않고 직전 클릭 좌표에서 경로를 따라 옮긴 뒤 누른다.</li>
+ *     <li>드래그는 시작 좌표에서 누르고, 등속에 가까운 직선 경로(smoothstep 가감속)를 출력 주기마다 내보낸 뒤 뗀다.
+ *     중간 점은 재사용 원시 버퍼에 만들고, 경로 이동과 같은 절대 마감 시간 엔진으로 내보낸다(긴 드래그도 주기 유지).</li>
+ *     <li>드래그 중 인터럽트(stop)되면 도착 좌표로 바로 옮긴 뒤 반드시 뗀다(버튼이 눌린 채 남지 않게 한다).</li>
+ *     <li>스크롤은 좌표로 이동한 뒤 휠을 한 칸씩 간격을 두고 굴린다.</li>
+ *     <li>키보드 동작은 간격이 0이면 순서열 전체를 한 번에, 아니면 키 입력 단위 구간을 마감 시각마다 {@link RobotKeyboard}로 일괄 내보낸다.
+ *     중단되면 눌린 채 남은 Shift를 뗀다.</li>
+ * </ul>
+ *
+ * @since 0.6
+ */
+public final class RobotClickExecutor implements ClickExecutor {
+
+    private static final TrajectoryModel DRAG_PATH = new BezierTrajectoryModel(Easing.SMOOTHSTEP, 0);
+
+    private final RobotMouse robotMouse;
+    private final RobotKeyboard keyboard;
+    private final TrajectoryMover mover;
+    private final int streamRateHz;
+    private final MotionStreamer streamer;
+    private final SplittableRandom random = new SplittableRandom();
+
+    private TrajectoryBuffer dragBuffer;
+
+    /**
+     * RobotMouse 구현체를 주입받아 클릭 실행기를 생성한다.
+     *
+     * @param robotMouse 실제 입력 수행 구현체
+     * @throws NullPointerException robotMouse가 null인 경우
+     */
+    public RobotClickExecutor(RobotMouse robotMouse) {
+        this(robotMouse, null, MotionProfile.DEFAULT_RATE_HZ, DeadlineTimer.system());
+    }
+
+    /**
+     * 클릭 좌표 사이를 경로로 이동하는 클릭 실행기를 생성한다.
+     *
+     * @param robotMouse 실제 입력 수행 구현체(이동기와 같은 장치)
+     * @param mover      경로 이동기
+     * @throws NullPointerException 인자가 null인 경우
+     * @since 0.9
+     */
+    public RobotClickExecutor(RobotMouse robotMouse, TrajectoryMover mover) {
+        this(robotMouse, Objects.requireNonNull(mover, "mover"), MotionProfile.DEFAULT_RATE_HZ, DeadlineTimer.system());
+    }
+
+    /**
+     * 이동 방식/드래그 출력 주기/대기 전략을 모두 지정하여 클릭 실행기를 생성한다.
+     *
+     * @param robotMouse   실제 입력 수행 구현체
+     * @param moverOrNull  경로 이동기(null=클릭 좌표로 바로 이동)
+     * @param streamRateHz 드래그 중간 점 출력 주기(Hz, 1~1000)
+     * @param timer        드래그/스크롤 마감 시각 대기 전략
+     * @throws NullPointerException     robotMouse 또는 timer가 null인 경우
+     * @throws IllegalArgumentException streamRateHz가 범위를 벗어난 경우
+     * @since 0.9
+     */
+    public RobotClickExecutor(RobotMouse robotMouse, TrajectoryMover moverOrNull, int streamRateHz,
+                              DeadlineTimer timer) {
+        this(robotMouse, null, moverOrNull, streamRateHz, timer);
+    }
+
+    /**
+     * 키보드까지 포함하여 클릭 실행기를 생성한다.
+     *
+     * @param robotMouse     실제 입력 수행 구현체
+     * @param keyboardOrNull 키보드 구현체(null=키보드 동작 미지원)
+     * @param moverOrNull    경로 이동기(null=클릭 좌표로 바로 이동)
+     * @param streamRateHz   드래그 중간 점 출력 주기(Hz, 1~1000)
+     * @param timer          드래그/스크롤/키 입력 마감 시각 대기 전략
+     * @throws NullPointerException     robotMouse 또는 timer가 null인 경우
+     * @throws IllegalArgumentException streamRateHz가 범위를 벗어난 경우
+     * @since 0.9
+     */
+    public RobotClickExecutor(RobotMouse robotMouse, RobotKeyboard keyboardOrNull, TrajectoryMover moverOrNull,
+                              int streamRateHz, DeadlineTimer timer) {
+        this.robotMouse = Objects.requireNonNull(robotMouse, "robotMouse");
+        this.keyboard = keyboardOrNull;
+        this.mover = moverOrNull;
+        this.streamRateHz = MotionProfile.withRate(streamRateHz).rateHz();
+        this.streamer = new MotionStreamer(robotMouse, Objects.requireNonNull(timer, "timer"));
+    }
+
+    /**
+     * 지정 좌표로 이동한 뒤, ClickAction 정책에 따라 클릭을 수행한다.
+     *
+     * @param action 클릭 동작 정책
+     * @param point  클릭 대상 좌표
+     * @throws NullPointerException action 또는 point가 null인 경우
+     */
+    @Override
+    public void execute(ClickAction action, ScreenPoint point) {
+        Objects.requireNonNull(action, "action");
+        Objects.requireNonNull(point, "point");
+        click(action, point.x(), point.y());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>클릭/키보드 동작은 좌표 객체 없이 바로 수행한다(프로그램 실행 경로).</p>
+     *
+     * @since 0.9
+     */
+    @Override
+    public void perform(MacroAction action, int x, int y) {
+        requireSupported(action);
+        if (action instanceof ClickAction click) {
+            click(click, x, y);
+        } else if (action instanceof KeyAction key) {
+            key(key);
+        } else {
+            perform(action, new ScreenPoint(x, y));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>클릭/드래그/스크롤은 항상, 키보드 동작은 키보드 구현체가 있을 때만 지원한다.</p>
+     *
+     * @since 0.9
+     */
+    @Override
+    public boolean supports(MacroAction action) {
+        return !(Objects.requireNonNull(action, "action") instanceof KeyAction) || keyboard != null;
+    }
+
+    private void click(ClickAction action, int x, int y) {
+        approach(x, y);
+
+        // 역할: holdMillis가 있으면 “단일 클릭 + 홀드” 정책을 강제한다.
+        if (action.holdMillis() > 0) {
+            robotMouse.press(action.button());
+            sleepSilently(action.holdMillis());
+            robotMouse.release(action.button());
+            return;
+        }
+
+        // 역할: 일반 클릭은 clickCount 횟수만큼 press/release를 반복한다.
+        for (int i = 0; i < action.clickCount(); i++) {
+            robotMouse.press(action.button());
+            robotMouse.release(action.button());
+
+            // 역할: 더블/연속 클릭에서 OS 이벤트로 안정 인식되도록 최소 간격을 둔다.
+            if (i < action.clickCount() - 1) {
+                sleepSilently(20);
+            }
+        }
+    }
+
+    /**
+     * 시작 좌표에서 누르고, 도착 좌표까지 중간 점을 출력 주기마다 내보낸 뒤 뗀다.
+     *
+     * @param action 드래그 동작
+     * @param from   시작 좌표
+     * @throws NullPointerException action 또는 from이 null인 경우
+     */
+    @Override
+    public void drag(DragAction action, ScreenPoint from) {
+        Objects.requireNonNull(action, "action");
+        Objects.requireNonNull(from, "from");
+
+        approach(from.x(), from.y());
+        ScreenPoint to = action.to();
+        robotMouse.press(action.button());
+        try {
+            if (action.durationMillis() == 0 || !streamDrag(from, to, action.durationMillis())) {
+                robotMouse.move(to.x(), to.y());
+            }
+        } finally {
+            robotMouse.release(action.button());
+            if (mover != null) {
+                mover.assumePosition(to.x(), to.y());
+            }
+        }
+    }
+
+    /**
+     * 좌표로 이동한 뒤 휠을 한 칸씩 간격을 두고 굴린다.
+     *
+     * @param action 스크롤 동작
+     * @param at     스크롤할 좌표
+     * @throws NullPointerException action 또는 at이 null인 경우
+     */
+    @Override
+    public void scroll(ScrollAction action, ScreenPoint at) {
+        Objects.requireNonNull(action, "action");
+        Objects.requireNonNull(at, "at");
+
+        approach(at.x(), at.y());
+        streamer.wheel(action.notches(), TimeUnit.MILLISECONDS.toNanos(action.intervalMillis()));
+    }
+
+    /**
+     * 키 순서열을 최소 간격을 지키며 일괄 내보낸다.
+     *
+     * @param action 키보드 동작
+     * @throws NullPointerException     action이 null인 경우
+     * @throws IllegalArgumentException 키보드 구현체가 없는 경우({@link #supports(MacroAction)})
+     */
+    @Override
+    public void key(KeyAction action) {
+        requireSupported(action);
+
+        KeyStrokes strokes = action.strokes();
+        if (action.minIntervalMillis() == 0) {
+            keyboard.dispatch(strokes, 0, strokes.size());
+            return;
+        }
+
+        long interval = TimeUnit.MILLISECONDS.toNanos(action.minIntervalMillis());
+        long origin = streamer.nanoTime();
+        int start = 0;
+        int stroke = 0;
+        for (int i = 0; i < strokes.size(); i++) {
+            if (!KeyStrokes.endsStroke(strokes.op(i))) {
+                continue;
+            }
+            if (stroke > 0 && !streamer.awaitDeadline(origin + stroke * interval)) {
+                // 역할: stop 요청. 남은 입력은 버리되, 눌린 채 남은 키(Shift)는 떼어 둔다.
+                if (strokes.shiftHeldAt(start)) {
+                    keyboard.release(KeyStrokes.SHIFT);
+                }
+                return;
+            }
+            keyboard.dispatch(strokes, start, i + 1);
+            start = i + 1;
+            stroke++;
+        }
+    }
+
+    private void approach(int x, int y) {
+        if (mover == null) {
+            robotMouse.move(x, y);
+        } else {
+            mover.moveTo(x, y);
+        }
+    }
+
+    /**
+     * @return 끝까지 내보냈으면 true, 인터럽트로 멈췄으면 false
+     */
+    private boolean streamDrag(ScreenPoint from, ScreenPoint to, long durationMillis) {
+        // 역할: 이동 시간이 곧 드래그 시간이 되도록 고정 시간 프로파일을 쓴다(거리와 무관).
+        MotionProfile profile = new MotionProfile(streamRateHz, durationMillis, 0, durationMillis);
+        if (dragBuffer == null || dragBuffer.capacity() < profile.maxSteps()) {
+            // 역할: 더 긴 드래그가 올 때만 버퍼를 키운다(같은 길이 이하 드래그는 재사용).
+            dragBuffer = TrajectoryBuffer.forProfile(profile);
+        }
+        DRAG_PATH.generate(from.x(), from.y(), to.x(), to.y(), profile, random, dragBuffer);
+        return streamer.play(dragBuffer);
+    }
+
+    private void sleepSilently(long millis) {
+        // 역할: stop 요청/interrupt로 스레드가 깨질 수 있으므로 interrupt 플래그는 복원한다.
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
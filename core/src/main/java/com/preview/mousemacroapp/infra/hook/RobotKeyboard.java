@@ -0,0 +1,33 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.preview.mousemacroapp.domain.action.KeyStrokes;
+
+/**
+ * Robot 기반 키보드 제어 인터페이스.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>키 이벤트를 하나씩 호출하지 않고, 컴파일된 순서열의 구간을 한 번에 넘겨 일괄 내보낸다.</li>
+ *     <li>구간 안의 연산은 간격 없이 연속으로 내보낸다. 키 입력 사이 간격은 호출자(실행기)가 구간을 나누어 둔다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public interface RobotKeyboard {
+
+    /**
+     * 순서열의 [from, to) 구간 연산을 차례로 내보낸다.
+     *
+     * @param strokes 컴파일된 키 순서열
+     * @param from    시작 연산 순번(포함)
+     * @param to      끝 연산 순번(제외)
+     */
+    void dispatch(KeyStrokes strokes, int from, int to);
+
+    /**
+     * 키 하나를 뗀다(중단 시 눌린 키 정리용).
+     *
+     * @param keyCode 가상 키 코드
+     */
+    void release(int keyCode);
+}
@@ -24,6 +24,22 @@ public interface RobotMouse {
      */
     void move(ScreenPoint point);
 
+    /**
+     * 마우스 커서를 지정 좌표로 이동한다(좌표 객체 없이).
+     *
+     * <p>
+     * 경로 이동처럼 주기마다 이동 명령을 내보내는 호출자가 사용한다.
+     * 기본 구현은 {@link #move(ScreenPoint)}에 위임하며, 실제 구현은 할당 없이 재정의한다.
+     * </p>
+     *
+     * @param x 화면 X 좌표
+     * @param y 화면 Y 좌표
+     * @since 0.9
+     */
+    default void move(int x, int y) {
+        move(new ScreenPoint(x, y));
+    }
+
     /**
      * 지정 버튼을 누른다(press).
      *
@@ -39,4 +55,12 @@ public interface RobotMouse {
      * @throws NullPointerException button이 null인 경우
      */
     void release(MouseButton button);
+
+    /**
+     * 휠을 지정 칸 수만큼 굴린다.
+     *
+     * @param notches 휠 칸 수(양수=아래/사용자 쪽, 음수=위)
+     * @since 0.9
+     */
+    void wheel(int notches);
 }
@@ -0,0 +1,79 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.preview.mousemacroapp.domain.action.MouseButton;
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+import com.preview.mousemacroapp.service.replay.ReplayOutput;
+
+import java.util.Objects;
+
+/**
+ * 재생 이벤트를 {@link RobotMouse}로 그대로 내보내는 출력.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>이동은 커서 이동, 버튼 누름/뗌은 (좌표가 다르면 이동 후) press/release로 옮긴다(홀드/드래그 재현).</li>
+ *     <li>휠은 (좌표가 다르면 이동 후) 기록된 칸 수만큼 굴린다.</li>
+ *     <li>키 이벤트는 {@link RobotMouse}가 표현하지 못하므로 세기만 하고 무시한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class RobotReplayOutput implements ReplayOutput {
+
+    private final RobotMouse robotMouse;
+
+    private int lastX = Integer.MIN_VALUE;
+    private int lastY = Integer.MIN_VALUE;
+    private long ignored;
+
+    /**
+     * @param robotMouse 실제 입력 수행 구현체
+     * @throws NullPointerException robotMouse가 null인 경우
+     */
+    public RobotReplayOutput(RobotMouse robotMouse) {
+        this.robotMouse = Objects.requireNonNull(robotMouse, "robotMouse");
+    }
+
+    @Override
+    public void emit(InputEventType type, int x, int y, int code) {
+        switch (type) {
+            case MOUSE_MOVE -> moveTo(x, y);
+            case MOUSE_PRESS, MOUSE_RELEASE -> {
+                MouseButton button = ReplayOutput.buttonOf(code);
+                if (button == null) {
+                    ignored++;
+                    return;
+                }
+                moveTo(x, y);
+                if (type == InputEventType.MOUSE_PRESS) {
+                    robotMouse.press(button);
+                } else {
+                    robotMouse.release(button);
+                }
+            }
+            case MOUSE_WHEEL -> {
+                moveTo(x, y);
+                robotMouse.wheel(code);
+            }
+            default -> ignored++;
+        }
+    }
+
+    /**
+     * 표현할 수 없어 무시한 이벤트 수를 반환한다(재생 스레드 기준 값).
+     *
+     * @return 무시한 이벤트 수
+     */
+    public long ignoredCount() {
+        return ignored;
+    }
+
+    private void moveTo(int x, int y) {
+        if (x == lastX && y == lastY) {
+            return;
+        }
+        robotMouse.move(x, y);
+        lastX = x;
+        lastY = y;
+    }
+}
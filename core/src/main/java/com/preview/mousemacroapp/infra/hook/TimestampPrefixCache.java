@@ -0,0 +1,81 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+/**
+ * 밀리초 단위 타임스탬프 접두어(ASCII) 캐시.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>초 단위 날짜/시각 문자열은 초가 바뀔 때만 {@link DateTimeFormatter}로 만든다.</li>
+ *     <li>같은 초 안에서는 밀리초 3자리만 기존 배열에 덮어쓴다.</li>
+ *     <li>같은 밀리초 안에서는 아무 계산 없이 같은 배열을 반환한다.</li>
+ * </ul>
+ *
+ * <p>
+ * 반환 배열은 내부 버퍼이므로 호출자는 수정하지 않고 즉시 복사(기록)해야 한다.
+ * 단일 스레드(기록 락 내부)에서만 사용한다.
+ * </p>
+ *
+ * @since 0.9
+ */
+final class TimestampPrefixCache {
+
+    private static final DateTimeFormatter SECOND_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.");
+
+    private final ZoneId zone;
+    private final byte[] head;
+
+    /**
+     * 접두어 = head + "yyyy-MM-dd HH:mm:ss." + "SSS" + " ".
+     */
+    private final byte[] prefix;
+    private final int millisOffset;
+
+    private long cachedSecond = Long.MIN_VALUE;
+    private long cachedMillis = Long.MIN_VALUE;
+
+    TimestampPrefixCache(String head, ZoneId zone) {
+        Objects.requireNonNull(head, "head");
+        this.zone = Objects.requireNonNull(zone, "zone");
+        this.head = head.getBytes(StandardCharsets.US_ASCII);
+        // "yyyy-MM-dd HH:mm:ss." = 20자, 밀리초 3자, 공백 1자
+        this.prefix = new byte[this.head.length + 20 + 3 + 1];
+        this.millisOffset = this.head.length + 20;
+        System.arraycopy(this.head, 0, prefix, 0, this.head.length);
+        prefix[prefix.length - 1] = ' ';
+    }
+
+    /**
+     * 지정 시각의 접두어를 반환한다.
+     *
+     * @param epochMillis epoch 기준 밀리초
+     * @return 접두어 ASCII 바이트(내부 버퍼)
+     */
+    byte[] prefixFor(long epochMillis) {
+        if (epochMillis == cachedMillis) {
+            return prefix;
+        }
+
+        long second = Math.floorDiv(epochMillis, 1000L);
+        if (second != cachedSecond) {
+            String formatted = ZonedDateTime.ofInstant(Instant.ofEpochSecond(second), zone).format(SECOND_FORMAT);
+            byte[] bytes = formatted.getBytes(StandardCharsets.US_ASCII);
+            System.arraycopy(bytes, 0, prefix, head.length, bytes.length);
+            cachedSecond = second;
+        }
+
+        int millis = (int) Math.floorMod(epochMillis, 1000L);
+        prefix[millisOffset] = (byte) ('0' + millis / 100);
+        prefix[millisOffset + 1] = (byte) ('0' + (millis / 10) % 10);
+        prefix[millisOffset + 2] = (byte) ('0' + millis % 10);
+        cachedMillis = epochMillis;
+        return prefix;
+    }
+}
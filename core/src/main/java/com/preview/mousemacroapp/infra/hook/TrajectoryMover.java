@@ -0,0 +1,127 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.preview.mousemacroapp.domain.motion.MotionProfile;
+import com.preview.mousemacroapp.domain.motion.TrajectoryBuffer;
+import com.preview.mousemacroapp.domain.motion.TrajectoryModel;
+import com.preview.mousemacroapp.service.replay.DeadlineTimer;
+
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * 직전 커서 위치에서 목표 좌표까지 경로를 만들어 {@link RobotMouse}로 주기마다 이동 명령을 내보낸다.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>각 점은 이동 시작 시각 + 점 시각의 절대 마감에 내보낸다(이동 명령 지연이 다음 점으로 누적되지 않는다).
+ *     드래그/스크롤과 같은 시간 엔진({@code MotionStreamer})을 쓴다.</li>
+ *     <li>경로 버퍼는 생성 시 1회만 잡고 재사용한다. 이동 명령은 {@link RobotMouse#move(int, int)}로 내보내 점마다 할당하지 않는다.</li>
+ *     <li>첫 이동은 직전 위치를 모르므로 목표로 바로 옮긴다. 이후에는 이 객체가 마지막으로 옮긴 좌표를 시작점으로 쓴다
+ *     (사용자가 그 사이 커서를 옮겼다면 첫 점에서 한 번 건너뛴다).</li>
+ *     <li>대기 중 인터럽트(stop 요청)되면 남은 경로를 건너뛰고 목표로 바로 옮긴 뒤 인터럽트 플래그를 복원한다.</li>
+ *     <li>단일 스레드(클릭 실행 스레드)에서만 사용한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class TrajectoryMover {
+
+    private final RobotMouse robotMouse;
+    private final TrajectoryModel model;
+    private final MotionProfile profile;
+    private final RandomGenerator random;
+    private final MotionStreamer streamer;
+    private final TrajectoryBuffer buffer;
+
+    private boolean positionKnown;
+    private int lastX;
+    private int lastY;
+    private long jumps;
+
+    /**
+     * 실제 시간과 무작위 시드로 동작하는 이동기를 생성한다.
+     *
+     * @param robotMouse 실제 입력 수행 구현체
+     * @param model      경로 모델
+     * @param profile    이동 시간/주기 정책
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    public TrajectoryMover(RobotMouse robotMouse, TrajectoryModel model, MotionProfile profile) {
+        this(robotMouse, model, profile, new SplittableRandom(), DeadlineTimer.system());
+    }
+
+    /**
+     * 무작위 생성기와 대기 전략을 주입하여 이동기를 생성한다.
+     *
+     * @param robotMouse 실제 입력 수행 구현체
+     * @param model      경로 모델
+     * @param profile    이동 시간/주기 정책
+     * @param random     무작위 생성기
+     * @param timer      마감 시각 대기 전략
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    public TrajectoryMover(RobotMouse robotMouse, TrajectoryModel model, MotionProfile profile,
+                           RandomGenerator random, DeadlineTimer timer) {
+        this.robotMouse = Objects.requireNonNull(robotMouse, "robotMouse");
+        this.model = Objects.requireNonNull(model, "model");
+        this.profile = Objects.requireNonNull(profile, "profile");
+        this.random = Objects.requireNonNull(random, "random");
+        this.streamer = new MotionStreamer(robotMouse, Objects.requireNonNull(timer, "timer"));
+        this.buffer = TrajectoryBuffer.forProfile(profile);
+    }
+
+    /**
+     * 목표 좌표까지 경로를 따라 이동한다(이동이 끝날 때까지 반환하지 않는다).
+     *
+     * @param x 목표 X
+     * @param y 목표 Y
+     */
+    public void moveTo(int x, int y) {
+        if (!positionKnown) {
+            jump(x, y);
+            return;
+        }
+        model.generate(lastX, lastY, x, y, profile, random, buffer);
+        if (!streamer.play(buffer)) {
+            jump(x, y);
+            return;
+        }
+        lastX = x;
+        lastY = y;
+    }
+
+    /**
+     * 다른 경로(드래그 등)로 커서를 옮긴 뒤, 다음 이동의 시작점을 알려 준다.
+     *
+     * @param x 현재 커서 X
+     * @param y 현재 커서 Y
+     */
+    public void assumePosition(int x, int y) {
+        lastX = x;
+        lastY = y;
+        positionKnown = true;
+    }
+
+    /**
+     * @return 지금까지 내보낸 이동 명령 수
+     */
+    public long moveCount() {
+        return streamer.commandCount() + jumps;
+    }
+
+    /**
+     * @return 이동 명령의 최대 지연(마감 대비, ns)
+     */
+    public long maxLatenessNanos() {
+        return streamer.maxLatenessNanos();
+    }
+
+    private void jump(int x, int y) {
+        robotMouse.move(x, y);
+        jumps++;
+        lastX = x;
+        lastY = y;
+        positionKnown = true;
+    }
+}
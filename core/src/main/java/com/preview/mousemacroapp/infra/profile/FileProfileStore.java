@@ -0,0 +1,176 @@
+package com.preview.mousemacroapp.infra.profile;
+
+import com.preview.mousemacroapp.service.CorruptProfileException;
+import com.preview.mousemacroapp.service.MacroProfileStore;
+import com.preview.mousemacroapp.service.MacroProfiles;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * {@link ProfileFormat} 파일 하나에 프로파일 목록을 저장하는 저장소.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>적재는 파일 전체를 힙 버퍼 하나로 읽어 헤더/CRC를 확인한 뒤 본문을 한 번에 해석한다.</li>
+ *     <li>저장은 같은 디렉터리의 임시 파일에 쓰고 디스크에 내린(force) 뒤 원자적 이름 바꾸기로 교체한다.</li>
+ *     <li>{@link #exportText(MacroProfiles, Path)}로 사람이 읽는 텍스트를 내보낸다(같은 방식으로 교체).</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>파일이 없으면 빈 목록을 돌려준다. 형식/버전/CRC가 맞지 않으면 {@link CorruptProfileException}으로 알린다.</li>
+ *     <li>손상본 백업은 같은 디렉터리의 {@code <파일 이름>.bak}으로 옮긴다(이전 백업은 바꾼다).</li>
+ *     <li>저장 중 실패하면 임시 파일을 지우고 기존 파일은 그대로 둔다.</li>
+ *     <li>파일 시스템이 원자적 이동을 지원하지 않으면 일반 교체 이동으로 대신한다.</li>
+ *     <li>파일을 매핑하지 않는다. Windows에서는 매핑이 GC로 풀릴 때까지 그 파일을 교체/이름 바꾸기할 수 없어,
+ *     적재 직후의 저장/백업이 간헐적으로 {@link java.nio.file.AccessDeniedException}으로 실패한다.</li>
+ *     <li>저장/적재는 호출 스레드에서 수행한다(UI는 백그라운드에서 호출한다).</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class FileProfileStore implements MacroProfileStore {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String BACKUP_SUFFIX = ".bak";
+
+    private final Path file;
+
+    /**
+     * @param file 프로파일 파일 경로(상위 디렉터리는 저장 시 만든다)
+     * @throws NullPointerException file이 null인 경우
+     */
+    public FileProfileStore(Path file) {
+        this.file = Objects.requireNonNull(file, "file").toAbsolutePath();
+    }
+
+    /**
+     * @return 프로파일 파일 경로
+     */
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * @return 손상본 백업 경로
+     */
+    public Path backupFile() {
+        return file.resolveSibling(file.getFileName() + BACKUP_SUFFIX);
+    }
+
+    @Override
+    public MacroProfiles load() throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            return MacroProfiles.empty();
+        }
+        try (channel) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("2GiB를 넘는 프로파일 파일은 지원하지 않는다. size=" + size);
+            }
+            if (size < ProfileFormat.HEADER_BYTES) {
+                throw new CorruptProfileException("프로파일 파일 헤더가 없다. size=" + size);
+            }
+            ByteBuffer content = ByteBuffer.allocate((int) size);
+            while (content.hasRemaining()) {
+                if (channel.read(content) < 0) {
+                    throw new IOException("프로파일 파일이 읽는 중에 줄었다. size=" + size);
+                }
+            }
+            if (content.getInt(0) != ProfileFormat.MAGIC) {
+                throw new CorruptProfileException("프로파일 파일 형식이 아니다. path=" + file);
+            }
+            int version = content.getShort(4);
+            if (version != ProfileFormat.VERSION) {
+                throw new CorruptProfileException("지원하지 않는 프로파일 형식 버전이다. version=" + version);
+            }
+            int headerBytes = content.getShort(6);
+            int profileCount = content.getInt(8);
+            int stringCount = content.getInt(12);
+            int bodyLength = content.getInt(16);
+            int lastUsedIndex = content.getInt(20);
+            if (headerBytes < ProfileFormat.HEADER_BYTES || profileCount < 0 || stringCount < 0
+                    || bodyLength < 0 || (long) headerBytes + bodyLength != size) {
+                throw new CorruptProfileException("프로파일 파일 헤더가 올바르지 않다. size=" + size + ", bodyLength=" + bodyLength);
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(content.slice(headerBytes, bodyLength));
+            if ((int) crc.getValue() != content.getInt(24)) {
+                throw new CorruptProfileException("프로파일 파일 CRC가 맞지 않는다. path=" + file);
+            }
+            try {
+                return ProfileFormat.decode(content, headerBytes, bodyLength, profileCount, stringCount, lastUsedIndex);
+            } catch (RuntimeException e) {
+                throw new CorruptProfileException("프로파일 파일 본문이 올바르지 않다. path=" + file, e);
+            }
+        }
+    }
+
+    @Override
+    public void save(MacroProfiles profiles) throws IOException {
+        Objects.requireNonNull(profiles, "profiles");
+        replace(file, ProfileFormat.encode(profiles));
+    }
+
+    @Override
+    public void backupCorrupt() throws IOException {
+        try {
+            Files.move(file, backupFile(), StandardCopyOption.REPLACE_EXISTING);
+        } catch (NoSuchFileException e) {
+            // 역할: 백업할 저장본이 없다(다른 곳에서 이미 옮겼거나 지웠다).
+        }
+    }
+
+    /**
+     * 프로파일 목록을 사람이 읽는 텍스트로 내보낸다({@link ProfileText} 형식, UTF-8).
+     *
+     * @param profiles 프로파일 목록
+     * @param target   내보낼 파일 경로
+     * @throws IOException 쓸 수 없는 경우
+     */
+    public static void exportText(MacroProfiles profiles, Path target) throws IOException {
+        Objects.requireNonNull(profiles, "profiles");
+        Objects.requireNonNull(target, "target");
+        replace(target.toAbsolutePath(), ByteBuffer.wrap(ProfileText.format(profiles).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 임시 파일에 쓰고 디스크에 내린 뒤 대상 파일을 원자적으로 바꾼다.
+     */
+    private static void replace(Path target, ByteBuffer content) throws IOException {
+        Path directory = target.getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), TEMP_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (content.hasRemaining()) {
+                    channel.write(content);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.preview.mousemacroapp.infra.profile;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.MouseButton;
+import com.preview.mousemacroapp.domain.action.policy.ClickPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.RandomAreaPositionPolicy;
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+import com.preview.mousemacroapp.service.MacroProfile;
+import com.preview.mousemacroapp.service.MacroProfiles;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * 매크로 프로파일 파일 형식(big-endian).
+ *
+ * <p><b>파일 헤더({@value #HEADER_BYTES}바이트)</b></p>
+ * <ul>
+ *     <li>magic(int) {@value #MAGIC}, version(short), 헤더 길이(short)</li>
+ *     <li>프로파일 수(int), 문자열 수(int), 본문 길이(int), 마지막 사용 프로파일 번호(int, 없으면 -1)</li>
+ *     <li>본문 CRC32(int), 예약(int)</li>
+ * </ul>
+ *
+ * <p><b>본문</b></p>
+ * <ul>
+ *     <li>문자열 표: 문자열마다 UTF-8 길이(varint) + 바이트. 프로파일/포인트 이름은 표 번호로 가리킨다
+ *     (같은 이름은 한 번만 담는다).</li>
+ *     <li>프로파일: 이름 번호, 포인트 이름 번호(varint), x/y(zig-zag varint),
+ *     좌표 정책 코드(byte, {@link #POLICY_AREA}이면 halfWidth/halfHeight varint),
+ *     버튼(byte), 클릭 수/홀드/기본 간격/랜덤 최소/랜덤 최대(varint),
+ *     스케줄 코드(byte, {@link #SCHEDULE_RANGE}이면 시작/끝 nano-of-day varint), 반복 횟수(varint)</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>음수가 될 수 없는 값(간격/횟수 등)은 zig-zag 없이 varint로 쓴다. 기본값 위주의 프로파일은 20바이트 안팎이다.</li>
+ *     <li>사용자 정의 좌표 정책은 값을 알 수 없으므로 저장하지 않는다({@link IllegalArgumentException}).</li>
+ *     <li>해석 오류는 {@link IllegalStateException}(형식) 또는 도메인 생성자의 예외로 알린다. 파일 단위 처리는 저장소가 맡는다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class ProfileFormat {
+
+    /**
+     * 파일 매직("MMPF").
+     */
+    public static final int MAGIC = 0x4D4D5046;
+
+    /**
+     * 형식 버전.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * 파일 헤더 길이.
+     */
+    public static final int HEADER_BYTES = 32;
+
+    static final int POLICY_EXACT = 0;
+    static final int POLICY_AREA = 1;
+
+    static final int SCHEDULE_ALWAYS = 0;
+    static final int SCHEDULE_RANGE = 1;
+
+    /**
+     * 프로파일 1건의 최대 인코딩 길이(번호 5+5, 좌표 5+5, 정책 1+5+5, 버튼 1, 클릭 5, long 10x4, 스케줄 1+10+10, 반복 5).
+     */
+    private static final int MAX_PROFILE_BYTES = 103;
+
+    private static final MouseButton[] BUTTONS = MouseButton.values();
+
+    private ProfileFormat() {
+    }
+
+    /**
+     * 프로파일 목록을 헤더 포함 파일 내용으로 인코딩한다.
+     *
+     * @param profiles 프로파일 목록
+     * @return position 0, limit = 파일 길이인 버퍼
+     * @throws IllegalArgumentException 저장할 수 없는 좌표 정책이 있는 경우
+     */
+    static ByteBuffer encode(MacroProfiles profiles) {
+        List<MacroProfile> list = profiles.profiles();
+        Map<String, Integer> ids = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+        int[] nameIds = new int[list.size() * 2];
+        int stringBytes = 0;
+        for (int i = 0; i < list.size(); i++) {
+            MacroProfile profile = list.get(i);
+            for (int k = 0; k < 2; k++) {
+                String value = k == 0 ? profile.name() : profile.macroPoint().name();
+                Integer id = ids.get(value);
+                if (id == null) {
+                    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    id = strings.size();
+                    ids.put(value, id);
+                    strings.add(bytes);
+                    stringBytes += 5 + bytes.length;
+                }
+                nameIds[2 * i + k] = id;
+            }
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + stringBytes + list.size() * MAX_PROFILE_BYTES);
+        out.position(HEADER_BYTES);
+        for (byte[] bytes : strings) {
+            putVarLong(out, bytes.length);
+            out.put(bytes);
+        }
+        for (int i = 0; i < list.size(); i++) {
+            encodeProfile(out, list.get(i), nameIds[2 * i], nameIds[2 * i + 1]);
+        }
+        int end = out.position();
+        int bodyLength = end - HEADER_BYTES;
+
+        CRC32 crc = new CRC32();
+        crc.update(out.array(), HEADER_BYTES, bodyLength);
+
+        out.putInt(0, MAGIC);
+        out.putShort(4, (short) VERSION);
+        out.putShort(6, (short) HEADER_BYTES);
+        out.putInt(8, list.size());
+        out.putInt(12, strings.size());
+        out.putInt(16, bodyLength);
+        out.putInt(20, profiles.lastUsedIndex());
+        out.putInt(24, (int) crc.getValue());
+        out.putInt(28, 0);
+        return out.position(0).limit(end);
+    }
+
+    private static void encodeProfile(ByteBuffer out, MacroProfile profile, int nameId, int pointNameId) {
+        MacroPoint point = profile.macroPoint();
+        putVarLong(out, nameId);
+        putVarLong(out, pointNameId);
+        putVarLong(out, zigZag(point.base().x()));
+        putVarLong(out, zigZag(point.base().y()));
+
+        ClickPositionPolicy policy = point.positionPolicy();
+        if (policy instanceof ExactPositionPolicy) {
+            out.put((byte) POLICY_EXACT);
+        } else if (policy instanceof RandomAreaPositionPolicy area) {
+            out.put((byte) POLICY_AREA);
+            putVarLong(out, area.halfWidth());
+            putVarLong(out, area.halfHeight());
+        } else {
+            throw new IllegalArgumentException("저장할 수 없는 좌표 정책이다. profile=" + profile.name()
+                    + ", policy=" + policy.getClass().getName());
+        }
+
+        ClickAction action = profile.clickAction();
+        out.put((byte) action.button().ordinal());
+        putVarLong(out, action.clickCount());
+        putVarLong(out, action.holdMillis());
+
+        DelayPolicy delay = profile.delayPolicy();
+        putVarLong(out, delay.baseIntervalMillis());
+        putVarLong(out, delay.minRandomMillis());
+        putVarLong(out, delay.maxRandomMillis());
+
+        if (profile.schedule() instanceof ExecutionSchedule.Range range) {
+            out.put((byte) SCHEDULE_RANGE);
+            putVarLong(out, range.timeRange().startInclusive().toNanoOfDay());
+            putVarLong(out, range.timeRange().endExclusive().toNanoOfDay());
+        } else {
+            out.put((byte) SCHEDULE_ALWAYS);
+        }
+        putVarLong(out, profile.repeatCount());
+    }
+
+    /**
+     * 파일 본문을 해석한다(헤더 검증은 호출 측이 끝낸 상태).
+     *
+     * <p>버퍼의 position을 건드리지 않고 절대 위치로 읽는다(읽은 버퍼 그대로 사용).</p>
+     *
+     * @param buffer        파일 내용
+     * @param bodyStart     본문 시작 위치
+     * @param bodyLength    본문 길이
+     * @param profileCount  프로파일 수
+     * @param stringCount   문자열 수
+     * @param lastUsedIndex 마지막 사용 프로파일 번호
+     * @return 프로파일 목록
+     * @throws IllegalStateException    본문이 형식에 맞지 않는 경우
+     * @throws IllegalArgumentException 해석한 값이 도메인 규칙에 맞지 않는 경우
+     */
+    static MacroProfiles decode(ByteBuffer buffer, int bodyStart, int bodyLength,
+                                int profileCount, int stringCount, int lastUsedIndex) {
+        Decoder in = new Decoder(buffer, bodyStart, bodyStart + bodyLength);
+
+        // 역할: 이름 문자열은 표에서 한 번만 만들고, 프로파일은 같은 String 인스턴스를 공유한다.
+        String[] strings = new String[stringCount];
+        byte[] scratch = new byte[64];
+        for (int i = 0; i < stringCount; i++) {
+            int length = in.readLength();
+            if (length > scratch.length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            in.readBytes(scratch, length);
+            strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        ExactPositionPolicy exact = new ExactPositionPolicy();
+        ExecutionSchedule always = new ExecutionSchedule.Always();
+        MacroProfile[] profiles = new MacroProfile[profileCount];
+        for (int i = 0; i < profileCount; i++) {
+            String name = strings[in.readIndex(stringCount)];
+            String pointName = strings[in.readIndex(stringCount)];
+            int x = (int) unZigZag(in.readVarLong());
+            int y = (int) unZigZag(in.readVarLong());
+
+            ClickPositionPolicy policy = switch (in.readByte()) {
+                case POLICY_EXACT -> exact;
+                case POLICY_AREA -> new RandomAreaPositionPolicy(in.readInt(), in.readInt());
+                default -> throw new IllegalStateException("알 수 없는 좌표 정책 코드다. profile=" + name);
+            };
+
+            int button = in.readByte();
+            if (button >= BUTTONS.length) {
+                throw new IllegalStateException("알 수 없는 버튼 코드다. button=" + button);
+            }
+            ClickAction action = new ClickAction(BUTTONS[button], in.readInt(), in.readVarLong());
+            DelayPolicy delay = new DelayPolicy(in.readVarLong(), in.readVarLong(), in.readVarLong());
+
+            ExecutionSchedule schedule = switch (in.readByte()) {
+                case SCHEDULE_ALWAYS -> always;
+                case SCHEDULE_RANGE -> new ExecutionSchedule.Range(new DelayPolicy.LocalTimeRange(
+                        in.readTime(), in.readTime()));
+                default -> throw new IllegalStateException("알 수 없는 스케줄 코드다. profile=" + name);
+            };
+
+            profiles[i] = new MacroProfile(name, new MacroPoint(pointName, new ScreenPoint(x, y), policy),
+                    action, delay, schedule, in.readInt());
+        }
+        in.expectEnd();
+        return new MacroProfiles(Arrays.asList(profiles), lastUsedIndex);
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static void putVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    /**
+     * 본문을 절대 위치로 읽는 커서(본문 끝을 넘어 읽으면 형식 오류).
+     */
+    private static final class Decoder {
+
+        private final ByteBuffer buffer;
+        private final int end;
+        private int position;
+
+        Decoder(ByteBuffer buffer, int start, int end) {
+            this.buffer = buffer;
+            this.position = start;
+            this.end = end;
+        }
+
+        int readByte() {
+            require(1);
+            return buffer.get(position++) & 0xFF;
+        }
+
+        void readBytes(byte[] dst, int length) {
+            require(length);
+            buffer.get(position, dst, 0, length);
+            position += length;
+        }
+
+        int readInt() {
+            long value = readVarLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IllegalStateException("int 범위를 넘는 값이다. value=" + value);
+            }
+            return (int) value;
+        }
+
+        int readLength() {
+            int length = readInt();
+            require(length);
+            return length;
+        }
+
+        int readIndex(int size) {
+            int index = readInt();
+            if (index >= size) {
+                throw new IllegalStateException("문자열 번호가 범위를 벗어났다. index=" + index + ", size=" + size);
+            }
+            return index;
+        }
+
+        LocalTime readTime() {
+            long nanoOfDay = readVarLong();
+            if (nanoOfDay >= 86_400_000_000_000L) {
+                throw new IllegalStateException("nano-of-day 범위를 넘는 값이다. value=" + nanoOfDay);
+            }
+            return LocalTime.ofNanoOfDay(nanoOfDay);
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                require(1);
+                byte b = buffer.get(position++);
+                result |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    if (result < 0) {
+                        throw new IllegalStateException("음수가 될 수 없는 값이다. value=" + result);
+                    }
+                    return result;
+                }
+            }
+            throw new IllegalStateException("varint 길이가 10바이트를 넘는다.");
+        }
+
+        void expectEnd() {
+            if (position != end) {
+                throw new IllegalStateException("본문 길이가 프로파일 수와 맞지 않는다. remaining=" + (end - position));
+            }
+        }
+
+        private void require(int bytes) {
+            if (bytes > end - position) {
+                throw new IllegalStateException("본문이 중간에 끝났다. position=" + position + ", end=" + end);
+            }
+        }
+    }
+}
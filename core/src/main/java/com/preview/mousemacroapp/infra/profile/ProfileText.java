@@ -0,0 +1,89 @@
+package com.preview.mousemacroapp.infra.profile;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.policy.ClickPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.RandomAreaPositionPolicy;
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+import com.preview.mousemacroapp.service.MacroProfile;
+import com.preview.mousemacroapp.service.MacroProfiles;
+
+import java.util.Objects;
+
+/**
+ * 프로파일 목록을 사람이 읽는 텍스트로 만든다(확인/비교/공유용, 다시 읽지 않는다).
+ *
+ * <p><b>형식</b></p>
+ * <pre>
+ * # mousemacroapp profiles format=1 count=1 lastUsed=기본
+ * [기본]
+ * point = default (300, 300)
+ * position = area 3x4
+ * click = LEFT x1 hold=0ms
+ * delay = 300ms + random 0..50ms
+ * schedule = 09:00-18:00
+ * repeat = 0
+ * </pre>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>줄 순서와 키 이름은 고정이다(줄 단위 diff로 비교할 수 있다).</li>
+ *     <li>position은 exact / area WxH(반폭x반높이), schedule은 always / 시작-끝(끝 제외)이다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class ProfileText {
+
+    private ProfileText() {
+    }
+
+    /**
+     * @param profiles 프로파일 목록
+     * @return 텍스트(줄 끝은 '\n')
+     * @throws NullPointerException profiles가 null인 경우
+     */
+    public static String format(MacroProfiles profiles) {
+        Objects.requireNonNull(profiles, "profiles");
+        StringBuilder out = new StringBuilder(64 + profiles.profiles().size() * 160);
+        out.append("# mousemacroapp profiles format=").append(ProfileFormat.VERSION)
+                .append(" count=").append(profiles.profiles().size())
+                .append(" lastUsed=").append(profiles.lastUsed().map(MacroProfile::name).orElse("-"))
+                .append('\n');
+        for (MacroProfile profile : profiles.profiles()) {
+            MacroPoint point = profile.macroPoint();
+            ClickAction action = profile.clickAction();
+            DelayPolicy delay = profile.delayPolicy();
+            out.append('[').append(profile.name()).append("]\n");
+            out.append("point = ").append(point.name())
+                    .append(" (").append(point.base().x()).append(", ").append(point.base().y()).append(")\n");
+            out.append("position = ").append(position(point.positionPolicy())).append('\n');
+            out.append("click = ").append(action.button()).append(" x").append(action.clickCount())
+                    .append(" hold=").append(action.holdMillis()).append("ms\n");
+            out.append("delay = ").append(delay.baseIntervalMillis()).append("ms + random ")
+                    .append(delay.minRandomMillis()).append("..").append(delay.maxRandomMillis()).append("ms\n");
+            out.append("schedule = ").append(schedule(profile.schedule())).append('\n');
+            out.append("repeat = ").append(profile.repeatCount()).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static String position(ClickPositionPolicy policy) {
+        if (policy instanceof ExactPositionPolicy) {
+            return "exact";
+        }
+        if (policy instanceof RandomAreaPositionPolicy area) {
+            return "area " + area.halfWidth() + "x" + area.halfHeight();
+        }
+        return policy.getClass().getName();
+    }
+
+    private static String schedule(ExecutionSchedule schedule) {
+        if (schedule instanceof ExecutionSchedule.Range range) {
+            return range.timeRange().startInclusive() + "-" + range.timeRange().endExclusive();
+        }
+        return "always";
+    }
+}
@@ -0,0 +1,11 @@
+/**
+ * 매크로 프로파일 저장소 인프라를 제공한다.
+ *
+ * <p>
+ * {@link com.preview.mousemacroapp.service.MacroProfileStore} 포트를 버전이 붙은 이진 파일로 구현하고,
+ * 사람이 읽는 텍스트 내보내기를 함께 제공한다.
+ * </p>
+ *
+ * @since 0.9
+ */
+package com.preview.mousemacroapp.infra.profile;
@@ -0,0 +1,163 @@
+package com.preview.mousemacroapp.infra.record;
+
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+import com.preview.mousemacroapp.service.InputEventSink;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 다중 생산자/단일 소비자 입력 이벤트 링 버퍼.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>이벤트를 열(column)별 원시 배열(시각/종류/x/y/코드)에 보관한다. 생성 후 추가 할당이 없다.</li>
+ *     <li>생산자는 CAS로 칸을 예약하고 값을 쓴 뒤 칸 번호를 공개한다(잠금 없음, 상수 시간).</li>
+ *     <li>소비자는 공개된 칸만 순서대로 꺼내 {@link InputEventSink}에 전달한다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>가득 차면 새 이벤트를 버리고 버림 수를 센다(생산자는 절대 대기하지 않는다).</li>
+ *     <li>{@link #drainTo(InputEventSink, int)}는 한 스레드에서만 호출한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class InputEventRing {
+
+    private final int mask;
+    private final long[] timestamps;
+    private final byte[] types;
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] codes;
+
+    // 역할: 칸별 공개 순번. 생산자가 값을 모두 쓴 뒤 release로 기록하고, 소비자는 acquire로 확인한다.
+    private final AtomicLongArray published;
+
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * 링 버퍼를 생성한다.
+     *
+     * @param capacity 용량(2의 거듭제곱)
+     * @throws IllegalArgumentException capacity가 2 이상의 2의 거듭제곱이 아닌 경우
+     */
+    public InputEventRing(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity는 2 이상의 2의 거듭제곱이어야 한다. capacity=" + capacity);
+        }
+        this.mask = capacity - 1;
+        this.timestamps = new long[capacity];
+        this.types = new byte[capacity];
+        this.xs = new int[capacity];
+        this.ys = new int[capacity];
+        this.codes = new int[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1L);
+        }
+    }
+
+    /**
+     * 이벤트 1건을 넣는다(여러 스레드에서 동시 호출 가능, 무할당).
+     *
+     * @param timestampNanos 시각(ns)
+     * @param type           이벤트 종류
+     * @param x              x 좌표
+     * @param y              y 좌표
+     * @param code           종류별 값
+     * @return 넣었으면 true, 가득 차서 버렸으면 false
+     */
+    public boolean offer(long timestampNanos, InputEventType type, int x, int y, int code) {
+        long seq;
+        do {
+            seq = tail.get();
+            if (seq - head.get() > mask) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!tail.compareAndSet(seq, seq + 1));
+
+        int slot = (int) seq & mask;
+        timestamps[slot] = timestampNanos;
+        types[slot] = (byte) type.code();
+        xs[slot] = x;
+        ys[slot] = y;
+        codes[slot] = code;
+        published.setRelease(slot, seq);
+        return true;
+    }
+
+    /**
+     * 공개된 이벤트를 순서대로 꺼내 전달한다(단일 소비자).
+     *
+     * <p>
+     * 예약만 되고 아직 공개되지 않은 칸을 만나면 거기서 멈춘다(다음 호출에서 이어서 꺼낸다).
+     * 1건 이상 꺼냈으면 마지막에 {@link InputEventSink#endOfBatch()}를 호출한다.
+     * </p>
+     *
+     * @param sink     전달 대상
+     * @param maxCount 최대 꺼낼 건수
+     * @return 꺼낸 건수
+     * @throws NullPointerException sink가 null인 경우
+     */
+    public int drainTo(InputEventSink sink, int maxCount) {
+        Objects.requireNonNull(sink, "sink");
+        long seq = head.get();
+        int count = 0;
+        while (count < maxCount) {
+            int slot = (int) seq & mask;
+            if (published.getAcquire(slot) != seq) {
+                break;
+            }
+            long timestamp = timestamps[slot];
+            int type = types[slot];
+            int x = xs[slot];
+            int y = ys[slot];
+            int code = codes[slot];
+            seq++;
+            count++;
+            // 역할: 값을 복사한 뒤 칸을 먼저 반환한다.
+            // - 느린 싱크에서도 생산자가 최대한 빈 칸을 보게 한다.
+            // - 싱크가 예외를 던져도 같은 칸을 반복해서 꺼내지 않는다.
+            head.setRelease(seq);
+            sink.accept(timestamp, InputEventType.ofCode(type), x, y, code);
+        }
+        if (count > 0) {
+            sink.endOfBatch();
+        }
+        return count;
+    }
+
+    /**
+     * 용량을 반환한다.
+     *
+     * @return 용량
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * 아직 꺼내지 않은(예약 포함) 이벤트 수를 반환한다.
+     *
+     * @return 대기 건수
+     */
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * 가득 차서 버린 이벤트 수를 반환한다.
+     *
+     * @return 버린 건수
+     */
+    public long droppedCount() {
+        return dropped.get();
+    }
+}
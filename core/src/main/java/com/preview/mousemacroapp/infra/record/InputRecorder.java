@@ -0,0 +1,175 @@
+package com.preview.mousemacroapp.infra.record;
+
+import com.github.kwhat.jnativehook.NativeInputEvent;
+import com.github.kwhat.jnativehook.keyboard.NativeKeyEvent;
+import com.github.kwhat.jnativehook.mouse.NativeMouseEvent;
+import com.github.kwhat.jnativehook.mouse.NativeMouseWheelEvent;
+import com.preview.mousemacroapp.debug.DebugLog;
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+import com.preview.mousemacroapp.infra.hook.JNativeHookFacade;
+import com.preview.mousemacroapp.infra.hook.NativeInputTap;
+import com.preview.mousemacroapp.service.InputEventSink;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 전역 마우스/키 입력 기록기.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>훅 스레드 관찰자({@link NativeInputTap})로 이동/버튼/휠/키 입력을 받아 {@link InputEventRing}에 넣는다.
+ *     훅 스레드에서는 값 복사만 하므로 상수 시간, 무할당이다.</li>
+ *     <li>전용 데몬 스레드가 링을 비우며 {@link InputEventSink}로 전달한다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>링이 가득 차면 이벤트를 버리고 {@link #droppedCount()}로 센다(훅 스레드는 대기하지 않는다).</li>
+ *     <li>마우스 클릭(누름+뗌 합성)과 문자 입력(typed) 이벤트는 원본 누름/뗌과 중복이므로 기록하지 않는다.</li>
+ *     <li>{@link #close()}는 관찰자를 해제한 뒤 남은 이벤트를 모두 전달하고 반환한다(멱등).
+ *     싱크 자체를 닫지는 않는다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class InputRecorder implements AutoCloseable {
+
+    private static final int DRAIN_BATCH = 1024;
+    private static final long IDLE_PARK_NANOS = 500_000L;
+
+    private final JNativeHookFacade facade;
+    private final InputEventRing ring;
+    private final InputEventSink sink;
+    private final NativeInputTap tap = this::onNativeEvent;
+    private final AtomicLong recorded = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread drainer;
+
+    /**
+     * 기록기를 생성한다. 기록은 {@link #start()}에서 시작한다.
+     *
+     * @param facade 전역 훅 파사드
+     * @param ring   이벤트 링 버퍼
+     * @param sink   기록 전달 대상
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    public InputRecorder(JNativeHookFacade facade, InputEventRing ring, InputEventSink sink) {
+        this.facade = Objects.requireNonNull(facade, "facade");
+        this.ring = Objects.requireNonNull(ring, "ring");
+        this.sink = Objects.requireNonNull(sink, "sink");
+    }
+
+    /**
+     * 꺼냄 스레드를 시작하고 관찰자를 연결한다(멱등).
+     */
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        drainer = new Thread(this::drainLoop, "input-recorder-drain");
+        drainer.setDaemon(true);
+        drainer.start();
+        facade.addInputTap(tap);
+        DebugLog.log("RECORD", () -> "recorder started capacity=" + ring.capacity());
+    }
+
+    /**
+     * 관찰자를 해제하고 남은 이벤트를 모두 전달한 뒤 꺼냄 스레드를 종료한다(멱등).
+     */
+    @Override
+    public synchronized void close() {
+        if (!running) {
+            return;
+        }
+        facade.removeInputTap(tap);
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        drainer = null;
+        DebugLog.log("RECORD", () -> "recorder stopped recorded=" + recorded.get() + " dropped=" + droppedCount());
+    }
+
+    /**
+     * 싱크로 전달한 이벤트 수를 반환한다.
+     *
+     * @return 전달 건수
+     */
+    public long recordedCount() {
+        return recorded.get();
+    }
+
+    /**
+     * 링이 가득 차서 버린 이벤트 수를 반환한다.
+     *
+     * @return 버린 건수
+     */
+    public long droppedCount() {
+        return ring.droppedCount();
+    }
+
+    /**
+     * 훅 스레드에서 호출된다. 종류/좌표/코드만 추출하여 링에 넣는다.
+     *
+     * @param event JNativeHook 이벤트
+     */
+    void onNativeEvent(NativeInputEvent event) {
+        long now = System.nanoTime();
+        switch (event.getID()) {
+            case NativeMouseEvent.NATIVE_MOUSE_MOVED, NativeMouseEvent.NATIVE_MOUSE_DRAGGED -> {
+                NativeMouseEvent e = (NativeMouseEvent) event;
+                ring.offer(now, InputEventType.MOUSE_MOVE, e.getX(), e.getY(), 0);
+            }
+            case NativeMouseEvent.NATIVE_MOUSE_PRESSED -> {
+                NativeMouseEvent e = (NativeMouseEvent) event;
+                ring.offer(now, InputEventType.MOUSE_PRESS, e.getX(), e.getY(), e.getButton());
+            }
+            case NativeMouseEvent.NATIVE_MOUSE_RELEASED -> {
+                NativeMouseEvent e = (NativeMouseEvent) event;
+                ring.offer(now, InputEventType.MOUSE_RELEASE, e.getX(), e.getY(), e.getButton());
+            }
+            case NativeMouseEvent.NATIVE_MOUSE_WHEEL -> {
+                NativeMouseWheelEvent e = (NativeMouseWheelEvent) event;
+                ring.offer(now, InputEventType.MOUSE_WHEEL, e.getX(), e.getY(), e.getWheelRotation());
+            }
+            case NativeKeyEvent.NATIVE_KEY_PRESSED ->
+                    ring.offer(now, InputEventType.KEY_PRESS, 0, 0, ((NativeKeyEvent) event).getKeyCode());
+            case NativeKeyEvent.NATIVE_KEY_RELEASED ->
+                    ring.offer(now, InputEventType.KEY_RELEASE, 0, 0, ((NativeKeyEvent) event).getKeyCode());
+            default -> {
+                // 클릭/문자 입력 합성 이벤트는 기록하지 않는다.
+            }
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            if (drainOnce() == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        // 역할: 관찰자 해제 이후 링에 남은 이벤트까지 전달한다.
+        while (drainOnce() > 0) {
+            // 비울 때까지 반복
+        }
+    }
+
+    private int drainOnce() {
+        try {
+            int count = ring.drainTo(sink, DRAIN_BATCH);
+            recorded.addAndGet(count);
+            return count;
+        } catch (RuntimeException ex) {
+            // 역할: 싱크 오류로 꺼냄 스레드가 죽으면 링이 가득 차 이후 입력이 모두 버려지므로, 기록만 하고 계속한다.
+            DebugLog.log("RECORD", () -> "sink failed msg=" + ex.getMessage());
+            return 1;
+        }
+    }
+}
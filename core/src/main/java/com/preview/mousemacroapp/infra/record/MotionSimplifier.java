@@ -0,0 +1,278 @@
+package com.preview.mousemacroapp.infra.record;
+
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+import com.preview.mousemacroapp.service.InputEventSink;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마우스 이동 경로를 줄여 전달하는 싱크 단계(Ramer–Douglas–Peucker, 창 단위 스트리밍).
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>연속된 이동 이벤트를 고정 크기 창에 모아, 허용 오차(px) 안에서 경로 모양을 바꾸지 않는 점을 버린다.</li>
+ *     <li>남긴 두 점 사이 시간이 최대 간격을 넘으면 가운데 시각의 점을 더 남긴다
+ *     (재생은 남은 점만 옮기므로, 긴 직선 이동이 한 번에 건너뛰지 않게 한다).</li>
+ *     <li>이동이 아닌 이벤트(버튼/휠/키)가 오면 모아 둔 이동을 먼저 내보낸 뒤 그대로 전달한다(순서/누름 좌표 보존).</li>
+ *     <li>이동 입력/출력 수와 버린 점의 최대 편차(남긴 선분까지의 거리)를 집계한다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>메모리는 창 크기에 비례하여 고정이다. 창이 차면 창을 줄여 내보내고 마지막 점을 다음 창의 시작점으로 이어 간다.</li>
+ *     <li>이동 이벤트의 code는 0으로 내보낸다(기록 형식상 이동 code는 항상 0).</li>
+ *     <li>단일 스레드(기록기 꺼냄 스레드)에서만 사용하며, 끝낼 때 {@link #flush()}로 남은 점을 내보낸다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class MotionSimplifier implements InputEventSink {
+
+    /**
+     * 기본 허용 오차(1px).
+     */
+    public static final double DEFAULT_TOLERANCE_PIXELS = 1.0;
+
+    /**
+     * 기본 최대 간격(16ms, 60Hz 화면 1프레임).
+     */
+    public static final long DEFAULT_MAX_GAP_NANOS = TimeUnit.MILLISECONDS.toNanos(16);
+
+    /**
+     * 기본 창 크기(이동 점 수).
+     */
+    public static final int DEFAULT_WINDOW = 512;
+
+    private final InputEventSink downstream;
+    private final double tolerance;
+    private final long maxGapNanos;
+
+    private final long[] timestamps;
+    private final int[] xs;
+    private final int[] ys;
+    private final boolean[] keep;
+    private final int[] stack;
+
+    private int size;
+
+    private long inputMoves;
+    private long outputMoves;
+    private double maxDeviation;
+
+    /**
+     * 기본 허용 오차/최대 간격/창 크기로 생성한다.
+     *
+     * @param downstream 전달 대상
+     * @throws NullPointerException downstream이 null인 경우
+     */
+    public MotionSimplifier(InputEventSink downstream) {
+        this(downstream, DEFAULT_TOLERANCE_PIXELS, DEFAULT_MAX_GAP_NANOS, DEFAULT_WINDOW);
+    }
+
+    /**
+     * @param downstream      전달 대상
+     * @param tolerancePixels 허용 오차(px, 0 이상)
+     * @param maxGapNanos     남긴 점 사이 최대 간격(ns, 1 이상, {@link Long#MAX_VALUE}=제한 없음)
+     * @param window          창 크기(이동 점 수, 3 이상)
+     * @throws NullPointerException     downstream이 null인 경우
+     * @throws IllegalArgumentException 값이 범위를 벗어난 경우
+     */
+    public MotionSimplifier(InputEventSink downstream, double tolerancePixels, long maxGapNanos, int window) {
+        this.downstream = Objects.requireNonNull(downstream, "downstream");
+        if (!(tolerancePixels >= 0) || Double.isInfinite(tolerancePixels)) {
+            throw new IllegalArgumentException("tolerancePixels는 0 이상이어야 한다. tolerancePixels=" + tolerancePixels);
+        }
+        if (maxGapNanos < 1) {
+            throw new IllegalArgumentException("maxGapNanos는 1 이상이어야 한다. maxGapNanos=" + maxGapNanos);
+        }
+        if (window < 3) {
+            throw new IllegalArgumentException("window는 3 이상이어야 한다. window=" + window);
+        }
+        this.tolerance = tolerancePixels;
+        this.maxGapNanos = maxGapNanos;
+        this.timestamps = new long[window];
+        this.xs = new int[window];
+        this.ys = new int[window];
+        this.keep = new boolean[window];
+        this.stack = new int[2 * window];
+    }
+
+    /**
+     * 기록 파일의 이동 경로를 줄여 새 기록 파일로 쓴다.
+     *
+     * @param in              원본 기록 파일
+     * @param out             결과 기록 파일(기존 파일은 덮어쓴다)
+     * @param tolerancePixels 허용 오차(px)
+     * @return 집계가 담긴 단계(이미 flush됨)
+     * @throws IOException 파일을 읽거나 쓸 수 없는 경우
+     */
+    public static MotionSimplifier simplify(Path in, Path out, double tolerancePixels) throws IOException {
+        try (RecordingReader reader = RecordingReader.open(in);
+             RecordingWriter writer = RecordingWriter.open(out, reader.tickNanos(), RecordingWriter.DEFAULT_BLOCK_CAPACITY)) {
+            MotionSimplifier simplifier =
+                    new MotionSimplifier(writer, tolerancePixels, DEFAULT_MAX_GAP_NANOS, DEFAULT_WINDOW);
+            RecordingReader.Cursor cursor = reader.cursor();
+            while (cursor.drainTo(simplifier, 4096) > 0) {
+                // 역할: 커서가 끝날 때까지 묶음 단위로 전달한다.
+            }
+            simplifier.flush();
+            return simplifier;
+        }
+    }
+
+    @Override
+    public void accept(long timestampNanos, InputEventType type, int x, int y, int code) {
+        if (type != InputEventType.MOUSE_MOVE) {
+            emitWindow(true);
+            downstream.accept(timestampNanos, type, x, y, code);
+            return;
+        }
+        if (size == timestamps.length) {
+            emitWindow(false);
+        }
+        timestamps[size] = timestampNanos;
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+        inputMoves++;
+    }
+
+    @Override
+    public void endOfBatch() {
+        downstream.endOfBatch();
+    }
+
+    /**
+     * 모아 둔 이동을 모두 내보낸다(기록 종료 시 호출).
+     */
+    public void flush() {
+        emitWindow(true);
+    }
+
+    /**
+     * @return 받은 이동 이벤트 수
+     */
+    public long inputMoveCount() {
+        return inputMoves;
+    }
+
+    /**
+     * @return 내보낸 이동 이벤트 수
+     */
+    public long outputMoveCount() {
+        return outputMoves;
+    }
+
+    /**
+     * 이동 이벤트 압축률(받은 수 / 내보낸 수)을 반환한다.
+     *
+     * @return 압축률(내보낸 이동이 없으면 1)
+     */
+    public double compressionRatio() {
+        return outputMoves == 0 ? 1.0 : (double) inputMoves / outputMoves;
+    }
+
+    /**
+     * 버린 점과 그 점을 대신하는 선분 사이의 최대 거리를 반환한다.
+     *
+     * @return 최대 편차(px, 허용 오차 이하)
+     */
+    public double maxDeviationPixels() {
+        return maxDeviation;
+    }
+
+    private void emitWindow(boolean last) {
+        if (size == 0) {
+            return;
+        }
+        markKeep(size);
+        int end = last ? size : size - 1;
+        for (int i = 0; i < end; i++) {
+            if (keep[i]) {
+                downstream.accept(timestamps[i], InputEventType.MOUSE_MOVE, xs[i], ys[i], 0);
+                outputMoves++;
+            }
+        }
+        if (last) {
+            size = 0;
+            return;
+        }
+        // 역할: 창 마지막 점(항상 남김, 아직 내보내지 않음)을 다음 창의 시작점으로 옮겨 선분이 창 경계에서 끊기지 않게 한다.
+        timestamps[0] = timestamps[size - 1];
+        xs[0] = xs[size - 1];
+        ys[0] = ys[size - 1];
+        size = 1;
+    }
+
+    /**
+     * 창 [0, n)에서 남길 점을 표시한다(재귀 없이 명시 스택 사용, 무할당).
+     */
+    private void markKeep(int n) {
+        Arrays.fill(keep, 0, n, false);
+        keep[0] = true;
+        keep[n - 1] = true;
+        int top = 0;
+        stack[top++] = 0;
+        stack[top++] = n - 1;
+        while (top > 0) {
+            int b = stack[--top];
+            int a = stack[--top];
+            if (b - a < 2) {
+                continue;
+            }
+            int farthest = -1;
+            double farthestDistance = -1;
+            for (int i = a + 1; i < b; i++) {
+                double d = distanceToSegment(i, a, b);
+                if (d > farthestDistance) {
+                    farthestDistance = d;
+                    farthest = i;
+                }
+            }
+            int split;
+            if (farthestDistance > tolerance) {
+                split = farthest;
+            } else if (timestamps[b] - timestamps[a] > maxGapNanos) {
+                split = midpointByTime(a, b);
+            } else {
+                maxDeviation = Math.max(maxDeviation, farthestDistance);
+                continue;
+            }
+            keep[split] = true;
+            stack[top++] = a;
+            stack[top++] = split;
+            stack[top++] = split;
+            stack[top++] = b;
+        }
+    }
+
+    private int midpointByTime(int a, int b) {
+        long half = timestamps[a] + (timestamps[b] - timestamps[a]) / 2;
+        int i = a + 1;
+        while (i < b - 1 && timestamps[i] < half) {
+            i++;
+        }
+        return i;
+    }
+
+    private double distanceToSegment(int p, int a, int b) {
+        double ax = xs[a];
+        double ay = ys[a];
+        double dx = xs[b] - ax;
+        double dy = ys[b] - ay;
+        double px = xs[p] - ax;
+        double py = ys[p] - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        if (lengthSquared == 0) {
+            return Math.sqrt(px * px + py * py);
+        }
+        double t = Math.max(0, Math.min(1, (px * dx + py * dy) / lengthSquared));
+        double ex = px - t * dx;
+        double ey = py - t * dy;
+        return Math.sqrt(ex * ex + ey * ey);
+    }
+}
@@ -0,0 +1,290 @@
+package com.preview.mousemacroapp.infra.record;
+
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 입력 기록 파일 형식(big-endian).
+ *
+ * <p><b>파일 헤더({@value #FILE_HEADER_BYTES}바이트)</b></p>
+ * <ul>
+ *     <li>magic(int) {@value #FILE_MAGIC}, version(short), 헤더 길이(short)</li>
+ *     <li>tickNanos(int): 시각 해상도. 이벤트 시각은 이 단위로 내림하여 저장한다(1=ns 그대로).</li>
+ *     <li>blockCapacity(int): 블록 본문 최대 바이트, 생성 시각(epoch ms, long), 예약(long)</li>
+ * </ul>
+ *
+ * <p><b>블록 헤더({@value #BLOCK_HEADER_BYTES}바이트) + 본문</b></p>
+ * <ul>
+ *     <li>magic(int) {@value #BLOCK_MAGIC}, 본문 길이(int), 이벤트 수(int)</li>
+ *     <li>첫/마지막 이벤트 시각(ns, long 2개), 본문 CRC32(int)</li>
+ *     <li>델타 기준값(시각/예측 간격/x/y)은 블록마다 초기화되므로 블록 단위로 독립 해석할 수 있다.</li>
+ * </ul>
+ *
+ * <p><b>이벤트 인코딩</b></p>
+ * <ul>
+ *     <li>시각은 간격(delta)을 그대로 쓰지 않고, 블록 안에서 이어 온 예측 간격과의 차이(잔차)를 쓴다.
+ *     예측 간격은 잔차/4만큼(±{@value #PREDICTOR_STEP_LIMIT} tick 이내) 따라가므로
+ *     일정 주기(마우스 폴링) 입력의 잔차는 흔들림(jitter) 크기로 작아지고, 긴 유휴 간격에도 크게 흔들리지 않는다.</li>
+ *     <li>압축 이동(2바이트): 첫 바이트 최상위 비트 1 + 잔차 7비트(-64..63), 둘째 바이트 dx/dy 니블(-8..7). code가 0인 이동만 쓴다.</li>
+ *     <li>일반형: 태그(최상위 비트 0, 하위 3비트 종류 코드, 생략 플래그) 뒤에
+ *     잔차 zig-zag varint(0이면 생략, {@link #TIME_REPEAT}),
+ *     좌표(변화 없음 {@link #XY_SAME} / 니블 {@link #XY_NIBBLE} / dx·dy zig-zag varint),
+ *     코드(0이 아닐 때만 zig-zag varint, {@link #HAS_CODE})</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class RecordingFormat {
+
+    /**
+     * 파일 매직("MMRC").
+     */
+    public static final int FILE_MAGIC = 0x4D4D5243;
+
+    /**
+     * 형식 버전.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * 파일 헤더 길이.
+     */
+    public static final int FILE_HEADER_BYTES = 32;
+
+    /**
+     * 블록 매직("MBLK").
+     */
+    public static final int BLOCK_MAGIC = 0x4D424C4B;
+
+    /**
+     * 블록 헤더 길이.
+     */
+    public static final int BLOCK_HEADER_BYTES = 32;
+
+    /**
+     * 이벤트 1건의 최대 인코딩 길이(태그 + 시각 10 + 좌표 5+5 + 코드 5).
+     */
+    static final int MAX_EVENT_BYTES = 26;
+
+    static final int TYPE_MASK = 0x07;
+    static final int TIME_REPEAT = 0x08;
+    static final int XY_SAME = 0x10;
+    static final int XY_NIBBLE = 0x20;
+    static final int HAS_CODE = 0x40;
+    static final int PACKED_MOVE = 0x80;
+
+    static final long PREDICTOR_STEP_LIMIT = 256;
+
+    private RecordingFormat() {
+    }
+
+    /**
+     * 블록 단위 델타 인코더(재사용, 무할당).
+     */
+    static final class BlockEncoder {
+
+        private long prevTick;
+        private long predicted;
+        private int prevX;
+        private int prevY;
+
+        /**
+         * 새 블록의 기준값을 설정한다.
+         *
+         * @param firstTick 블록 첫 이벤트 시각(tick)
+         */
+        void reset(long firstTick) {
+            prevTick = firstTick;
+            predicted = 0;
+            prevX = 0;
+            prevY = 0;
+        }
+
+        void encode(ByteBuffer out, long tick, InputEventType type, int x, int y, int code) {
+            long residual = tick - prevTick - predicted;
+            predicted = nextPrediction(predicted, residual);
+            prevTick = tick;
+
+            int dx = x - prevX;
+            int dy = y - prevY;
+            prevX = x;
+            prevY = y;
+            boolean nibble = dx >= -8 && dx <= 7 && dy >= -8 && dy <= 7;
+
+            if (type == InputEventType.MOUSE_MOVE && code == 0 && nibble && residual >= -64 && residual <= 63) {
+                out.put((byte) (PACKED_MOVE | (residual & 0x7F)));
+                out.put((byte) ((dx << 4) | (dy & 0x0F)));
+                return;
+            }
+
+            int tagPosition = out.position();
+            out.put((byte) 0);
+            int tag = type.code();
+            if (residual == 0) {
+                tag |= TIME_REPEAT;
+            } else {
+                putVarLong(out, zigZag(residual));
+            }
+            if (dx == 0 && dy == 0) {
+                tag |= XY_SAME;
+            } else if (nibble) {
+                tag |= XY_NIBBLE;
+                out.put((byte) ((dx << 4) | (dy & 0x0F)));
+            } else {
+                putVarLong(out, zigZag(dx));
+                putVarLong(out, zigZag(dy));
+            }
+            if (code != 0) {
+                tag |= HAS_CODE;
+                putVarLong(out, zigZag(code));
+            }
+            out.put(tagPosition, (byte) tag);
+        }
+    }
+
+    /**
+     * 블록 본문을 한 건씩 해석하는 디코더(재사용, 무할당).
+     *
+     * <p>
+     * 버퍼의 position을 건드리지 않고 절대 위치로 읽으므로, 여러 디코더가 같은 (매핑) 버퍼를 공유할 수 있다.
+     * </p>
+     */
+    static final class BlockDecoder {
+
+        private ByteBuffer buffer;
+        private int position;
+        private int end;
+        private int remaining;
+        private int tickNanos;
+
+        private long tick;
+        private long predicted;
+        private int x;
+        private int y;
+
+        private InputEventType type;
+        private int code;
+
+        /**
+         * 새 블록 해석을 시작한다.
+         *
+         * @param buffer    블록을 담은 버퍼
+         * @param start     본문 시작 위치(절대)
+         * @param length    본문 길이
+         * @param count     이벤트 수
+         * @param firstTick 블록 첫 이벤트 시각(tick)
+         * @param tickNanos 시각 해상도(ns)
+         */
+        void reset(ByteBuffer buffer, int start, int length, int count, long firstTick, int tickNanos) {
+            this.buffer = buffer;
+            this.position = start;
+            this.end = start + length;
+            this.remaining = count;
+            this.tickNanos = tickNanos;
+            this.tick = firstTick;
+            this.predicted = 0;
+            this.x = 0;
+            this.y = 0;
+        }
+
+        /**
+         * 다음 이벤트를 해석한다.
+         *
+         * @return 해석했으면 true, 블록 끝이면 false
+         * @throws IllegalStateException 본문이 형식에 맞지 않는 경우
+         */
+        boolean next() {
+            if (remaining == 0) {
+                if (position != end) {
+                    throw new IllegalStateException("블록 본문 길이가 이벤트 수와 맞지 않는다. remaining=" + (end - position));
+                }
+                return false;
+            }
+            int tag = buffer.get(position++) & 0xFF;
+            long residual;
+            code = 0;
+            if ((tag & PACKED_MOVE) != 0) {
+                residual = (tag << 25) >> 25;
+                type = InputEventType.MOUSE_MOVE;
+                unpackNibbles(buffer.get(position++));
+            } else {
+                residual = (tag & TIME_REPEAT) != 0 ? 0 : unZigZag(readVarLong());
+                type = InputEventType.ofCode(tag & TYPE_MASK);
+                if ((tag & XY_NIBBLE) != 0) {
+                    unpackNibbles(buffer.get(position++));
+                } else if ((tag & XY_SAME) == 0) {
+                    x += (int) unZigZag(readVarLong());
+                    y += (int) unZigZag(readVarLong());
+                }
+                if ((tag & HAS_CODE) != 0) {
+                    code = (int) unZigZag(readVarLong());
+                }
+            }
+            if (position > end) {
+                throw new IllegalStateException("블록 본문을 넘어 읽었다. overrun=" + (position - end));
+            }
+            tick += predicted + residual;
+            predicted = nextPrediction(predicted, residual);
+            remaining--;
+            return true;
+        }
+
+        long timestampNanos() {
+            return tick * tickNanos;
+        }
+
+        InputEventType type() {
+            return type;
+        }
+
+        int x() {
+            return x;
+        }
+
+        int y() {
+            return y;
+        }
+
+        int code() {
+            return code;
+        }
+
+        private void unpackNibbles(byte packed) {
+            x += packed >> 4;
+            y += (packed << 28) >> 28;
+        }
+
+        private long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer.get(position++);
+                result |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return result;
+                }
+            }
+            throw new IllegalStateException("varint 길이가 10바이트를 넘는다.");
+        }
+    }
+
+    static long nextPrediction(long predicted, long residual) {
+        return predicted + Math.max(-PREDICTOR_STEP_LIMIT, Math.min(PREDICTOR_STEP_LIMIT, residual >> 2));
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static void putVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+}
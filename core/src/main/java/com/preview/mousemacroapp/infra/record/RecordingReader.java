@@ -0,0 +1,426 @@
+package com.preview.mousemacroapp.infra.record;
+
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+import com.preview.mousemacroapp.service.InputEventSink;
+import com.preview.mousemacroapp.service.replay.ReplaySource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * {@link RecordingFormat} 파일을 메모리 매핑으로 읽는 리더.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>파일을 읽기 전용으로 매핑하고, 블록은 커서가 도달할 때 CRC 확인 후 한 건씩 해석한다(힙에 적재하지 않음).</li>
+ *     <li>열 때 블록 헤더만 건너뛰며 훑어 (첫 시각 → 블록 위치) 희소 색인을 만든다.</li>
+ *     <li>{@link #seek(long)}은 색인 이진 탐색 후 색인 간격 이내의 블록 헤더만 따라가 O(log n)으로 위치를 찾는다.</li>
+ *     <li>{@link Cursor#position()}으로 얻은 위치에서 {@link #resume(Position)}으로 이어 읽을 수 있다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>색인 항목 수는 상한이 있다. 넘치면 항목을 하나 걸러 버리고 간격을 2배로 늘린다
+ *     (기록 길이와 무관하게 힙 사용량이 일정).</li>
+ *     <li>비정상 종료로 잘린 마지막 블록은 무시한다(온전한 블록까지만 읽는다).</li>
+ *     <li>CRC 불일치 블록은 {@link IllegalStateException}으로 알린다.</li>
+ *     <li>파일 크기는 {@link Integer#MAX_VALUE} 이하만 지원한다(단일 매핑).</li>
+ *     <li>커서는 스레드 안전하지 않다. 스레드마다 별도 커서를 사용한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class RecordingReader implements Closeable {
+
+    /**
+     * 기본 색인 항목 상한.
+     */
+    public static final int DEFAULT_MAX_INDEX_ENTRIES = 1024;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer mapped;
+    private final int tickNanos;
+    private final int end;
+
+    private final long[] indexNanos;
+    private final int[] indexOffsets;
+    private int indexSize;
+    private int indexStride = 1;
+
+    private long events;
+    private int blocks;
+    private long firstNanos;
+    private long lastNanos;
+
+    /**
+     * 읽어 낸 위치(블록 시작 위치 + 블록 내 순번).
+     *
+     * @param blockOffset 블록 헤더의 파일 내 위치
+     * @param eventIndex  블록 안에서 다음에 읽을 이벤트 순번
+     */
+    public record Position(int blockOffset, int eventIndex) {
+    }
+
+    private RecordingReader(FileChannel channel, MappedByteBuffer mapped, int tickNanos, int maxIndexEntries) {
+        this.channel = channel;
+        this.mapped = mapped;
+        this.tickNanos = tickNanos;
+        this.indexNanos = new long[maxIndexEntries];
+        this.indexOffsets = new int[maxIndexEntries];
+        this.end = scanBlocks();
+    }
+
+    /**
+     * 기록 파일을 연다.
+     *
+     * @param path 파일 경로
+     * @return 리더
+     * @throws IOException 파일을 열 수 없거나 기록 형식이 아닌 경우
+     */
+    public static RecordingReader open(Path path) throws IOException {
+        return open(path, DEFAULT_MAX_INDEX_ENTRIES);
+    }
+
+    /**
+     * 색인 상한을 지정하여 기록 파일을 연다(테스트/조립용).
+     *
+     * @param path            파일 경로
+     * @param maxIndexEntries 색인 항목 상한(2 이상의 짝수)
+     * @return 리더
+     * @throws IOException 파일을 열 수 없거나 기록 형식이 아닌 경우
+     */
+    static RecordingReader open(Path path, int maxIndexEntries) throws IOException {
+        Objects.requireNonNull(path, "path");
+        if (maxIndexEntries < 2 || maxIndexEntries % 2 != 0) {
+            throw new IllegalArgumentException("maxIndexEntries는 2 이상의 짝수여야 한다. maxIndexEntries=" + maxIndexEntries);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("2GiB를 넘는 기록 파일은 지원하지 않는다. size=" + size);
+            }
+            if (size < RecordingFormat.FILE_HEADER_BYTES) {
+                throw new IOException("기록 파일 헤더가 없다. size=" + size);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (mapped.getInt(0) != RecordingFormat.FILE_MAGIC) {
+                throw new IOException("기록 파일 형식이 아니다. path=" + path);
+            }
+            int version = mapped.getShort(4);
+            if (version != RecordingFormat.VERSION) {
+                throw new IOException("지원하지 않는 기록 형식 버전이다. version=" + version);
+            }
+            int tickNanos = mapped.getInt(8);
+            if (tickNanos < 1) {
+                throw new IOException("시각 해상도가 올바르지 않다. tickNanos=" + tickNanos);
+            }
+            return new RecordingReader(channel, mapped, tickNanos, maxIndexEntries);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 처음부터 읽는 커서를 만든다.
+     *
+     * @return 커서
+     */
+    public Cursor cursor() {
+        return new Cursor(blocks == 0 ? end : RecordingFormat.FILE_HEADER_BYTES, 0);
+    }
+
+    /**
+     * 지정 시각 이상인 첫 이벤트부터 읽는 커서를 만든다.
+     *
+     * @param timestampNanos 기록 시각(ns, {@link #firstTimestampNanos()} 기준 절대값)
+     * @return 커서(해당 이벤트가 없으면 바로 끝나는 커서)
+     */
+    public Cursor seek(long timestampNanos) {
+        if (blocks == 0 || timestampNanos <= firstNanos) {
+            return cursor();
+        }
+        // 1) 색인: 첫 시각이 목표 이하인 마지막 항목
+        int i = Arrays.binarySearch(indexNanos, 0, indexSize, timestampNanos);
+        int entry = i >= 0 ? i : Math.max(0, -i - 2);
+        // 같은 시각 블록이 여러 개면 가장 앞쪽부터 본다.
+        while (entry > 0 && indexNanos[entry - 1] == timestampNanos) {
+            entry--;
+        }
+
+        // 2) 블록 헤더 따라가기: 마지막 시각이 목표 미만인 블록은 건너뛴다(최대 색인 간격만큼).
+        int offset = indexOffsets[entry];
+        while (offset < end && mapped.getLong(offset + 20) < timestampNanos) {
+            offset += RecordingFormat.BLOCK_HEADER_BYTES + mapped.getInt(offset + 4);
+        }
+
+        // 3) 블록 안: 목표 미만 이벤트를 건너뛴다.
+        Cursor cursor = new Cursor(offset, 0);
+        cursor.skipBefore(timestampNanos);
+        return cursor;
+    }
+
+    /**
+     * 기록 시작 기준 경과 시간 위치부터 읽는 커서를 만든다.
+     *
+     * @param offset 시작 기준 경과 시간
+     * @return 커서
+     * @throws NullPointerException offset이 null인 경우
+     */
+    public Cursor seek(Duration offset) {
+        Objects.requireNonNull(offset, "offset");
+        return seek(firstNanos + offset.toNanos());
+    }
+
+    /**
+     * 이전 커서 위치에서 이어 읽는 커서를 만든다.
+     *
+     * @param position {@link Cursor#position()} 값
+     * @return 커서
+     * @throws NullPointerException     position이 null인 경우
+     * @throws IllegalArgumentException 블록 경계가 아닌 위치인 경우
+     */
+    public Cursor resume(Position position) {
+        Objects.requireNonNull(position, "position");
+        int offset = position.blockOffset();
+        if (offset != end && (offset < RecordingFormat.FILE_HEADER_BYTES || offset > end
+                || mapped.getInt(offset) != RecordingFormat.BLOCK_MAGIC)) {
+            throw new IllegalArgumentException("블록 시작 위치가 아니다. position=" + position);
+        }
+        return new Cursor(offset, position.eventIndex());
+    }
+
+    public int tickNanos() {
+        return tickNanos;
+    }
+
+    public long eventCount() {
+        return events;
+    }
+
+    public int blockCount() {
+        return blocks;
+    }
+
+    public long firstTimestampNanos() {
+        return firstNanos;
+    }
+
+    public long lastTimestampNanos() {
+        return lastNanos;
+    }
+
+    /**
+     * 기록 길이(첫 이벤트 ~ 마지막 이벤트)를 반환한다.
+     *
+     * @return 기록 길이
+     */
+    public Duration duration() {
+        return Duration.ofNanos(lastNanos - firstNanos);
+    }
+
+    /**
+     * 현재 색인 항목 수를 반환한다(힙 사용량 확인용).
+     *
+     * @return 색인 항목 수
+     */
+    int indexSize() {
+        return indexSize;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // 매핑 해제는 GC 시점에 이루어진다(표준 API에 즉시 해제 수단이 없음).
+        channel.close();
+    }
+
+    private int scanBlocks() {
+        int limit = mapped.limit();
+        int offset = RecordingFormat.FILE_HEADER_BYTES;
+        while (offset + RecordingFormat.BLOCK_HEADER_BYTES <= limit
+                && mapped.getInt(offset) == RecordingFormat.BLOCK_MAGIC) {
+            int length = mapped.getInt(offset + 4);
+            if (length < 0 || offset + RecordingFormat.BLOCK_HEADER_BYTES + (long) length > limit) {
+                break;
+            }
+            long blockFirst = mapped.getLong(offset + 12);
+            if (blocks % indexStride == 0) {
+                addIndexEntry(blockFirst, offset);
+            }
+            if (blocks == 0) {
+                firstNanos = blockFirst;
+            }
+            lastNanos = mapped.getLong(offset + 20);
+            events += mapped.getInt(offset + 8);
+            blocks++;
+            offset += RecordingFormat.BLOCK_HEADER_BYTES + length;
+        }
+        return offset;
+    }
+
+    private void addIndexEntry(long nanos, int offset) {
+        if (indexSize == indexNanos.length) {
+            // 역할: 하나 걸러 남기고 간격을 2배로 늘린다(색인 크기 상한 유지).
+            for (int i = 0; i < indexSize / 2; i++) {
+                indexNanos[i] = indexNanos[i * 2];
+                indexOffsets[i] = indexOffsets[i * 2];
+            }
+            indexSize /= 2;
+            indexStride *= 2;
+            if (blocks % indexStride != 0) {
+                return;
+            }
+        }
+        indexNanos[indexSize] = nanos;
+        indexOffsets[indexSize] = offset;
+        indexSize++;
+    }
+
+    /**
+     * 이벤트를 한 건씩 읽는 커서(무할당). 재생 원본({@link ReplaySource})으로 그대로 쓸 수 있다.
+     */
+    public final class Cursor implements ReplaySource {
+
+        private final RecordingFormat.BlockDecoder decoder = new RecordingFormat.BlockDecoder();
+        private final CRC32 crc = new CRC32();
+
+        private int blockOffset;
+        private int nextBlockOffset;
+        private int eventIndex;
+        private boolean inBlock;
+        // 역할: seek가 미리 해석해 둔 목표 이벤트를 다음 next()에서 그대로 돌려준다.
+        private boolean pending;
+
+        private Cursor(int blockOffset, int skip) {
+            this.nextBlockOffset = blockOffset;
+            this.blockOffset = blockOffset;
+            if (blockOffset < end) {
+                enterBlock(blockOffset);
+                for (int i = 0; i < skip; i++) {
+                    if (!decoder.next()) {
+                        throw new IllegalArgumentException("블록 이벤트 수를 넘는 위치다. eventIndex=" + skip);
+                    }
+                    eventIndex++;
+                }
+            }
+        }
+
+        /**
+         * 다음 이벤트로 이동한다.
+         *
+         * @return 이벤트가 있으면 true, 기록 끝이면 false
+         * @throws IllegalStateException 블록 CRC가 맞지 않거나 본문이 손상된 경우
+         */
+        @Override
+        public boolean next() {
+            if (pending) {
+                pending = false;
+                return true;
+            }
+            while (true) {
+                if (inBlock) {
+                    if (decoder.next()) {
+                        eventIndex++;
+                        return true;
+                    }
+                    inBlock = false;
+                }
+                if (nextBlockOffset >= end) {
+                    blockOffset = end;
+                    eventIndex = 0;
+                    return false;
+                }
+                enterBlock(nextBlockOffset);
+            }
+        }
+
+        @Override
+        public long timestampNanos() {
+            return decoder.timestampNanos();
+        }
+
+        @Override
+        public InputEventType type() {
+            return decoder.type();
+        }
+
+        @Override
+        public int x() {
+            return decoder.x();
+        }
+
+        @Override
+        public int y() {
+            return decoder.y();
+        }
+
+        @Override
+        public int code() {
+            return decoder.code();
+        }
+
+        /**
+         * 다음에 읽을 위치를 반환한다({@link #resume(Position)}용).
+         *
+         * @return 위치
+         */
+        public Position position() {
+            return new Position(blockOffset, pending ? eventIndex - 1 : eventIndex);
+        }
+
+        /**
+         * 남은 이벤트를 최대 maxCount건 싱크로 전달한다.
+         *
+         * @param sink     전달 대상
+         * @param maxCount 최대 건수
+         * @return 전달 건수
+         */
+        public int drainTo(InputEventSink sink, int maxCount) {
+            Objects.requireNonNull(sink, "sink");
+            int count = 0;
+            while (count < maxCount && next()) {
+                sink.accept(timestampNanos(), type(), x(), y(), code());
+                count++;
+            }
+            return count;
+        }
+
+        private void skipBefore(long timestampNanos) {
+            while (next()) {
+                if (timestampNanos() >= timestampNanos) {
+                    pending = true;
+                    return;
+                }
+            }
+        }
+
+        private void enterBlock(int offset) {
+            int length = mapped.getInt(offset + 4);
+            int count = mapped.getInt(offset + 8);
+            long first = mapped.getLong(offset + 12);
+            int checksum = mapped.getInt(offset + 28);
+            int payloadStart = offset + RecordingFormat.BLOCK_HEADER_BYTES;
+
+            crc.reset();
+            crc.update(mapped.slice(payloadStart, length));
+            if ((int) crc.getValue() != checksum) {
+                throw new IllegalStateException("블록 CRC가 맞지 않는다. offset=" + offset);
+            }
+            decoder.reset(mapped, payloadStart, length, count, Math.floorDiv(first, tickNanos), tickNanos);
+            blockOffset = offset;
+            nextBlockOffset = payloadStart + length;
+            eventIndex = 0;
+            inBlock = true;
+        }
+    }
+}
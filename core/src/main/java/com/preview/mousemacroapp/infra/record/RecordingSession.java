@@ -0,0 +1,107 @@
+package com.preview.mousemacroapp.infra.record;
+
+import com.preview.mousemacroapp.debug.DebugLog;
+import com.preview.mousemacroapp.infra.hook.JNativeHookFacade;
+import com.preview.mousemacroapp.service.InputEventSink;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * 전역 입력을 파일로 기록하는 세션(기록기 + 파일 기록기 조립).
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>{@link #start()}는 전역 훅 준비 이후 호출한다.</li>
+ *     <li>{@link #close()}는 기록기를 먼저 닫아 남은 이벤트를 모두 쓴 뒤 파일을 닫는다(멱등).</li>
+ *     <li>허용 오차가 0보다 크면 기록기와 파일 사이에 {@link MotionSimplifier}를 두어 이동 경로를 줄여 쓴다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class RecordingSession implements AutoCloseable {
+
+    /**
+     * 기본 링 용량(1kHz 이동 입력 기준 약 65초 분량).
+     */
+    public static final int DEFAULT_RING_CAPACITY = 1 << 16;
+
+    private final RecordingWriter writer;
+    private final MotionSimplifier simplifierOrNull;
+    private final InputRecorder recorder;
+
+    private RecordingSession(RecordingWriter writer, MotionSimplifier simplifierOrNull, InputRecorder recorder) {
+        this.writer = writer;
+        this.simplifierOrNull = simplifierOrNull;
+        this.recorder = recorder;
+    }
+
+    /**
+     * 기록 파일을 열고 세션을 만든다. 기록은 {@link #start()}에서 시작한다.
+     *
+     * @param facade 전역 훅 파사드
+     * @param path   기록 파일 경로
+     * @return 세션
+     * @throws NullPointerException 인자가 null인 경우
+     * @throws IOException          파일을 열 수 없는 경우
+     */
+    public static RecordingSession open(JNativeHookFacade facade, Path path) throws IOException {
+        return open(facade, path, 0);
+    }
+
+    /**
+     * 이동 경로 단순화 허용 오차를 지정하여 세션을 만든다.
+     *
+     * @param facade          전역 훅 파사드
+     * @param path            기록 파일 경로
+     * @param simplifyPixels  이동 경로 허용 오차(px, 0=단순화 안 함)
+     * @return 세션
+     * @throws NullPointerException     인자가 null인 경우
+     * @throws IllegalArgumentException simplifyPixels가 음수인 경우
+     * @throws IOException              파일을 열 수 없는 경우
+     */
+    public static RecordingSession open(JNativeHookFacade facade, Path path, double simplifyPixels) throws IOException {
+        Objects.requireNonNull(facade, "facade");
+        if (!(simplifyPixels >= 0)) {
+            throw new IllegalArgumentException("simplifyPixels는 0 이상이어야 한다. simplifyPixels=" + simplifyPixels);
+        }
+        RecordingWriter writer = RecordingWriter.open(path);
+        MotionSimplifier simplifier = simplifyPixels > 0
+                ? new MotionSimplifier(writer, simplifyPixels, MotionSimplifier.DEFAULT_MAX_GAP_NANOS,
+                MotionSimplifier.DEFAULT_WINDOW)
+                : null;
+        InputEventSink sink = simplifier != null ? simplifier : writer;
+        return new RecordingSession(writer, simplifier,
+                new InputRecorder(facade, new InputEventRing(DEFAULT_RING_CAPACITY), sink));
+    }
+
+    /**
+     * 기록을 시작한다(멱등).
+     */
+    public void start() {
+        recorder.start();
+    }
+
+    /**
+     * 기록을 끝내고 파일을 닫는다(멱등).
+     *
+     * @throws IOException 파일 쓰기/닫기 실패 시
+     */
+    @Override
+    public void close() throws IOException {
+        recorder.close();
+        if (simplifierOrNull != null) {
+            // 역할: 기록기 스레드가 끝난 뒤이므로 이 스레드에서 남은 이동을 내보내도 단일 스레드 사용이 유지된다.
+            simplifierOrNull.flush();
+            DebugLog.log("RECORD", () -> "simplify moves=%d->%d ratio=%.1f maxDeviationPx=%.2f".formatted(
+                    simplifierOrNull.inputMoveCount(), simplifierOrNull.outputMoveCount(),
+                    simplifierOrNull.compressionRatio(), simplifierOrNull.maxDeviationPixels()));
+        }
+        writer.close();
+        long events = writer.eventCount();
+        DebugLog.log("RECORD", () -> "events=%d dropped=%d bytes=%d bytesPerEvent=%.2f".formatted(
+                events, recorder.droppedCount(), writer.byteCount(),
+                events == 0 ? 0.0 : (double) writer.byteCount() / events));
+    }
+}
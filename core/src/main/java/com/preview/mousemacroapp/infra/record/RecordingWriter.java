@@ -0,0 +1,234 @@
+package com.preview.mousemacroapp.infra.record;
+
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+import com.preview.mousemacroapp.service.InputEventSink;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * 입력 기록을 {@link RecordingFormat} 파일로 쓰는 싱크.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>이벤트를 블록 본문 버퍼에 델타/varint로 인코딩하고, 블록이 차면 헤더와 CRC32를 붙여 봉인한다.</li>
+ *     <li>봉인된 블록은 직접(direct) 버퍼에 모았다가 큰 단위로 {@link FileChannel}에 순차 추가한다.</li>
+ *     <li>버퍼/인코더/CRC는 재사용하므로 이벤트 기록 중 객체 할당이 없다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>단일 스레드(기록기 꺼냄 스레드)에서만 사용한다.</li>
+ *     <li>{@link #flush()} 이전의 이벤트는 비정상 종료 시 유실될 수 있다(최대 스테이징 버퍼 1개 분량).</li>
+ *     <li>쓰기 실패는 {@link UncheckedIOException}으로 알린다(싱크 포트가 검사 예외를 허용하지 않음).</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class RecordingWriter implements InputEventSink, Closeable {
+
+    /**
+     * 기본 시각 해상도(1µs).
+     */
+    public static final int DEFAULT_TICK_NANOS = 1_000;
+
+    /**
+     * 기본 블록 본문 최대 크기(64KiB).
+     */
+    public static final int DEFAULT_BLOCK_CAPACITY = 64 * 1024;
+
+    private static final int STAGING_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final int tickNanos;
+    private final ByteBuffer payload;
+    private final ByteBuffer staging;
+    private final CRC32 crc = new CRC32();
+    private final RecordingFormat.BlockEncoder encoder = new RecordingFormat.BlockEncoder();
+
+    private int blockEvents;
+    private long blockFirstTick;
+    private long blockLastTick;
+
+    private long events;
+    private long blocks;
+    private long bytes;
+    private boolean closed;
+
+    private RecordingWriter(FileChannel channel, int tickNanos, int blockCapacity) {
+        this.channel = channel;
+        this.tickNanos = tickNanos;
+        this.payload = ByteBuffer.allocate(blockCapacity);
+        this.staging = ByteBuffer.allocateDirect(Math.max(STAGING_BYTES, RecordingFormat.BLOCK_HEADER_BYTES + blockCapacity));
+    }
+
+    /**
+     * 기본 해상도/블록 크기로 기록 파일을 연다(기존 파일은 덮어쓴다).
+     *
+     * @param path 파일 경로
+     * @return 기록기
+     * @throws IOException 파일을 열 수 없는 경우
+     */
+    public static RecordingWriter open(Path path) throws IOException {
+        return open(path, DEFAULT_TICK_NANOS, DEFAULT_BLOCK_CAPACITY);
+    }
+
+    /**
+     * 기록 파일을 연다(기존 파일은 덮어쓴다).
+     *
+     * @param path          파일 경로
+     * @param tickNanos     시각 해상도(ns, 1 이상)
+     * @param blockCapacity 블록 본문 최대 바이트({@value RecordingFormat#MAX_EVENT_BYTES} 이상)
+     * @return 기록기
+     * @throws NullPointerException     path가 null인 경우
+     * @throws IllegalArgumentException 해상도/블록 크기가 범위를 벗어난 경우
+     * @throws IOException              파일을 열 수 없는 경우
+     */
+    public static RecordingWriter open(Path path, int tickNanos, int blockCapacity) throws IOException {
+        Objects.requireNonNull(path, "path");
+        if (tickNanos < 1) {
+            throw new IllegalArgumentException("tickNanos는 1 이상이어야 한다. tickNanos=" + tickNanos);
+        }
+        if (blockCapacity < RecordingFormat.MAX_EVENT_BYTES) {
+            throw new IllegalArgumentException("blockCapacity는 %d 이상이어야 한다. blockCapacity=%d"
+                    .formatted(RecordingFormat.MAX_EVENT_BYTES, blockCapacity));
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        RecordingWriter writer = new RecordingWriter(channel, tickNanos, blockCapacity);
+        writer.staging.putInt(RecordingFormat.FILE_MAGIC)
+                .putShort((short) RecordingFormat.VERSION)
+                .putShort((short) RecordingFormat.FILE_HEADER_BYTES)
+                .putInt(tickNanos)
+                .putInt(blockCapacity)
+                .putLong(System.currentTimeMillis())
+                .putLong(0L);
+        writer.bytes = RecordingFormat.FILE_HEADER_BYTES;
+        return writer;
+    }
+
+    @Override
+    public void accept(long timestampNanos, InputEventType type, int x, int y, int code) {
+        Objects.requireNonNull(type, "type");
+        if (closed) {
+            throw new IllegalStateException("이미 닫힌 기록 파일이다.");
+        }
+        long tick = Math.floorDiv(timestampNanos, tickNanos);
+        if (blockEvents > 0 && payload.remaining() < RecordingFormat.MAX_EVENT_BYTES) {
+            sealBlock();
+        }
+        if (blockEvents == 0) {
+            encoder.reset(tick);
+            blockFirstTick = tick;
+        }
+        encoder.encode(payload, tick, type, x, y, code);
+        blockLastTick = tick;
+        blockEvents++;
+        events++;
+    }
+
+    /**
+     * 작성 중인 블록을 봉인하고 모은 블록을 파일에 쓴다.
+     *
+     * @throws UncheckedIOException 쓰기 실패 시
+     */
+    public void flush() {
+        if (closed) {
+            return;
+        }
+        if (blockEvents > 0) {
+            sealBlock();
+        }
+        writeStaging();
+    }
+
+    /**
+     * 남은 블록을 쓰고 파일을 닫는다(멱등).
+     *
+     * @throws IOException 쓰기/닫기 실패 시
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            closed = true;
+            channel.close();
+        }
+    }
+
+    /**
+     * 기록한 이벤트 수를 반환한다.
+     *
+     * @return 이벤트 수
+     */
+    public long eventCount() {
+        return events;
+    }
+
+    /**
+     * 봉인한 블록 수를 반환한다.
+     *
+     * @return 블록 수
+     */
+    public long blockCount() {
+        return blocks;
+    }
+
+    /**
+     * 봉인된 블록까지의 파일 크기(헤더 포함)를 반환한다.
+     *
+     * @return 바이트 수
+     */
+    public long byteCount() {
+        return bytes;
+    }
+
+    private void sealBlock() {
+        int length = payload.position();
+        crc.reset();
+        crc.update(payload.array(), 0, length);
+
+        if (staging.remaining() < RecordingFormat.BLOCK_HEADER_BYTES + length) {
+            writeStaging();
+        }
+        staging.putInt(RecordingFormat.BLOCK_MAGIC)
+                .putInt(length)
+                .putInt(blockEvents)
+                .putLong(blockFirstTick * tickNanos)
+                .putLong(blockLastTick * tickNanos)
+                .putInt((int) crc.getValue());
+        payload.flip();
+        staging.put(payload);
+        payload.clear();
+
+        bytes += RecordingFormat.BLOCK_HEADER_BYTES + length;
+        blocks++;
+        blockEvents = 0;
+    }
+
+    private void writeStaging() {
+        staging.flip();
+        try {
+            while (staging.hasRemaining()) {
+                channel.write(staging);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            staging.clear();
+        }
+    }
+}
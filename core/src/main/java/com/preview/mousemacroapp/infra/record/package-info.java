@@ -0,0 +1,11 @@
+/**
+ * 사용자 입력 기록(Recording) 인프라를 제공한다.
+ *
+ * <p>
+ * 전역 훅에서 받은 입력을 미리 할당된 원시 값 링 버퍼에 담고,
+ * 별도 스레드가 꺼내어 {@link com.preview.mousemacroapp.service.InputEventSink}로 전달한다.
+ * </p>
+ *
+ * @since 0.9
+ */
+package com.preview.mousemacroapp.infra.record;
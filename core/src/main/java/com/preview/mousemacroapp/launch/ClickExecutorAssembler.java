@@ -0,0 +1,166 @@
+package com.preview.mousemacroapp.launch;
+
+import com.preview.mousemacroapp.debug.DebugLog;
+import com.preview.mousemacroapp.domain.motion.MotionProfile;
+import com.preview.mousemacroapp.domain.motion.TrajectoryModel;
+import com.preview.mousemacroapp.domain.point.ScreenBounds;
+import com.preview.mousemacroapp.infra.hook.AwtRobotKeyboard;
+import com.preview.mousemacroapp.infra.hook.AwtRobotMouse;
+import com.preview.mousemacroapp.infra.hook.BufferedDryRunClickExecutor;
+import com.preview.mousemacroapp.infra.hook.DryRunClickExecutor;
+import com.preview.mousemacroapp.infra.hook.RobotClickExecutor;
+import com.preview.mousemacroapp.infra.hook.TrajectoryMover;
+import com.preview.mousemacroapp.service.ClickExecutor;
+import com.preview.mousemacroapp.service.pipeline.BoundsClampClickInterceptor;
+import com.preview.mousemacroapp.service.replay.DeadlineTimer;
+import com.preview.mousemacroapp.service.pipeline.ClickInterceptor;
+import com.preview.mousemacroapp.service.pipeline.ClickPipeline;
+import com.preview.mousemacroapp.service.pipeline.JournalClickInterceptor;
+import com.preview.mousemacroapp.service.pipeline.MetricsClickInterceptor;
+import com.preview.mousemacroapp.service.pipeline.RateLimitClickInterceptor;
+import com.preview.mousemacroapp.service.pipeline.TeeClickInterceptor;
+
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.Rectangle;
+import java.io.Closeable;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * {@link LaunchOptions}에 따라 클릭 실행기와 파이프라인을 조립한다.
+ *
+ * <p><b>단계 순서</b></p>
+ * <ol>
+ *     <li>화면 경계 보정(clamp): 이후 단계가 모두 보정된 좌표를 보게 한다.</li>
+ *     <li>속도 제한(rate-limit): 측정 시간에 대기 시간이 섞이지 않도록 측정보다 앞에 둔다.</li>
+ *     <li>측정(metrics)</li>
+ *     <li>저널(journal)</li>
+ *     <li>Dry-Run 복제(tee)</li>
+ * </ol>
+ *
+ * <p>
+ * 조립은 앱 시작 시 1회만 수행하며, 단계가 없으면 실행기를 그대로 반환한다.
+ * </p>
+ *
+ * @since 0.9
+ */
+public final class ClickExecutorAssembler {
+
+    private ClickExecutorAssembler() {
+    }
+
+    /**
+     * 실행 구성에 맞는 실행기를 조립한다.
+     *
+     * @param options 실행 구성
+     * @param clock   시간 소스(Dry-Run 로그/저널 시각)
+     * @return 조립 결과
+     * @throws NullPointerException  options 또는 clock이 null인 경우
+     * @throws IllegalStateException ROBOT 모드에서 Robot 생성이 불가능한 경우
+     */
+    public static ClickExecutorAssembly assemble(LaunchOptions options, Clock clock) {
+        Objects.requireNonNull(options, "options");
+        Objects.requireNonNull(clock, "clock");
+
+        List<Closeable> resources = new ArrayList<>();
+
+        ClickExecutor terminal = switch (options.executorMode()) {
+            case DRY_RUN -> dryRunExecutor(options, clock, resources);
+            case ROBOT -> robotExecutor(options);
+        };
+
+        List<ClickInterceptor> stages = new ArrayList<>();
+
+        if (options.clampToScreen()) {
+            Optional<ScreenBounds> bounds = detectScreenBounds();
+            bounds.ifPresent(b -> stages.add(new BoundsClampClickInterceptor(b)));
+            DebugLog.log("PIPELINE", () -> "clamp bounds=" + bounds.map(String::valueOf).orElse("unavailable"));
+        }
+        if (options.rateLimitPerSecond() > 0) {
+            stages.add(new RateLimitClickInterceptor(options.rateLimitPerSecond()));
+        }
+
+        MetricsClickInterceptor metrics = null;
+        if (options.metrics()) {
+            metrics = new MetricsClickInterceptor();
+            stages.add(metrics);
+        }
+
+        JournalClickInterceptor journal = null;
+        if (options.journalCapacity() > 0) {
+            journal = new JournalClickInterceptor(options.journalCapacity(), clock);
+            stages.add(journal);
+        }
+
+        // 역할: 이미 Dry-Run이면 같은 로그를 두 번 출력할 이유가 없다.
+        if (options.teeDryRun() && options.executorMode() != ExecutorMode.DRY_RUN) {
+            stages.add(new TeeClickInterceptor(dryRunExecutor(options, clock, resources)));
+        }
+
+        ClickExecutor executor = stages.isEmpty() ? terminal : ClickPipeline.of(terminal, stages);
+        DebugLog.log("PIPELINE", () -> "executor=" + options.executorMode() + " stages=" + stages.size());
+
+        return new ClickExecutorAssembly(executor, metrics, journal, resources);
+    }
+
+    /**
+     * 실제 마우스 실행기를 만든다. 이동 방식이 지정되면 같은 장치로 경로 이동기를 붙인다.
+     * 출력 주기는 경로 이동과 드래그 중간 점에 함께 적용한다.
+     */
+    private static ClickExecutor robotExecutor(LaunchOptions options) {
+        AwtRobotMouse mouse = new AwtRobotMouse();
+        MotionProfile profile = MotionProfile.withRate(options.motionRateHz());
+        TrajectoryModel model = switch (options.motionMode()) {
+            case TELEPORT -> null;
+            case BEZIER -> TrajectoryModel.bezier();
+            case WIND -> TrajectoryModel.windMouse();
+        };
+        TrajectoryMover mover = model == null ? null : new TrajectoryMover(mouse, model, profile);
+        DebugLog.log("PIPELINE", () -> "motion=" + options.motionMode() + " rate=" + profile.rateHz() + "Hz");
+        return new RobotClickExecutor(mouse, new AwtRobotKeyboard(), mover, profile.rateHz(), DeadlineTimer.system());
+    }
+
+    /**
+     * Dry-Run 실행기를 만든다.
+     * 파일 출력이 지정되면 버퍼링 실행기를, 아니면 콘솔 실행기를 사용한다.
+     */
+    private static ClickExecutor dryRunExecutor(LaunchOptions options, Clock clock, List<Closeable> resources) {
+        if (options.dryRunOut().isEmpty()) {
+            return new DryRunClickExecutor(clock);
+        }
+        BufferedDryRunClickExecutor buffered =
+                BufferedDryRunClickExecutor.open(options.dryRunOut().get(), options.dryRunFormat(), clock);
+        resources.add(buffered);
+        DebugLog.log("PIPELINE", () -> "dry-run out=" + options.dryRunOut().get() + " format=" + options.dryRunFormat());
+        return buffered;
+    }
+
+    /**
+     * 모든 화면 장치를 감싸는 경계를 구한다.
+     *
+     * @return 경계(headless 등으로 구할 수 없으면 empty)
+     */
+    static Optional<ScreenBounds> detectScreenBounds() {
+        if (GraphicsEnvironment.isHeadless()) {
+            return Optional.empty();
+        }
+        try {
+            Rectangle union = null;
+            for (GraphicsDevice device : GraphicsEnvironment.getLocalGraphicsEnvironment().getScreenDevices()) {
+                Rectangle r = device.getDefaultConfiguration().getBounds();
+                union = (union == null) ? new Rectangle(r) : union.union(r);
+            }
+            if (union == null || union.isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(new ScreenBounds(union.x, union.y, union.x + union.width - 1, union.y + union.height - 1));
+        } catch (RuntimeException ex) {
+            // 역할: 화면 정보 조회 실패는 보정 단계 생략으로 처리한다(실행 자체는 막지 않는다).
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.preview.mousemacroapp.launch;
+
+import com.preview.mousemacroapp.service.ClickExecutor;
+import com.preview.mousemacroapp.service.pipeline.ClickMetrics;
+import com.preview.mousemacroapp.service.pipeline.JournalClickInterceptor;
+import com.preview.mousemacroapp.service.pipeline.MetricsClickInterceptor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 조립 결과(실행기 + 조회 가능한 단계 핸들).
+ *
+ * <p>
+ * 파일 출력 등 닫아야 하는 자원을 함께 보관하며, 앱 종료 시 {@link #close()}로 정리한다.
+ * </p>
+ *
+ * @param executor      Service에 주입할 최종 실행기
+ * @param metricsOrNull 측정 단계(미사용 시 null)
+ * @param journalOrNull 저널 단계(미사용 시 null)
+ * @param resources     종료 시 닫을 자원(조립 순서)
+ * @since 0.9
+ */
+public record ClickExecutorAssembly(
+        ClickExecutor executor,
+        MetricsClickInterceptor metricsOrNull,
+        JournalClickInterceptor journalOrNull,
+        List<Closeable> resources
+) implements AutoCloseable {
+
+    /**
+     * @throws NullPointerException executor 또는 resources가 null인 경우
+     */
+    public ClickExecutorAssembly {
+        Objects.requireNonNull(executor, "executor");
+        resources = List.copyOf(Objects.requireNonNull(resources, "resources"));
+    }
+
+    /**
+     * 측정값을 반환한다.
+     *
+     * @return 측정 단계를 사용한 경우 스냅샷
+     */
+    public Optional<ClickMetrics> metrics() {
+        return Optional.ofNullable(metricsOrNull).map(MetricsClickInterceptor::snapshot);
+    }
+
+    /**
+     * 저널 이력을 반환한다.
+     *
+     * @return 저널 단계를 사용한 경우 이력, 아니면 빈 목록
+     */
+    public List<JournalClickInterceptor.Entry> journal() {
+        return (journalOrNull != null) ? journalOrNull.entries() : List.of();
+    }
+
+    /**
+     * 보관 중인 자원을 역순으로 닫는다.
+     *
+     * <p>
+     * 하나가 실패해도 나머지는 계속 닫고, 첫 실패를 던진다(이후 실패는 suppressed).
+     * </p>
+     *
+     * @throws IOException 자원 닫기에 실패한 경우
+     */
+    @Override
+    public void close() throws IOException {
+        IOException first = null;
+        for (int i = resources.size() - 1; i >= 0; i--) {
+            try {
+                resources.get(i).close();
+            } catch (IOException e) {
+                if (first == null) {
+                    first = e;
+                } else {
+                    first.addSuppressed(e);
+                }
+            }
+        }
+        if (first != null) {
+            throw first;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.preview.mousemacroapp.launch;
+
+/**
+ * 클릭 실행기 종류.
+ *
+ * @since 0.9
+ */
+public enum ExecutorMode {
+
+    /**
+     * 실제 마우스를 제어하지 않고 로그만 남긴다.
+     */
+    DRY_RUN,
+
+    /**
+     * AWT Robot으로 실제 마우스를 제어한다.
+     */
+    ROBOT
+}
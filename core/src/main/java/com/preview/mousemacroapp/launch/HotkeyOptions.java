@@ -0,0 +1,129 @@
+package com.preview.mousemacroapp.launch;
+
+import com.preview.mousemacroapp.domain.hotkey.HotkeyAction;
+import com.preview.mousemacroapp.domain.hotkey.HotkeyBinding;
+import com.preview.mousemacroapp.domain.hotkey.HotkeyMatcher;
+import com.preview.mousemacroapp.infra.hook.NativeKeyNames;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 실행 인자로부터 해석한 전역 단축키 구성.
+ *
+ * <p><b>지원 인자</b></p>
+ * <ul>
+ *     <li>{@code --hotkeys=on|off} : 전역 단축키 사용 여부(기본 on)</li>
+ *     <li>{@code --hotkey-start=KEYS} : 시작(기본 Ctrl+Shift+F9)</li>
+ *     <li>{@code --hotkey-pause=KEYS} : 일시정지/재개(기본 Ctrl+Shift+F10)</li>
+ *     <li>{@code --hotkey-stop=KEYS} : 정지(기본 Ctrl+Shift+F11)</li>
+ *     <li>{@code --hotkey-sequence-timeout=MS} : 연속 입력 간 허용 시간(기본 1000)</li>
+ * </ul>
+ *
+ * <p>
+ * KEYS는 "Ctrl+Shift+F9" 같은 단일 조합 또는 "Ctrl+K,S" 같은 순서열이다
+ * (형식은 {@link NativeKeyNames} 참고). 알 수 없는 인자는 무시한다.
+ * </p>
+ *
+ * @param enabled         단축키 사용 여부
+ * @param bindings        단축키 바인딩 목록
+ * @param sequenceTimeout 연속 입력 간 허용 시간
+ * @since 0.9
+ */
+public record HotkeyOptions(boolean enabled, List<HotkeyBinding> bindings, Duration sequenceTimeout) {
+
+    private static final Map<HotkeyAction, String> DEFAULT_KEYS = Map.of(
+            HotkeyAction.START, "Ctrl+Shift+F9",
+            HotkeyAction.TOGGLE_PAUSE, "Ctrl+Shift+F10",
+            HotkeyAction.STOP, "Ctrl+Shift+F11"
+    );
+
+    /**
+     * 구성 불변식을 강제한다.
+     *
+     * @throws NullPointerException     bindings 또는 sequenceTimeout이 null인 경우
+     * @throws IllegalArgumentException sequenceTimeout이 0 이하인 경우
+     */
+    public HotkeyOptions {
+        bindings = List.copyOf(Objects.requireNonNull(bindings, "bindings"));
+        Objects.requireNonNull(sequenceTimeout, "sequenceTimeout");
+        if (sequenceTimeout.isZero() || sequenceTimeout.isNegative()) {
+            throw new IllegalArgumentException("sequenceTimeout은 0보다 커야 한다. sequenceTimeout=" + sequenceTimeout);
+        }
+    }
+
+    /**
+     * 바인딩을 매처로 컴파일한다.
+     *
+     * @return 컴파일된 매처
+     * @throws IllegalArgumentException 바인딩끼리 중복/접두어 충돌이 있는 경우
+     */
+    public HotkeyMatcher compile() {
+        return new HotkeyMatcher(bindings, sequenceTimeout);
+    }
+
+    /**
+     * 실행 인자를 해석한다.
+     *
+     * @param args 실행 인자
+     * @return 단축키 구성
+     * @throws NullPointerException     args가 null인 경우
+     * @throws IllegalArgumentException 값 형식이 잘못된 경우
+     */
+    public static HotkeyOptions parse(String[] args) {
+        Objects.requireNonNull(args, "args");
+
+        boolean enabled = true;
+        long timeoutMillis = 1000;
+        Map<HotkeyAction, String> keys = new EnumMap<>(DEFAULT_KEYS);
+
+        for (String arg : args) {
+            if (arg == null) {
+                continue;
+            }
+            if (arg.startsWith("--hotkeys=")) {
+                enabled = parseOnOff(valueOf(arg));
+            } else if (arg.startsWith("--hotkey-start=")) {
+                keys.put(HotkeyAction.START, valueOf(arg));
+            } else if (arg.startsWith("--hotkey-pause=")) {
+                keys.put(HotkeyAction.TOGGLE_PAUSE, valueOf(arg));
+            } else if (arg.startsWith("--hotkey-stop=")) {
+                keys.put(HotkeyAction.STOP, valueOf(arg));
+            } else if (arg.startsWith("--hotkey-sequence-timeout=")) {
+                timeoutMillis = parsePositiveLong("--hotkey-sequence-timeout", valueOf(arg));
+            }
+        }
+
+        List<HotkeyBinding> bindings = keys.entrySet().stream()
+                .map(e -> new HotkeyBinding(NativeKeyNames.parseSequence(e.getValue()), e.getKey()))
+                .toList();
+        return new HotkeyOptions(enabled, bindings, Duration.ofMillis(timeoutMillis));
+    }
+
+    private static String valueOf(String arg) {
+        return arg.substring(arg.indexOf('=') + 1).trim();
+    }
+
+    private static boolean parseOnOff(String raw) {
+        return switch (raw.toLowerCase()) {
+            case "on", "true" -> true;
+            case "off", "false" -> false;
+            default -> throw new IllegalArgumentException("--hotkeys 값은 on 또는 off 이어야 한다. value=" + raw);
+        };
+    }
+
+    private static long parsePositiveLong(String name, String raw) {
+        try {
+            long value = Long.parseLong(raw);
+            if (value <= 0) {
+                throw new IllegalArgumentException(name + " 값은 0보다 커야 한다. value=" + raw);
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(name + " 값은 숫자여야 한다. value=" + raw, ex);
+        }
+    }
+}
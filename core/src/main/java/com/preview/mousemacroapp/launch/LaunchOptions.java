@@ -0,0 +1,254 @@
+package com.preview.mousemacroapp.launch;
+
+import com.preview.mousemacroapp.domain.motion.MotionProfile;
+import com.preview.mousemacroapp.infra.hook.BufferedDryRunClickExecutor;
+import com.preview.mousemacroapp.infra.hook.NativeEventMultiplexer;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 실행 인자로부터 해석한 실행 구성.
+ *
+ * <p><b>지원 인자</b></p>
+ * <ul>
+ *     <li>{@code --executor=dry-run|robot} : 실행기 선택(기본 dry-run)</li>
+ *     <li>{@code --metrics} : 실행 횟수/시간 측정 단계 활성화</li>
+ *     <li>{@code --rate-limit=N} : 초당 최대 클릭 수 제한</li>
+ *     <li>{@code --journal=N} : 최근 N건 클릭 이력 기록</li>
+ *     <li>{@code --tee-dry-run} : 실제 실행과 함께 Dry-Run 로그도 출력</li>
+ *     <li>{@code --clamp} : 클릭 좌표를 화면 경계 안으로 보정</li>
+ *     <li>{@code --dry-run-out=PATH} : Dry-Run 출력을 콘솔 대신 파일에 일괄 기록</li>
+ *     <li>{@code --dry-run-format=text|binary} : 파일 기록 형식(기본 text)</li>
+ *     <li>{@code --hook-dispatch=ordered|virtual} : 전역 입력 리스너 호출 방식(기본 ordered)</li>
+ *     <li>{@code --record=PATH} : 전역 마우스/키 입력을 기록 파일로 저장</li>
+ *     <li>{@code --record-simplify=PX} : 기록 시 이동 경로를 허용 오차(px) 안에서 줄여 저장(기본 0=원본 그대로)</li>
+ *     <li>{@code --motion=teleport|bezier|wind} : 클릭 좌표 사이 커서 이동 방식(기본 teleport, robot 실행기에만 적용)</li>
+ *     <li>{@code --motion-rate=HZ} : 경로 이동/드래그 중간 점 출력 주기(기본 125Hz)</li>
+ * </ul>
+ *
+ * <p>
+ * 알 수 없는 인자는 무시한다(JavaFX/디버그 인자와 공존하기 위함).
+ * 형식이 잘못된 값은 실행 구성 오류이므로 예외로 알린다.
+ * </p>
+ *
+ * @param executorMode       실행기 종류
+ * @param metrics            측정 단계 사용 여부
+ * @param rateLimitPerSecond 초당 최대 클릭 수(0=제한 없음)
+ * @param journalCapacity    저널 용량(0=기록 안 함)
+ * @param teeDryRun          Dry-Run 복제 출력 여부
+ * @param clampToScreen      화면 경계 보정 여부
+ * @param dryRunOutOrNull    Dry-Run 파일 출력 경로(null=콘솔 출력)
+ * @param dryRunFormat       Dry-Run 파일 출력 형식
+ * @param hookDispatch       전역 입력 리스너 호출 방식
+ * @param recordOutOrNull    입력 기록 파일 경로(null=기록 안 함)
+ * @param recordSimplifyPixels 기록 이동 경로 허용 오차(px, 0=단순화 안 함)
+ * @param motionMode         클릭 좌표 사이 커서 이동 방식
+ * @param motionRateHz       경로 이동/드래그 중간 점 출력 주기(Hz, 1~1000)
+ * @since 0.9
+ */
+public record LaunchOptions(
+        ExecutorMode executorMode,
+        boolean metrics,
+        int rateLimitPerSecond,
+        int journalCapacity,
+        boolean teeDryRun,
+        boolean clampToScreen,
+        Path dryRunOutOrNull,
+        BufferedDryRunClickExecutor.Format dryRunFormat,
+        NativeEventMultiplexer.DispatchMode hookDispatch,
+        Path recordOutOrNull,
+        double recordSimplifyPixels,
+        MotionMode motionMode,
+        int motionRateHz
+) {
+
+    /**
+     * 실행 구성 불변식을 강제한다.
+     *
+     * @throws NullPointerException     executorMode, dryRunFormat, hookDispatch 또는 motionMode가 null인 경우
+     * @throws IllegalArgumentException 수치 값이 범위를 벗어난 경우
+     */
+    public LaunchOptions {
+        Objects.requireNonNull(executorMode, "executorMode");
+        Objects.requireNonNull(dryRunFormat, "dryRunFormat");
+        Objects.requireNonNull(hookDispatch, "hookDispatch");
+        Objects.requireNonNull(motionMode, "motionMode");
+        if (rateLimitPerSecond < 0) {
+            throw new IllegalArgumentException("rateLimitPerSecond는 0 이상이어야 한다. rateLimitPerSecond=" + rateLimitPerSecond);
+        }
+        if (journalCapacity < 0) {
+            throw new IllegalArgumentException("journalCapacity는 0 이상이어야 한다. journalCapacity=" + journalCapacity);
+        }
+        if (!(recordSimplifyPixels >= 0) || Double.isInfinite(recordSimplifyPixels)) {
+            throw new IllegalArgumentException("recordSimplifyPixels는 0 이상이어야 한다. recordSimplifyPixels=" + recordSimplifyPixels);
+        }
+        if (motionRateHz < 1 || motionRateHz > 1000) {
+            throw new IllegalArgumentException("motionRateHz는 1~1000이어야 한다. motionRateHz=" + motionRateHz);
+        }
+    }
+
+    /**
+     * 기본 구성(Dry-Run, 추가 단계 없음)을 반환한다.
+     *
+     * @return 기본 구성
+     */
+    public static LaunchOptions defaults() {
+        return new LaunchOptions(ExecutorMode.DRY_RUN, false, 0, 0, false, false,
+                null, BufferedDryRunClickExecutor.Format.TEXT, NativeEventMultiplexer.DispatchMode.ORDERED, null, 0,
+                MotionMode.TELEPORT, MotionProfile.DEFAULT_RATE_HZ);
+    }
+
+    /**
+     * Dry-Run 파일 출력 경로를 반환한다.
+     *
+     * @return 지정된 경우 경로
+     */
+    public Optional<Path> dryRunOut() {
+        return Optional.ofNullable(dryRunOutOrNull);
+    }
+
+    /**
+     * 입력 기록 파일 경로를 반환한다.
+     *
+     * @return 지정된 경우 경로
+     */
+    public Optional<Path> recordOut() {
+        return Optional.ofNullable(recordOutOrNull);
+    }
+
+    /**
+     * 실행 인자를 해석한다.
+     *
+     * @param args 실행 인자
+     * @return 실행 구성
+     * @throws NullPointerException     args가 null인 경우
+     * @throws IllegalArgumentException 값 형식이 잘못된 경우
+     */
+    public static LaunchOptions parse(String[] args) {
+        Objects.requireNonNull(args, "args");
+
+        ExecutorMode executorMode = ExecutorMode.DRY_RUN;
+        boolean metrics = false;
+        int rateLimit = 0;
+        int journal = 0;
+        boolean tee = false;
+        boolean clamp = false;
+        Path dryRunOut = null;
+        BufferedDryRunClickExecutor.Format dryRunFormat = BufferedDryRunClickExecutor.Format.TEXT;
+        NativeEventMultiplexer.DispatchMode hookDispatch = NativeEventMultiplexer.DispatchMode.ORDERED;
+        Path recordOut = null;
+        double recordSimplify = 0;
+        MotionMode motion = MotionMode.TELEPORT;
+        int motionRate = MotionProfile.DEFAULT_RATE_HZ;
+
+        for (String arg : args) {
+            if (arg == null) {
+                continue;
+            }
+            if (arg.startsWith("--executor=")) {
+                executorMode = parseExecutorMode(valueOf(arg));
+            } else if ("--metrics".equals(arg)) {
+                metrics = true;
+            } else if (arg.startsWith("--rate-limit=")) {
+                rateLimit = parseNonNegativeInt("--rate-limit", valueOf(arg));
+            } else if (arg.startsWith("--journal=")) {
+                journal = parseNonNegativeInt("--journal", valueOf(arg));
+            } else if ("--tee-dry-run".equals(arg)) {
+                tee = true;
+            } else if ("--clamp".equals(arg)) {
+                clamp = true;
+            } else if (arg.startsWith("--dry-run-out=")) {
+                dryRunOut = parsePath("--dry-run-out", valueOf(arg));
+            } else if (arg.startsWith("--dry-run-format=")) {
+                dryRunFormat = parseDryRunFormat(valueOf(arg));
+            } else if (arg.startsWith("--hook-dispatch=")) {
+                hookDispatch = parseHookDispatch(valueOf(arg));
+            } else if (arg.startsWith("--record=")) {
+                recordOut = parsePath("--record", valueOf(arg));
+            } else if (arg.startsWith("--record-simplify=")) {
+                recordSimplify = parseNonNegativeDouble("--record-simplify", valueOf(arg));
+            } else if (arg.startsWith("--motion=")) {
+                motion = parseMotionMode(valueOf(arg));
+            } else if (arg.startsWith("--motion-rate=")) {
+                motionRate = parseNonNegativeInt("--motion-rate", valueOf(arg));
+            }
+        }
+
+        return new LaunchOptions(executorMode, metrics, rateLimit, journal, tee, clamp, dryRunOut, dryRunFormat,
+                hookDispatch, recordOut, recordSimplify, motion, motionRate);
+    }
+
+    private static String valueOf(String arg) {
+        return arg.substring(arg.indexOf('=') + 1).trim();
+    }
+
+    private static ExecutorMode parseExecutorMode(String raw) {
+        return switch (raw.toLowerCase()) {
+            case "dry-run", "dryrun", "dry_run" -> ExecutorMode.DRY_RUN;
+            case "robot" -> ExecutorMode.ROBOT;
+            default -> throw new IllegalArgumentException("--executor 값은 dry-run 또는 robot 이어야 한다. value=" + raw);
+        };
+    }
+
+    private static BufferedDryRunClickExecutor.Format parseDryRunFormat(String raw) {
+        return switch (raw.toLowerCase()) {
+            case "text" -> BufferedDryRunClickExecutor.Format.TEXT;
+            case "binary" -> BufferedDryRunClickExecutor.Format.BINARY;
+            default -> throw new IllegalArgumentException("--dry-run-format 값은 text 또는 binary 이어야 한다. value=" + raw);
+        };
+    }
+
+    private static NativeEventMultiplexer.DispatchMode parseHookDispatch(String raw) {
+        return switch (raw.toLowerCase()) {
+            case "ordered" -> NativeEventMultiplexer.DispatchMode.ORDERED;
+            case "virtual" -> NativeEventMultiplexer.DispatchMode.VIRTUAL;
+            default -> throw new IllegalArgumentException("--hook-dispatch 값은 ordered 또는 virtual 이어야 한다. value=" + raw);
+        };
+    }
+
+    private static MotionMode parseMotionMode(String raw) {
+        return switch (raw.toLowerCase()) {
+            case "teleport", "none" -> MotionMode.TELEPORT;
+            case "bezier" -> MotionMode.BEZIER;
+            case "wind", "windmouse" -> MotionMode.WIND;
+            default -> throw new IllegalArgumentException("--motion 값은 teleport, bezier 또는 wind 이어야 한다. value=" + raw);
+        };
+    }
+
+    private static Path parsePath(String name, String raw) {
+        if (raw.isEmpty()) {
+            throw new IllegalArgumentException(name + " 값은 비어 있을 수 없다.");
+        }
+        try {
+            return Path.of(raw);
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException(name + " 경로가 올바르지 않다. value=" + raw, ex);
+        }
+    }
+
+    private static double parseNonNegativeDouble(String name, String raw) {
+        try {
+            double value = Double.parseDouble(raw);
+            if (!(value >= 0) || Double.isInfinite(value)) {
+                throw new IllegalArgumentException(name + " 값은 0 이상이어야 한다. value=" + raw);
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(name + " 값은 숫자여야 한다. value=" + raw, ex);
+        }
+    }
+
+    private static int parseNonNegativeInt(String name, String raw) {
+        try {
+            int value = Integer.parseInt(raw);
+            if (value < 0) {
+                throw new IllegalArgumentException(name + " 값은 0 이상이어야 한다. value=" + raw);
+            }
+            return value;
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException(name + " 값은 숫자여야 한다. value=" + raw, ex);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.preview.mousemacroapp.launch;
+
+/**
+ * 클릭 좌표 사이 커서 이동 방식(ROBOT 실행기에만 적용).
+ *
+ * @since 0.9
+ */
+public enum MotionMode {
+
+    /**
+     * 커서를 클릭 좌표로 바로 옮긴다.
+     */
+    TELEPORT,
+
+    /**
+     * Bezier 곡선 + 가감속 경로로 옮긴다.
+     */
+    BEZIER,
+
+    /**
+     * WindMouse 방식(중력 + 무작위 바람) 경로로 옮긴다.
+     */
+    WIND
+}
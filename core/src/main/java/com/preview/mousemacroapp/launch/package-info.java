@@ -0,0 +1,10 @@
+/**
+ * 실행 인자 해석 및 실행 구성(조립) 계층이다.
+ * <p>
+ * 실행 인자를 설정 값으로 변환하고, 그에 맞는 Infra 구현체와
+ * 파이프라인 단계를 조립한다. UI(JavaFX)에 의존하지 않는다.
+ * </p>
+ *
+ * @since 0.9
+ */
+package com.preview.mousemacroapp.launch;
@@ -0,0 +1,147 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.DragAction;
+import com.preview.mousemacroapp.domain.action.KeyAction;
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.domain.action.ScrollAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+
+import java.util.Objects;
+
+/**
+ * 클릭 실행을 담당하는 서비스 계층 포트(Port).
+ *
+ * <p>
+ * Service는 실제 클릭 구현(AWT Robot, 네이티브 훅 등)에 의존하지 않는다.
+ * 외부 실행(Infra)은 이 인터페이스를 구현하여 주입한다.
+ * </p>
+ *
+ * @since 0.6
+ */
+public interface ClickExecutor {
+
+    /**
+     * 지정 액션을 지정 좌표에 대해 수행한다.
+     *
+     * @param action 클릭 동작(버튼/횟수/다운시간 등)
+     * @param point  실제 클릭 좌표
+     * @throws NullPointerException action 또는 point가 null인 경우
+     */
+    void execute(ClickAction action, ScreenPoint point);
+
+    /**
+     * 드래그 동작을 수행한다(시작 좌표에서 누르고, 도착 좌표까지 이동한 뒤 뗀다).
+     *
+     * <p>기본 구현은 드래그를 지원하지 않는다. 구현한 실행기는 {@link #supports(MacroAction)}도 재정의한다.</p>
+     *
+     * @param action 드래그 동작
+     * @param from   시작 좌표
+     * @throws NullPointerException          action 또는 from이 null인 경우
+     * @throws UnsupportedOperationException 드래그를 지원하지 않는 실행기인 경우
+     * @since 0.9
+     */
+    default void drag(DragAction action, ScreenPoint from) {
+        throw new UnsupportedOperationException("드래그를 지원하지 않는 실행기다. executor=" + getClass().getSimpleName());
+    }
+
+    /**
+     * 휠 스크롤 동작을 수행한다.
+     *
+     * <p>기본 구현은 스크롤을 지원하지 않는다. 구현한 실행기는 {@link #supports(MacroAction)}도 재정의한다.</p>
+     *
+     * @param action 스크롤 동작
+     * @param at     스크롤할 좌표
+     * @throws NullPointerException          action 또는 at이 null인 경우
+     * @throws UnsupportedOperationException 스크롤을 지원하지 않는 실행기인 경우
+     * @since 0.9
+     */
+    default void scroll(ScrollAction action, ScreenPoint at) {
+        throw new UnsupportedOperationException("스크롤을 지원하지 않는 실행기다. executor=" + getClass().getSimpleName());
+    }
+
+    /**
+     * 키보드 동작을 수행한다(현재 포커스 창으로 입력).
+     *
+     * <p>기본 구현은 키보드를 지원하지 않는다. 구현한 실행기는 {@link #supports(MacroAction)}도 재정의한다.</p>
+     *
+     * @param action 키보드 동작
+     * @throws NullPointerException          action이 null인 경우
+     * @throws UnsupportedOperationException 키보드를 지원하지 않는 실행기인 경우
+     * @since 0.9
+     */
+    default void key(KeyAction action) {
+        throw new UnsupportedOperationException("키보드를 지원하지 않는 실행기다. executor=" + getClass().getSimpleName());
+    }
+
+    /**
+     * 이 실행기가 동작을 수행할 수 있는지 반환한다.
+     *
+     * <p>
+     * 기본 구현은 클릭만 지원한다. 실행 전에 프로그램/스크립트의 동작을 미리 검사할 때 쓰며,
+     * 다른 실행기를 감싸는 실행기는 감싼 실행기의 결과를 그대로 돌려준다.
+     * </p>
+     *
+     * @param action 동작
+     * @return 수행할 수 있으면 true
+     * @throws NullPointerException action이 null인 경우
+     * @since 0.9
+     */
+    default boolean supports(MacroAction action) {
+        return Objects.requireNonNull(action, "action") instanceof ClickAction;
+    }
+
+    /**
+     * 동작 종류에 맞는 실행 경로로 보낸다.
+     *
+     * @param action 동작
+     * @param point  기준 좌표(클릭 좌표/드래그 시작 좌표/스크롤 좌표, 키보드 동작은 사용하지 않음)
+     * @throws NullPointerException     action 또는 point가 null인 경우
+     * @throws IllegalArgumentException 실행기가 해당 동작을 지원하지 않는 경우({@link #supports(MacroAction)})
+     * @since 0.9
+     */
+    default void perform(MacroAction action, ScreenPoint point) {
+        requireSupported(action);
+        switch (action) {
+            case ClickAction click -> execute(click, point);
+            case DragAction drag -> drag(drag, point);
+            case ScrollAction scroll -> scroll(scroll, point);
+            case KeyAction key -> key(key);
+        }
+    }
+
+    /**
+     * 동작 종류에 맞는 실행 경로로 보낸다(좌표 객체 없이).
+     *
+     * <p>
+     * 매크로 프로그램 실행기처럼 단계마다 좌표를 계산하는 호출자가 사용한다.
+     * 기본 구현은 좌표 객체를 만들어 {@link #perform(MacroAction, ScreenPoint)}에 위임하며,
+     * 실제 실행기는 할당 없이 재정의할 수 있다.
+     * </p>
+     *
+     * @param action 동작
+     * @param x      기준 X 좌표
+     * @param y      기준 Y 좌표
+     * @throws NullPointerException     action이 null인 경우
+     * @throws IllegalArgumentException 실행기가 해당 동작을 지원하지 않는 경우({@link #supports(MacroAction)})
+     * @since 0.9
+     */
+    default void perform(MacroAction action, int x, int y) {
+        perform(action, new ScreenPoint(x, y));
+    }
+
+    /**
+     * 실행기가 지원하지 않는 동작이면 실행 경로로 보내기 전에 거부한다.
+     *
+     * @param action 동작
+     * @throws NullPointerException     action이 null인 경우
+     * @throws IllegalArgumentException 실행기가 해당 동작을 지원하지 않는 경우
+     * @since 0.9
+     */
+    default void requireSupported(MacroAction action) {
+        if (!supports(action)) {
+            throw new IllegalArgumentException("실행기가 지원하지 않는 동작이다. action="
+                    + action.getClass().getSimpleName() + ", executor=" + getClass().getSimpleName());
+        }
+    }
+}
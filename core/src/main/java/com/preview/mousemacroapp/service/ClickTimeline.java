@@ -0,0 +1,136 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 클릭 발생 이력(시각/좌표/동작)을 열 단위 배열로 보관하는 타임라인.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>클릭 1회당 객체를 만들지 않고 기본형 배열에 추가한다(수십만 건 시뮬레이션 대비).</li>
+ *     <li>동작은 같은 인스턴스를 참조로만 보관한다.</li>
+ *     <li>기록은 단일 스레드에서 수행하고, 완료 후 조회한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class ClickTimeline {
+
+    private long[] epochMillis;
+    private int[] xs;
+    private int[] ys;
+    private ClickAction[] actions;
+    private int size;
+
+    /**
+     * @param initialCapacity 초기 용량(1 이상, 부족하면 자동 확장)
+     * @throws IllegalArgumentException initialCapacity가 1 미만인 경우
+     */
+    public ClickTimeline(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("initialCapacity는 1 이상이어야 한다. initialCapacity=" + initialCapacity);
+        }
+        this.epochMillis = new long[initialCapacity];
+        this.xs = new int[initialCapacity];
+        this.ys = new int[initialCapacity];
+        this.actions = new ClickAction[initialCapacity];
+    }
+
+    /**
+     * 클릭 1건을 추가한다.
+     *
+     * @param epochMillis 클릭 시각(epoch ms)
+     * @param x           클릭 X 좌표
+     * @param y           클릭 Y 좌표
+     * @param action      클릭 동작
+     * @throws NullPointerException action이 null인 경우
+     */
+    public void add(long epochMillis, int x, int y, ClickAction action) {
+        Objects.requireNonNull(action, "action");
+        if (size == xs.length) {
+            grow();
+        }
+        this.epochMillis[size] = epochMillis;
+        this.xs[size] = x;
+        this.ys[size] = y;
+        this.actions[size] = action;
+        size++;
+    }
+
+    /**
+     * @return 기록된 클릭 수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 기록이 없으면 true
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @param index 0 기반 인덱스
+     * @return 클릭 시각(epoch ms)
+     * @throws IndexOutOfBoundsException 범위를 벗어난 경우
+     */
+    public long epochMillisAt(int index) {
+        return epochMillis[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * @param index 0 기반 인덱스
+     * @return 클릭 X 좌표
+     * @throws IndexOutOfBoundsException 범위를 벗어난 경우
+     */
+    public int xAt(int index) {
+        return xs[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * @param index 0 기반 인덱스
+     * @return 클릭 Y 좌표
+     * @throws IndexOutOfBoundsException 범위를 벗어난 경우
+     */
+    public int yAt(int index) {
+        return ys[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * @param index 0 기반 인덱스
+     * @return 클릭 동작
+     * @throws IndexOutOfBoundsException 범위를 벗어난 경우
+     */
+    public ClickAction actionAt(int index) {
+        return actions[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * 클릭 시각을 지정 시간대의 LocalTime으로 반환한다(화면 표시/검증 편의).
+     *
+     * @param index 0 기반 인덱스
+     * @param zone  시간대
+     * @return 로컬 시각
+     * @throws IndexOutOfBoundsException 범위를 벗어난 경우
+     */
+    public LocalTime localTimeAt(int index, ZoneId zone) {
+        Objects.requireNonNull(zone, "zone");
+        return LocalTime.ofInstant(Instant.ofEpochMilli(epochMillisAt(index)), zone);
+    }
+
+    private void grow() {
+        int capacity = xs.length + (xs.length >> 1) + 1;
+        epochMillis = Arrays.copyOf(epochMillis, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        actions = Arrays.copyOf(actions, capacity);
+    }
+}
@@ -0,0 +1,34 @@
+package com.preview.mousemacroapp.service;
+
+import java.io.IOException;
+
+/**
+ * 저장된 프로파일 목록을 읽었지만 형식/버전/CRC/본문이 맞지 않음을 알리는 예외.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>읽기 자체가 실패한 경우(권한/디스크 오류)와 구분하여, 호출자가 저장본을 백업하고 새로 저장하도록 한다
+ *     ({@link MacroProfileStore#backupCorrupt()}).</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class CorruptProfileException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param message 손상 내용
+     */
+    public CorruptProfileException(String message) {
+        super(message);
+    }
+
+    /**
+     * @param message 손상 내용
+     * @param cause   본문 해석 중 발생한 예외
+     */
+    public CorruptProfileException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,306 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.program.MacroProgram;
+import com.preview.mousemacroapp.domain.status.MacroStatus;
+import com.preview.mousemacroapp.service.replay.ClickExecutorReplayOutput;
+import com.preview.mousemacroapp.service.replay.ReplayEngine;
+import com.preview.mousemacroapp.service.replay.ReplayOptions;
+import com.preview.mousemacroapp.service.replay.ReplayOutput;
+import com.preview.mousemacroapp.service.replay.ReplayReport;
+import com.preview.mousemacroapp.service.replay.ReplaySource;
+import com.preview.mousemacroapp.service.script.MacroScript;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * {@link MacroService} 기본 구현체.
+ *
+ * <p>
+ * UI가 호출하는 상태 전이(start/stop/pause/resume)의 단일 진입점이다.
+ * 동시 호출(버튼 연타 등)에서도 상태가 깨지지 않도록 동기화 경계를 제공한다.
+ * </p>
+ *
+ * @since 0.6
+ */
+public final class DefaultMacroService implements MacroService {
+
+    private final Object lock = new Object();
+
+    private final Clock clock;
+
+    private final ClickExecutor clickExecutor;
+
+    private final MacroRunner runner;
+
+    private final ReplayEngine replayEngine;
+
+    private volatile MacroStatus status = MacroStatus.STOPPED;
+
+    // 역할: pause/resume을 현재 실행 중인 엔진(반복 실행 또는 재생)에만 전달하기 위한 구분값(lock 안에서만 변경).
+    private boolean replaying;
+
+    /**
+     * 기본 시스템 시간대(Clock.systemDefaultZone())를 사용하는 서비스 생성자.
+     *
+     * @param clickExecutor 클릭 실행 포트(Infra 구현체 주입)
+     * @throws NullPointerException clickExecutor가 null인 경우
+     * @since 0.6
+     */
+    public DefaultMacroService(ClickExecutor clickExecutor) {
+        this(clickExecutor, Clock.systemDefaultZone());
+    }
+
+    /**
+     * 실행 엔진과 시간 소스를 주입하는 서비스 생성자.
+     *
+     * <p>
+     * Clock 주입은 스케줄/타이밍 관련 디버그 및 테스트 재현성을 위해 필요하다.
+     * </p>
+     *
+     * @param clickExecutor 클릭 실행 포트(Infra 구현체 주입)
+     * @param clock         시간 소스
+     * @throws NullPointerException clickExecutor 또는 clock이 null인 경우
+     * @since 0.6
+     */
+    public DefaultMacroService(ClickExecutor clickExecutor, Clock clock) {
+        this(clickExecutor, clock, new ClickExecutorReplayOutput(clickExecutor));
+    }
+
+    /**
+     * 재생 출력을 따로 주입하는 서비스 생성자.
+     *
+     * <p>
+     * 기본 재생 출력은 버튼 누름만 클릭 실행 포트로 옮긴다.
+     * 이동/홀드까지 재현하려면 입력 장치 기반 출력(infra)을 주입한다.
+     * </p>
+     *
+     * @param clickExecutor 클릭 실행 포트(Infra 구현체 주입)
+     * @param clock         시간 소스
+     * @param replayOutput  재생 출력 포트
+     * @throws NullPointerException 인자가 null인 경우
+     * @since 0.9
+     */
+    public DefaultMacroService(ClickExecutor clickExecutor, Clock clock, ReplayOutput replayOutput) {
+        this.clickExecutor = Objects.requireNonNull(clickExecutor, "clickExecutor");
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.runner = new MacroRunner(clickExecutor, clock);
+        this.replayEngine = new ReplayEngine(Objects.requireNonNull(replayOutput, "replayOutput"), clock);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException request가 null인 경우
+     * @since 0.6
+     */
+    @Override
+    public void start(MacroRequest request) {
+        Objects.requireNonNull(request, "request");
+
+        synchronized (lock) {
+            // 역할: 상태 전이의 단일 판단 지점(동시 start 요청 방지)
+            if (status.isActive()) {
+                throw new IllegalStateException("이미 실행 중이므로 start 할 수 없다. status=" + status);
+            }
+
+            runner.start(
+                    request.macroPoint(),
+                    request.clickAction(),
+                    request.positionPolicy(),
+                    request.delayPolicy(),
+                    request.schedule(),
+                    request.random(),
+                    request.repeatCount(),
+                    this::onRunnerCompleted
+            );
+
+            replaying = false;
+            status = MacroStatus.RUNNING;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException     request가 null인 경우
+     * @throws IllegalArgumentException 실행기가 지원하지 않는 동작(예: 키보드 없는 실행기의 키 입력)이 있는 경우
+     * @since 0.9
+     */
+    @Override
+    public void startProgram(ProgramRequest request) {
+        Objects.requireNonNull(request, "request");
+        // 역할: 지원하지 않는 동작은 실행 도중이 아니라 시작 전에 거부한다.
+        MacroProgram program = request.program();
+        for (int step = 0; step < program.size(); step++) {
+            clickExecutor.requireSupported(program.action(step));
+        }
+
+        synchronized (lock) {
+            if (status.isActive()) {
+                throw new IllegalStateException("이미 실행 중이므로 프로그램을 시작할 수 없다. status=" + status);
+            }
+
+            runner.startProgram(
+                    request.program(),
+                    request.schedule(),
+                    request.random(),
+                    request.repeatCount(),
+                    this::onRunnerCompleted
+            );
+
+            replaying = false;
+            status = MacroStatus.RUNNING;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException     script 또는 random이 null인 경우
+     * @throws IllegalArgumentException 실행기가 지원하지 않는 동작(예: 키보드 없는 실행기의 키 입력)이 있는 경우
+     * @since 0.9
+     */
+    @Override
+    public void startScript(MacroScript script, Random random) {
+        Objects.requireNonNull(script, "script");
+        Objects.requireNonNull(random, "random");
+        // 역할: 지원하지 않는 동작은 실행 도중이 아니라 시작 전에 거부한다.
+        script.actions().forEach(clickExecutor::requireSupported);
+
+        synchronized (lock) {
+            if (status.isActive()) {
+                throw new IllegalStateException("이미 실행 중이므로 스크립트를 시작할 수 없다. status=" + status);
+            }
+
+            runner.startScript(script, random, this::onRunnerCompleted);
+
+            replaying = false;
+            status = MacroStatus.RUNNING;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>재생 스케줄 판단은 서비스에 주입된 Clock을 따른다.</p>
+     *
+     * @throws NullPointerException source 또는 options가 null인 경우
+     * @since 0.9
+     */
+    @Override
+    public void startReplay(ReplaySource source, ReplayOptions options) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(options, "options");
+
+        synchronized (lock) {
+            if (status.isActive()) {
+                throw new IllegalStateException("이미 실행 중이므로 재생을 시작할 수 없다. status=" + status);
+            }
+
+            replayEngine.start(source, options, this::onRunnerCompleted);
+
+            replaying = true;
+            status = MacroStatus.RUNNING;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.9
+     */
+    @Override
+    public Optional<ReplayReport> lastReplayReport() {
+        return Optional.ofNullable(replayEngine.lastReport());
+    }
+
+    private void onRunnerCompleted() {
+        synchronized (lock) {
+            // 역할: 제한 반복 종료/스레드 종료 시 STOPPED로 수렴(멱등)
+            status = MacroStatus.STOPPED;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.6
+     */
+    @Override
+    public void stop() {
+        synchronized (lock) {
+            // 역할: stop은 현재 상태와 무관하게 STOPPED로 수렴(멱등)
+            runner.requestStop();
+            replayEngine.requestStop();
+            status = MacroStatus.STOPPED;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.6
+     */
+    @Override
+    public void pause() {
+        synchronized (lock) {
+            // 역할: RUNNING에서만 PAUSED로 전이 가능(명세 기반 상태 전이 제한)
+            if (!status.isRunning()) {
+                throw new IllegalStateException("RUNNING 상태에서만 pause 할 수 있다. status=" + status);
+            }
+            if (replaying) {
+                replayEngine.pause();
+            } else {
+                runner.pause();
+            }
+            status = MacroStatus.PAUSED;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.6
+     */
+    @Override
+    public void resume() {
+        synchronized (lock) {
+            // 역할: PAUSED에서만 RUNNING으로 전이 가능(명세 기반 상태 전이 제한)
+            if (!status.isPaused()) {
+                throw new IllegalStateException("PAUSED 상태에서만 resume 할 수 있다. status=" + status);
+            }
+            if (replaying) {
+                replayEngine.resume();
+            } else {
+                runner.resume();
+            }
+            status = MacroStatus.RUNNING;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @since 0.6
+     */
+    @Override
+    public MacroStatus status() {
+        return status;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>시작 시각/시간대는 서비스에 주입된 Clock을 따른다.</p>
+     *
+     * @since 0.9
+     */
+    @Override
+    public ClickTimeline preview(MacroRequest request, Duration horizon) {
+        return MacroSimulator.simulate(request, clock.instant(), clock.getZone(), horizon);
+    }
+}
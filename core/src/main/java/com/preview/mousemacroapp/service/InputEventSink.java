@@ -0,0 +1,33 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+
+/**
+ * 기록된 입력 이벤트를 받는 포트.
+ *
+ * <p>
+ * 이벤트는 객체로 묶지 않고 원시 값으로 전달한다(초당 수천 건의 이동 이벤트에서 할당을 피하기 위함).
+ * 한 기록기의 이벤트는 단일 스레드에서 시각 순서대로 전달된다.
+ * </p>
+ *
+ * @since 0.9
+ */
+public interface InputEventSink {
+
+    /**
+     * 이벤트 1건을 받는다.
+     *
+     * @param timestampNanos 단조 증가 시각(ns, {@link System#nanoTime()} 기준)
+     * @param type           이벤트 종류
+     * @param x              화면 x 좌표(키 이벤트는 0)
+     * @param y              화면 y 좌표(키 이벤트는 0)
+     * @param code           종류별 값({@link InputEventType} 참고)
+     */
+    void accept(long timestampNanos, InputEventType type, int x, int y, int code);
+
+    /**
+     * 한 번에 꺼낸 이벤트 묶음의 끝을 알린다(버퍼 플러시 시점 힌트).
+     */
+    default void endOfBatch() {
+    }
+}
@@ -0,0 +1,94 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * 이름을 붙여 저장하는 매크로 설정 묶음(프로파일).
+ *
+ * <p>
+ * {@link MacroRequest}에서 실행마다 달라지는 랜덤 소스를 뺀 나머지(Where/How/When/TimeRange/반복 횟수)를 담는다.
+ * 클릭 좌표 결정 정책은 {@link MacroPoint#positionPolicy()}를 그대로 사용한다.
+ * </p>
+ *
+ * @param name        프로파일 이름(빈 문자열 허용하지 않음, 저장소 안에서 식별자)
+ * @param macroPoint  기준 좌표와 좌표 결정 정책
+ * @param clickAction 클릭 동작 정책
+ * @param delayPolicy 클릭 간격 정책
+ * @param schedule    실행 가능 시간 정책
+ * @param repeatCount 반복 횟수(0=무한)
+ * @since 0.9
+ */
+public record MacroProfile(
+        String name,
+        MacroPoint macroPoint,
+        ClickAction clickAction,
+        DelayPolicy delayPolicy,
+        ExecutionSchedule schedule,
+        int repeatCount
+) {
+
+    /**
+     * @throws NullPointerException     필드 중 하나라도 null인 경우
+     * @throws IllegalArgumentException name이 비어 있거나 repeatCount가 음수인 경우
+     */
+    public MacroProfile {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(macroPoint, "macroPoint");
+        Objects.requireNonNull(clickAction, "clickAction");
+        Objects.requireNonNull(delayPolicy, "delayPolicy");
+        Objects.requireNonNull(schedule, "schedule");
+        if (name.isBlank()) {
+            throw new IllegalArgumentException("name은 비어 있을 수 없다.");
+        }
+        if (repeatCount < 0) {
+            throw new IllegalArgumentException("repeatCount는 0 이상이어야 한다. repeatCount=" + repeatCount);
+        }
+    }
+
+    /**
+     * 실행 요청을 프로파일로 만든다(요청의 좌표 결정 정책을 포인트에 담는다).
+     *
+     * @param name    프로파일 이름
+     * @param request 실행 요청
+     * @return 프로파일
+     * @throws NullPointerException     name/request가 null인 경우
+     * @throws IllegalArgumentException name이 비어 있는 경우
+     */
+    public static MacroProfile of(String name, MacroRequest request) {
+        Objects.requireNonNull(request, "request");
+        MacroPoint point = request.macroPoint();
+        return new MacroProfile(
+                name,
+                new MacroPoint(point.name(), point.base(), request.positionPolicy()),
+                request.clickAction(),
+                request.delayPolicy(),
+                request.schedule(),
+                request.repeatCount()
+        );
+    }
+
+    /**
+     * 실행 요청으로 만든다.
+     *
+     * @param random 랜덤 소스
+     * @return 실행 요청
+     * @throws NullPointerException random이 null인 경우
+     */
+    public MacroRequest toRequest(Random random) {
+        return new MacroRequest(
+                macroPoint,
+                clickAction,
+                macroPoint.positionPolicy(),
+                delayPolicy,
+                schedule,
+                random,
+                repeatCount
+        );
+    }
+}
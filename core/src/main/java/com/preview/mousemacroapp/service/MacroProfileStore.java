@@ -0,0 +1,46 @@
+package com.preview.mousemacroapp.service;
+
+import java.io.IOException;
+
+/**
+ * 매크로 프로파일 목록을 저장/적재하는 포트.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>UI/Service는 파일 형식에 의존하지 않는다.</li>
+ *     <li>Infra는 이 포트를 구현하여 프로파일을 영속화한다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>저장된 적이 없으면 {@link #load()}는 {@link MacroProfiles#empty()}를 돌려준다.</li>
+ *     <li>{@link #save(MacroProfiles)}는 통째로 바꾼다. 실패해도 이전에 저장한 내용은 남아 있어야 한다.</li>
+ *     <li>저장본이 손상되었으면 {@link #load()}는 {@link CorruptProfileException}으로 알리고,
+ *     {@link #backupCorrupt()}로 옮겨 둔 뒤에야 새 목록으로 덮어쓴다(손상본을 조용히 잃지 않는다).</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public interface MacroProfileStore {
+
+    /**
+     * @return 저장된 프로파일 목록
+     * @throws CorruptProfileException 저장본의 형식/버전/CRC/본문이 맞지 않는 경우
+     * @throws IOException              읽을 수 없는 경우
+     */
+    MacroProfiles load() throws IOException;
+
+    /**
+     * @param profiles 저장할 프로파일 목록
+     * @throws IOException              쓸 수 없는 경우
+     * @throws IllegalArgumentException 저장할 수 없는 정책(사용자 정의 좌표 정책 등)이 있는 경우
+     */
+    void save(MacroProfiles profiles) throws IOException;
+
+    /**
+     * 손상된 저장본을 백업 위치로 옮긴다(이전 백업은 바꾼다). 저장본이 없으면 아무것도 하지 않는다.
+     *
+     * @throws IOException 옮길 수 없는 경우
+     */
+    void backupCorrupt() throws IOException;
+}
@@ -0,0 +1,103 @@
+package com.preview.mousemacroapp.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 저장소에 한 번에 저장/적재하는 프로파일 목록과 마지막 사용 프로파일.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>프로파일 이름은 목록 안에서 유일해야 한다.</li>
+ *     <li>목록은 불변 복사본으로 보관한다. 변경은 새 인스턴스를 만든다({@link #withLastUsed(MacroProfile)}).</li>
+ * </ul>
+ *
+ * @param profiles      프로파일 목록(저장 순서)
+ * @param lastUsedIndex 마지막 사용 프로파일 번호(없으면 -1)
+ * @since 0.9
+ */
+public record MacroProfiles(List<MacroProfile> profiles, int lastUsedIndex) {
+
+    private static final MacroProfiles EMPTY = new MacroProfiles(List.of(), -1);
+
+    /**
+     * @throws NullPointerException     profiles 또는 그 항목이 null인 경우
+     * @throws IllegalArgumentException 이름이 중복되거나 lastUsedIndex가 범위를 벗어난 경우
+     */
+    public MacroProfiles {
+        profiles = List.copyOf(profiles);
+        if (lastUsedIndex < -1 || lastUsedIndex >= profiles.size()) {
+            throw new IllegalArgumentException("lastUsedIndex가 범위를 벗어났다. lastUsedIndex=" + lastUsedIndex
+                    + ", size=" + profiles.size());
+        }
+        if (profiles.stream().map(MacroProfile::name).distinct().count() != profiles.size()) {
+            throw new IllegalArgumentException("프로파일 이름은 중복될 수 없다.");
+        }
+    }
+
+    /**
+     * @return 빈 목록(저장 파일이 없을 때)
+     */
+    public static MacroProfiles empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return 마지막 사용 프로파일(없으면 empty)
+     */
+    public Optional<MacroProfile> lastUsed() {
+        return lastUsedIndex < 0 ? Optional.empty() : Optional.of(profiles.get(lastUsedIndex));
+    }
+
+    /**
+     * @param name 프로파일 이름
+     * @return 이름이 같은 프로파일(없으면 empty)
+     */
+    public Optional<MacroProfile> find(String name) {
+        Objects.requireNonNull(name, "name");
+        return profiles.stream().filter(p -> p.name().equals(name)).findFirst();
+    }
+
+    /**
+     * 프로파일을 넣고(같은 이름이면 그 자리를 바꾼다) 마지막 사용 프로파일로 지정한 목록을 만든다.
+     *
+     * @param profile 프로파일
+     * @return 새 목록
+     * @throws NullPointerException profile이 null인 경우
+     */
+    public MacroProfiles withLastUsed(MacroProfile profile) {
+        Objects.requireNonNull(profile, "profile");
+        List<MacroProfile> next = new ArrayList<>(profiles);
+        for (int i = 0; i < next.size(); i++) {
+            if (next.get(i).name().equals(profile.name())) {
+                next.set(i, profile);
+                return new MacroProfiles(next, i);
+            }
+        }
+        next.add(profile);
+        return new MacroProfiles(next, next.size() - 1);
+    }
+
+    /**
+     * 이름이 같은 프로파일을 뺀 목록을 만든다(마지막 사용 프로파일이면 지정을 지운다).
+     *
+     * @param name 프로파일 이름
+     * @return 새 목록(없는 이름이면 this)
+     * @throws NullPointerException name이 null인 경우
+     * @since 0.9
+     */
+    public MacroProfiles without(String name) {
+        Objects.requireNonNull(name, "name");
+        for (int i = 0; i < profiles.size(); i++) {
+            if (profiles.get(i).name().equals(name)) {
+                List<MacroProfile> next = new ArrayList<>(profiles);
+                next.remove(i);
+                int last = (i == lastUsedIndex) ? -1 : (i < lastUsedIndex ? lastUsedIndex - 1 : lastUsedIndex);
+                return new MacroProfiles(next, last);
+            }
+        }
+        return this;
+    }
+}
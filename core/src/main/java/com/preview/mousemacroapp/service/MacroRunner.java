@@ -0,0 +1,340 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.debug.DebugLog;
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.policy.ClickPositionPolicy;
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.program.MacroProgram;
+import com.preview.mousemacroapp.service.script.MacroScript;
+import com.preview.mousemacroapp.service.script.ScriptControl;
+import com.preview.mousemacroapp.service.script.ScriptResult;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+
+import java.time.Clock;
+import java.time.LocalTime;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * 실행 루프 담당(내부 실행 엔진).
+ *
+ * <p>
+ * Service는 상태 전이와 수명 주기를 제어하고,
+ * Runner는 반복 실행(딜레이/스케줄/좌표 정책 적용)을 담당한다.
+ * </p>
+ *
+ * @since 0.6
+ */
+final class MacroRunner {
+
+    private static final long SCHEDULE_CHECK_MILLIS = 100;
+
+    private final ClickExecutor clickExecutor;
+    private final Clock clock;
+    private final Sleeper sleeper;
+
+    private Thread worker;
+
+    private volatile boolean stopRequested;
+    private volatile boolean paused;
+
+    /**
+     * 스크립트 실행 제어: Runner의 일시정지/중단 상태와 대기 전략을 그대로 쓴다.
+     */
+    private final ScriptControl scriptControl = new ScriptControl() {
+        @Override
+        public boolean checkpoint() {
+            while (paused && !stopRequested) {
+                sleepSilently(50);
+            }
+            return !stopRequested;
+        }
+
+        @Override
+        public boolean sleep(long millis) {
+            sleepSilently(millis);
+            return !stopRequested;
+        }
+    };
+
+    MacroRunner(ClickExecutor clickExecutor, Clock clock) {
+        this(clickExecutor, clock, Sleeper.system());
+    }
+
+    MacroRunner(ClickExecutor clickExecutor, Clock clock, Sleeper sleeper) {
+        this.clickExecutor = Objects.requireNonNull(clickExecutor, "clickExecutor");
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.sleeper = Objects.requireNonNull(sleeper, "sleeper");
+    }
+
+    void start(MacroPoint macroPoint,
+               ClickAction clickAction,
+               ClickPositionPolicy positionPolicy,
+               DelayPolicy delayPolicy,
+               ExecutionSchedule schedule,
+               Random random,
+               int repeatCount,
+               Runnable onCompleted) {
+
+        Objects.requireNonNull(macroPoint, "macroPoint");
+        Objects.requireNonNull(clickAction, "clickAction");
+        Objects.requireNonNull(positionPolicy, "positionPolicy");
+        Objects.requireNonNull(delayPolicy, "delayPolicy");
+        Objects.requireNonNull(schedule, "schedule");
+        Objects.requireNonNull(random, "random");
+        Objects.requireNonNull(onCompleted, "onCompleted");
+
+        if (repeatCount < 0) {
+            throw new IllegalArgumentException("repeatCount는 0 이상이어야 한다. repeatCount=" + repeatCount);
+        }
+
+        stopRequested = false;
+        paused = false;
+
+        // 역할: 실행 스레드 생명주기는 Runner 내부에서만 생성/시작한다(외부 직접 제어 금지).
+        worker = new Thread(() -> {
+            try {
+                runLoop(macroPoint, clickAction, positionPolicy, delayPolicy, schedule, random, repeatCount);
+            } finally {
+                // 역할: 정상 종료/stop 요청/예외 종료 모두 “종료 완료”를 Service에 알린다.
+                onCompleted.run();
+            }
+        }, "macro-runner");
+
+        // 역할: UI 종료 시 백그라운드 스레드가 프로세스 종료를 막지 않도록 daemon 처리한다.
+        worker.setDaemon(true);
+
+        worker.start();
+    }
+
+    /**
+     * 매크로 프로그램 실행 스레드를 시작한다.
+     *
+     * @param program     컴파일된 프로그램
+     * @param schedule    실행 가능 시간 정책
+     * @param random      랜덤 소스
+     * @param repeatCount 프로그램 반복 회차(0=무한)
+     * @param onCompleted 실행 종료(회차 도달/stop/예외) 시 실행 스레드에서 호출
+     * @since 0.9
+     */
+    void startProgram(MacroProgram program,
+                      ExecutionSchedule schedule,
+                      Random random,
+                      int repeatCount,
+                      Runnable onCompleted) {
+
+        Objects.requireNonNull(program, "program");
+        Objects.requireNonNull(schedule, "schedule");
+        Objects.requireNonNull(random, "random");
+        Objects.requireNonNull(onCompleted, "onCompleted");
+
+        if (repeatCount < 0) {
+            throw new IllegalArgumentException("repeatCount는 0 이상이어야 한다. repeatCount=" + repeatCount);
+        }
+
+        stopRequested = false;
+        paused = false;
+
+        worker = new Thread(() -> {
+            try {
+                runProgramLoop(program, schedule, random, repeatCount);
+            } finally {
+                onCompleted.run();
+            }
+        }, "macro-runner");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 매크로 스크립트 실행 스레드를 시작한다(스크립트 끝까지 1회 실행).
+     *
+     * @param script      컴파일된 스크립트
+     * @param random      랜덤 소스
+     * @param onCompleted 실행 종료(끝 도달/stop/예외) 시 실행 스레드에서 호출
+     * @since 0.9
+     */
+    void startScript(MacroScript script, Random random, Runnable onCompleted) {
+        Objects.requireNonNull(script, "script");
+        Objects.requireNonNull(random, "random");
+        Objects.requireNonNull(onCompleted, "onCompleted");
+
+        stopRequested = false;
+        paused = false;
+
+        worker = new Thread(() -> {
+            try {
+                runScript(script, random);
+            } finally {
+                onCompleted.run();
+            }
+        }, "macro-runner");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    void requestStop() {
+        stopRequested = true;
+        Thread t = worker;
+        if (t != null) {
+            // 역할: stop 요청은 sleep 대기 중인 루프를 즉시 탈출시키기 위해 interrupt를 사용한다.
+            t.interrupt();
+        }
+    }
+
+    void pause() {
+        paused = true;
+    }
+
+    void resume() {
+        paused = false;
+        Thread t = worker;
+        if (t != null) {
+            // 역할: resume 시 sleep을 끊어 즉시 다음 루프로 복귀시키기 위해 interrupt를 사용한다.
+            t.interrupt();
+        }
+    }
+
+    /**
+     * 실행 루프를 호출 스레드에서 동기 실행한다(시뮬레이션 전용).
+     *
+     * <p>
+     * 스레드를 만들지 않으며, 종료는 repeatCount 도달 또는 {@link #requestStop()}으로만 이루어진다.
+     * </p>
+     */
+    void runOnCurrentThread(MacroPoint macroPoint,
+                            ClickAction clickAction,
+                            ClickPositionPolicy positionPolicy,
+                            DelayPolicy delayPolicy,
+                            ExecutionSchedule schedule,
+                            Random random,
+                            int repeatCount) {
+        stopRequested = false;
+        paused = false;
+        runLoop(macroPoint, clickAction, positionPolicy, delayPolicy, schedule, random, repeatCount);
+    }
+
+    /**
+     * 프로그램 실행 루프를 호출 스레드에서 동기 실행한다(시뮬레이션/측정 전용).
+     *
+     * @return 수행한 단계 수
+     * @since 0.9
+     */
+    long runProgramOnCurrentThread(MacroProgram program, ExecutionSchedule schedule, Random random, int repeatCount) {
+        stopRequested = false;
+        paused = false;
+        return runProgramLoop(program, schedule, random, repeatCount);
+    }
+
+    private void runScript(MacroScript script, Random random) {
+        DebugLog.log("RUNNER", () -> "script start variables=" + script.variables());
+        ScriptResult result = script.run(clickExecutor, random, scriptControl);
+        DebugLog.log("RUNNER", () -> "script end " + result);
+    }
+
+    private void runLoop(MacroPoint macroPoint,
+                         ClickAction clickAction,
+                         ClickPositionPolicy positionPolicy,
+                         DelayPolicy delayPolicy,
+                         ExecutionSchedule schedule,
+                         Random random,
+                         int repeatCount) {
+
+        ScreenPoint base = macroPoint.base();
+
+        int executed = 0;
+        DebugLog.log("RUNNER", () -> "run start repeat=" + repeatCount);
+
+        // 역할: stopRequested는 루프 종료 여부를 판단하는 단일 플래그다.
+        while (!stopRequested) {
+            // 역할: PAUSED 상태에서는 클릭을 수행하지 않는다.
+            if (paused) {
+                sleepSilently(50);
+                continue;
+            }
+
+            // ExecutionSchedule.Always(Null Object)로 통일하여 항상 정책 판단 수행
+            LocalTime now = LocalTime.now(clock);
+            if (!schedule.isAllowed(now)) {
+                sleepSilently(200);
+                continue;
+            }
+
+            ScreenPoint resolved = positionPolicy.resolve(base, random);
+            clickExecutor.execute(clickAction, resolved);
+
+            executed++;
+            if (repeatCount > 0) {
+                final int current = executed;   // ← 이 줄 추가
+                DebugLog.log("RUNNER", () -> "tick=" + current + "/" + repeatCount);
+
+                if (current >= repeatCount) {
+                    DebugLog.log("RUNNER", () -> "finished -> stop");
+                    break;
+                }
+            }
+
+            long delayMillis = delayPolicy.resolveDelayMillis(random);
+            sleepSilently(delayMillis);
+        }
+    }
+
+    private void sleepSilently(long millis) {
+        try {
+            sleeper.sleep(Math.max(1L, millis));
+        } catch (InterruptedException ignored) {
+            // 역할: stop/resume 등 상태 변화 시 sleep을 끊기 위한 인터럽트는 정상 흐름
+        }
+    }
+
+    /**
+     * 프로그램 실행 루프.
+     *
+     * <p>
+     * 단계 수행은 {@link ProgramInterpreter}가 하며, 루프 자체도 단계마다 객체를 만들지 않는다.
+     * 스케줄은 {@value #SCHEDULE_CHECK_MILLIS}ms마다 1회만 판단하고(항상 허용이면 판단하지 않음),
+     * 딜레이가 0인 단계 뒤에는 대기하지 않고 바로 다음 단계를 수행한다.
+     * 마지막 회차의 마지막 단계 뒤에는 대기하지 않고 끝낸다.
+     * </p>
+     */
+    private long runProgramLoop(MacroProgram program, ExecutionSchedule schedule, Random random, int repeatCount) {
+        ProgramInterpreter interpreter = new ProgramInterpreter(program, clickExecutor, random);
+        boolean alwaysAllowed = schedule instanceof ExecutionSchedule.Always;
+        long nextScheduleCheck = Long.MIN_VALUE;
+        boolean allowed = true;
+
+        DebugLog.log("RUNNER", () -> "program start steps=" + program.size() + " repeat=" + repeatCount);
+
+        while (!stopRequested) {
+            if (paused) {
+                sleepSilently(50);
+                continue;
+            }
+
+            if (!alwaysAllowed) {
+                long nowMillis = clock.millis();
+                if (nowMillis >= nextScheduleCheck) {
+                    allowed = schedule.isAllowed(LocalTime.now(clock));
+                    nextScheduleCheck = nowMillis + SCHEDULE_CHECK_MILLIS;
+                }
+                if (!allowed) {
+                    sleepSilently(200);
+                    continue;
+                }
+            }
+
+            long delayMillis = interpreter.step();
+            if (repeatCount > 0 && interpreter.pc() == 0 && interpreter.passes() >= repeatCount) {
+                break;
+            }
+            if (delayMillis > 0) {
+                sleepSilently(delayMillis);
+            }
+        }
+
+        DebugLog.log("RUNNER", () -> "program end steps=" + interpreter.steps() + " passes=" + interpreter.passes());
+        return interpreter.steps();
+    }
+}
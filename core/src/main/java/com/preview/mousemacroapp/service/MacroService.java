@@ -0,0 +1,138 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.status.MacroStatus;
+import com.preview.mousemacroapp.service.replay.ReplayOptions;
+import com.preview.mousemacroapp.service.replay.ReplayReport;
+import com.preview.mousemacroapp.service.replay.ReplaySource;
+import com.preview.mousemacroapp.service.script.MacroScript;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.Random;
+
+/**
+ * 매크로 실행 흐름 제어 서비스.
+ *
+ * <p>
+ * UI는 이 서비스만 호출하여 실행/정지/일시정지/재개를 제어한다.
+ * 상태 전이의 단일 진입점이며, 실행 스레드 관리는 내부 Runner가 책임진다.
+ * </p>
+ *
+ * @since 0.6
+ */
+public interface MacroService {
+
+    /**
+     * 매크로를 시작한다.
+     *
+     * @param request 실행 요청
+     * @throws IllegalStateException 이미 실행 중(RUNNING/PAUSED)인 경우
+     */
+    void start(MacroRequest request);
+
+    /**
+     * 매크로를 정지한다.
+     * (STOPPED 상태로 전이)
+     */
+    void stop();
+
+    /**
+     * 매크로를 일시 정지한다.
+     *
+     * @throws IllegalStateException RUNNING이 아닌 경우
+     */
+    void pause();
+
+    /**
+     * 일시 정지된 매크로를 재개한다.
+     *
+     * @throws IllegalStateException PAUSED가 아닌 경우
+     */
+    void resume();
+
+    /**
+     * 현재 상태를 반환한다.
+     *
+     * @return 실행 상태
+     */
+    MacroStatus status();
+
+    /**
+     * 요청을 가상 시간으로 실행하여 예상 클릭 타임라인을 계산한다.
+     *
+     * <p>
+     * 실제 클릭/상태 전이는 일어나지 않으며, 현재 시각부터 horizon 동안을 재현한다.
+     * 긴 구간도 실시간 대기 없이 계산되지만 UI 스레드에서는 호출하지 않는다.
+     * 요청의 랜덤 소스는 시드 하나만큼만 전진한다({@link MacroSimulator#simulate(MacroRequest, Instant, ZoneId, Duration)}).
+     * </p>
+     *
+     * @param request 실행 요청
+     * @param horizon 미리보기 구간 길이
+     * @return 예상 클릭 타임라인
+     * @throws NullPointerException     인자가 null인 경우
+     * @throws IllegalArgumentException horizon이 0 이하인 경우
+     * @since 0.9
+     */
+    default ClickTimeline preview(MacroRequest request, Duration horizon) {
+        return MacroSimulator.simulate(request, Instant.now(), ZoneId.systemDefault(), horizon);
+    }
+
+    /**
+     * 매크로 프로그램(여러 단계 순서열)을 시작한다.
+     *
+     * <p>
+     * 프로그램도 매크로 실행과 같은 상태(RUNNING/PAUSED/STOPPED)를 가지며,
+     * 반복 회차에 도달하면 STOPPED로 전이한다.
+     * </p>
+     *
+     * @param request 실행 요청
+     * @throws IllegalStateException    이미 실행 중(RUNNING/PAUSED)인 경우
+     * @throws IllegalArgumentException 실행기가 지원하지 않는 동작이 있는 경우(시작 전에 거부)
+     * @since 0.9
+     */
+    void startProgram(ProgramRequest request);
+
+    /**
+     * 매크로 스크립트를 시작한다(끝까지 1회 실행, 반복은 스크립트의 repeat/while로 표현).
+     *
+     * <p>
+     * 스크립트도 매크로 실행과 같은 상태(RUNNING/PAUSED/STOPPED)를 가지며,
+     * 일시정지는 다음 동작/대기 직전에 적용된다. 스크립트 끝에 도달하면 STOPPED로 전이한다.
+     * </p>
+     *
+     * @param script 컴파일된 스크립트
+     * @param random 랜덤 소스({@code rand})
+     * @throws IllegalStateException    이미 실행 중(RUNNING/PAUSED)인 경우
+     * @throws IllegalArgumentException 실행기가 지원하지 않는 동작이 있는 경우(시작 전에 거부)
+     * @since 0.9
+     */
+    void startScript(MacroScript script, Random random);
+
+    /**
+     * 입력 기록 재생을 시작한다.
+     *
+     * <p>
+     * 재생도 매크로 실행과 같은 상태(RUNNING/PAUSED/STOPPED)를 가지며,
+     * {@link #pause()}/{@link #resume()}/{@link #stop()}으로 같은 방식으로 제어한다.
+     * 기록 끝에 도달하면 STOPPED로 전이한다.
+     * </p>
+     *
+     * @param source  재생 원본(재생 스레드가 소유한다)
+     * @param options 재생 구성
+     * @throws IllegalStateException 이미 실행 중(RUNNING/PAUSED)인 경우
+     * @since 0.9
+     */
+    void startReplay(ReplaySource source, ReplayOptions options);
+
+    /**
+     * 마지막으로 끝난 재생의 보고를 반환한다.
+     *
+     * @return 보고(재생 이력이 없으면 empty)
+     * @since 0.9
+     */
+    default Optional<ReplayReport> lastReplayReport() {
+        return Optional.empty();
+    }
+}
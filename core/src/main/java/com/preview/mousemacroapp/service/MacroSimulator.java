@@ -0,0 +1,128 @@
+package com.preview.mousemacroapp.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * 가상 시간으로 매크로 실행을 빠르게 재현하는 시뮬레이터.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>실제 실행과 같은 {@link MacroRunner} 루프를 가상 시계/가상 대기로 구동한다.</li>
+ *     <li>클릭은 {@link RecordingClickExecutor}로 기록만 하며, 결과는 {@link ClickTimeline}으로 반환한다.</li>
+ *     <li>대기는 시계를 앞당기기만 하므로 24시간 실행도 CPU 속도로 끝난다.</li>
+ * </ul>
+ *
+ * <p>
+ * 스케줄(허용 시간대)/반복 횟수/딜레이 정책 판단은 실제 실행 루프와 동일하다.
+ * 실행기 내부 대기(홀드/연속 클릭 간격)는 시뮬레이션 시간에 반영하지 않는다.
+ * </p>
+ *
+ * <p>
+ * 랜덤 좌표/딜레이는 요청의 랜덤 소스와 분리된 생성기로 뽑는다. 미리보기 길이만큼 호출자의 랜덤 소스가
+ * 전진하지 않으며, 같은 시드의 미리보기는 항상 같은 타임라인을 낸다.
+ * </p>
+ *
+ * @since 0.9
+ */
+public final class MacroSimulator {
+
+    private MacroSimulator() {
+    }
+
+    /**
+     * 요청을 가상 시간으로 실행하고 클릭 타임라인을 반환한다.
+     *
+     * <p>
+     * 요청의 랜덤 소스({@link MacroRequest#random()})에서 {@code nextLong()}을 정확히 한 번 뽑아
+     * 시드로 쓴다(구간 길이와 무관). 그 밖에는 요청을 바꾸지 않는다.
+     * 미리보기와 실제 실행을 같은 순서열로 맞추려면 {@link #simulate(MacroRequest, long, Instant, ZoneId, Duration)}를 쓴다.
+     * </p>
+     *
+     * @param request 실행 요청
+     * @param start   가상 시작 시각
+     * @param zone    스케줄 판단에 사용할 시간대
+     * @param horizon 시뮬레이션 길이(이 시간이 지나면 정지)
+     * @return 클릭 타임라인(시작 시각 이상, start+horizon 미만)
+     * @throws NullPointerException     인자가 null인 경우
+     * @throws IllegalArgumentException horizon이 0 이하인 경우
+     */
+    public static ClickTimeline simulate(MacroRequest request, Instant start, ZoneId zone, Duration horizon) {
+        Objects.requireNonNull(request, "request");
+        return simulate(request, request.random().nextLong(), start, zone, horizon);
+    }
+
+    /**
+     * 요청을 지정 시드의 가상 시간으로 실행하고 클릭 타임라인을 반환한다.
+     *
+     * <p>
+     * 요청의 랜덤 소스는 쓰지도 바꾸지도 않는다. 같은 요청을 {@code new Random(seed)}로 실제 실행하면
+     * 미리보기와 같은 좌표/딜레이 순서열을 쓴다.
+     * </p>
+     *
+     * @param request 실행 요청(랜덤 소스는 쓰지 않는다)
+     * @param seed    좌표/딜레이 랜덤 시드
+     * @param start   가상 시작 시각
+     * @param zone    스케줄 판단에 사용할 시간대
+     * @param horizon 시뮬레이션 길이(이 시간이 지나면 정지)
+     * @return 클릭 타임라인(시작 시각 이상, start+horizon 미만)
+     * @throws NullPointerException     인자가 null인 경우
+     * @throws IllegalArgumentException horizon이 0 이하인 경우
+     */
+    public static ClickTimeline simulate(MacroRequest request, long seed, Instant start, ZoneId zone, Duration horizon) {
+        Objects.requireNonNull(request, "request");
+        Objects.requireNonNull(start, "start");
+        Objects.requireNonNull(zone, "zone");
+        Objects.requireNonNull(horizon, "horizon");
+        if (horizon.isZero() || horizon.isNegative()) {
+            throw new IllegalArgumentException("horizon은 0보다 커야 한다. horizon=" + horizon);
+        }
+
+        VirtualClock clock = new VirtualClock(start, zone);
+        long deadline = start.toEpochMilli() + horizon.toMillis();
+
+        RecordingClickExecutor recorder = new RecordingClickExecutor(clock, new ClickTimeline(1024));
+        DeadlineSleeper sleeper = new DeadlineSleeper(clock, deadline);
+        MacroRunner runner = new MacroRunner(recorder, clock, sleeper);
+        sleeper.runner = runner;
+
+        runner.runOnCurrentThread(
+                request.macroPoint(),
+                request.clickAction(),
+                request.positionPolicy(),
+                request.delayPolicy(),
+                request.schedule(),
+                new Random(seed),
+                request.repeatCount()
+        );
+
+        return recorder.timeline();
+    }
+
+    /**
+     * 대기 시간만큼 가상 시계를 앞당기고, 종료 시각에 도달하면 Runner에 stop을 요청한다.
+     */
+    private static final class DeadlineSleeper implements Sleeper {
+
+        private final VirtualClock clock;
+        private final long deadlineEpochMillis;
+
+        private MacroRunner runner;
+
+        private DeadlineSleeper(VirtualClock clock, long deadlineEpochMillis) {
+            this.clock = clock;
+            this.deadlineEpochMillis = deadlineEpochMillis;
+        }
+
+        @Override
+        public void sleep(long millis) {
+            clock.advance(millis);
+            if (clock.millis() >= deadlineEpochMillis) {
+                runner.requestStop();
+            }
+        }
+    }
+}
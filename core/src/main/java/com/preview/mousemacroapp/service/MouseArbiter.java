@@ -0,0 +1,459 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.DragAction;
+import com.preview.mousemacroapp.domain.action.KeyAction;
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.domain.action.ScrollAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 실제 커서(실행기) 사용권을 여러 세션에 나눠 주는 중재기.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>세션마다 {@link Session}(실행기)을 주고, 동작 1건(이동 → 누름 → 뗌)을 원자 사용 구간(slot)으로 보장한다.
+ *     한 세션의 누름과 뗌 사이에 다른 세션의 이동이 끼어들지 않는다.</li>
+ *     <li>기다리는 요청이 여럿이면 우선순위가 높은 요청부터, 같은 우선순위 안에서는 현재 커서 위치에서 가까운 요청부터 넘겨
+ *     커서 이동 거리를 줄인다.</li>
+ *     <li>세션은 {@link Session#own()}으로 여러 동작에 걸친 사용권(lease)을 잡을 수 있다.
+ *     더 높은 우선순위 요청이 기다리면 lease는 다음 동작 경계에서 회수된다(선점).</li>
+ *     <li>세션별 사용 횟수/경합 횟수/대기 시간(합계/최대)/선점 횟수를 집계한다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>경합이 없으면 잠금 없이 진행한다: 사용권 획득은 휘발성 읽기 1회 + CAS 1회, 반납은 휘발성 쓰기 1회 + 읽기 1회이며 할당이 없다.</li>
+ *     <li>대기자가 있으면 새 요청은 끼어들지 않고(CAS를 시도하지 않고) 대기열에 선다. 반납하는 쪽이 다음 사용자를 골라 사용권을 직접 넘긴다.</li>
+ *     <li>가까운 요청만 계속 뽑혀 먼 요청이 굶지 않도록, {@value #MAX_BYPASS}번 밀린 요청은 같은 우선순위 안에서 먼저 넘긴다.
+ *     우선순위가 다르면 항상 높은 쪽이 먼저다.</li>
+ *     <li>선점은 동작 경계에서만 일어난다(진행 중인 누름/유지/드래그는 끊지 않는다).</li>
+ *     <li>대기 중 인터럽트(stop/resume 신호)로 동작을 건너뛰지 않는다. 사용권을 받을 때까지 기다린 뒤 인터럽트 상태를 복원한다.</li>
+ *     <li>세션 하나는 한 스레드에서만 사용한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class MouseArbiter {
+
+    /**
+     * 같은 우선순위 안에서 가까운 요청에 밀릴 수 있는 최대 횟수.
+     */
+    public static final int MAX_BYPASS = 8;
+
+    /**
+     * 대기열에서 다음 사용자를 고르는 중임을 나타내는 사용권 값.
+     */
+    private static final Object HANDOFF = new Object();
+
+    private final ClickExecutor delegate;
+
+    // 역할: 현재 사용권 보유자(null=비어 있음, Session=보유 세션, HANDOFF=넘기는 중).
+    private final AtomicReference<Object> owner = new AtomicReference<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    // 역할: 대기열은 경합 경로에서만 잠금 안에서 다룬다. 커서 위치는 사용권 보유자만 쓴다.
+    private final Object queueLock = new Object();
+    private final List<Waiter> queue = new ArrayList<>();
+    private int cursorX;
+    private int cursorY;
+
+    /**
+     * @param delegate 실제 실행기
+     * @throws NullPointerException delegate가 null인 경우
+     */
+    public MouseArbiter(ClickExecutor delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    /**
+     * 세션용 실행기를 만든다.
+     *
+     * @param name     세션 이름(집계/디버그용)
+     * @param priority 우선순위(클수록 먼저)
+     * @return 세션 실행기
+     * @throws NullPointerException name이 null인 경우
+     */
+    public Session session(String name, int priority) {
+        return new Session(Objects.requireNonNull(name, "name"), priority);
+    }
+
+    /**
+     * @return 사용권을 기다리는 요청 수
+     */
+    public int waitingCount() {
+        return waiting.get();
+    }
+
+    /**
+     * 세션 실행기. 동작마다 사용권을 얻어 실제 실행기로 보낸다.
+     */
+    public final class Session implements ClickExecutor {
+
+        private final String name;
+        private final int priority;
+
+        private Lease lease;
+
+        private volatile long acquisitions;
+        private volatile long contended;
+        private volatile long totalWaitNanos;
+        private volatile long maxWaitNanos;
+        private volatile long preemptions;
+
+        private Session(String name, int priority) {
+            this.name = name;
+            this.priority = priority;
+        }
+
+        /**
+         * 여러 동작에 걸친 사용권을 잡는다(닫을 때까지, 또는 더 높은 우선순위 요청에 선점될 때까지).
+         *
+         * @return 사용권(닫으면 반납)
+         * @throws IllegalStateException 이미 사용권을 잡고 있는 경우
+         */
+        public Lease own() {
+            if (lease != null) {
+                throw new IllegalStateException("이미 사용권을 잡고 있다. session=" + name);
+            }
+            acquire(this, Integer.MIN_VALUE, Integer.MIN_VALUE);
+            lease = new Lease(this);
+            return lease;
+        }
+
+        @Override
+        public void execute(ClickAction action, ScreenPoint point) {
+            Objects.requireNonNull(point, "point");
+            perform(action, point.x(), point.y());
+        }
+
+        @Override
+        public void drag(DragAction action, ScreenPoint from) {
+            Objects.requireNonNull(from, "from");
+            perform(action, from.x(), from.y());
+        }
+
+        @Override
+        public void scroll(ScrollAction action, ScreenPoint at) {
+            Objects.requireNonNull(at, "at");
+            perform(action, at.x(), at.y());
+        }
+
+        @Override
+        public void key(KeyAction action) {
+            perform(action, Integer.MIN_VALUE, Integer.MIN_VALUE);
+        }
+
+        @Override
+        public void perform(MacroAction action, ScreenPoint point) {
+            Objects.requireNonNull(point, "point");
+            perform(action, point.x(), point.y());
+        }
+
+        @Override
+        public boolean supports(MacroAction action) {
+            return delegate.supports(action);
+        }
+
+        @Override
+        public void perform(MacroAction action, int x, int y) {
+            Objects.requireNonNull(action, "action");
+            // 역할: 지원하지 않는 동작은 사용권을 잡기 전에 거부한다.
+            delegate.requireSupported(action);
+            // 역할: 키보드 동작은 커서를 옮기지 않으므로 위치 없음(MIN_VALUE)으로 줄 세운다.
+            int targetX = action instanceof KeyAction ? Integer.MIN_VALUE : x;
+            int targetY = action instanceof KeyAction ? Integer.MIN_VALUE : y;
+            if (lease != null && lease.held) {
+                if (waiting.get() > 0 && lease.shouldYield()) {
+                    // 역할: 선점. 동작 경계에서 사용권을 넘기고, 이번 동작부터는 일반 요청으로 줄을 선다.
+                    lease.revoke();
+                    preemptions++;
+                } else {
+                    moveCursor(targetX, targetY);
+                    send(action, x, y);
+                    return;
+                }
+            }
+            acquire(this, targetX, targetY);
+            try {
+                moveCursor(targetX, targetY);
+                send(action, x, y);
+            } finally {
+                release();
+            }
+        }
+
+        private void send(MacroAction action, int x, int y) {
+            if (action instanceof KeyAction key) {
+                delegate.key(key);
+            } else {
+                delegate.perform(action, x, y);
+            }
+        }
+
+        /**
+         * @return 세션 이름
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * @return 우선순위
+         */
+        public int priority() {
+            return priority;
+        }
+
+        /**
+         * @return 사용권을 얻은 횟수(lease 포함)
+         */
+        public long acquisitions() {
+            return acquisitions;
+        }
+
+        /**
+         * @return 기다려야 했던 횟수
+         */
+        public long contendedAcquisitions() {
+            return contended;
+        }
+
+        /**
+         * @return 사용권 대기 시간 합계(ns)
+         */
+        public long totalWaitNanos() {
+            return totalWaitNanos;
+        }
+
+        /**
+         * @return 가장 긴 사용권 대기 시간(ns)
+         */
+        public long maxWaitNanos() {
+            return maxWaitNanos;
+        }
+
+        /**
+         * @return lease를 선점당한 횟수
+         */
+        public long preemptions() {
+            return preemptions;
+        }
+
+        private void recordWait(long waitedNanos) {
+            acquisitions++;
+            if (waitedNanos >= 0) {
+                contended++;
+                totalWaitNanos += waitedNanos;
+                maxWaitNanos = Math.max(maxWaitNanos, waitedNanos);
+            }
+        }
+    }
+
+    /**
+     * 여러 동작에 걸친 사용권.
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final Session session;
+        private volatile boolean held = true;
+
+        private Lease(Session session) {
+            this.session = session;
+        }
+
+        /**
+         * @return 더 높은 우선순위 요청에 선점되어 사용권을 넘겼으면 true
+         */
+        public boolean isRevoked() {
+            return !held && session.lease == this;
+        }
+
+        /**
+         * 사용권을 반납한다(선점되었으면 아무것도 하지 않는다, 멱등).
+         */
+        @Override
+        public void close() {
+            if (session.lease != this) {
+                return;
+            }
+            session.lease = null;
+            if (held) {
+                held = false;
+                release();
+            }
+        }
+
+        private boolean shouldYield() {
+            synchronized (queueLock) {
+                for (Waiter waiter : queue) {
+                    if (waiter.session.priority > session.priority) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+
+        private void revoke() {
+            held = false;
+            release();
+        }
+    }
+
+    /**
+     * 커서 위치를 기록한다(사용권 보유 중에만 호출).
+     *
+     * <p>
+     * 보유자만 쓰고, 다음 사용자를 고르는 쪽은 사용권 반납(휘발성 쓰기) 뒤 CAS로 사용권을 잡은 다음 읽으므로 잠금이 필요 없다.
+     * </p>
+     */
+    private void moveCursor(int x, int y) {
+        if (x != Integer.MIN_VALUE) {
+            cursorX = x;
+            cursorY = y;
+        }
+    }
+
+    /**
+     * 사용권을 얻는다(경합이 없으면 CAS 1회).
+     */
+    private void acquire(Session session, int x, int y) {
+        if (waiting.get() == 0 && owner.compareAndSet(null, session)) {
+            session.recordWait(-1);
+            return;
+        }
+        long enqueuedAt = System.nanoTime();
+        Waiter waiter = new Waiter(session, Thread.currentThread(), x, y);
+        synchronized (queueLock) {
+            queue.add(waiter);
+        }
+        waiting.incrementAndGet();
+        // 역할: 보유자가 방금 반납했을 수 있으므로(대기 수를 보기 전에) 직접 넘기기를 시도한다.
+        handOff();
+        boolean interrupted = false;
+        while (!waiter.granted) {
+            LockSupport.park(this);
+            if (Thread.interrupted()) {
+                interrupted = true;
+            }
+        }
+        session.recordWait(System.nanoTime() - enqueuedAt);
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 사용권을 반납한다(대기자가 있으면 다음 사용자에게 넘긴다).
+     */
+    private void release() {
+        owner.set(null);
+        if (waiting.get() > 0) {
+            handOff();
+        }
+    }
+
+    /**
+     * 사용권이 비어 있고 대기자가 있으면 다음 사용자를 골라 사용권을 넘긴다.
+     *
+     * <p>
+     * 사용권을 {@link #HANDOFF}로 잡은 스레드 하나만 고르므로, 반납하는 쪽과 막 줄을 선 쪽이 동시에 불러도 한 번만 넘긴다.
+     * </p>
+     */
+    private void handOff() {
+        while (waiting.get() > 0 && owner.compareAndSet(null, HANDOFF)) {
+            Waiter next;
+            synchronized (queueLock) {
+                next = pickNext();
+                if (next != null) {
+                    queue.remove(next);
+                }
+            }
+            if (next == null) {
+                // 역할: 줄을 서는 중(대기 수는 늘었지만 아직 대기열에 없음)일 수 있으므로 비우고 다시 본다.
+                owner.set(null);
+                continue;
+            }
+            waiting.decrementAndGet();
+            owner.set(next.session);
+            next.granted = true;
+            LockSupport.unpark(next.thread);
+            return;
+        }
+    }
+
+    /**
+     * 우선순위 → (같은 우선순위 안) 오래 밀린 요청 → 현재 커서에서 가까운 요청 순으로 고른다(잠금 안에서 호출).
+     */
+    private Waiter pickNext() {
+        Waiter best = null;
+        long bestDistance = Long.MAX_VALUE;
+        for (Waiter waiter : queue) {
+            long distance = waiter.distanceSquared(cursorX, cursorY);
+            if (best == null || better(waiter, distance, best, bestDistance)) {
+                best = waiter;
+                bestDistance = distance;
+            }
+        }
+        if (best != null) {
+            for (Waiter waiter : queue) {
+                if (waiter != best && waiter.session.priority == best.session.priority) {
+                    waiter.bypassed++;
+                }
+            }
+        }
+        return best;
+    }
+
+    private static boolean better(Waiter candidate, long candidateDistance, Waiter best, long bestDistance) {
+        if (candidate.session.priority != best.session.priority) {
+            return candidate.session.priority > best.session.priority;
+        }
+        boolean candidateStarved = candidate.bypassed >= MAX_BYPASS;
+        boolean bestStarved = best.bypassed >= MAX_BYPASS;
+        if (candidateStarved != bestStarved) {
+            return candidateStarved;
+        }
+        if (candidateStarved) {
+            return candidate.bypassed > best.bypassed;
+        }
+        return candidateDistance < bestDistance;
+    }
+
+    /**
+     * 사용권 대기 요청(경합 경로에서만 만든다).
+     */
+    private static final class Waiter {
+
+        final Session session;
+        final Thread thread;
+        final int x;
+        final int y;
+        int bypassed;
+        volatile boolean granted;
+
+        Waiter(Session session, Thread thread, int x, int y) {
+            this.session = session;
+            this.thread = thread;
+            this.x = x;
+            this.y = y;
+        }
+
+        long distanceSquared(int cursorX, int cursorY) {
+            if (x == Integer.MIN_VALUE) {
+                return 0;
+            }
+            long dx = (long) x - cursorX;
+            long dy = (long) y - cursorY;
+            return dx * dx + dy * dy;
+        }
+    }
+}
@@ -0,0 +1,536 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * 순서가 상관없는 좌표 묶음의 방문 순서를 커서 이동 거리가 짧아지도록 정한다.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>시작 위치(현재 커서)에서 출발하여 모든 좌표를 한 번씩 지나는 열린 경로를 만든다(돌아오지 않는다).</li>
+ *     <li>최근접 이웃(nearest neighbor)으로 초기 경로를 만들고, 2-opt(구간 뒤집기)와
+ *     Or-opt(1~{@value #MAX_SEGMENT}개 구간 옮기기)로 더 줄지 않을 때까지 개선한다.</li>
+ *     <li>원래 순서/초기 경로/개선 경로의 길이와 걸린 시간을 {@link Result}로 돌려준다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>거리는 기본 좌표({@link MacroPoint#base()}) 사이 직선 거리(px)다.</li>
+ *     <li>좌표 수가 {@value #MATRIX_LIMIT}개 이하이면 거리 행렬(float 1차원 배열)을 미리 채운다.
+ *     더 많으면 행렬이 너무 커지므로(1만 개 = 400MB) 좌표 배열에서 그때그때 계산한다.</li>
+ *     <li>개선 단계는 점마다 가까운 이웃 {@code neighbors}개만 후보로 본다(이웃 목록, 거리순).
+ *     새로 생길 간선이 없어질 간선보다 길면 더 먼 이웃은 보지 않는다.</li>
+ *     <li>거리 행렬/이웃 목록 계산은 좌표 수가 {@value #PARALLEL_THRESHOLD}개 이상이면 fork-join으로 나눠 계산한다.
+ *     개선 단계의 이동은 앞선 이동 결과에 의존하므로 순차로 적용한다.</li>
+ *     <li>UI 스레드에서는 {@link #optimizeAsync(List, ScreenPoint)}를 사용한다(최적화기의 pool에서 실행).</li>
+ *     <li>최적화기는 상태가 없으므로 여러 스레드가 공유할 수 있다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class PathOptimizer {
+
+    /**
+     * 기본 이웃 후보 수.
+     */
+    public static final int DEFAULT_NEIGHBORS = 10;
+
+    /**
+     * 거리 행렬을 미리 채우는 최대 좌표 수.
+     */
+    public static final int MATRIX_LIMIT = 2048;
+
+    /**
+     * 거리 행렬/이웃 목록을 fork-join으로 나눠 계산하기 시작하는 좌표 수.
+     */
+    public static final int PARALLEL_THRESHOLD = 512;
+
+    /**
+     * Or-opt에서 옮기는 최대 구간 길이.
+     */
+    public static final int MAX_SEGMENT = 3;
+
+    private static final int ROWS_PER_TASK = 128;
+    private static final double EPSILON = 1e-7;
+
+    private final ForkJoinPool pool;
+    private final int neighbors;
+
+    /**
+     * 공용 fork-join pool과 기본 이웃 후보 수로 생성한다.
+     */
+    public PathOptimizer() {
+        this(ForkJoinPool.commonPool(), DEFAULT_NEIGHBORS);
+    }
+
+    /**
+     * @param pool      병렬 계산/비동기 실행 pool
+     * @param neighbors 점마다 보는 이웃 후보 수(1 이상)
+     * @throws NullPointerException     pool이 null인 경우
+     * @throws IllegalArgumentException neighbors가 1 미만인 경우
+     */
+    public PathOptimizer(ForkJoinPool pool, int neighbors) {
+        this.pool = Objects.requireNonNull(pool, "pool");
+        if (neighbors < 1) {
+            throw new IllegalArgumentException("neighbors는 1 이상이어야 한다. neighbors=" + neighbors);
+        }
+        this.neighbors = neighbors;
+    }
+
+    /**
+     * 첫 좌표의 기본 위치에서 출발하는 경로를 만든다.
+     *
+     * @param points 순서가 상관없는 좌표 묶음
+     * @return 최적화 결과
+     * @throws NullPointerException points 또는 항목이 null인 경우
+     */
+    public Result optimize(List<MacroPoint> points) {
+        Objects.requireNonNull(points, "points");
+        return optimize(points, points.isEmpty() ? new ScreenPoint(0, 0) : points.get(0).base());
+    }
+
+    /**
+     * 시작 위치에서 출발하는 경로를 만든다(호출 스레드에서 실행).
+     *
+     * @param points 순서가 상관없는 좌표 묶음
+     * @param start  시작 위치(보통 현재 커서)
+     * @return 최적화 결과
+     * @throws NullPointerException 인자 또는 항목이 null인 경우
+     */
+    public Result optimize(List<MacroPoint> points, ScreenPoint start) {
+        Objects.requireNonNull(points, "points");
+        Objects.requireNonNull(start, "start");
+        long startedAt = System.nanoTime();
+        int count = points.size();
+        int[] xs = new int[count + 1];
+        int[] ys = new int[count + 1];
+        xs[0] = start.x();
+        ys[0] = start.y();
+        for (int i = 0; i < count; i++) {
+            ScreenPoint base = Objects.requireNonNull(points.get(i), "point").base();
+            xs[i + 1] = base.x();
+            ys[i + 1] = base.y();
+        }
+        if (count <= 1) {
+            double length = count == 0 ? 0 : distance(xs, ys, 0, 1);
+            return new Result(List.copyOf(points), length, length, length, System.nanoTime() - startedAt);
+        }
+
+        Tour tour = new Tour(xs, ys, Math.min(neighbors, count));
+        double initial = tour.length(identity(count + 1));
+        tour.prepare();
+        tour.nearestNeighbor();
+        double constructed = tour.length(tour.order);
+        tour.improve();
+        double improved = tour.length(tour.order);
+
+        List<MacroPoint> ordered = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            ordered.add(points.get(tour.order[i] - 1));
+        }
+        return new Result(List.copyOf(ordered), initial, constructed, improved, System.nanoTime() - startedAt);
+    }
+
+    /**
+     * 최적화기의 pool에서 경로를 만든다(UI 스레드용).
+     *
+     * <p>호출 시점의 좌표 목록을 복사하여 사용한다.</p>
+     *
+     * @param points 순서가 상관없는 좌표 묶음
+     * @param start  시작 위치(보통 현재 커서)
+     * @return 최적화 결과 future
+     * @throws NullPointerException 인자 또는 항목이 null인 경우
+     */
+    public CompletableFuture<Result> optimizeAsync(List<MacroPoint> points, ScreenPoint start) {
+        List<MacroPoint> snapshot = List.copyOf(Objects.requireNonNull(points, "points"));
+        Objects.requireNonNull(start, "start");
+        return CompletableFuture.supplyAsync(() -> optimize(snapshot, start), pool);
+    }
+
+    private static int[] identity(int size) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+
+    private static double distance(int[] xs, int[] ys, int a, int b) {
+        double dx = xs[a] - xs[b];
+        double dy = ys[a] - ys[b];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /**
+     * 행 범위를 나눠 fork-join으로 처리한다.
+     */
+    private void forEachRow(int rows, IntConsumer row) {
+        if (rows < PARALLEL_THRESHOLD) {
+            for (int i = 0; i < rows; i++) {
+                row.accept(i);
+            }
+            return;
+        }
+        pool.invoke(new RowTask(0, rows, row));
+    }
+
+    /**
+     * 행 범위 분할 작업.
+     */
+    private static final class RowTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+        // 역할: 작업은 직렬화하지 않는다(RecursiveAction이 Serializable이라 표시만 한다).
+        private final transient IntConsumer row;
+
+        RowTask(int from, int to, IntConsumer row) {
+            this.from = from;
+            this.to = to;
+            this.row = row;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ROWS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    row.accept(i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RowTask(from, middle, row), new RowTask(middle, to, row));
+        }
+    }
+
+    /**
+     * 경로 작업 상태(노드 0 = 시작 위치, 1..n = 좌표). 노드 0은 항상 경로 맨 앞에 고정한다.
+     */
+    private final class Tour {
+
+        private final int size;
+        private final int[] xs;
+        private final int[] ys;
+        private final int k;
+
+        private float[] matrix;
+        private int[] near;
+
+        private final int[] order;
+        private final int[] position;
+
+        // 역할: Or-opt 이동마다 떼어 낸 구간을 담는 재사용 버퍼.
+        private final int[] segment = new int[MAX_SEGMENT];
+
+        Tour(int[] xs, int[] ys, int k) {
+            this.size = xs.length;
+            this.xs = xs;
+            this.ys = ys;
+            this.k = k;
+            this.order = new int[size];
+            this.position = new int[size];
+        }
+
+        double d(int a, int b) {
+            if (matrix != null) {
+                return matrix[a * size + b];
+            }
+            return distance(xs, ys, a, b);
+        }
+
+        double length(int[] path) {
+            double total = 0;
+            for (int i = 1; i < path.length; i++) {
+                total += distance(xs, ys, path[i - 1], path[i]);
+            }
+            return total;
+        }
+
+        /**
+         * 거리 행렬(작은 묶음)과 이웃 목록(거리순)을 채운다.
+         */
+        void prepare() {
+            if (size <= MATRIX_LIMIT + 1) {
+                float[] filled = new float[size * size];
+                forEachRow(size, a -> {
+                    int rowStart = a * size;
+                    for (int b = 0; b < size; b++) {
+                        filled[rowStart + b] = (float) distance(xs, ys, a, b);
+                    }
+                });
+                matrix = filled;
+            }
+            int[] lists = new int[size * k];
+            forEachRow(size, a -> fillNeighbors(a, lists));
+            near = lists;
+        }
+
+        private void fillNeighbors(int a, int[] lists) {
+            int base = a * k;
+            long[] best = new long[k];
+            int found = 0;
+            int ax = xs[a];
+            int ay = ys[a];
+            for (int b = 0; b < size; b++) {
+                if (b == a) {
+                    continue;
+                }
+                // 역할: 순위만 필요하므로 제곱 거리(정수)로 비교한다(제곱근 없음).
+                long dx = xs[b] - ax;
+                long dy = ys[b] - ay;
+                long squared = dx * dx + dy * dy;
+                if (found == k && squared >= best[k - 1]) {
+                    continue;
+                }
+                // 역할: 거리순 삽입 정렬(k가 작으므로 배열 이동이 힙보다 싸다).
+                int slot = found < k ? found++ : k - 1;
+                while (slot > 0 && best[slot - 1] > squared) {
+                    best[slot] = best[slot - 1];
+                    lists[base + slot] = lists[base + slot - 1];
+                    slot--;
+                }
+                best[slot] = squared;
+                lists[base + slot] = b;
+            }
+        }
+
+        /**
+         * 최근접 이웃 경로. 이웃 목록에 남은 점이 없을 때만 남은 점 전체를 훑는다.
+         */
+        void nearestNeighbor() {
+            int[] remaining = new int[size];
+            int[] slotOf = new int[size];
+            for (int i = 0; i < size; i++) {
+                remaining[i] = i;
+                slotOf[i] = i;
+            }
+            int left = size;
+            int current = 0;
+            for (int step = 0; step < size; step++) {
+                order[step] = current;
+                position[current] = step;
+                // 역할: 방문한 점을 남은 목록 끝과 바꿔 O(1)로 뺀다.
+                int slot = slotOf[current];
+                int last = remaining[--left];
+                remaining[slot] = last;
+                slotOf[last] = slot;
+                slotOf[current] = -1;
+                if (left == 0) {
+                    break;
+                }
+                int next = -1;
+                for (int j = current * k, end = j + k; j < end; j++) {
+                    if (slotOf[near[j]] >= 0) {
+                        next = near[j];
+                        break;
+                    }
+                }
+                if (next < 0) {
+                    double best = Double.MAX_VALUE;
+                    for (int j = 0; j < left; j++) {
+                        double dist = d(current, remaining[j]);
+                        if (dist < best) {
+                            best = dist;
+                            next = remaining[j];
+                        }
+                    }
+                }
+                current = next;
+            }
+        }
+
+        /**
+         * 2-opt와 Or-opt를 번갈아 적용하여 더 줄지 않을 때까지 개선한다.
+         */
+        void improve() {
+            boolean improved = true;
+            while (improved) {
+                improved = false;
+                for (int i = 0; i < size - 1; i++) {
+                    while (twoOpt(i)) {
+                        improved = true;
+                    }
+                }
+                for (int length = 1; length <= MAX_SEGMENT; length++) {
+                    for (int i = 1; i + length <= size; i++) {
+                        if (orOpt(i, length)) {
+                            improved = true;
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * 간선 (order[i], order[i+1])을 없애는 구간 뒤집기 중 처음 찾은 개선을 적용한다.
+         */
+        private boolean twoOpt(int i) {
+            int a = order[i];
+            int b = order[i + 1];
+            double ab = d(a, b);
+            // 역할: 새 간선 (a, c) → order[i+1..j] 뒤집기.
+            for (int n = a * k, end = n + k; n < end; n++) {
+                int c = near[n];
+                double ac = d(a, c);
+                if (ac >= ab) {
+                    break;
+                }
+                int j = position[c];
+                if (j <= i + 1) {
+                    continue;
+                }
+                double delta = ac - ab;
+                if (j + 1 < size) {
+                    int after = order[j + 1];
+                    delta += d(b, after) - d(c, after);
+                }
+                if (delta < -EPSILON) {
+                    reverse(i + 1, j);
+                    return true;
+                }
+            }
+            // 역할: 새 간선 (c, b) → order[j..i] 뒤집기(c가 a보다 앞에 있는 경우).
+            for (int n = b * k, end = n + k; n < end; n++) {
+                int c = near[n];
+                double bc = d(b, c);
+                if (bc >= ab) {
+                    break;
+                }
+                int j = position[c];
+                if (j < 1 || j >= i) {
+                    continue;
+                }
+                int before = order[j - 1];
+                double delta = bc + d(before, a) - d(before, c) - ab;
+                if (delta < -EPSILON) {
+                    reverse(j, i);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * order[i..i+length-1] 구간을 이웃 근처로 옮기는 이동 중 처음 찾은 개선을 적용한다.
+         */
+        private boolean orOpt(int i, int length) {
+            int last = i + length - 1;
+            int first = order[i];
+            int tail = order[last];
+            int before = order[i - 1];
+            int after = last + 1 < size ? order[last + 1] : -1;
+            double removed = d(before, first) + (after >= 0 ? d(tail, after) - d(before, after) : 0);
+            if (removed <= EPSILON) {
+                return false;
+            }
+            for (int side = 0; side < 2; side++) {
+                int end = side == 0 ? first : tail;
+                int other = side == 0 ? tail : first;
+                for (int n = end * k, stop = n + k; n < stop; n++) {
+                    int c = near[n];
+                    double endToC = d(end, c);
+                    if (endToC >= removed) {
+                        break;
+                    }
+                    int j = position[c];
+                    if (j >= i && j <= last) {
+                        continue;
+                    }
+                    // 역할: c 뒤에 끼우기(c, end, ..., other, next).
+                    if (j != i - 1) {
+                        int next = j + 1 < size ? order[j + 1] : -1;
+                        double added = endToC + (next >= 0 ? d(other, next) - d(c, next) : 0);
+                        if (added - removed < -EPSILON) {
+                            moveSegment(i, length, end == tail, j);
+                            return true;
+                        }
+                    }
+                    // 역할: c 앞에 끼우기(previous, other, ..., end, c). 시작 노드 앞에는 끼우지 않는다.
+                    if (j >= 1 && j != last + 1) {
+                        int previous = order[j - 1];
+                        double added = d(previous, other) + endToC - d(previous, c);
+                        if (added - removed < -EPSILON) {
+                            moveSegment(i, length, end == first, j - 1);
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void reverse(int from, int to) {
+            while (from < to) {
+                int left = order[from];
+                int right = order[to];
+                order[from] = right;
+                position[right] = from;
+                order[to] = left;
+                position[left] = to;
+                from++;
+                to--;
+            }
+        }
+
+        /**
+         * order[i..i+length-1]을 떼어 (떼기 전 위치 기준) order[anchor] 바로 뒤에 끼운다.
+         */
+        private void moveSegment(int i, int length, boolean reversed, int anchor) {
+            for (int s = 0; s < length; s++) {
+                segment[s] = order[reversed ? i + length - 1 - s : i + s];
+            }
+            int from;
+            int to;
+            if (anchor < i) {
+                System.arraycopy(order, anchor + 1, order, anchor + 1 + length, i - anchor - 1);
+                System.arraycopy(segment, 0, order, anchor + 1, length);
+                from = anchor + 1;
+                to = i + length - 1;
+            } else {
+                System.arraycopy(order, i + length, order, i, anchor - i - length + 1);
+                System.arraycopy(segment, 0, order, anchor - length + 1, length);
+                from = i;
+                to = anchor;
+            }
+            for (int p = from; p <= to; p++) {
+                position[order[p]] = p;
+            }
+        }
+    }
+
+    /**
+     * 경로 최적화 결과.
+     *
+     * @param points             방문 순서대로 정렬한 좌표
+     * @param initialLength      입력 순서 그대로의 경로 길이(px, 시작 위치 포함)
+     * @param constructedLength  최근접 이웃 경로 길이(px)
+     * @param optimizedLength    개선 후 경로 길이(px)
+     * @param elapsedNanos       최적화에 걸린 시간(ns)
+     */
+    public record Result(
+            List<MacroPoint> points,
+            double initialLength,
+            double constructedLength,
+            double optimizedLength,
+            long elapsedNanos
+    ) {
+
+        /**
+         * @return 입력 순서 대비 줄어든 길이 비율(0~1, 입력 길이가 0이면 0)
+         */
+        public double reduction() {
+            return initialLength == 0 ? 0 : 1 - optimizedLength / initialLength;
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.point.ScreenBounds;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 저장된 매크로 포인트를 기본 좌표로 찾는 격자(grid bucket) 공간 색인.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>좌표에서 가장 가까운 포인트(허용 거리 안/제한 없음), 화면 영역 안 포인트, 오버레이 hit-test를 제공한다.</li>
+ *     <li>포인트를 하나씩 추가/삭제한다(전체 재구성 없음).</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>화면을 한 변 {@code cellSize}px 칸으로 나누고, 칸 번호(64비트 키)로 칸을 찾는 열린 주소 해시 표에 담는다.
+ *     칸 안 좌표는 기본형 배열에 둔다(거리 비교 중 박싱 없음).</li>
+ *     <li>허용 거리 안 조회는 허용 거리를 덮는 칸만 보므로, 칸 크기를 허용 거리와 비슷하게 두면 포인트 수와 무관하게 칸 몇 개만 본다.
+ *     제한 없는 조회는 가까운 칸부터 고리 모양으로 넓히고, 남은 칸이 지금 후보보다 멀면 멈춘다.</li>
+ *     <li>비게 된 칸은 지우지 않고 남겨 재사용한다(해시 표 삭제 표식 없음).</li>
+ *     <li>UI 스레드와 캡처 스레드가 함께 쓰므로 모든 연산은 인스턴스 잠금으로 직렬화한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class PointIndex {
+
+    /**
+     * 기본 칸 크기(px).
+     */
+    public static final int DEFAULT_CELL_SIZE = 64;
+
+    private static final int INITIAL_TABLE = 64;
+    private static final int INITIAL_BUCKET = 4;
+
+    private final int cellSize;
+
+    // 역할: 칸 키 → 칸. cells[i] == null이면 빈 자리.
+    private long[] keys = new long[INITIAL_TABLE];
+    private Cell[] cells = new Cell[INITIAL_TABLE];
+    private int cellCount;
+
+    private int size;
+    private int minCellX = Integer.MAX_VALUE;
+    private int minCellY = Integer.MAX_VALUE;
+    private int maxCellX = Integer.MIN_VALUE;
+    private int maxCellY = Integer.MIN_VALUE;
+
+    /**
+     * 기본 칸 크기로 생성한다.
+     */
+    public PointIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * @param cellSize 칸 한 변 크기(px, 1 이상)
+     * @throws IllegalArgumentException cellSize가 1 미만인 경우
+     */
+    public PointIndex(int cellSize) {
+        if (cellSize < 1) {
+            throw new IllegalArgumentException("cellSize는 1 이상이어야 한다. cellSize=" + cellSize);
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * 포인트를 추가한다.
+     *
+     * @param point 추가할 포인트
+     * @throws NullPointerException point가 null인 경우
+     */
+    public synchronized void add(MacroPoint point) {
+        Objects.requireNonNull(point, "point");
+        int x = point.base().x();
+        int y = point.base().y();
+        int cellX = Math.floorDiv(x, cellSize);
+        int cellY = Math.floorDiv(y, cellSize);
+        Cell cell = cell(cellX, cellY);
+        if (cell == null) {
+            cell = insertCell(cellX, cellY);
+        }
+        cell.add(point, x, y);
+        size++;
+        minCellX = Math.min(minCellX, cellX);
+        minCellY = Math.min(minCellY, cellY);
+        maxCellX = Math.max(maxCellX, cellX);
+        maxCellY = Math.max(maxCellY, cellY);
+    }
+
+    /**
+     * 포인트를 삭제한다(같은 포인트가 여러 번 들어 있으면 하나만).
+     *
+     * @param point 삭제할 포인트({@link MacroPoint#equals(Object)}로 찾는다)
+     * @return 삭제했으면 true
+     * @throws NullPointerException point가 null인 경우
+     */
+    public synchronized boolean remove(MacroPoint point) {
+        Objects.requireNonNull(point, "point");
+        Cell cell = cell(Math.floorDiv(point.base().x(), cellSize), Math.floorDiv(point.base().y(), cellSize));
+        if (cell == null || !cell.remove(point)) {
+            return false;
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * @return 들어 있는 포인트 수
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 허용 거리 안에서 가장 가까운 포인트를 찾는다(캡처 좌표 맞추기, 오버레이 hit-test).
+     *
+     * @param at        기준 좌표
+     * @param tolerance 허용 거리(px, 0 이상, 경계 포함)
+     * @return 가장 가까운 포인트(없으면 empty)
+     * @throws NullPointerException     at이 null인 경우
+     * @throws IllegalArgumentException tolerance가 음수인 경우
+     */
+    public synchronized Optional<MacroPoint> nearest(ScreenPoint at, int tolerance) {
+        Objects.requireNonNull(at, "at");
+        if (tolerance < 0) {
+            throw new IllegalArgumentException("tolerance는 0 이상이어야 한다. tolerance=" + tolerance);
+        }
+        Search search = new Search(at.x(), at.y(), (long) tolerance * tolerance);
+        // 역할: 허용 거리를 덮는 칸 중 점이 있었던 칸 범위만 본다.
+        int fromX = (int) Math.max(Math.floorDiv((long) at.x() - tolerance, cellSize), minCellX);
+        int toX = (int) Math.min(Math.floorDiv((long) at.x() + tolerance, cellSize), maxCellX);
+        int fromY = (int) Math.max(Math.floorDiv((long) at.y() - tolerance, cellSize), minCellY);
+        int toY = (int) Math.min(Math.floorDiv((long) at.y() + tolerance, cellSize), maxCellY);
+        for (int cellY = fromY; cellY <= toY; cellY++) {
+            for (int cellX = fromX; cellX <= toX; cellX++) {
+                search.scan(cell(cellX, cellY));
+            }
+        }
+        return Optional.ofNullable(search.best);
+    }
+
+    /**
+     * 거리 제한 없이 가장 가까운 포인트를 찾는다.
+     *
+     * @param at 기준 좌표
+     * @return 가장 가까운 포인트(색인이 비어 있으면 empty)
+     * @throws NullPointerException at이 null인 경우
+     */
+    public synchronized Optional<MacroPoint> nearest(ScreenPoint at) {
+        Objects.requireNonNull(at, "at");
+        if (size == 0) {
+            return Optional.empty();
+        }
+        Search search = new Search(at.x(), at.y(), Long.MAX_VALUE);
+        int centerX = Math.floorDiv(at.x(), cellSize);
+        int centerY = Math.floorDiv(at.y(), cellSize);
+        // 역할: 점이 있었던 칸 범위를 모두 덮을 때까지 고리를 넓힌다.
+        long maxRing = Math.max(
+                Math.max((long) centerX - minCellX, (long) maxCellX - centerX),
+                Math.max((long) centerY - minCellY, (long) maxCellY - centerY));
+        for (int ring = 0; ring <= maxRing; ring++) {
+            if (ring == 0) {
+                search.scan(cell(centerX, centerY));
+            } else {
+                for (int d = -ring; d <= ring; d++) {
+                    search.scan(cell(centerX + d, centerY - ring));
+                    search.scan(cell(centerX + d, centerY + ring));
+                }
+                for (int d = -ring + 1; d <= ring - 1; d++) {
+                    search.scan(cell(centerX - ring, centerY + d));
+                    search.scan(cell(centerX + ring, centerY + d));
+                }
+            }
+            // 역할: 다음 고리의 점은 기준에서 ring * cellSize px보다 멀다.
+            long reach = (long) ring * cellSize;
+            if (search.best != null && search.bestSquared <= reach * reach) {
+                break;
+            }
+        }
+        return Optional.ofNullable(search.best);
+    }
+
+    /**
+     * 영역 안(경계 포함) 포인트를 모두 찾는다.
+     *
+     * @param region 화면 영역
+     * @return 영역 안 포인트(순서 미정)
+     * @throws NullPointerException region이 null인 경우
+     */
+    public synchronized List<MacroPoint> within(ScreenBounds region) {
+        Objects.requireNonNull(region, "region");
+        List<MacroPoint> found = new ArrayList<>();
+        int fromX = Math.max(Math.floorDiv(region.minX(), cellSize), minCellX);
+        int toX = Math.min(Math.floorDiv(region.maxX(), cellSize), maxCellX);
+        int fromY = Math.max(Math.floorDiv(region.minY(), cellSize), minCellY);
+        int toY = Math.min(Math.floorDiv(region.maxY(), cellSize), maxCellY);
+        for (int cellY = fromY; cellY <= toY; cellY++) {
+            for (int cellX = fromX; cellX <= toX; cellX++) {
+                Cell cell = cell(cellX, cellY);
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size; i++) {
+                    if (region.contains(cell.xs[i], cell.ys[i])) {
+                        found.add(cell.points[i]);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private static long key(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFF_FFFFL);
+    }
+
+    private static int slot(long key, int mask) {
+        long mixed = key * 0x9E37_79B9_7F4A_7C15L;
+        return (int) (mixed >>> 40) & mask;
+    }
+
+    private Cell cell(int cellX, int cellY) {
+        long key = key(cellX, cellY);
+        int mask = cells.length - 1;
+        for (int i = slot(key, mask); cells[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return cells[i];
+            }
+        }
+        return null;
+    }
+
+    private Cell insertCell(int cellX, int cellY) {
+        if ((cellCount + 1) * 2 > cells.length) {
+            rehash(cells.length * 2);
+        }
+        Cell cell = new Cell();
+        put(key(cellX, cellY), cell);
+        cellCount++;
+        return cell;
+    }
+
+    private void put(long key, Cell cell) {
+        int mask = cells.length - 1;
+        int i = slot(key, mask);
+        while (cells[i] != null) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        cells[i] = cell;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Cell[] oldCells = cells;
+        keys = new long[capacity];
+        cells = new Cell[capacity];
+        for (int i = 0; i < oldCells.length; i++) {
+            if (oldCells[i] != null) {
+                put(oldKeys[i], oldCells[i]);
+            }
+        }
+    }
+
+    /**
+     * 칸 하나의 포인트(좌표는 기본형 배열).
+     */
+    private static final class Cell {
+
+        MacroPoint[] points = new MacroPoint[INITIAL_BUCKET];
+        int[] xs = new int[INITIAL_BUCKET];
+        int[] ys = new int[INITIAL_BUCKET];
+        int size;
+
+        void add(MacroPoint point, int x, int y) {
+            if (size == points.length) {
+                points = Arrays.copyOf(points, size * 2);
+                xs = Arrays.copyOf(xs, size * 2);
+                ys = Arrays.copyOf(ys, size * 2);
+            }
+            points[size] = point;
+            xs[size] = x;
+            ys[size] = y;
+            size++;
+        }
+
+        boolean remove(MacroPoint point) {
+            for (int i = 0; i < size; i++) {
+                if (points[i].equals(point)) {
+                    // 역할: 마지막 항목을 빈 자리로 옮긴다(O(1)).
+                    size--;
+                    points[i] = points[size];
+                    xs[i] = xs[size];
+                    ys[i] = ys[size];
+                    points[size] = null;
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 최근접 탐색 상태(조회 1회에 1개).
+     */
+    private static final class Search {
+
+        final int x;
+        final int y;
+        MacroPoint best;
+        long bestSquared;
+
+        Search(int x, int y, long limitSquared) {
+            this.x = x;
+            this.y = y;
+            this.bestSquared = limitSquared;
+        }
+
+        void scan(Cell cell) {
+            if (cell == null) {
+                return;
+            }
+            for (int i = 0; i < cell.size; i++) {
+                long dx = cell.xs[i] - (long) x;
+                long dy = cell.ys[i] - (long) y;
+                long squared = dx * dx + dy * dy;
+                if (squared < bestSquared || (best == null && squared == bestSquared)) {
+                    best = cell.points[i];
+                    bestSquared = squared;
+                }
+            }
+        }
+    }
+}
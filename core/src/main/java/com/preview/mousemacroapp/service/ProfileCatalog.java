@@ -0,0 +1,129 @@
+package com.preview.mousemacroapp.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 프로파일 저장소에 검색 색인을 붙인 저장소 데코레이터.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>적재/저장/삭제가 성공하면 그 목록을 현재 목록으로 두고, {@link ProfileSearchIndex}에 바뀐 부분만 반영한다.</li>
+ *     <li>{@link #search(String, int)}는 파일을 읽지 않고 메모리 색인만 본다(입력하는 대로 찾기용).</li>
+ *     <li>{@link #saveLastUsed(MacroProfile)}는 현재 목록에 반영해 저장한다. 적재에 성공한 적이 없을 때만 저장본을 읽고,
+ *     손상되었으면 백업하고 그 프로파일만으로 새로 저장한다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>저장이 실패하면 현재 목록/색인은 바꾸지 않는다.</li>
+ *     <li>적재/저장/삭제는 서로 직렬화한다. 검색은 색인 잠금만 잡으므로 저장 중에도 할 수 있다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class ProfileCatalog implements MacroProfileStore {
+
+    private final MacroProfileStore delegate;
+    private final ProfileSearchIndex index = new ProfileSearchIndex();
+    private volatile MacroProfiles current = MacroProfiles.empty();
+
+    // 역할: 적재/저장에 한 번이라도 성공했는지(current가 저장본을 반영하는지). 잠금 안에서만 읽고 쓴다.
+    private boolean synced;
+
+    /**
+     * @param delegate 실제 저장소
+     * @throws NullPointerException delegate가 null인 경우
+     */
+    public ProfileCatalog(MacroProfileStore delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    @Override
+    public synchronized MacroProfiles load() throws IOException {
+        MacroProfiles loaded = delegate.load();
+        apply(loaded);
+        return loaded;
+    }
+
+    @Override
+    public synchronized void save(MacroProfiles profiles) throws IOException {
+        Objects.requireNonNull(profiles, "profiles");
+        delegate.save(profiles);
+        apply(profiles);
+    }
+
+    @Override
+    public synchronized void backupCorrupt() throws IOException {
+        delegate.backupCorrupt();
+    }
+
+    /**
+     * 프로파일을 현재 목록의 마지막 사용 프로파일로 반영하고 저장한다.
+     *
+     * <p>
+     * 적재/저장에 성공한 적이 있으면 저장본을 다시 읽지 않는다(바로 앞에서 읽은 파일을 곧바로 교체하지 않는다).
+     * 아직 없으면 먼저 적재하고, 저장본이 손상되었으면({@link CorruptProfileException}) 손상본을 백업한 뒤
+     * 이 프로파일만 담은 목록을 저장한다. 그 밖의 읽기 실패는 저장하지 않고 그대로 던진다.
+     * </p>
+     *
+     * @param profile 마지막 사용 프로파일
+     * @return 손상본을 백업하고 새로 저장했으면 true
+     * @throws IOException              읽기/백업/쓰기에 실패한 경우
+     * @throws IllegalArgumentException 저장할 수 없는 정책이 있는 경우
+     */
+    public synchronized boolean saveLastUsed(MacroProfile profile) throws IOException {
+        Objects.requireNonNull(profile, "profile");
+        boolean recovered = false;
+        if (!synced) {
+            try {
+                load();
+            } catch (CorruptProfileException e) {
+                delegate.backupCorrupt();
+                apply(MacroProfiles.empty());
+                recovered = true;
+            }
+        }
+        save(current.withLastUsed(profile));
+        return recovered;
+    }
+
+    /**
+     * 프로파일을 지우고 저장한다.
+     *
+     * @param name 프로파일 이름
+     * @return 지웠으면 true, 없는 이름이면 false(저장하지 않는다)
+     * @throws IOException 쓸 수 없는 경우
+     */
+    public synchronized boolean delete(String name) throws IOException {
+        MacroProfiles next = current.without(name);
+        if (next == current) {
+            return false;
+        }
+        save(next);
+        return true;
+    }
+
+    /**
+     * @return 마지막으로 적재/저장한 목록
+     */
+    public MacroProfiles current() {
+        return current;
+    }
+
+    /**
+     * @param query 검색어
+     * @param limit 최대 결과 수(1 이상)
+     * @return 찾은 프로파일({@link ProfileSearchIndex#search(String, int)})
+     */
+    public List<MacroProfile> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    private void apply(MacroProfiles profiles) {
+        index.sync(profiles);
+        current = profiles;
+        synced = true;
+    }
+}
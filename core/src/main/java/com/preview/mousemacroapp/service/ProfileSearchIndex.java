@@ -0,0 +1,407 @@
+package com.preview.mousemacroapp.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 프로파일 이름 검색 색인(입력하는 대로 찾기용, 메모리 전용).
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>접두어 트라이: 프로파일 이름 전체와 이름의 단어들, 포인트 이름(태그 역할)과 그 단어들을 넣는다.
+ *     "확인"으로 "야간 확인 루틴"과 포인트 이름이 "확인 버튼"인 프로파일을 찾는다.</li>
+ *     <li>n-gram 색인: 이름의 글자(1-gram)와 연속 두 글자(2-gram)마다 프로파일 번호 목록을 둔다.
+ *     부분 문자열 검색은 가장 짧은 목록만 훑고 실제 포함 여부를 확인한다.</li>
+ *     <li>결과는 접두어 일치(트라이 순회 순서)를 먼저, 그다음 부분 문자열 일치(넣은 순서)를 돌려준다(중복 없음, 개수 제한).</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>대소문자를 구분하지 않는다({@link Locale#ROOT} 소문자). 단어 구분은 공백/'-'/'_'이다.</li>
+ *     <li>갱신은 바뀐 프로파일만 반영한다. 삭제는 번호를 죽은 것으로 표시하고 검색에서 건너뛰며,
+ *     죽은 번호가 살아 있는 번호보다 많아지면 색인을 다시 만든다.</li>
+ *     <li>이름과 포인트 이름이 그대로면 프로파일 객체만 바꾼다(트라이/n-gram은 건드리지 않는다).</li>
+ *     <li>모든 메서드는 동기화되어 있다(저장 스레드 갱신과 UI 스레드 검색이 겹칠 수 있다).</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class ProfileSearchIndex {
+
+    private static final int COMPACT_MIN_DEAD = 1024;
+    private static final long BIGRAM = 1L << 32;
+
+    private final Map<String, Integer> idsByName = new HashMap<>();
+    private MacroProfile[] profiles = new MacroProfile[16];
+    private String[] keys = new String[16];
+    private int nextId;
+    private int live;
+
+    // 역할: 트라이 노드(0=루트). 자식은 첫 자식/다음 형제로 잇고, 노드에 끝나는 항목은 연결 목록으로 둔다.
+    private char[] nodeChar = new char[64];
+    private int[] firstChild = new int[64];
+    private int[] nextSibling = new int[64];
+    private int[] firstEntry = new int[64];
+    private int[] lastEntry = new int[64];
+    private int nodeCount;
+
+    private int[] entryId = new int[64];
+    private int[] entryNext = new int[64];
+    private int entryCount;
+
+    private final Map<Long, Posting> grams = new HashMap<>();
+
+    // 역할: 검색 1회 안의 중복 제거 표시(번호별 마지막 검색 세대).
+    private int[] seen = new int[16];
+    private int generation;
+    private int[] stack = new int[64];
+
+    /**
+     * 빈 색인을 만든다.
+     */
+    public ProfileSearchIndex() {
+        clear();
+    }
+
+    /**
+     * 프로파일을 넣는다(같은 이름이 있으면 바꾼다).
+     *
+     * @param profile 프로파일
+     * @throws NullPointerException profile이 null인 경우
+     */
+    public synchronized void put(MacroProfile profile) {
+        Objects.requireNonNull(profile, "profile");
+        Integer existing = idsByName.get(profile.name());
+        if (existing != null) {
+            if (profiles[existing].macroPoint().name().equals(profile.macroPoint().name())) {
+                profiles[existing] = profile;
+                return;
+            }
+            kill(existing);
+        }
+        insert(profile);
+    }
+
+    /**
+     * @param name 프로파일 이름
+     * @return 지웠으면 true, 없는 이름이면 false
+     * @throws NullPointerException name이 null인 경우
+     */
+    public synchronized boolean remove(String name) {
+        Objects.requireNonNull(name, "name");
+        Integer id = idsByName.get(name);
+        if (id == null) {
+            return false;
+        }
+        kill(id);
+        int dead = nextId - live;
+        if (dead > COMPACT_MIN_DEAD && dead > live) {
+            rebuild();
+        }
+        return true;
+    }
+
+    /**
+     * 목록과 같아지도록 바뀐 부분만 반영한다(목록에 없는 이름은 지우고, 나머지는 {@link #put(MacroProfile)}).
+     *
+     * @param profiles 프로파일 목록
+     * @throws NullPointerException profiles가 null인 경우
+     */
+    public synchronized void sync(MacroProfiles profiles) {
+        Objects.requireNonNull(profiles, "profiles");
+        Map<String, Integer> wanted = new HashMap<>();
+        for (MacroProfile profile : profiles.profiles()) {
+            wanted.put(profile.name(), 0);
+        }
+        for (String name : List.copyOf(idsByName.keySet())) {
+            if (!wanted.containsKey(name)) {
+                remove(name);
+            }
+        }
+        for (MacroProfile profile : profiles.profiles()) {
+            put(profile);
+        }
+    }
+
+    /**
+     * @return 색인된 프로파일 수
+     */
+    public synchronized int size() {
+        return live;
+    }
+
+    /**
+     * 이름 접두어/단어 접두어/포인트 이름 접두어, 그다음 이름 부분 문자열로 찾는다.
+     *
+     * @param query 검색어(앞뒤 공백 무시, 비어 있으면 넣은 순서대로)
+     * @param limit 최대 결과 수(1 이상)
+     * @return 찾은 프로파일(접두어 일치 먼저)
+     * @throws NullPointerException     query가 null인 경우
+     * @throws IllegalArgumentException limit가 1 미만인 경우
+     */
+    public synchronized List<MacroProfile> search(String query, int limit) {
+        Objects.requireNonNull(query, "query");
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit는 1 이상이어야 한다. limit=" + limit);
+        }
+        String key = normalize(query.strip());
+        List<MacroProfile> results = new ArrayList<>(Math.min(limit, 64));
+        if (++generation == 0) {
+            Arrays.fill(seen, 0);
+            generation = 1;
+        }
+
+        if (key.isEmpty()) {
+            for (int id = 0; id < nextId && results.size() < limit; id++) {
+                accept(id, results);
+            }
+            return results;
+        }
+
+        int node = findNode(key);
+        if (node >= 0) {
+            collectSubtree(node, results, limit);
+        }
+        if (results.size() < limit) {
+            collectSubstring(key, results, limit);
+        }
+        return results;
+    }
+
+    private void insert(MacroProfile profile) {
+        int id = nextId++;
+        if (id == profiles.length) {
+            int capacity = profiles.length * 2;
+            profiles = Arrays.copyOf(profiles, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            seen = Arrays.copyOf(seen, capacity);
+        }
+        String key = normalize(profile.name());
+        profiles[id] = profile;
+        keys[id] = key;
+        idsByName.put(profile.name(), id);
+        live++;
+
+        addTerms(key, id, true);
+        String pointKey = normalize(profile.macroPoint().name());
+        if (!pointKey.equals(key)) {
+            addTerms(pointKey, id, false);
+        }
+
+        // 역할: 같은 gram이 이름에 여러 번 나와도 목록에는 한 번만 넣는다(마지막 항목만 보면 된다).
+        for (int i = 0; i < key.length(); i++) {
+            addGram(key.charAt(i), id);
+            if (i + 1 < key.length()) {
+                addGram(bigram(key.charAt(i), key.charAt(i + 1)), id);
+            }
+        }
+    }
+
+    private void kill(int id) {
+        idsByName.remove(profiles[id].name());
+        profiles[id] = null;
+        keys[id] = null;
+        live--;
+    }
+
+    private void rebuild() {
+        MacroProfile[] survivors = Arrays.copyOf(profiles, nextId);
+        clear();
+        for (MacroProfile profile : survivors) {
+            if (profile != null) {
+                insert(profile);
+            }
+        }
+    }
+
+    private void clear() {
+        idsByName.clear();
+        grams.clear();
+        Arrays.fill(profiles, null);
+        Arrays.fill(keys, null);
+        nextId = 0;
+        live = 0;
+        entryCount = 0;
+        nodeCount = 1;
+        firstChild[0] = -1;
+        nextSibling[0] = -1;
+        firstEntry[0] = -1;
+        lastEntry[0] = -1;
+    }
+
+    /**
+     * 문자열 전체와(whole=true) 두 번째 이후 단어들을 트라이에 넣는다. 포인트 이름은 첫 단어도 넣는다.
+     */
+    private void addTerms(String key, int id, boolean whole) {
+        addTerm(key, id);
+        int start = 0;
+        for (int i = 0; i <= key.length(); i++) {
+            if (i == key.length() || isSeparator(key.charAt(i))) {
+                if (i > start && (start > 0 || !whole) && i - start < key.length()) {
+                    addTerm(key.substring(start, i), id);
+                }
+                start = i + 1;
+            }
+        }
+    }
+
+    private void addTerm(String term, int id) {
+        int node = 0;
+        for (int i = 0; i < term.length(); i++) {
+            node = child(node, term.charAt(i), true);
+        }
+        int last = lastEntry[node];
+        if (last >= 0 && entryId[last] == id) {
+            return;
+        }
+        if (entryCount == entryId.length) {
+            entryId = Arrays.copyOf(entryId, entryCount * 2);
+            entryNext = Arrays.copyOf(entryNext, entryCount * 2);
+        }
+        // 역할: 항목 목록 끝에 붙여 넣은 순서를 유지한다.
+        entryId[entryCount] = id;
+        entryNext[entryCount] = -1;
+        if (last < 0) {
+            firstEntry[node] = entryCount;
+        } else {
+            entryNext[last] = entryCount;
+        }
+        lastEntry[node] = entryCount++;
+    }
+
+    private int findNode(String key) {
+        int node = 0;
+        for (int i = 0; i < key.length() && node >= 0; i++) {
+            node = child(node, key.charAt(i), false);
+        }
+        return node;
+    }
+
+    private int child(int node, char c, boolean create) {
+        int last = -1;
+        for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+            if (nodeChar[child] == c) {
+                return child;
+            }
+            last = child;
+        }
+        if (!create) {
+            return -1;
+        }
+        if (nodeCount == nodeChar.length) {
+            int capacity = nodeCount * 2;
+            nodeChar = Arrays.copyOf(nodeChar, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            firstEntry = Arrays.copyOf(firstEntry, capacity);
+            lastEntry = Arrays.copyOf(lastEntry, capacity);
+        }
+        int created = nodeCount++;
+        nodeChar[created] = c;
+        firstChild[created] = -1;
+        nextSibling[created] = -1;
+        firstEntry[created] = -1;
+        lastEntry[created] = -1;
+        // 역할: 형제 끝에 붙여 넣은 순서를 유지한다(먼저 넣은 단어가 먼저 나온다).
+        if (last < 0) {
+            firstChild[node] = created;
+        } else {
+            nextSibling[last] = created;
+        }
+        return created;
+    }
+
+    private void collectSubtree(int root, List<MacroProfile> results, int limit) {
+        int top = 0;
+        stack[top++] = root;
+        while (top > 0 && results.size() < limit) {
+            int node = stack[--top];
+            for (int e = firstEntry[node]; e >= 0 && results.size() < limit; e = entryNext[e]) {
+                accept(entryId[e], results);
+            }
+            // 역할: 형제를 거꾸로 쌓아 먼저 넣은 자식을 먼저 꺼낸다.
+            int mark = top;
+            for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+                if (top == stack.length) {
+                    stack = Arrays.copyOf(stack, top * 2);
+                }
+                stack[top++] = child;
+            }
+            for (int i = mark, j = top - 1; i < j; i++, j--) {
+                int swap = stack[i];
+                stack[i] = stack[j];
+                stack[j] = swap;
+            }
+        }
+    }
+
+    private void collectSubstring(String key, List<MacroProfile> results, int limit) {
+        Posting candidates;
+        if (key.length() == 1) {
+            candidates = grams.get((long) key.charAt(0));
+        } else {
+            candidates = null;
+            for (int i = 0; i + 1 < key.length(); i++) {
+                Posting posting = grams.get(bigram(key.charAt(i), key.charAt(i + 1)));
+                if (posting == null) {
+                    return;
+                }
+                if (candidates == null || posting.size < candidates.size) {
+                    candidates = posting;
+                }
+            }
+        }
+        if (candidates == null) {
+            return;
+        }
+        for (int i = 0; i < candidates.size && results.size() < limit; i++) {
+            int id = candidates.ids[i];
+            if (keys[id] != null && seen[id] != generation && keys[id].contains(key)) {
+                accept(id, results);
+            }
+        }
+    }
+
+    private void accept(int id, List<MacroProfile> results) {
+        if (profiles[id] != null && seen[id] != generation) {
+            seen[id] = generation;
+            results.add(profiles[id]);
+        }
+    }
+
+    private void addGram(long gram, int id) {
+        Posting posting = grams.computeIfAbsent(gram, g -> new Posting());
+        if (posting.size > 0 && posting.ids[posting.size - 1] == id) {
+            return;
+        }
+        if (posting.size == posting.ids.length) {
+            posting.ids = Arrays.copyOf(posting.ids, posting.size * 2);
+        }
+        posting.ids[posting.size++] = id;
+    }
+
+    private static long bigram(char first, char second) {
+        return BIGRAM | ((long) first << 16) | second;
+    }
+
+    private static boolean isSeparator(char c) {
+        return Character.isWhitespace(c) || c == '-' || c == '_';
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * gram 하나의 프로파일 번호 목록(넣은 순서, 죽은 번호 포함).
+     */
+    private static final class Posting {
+        int[] ids = new int[4];
+        int size;
+    }
+}
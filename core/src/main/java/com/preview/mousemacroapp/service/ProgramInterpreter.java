@@ -0,0 +1,105 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.program.MacroProgram;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * 컴파일된 매크로 프로그램을 한 단계씩 수행하는 인터프리터(Runner 내부 전용).
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>단계 수행은 열 배열 읽기 + 실행기 호출만 하며, 단계마다 객체를 만들지 않는다
+ *     (좌표는 원시값으로 {@link ClickExecutor#perform(com.preview.mousemacroapp.domain.action.MacroAction, int, int)}에 넘긴다).</li>
+ *     <li>랜덤 영역 좌표/랜덤 딜레이는 {@code RandomAreaPositionPolicy}/{@code DelayPolicy}와 같은 순서로 랜덤 소스를 쓴다
+ *     (같은 시드면 단일 좌표 반복 실행과 같은 결과).</li>
+ *     <li>그 밖의 좌표 정책만 정책 객체를 호출하며, 이때는 좌표 객체가 생긴다.</li>
+ *     <li>현재 단계 번호를 유지하므로 일시정지/재개 후에도 이어서 수행한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+final class ProgramInterpreter {
+
+    private final MacroProgram program;
+    private final ClickExecutor clickExecutor;
+    private final Random random;
+
+    private int pc;
+    private long passes;
+    private long steps;
+
+    ProgramInterpreter(MacroProgram program, ClickExecutor clickExecutor, Random random) {
+        this.program = Objects.requireNonNull(program, "program");
+        this.clickExecutor = Objects.requireNonNull(clickExecutor, "clickExecutor");
+        this.random = Objects.requireNonNull(random, "random");
+    }
+
+    /**
+     * 현재 단계를 수행하고 다음 단계로 넘어간다(마지막 단계 다음은 처음).
+     *
+     * @return 수행한 단계의 딜레이(ms, 다음 단계 전 대기 시간)
+     */
+    long step() {
+        int i = pc;
+        int x = program.x(i);
+        int y = program.y(i);
+
+        switch (program.positionKind(i)) {
+            case EXACT -> {
+            }
+            case AREA -> {
+                int halfWidth = program.halfWidth(i);
+                int halfHeight = program.halfHeight(i);
+                x += -halfWidth + random.nextInt(2 * halfWidth + 1);
+                y += -halfHeight + random.nextInt(2 * halfHeight + 1);
+            }
+            case CUSTOM -> {
+                ScreenPoint resolved = program.positionPolicy(i).resolve(new ScreenPoint(x, y), random);
+                x = resolved.x();
+                y = resolved.y();
+            }
+        }
+
+        clickExecutor.perform(program.action(i), x, y);
+
+        steps++;
+        if (i + 1 == program.size()) {
+            pc = 0;
+            passes++;
+        } else {
+            pc = i + 1;
+        }
+        return resolveDelayMillis(i);
+    }
+
+    /**
+     * @return 다음에 수행할 단계 번호
+     */
+    int pc() {
+        return pc;
+    }
+
+    /**
+     * @return 끝까지 수행한 회차 수
+     */
+    long passes() {
+        return passes;
+    }
+
+    /**
+     * @return 수행한 단계 수
+     */
+    long steps() {
+        return steps;
+    }
+
+    private long resolveDelayMillis(int i) {
+        long min = program.minRandomDelayMillis(i);
+        long max = program.maxRandomDelayMillis(i);
+        long randomDelay = min == max ? min : min + random.nextLong(max - min + 1);
+        return program.baseDelayMillis(i) + randomDelay;
+    }
+}
@@ -0,0 +1,60 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.program.MacroProgram;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * 매크로 프로그램 실행 요청.
+ *
+ * <p>
+ * 단계별 좌표/동작/좌표 정책/딜레이는 프로그램에 담기고,
+ * 요청은 프로그램 전체에 적용되는 스케줄/랜덤 소스/반복 회차만 가진다.
+ * 스케줄 미지정은 {@link ExecutionSchedule.Always}로 치환한다(Null Object).
+ * </p>
+ *
+ * @param program     컴파일된 프로그램
+ * @param schedule    실행 가능 시간 정책(미지정 시 Always)
+ * @param random      랜덤 소스(재현 가능한 테스트/디버그를 위해 외부 주입)
+ * @param repeatCount 프로그램 반복 회차(0=무한, 1 이상=해당 회차만 실행)
+ * @since 0.9
+ */
+public record ProgramRequest(
+        MacroProgram program,
+        ExecutionSchedule schedule,
+        Random random,
+        int repeatCount
+) {
+
+    /**
+     * @throws NullPointerException     필드 중 하나라도 null인 경우
+     * @throws IllegalArgumentException repeatCount가 음수인 경우
+     */
+    public ProgramRequest {
+        Objects.requireNonNull(program, "program");
+        Objects.requireNonNull(schedule, "schedule");
+        Objects.requireNonNull(random, "random");
+        if (repeatCount < 0) {
+            throw new IllegalArgumentException("repeatCount는 0 이상이어야 한다. repeatCount=" + repeatCount);
+        }
+    }
+
+    /**
+     * 스케줄이 null이면 {@link ExecutionSchedule.Always}로 치환하여 생성한다.
+     *
+     * @param program        컴파일된 프로그램
+     * @param scheduleOrNull 스케줄(없으면 null)
+     * @param random         랜덤 소스
+     * @param repeatCount    반복 회차(0=무한)
+     * @return 실행 요청
+     * @throws NullPointerException     program 또는 random이 null인 경우
+     * @throws IllegalArgumentException repeatCount가 음수인 경우
+     */
+    public static ProgramRequest of(MacroProgram program, ExecutionSchedule scheduleOrNull, Random random,
+                                    int repeatCount) {
+        ExecutionSchedule schedule = (scheduleOrNull != null) ? scheduleOrNull : new ExecutionSchedule.Always();
+        return new ProgramRequest(program, schedule, random, repeatCount);
+    }
+}
@@ -0,0 +1,47 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+
+import java.time.Clock;
+import java.util.Objects;
+
+/**
+ * 클릭을 실제로 수행하지 않고 {@link ClickTimeline}에 기록만 하는 실행기.
+ *
+ * <p>
+ * 시뮬레이션/테스트에서 “언제, 어디를, 어떻게” 클릭했는지 검증하는 용도다.
+ * 기록 시각은 주입된 시계(가상 시계 포함) 기준이다.
+ * </p>
+ *
+ * @since 0.9
+ */
+public final class RecordingClickExecutor implements ClickExecutor {
+
+    private final Clock clock;
+    private final ClickTimeline timeline;
+
+    /**
+     * @param clock    기록 시각 소스
+     * @param timeline 기록 대상
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    public RecordingClickExecutor(Clock clock, ClickTimeline timeline) {
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.timeline = Objects.requireNonNull(timeline, "timeline");
+    }
+
+    @Override
+    public void execute(ClickAction action, ScreenPoint point) {
+        Objects.requireNonNull(action, "action");
+        Objects.requireNonNull(point, "point");
+        timeline.add(clock.millis(), point.x(), point.y(), action);
+    }
+
+    /**
+     * @return 기록 대상 타임라인
+     */
+    public ClickTimeline timeline() {
+        return timeline;
+    }
+}
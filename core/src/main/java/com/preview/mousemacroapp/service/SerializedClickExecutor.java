@@ -0,0 +1,116 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.DragAction;
+import com.preview.mousemacroapp.domain.action.KeyAction;
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.domain.action.ScrollAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 여러 스레드의 동작을 한 번에 하나씩 내보내는 실행기 데코레이터.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>동작 1건(이동 → 누름 → 유지 → 뗌, 키 입력 묶음 전체)을 원자 단위로 내보낸다.
+ *     한 동작의 이동과 누름 사이에 다른 스레드의 이동이 끼어 엉뚱한 좌표를 누르지 않는다.</li>
+ *     <li>누른 채 유지하는 동작(hold/드래그)은 끝날 때까지 다른 스레드가 기다린다(버튼이 눌린 채 다른 좌표로 가면 드래그가 된다).</li>
+ *     <li>공정(fair) 잠금을 쓰므로 기다리는 스레드는 도착 순서대로 차례를 받는다(한 분기가 입력 경로를 독점하지 않는다).</li>
+ *     <li>{@code synchronized} 대신 {@link ReentrantLock}을 써서 가상 스레드가 대기 중에 캐리어 스레드를 붙잡지 않는다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class SerializedClickExecutor implements ClickExecutor {
+
+    private final ClickExecutor delegate;
+    private final ReentrantLock lock = new ReentrantLock(true);
+
+    /**
+     * @param delegate 실제 실행기
+     * @throws NullPointerException delegate가 null인 경우
+     */
+    public SerializedClickExecutor(ClickExecutor delegate) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+    }
+
+    /**
+     * 이미 직렬화된 실행기는 그대로, 아니면 감싸서 반환한다.
+     *
+     * @param executor 실행기
+     * @return 직렬화된 실행기
+     * @throws NullPointerException executor가 null인 경우
+     */
+    public static SerializedClickExecutor of(ClickExecutor executor) {
+        Objects.requireNonNull(executor, "executor");
+        return executor instanceof SerializedClickExecutor serialized ? serialized : new SerializedClickExecutor(executor);
+    }
+
+    @Override
+    public void execute(ClickAction action, ScreenPoint point) {
+        lock.lock();
+        try {
+            delegate.execute(action, point);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void drag(DragAction action, ScreenPoint from) {
+        lock.lock();
+        try {
+            delegate.drag(action, from);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void scroll(ScrollAction action, ScreenPoint at) {
+        lock.lock();
+        try {
+            delegate.scroll(action, at);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void key(KeyAction action) {
+        lock.lock();
+        try {
+            delegate.key(action);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean supports(MacroAction action) {
+        return delegate.supports(action);
+    }
+
+    @Override
+    public void perform(MacroAction action, ScreenPoint point) {
+        lock.lock();
+        try {
+            delegate.perform(action, point);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void perform(MacroAction action, int x, int y) {
+        lock.lock();
+        try {
+            delegate.perform(action, x, y);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
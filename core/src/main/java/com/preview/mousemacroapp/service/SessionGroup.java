@@ -0,0 +1,446 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.debug.DebugLog;
+import com.preview.mousemacroapp.service.replay.DeadlineTimer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 매크로 프로그램(세션)을 함께 시작하고, 필요하면 회차마다 맞춰 실행하는 그룹.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>모든 세션을 같은 절대 시각에 시작한다(준비를 마친 세션은 시작 장벽에서 기다린다).</li>
+ *     <li>{@link Sync#EVERY_PASS}면 세션마다 프로그램 1회차를 마칠 때마다 단계(phase) 장벽에서 서로를 기다린다.
+ *     세션별 주기/오프셋을 주면 해당 단계에서만 실행하므로 세션이 번갈아 실행된다(예: 주기 2, 오프셋 0/1).</li>
+ *     <li>세션별 시작 시각을 기록하여 시작 편차(가장 늦은 세션 - 가장 이른 세션)와 시작 지연을 보고한다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>장벽은 {@link Phaser}다. 세션은 {@value #TIER_SIZE}개씩 하위 Phaser에 등록하여(계층 구성)
+ *     단계 경계에서 한 상태 값에 도착 CAS가 몰리지 않게 한다.</li>
+ *     <li>시작은 전용 시작 스레드가 마감까지 park + spin({@link DeadlineTimer})한 뒤 장벽에 도착하여 한꺼번에 푼다.</li>
+ *     <li>세션 수가 CPU 수 이하이면 마감 {@value #SPIN_LEAD_MILLIS}ms 전에 풀고 세션마다 남은 구간을 spin하여,
+ *     장벽 해제가 스레드를 하나씩 깨우는 지연이 시작 편차에 들어가지 않게 한다.
+ *     CPU보다 세션이 많으면 spin끼리 CPU를 다퉈 오히려 늦어지므로 마감에 정확히 풀고 깨어나는 순서대로 시작한다.</li>
+ *     <li>끝난(반복 회차 도달/예외) 세션은 장벽에서 빠지므로 남은 세션이 기다리지 않는다.
+ *     stop은 장벽 전체를 종료하여 기다리던 세션도 즉시 끝낸다.</li>
+ *     <li>세션을 끝낸 예외는 세션별로 보관하며 {@link #failure(int)}로 조회한다(다른 세션은 계속 실행한다).</li>
+ *     <li>세션들은 실행기 하나를 공유하며, {@link MouseArbiter}가 동작 1건씩 사용권을 넘긴다(같은 우선순위, 가까운 요청 먼저).</li>
+ *     <li>요청의 실행 가능 시간 정책은 쓰지 않는다(실행 시각은 그룹 시작 시각과 장벽이 정한다).</li>
+ *     <li>그룹은 1회만 시작할 수 있다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class SessionGroup {
+
+    /**
+     * 하위 Phaser 하나에 등록하는 세션 수.
+     */
+    public static final int TIER_SIZE = 16;
+
+    private static final long SPIN_LEAD_MILLIS = 2;
+
+    /**
+     * 세션 간 맞춤 방식.
+     */
+    public enum Sync {
+        /**
+         * 시작만 맞추고 이후에는 각자 실행한다.
+         */
+        START_ONLY,
+        /**
+         * 세션마다 1회차를 마칠 때마다 단계 장벽에서 맞춘다.
+         */
+        EVERY_PASS
+    }
+
+    private final MouseArbiter arbiter;
+    private final Clock clock;
+    private final Sync sync;
+    private final DeadlineTimer timer;
+    private final Sleeper sleeper;
+
+    private final List<Member> members = new ArrayList<>();
+
+    private Phaser root;
+    private Thread starter;
+    private CountDownLatch remaining;
+    private long startDeadline;
+
+    private volatile boolean started;
+    private volatile boolean stopRequested;
+
+    /**
+     * 실제 시간을 사용하는 그룹을 생성한다.
+     *
+     * @param executor 세션들이 공유하는 동작 실행기
+     * @param clock    시작 시각 기준 시간 소스
+     * @param sync     세션 간 맞춤 방식
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    public SessionGroup(ClickExecutor executor, Clock clock, Sync sync) {
+        this(executor, clock, sync, DeadlineTimer.system(), Sleeper.system());
+    }
+
+    /**
+     * 대기 전략을 주입하여 그룹을 생성한다.
+     *
+     * @param executor 세션들이 공유하는 동작 실행기
+     * @param clock    시작 시각 기준 시간 소스
+     * @param sync     세션 간 맞춤 방식
+     * @param timer    시작 마감 대기 전략
+     * @param sleeper  단계 사이 딜레이 대기 전략
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    public SessionGroup(ClickExecutor executor, Clock clock, Sync sync, DeadlineTimer timer, Sleeper sleeper) {
+        this.arbiter = new MouseArbiter(Objects.requireNonNull(executor, "executor"));
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.sync = Objects.requireNonNull(sync, "sync");
+        this.timer = Objects.requireNonNull(timer, "timer");
+        this.sleeper = Objects.requireNonNull(sleeper, "sleeper");
+    }
+
+    /**
+     * 모든 단계에서 실행하는 세션을 추가한다.
+     *
+     * @param request 프로그램 실행 요청
+     * @return 세션 번호(추가 순서, 0부터)
+     * @throws NullPointerException  request가 null인 경우
+     * @throws IllegalStateException 이미 시작한 경우
+     */
+    public int add(ProgramRequest request) {
+        return add(request, 1, 0);
+    }
+
+    /**
+     * 단계 번호가 {@code phase % phasePeriod == phaseOffset}인 단계에서만 실행하는 세션을 추가한다.
+     *
+     * <p>{@link Sync#START_ONLY} 그룹에서는 주기/오프셋을 쓰지 않는다.</p>
+     *
+     * @param request     프로그램 실행 요청
+     * @param phasePeriod 실행 주기(단계 수, 1 이상)
+     * @param phaseOffset 주기 안 실행 단계(0 이상, phasePeriod 미만)
+     * @return 세션 번호(추가 순서, 0부터)
+     * @throws NullPointerException     request가 null인 경우
+     * @throws IllegalArgumentException 주기/오프셋이 범위를 벗어난 경우
+     * @throws IllegalStateException    이미 시작한 경우
+     */
+    public synchronized int add(ProgramRequest request, int phasePeriod, int phaseOffset) {
+        Objects.requireNonNull(request, "request");
+        if (phasePeriod < 1) {
+            throw new IllegalArgumentException("phasePeriod는 1 이상이어야 한다. phasePeriod=" + phasePeriod);
+        }
+        if (phaseOffset < 0 || phaseOffset >= phasePeriod) {
+            throw new IllegalArgumentException(
+                    "phaseOffset은 0 이상 phasePeriod 미만이어야 한다. phaseOffset=" + phaseOffset + ", phasePeriod=" + phasePeriod);
+        }
+        if (started) {
+            throw new IllegalStateException("이미 시작한 그룹에는 세션을 추가할 수 없다.");
+        }
+        int id = members.size();
+        members.add(new Member(id, request, phasePeriod, phaseOffset, arbiter.session("session-" + id, 0)));
+        return members.size() - 1;
+    }
+
+    /**
+     * 모든 세션을 지정 시각에 시작하도록 예약한다(호출 스레드는 기다리지 않는다).
+     *
+     * <p>지정 시각이 이미 지났으면 모든 세션이 준비되는 즉시 시작한다.</p>
+     *
+     * @param at 시작 시각
+     * @throws NullPointerException  at이 null인 경우
+     * @throws IllegalStateException 세션이 없거나 이미 시작한 경우
+     */
+    public synchronized void startAt(Instant at) {
+        Objects.requireNonNull(at, "at");
+        if (members.isEmpty()) {
+            throw new IllegalStateException("세션이 없는 그룹은 시작할 수 없다.");
+        }
+        if (started) {
+            throw new IllegalStateException("그룹은 1회만 시작할 수 있다.");
+        }
+        started = true;
+
+        long lead = Math.max(0, Duration.between(clock.instant(), at).toNanos());
+        startDeadline = timer.nanoTime() + lead;
+        boolean spinEach = members.size() <= Runtime.getRuntime().availableProcessors();
+        long releaseAt = spinEach ? startDeadline - TimeUnit.MILLISECONDS.toNanos(SPIN_LEAD_MILLIS) : startDeadline;
+
+        // 역할: 시작 스레드 1자리 + 하위 Phaser들. 모든 세션과 시작 스레드가 도착해야 단계 0(시작 장벽)이 풀린다.
+        root = new Phaser(1);
+        remaining = new CountDownLatch(members.size());
+        Phaser tier = null;
+        for (Member member : members) {
+            if (member.id % TIER_SIZE == 0) {
+                tier = new Phaser(root, 0);
+            }
+            tier.register();
+            member.phaser = tier;
+        }
+
+        for (Member member : members) {
+            Thread thread = new Thread(() -> runMember(member, spinEach), "session-group-" + member.id);
+            thread.setDaemon(true);
+            member.thread = thread;
+            thread.start();
+        }
+
+        starter = new Thread(() -> {
+            try {
+                timer.awaitDeadline(releaseAt);
+                root.arriveAndDeregister();
+            } catch (InterruptedException ignored) {
+                // 역할: 시작 전 stop. 장벽은 stop이 종료한다.
+            }
+        }, "session-group-starter");
+        starter.setDaemon(true);
+        starter.start();
+
+        DebugLog.log("GROUP", () -> "group scheduled sessions=" + members.size() + " sync=" + sync
+                + " leadMillis=" + TimeUnit.NANOSECONDS.toMillis(lead) + " spinEach=" + spinEach);
+    }
+
+    /**
+     * 모든 세션을 멈춘다(멱등, 시작 전이면 시작하지 않는다).
+     */
+    public synchronized void stop() {
+        stopRequested = true;
+        if (!started) {
+            return;
+        }
+        // 역할: 장벽에서 기다리는 세션은 종료로, 대기 중인 세션은 인터럽트로 깨운다.
+        root.forceTermination();
+        starter.interrupt();
+        for (Member member : members) {
+            member.thread.interrupt();
+        }
+    }
+
+    /**
+     * 모든 세션이 끝날 때까지 기다린다.
+     *
+     * @param timeout 최대 대기 시간
+     * @return 모두 끝났으면 true
+     * @throws NullPointerException  timeout이 null인 경우
+     * @throws IllegalStateException 시작하지 않은 경우
+     * @throws InterruptedException  대기 중 인터럽트된 경우
+     */
+    public boolean awaitTermination(Duration timeout) throws InterruptedException {
+        Objects.requireNonNull(timeout, "timeout");
+        CountDownLatch latch;
+        synchronized (this) {
+            if (!started) {
+                throw new IllegalStateException("시작하지 않은 그룹이다.");
+            }
+            latch = remaining;
+        }
+        return latch.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return 시작했고 아직 끝나지 않은 세션이 있으면 true
+     */
+    public synchronized boolean isRunning() {
+        return started && remaining.getCount() > 0;
+    }
+
+    /**
+     * @return 세션 수
+     */
+    public synchronized int size() {
+        return members.size();
+    }
+
+    /**
+     * 실제로 시작한 세션들의 시작 시각 편차를 반환한다.
+     *
+     * @return 가장 늦게 시작한 세션 - 가장 먼저 시작한 세션(ns, 시작한 세션이 없으면 0)
+     */
+    public synchronized long startSkewNanos() {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (Member member : members) {
+            if (member.startedAt != 0) {
+                min = Math.min(min, member.startedAt);
+                max = Math.max(max, member.startedAt);
+            }
+        }
+        return min == Long.MAX_VALUE ? 0 : max - min;
+    }
+
+    /**
+     * 예약 시각보다 가장 늦게 시작한 세션의 지연을 반환한다.
+     *
+     * @return 최대 시작 지연(ns, 0 이상)
+     */
+    public synchronized long maxStartLatenessNanos() {
+        long max = 0;
+        for (Member member : members) {
+            if (member.startedAt != 0) {
+                max = Math.max(max, member.startedAt - startDeadline);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * @param session 세션 번호
+     * @return 세션이 마친 프로그램 회차 수
+     * @throws IndexOutOfBoundsException 세션 번호가 범위를 벗어난 경우
+     */
+    public synchronized long passes(int session) {
+        return members.get(session).passes;
+    }
+
+    /**
+     * @param session 세션 번호
+     * @return 세션이 수행한 단계 수
+     * @throws IndexOutOfBoundsException 세션 번호가 범위를 벗어난 경우
+     */
+    public synchronized long steps(int session) {
+        return members.get(session).steps;
+    }
+
+    /**
+     * @param session 세션 번호
+     * @return 세션을 끝낸 예외(예외 없이 끝났거나 실행 중이면 empty)
+     * @throws IndexOutOfBoundsException 세션 번호가 범위를 벗어난 경우
+     */
+    public synchronized Optional<RuntimeException> failure(int session) {
+        return Optional.ofNullable(members.get(session).failure);
+    }
+
+    /**
+     * @param session 세션 번호
+     * @return 세션이 실행기 사용권을 기다린 시간 합계(ns)
+     * @throws IndexOutOfBoundsException 세션 번호가 범위를 벗어난 경우
+     */
+    public synchronized long waitNanos(int session) {
+        return members.get(session).executor.totalWaitNanos();
+    }
+
+    private void runMember(Member member, boolean spinEach) {
+        Phaser phaser = member.phaser;
+        boolean registered = true;
+        ProgramRequest request = member.request;
+        ProgramInterpreter interpreter = new ProgramInterpreter(request.program(), member.executor, request.random());
+        try {
+            int phase = phaser.arriveAndAwaitAdvance();
+            if (phase < 0 || stopRequested) {
+                return;
+            }
+            if (spinEach) {
+                timer.awaitDeadline(startDeadline);
+            }
+            // 역할: 0은 “시작 안 함” 표시로 쓰므로, 우연히 0이 나오면 1ns 뒤로 기록한다.
+            long startedAt = timer.nanoTime();
+            member.startedAt = startedAt == 0 ? 1 : startedAt;
+
+            if (sync == Sync.START_ONLY) {
+                phaser.arriveAndDeregister();
+                registered = false;
+            }
+            int repeatCount = request.repeatCount();
+            long activePasses = 0;
+            // 역할: Phaser 단계 0은 시작 장벽이므로, 회차 단계 번호는 Phaser 단계 - 1이다.
+            int round = 0;
+            while (!stopRequested) {
+                if (sync == Sync.START_ONLY || round % member.phasePeriod == member.phaseOffset) {
+                    boolean last = repeatCount > 0 && activePasses + 1 >= repeatCount;
+                    if (!runPass(interpreter, last)) {
+                        break;
+                    }
+                    activePasses++;
+                    member.passes = activePasses;
+                    member.steps = interpreter.steps();
+                    if (last) {
+                        break;
+                    }
+                }
+                if (sync == Sync.EVERY_PASS) {
+                    phase = phaser.arriveAndAwaitAdvance();
+                    if (phase < 0) {
+                        break;
+                    }
+                    round = phase - 1;
+                }
+            }
+        } catch (InterruptedException ignored) {
+            // 역할: 시작 전 stop 신호.
+        } catch (RuntimeException ex) {
+            member.failure = ex;
+            DebugLog.log("GROUP", () -> "session " + member.id + " failed: " + ex.getMessage());
+        } finally {
+            member.steps = interpreter.steps();
+            if (registered && !phaser.isTerminated()) {
+                phaser.arriveAndDeregister();
+            }
+            remaining.countDown();
+        }
+    }
+
+    /**
+     * 프로그램 1회차를 실행한다(마지막 회차의 마지막 단계 뒤에는 기다리지 않는다).
+     *
+     * @return 회차를 마쳤으면 true, stop이면 false
+     */
+    private boolean runPass(ProgramInterpreter interpreter, boolean lastPass) {
+        do {
+            if (stopRequested) {
+                return false;
+            }
+            long delayMillis = interpreter.step();
+            if (interpreter.pc() == 0 && lastPass) {
+                return true;
+            }
+            if (delayMillis > 0) {
+                try {
+                    sleeper.sleep(delayMillis);
+                } catch (InterruptedException ignored) {
+                    // 역할: stop 신호. 루프 조건에서 판단한다.
+                }
+            }
+        } while (interpreter.pc() != 0);
+        return !stopRequested;
+    }
+
+    /**
+     * 세션 1개(요청 + 실행 상태).
+     */
+    private static final class Member {
+
+        final int id;
+        final ProgramRequest request;
+        final int phasePeriod;
+        final int phaseOffset;
+        final MouseArbiter.Session executor;
+
+        Phaser phaser;
+        Thread thread;
+
+        volatile long startedAt;
+        volatile long passes;
+        volatile long steps;
+        volatile RuntimeException failure;
+
+        Member(int id, ProgramRequest request, int phasePeriod, int phaseOffset, MouseArbiter.Session executor) {
+            this.id = id;
+            this.request = request;
+            this.phasePeriod = phasePeriod;
+            this.phaseOffset = phaseOffset;
+            this.executor = executor;
+        }
+    }
+}
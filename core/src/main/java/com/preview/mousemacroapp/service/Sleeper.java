@@ -0,0 +1,32 @@
+package com.preview.mousemacroapp.service;
+
+/**
+ * 실행 루프의 대기(sleep) 전략.
+ *
+ * <p>
+ * 실제 실행은 {@link Thread#sleep(long)}을 사용하고,
+ * 시뮬레이션은 가상 시계를 앞당기는 구현을 주입하여 실시간 대기 없이 실행한다.
+ * </p>
+ *
+ * @since 0.9
+ */
+@FunctionalInterface
+public interface Sleeper {
+
+    /**
+     * 지정 시간 동안 대기한다.
+     *
+     * @param millis 대기 시간(ms)
+     * @throws InterruptedException 대기 중 인터럽트된 경우(stop/resume 신호)
+     */
+    void sleep(long millis) throws InterruptedException;
+
+    /**
+     * 실제 스레드 대기를 사용하는 기본 전략을 반환한다.
+     *
+     * @return {@link Thread#sleep(long)} 기반 전략
+     */
+    static Sleeper system() {
+        return Thread::sleep;
+    }
+}
@@ -0,0 +1,72 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 캡처한 클릭 좌표를 근처에 저장된 포인트 좌표로 맞추는 캡처 데코레이터.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>캡처 결과가 {@link CaptureResult.Status#CAPTURED}이고 허용 거리 안에 저장된 포인트가 있으면,
+ *     가장 가까운 포인트의 기본 좌표로 바꿔 돌려준다.</li>
+ *     <li>그 밖의 결과(취소/타임아웃/실패, 근처 포인트 없음)는 그대로 전달한다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>조회는 {@link PointIndex#nearest(ScreenPoint, int)}를 사용한다(허용 거리를 덮는 칸만 본다).</li>
+ *     <li>색인은 호출 측이 소유하며 캡처 중에도 추가/삭제할 수 있다(결과가 도착한 시점의 색인으로 맞춘다).</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class SnappingClickCaptor implements MouseClickCaptor {
+
+    private final MouseClickCaptor delegate;
+    private final PointIndex index;
+    private final int tolerance;
+
+    /**
+     * @param delegate  실제 캡처 구현
+     * @param index     저장된 포인트 색인
+     * @param tolerance 맞춤 허용 거리(px, 0 이상)
+     * @throws NullPointerException     delegate/index가 null인 경우
+     * @throws IllegalArgumentException tolerance가 음수인 경우
+     */
+    public SnappingClickCaptor(MouseClickCaptor delegate, PointIndex index, int tolerance) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.index = Objects.requireNonNull(index, "index");
+        if (tolerance < 0) {
+            throw new IllegalArgumentException("tolerance는 0 이상이어야 한다. tolerance=" + tolerance);
+        }
+        this.tolerance = tolerance;
+    }
+
+    @Override
+    public CompletableFuture<CaptureResult<ScreenPoint>> captureNextClick(Duration timeout) {
+        return delegate.captureNextClick(timeout).thenApply(this::snap);
+    }
+
+    @Override
+    public void cancel() {
+        delegate.cancel();
+    }
+
+    private CaptureResult<ScreenPoint> snap(CaptureResult<ScreenPoint> result) {
+        if (result.status() != CaptureResult.Status.CAPTURED) {
+            return result;
+        }
+        ScreenPoint captured = result.value().orElseThrow();
+        Optional<MacroPoint> near = index.nearest(captured, tolerance);
+        if (near.isEmpty() || near.get().base().equals(captured)) {
+            return result;
+        }
+        return CaptureResult.captured(near.get().base());
+    }
+}
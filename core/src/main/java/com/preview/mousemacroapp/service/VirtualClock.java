@@ -0,0 +1,82 @@
+package com.preview.mousemacroapp.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * 직접 앞당기는 가상 시계(시뮬레이션 전용).
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>시간은 {@link #advance(long)} 호출로만 흐른다(실시간과 무관).</li>
+ *     <li>{@link #withZone(ZoneId)}로 만든 시계는 같은 시간 상태를 공유한다.</li>
+ *     <li>단일 스레드(시뮬레이션 루프)에서 사용하는 것을 전제로 한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class VirtualClock extends Clock {
+
+    /**
+     * withZone 시계 간에 공유하는 현재 시각(epoch ms).
+     */
+    private static final class State {
+        private long epochMillis;
+    }
+
+    private final State state;
+    private final ZoneId zone;
+
+    /**
+     * @param start 시작 시각
+     * @param zone  시간대
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    public VirtualClock(Instant start, ZoneId zone) {
+        Objects.requireNonNull(start, "start");
+        this.zone = Objects.requireNonNull(zone, "zone");
+        this.state = new State();
+        this.state.epochMillis = start.toEpochMilli();
+    }
+
+    private VirtualClock(State state, ZoneId zone) {
+        this.state = state;
+        this.zone = zone;
+    }
+
+    /**
+     * 시계를 앞당긴다.
+     *
+     * @param millis 앞당길 시간(ms, 0 이상)
+     * @throws IllegalArgumentException millis가 음수인 경우
+     */
+    public void advance(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("millis는 0 이상이어야 한다. millis=" + millis);
+        }
+        state.epochMillis += millis;
+    }
+
+    @Override
+    public long millis() {
+        return state.epochMillis;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(state.epochMillis);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        Objects.requireNonNull(zone, "zone");
+        return zone.equals(this.zone) ? this : new VirtualClock(state, zone);
+    }
+}
@@ -0,0 +1,36 @@
+package com.preview.mousemacroapp.service.pipeline;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.point.ScreenBounds;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.service.ClickExecutor;
+
+import java.util.Objects;
+
+/**
+ * 클릭 좌표를 화면 경계 안으로 보정하는 단계.
+ *
+ * <p>
+ * 랜덤 영역 정책 등으로 좌표가 화면 밖으로 나가면 OS별로 동작이 달라지므로,
+ * 실행 직전에 경계 안으로 고정한다.
+ * </p>
+ *
+ * @since 0.9
+ */
+public final class BoundsClampClickInterceptor implements ClickInterceptor {
+
+    private final ScreenBounds bounds;
+
+    /**
+     * @param bounds 허용 화면 경계
+     * @throws NullPointerException bounds가 null인 경우
+     */
+    public BoundsClampClickInterceptor(ScreenBounds bounds) {
+        this.bounds = Objects.requireNonNull(bounds, "bounds");
+    }
+
+    @Override
+    public void intercept(ClickAction action, ScreenPoint point, ClickExecutor next) {
+        next.execute(action, bounds.clamp(point));
+    }
+}
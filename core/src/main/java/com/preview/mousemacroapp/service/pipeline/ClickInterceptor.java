@@ -0,0 +1,30 @@
+package com.preview.mousemacroapp.service.pipeline;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.service.ClickExecutor;
+
+/**
+ * 클릭 실행 전후에 끼어드는 파이프라인 단계.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>다음 단계로 진행하려면 {@code next.execute(...)}를 정확히 1회 호출한다.</li>
+ *     <li>호출하지 않으면 해당 클릭은 그 단계에서 소비(차단)된다.</li>
+ *     <li>좌표를 바꿔 전달할 수 있다(예: 화면 경계 보정).</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+@FunctionalInterface
+public interface ClickInterceptor {
+
+    /**
+     * 클릭 1회를 가로채 처리한다.
+     *
+     * @param action 클릭 동작
+     * @param point  클릭 좌표
+     * @param next   다음 단계(마지막은 실제 실행기)
+     */
+    void intercept(ClickAction action, ScreenPoint point, ClickExecutor next);
+}
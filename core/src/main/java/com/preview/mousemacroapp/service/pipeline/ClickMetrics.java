@@ -0,0 +1,22 @@
+package com.preview.mousemacroapp.service.pipeline;
+
+/**
+ * 클릭 실행 측정값 스냅샷.
+ *
+ * @param count      실행 시도 횟수
+ * @param failures   예외로 끝난 횟수
+ * @param totalNanos 하위 단계 실행에 걸린 누적 시간(ns)
+ * @param maxNanos   1회 실행 최대 시간(ns)
+ * @since 0.9
+ */
+public record ClickMetrics(long count, long failures, long totalNanos, long maxNanos) {
+
+    /**
+     * 1회 평균 실행 시간(ns)을 반환한다.
+     *
+     * @return 평균 시간(실행 이력이 없으면 0)
+     */
+    public long meanNanos() {
+        return (count == 0) ? 0 : totalNanos / count;
+    }
+}
@@ -0,0 +1,127 @@
+package com.preview.mousemacroapp.service.pipeline;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.DragAction;
+import com.preview.mousemacroapp.domain.action.KeyAction;
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.domain.action.ScrollAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.service.ClickExecutor;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 인터셉터 체인을 조립 시점에 평탄화한 {@link ClickExecutor}.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>단계별 연결 노드는 생성 시 1회만 만들어 배열로 고정한다.</li>
+ *     <li>실행 경로(hot path)에서는 체인 객체/이터레이터를 생성하지 않는다.</li>
+ *     <li>단계 순서는 목록 순서와 같으며, 마지막에 실제 실행기가 호출된다.</li>
+ *     <li>단계는 클릭 단위로 설계되었으므로, 드래그/스크롤/키보드 동작은 단계를 거치지 않고 실제 실행기로 바로 보낸다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class ClickPipeline implements ClickExecutor {
+
+    /**
+     * links[i]는 i번째 단계의 진입점, links[n]은 실제 실행기다.
+     */
+    private final ClickExecutor[] links;
+
+    private ClickPipeline(ClickExecutor[] links) {
+        this.links = links;
+    }
+
+    /**
+     * 실제 실행기와 단계 목록으로 파이프라인을 조립한다.
+     *
+     * @param terminal 실제 클릭 실행기
+     * @param stages   적용할 단계(앞에서부터 실행)
+     * @return 조립된 파이프라인
+     * @throws NullPointerException terminal, stages 또는 단계 요소가 null인 경우
+     */
+    public static ClickPipeline of(ClickExecutor terminal, List<? extends ClickInterceptor> stages) {
+        Objects.requireNonNull(terminal, "terminal");
+        Objects.requireNonNull(stages, "stages");
+
+        int n = stages.size();
+        ClickExecutor[] links = new ClickExecutor[n + 1];
+        links[n] = terminal;
+
+        // 역할: 뒤에서부터 연결하여 각 단계가 “다음 노드”를 final 필드로 가지게 한다.
+        for (int i = n - 1; i >= 0; i--) {
+            ClickInterceptor stage = Objects.requireNonNull(stages.get(i), "stages[" + i + "]");
+            links[i] = new Link(stage, links[i + 1]);
+        }
+        return new ClickPipeline(links);
+    }
+
+    @Override
+    public void execute(ClickAction action, ScreenPoint point) {
+        Objects.requireNonNull(action, "action");
+        Objects.requireNonNull(point, "point");
+        links[0].execute(action, point);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>단계가 없으면 실제 실행기의 좌표 객체 없는 경로로 바로 보낸다(단계는 좌표 객체를 받으므로 단계가 있으면 만든다).</p>
+     */
+    @Override
+    public void perform(MacroAction action, int x, int y) {
+        if (links.length == 1 || !(action instanceof ClickAction)) {
+            links[links.length - 1].perform(action, x, y);
+            return;
+        }
+        ClickExecutor.super.perform(action, x, y);
+    }
+
+    @Override
+    public boolean supports(MacroAction action) {
+        return links[links.length - 1].supports(action);
+    }
+
+    @Override
+    public void drag(DragAction action, ScreenPoint from) {
+        links[links.length - 1].drag(action, from);
+    }
+
+    @Override
+    public void scroll(ScrollAction action, ScreenPoint at) {
+        links[links.length - 1].scroll(action, at);
+    }
+
+    @Override
+    public void key(KeyAction action) {
+        links[links.length - 1].key(action);
+    }
+
+    /**
+     * 조립된 단계 수(실제 실행기 제외)를 반환한다.
+     *
+     * @return 단계 수
+     */
+    public int stageCount() {
+        return links.length - 1;
+    }
+
+    private static final class Link implements ClickExecutor {
+
+        private final ClickInterceptor stage;
+        private final ClickExecutor next;
+
+        private Link(ClickInterceptor stage, ClickExecutor next) {
+            this.stage = stage;
+            this.next = next;
+        }
+
+        @Override
+        public void execute(ClickAction action, ScreenPoint point) {
+            stage.intercept(action, point, next);
+        }
+    }
+}
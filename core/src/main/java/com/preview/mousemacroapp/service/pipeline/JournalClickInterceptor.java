@@ -0,0 +1,98 @@
+package com.preview.mousemacroapp.service.pipeline;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.service.ClickExecutor;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 최근 클릭 이력을 고정 크기 링 버퍼에 기록하는 단계.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>기록은 실제 실행 전에 남긴다(실행 실패 시에도 “시도” 이력은 남는다).</li>
+ *     <li>기록 시에는 배열 슬롯만 덮어쓰며 객체를 만들지 않는다.</li>
+ *     <li>용량을 넘으면 가장 오래된 이력부터 덮어쓴다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class JournalClickInterceptor implements ClickInterceptor {
+
+    /**
+     * 저널 항목.
+     *
+     * @param epochMillis 기록 시각(epoch ms)
+     * @param action      클릭 동작
+     * @param point       클릭 좌표
+     */
+    public record Entry(long epochMillis, ClickAction action, ScreenPoint point) {
+    }
+
+    private final Clock clock;
+
+    private final long[] epochMillis;
+    private final ClickAction[] actions;
+    private final ScreenPoint[] points;
+
+    private long written;
+
+    /**
+     * @param capacity 보관할 최대 이력 수(1 이상)
+     * @param clock    기록 시각 소스
+     * @throws IllegalArgumentException capacity가 1 미만인 경우
+     * @throws NullPointerException     clock이 null인 경우
+     */
+    public JournalClickInterceptor(int capacity, Clock clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 한다. capacity=" + capacity);
+        }
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.epochMillis = new long[capacity];
+        this.actions = new ClickAction[capacity];
+        this.points = new ScreenPoint[capacity];
+    }
+
+    @Override
+    public void intercept(ClickAction action, ScreenPoint point, ClickExecutor next) {
+        record(action, point);
+        next.execute(action, point);
+    }
+
+    /**
+     * 보관 중인 이력을 오래된 순서로 반환한다.
+     *
+     * @return 이력 스냅샷
+     */
+    public synchronized List<Entry> entries() {
+        int capacity = epochMillis.length;
+        int size = (int) Math.min(written, capacity);
+        List<Entry> result = new ArrayList<>(size);
+        for (long i = written - size; i < written; i++) {
+            int slot = (int) (i % capacity);
+            result.add(new Entry(epochMillis[slot], actions[slot], points[slot]));
+        }
+        return result;
+    }
+
+    /**
+     * 지금까지 기록된 전체 횟수(덮어쓴 이력 포함)를 반환한다.
+     *
+     * @return 누적 기록 수
+     */
+    public synchronized long totalRecorded() {
+        return written;
+    }
+
+    private synchronized void record(ClickAction action, ScreenPoint point) {
+        int slot = (int) (written % epochMillis.length);
+        epochMillis[slot] = clock.millis();
+        actions[slot] = action;
+        points[slot] = point;
+        written++;
+    }
+}
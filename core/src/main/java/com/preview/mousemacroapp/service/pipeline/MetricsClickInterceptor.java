@@ -0,0 +1,59 @@
+package com.preview.mousemacroapp.service.pipeline;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.service.ClickExecutor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 하위 단계 실행 횟수/시간을 측정하는 단계.
+ *
+ * <p>
+ * 누적 값은 {@link LongAdder}로 기록하여 실행 스레드 간 경합을 줄이고,
+ * 조회는 {@link #snapshot()}으로 필요할 때만 합산한다.
+ * </p>
+ *
+ * @since 0.9
+ */
+public final class MetricsClickInterceptor implements ClickInterceptor {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    @Override
+    public void intercept(ClickAction action, ScreenPoint point, ClickExecutor next) {
+        long started = System.nanoTime();
+        try {
+            next.execute(action, point);
+        } catch (RuntimeException ex) {
+            failures.increment();
+            throw ex;
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            count.increment();
+            totalNanos.add(elapsed);
+            updateMax(elapsed);
+        }
+    }
+
+    /**
+     * 현재까지의 측정값을 반환한다.
+     *
+     * @return 측정값 스냅샷
+     */
+    public ClickMetrics snapshot() {
+        return new ClickMetrics(count.sum(), failures.sum(), totalNanos.sum(), maxNanos.get());
+    }
+
+    private void updateMax(long elapsed) {
+        // 역할: 최대값이 갱신될 때만 CAS를 시도한다(대부분의 호출은 읽기 1회로 끝난다).
+        long current = maxNanos.get();
+        while (elapsed > current && !maxNanos.compareAndSet(current, elapsed)) {
+            current = maxNanos.get();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.preview.mousemacroapp.service.pipeline;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.service.ClickExecutor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 초당 최대 클릭 수를 강제하는 단계.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>직전 클릭으로부터 최소 간격(1초/maxPerSecond)이 지나지 않았으면 남은 시간만큼 대기한다.</li>
+ *     <li>대기 중 인터럽트(stop 요청)가 오면 클릭하지 않고 즉시 반환한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class RateLimitClickInterceptor implements ClickInterceptor {
+
+    private final long minIntervalNanos;
+
+    private long nextAllowedNanos = Long.MIN_VALUE;
+
+    /**
+     * @param maxPerSecond 초당 최대 클릭 수(1 이상)
+     * @throws IllegalArgumentException maxPerSecond가 1 미만인 경우
+     */
+    public RateLimitClickInterceptor(int maxPerSecond) {
+        if (maxPerSecond < 1) {
+            throw new IllegalArgumentException("maxPerSecond는 1 이상이어야 한다. maxPerSecond=" + maxPerSecond);
+        }
+        this.minIntervalNanos = TimeUnit.SECONDS.toNanos(1) / maxPerSecond;
+    }
+
+    @Override
+    public void intercept(ClickAction action, ScreenPoint point, ClickExecutor next) {
+        if (!awaitSlot()) {
+            return;
+        }
+        next.execute(action, point);
+    }
+
+    /**
+     * 다음 허용 시각까지 대기한 뒤 슬롯을 예약한다.
+     *
+     * @return 슬롯을 얻었으면 true, 대기 중 인터럽트되면 false
+     */
+    private synchronized boolean awaitSlot() {
+        long now = System.nanoTime();
+        while (nextAllowedNanos != Long.MIN_VALUE && now - nextAllowedNanos < 0) {
+            LockSupport.parkNanos(this, nextAllowedNanos - now);
+            if (Thread.currentThread().isInterrupted()) {
+                // 역할: interrupt 플래그는 유지하여 Runner 루프가 stop/resume을 인지하게 한다.
+                return false;
+            }
+            now = System.nanoTime();
+        }
+        nextAllowedNanos = now + minIntervalNanos;
+        return true;
+    }
+}
@@ -0,0 +1,40 @@
+package com.preview.mousemacroapp.service.pipeline;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.service.ClickExecutor;
+
+import java.util.Objects;
+
+/**
+ * 같은 클릭을 보조 실행기(예: Dry-Run 로그)에도 전달하는 단계.
+ *
+ * <p>
+ * 보조 실행기는 본 실행 전에 호출된다.
+ * 보조 실행기의 실패가 실제 클릭을 막지 않도록 예외는 삼킨다.
+ * </p>
+ *
+ * @since 0.9
+ */
+public final class TeeClickInterceptor implements ClickInterceptor {
+
+    private final ClickExecutor tap;
+
+    /**
+     * @param tap 복제 전달 대상 실행기
+     * @throws NullPointerException tap이 null인 경우
+     */
+    public TeeClickInterceptor(ClickExecutor tap) {
+        this.tap = Objects.requireNonNull(tap, "tap");
+    }
+
+    @Override
+    public void intercept(ClickAction action, ScreenPoint point, ClickExecutor next) {
+        try {
+            tap.execute(action, point);
+        } catch (RuntimeException ignored) {
+            // 역할: 관찰용 보조 출력 실패는 실제 실행 흐름에 영향을 주지 않는다.
+        }
+        next.execute(action, point);
+    }
+}
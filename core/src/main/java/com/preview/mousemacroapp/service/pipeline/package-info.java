@@ -0,0 +1,10 @@
+/**
+ * 클릭 실행 포트({@code ClickExecutor})를 감싸는 인터셉터 파이프라인이다.
+ * <p>
+ * 측정/속도 제한/기록/복제 실행/좌표 보정 같은 공통 관심사를
+ * 실행기 구현과 분리하여 조립 시점에 선택적으로 연결한다.
+ * </p>
+ *
+ * @since 0.9
+ */
+package com.preview.mousemacroapp.service.pipeline;
@@ -0,0 +1,63 @@
+package com.preview.mousemacroapp.service.replay;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.MouseButton;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+import com.preview.mousemacroapp.service.ClickExecutor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 재생 이벤트를 {@link ClickExecutor} 클릭으로 내보내는 출력.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>버튼 누름 시각에 그 좌표로 단일 클릭 1회를 실행한다(뗌 이벤트는 클릭에 포함된 것으로 본다).</li>
+ *     <li>이동/휠/키 이벤트는 클릭 실행 포트로 표현할 수 없으므로 세기만 하고 무시한다.</li>
+ *     <li>조립된 실행기(Dry-Run/파이프라인 포함)를 그대로 거치므로 측정/속도 제한/저널이 재생에도 적용된다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class ClickExecutorReplayOutput implements ReplayOutput {
+
+    private final ClickExecutor clickExecutor;
+    private final Map<MouseButton, ClickAction> clicks = new EnumMap<>(MouseButton.class);
+
+    private long ignored;
+
+    /**
+     * @param clickExecutor 클릭 실행 포트
+     * @throws NullPointerException clickExecutor가 null인 경우
+     */
+    public ClickExecutorReplayOutput(ClickExecutor clickExecutor) {
+        this.clickExecutor = Objects.requireNonNull(clickExecutor, "clickExecutor");
+        for (MouseButton button : MouseButton.values()) {
+            clicks.put(button, new ClickAction(button, 1, 0));
+        }
+    }
+
+    @Override
+    public void emit(InputEventType type, int x, int y, int code) {
+        MouseButton button = type == InputEventType.MOUSE_PRESS ? ReplayOutput.buttonOf(code) : null;
+        if (button == null) {
+            if (type != InputEventType.MOUSE_RELEASE) {
+                ignored++;
+            }
+            return;
+        }
+        clickExecutor.execute(clicks.get(button), new ScreenPoint(x, y));
+    }
+
+    /**
+     * 표현할 수 없어 무시한 이벤트 수를 반환한다(재생 스레드 기준 값).
+     *
+     * @return 무시한 이벤트 수
+     */
+    public long ignoredCount() {
+        return ignored;
+    }
+}
@@ -0,0 +1,80 @@
+package com.preview.mousemacroapp.service.replay;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 재생 마감 시각 대기 전략.
+ *
+ * <p>
+ * 실제 재생은 {@link System#nanoTime()}과 park + 짧은 spin을 사용하고,
+ * 테스트는 가상 시간을 앞당기는 구현을 주입하여 실시간 대기 없이 실행한다.
+ * </p>
+ *
+ * @since 0.9
+ */
+public interface DeadlineTimer {
+
+    /**
+     * @return 현재 단조 시각(ns)
+     */
+    long nanoTime();
+
+    /**
+     * 지정 시각까지 대기한다.
+     *
+     * @param deadlineNanos 마감 시각({@link #nanoTime()} 기준)
+     * @throws InterruptedException 대기 중 인터럽트된 경우(stop/pause/resume 신호)
+     */
+    void awaitDeadline(long deadlineNanos) throws InterruptedException;
+
+    /**
+     * 실제 시간을 사용하는 기본 전략을 반환한다.
+     *
+     * <p>
+     * OS 타이머 해상도(Windows 기본 약 1~15ms) 때문에 park만으로는 늦게 깨어나므로,
+     * 마감 {@code spinNanos} 전까지만 park하고 남은 구간은 {@link Thread#onSpinWait()}로 기다린다.
+     * </p>
+     *
+     * @return park + spin 전략(spin 구간 1ms)
+     */
+    static DeadlineTimer system() {
+        return system(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * spin 구간을 지정한 실제 시간 전략을 반환한다.
+     *
+     * @param spinNanos 마감 직전 spin 구간(ns, 0이면 park만 사용)
+     * @return park + spin 전략
+     * @throws IllegalArgumentException spinNanos가 음수인 경우
+     */
+    static DeadlineTimer system(long spinNanos) {
+        if (spinNanos < 0) {
+            throw new IllegalArgumentException("spinNanos는 0 이상이어야 한다. spinNanos=" + spinNanos);
+        }
+        return new DeadlineTimer() {
+            @Override
+            public long nanoTime() {
+                return System.nanoTime();
+            }
+
+            @Override
+            public void awaitDeadline(long deadlineNanos) throws InterruptedException {
+                long remaining;
+                while ((remaining = deadlineNanos - System.nanoTime()) > spinNanos) {
+                    LockSupport.parkNanos(remaining - spinNanos);
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                }
+                while (deadlineNanos - System.nanoTime() > 0) {
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                    Thread.onSpinWait();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,337 @@
+package com.preview.mousemacroapp.service.replay;
+
+import com.preview.mousemacroapp.debug.DebugLog;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기록 재생 엔진.
+ *
+ * <p><b>역할:</b></p>
+ * <ul>
+ *     <li>이벤트마다 절대 마감 시각(시작 시각 + 대기 누적 + 기록상 오프셋/배속)을 계산하고, 그 시각에 출력 포트로 내보낸다.</li>
+ *     <li>마감을 직전 이벤트 기준 상대 대기로 계산하지 않으므로, 출력 지연이 이후 이벤트로 누적되지 않는다.</li>
+ *     <li>일시정지/스케줄 대기 동안은 타임라인을 멈추고(대기 시간만큼 마감을 뒤로 민다), 재개 시 이어 간다.</li>
+ *     <li>이벤트별 지연과 끝 오차를 {@link ReplayReport}로 보고한다.</li>
+ * </ul>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>Service가 상태 전이를 제어하고, 엔진은 재생 루프와 실행 스레드만 담당한다({@code MacroRunner}와 같은 분담).</li>
+ *     <li>스케줄 판단은 {@value #SCHEDULE_CHECK_MILLIS}ms마다 1회만 한다(이동 이벤트마다 시각 객체를 만들지 않는다).</li>
+ *     <li>출력 포트 예외는 세고 기록한 뒤 다음 이벤트로 진행한다. 원본(파일 손상 등) 예외는 재생을 끝낸다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class ReplayEngine {
+
+    private static final long SCHEDULE_CHECK_MILLIS = 100;
+    private static final long PAUSE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long SCHEDULE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private final ReplayOutput output;
+    private final Clock clock;
+    private final DeadlineTimer timer;
+
+    private Thread worker;
+
+    private volatile boolean stopRequested;
+    private volatile boolean paused;
+    private volatile ReplayReport lastReport;
+
+    /**
+     * 실제 시간으로 재생하는 엔진을 생성한다.
+     *
+     * @param output 출력 포트
+     * @param clock  스케줄 판단용 시간 소스
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    public ReplayEngine(ReplayOutput output, Clock clock) {
+        this(output, clock, DeadlineTimer.system());
+    }
+
+    /**
+     * 대기 전략을 주입하여 엔진을 생성한다.
+     *
+     * @param output 출력 포트
+     * @param clock  스케줄 판단용 시간 소스
+     * @param timer  마감 시각 대기 전략
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    public ReplayEngine(ReplayOutput output, Clock clock, DeadlineTimer timer) {
+        this.output = Objects.requireNonNull(output, "output");
+        this.clock = Objects.requireNonNull(clock, "clock");
+        this.timer = Objects.requireNonNull(timer, "timer");
+    }
+
+    /**
+     * 재생 스레드를 시작한다.
+     *
+     * @param source      재생 원본(재생 스레드만 사용한다)
+     * @param options     재생 구성
+     * @param onCompleted 재생 종료(끝 도달/stop/예외) 시 재생 스레드에서 호출
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    public void start(ReplaySource source, ReplayOptions options, Runnable onCompleted) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(options, "options");
+        Objects.requireNonNull(onCompleted, "onCompleted");
+
+        stopRequested = false;
+        paused = false;
+
+        worker = new Thread(() -> {
+            try {
+                runLoop(source, options);
+            } finally {
+                // 역할: 정상 종료/stop 요청/예외 종료 모두 “종료 완료”를 Service에 알린다.
+                onCompleted.run();
+            }
+        }, "replay-runner");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * 재생을 호출 스레드에서 동기 실행한다.
+     *
+     * @param source  재생 원본
+     * @param options 재생 구성
+     * @return 재생 보고
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    public ReplayReport runOnCurrentThread(ReplaySource source, ReplayOptions options) {
+        Objects.requireNonNull(source, "source");
+        Objects.requireNonNull(options, "options");
+        stopRequested = false;
+        paused = false;
+        return runLoop(source, options);
+    }
+
+    public void requestStop() {
+        stopRequested = true;
+        interruptWorker();
+    }
+
+    public void pause() {
+        paused = true;
+        // 역할: 긴 유휴 간격 대기 중에도 즉시 멈추도록 대기를 끊는다(멈춘 시간은 타임라인에서 제외된다).
+        interruptWorker();
+    }
+
+    public void resume() {
+        paused = false;
+        interruptWorker();
+    }
+
+    /**
+     * 마지막으로 끝난 재생의 보고를 반환한다.
+     *
+     * @return 보고(재생 이력이 없으면 null)
+     */
+    public ReplayReport lastReport() {
+        return lastReport;
+    }
+
+    private void interruptWorker() {
+        Thread t = worker;
+        if (t != null) {
+            t.interrupt();
+        }
+    }
+
+    private ReplayReport runLoop(ReplaySource source, ReplayOptions options) {
+        double speed = options.speed();
+        long gapCap = options.idleGapCap().map(Duration::toNanos).orElse(Long.MAX_VALUE);
+        ExecutionSchedule schedule = options.schedule();
+        boolean alwaysAllowed = schedule instanceof ExecutionSchedule.Always;
+        LatenessStats lateness = new LatenessStats();
+
+        long origin = timer.nanoTime();
+        long held = 0;
+        long nextScheduleCheck = origin;
+
+        // 역할: 기록상 오프셋은 간격 상한만 적용한 값(배속 전)으로 누적하고, 마감 계산 시에만 배속을 나눈다.
+        long recordedOffset = 0;
+        long previousRecorded = 0;
+        boolean pending = false;
+        boolean started = false;
+
+        long emitted = 0;
+        long failures = 0;
+        long firstEmitRecorded = 0;
+        long lastEmitRecorded = 0;
+        long firstEmitOffset = 0;
+        long lastEmitOffset = 0;
+        long firstEmitAt = 0;
+        long lastEmitAt = 0;
+        long heldAtFirstEmit = 0;
+        long heldAtLastEmit = 0;
+        boolean completed = false;
+
+        DebugLog.log("REPLAY", () -> "replay start speed=" + speed + " idleGapCap=" + options.idleGapCap().orElse(null));
+
+        while (!stopRequested) {
+            if (!pending) {
+                try {
+                    if (!source.next()) {
+                        completed = true;
+                        break;
+                    }
+                } catch (RuntimeException ex) {
+                    DebugLog.log("REPLAY", () -> "source failed: " + ex.getMessage());
+                    break;
+                }
+                long recorded = source.timestampNanos();
+                if (started) {
+                    recordedOffset += Math.min(Math.max(0, recorded - previousRecorded), gapCap);
+                }
+                started = true;
+                previousRecorded = recorded;
+                pending = true;
+            }
+
+            long now = timer.nanoTime();
+            if (!alwaysAllowed && now - nextScheduleCheck >= 0) {
+                nextScheduleCheck = now + TimeUnit.MILLISECONDS.toNanos(SCHEDULE_CHECK_MILLIS);
+                if (!schedule.isAllowed(LocalTime.now(clock))) {
+                    held += holdWhileBlocked(schedule);
+                    continue;
+                }
+            }
+            if (paused) {
+                held += holdWhileBlocked(schedule);
+                continue;
+            }
+
+            long deadline = origin + held + scale(recordedOffset, speed);
+            if (now - deadline < 0) {
+                // 역할: 긴 유휴 간격 중에도 스케줄 창이 닫히면 멈추도록, 다음 스케줄 판단 시각에서 한 번 깨어난다.
+                long wakeAt = !alwaysAllowed && nextScheduleCheck - deadline < 0 ? nextScheduleCheck : deadline;
+                try {
+                    timer.awaitDeadline(wakeAt);
+                } catch (InterruptedException ignored) {
+                    // 역할: pause/stop/resume 신호. 상태를 다시 판단한 뒤 같은 이벤트의 마감을 다시 계산한다.
+                    continue;
+                }
+                if (wakeAt != deadline) {
+                    continue;
+                }
+                now = timer.nanoTime();
+            }
+
+            lateness.record(now - deadline);
+            try {
+                output.emit(source.type(), source.x(), source.y(), source.code());
+            } catch (RuntimeException ex) {
+                failures++;
+                DebugLog.log("REPLAY", () -> "output failed: " + ex.getMessage());
+            }
+            if (emitted == 0) {
+                firstEmitAt = now;
+                firstEmitRecorded = previousRecorded;
+                firstEmitOffset = recordedOffset;
+                heldAtFirstEmit = held;
+            }
+            emitted++;
+            lastEmitAt = now;
+            lastEmitRecorded = previousRecorded;
+            lastEmitOffset = recordedOffset;
+            heldAtLastEmit = held;
+            pending = false;
+        }
+
+        ReplayReport report = new ReplayReport(
+                emitted,
+                failures,
+                completed,
+                lastEmitRecorded - firstEmitRecorded,
+                scale(lastEmitOffset, speed) - scale(firstEmitOffset, speed),
+                (lastEmitAt - firstEmitAt) - (heldAtLastEmit - heldAtFirstEmit),
+                held,
+                lateness.mean(),
+                lateness.percentile(0.99),
+                lateness.max
+        );
+        lastReport = report;
+        DebugLog.log("REPLAY", () -> "replay end " + report.summary());
+        return report;
+    }
+
+    /**
+     * 일시정지가 풀리고 스케줄이 허용할 때까지(또는 stop까지) 기다린다.
+     *
+     * @return 기다린 시간(ns)
+     */
+    private long holdWhileBlocked(ExecutionSchedule schedule) {
+        long started = timer.nanoTime();
+        while (!stopRequested) {
+            long poll;
+            if (paused) {
+                poll = PAUSE_POLL_NANOS;
+            } else if (!schedule.isAllowed(LocalTime.now(clock))) {
+                poll = SCHEDULE_POLL_NANOS;
+            } else {
+                break;
+            }
+            try {
+                timer.awaitDeadline(timer.nanoTime() + poll);
+            } catch (InterruptedException ignored) {
+                // 역할: resume/stop 신호는 정상 흐름이며, 다음 반복에서 상태를 다시 판단한다.
+            }
+        }
+        return timer.nanoTime() - started;
+    }
+
+    private static long scale(long recordedOffset, double speed) {
+        if (speed == 1.0) {
+            return recordedOffset;
+        }
+        if (speed == ReplayOptions.MAX_SPEED) {
+            return 0;
+        }
+        return (long) (recordedOffset / speed);
+    }
+
+    /**
+     * 지연 분포(2의 거듭제곱 구간 히스토그램, 무할당 기록).
+     */
+    private static final class LatenessStats {
+
+        private final long[] buckets = new long[64];
+        private long count;
+        private long sum;
+        private long max;
+
+        void record(long latenessNanos) {
+            long value = Math.max(0, latenessNanos);
+            buckets[64 - Long.numberOfLeadingZeros(value)]++;
+            count++;
+            sum += value;
+            max = Math.max(max, value);
+        }
+
+        long mean() {
+            return count == 0 ? 0 : sum / count;
+        }
+
+        long percentile(double fraction) {
+            long target = (long) Math.ceil(count * fraction);
+            long seen = 0;
+            for (int bucket = 0; bucket < buckets.length; bucket++) {
+                seen += buckets[bucket];
+                if (seen >= target && seen > 0) {
+                    // 역할: 구간 상한으로 보고하되 실제 최대값을 넘지 않게 한다.
+                    return bucket == 0 ? 0 : Math.min(max, (1L << bucket) - 1);
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.preview.mousemacroapp.service.replay;
+
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 재생 구성.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>speed는 {@value #MIN_SPEED}배 이상이며, {@link #MAX_SPEED}는 대기 없이 최대한 빨리 내보낸다.</li>
+ *     <li>유휴 간격 상한이 있으면, 기록상 이벤트 간격이 상한보다 긴 구간은 상한으로 줄여 재생한다(배속 적용 전).</li>
+ *     <li>스케줄이 허용하지 않는 시간에는 재생을 멈추고, 다시 허용되면 멈춘 시점부터 이어 간다.</li>
+ * </ul>
+ *
+ * @param speed            재생 배속
+ * @param idleGapCapOrNull 유휴 간격 상한(제한 없으면 null)
+ * @param schedule         실행 허용 스케줄
+ * @since 0.9
+ */
+public record ReplayOptions(double speed, Duration idleGapCapOrNull, ExecutionSchedule schedule) {
+
+    /**
+     * 최소 배속.
+     */
+    public static final double MIN_SPEED = 0.25;
+
+    /**
+     * 최대 배속(대기 없음).
+     */
+    public static final double MAX_SPEED = Double.POSITIVE_INFINITY;
+
+    /**
+     * @throws NullPointerException     schedule이 null인 경우
+     * @throws IllegalArgumentException speed가 {@value #MIN_SPEED} 미만/NaN이거나 유휴 간격 상한이 0 이하인 경우
+     */
+    public ReplayOptions {
+        Objects.requireNonNull(schedule, "schedule");
+        if (!(speed >= MIN_SPEED)) {
+            throw new IllegalArgumentException("speed는 %s 이상이어야 한다. speed=%s".formatted(MIN_SPEED, speed));
+        }
+        if (idleGapCapOrNull != null && (idleGapCapOrNull.isNegative() || idleGapCapOrNull.isZero())) {
+            throw new IllegalArgumentException("유휴 간격 상한은 0보다 커야 한다. idleGapCap=" + idleGapCapOrNull);
+        }
+    }
+
+    /**
+     * 기록 그대로(1배속, 간격 상한 없음, 항상 허용) 재생하는 구성을 반환한다.
+     *
+     * @return 재생 구성
+     */
+    public static ReplayOptions realTime() {
+        return new ReplayOptions(1.0, null, new ExecutionSchedule.Always());
+    }
+
+    /**
+     * 유휴 간격 상한을 반환한다.
+     *
+     * @return 상한(제한 없으면 empty)
+     */
+    public Optional<Duration> idleGapCap() {
+        return Optional.ofNullable(idleGapCapOrNull);
+    }
+
+    /**
+     * 대기 없이 재생하는지 여부를 반환한다.
+     *
+     * @return {@link #MAX_SPEED}이면 true
+     */
+    public boolean unpaced() {
+        return speed == MAX_SPEED;
+    }
+}
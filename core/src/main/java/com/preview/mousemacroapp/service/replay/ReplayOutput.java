@@ -0,0 +1,44 @@
+package com.preview.mousemacroapp.service.replay;
+
+import com.preview.mousemacroapp.domain.action.MouseButton;
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+
+/**
+ * 재생 이벤트를 실제 입력(또는 Dry-Run)으로 내보내는 포트.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>재생 스레드에서 마감 시각마다 1건씩 호출된다. 오래 막히면 이후 이벤트가 그만큼 늦어진다.</li>
+ *     <li>지원하지 않는 종류는 조용히 무시한다(재생 자체를 멈추지 않는다).</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+@FunctionalInterface
+public interface ReplayOutput {
+
+    /**
+     * 이벤트 1건을 내보낸다.
+     *
+     * @param type 이벤트 종류
+     * @param x    화면 x 좌표
+     * @param y    화면 y 좌표
+     * @param code 종류별 값({@link InputEventType} 참고)
+     */
+    void emit(InputEventType type, int x, int y, int code);
+
+    /**
+     * 기록된 버튼 번호를 도메인 버튼으로 변환한다.
+     *
+     * @param code 버튼 번호(1=왼쪽, 2=오른쪽, 3=가운데)
+     * @return 버튼(알 수 없는 번호면 null)
+     */
+    static MouseButton buttonOf(int code) {
+        return switch (code) {
+            case 1 -> MouseButton.LEFT;
+            case 2 -> MouseButton.RIGHT;
+            case 3 -> MouseButton.MIDDLE;
+            default -> null;
+        };
+    }
+}
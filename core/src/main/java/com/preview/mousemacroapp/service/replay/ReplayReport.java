@@ -0,0 +1,60 @@
+package com.preview.mousemacroapp.service.replay;
+
+import java.time.Duration;
+
+/**
+ * 재생 결과와 시각 오차(drift) 보고.
+ *
+ * <p>
+ * 지연(lateness)은 이벤트를 내보내기 직전 시각 - 마감 시각이다.
+ * 끝 오차는 실제 재생 구간 길이(일시정지/스케줄 대기 제외) - 기대 구간 길이(배속/간격 상한 적용)이다.
+ * </p>
+ *
+ * @param events           내보낸 이벤트 수
+ * @param outputFailures   출력 포트가 예외를 던진 횟수
+ * @param completed        기록 끝까지 재생했으면 true(stop으로 끝나면 false)
+ * @param recordedNanos    내보낸 구간의 기록상 길이(ns)
+ * @param expectedNanos    배속/간격 상한을 적용한 기대 길이(ns)
+ * @param replayedNanos    실제 재생 길이(ns, 대기 구간 제외)
+ * @param heldNanos        일시정지/스케줄 대기로 멈춘 시간(ns)
+ * @param meanLatenessNanos 평균 지연(ns)
+ * @param p99LatenessNanos 99번째 백분위 지연 상한(ns, 2의 거듭제곱 구간 경계)
+ * @param maxLatenessNanos 최대 지연(ns)
+ * @since 0.9
+ */
+public record ReplayReport(
+        long events,
+        long outputFailures,
+        boolean completed,
+        long recordedNanos,
+        long expectedNanos,
+        long replayedNanos,
+        long heldNanos,
+        long meanLatenessNanos,
+        long p99LatenessNanos,
+        long maxLatenessNanos
+) {
+
+    /**
+     * 끝 오차(실제 - 기대)를 반환한다.
+     *
+     * @return 양수면 기대보다 늦게 끝났다
+     */
+    public Duration endDrift() {
+        return Duration.ofNanos(replayedNanos - expectedNanos);
+    }
+
+    /**
+     * 한 줄 요약을 반환한다(로그/CLI 출력용).
+     *
+     * @return 요약 문자열
+     */
+    public String summary() {
+        return "events=%d failures=%d completed=%s recordedMs=%d expectedMs=%d replayedMs=%d heldMs=%d"
+                .formatted(events, outputFailures, completed, recordedNanos / 1_000_000, expectedNanos / 1_000_000,
+                        replayedNanos / 1_000_000, heldNanos / 1_000_000)
+                + " driftUs=%d latencyUs(mean/p99/max)=%d/%d/%d"
+                .formatted(endDrift().toNanos() / 1_000, meanLatenessNanos / 1_000, p99LatenessNanos / 1_000,
+                        maxLatenessNanos / 1_000);
+    }
+}
@@ -0,0 +1,48 @@
+package com.preview.mousemacroapp.service.replay;
+
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+
+/**
+ * 재생할 기록 이벤트를 시각 순서대로 내주는 커서 포트.
+ *
+ * <p>
+ * 이벤트를 객체로 만들지 않고 현재 위치의 값을 접근자로 읽는다(이동 이벤트가 많아도 할당이 없다).
+ * 접근자 값은 {@link #next()}가 true를 반환한 뒤부터 다음 호출 전까지 유효하다.
+ * </p>
+ *
+ * @since 0.9
+ */
+public interface ReplaySource {
+
+    /**
+     * 다음 이벤트로 이동한다.
+     *
+     * @return 이벤트가 있으면 true, 기록 끝이면 false
+     */
+    boolean next();
+
+    /**
+     * @return 기록 시각(ns, 단조 증가 기준)
+     */
+    long timestampNanos();
+
+    /**
+     * @return 이벤트 종류
+     */
+    InputEventType type();
+
+    /**
+     * @return 화면 x 좌표
+     */
+    int x();
+
+    /**
+     * @return 화면 y 좌표
+     */
+    int y();
+
+    /**
+     * @return 종류별 값({@link InputEventType} 참고)
+     */
+    int code();
+}
@@ -0,0 +1,10 @@
+/**
+ * 입력 기록 재생(replay) 계층이다.
+ * <p>
+ * 기록 원본({@code ReplaySource})의 이벤트를 절대 마감 시각에 맞춰 출력 포트({@code ReplayOutput})로 내보낸다.
+ * 기록 파일 형식/OS 입력 장치에는 의존하지 않으며, 구현은 infra 계층에서 주입한다.
+ * </p>
+ *
+ * @since 0.9
+ */
+package com.preview.mousemacroapp.service.replay;
@@ -0,0 +1,147 @@
+package com.preview.mousemacroapp.service.script;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 병렬 분기 실행 범위(구조적 동시성).
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>분기마다 가상 스레드 1개로 실행하고, {@link #join(ScriptControl)}은 모든 분기가 끝날 때까지 돌아오지 않는다
+ *     (분기가 범위를 벗어나 살아남지 않는다).</li>
+ *     <li>한 분기가 예외로 끝나면 나머지 분기를 취소한다. 호출자에게는 첫 예외만 전달한다.</li>
+ *     <li>race 범위는 한 분기가 정상 종료하면 나머지 분기를 취소한다.</li>
+ *     <li>분기가 범위 취소가 아닌 이유(상위 중단 요청)로 멈추면 나머지 분기도 취소하고 상위에 중단을 전달한다.</li>
+ *     <li>취소는 플래그 + 인터럽트다. 분기 제어({@link #control(ScriptControl)})가 플래그를 보고
+ *     다음 중단 지점/대기에서 멈춘다(진행 중인 동작 1건은 끝까지 내보낸다).</li>
+ *     <li>JDK 21의 {@code StructuredTaskScope}는 미리보기 API이므로 같은 의미(ShutdownOnFailure/ShutdownOnSuccess)를 직접 구현한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+final class BranchScope {
+
+    /**
+     * 분기 본문.
+     */
+    interface Task {
+        void run() throws Throwable;
+    }
+
+    private final boolean race;
+    private final Thread.Builder builder = Thread.ofVirtual().name("macro-branch-", 0);
+    // 역할: 분기 스레드가 시작 중인 목록을 돌며 취소할 수 있으므로 복사 후 쓰기 목록을 쓴다.
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private volatile boolean cancelled;
+    private volatile boolean stopped;
+
+    BranchScope(boolean race) {
+        this.race = race;
+    }
+
+    /**
+     * 분기를 시작한다(범위를 연 스레드에서만 호출한다).
+     */
+    void fork(Task task) {
+        Thread thread = builder.unstarted(() -> runBranch(task));
+        threads.add(thread);
+        thread.start();
+    }
+
+    /**
+     * 상위 제어에 범위 취소를 더한 분기용 제어를 만든다.
+     */
+    ScriptControl control(ScriptControl parent) {
+        return new ScriptControl() {
+            @Override
+            public boolean checkpoint() {
+                return !cancelled && parent.checkpoint() && !cancelled;
+            }
+
+            @Override
+            public boolean sleep(long millis) {
+                // 역할: 취소 인터럽트를 삼키는 대기 전략도 있으므로, 대기 후 취소 플래그를 다시 본다.
+                return !cancelled && parent.sleep(millis) && !cancelled;
+            }
+        };
+    }
+
+    /**
+     * 모든 분기를 취소한다.
+     */
+    void cancel() {
+        cancelled = true;
+        for (Thread thread : threads) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * 모든 분기가 끝날 때까지 기다린다.
+     *
+     * <p>
+     * 기다리는 동안 받은 인터럽트는 stop/resume 신호로 보고 상위 제어로 판단한다.
+     * 중단 요청이면 모든 분기를 취소한 뒤 끝날 때까지 계속 기다린다.
+     * </p>
+     *
+     * @param parent 범위를 연 스레드의 제어
+     */
+    void join(ScriptControl parent) {
+        for (Thread thread : threads) {
+            while (true) {
+                try {
+                    thread.join();
+                    break;
+                } catch (InterruptedException ex) {
+                    if (!parent.checkpoint()) {
+                        stopped = true;
+                        cancel();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 분기 실패/중단을 범위를 연 스레드에 전달한다({@link #join(ScriptControl)} 후 호출).
+     *
+     * @throws ScriptCompiler.Stop 상위 중단 요청으로 분기가 멈춘 경우
+     */
+    void throwIfFailed() {
+        Throwable first = failure.get();
+        if (first instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (first instanceof Error error) {
+            throw error;
+        }
+        if (first != null) {
+            throw new IllegalStateException("분기 실행 중 검사 예외가 발생했다.", first);
+        }
+        if (stopped) {
+            throw ScriptCompiler.Stop.INSTANCE;
+        }
+    }
+
+    private void runBranch(Task task) {
+        try {
+            task.run();
+            if (race) {
+                cancel();
+            }
+        } catch (ScriptCompiler.Stop stop) {
+            if (!cancelled) {
+                stopped = true;
+                cancel();
+            }
+        } catch (Throwable ex) {
+            if (failure.compareAndSet(null, ex)) {
+                cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.preview.mousemacroapp.service.script;
+
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.service.ClickExecutor;
+import com.preview.mousemacroapp.service.SerializedClickExecutor;
+
+import java.lang.invoke.MethodHandle;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * 컴파일된 매크로 스크립트.
+ *
+ * <p><b>예시</b></p>
+ * <pre>
+ * let x = 100
+ * repeat 10 {
+ *     click x, 200
+ *     wait 50 + rand(0, 30)
+ *     x = x + 40
+ *     if x &gt; 400 { x = 100 }
+ * }
+ * click 640, 360 right
+ * type "done\n"
+ * parallel {
+ *     branch { repeat 20 { click 100, 100  wait 300 } }
+ *     branch { repeat 6 { type "a"  wait 1000 } }
+ * }
+ * </pre>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>문법 오류는 {@link #compile(String)}에서 행/열과 함께 {@link IllegalArgumentException}으로 알린다.</li>
+ *     <li>실행은 구문 트리를 순회하지 않고 컴파일된 {@link MethodHandle} 트리를 한 번 호출한다.
+ *     실행마다 변수 프레임 1개만 만들고, 동작은 좌표 객체 없이
+ *     {@link ClickExecutor#perform(com.preview.mousemacroapp.domain.action.MacroAction, int, int)}로 내보낸다.</li>
+ *     <li>컴파일 결과는 불변이며 여러 스레드가 각자 실행해도 된다(프레임은 실행마다 따로 만든다).</li>
+ *     <li>실행 중 예외(0으로 나누기, 실행기 예외 등)는 호출자에게 그대로 전달한다.</li>
+ *     <li>{@code parallel}/{@code race} 분기는 가상 스레드에서 실행한다. 중단 요청은 모든 분기를 멈추고,
+ *     한 분기의 예외는 나머지 분기를 취소한 뒤 호출자에게 전달된다.
+ *     분기가 있는 스크립트는 실행기를 {@link SerializedClickExecutor}로 감싸 동작 1건씩 차례로 내보낸다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+public final class MacroScript {
+
+    private final List<String> variables;
+    private final List<MacroAction> actions;
+    private final MethodHandle body;
+    private final boolean parallel;
+
+    private MacroScript(List<String> variables, List<MacroAction> actions, MethodHandle body, boolean parallel) {
+        this.variables = variables;
+        this.actions = actions;
+        this.body = body;
+        this.parallel = parallel;
+    }
+
+    /**
+     * 스크립트를 파싱하고 컴파일한다.
+     *
+     * @param source 스크립트 본문
+     * @return 컴파일된 스크립트
+     * @throws NullPointerException     source가 null인 경우
+     * @throws IllegalArgumentException 문법 오류가 있는 경우(메시지에 행/열 포함)
+     */
+    public static MacroScript compile(String source) {
+        Objects.requireNonNull(source, "source");
+        ScriptParser.Parsed parsed = ScriptParser.parse(source);
+        LinkedHashSet<MacroAction> actions = new LinkedHashSet<>();
+        collectActions(parsed.root(), actions);
+        return new MacroScript(parsed.variables(), List.copyOf(actions),
+                ScriptCompiler.compile(parsed.root()), parsed.parallel());
+    }
+
+    /**
+     * @return 선언된 변수 이름(선언 순서)
+     */
+    public List<String> variables() {
+        return variables;
+    }
+
+    /**
+     * 스크립트에 쓰인 동작을 반환한다(실행 전 실행기 지원 여부 검사용).
+     *
+     * @return 동작(처음 나온 순서, 같은 값은 1번만)
+     * @since 0.9
+     */
+    public List<MacroAction> actions() {
+        return actions;
+    }
+
+    /**
+     * @return 병렬 분기({@code parallel}/{@code race})가 있으면 true
+     */
+    public boolean hasParallelBranches() {
+        return parallel;
+    }
+
+    /**
+     * 스크립트를 호출 스레드에서 실행한다(병렬 분기는 가상 스레드에서 실행하고 모두 끝날 때까지 기다린다).
+     *
+     * @param executor 동작 실행기
+     * @param random   랜덤 소스({@code rand})
+     * @param control  일시정지/중단/대기 제어
+     * @return 실행 결과(중단되었으면 completed=false)
+     * @throws NullPointerException 인자가 null인 경우
+     */
+    public ScriptResult run(ClickExecutor executor, Random random, ScriptControl control) {
+        Objects.requireNonNull(executor, "executor");
+        Objects.requireNonNull(random, "random");
+        Objects.requireNonNull(control, "control");
+
+        ClickExecutor dispatch = parallel ? SerializedClickExecutor.of(executor) : executor;
+        ScriptCompiler.Frame frame = new ScriptCompiler.Frame(variables.size(), dispatch, random, control);
+        boolean completed;
+        try {
+            body.invokeExact(frame);
+            completed = true;
+        } catch (ScriptCompiler.Stop stop) {
+            completed = false;
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable unexpected) {
+            throw new IllegalStateException("스크립트 실행 중 검사 예외가 발생했다.", unexpected);
+        }
+        return new ScriptResult(frame.actions, completed, variables, frame.variables);
+    }
+
+    private static void collectActions(ScriptNode.Statement statement, LinkedHashSet<MacroAction> actions) {
+        switch (statement) {
+            case ScriptNode.Block block -> {
+                for (ScriptNode.Statement child : block.statements()) {
+                    collectActions(child, actions);
+                }
+            }
+            case ScriptNode.Perform perform -> actions.add(perform.action());
+            case ScriptNode.PerformFixed perform -> actions.add(perform.action());
+            case ScriptNode.Repeat repeat -> collectActions(repeat.body(), actions);
+            case ScriptNode.While loop -> collectActions(loop.body(), actions);
+            case ScriptNode.If branch -> {
+                collectActions(branch.then(), actions);
+                collectActions(branch.otherwise(), actions);
+            }
+            case ScriptNode.Parallel parallel -> {
+                for (ScriptNode.Block child : parallel.branches()) {
+                    collectActions(child, actions);
+                }
+            }
+            case ScriptNode.Assign ignored -> {
+                // 역할: 동작이 없는 문장.
+            }
+            case ScriptNode.Wait ignored -> {
+                // 역할: 동작이 없는 문장.
+            }
+        }
+    }
+}
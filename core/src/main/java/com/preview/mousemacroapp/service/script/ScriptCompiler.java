@@ -0,0 +1,359 @@
+package com.preview.mousemacroapp.service.script;
+
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.service.ClickExecutor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 구문 트리를 {@link MethodHandle} 조합 트리로 컴파일한다.
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>문장은 {@code (Frame)void}, 식은 {@code (Frame)int} 핸들이 된다.
+ *     변수는 프레임의 int 배열 슬롯이며, 상수/동작 객체는 핸들에 묶어(bind) 실행 시 찾지 않는다.</li>
+ *     <li>블록은 {@link MethodHandles#foldArguments}를 균형 트리로 묶어 깊이를 log(문장 수)로 유지한다(인라인 깊이 제한 대비).</li>
+ *     <li>반복/조건은 {@link MethodHandles#countedLoop}/{@link MethodHandles#whileLoop}/{@link MethodHandles#guardWithTest}를 쓴다.
+ *     {@code &&}/{@code ||}도 guardWithTest로 단락 평가한다.</li>
+ *     <li>동작/대기 전에 중단 지점을 두고, 동작이 없는 반복문은 매 회차 중단 지점을 둔다(무한 루프도 stop으로 끝난다).</li>
+ *     <li>병렬 분기는 분기마다 자식 프레임(변수 복사본, 부모 랜덤에서 뽑은 씨앗의 랜덤, 범위 취소가 더해진 제어)을 만들어
+ *     {@link BranchScope}로 실행한다. 분기 안 변수 변경은 부모에 돌아오지 않고, 동작 수만 합산한다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+final class ScriptCompiler {
+
+    private static final MethodType STATEMENT = MethodType.methodType(void.class, Frame.class);
+    private static final MethodType EXPRESSION = MethodType.methodType(int.class, Frame.class);
+
+    private static final MethodHandle NOOP = MethodHandles.empty(STATEMENT);
+    private static final MethodHandle FRAME = MethodHandles.identity(Frame.class);
+    private static final MethodHandle FALSE = MethodHandles.dropArguments(
+            MethodHandles.constant(int.class, 0), 0, Frame.class);
+    private static final MethodHandle TRUE = MethodHandles.dropArguments(
+            MethodHandles.constant(int.class, 1), 0, Frame.class);
+
+    private static final MethodHandle LOAD;
+    private static final MethodHandle STORE;
+    private static final MethodHandle PERFORM;
+    private static final MethodHandle PERFORM_FIXED;
+    private static final MethodHandle WAIT;
+    private static final MethodHandle CHECKPOINT;
+    private static final MethodHandle PARALLEL;
+    private static final MethodHandle RANDOM;
+    private static final MethodHandle TRUTHY;
+    private static final MethodHandle TO_INT;
+    private static final MethodHandle NEGATE;
+    private static final MethodHandle NOT;
+    private static final MethodHandle[] BINARY = new MethodHandle[128];
+
+    static {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            MethodType intOp = MethodType.methodType(int.class, int.class, int.class);
+            LOAD = lookup.findStatic(ScriptCompiler.class, "load", MethodType.methodType(int.class, Frame.class, int.class));
+            STORE = lookup.findStatic(ScriptCompiler.class, "store",
+                    MethodType.methodType(void.class, Frame.class, int.class, int.class));
+            PERFORM = lookup.findStatic(ScriptCompiler.class, "perform",
+                    MethodType.methodType(void.class, Frame.class, MacroAction.class, int.class, int.class));
+            PERFORM_FIXED = lookup.findStatic(ScriptCompiler.class, "performFixed",
+                    MethodType.methodType(void.class, Frame.class, MacroAction.class));
+            WAIT = lookup.findStatic(ScriptCompiler.class, "await", MethodType.methodType(void.class, Frame.class, int.class));
+            CHECKPOINT = lookup.findStatic(ScriptCompiler.class, "checkpoint", STATEMENT);
+            PARALLEL = lookup.findStatic(ScriptCompiler.class, "parallel",
+                    MethodType.methodType(void.class, Frame.class, MethodHandle[].class, boolean.class));
+            RANDOM = lookup.findStatic(ScriptCompiler.class, "random",
+                    MethodType.methodType(int.class, Frame.class, int.class, int.class));
+            TRUTHY = lookup.findStatic(ScriptCompiler.class, "truthy", MethodType.methodType(boolean.class, int.class));
+            TO_INT = lookup.findStatic(ScriptCompiler.class, "toInt", MethodType.methodType(int.class, boolean.class));
+            NEGATE = lookup.findStatic(ScriptCompiler.class, "negate", MethodType.methodType(int.class, int.class));
+            NOT = lookup.findStatic(ScriptCompiler.class, "not", MethodType.methodType(int.class, int.class));
+            String[][] operators = {{"+", "add"}, {"-", "subtract"}, {"*", "multiply"}, {"/", "divide"},
+                    {"%", "remainder"}, {"<", "less"}, {">", "greater"}, {"L", "lessOrEqual"},
+                    {"G", "greaterOrEqual"}, {"=", "equal"}, {"!", "notEqual"}};
+            for (String[] operator : operators) {
+                BINARY[operator[0].charAt(0)] = lookup.findStatic(ScriptCompiler.class, operator[1], intOp);
+            }
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
+    private ScriptCompiler() {
+    }
+
+    /**
+     * 최상위 블록을 {@code (Frame)void} 핸들로 컴파일한다.
+     */
+    static MethodHandle compile(ScriptNode.Block root) {
+        return statement(root);
+    }
+
+    private static MethodHandle statement(ScriptNode.Statement node) {
+        return switch (node) {
+            case ScriptNode.Block block -> {
+                List<MethodHandle> parts = new ArrayList<>(block.statements().size());
+                for (ScriptNode.Statement statement : block.statements()) {
+                    parts.add(statement(statement));
+                }
+                yield sequence(parts, 0, parts.size());
+            }
+            case ScriptNode.Assign assign ->
+                    apply(MethodHandles.insertArguments(STORE, 1, assign.slot()), FRAME, expression(assign.value()));
+            case ScriptNode.Perform perform -> apply(MethodHandles.insertArguments(PERFORM, 1, perform.action()),
+                    FRAME, expression(perform.x()), expression(perform.y()));
+            case ScriptNode.PerformFixed perform -> MethodHandles.insertArguments(PERFORM_FIXED, 1, perform.action());
+            case ScriptNode.Wait wait -> apply(WAIT, FRAME, expression(wait.millis()));
+            case ScriptNode.Repeat repeat -> MethodHandles.countedLoop(expression(repeat.count()), null,
+                    MethodHandles.dropArguments(loopBody(repeat.body()), 0, int.class));
+            case ScriptNode.While loop -> MethodHandles.whileLoop(null, condition(loop.condition()), loopBody(loop.body()));
+            case ScriptNode.If branch -> MethodHandles.guardWithTest(condition(branch.condition()),
+                    statement(branch.then()), statement(branch.otherwise()));
+            case ScriptNode.Parallel parallel -> {
+                MethodHandle[] branches = new MethodHandle[parallel.branches().size()];
+                for (int i = 0; i < branches.length; i++) {
+                    branches[i] = statement(parallel.branches().get(i));
+                }
+                yield MethodHandles.insertArguments(PARALLEL, 1, branches, parallel.race());
+            }
+        };
+    }
+
+    private static MethodHandle loopBody(ScriptNode.Statement body) {
+        MethodHandle compiled = statement(body);
+        // 역할: 동작/대기가 있으면 그 안에서 중단 지점을 지나므로, 없는 경우에만 회차마다 중단 지점을 둔다.
+        return yields(body) ? compiled : MethodHandles.foldArguments(compiled, CHECKPOINT);
+    }
+
+    private static MethodHandle expression(ScriptNode.Expression node) {
+        return switch (node) {
+            case ScriptNode.Literal literal ->
+                    MethodHandles.dropArguments(MethodHandles.constant(int.class, literal.value()), 0, Frame.class);
+            case ScriptNode.Variable variable -> MethodHandles.insertArguments(LOAD, 1, variable.slot());
+            case ScriptNode.Unary unary -> MethodHandles.filterReturnValue(expression(unary.operand()),
+                    unary.operator() == '-' ? NEGATE : NOT);
+            case ScriptNode.Binary binary -> switch (binary.operator()) {
+                case '&' -> MethodHandles.guardWithTest(condition(binary.left()),
+                        MethodHandles.filterReturnValue(condition(binary.right()), TO_INT), FALSE);
+                case '|' -> MethodHandles.guardWithTest(condition(binary.left()),
+                        TRUE, MethodHandles.filterReturnValue(condition(binary.right()), TO_INT));
+                default -> apply(BINARY[binary.operator()], expression(binary.left()), expression(binary.right()));
+            };
+            case ScriptNode.Random random ->
+                    apply(RANDOM, FRAME, expression(random.min()), expression(random.max()));
+        };
+    }
+
+    private static MethodHandle condition(ScriptNode.Expression node) {
+        return MethodHandles.filterReturnValue(expression(node), TRUTHY);
+    }
+
+    /**
+     * 각 인자를 {@code (Frame)Pi} 핸들로 계산해 target에 넘기는 {@code (Frame)R} 핸들을 만든다.
+     */
+    private static MethodHandle apply(MethodHandle target, MethodHandle... arguments) {
+        MethodHandle filtered = MethodHandles.filterArguments(target, 0, arguments);
+        return MethodHandles.permuteArguments(filtered,
+                MethodType.methodType(target.type().returnType(), Frame.class), new int[arguments.length]);
+    }
+
+    private static MethodHandle sequence(List<MethodHandle> parts, int from, int to) {
+        if (from == to) {
+            return NOOP;
+        }
+        if (to - from == 1) {
+            return parts.get(from);
+        }
+        int middle = (from + to) >>> 1;
+        return MethodHandles.foldArguments(sequence(parts, middle, to), sequence(parts, from, middle));
+    }
+
+    /**
+     * 문장 안에 중단 지점(동작/대기)이 반드시 지나가는지 판단한다.
+     */
+    private static boolean yields(ScriptNode.Statement node) {
+        return switch (node) {
+            case ScriptNode.Block block -> block.statements().stream().anyMatch(ScriptCompiler::isYieldPoint);
+            default -> isYieldPoint(node);
+        };
+    }
+
+    private static boolean isYieldPoint(ScriptNode.Statement node) {
+        return node instanceof ScriptNode.Perform || node instanceof ScriptNode.PerformFixed
+                || node instanceof ScriptNode.Wait || node instanceof ScriptNode.Parallel;
+    }
+
+    /**
+     * 실행 프레임(변수 슬롯 + 실행 대상). 실행 1회마다 하나 만든다.
+     */
+    static final class Frame {
+
+        final int[] variables;
+        final ClickExecutor executor;
+        final Random random;
+        final ScriptControl control;
+        long actions;
+
+        Frame(int slots, ClickExecutor executor, Random random, ScriptControl control) {
+            this(new int[slots], executor, random, control);
+        }
+
+        private Frame(int[] variables, ClickExecutor executor, Random random, ScriptControl control) {
+            this.variables = variables;
+            this.executor = executor;
+            this.random = random;
+            this.control = control;
+        }
+
+        /**
+         * 분기용 자식 프레임을 만든다(부모 스레드에서 호출).
+         */
+        Frame fork(ScriptControl branchControl) {
+            return new Frame(variables.clone(), executor, new Random(random.nextLong()), branchControl);
+        }
+    }
+
+    /**
+     * 중단 신호(스택 추적 없음, 재사용).
+     */
+    static final class Stop extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        static final Stop INSTANCE = new Stop();
+
+        private Stop() {
+            super("script stop", null, false, false);
+        }
+    }
+
+    private static int load(Frame frame, int slot) {
+        return frame.variables[slot];
+    }
+
+    private static void store(Frame frame, int slot, int value) {
+        frame.variables[slot] = value;
+    }
+
+    private static void perform(Frame frame, MacroAction action, int x, int y) {
+        checkpoint(frame);
+        frame.executor.perform(action, x, y);
+        frame.actions++;
+    }
+
+    private static void performFixed(Frame frame, MacroAction action) {
+        perform(frame, action, 0, 0);
+    }
+
+    private static void await(Frame frame, int millis) {
+        checkpoint(frame);
+        if (millis > 0 && !frame.control.sleep(millis)) {
+            throw Stop.INSTANCE;
+        }
+    }
+
+    private static void checkpoint(Frame frame) {
+        if (!frame.control.checkpoint()) {
+            throw Stop.INSTANCE;
+        }
+    }
+
+    private static void parallel(Frame frame, MethodHandle[] branches, boolean race) {
+        checkpoint(frame);
+        BranchScope scope = new BranchScope(race);
+        Frame[] children = new Frame[branches.length];
+        try {
+            for (int i = 0; i < branches.length; i++) {
+                Frame child = frame.fork(scope.control(frame.control));
+                MethodHandle body = branches[i];
+                children[i] = child;
+                scope.fork(() -> {
+                    body.invokeExact(child);
+                });
+            }
+        } catch (RuntimeException | Error ex) {
+            scope.cancel();
+            throw ex;
+        } finally {
+            // 역할: 분기 시작이 실패해도 이미 시작한 분기가 끝난 뒤에 벗어난다.
+            scope.join(frame.control);
+        }
+        for (Frame child : children) {
+            frame.actions += child.actions;
+        }
+        scope.throwIfFailed();
+    }
+
+    private static int random(Frame frame, int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("rand(min, max)는 min <= max 이어야 한다. min=" + min + ", max=" + max);
+        }
+        return (int) (min + frame.random.nextLong((long) max - min + 1));
+    }
+
+    private static boolean truthy(int value) {
+        return value != 0;
+    }
+
+    private static int toInt(boolean value) {
+        return value ? 1 : 0;
+    }
+
+    private static int negate(int value) {
+        return -value;
+    }
+
+    private static int not(int value) {
+        return value == 0 ? 1 : 0;
+    }
+
+    private static int add(int a, int b) {
+        return a + b;
+    }
+
+    private static int subtract(int a, int b) {
+        return a - b;
+    }
+
+    private static int multiply(int a, int b) {
+        return a * b;
+    }
+
+    private static int divide(int a, int b) {
+        return a / b;
+    }
+
+    private static int remainder(int a, int b) {
+        return a % b;
+    }
+
+    private static int less(int a, int b) {
+        return a < b ? 1 : 0;
+    }
+
+    private static int greater(int a, int b) {
+        return a > b ? 1 : 0;
+    }
+
+    private static int lessOrEqual(int a, int b) {
+        return a <= b ? 1 : 0;
+    }
+
+    private static int greaterOrEqual(int a, int b) {
+        return a >= b ? 1 : 0;
+    }
+
+    private static int equal(int a, int b) {
+        return a == b ? 1 : 0;
+    }
+
+    private static int notEqual(int a, int b) {
+        return a != b ? 1 : 0;
+    }
+}
@@ -0,0 +1,63 @@
+package com.preview.mousemacroapp.service.script;
+
+import com.preview.mousemacroapp.service.Sleeper;
+
+import java.util.Objects;
+
+/**
+ * 스크립트 실행 제어(일시정지/중단/대기) 전략.
+ *
+ * <p>
+ * 스크립트는 동작/대기 전과 동작이 없는 반복문의 매 회차마다 {@link #checkpoint()}를 호출한다.
+ * Runner는 자신의 일시정지/중단 상태로 구현하고, 테스트/측정은 {@link #of(Sleeper)}를 쓴다.
+ * </p>
+ *
+ * @since 0.9
+ */
+public interface ScriptControl {
+
+    /**
+     * 계속 실행할지 판단한다(일시정지 중이면 풀릴 때까지 기다린다).
+     *
+     * @return 계속하면 true, 중단 요청이면 false
+     */
+    boolean checkpoint();
+
+    /**
+     * 지정 시간 동안 기다린다.
+     *
+     * @param millis 대기 시간(ms, 1 이상)
+     * @return 계속하면 true, 대기 중 중단 요청을 받았으면 false
+     */
+    boolean sleep(long millis);
+
+    /**
+     * 중단하지 않고 주어진 대기 전략만 쓰는 제어를 반환한다.
+     *
+     * <p>대기 중 인터럽트되면 인터럽트 상태를 복원하고 중단한다.</p>
+     *
+     * @param sleeper 대기 전략
+     * @return 제어
+     * @throws NullPointerException sleeper가 null인 경우
+     */
+    static ScriptControl of(Sleeper sleeper) {
+        Objects.requireNonNull(sleeper, "sleeper");
+        return new ScriptControl() {
+            @Override
+            public boolean checkpoint() {
+                return true;
+            }
+
+            @Override
+            public boolean sleep(long millis) {
+                try {
+                    sleeper.sleep(millis);
+                    return true;
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        };
+    }
+}
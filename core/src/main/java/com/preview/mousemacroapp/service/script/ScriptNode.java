@@ -0,0 +1,81 @@
+package com.preview.mousemacroapp.service.script;
+
+import com.preview.mousemacroapp.domain.action.MacroAction;
+
+import java.util.List;
+
+/**
+ * 스크립트 구문 트리(파서 출력, 컴파일러 입력).
+ *
+ * <p>변수는 파싱 시점에 슬롯 번호로 바뀌며, 동작 값은 파싱 시점에 만든 상수로 담는다.</p>
+ *
+ * @since 0.9
+ */
+sealed interface ScriptNode {
+
+    /**
+     * 문장.
+     */
+    sealed interface Statement extends ScriptNode {
+    }
+
+    /**
+     * 정수 식(참/거짓은 0이 아니면 참).
+     */
+    sealed interface Expression extends ScriptNode {
+    }
+
+    record Block(List<Statement> statements) implements Statement {
+    }
+
+    record Assign(int slot, Expression value) implements Statement {
+    }
+
+    /**
+     * 좌표가 필요한 동작(클릭/스크롤).
+     */
+    record Perform(MacroAction action, Expression x, Expression y) implements Statement {
+    }
+
+    /**
+     * 좌표가 필요 없는 동작(키보드).
+     */
+    record PerformFixed(MacroAction action) implements Statement {
+    }
+
+    record Wait(Expression millis) implements Statement {
+    }
+
+    record Repeat(Expression count, Statement body) implements Statement {
+    }
+
+    record While(Expression condition, Statement body) implements Statement {
+    }
+
+    record If(Expression condition, Statement then, Statement otherwise) implements Statement {
+    }
+
+    /**
+     * 병렬 분기. race가 false면 모든 분기가 끝날 때까지, true면 한 분기가 끝날 때까지 기다린다.
+     */
+    record Parallel(List<Block> branches, boolean race) implements Statement {
+    }
+
+    record Literal(int value) implements Expression {
+    }
+
+    record Variable(int slot) implements Expression {
+    }
+
+    record Unary(char operator, Expression operand) implements Expression {
+    }
+
+    /**
+     * 이항 연산. operator는 {@code + - * / % < > L(<=) G(>=) = (==) ! (!=) & (&&) | (||)}.
+     */
+    record Binary(char operator, Expression left, Expression right) implements Expression {
+    }
+
+    record Random(Expression min, Expression max) implements Expression {
+    }
+}
@@ -0,0 +1,495 @@
+package com.preview.mousemacroapp.service.script;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.KeyAction;
+import com.preview.mousemacroapp.domain.action.MouseButton;
+import com.preview.mousemacroapp.domain.action.ScrollAction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 스크립트 파서(재귀 하강, 한 번 읽기).
+ *
+ * <p><b>문법</b></p>
+ * <pre>
+ * script    := statement*
+ * statement := 'let' NAME '=' expr | NAME '=' expr
+ *            | 'click' expr ',' expr ('left'|'right'|'middle'|'double'|'hold' INT)*
+ *            | 'scroll' expr ',' expr ',' INT
+ *            | 'type' STRING | 'wait' expr
+ *            | 'repeat' expr block | 'while' expr block
+ *            | 'if' expr block ('else' (block | if-statement))?
+ *            | ('parallel' | 'race') '{' ('branch' block)+ '}'
+ * block     := '{' statement* '}'
+ * expr      := 단항 - ! / 이항 * / % + - &lt; &lt;= &gt; &gt;= == != &amp;&amp; || / 괄호 / rand(a, b)
+ * </pre>
+ *
+ * <p><b>정책</b></p>
+ * <ul>
+ *     <li>변수는 {@code let}으로 한 번만 선언하며, 선언 전 사용/재선언은 오류다(스크립트 전체가 한 범위).</li>
+ *     <li>{@code #}부터 줄 끝까지는 주석이다. 문장 구분 기호는 없다.</li>
+ *     <li>동작 값(클릭 종류/스크롤 칸 수/입력 문자열)은 상수만 받아 파싱 시점에 동작 객체로 만든다.</li>
+ *     <li>오류는 행/열을 담은 {@link IllegalArgumentException}으로 알린다.</li>
+ *     <li>{@code branch}는 {@code parallel}/{@code race} 블록 바로 안에만 올 수 있다.</li>
+ * </ul>
+ *
+ * @since 0.9
+ */
+final class ScriptParser {
+
+    private static final Set<String> KEYWORDS = Set.of(
+            "let", "click", "scroll", "type", "wait", "repeat", "while", "if", "else", "rand",
+            "left", "right", "middle", "double", "hold", "parallel", "race", "branch");
+
+    private enum Kind {NUMBER, NAME, STRING, SYMBOL, END}
+
+    private final String source;
+    private int position;
+    private int line = 1;
+    private int lineStart;
+
+    private Kind kind;
+    private String text;
+    private int number;
+    private int tokenLine;
+    private int tokenColumn;
+
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final List<String> variables = new ArrayList<>();
+    private boolean parallel;
+
+    private ScriptParser(String source) {
+        this.source = source;
+    }
+
+    /**
+     * 파싱 결과.
+     *
+     * @param root      최상위 블록
+     * @param variables 변수 이름(슬롯 순서)
+     * @param parallel  병렬 분기({@code parallel}/{@code race})가 있으면 true
+     */
+    record Parsed(ScriptNode.Block root, List<String> variables, boolean parallel) {
+    }
+
+    static Parsed parse(String source) {
+        ScriptParser parser = new ScriptParser(source);
+        parser.advance();
+        List<ScriptNode.Statement> statements = new ArrayList<>();
+        while (parser.kind != Kind.END) {
+            statements.add(parser.statement());
+        }
+        return new Parsed(new ScriptNode.Block(List.copyOf(statements)), List.copyOf(parser.variables), parser.parallel);
+    }
+
+    private ScriptNode.Statement statement() {
+        if (kind != Kind.NAME) {
+            throw error("문장이 와야 한다");
+        }
+        String word = text;
+        switch (word) {
+            case "let" -> {
+                advance();
+                String name = expectName();
+                if (slots.containsKey(name)) {
+                    throw error("이미 선언한 변수다: " + name);
+                }
+                expectSymbol("=");
+                ScriptNode.Expression value = expression();
+                // 역할: 초기값 식 안에서 자기 자신을 쓰지 못하도록 식을 읽은 뒤에 선언한다.
+                slots.put(name, variables.size());
+                variables.add(name);
+                return new ScriptNode.Assign(slots.get(name), value);
+            }
+            case "click" -> {
+                advance();
+                return click();
+            }
+            case "scroll" -> {
+                advance();
+                ScriptNode.Expression x = expression();
+                expectSymbol(",");
+                ScriptNode.Expression y = expression();
+                expectSymbol(",");
+                int notches = expectInteger();
+                if (notches == 0) {
+                    throw error("스크롤 칸 수는 0일 수 없다");
+                }
+                return new ScriptNode.Perform(new ScrollAction(notches, 0), x, y);
+            }
+            case "type" -> {
+                advance();
+                if (kind != Kind.STRING) {
+                    throw error("입력할 문자열이 와야 한다");
+                }
+                String value = text;
+                int valueLine = tokenLine;
+                int valueColumn = tokenColumn;
+                advance();
+                try {
+                    return new ScriptNode.PerformFixed(KeyAction.type(value, 0));
+                } catch (IllegalArgumentException ex) {
+                    throw error(valueLine, valueColumn, ex.getMessage());
+                }
+            }
+            case "wait" -> {
+                advance();
+                return new ScriptNode.Wait(expression());
+            }
+            case "repeat" -> {
+                advance();
+                ScriptNode.Expression count = expression();
+                return new ScriptNode.Repeat(count, block());
+            }
+            case "while" -> {
+                advance();
+                ScriptNode.Expression condition = expression();
+                return new ScriptNode.While(condition, block());
+            }
+            case "if" -> {
+                advance();
+                return ifStatement();
+            }
+            case "parallel", "race" -> {
+                advance();
+                return parallel(word.equals("race"));
+            }
+            default -> {
+                if (KEYWORDS.contains(word)) {
+                    throw error("문장을 시작할 수 없는 단어다: " + word);
+                }
+                int slot = slotOf(word);
+                advance();
+                expectSymbol("=");
+                return new ScriptNode.Assign(slot, expression());
+            }
+        }
+    }
+
+    private ScriptNode.Statement click() {
+        ScriptNode.Expression x = expression();
+        expectSymbol(",");
+        ScriptNode.Expression y = expression();
+        MouseButton button = MouseButton.LEFT;
+        int count = 1;
+        long hold = 0;
+        while (kind == Kind.NAME) {
+            switch (text) {
+                case "left" -> button = MouseButton.LEFT;
+                case "right" -> button = MouseButton.RIGHT;
+                case "middle" -> button = MouseButton.MIDDLE;
+                case "double" -> count = 2;
+                case "hold" -> {
+                    advance();
+                    hold = expectInteger();
+                    if (hold <= 0) {
+                        throw error("hold 시간은 1 이상이어야 한다");
+                    }
+                    continue;
+                }
+                default -> {
+                    return new ScriptNode.Perform(clickAction(button, count, hold), x, y);
+                }
+            }
+            advance();
+        }
+        return new ScriptNode.Perform(clickAction(button, count, hold), x, y);
+    }
+
+    private ClickAction clickAction(MouseButton button, int count, long hold) {
+        if (hold > 0 && count > 1) {
+            throw error("hold 클릭은 더블 클릭과 함께 쓸 수 없다");
+        }
+        return new ClickAction(button, count, hold);
+    }
+
+    private ScriptNode.Statement ifStatement() {
+        ScriptNode.Expression condition = expression();
+        ScriptNode.Statement then = block();
+        ScriptNode.Statement otherwise = new ScriptNode.Block(List.of());
+        if (kind == Kind.NAME && text.equals("else")) {
+            advance();
+            if (kind == Kind.NAME && text.equals("if")) {
+                advance();
+                otherwise = ifStatement();
+            } else {
+                otherwise = block();
+            }
+        }
+        return new ScriptNode.If(condition, then, otherwise);
+    }
+
+    private ScriptNode.Statement parallel(boolean race) {
+        int openLine = tokenLine;
+        int openColumn = tokenColumn;
+        expectSymbol("{");
+        List<ScriptNode.Block> branches = new ArrayList<>();
+        while (!isSymbol("}")) {
+            if (kind != Kind.NAME || !text.equals("branch")) {
+                throw error("branch 블록이 와야 한다");
+            }
+            advance();
+            branches.add(block());
+        }
+        advance();
+        if (branches.isEmpty()) {
+            throw error(openLine, openColumn, "분기가 하나 이상 있어야 한다");
+        }
+        parallel = true;
+        return new ScriptNode.Parallel(List.copyOf(branches), race);
+    }
+
+    private ScriptNode.Block block() {
+        expectSymbol("{");
+        List<ScriptNode.Statement> statements = new ArrayList<>();
+        while (!isSymbol("}")) {
+            if (kind == Kind.END) {
+                throw error("블록이 닫히지 않았다");
+            }
+            statements.add(statement());
+        }
+        advance();
+        return new ScriptNode.Block(List.copyOf(statements));
+    }
+
+    private ScriptNode.Expression expression() {
+        return binary(0);
+    }
+
+    /**
+     * 우선순위 단계별 이항 연산(낮은 것부터 ||, &&, 동등, 비교, 덧셈, 곱셈).
+     */
+    private ScriptNode.Expression binary(int level) {
+        if (level == 6) {
+            return unary();
+        }
+        ScriptNode.Expression left = binary(level + 1);
+        while (kind == Kind.SYMBOL) {
+            char operator = operatorAt(level, text);
+            if (operator == 0) {
+                break;
+            }
+            advance();
+            left = new ScriptNode.Binary(operator, left, binary(level + 1));
+        }
+        return left;
+    }
+
+    private static char operatorAt(int level, String symbol) {
+        return switch (level) {
+            case 0 -> symbol.equals("||") ? '|' : 0;
+            case 1 -> symbol.equals("&&") ? '&' : 0;
+            case 2 -> switch (symbol) {
+                case "==" -> '=';
+                case "!=" -> '!';
+                default -> 0;
+            };
+            case 3 -> switch (symbol) {
+                case "<" -> '<';
+                case ">" -> '>';
+                case "<=" -> 'L';
+                case ">=" -> 'G';
+                default -> 0;
+            };
+            case 4 -> switch (symbol) {
+                case "+" -> '+';
+                case "-" -> '-';
+                default -> 0;
+            };
+            default -> switch (symbol) {
+                case "*" -> '*';
+                case "/" -> '/';
+                case "%" -> '%';
+                default -> 0;
+            };
+        };
+    }
+
+    private ScriptNode.Expression unary() {
+        if (isSymbol("-") || isSymbol("!")) {
+            char operator = text.charAt(0);
+            advance();
+            return new ScriptNode.Unary(operator, unary());
+        }
+        return primary();
+    }
+
+    private ScriptNode.Expression primary() {
+        if (kind == Kind.NUMBER) {
+            int value = number;
+            advance();
+            return new ScriptNode.Literal(value);
+        }
+        if (isSymbol("(")) {
+            advance();
+            ScriptNode.Expression inner = expression();
+            expectSymbol(")");
+            return inner;
+        }
+        if (kind == Kind.NAME) {
+            if (text.equals("rand")) {
+                advance();
+                expectSymbol("(");
+                ScriptNode.Expression min = expression();
+                expectSymbol(",");
+                ScriptNode.Expression max = expression();
+                expectSymbol(")");
+                return new ScriptNode.Random(min, max);
+            }
+            if (KEYWORDS.contains(text)) {
+                throw error("식에 쓸 수 없는 단어다: " + text);
+            }
+            int slot = slotOf(text);
+            advance();
+            return new ScriptNode.Variable(slot);
+        }
+        throw error("식이 와야 한다");
+    }
+
+    private int slotOf(String name) {
+        Integer slot = slots.get(name);
+        if (slot == null) {
+            throw error("선언하지 않은 변수다: " + name);
+        }
+        return slot;
+    }
+
+    private String expectName() {
+        if (kind != Kind.NAME || KEYWORDS.contains(text)) {
+            throw error("변수 이름이 와야 한다");
+        }
+        String name = text;
+        advance();
+        return name;
+    }
+
+    private int expectInteger() {
+        boolean negative = false;
+        if (isSymbol("-")) {
+            negative = true;
+            advance();
+        }
+        if (kind != Kind.NUMBER) {
+            throw error("정수가 와야 한다");
+        }
+        int value = negative ? -number : number;
+        advance();
+        return value;
+    }
+
+    private void expectSymbol(String symbol) {
+        if (!isSymbol(symbol)) {
+            throw error("'" + symbol + "'이(가) 와야 한다");
+        }
+        advance();
+    }
+
+    private boolean isSymbol(String symbol) {
+        return kind == Kind.SYMBOL && text.equals(symbol);
+    }
+
+    private void advance() {
+        skipSpaceAndComments();
+        tokenLine = line;
+        tokenColumn = position - lineStart + 1;
+        if (position >= source.length()) {
+            kind = Kind.END;
+            text = "";
+            return;
+        }
+        char c = source.charAt(position);
+        if (Character.isDigit(c)) {
+            int start = position;
+            while (position < source.length() && Character.isDigit(source.charAt(position))) {
+                position++;
+            }
+            try {
+                number = Integer.parseInt(source, start, position, 10);
+            } catch (NumberFormatException ex) {
+                throw error("정수 범위를 벗어났다: " + source.substring(start, position));
+            }
+            kind = Kind.NUMBER;
+            text = source.substring(start, position);
+        } else if (Character.isLetter(c) || c == '_') {
+            int start = position;
+            while (position < source.length()
+                    && (Character.isLetterOrDigit(source.charAt(position)) || source.charAt(position) == '_')) {
+                position++;
+            }
+            kind = Kind.NAME;
+            text = source.substring(start, position);
+        } else if (c == '"') {
+            kind = Kind.STRING;
+            text = string();
+        } else {
+            String two = position + 1 < source.length() ? source.substring(position, position + 2) : "";
+            if (two.equals("<=") || two.equals(">=") || two.equals("==") || two.equals("!=")
+                    || two.equals("&&") || two.equals("||")) {
+                position += 2;
+                text = two;
+            } else if ("+-*/%<>=!(){},".indexOf(c) >= 0) {
+                position++;
+                text = String.valueOf(c);
+            } else {
+                throw error("알 수 없는 문자다: '" + c + "'");
+            }
+            kind = Kind.SYMBOL;
+        }
+    }
+
+    private String string() {
+        StringBuilder sb = new StringBuilder();
+        position++;
+        while (true) {
+            if (position >= source.length() || source.charAt(position) == '\n') {
+                throw error("문자열이 닫히지 않았다");
+            }
+            char c = source.charAt(position++);
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c == '\\' && position < source.length()) {
+                char escaped = source.charAt(position++);
+                switch (escaped) {
+                    case 'n' -> sb.append('\n');
+                    case 't' -> sb.append('\t');
+                    case '"', '\\' -> sb.append(escaped);
+                    default -> throw error("알 수 없는 이스케이프다: \\" + escaped);
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+    }
+
+    private void skipSpaceAndComments() {
+        while (position < source.length()) {
+            char c = source.charAt(position);
+            if (c == '\n') {
+                position++;
+                line++;
+                lineStart = position;
+            } else if (Character.isWhitespace(c)) {
+                position++;
+            } else if (c == '#') {
+                while (position < source.length() && source.charAt(position) != '\n') {
+                    position++;
+                }
+            } else {
+                return;
+            }
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return error(tokenLine, tokenColumn, message);
+    }
+
+    private static IllegalArgumentException error(int line, int column, String message) {
+        return new IllegalArgumentException("스크립트 " + line + "행 " + column + "열: " + message);
+    }
+}
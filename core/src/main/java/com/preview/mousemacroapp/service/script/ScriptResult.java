@@ -0,0 +1,59 @@
+package com.preview.mousemacroapp.service.script;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 스크립트 실행 결과.
+ *
+ * @since 0.9
+ */
+public final class ScriptResult {
+
+    private final long actions;
+    private final boolean completed;
+    private final List<String> names;
+    private final int[] values;
+
+    ScriptResult(long actions, boolean completed, List<String> names, int[] values) {
+        this.actions = actions;
+        this.completed = completed;
+        this.names = names;
+        this.values = values;
+    }
+
+    /**
+     * @return 실행기로 내보낸 동작 수
+     */
+    public long actions() {
+        return actions;
+    }
+
+    /**
+     * @return 끝까지 실행했으면 true, 중단 요청으로 멈췄으면 false
+     */
+    public boolean completed() {
+        return completed;
+    }
+
+    /**
+     * 실행이 끝난 시점의 변수 값을 반환한다.
+     *
+     * @param name 변수 이름
+     * @return 값
+     * @throws IllegalArgumentException 선언하지 않은 변수인 경우
+     */
+    public int variable(String name) {
+        Objects.requireNonNull(name, "name");
+        int slot = names.indexOf(name);
+        if (slot < 0) {
+            throw new IllegalArgumentException("선언하지 않은 변수다. name=" + name);
+        }
+        return values[slot];
+    }
+
+    @Override
+    public String toString() {
+        return "ScriptResult{actions=" + actions + ", completed=" + completed + "}";
+    }
+}
@@ -0,0 +1,13 @@
+/**
+ * 매크로 스크립트(반복/조건/변수/대기를 가진 작은 텍스트 언어)를 제공한다.
+ *
+ * <p>
+ * 스크립트는 파싱 후 {@link java.lang.invoke.MethodHandle} 조합 트리로 컴파일되어,
+ * 실행 시 구문 트리를 순회하지 않고 JIT가 인라인할 수 있는 호출 사슬로 실행된다.
+ * 동작은 {@link com.preview.mousemacroapp.service.ClickExecutor}로 내보내며,
+ * 일시정지/중단/대기는 {@link com.preview.mousemacroapp.service.script.ScriptControl}로 호출자가 정한다.
+ * </p>
+ *
+ * @since 0.9
+ */
+package com.preview.mousemacroapp.service.script;
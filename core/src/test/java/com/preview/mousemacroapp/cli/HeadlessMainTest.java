@@ -0,0 +1,169 @@
+package com.preview.mousemacroapp.cli;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.MouseButton;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+import com.preview.mousemacroapp.infra.record.RecordingWriter;
+import com.preview.mousemacroapp.launch.LaunchOptions;
+import com.preview.mousemacroapp.service.replay.ReplayReport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 헤드리스 실행 인자 해석/실행 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link HeadlessOptions}
+ * - {@link HeadlessMain#run}
+ * - {@link HeadlessReplay}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 명령행 인자와 프로파일 파일이 같은 실행 요청으로 해석되는지 검증한다.
+ * - 명령행 값이 프로파일 값을 덮어쓰는지 검증한다.
+ * - 반복 횟수만큼 실행한 뒤 요약을 출력하고 반환하는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 스크립트/CI에서 헤드리스 실행을 사용하므로, 인자 해석 회귀는 조용히 다른 동작을 만든다.
+ *
+ * @since 0.9
+ */
+class HeadlessMainTest {
+
+    /*
+     * 시나리오: 모든 인자를 명령행으로 지정한다
+     *
+     * 기대(Then):
+     * - 각 값이 실행 요청 구성에 그대로 반영된다.
+     */
+    @Test
+    @DisplayName("명령행 인자: 모든 값이 구성에 반영된다")
+    void parse_allArgs_shouldBuildOptions() {
+        HeadlessOptions options = HeadlessOptions.parse(new String[]{
+                "--point=100,-20", "--action=hold:right:250", "--delay=50", "--jitter=5-10",
+                "--repeat=7", "--window=09:00-18:00", "--random=3,4", "--seed=42", "--duration=60",
+                "--executor=dry-run", "--debug"
+        });
+
+        assertEquals(new ScreenPoint(100, -20), options.point());
+        assertEquals(ClickAction.hold(MouseButton.RIGHT, 250), options.clickAction());
+        assertEquals(new DelayPolicy(50, 5, 10), options.delayPolicy());
+        assertEquals(7, options.repeatCount());
+        assertInstanceOf(ExecutionSchedule.Range.class, options.schedule());
+        assertEquals(3, options.halfWidth());
+        assertEquals(4, options.halfHeight());
+        assertEquals(42, options.seed());
+        assertEquals(Duration.ofSeconds(60), options.maxDurationOrNull());
+    }
+
+    /*
+     * 시나리오: 프로파일 파일을 기본값으로 쓰고 명령행 값으로 덮어쓴다
+     *
+     * 입력(Given):
+     * - 프로파일: point=1,2 / repeat=3 / delay=10
+     * - 명령행: --profile=..., --repeat=9
+     *
+     * 기대(Then):
+     * - point/delay는 프로파일 값, repeat는 명령행 값
+     */
+    @Test
+    @DisplayName("프로파일: 명령행 값이 프로파일 값보다 우선한다")
+    void parse_profile_shouldBeOverriddenByArgs(@TempDir Path dir) throws Exception {
+        Path profile = dir.resolve("macro.properties");
+        Files.writeString(profile, "point=1,2\nrepeat=3\ndelay=10\n", StandardCharsets.UTF_8);
+
+        HeadlessOptions options = HeadlessOptions.parse(new String[]{"--repeat=9", "--profile=" + profile});
+
+        assertEquals(new ScreenPoint(1, 2), options.point());
+        assertEquals(9, options.repeatCount());
+        assertEquals(10, options.delayPolicy().baseIntervalMillis());
+    }
+
+    /*
+     * 시나리오: 필수 값 누락/형식 오류는 IllegalArgumentException
+     */
+    @Test
+    @DisplayName("입력 검증: point 누락, action/window 형식 오류는 예외")
+    void parse_invalid_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> HeadlessOptions.parse(new String[]{"--repeat=1"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> HeadlessOptions.parse(new String[]{"--point=1,2", "--action=hold:left"}));
+        assertThrows(IllegalArgumentException.class,
+                () -> HeadlessOptions.parse(new String[]{"--point=1,2", "--window=0900"}));
+    }
+
+    /*
+     * 시나리오: 반복 횟수만큼 실행하고 요약을 출력한다
+     *
+     * 입력(Given):
+     * - repeat=3, delay=1ms, Dry-Run 파일 출력(콘솔 오염 방지)
+     *
+     * 기대(Then):
+     * - 반환 값 3, 요약 줄에 clicks=3 포함
+     * - Dry-Run 파일에 3줄 기록
+     */
+    @Test
+    @DisplayName("실행: 반복 완료 후 요약 출력")
+    void run_shouldExecuteRepeatCountAndPrintSummary(@TempDir Path dir) throws Exception {
+        Path dryRunOut = dir.resolve("dry-run.log");
+        String[] args = {"--point=5,5", "--repeat=3", "--delay=1", "--seed=1", "--dry-run-out=" + dryRunOut};
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        long clicks = HeadlessMain.run(HeadlessOptions.parse(args), LaunchOptions.parse(args),
+                new PrintStream(buffer, true, StandardCharsets.UTF_8));
+
+        assertEquals(3, clicks);
+        String summary = buffer.toString(StandardCharsets.UTF_8);
+        assertTrue(summary.startsWith("[HEADLESS] clicks=3 "), summary);
+        assertEquals(3, Files.readAllLines(dryRunOut, StandardCharsets.US_ASCII).size());
+    }
+
+    /*
+     * 시나리오: 버튼 누름/뗌 2쌍과 이동이 담긴 기록을 최대 배속으로 재생한다
+     *
+     * 입력(Given):
+     * - --replay=기록 파일, --speed=max, Dry-Run 파일 출력
+     *
+     * 기대(Then):
+     * - 보고 줄에 events=5 포함, Dry-Run 파일에는 누름 수만큼(2줄) 클릭 기록
+     * - --speed 형식 오류는 IllegalArgumentException
+     */
+    @Test
+    @DisplayName("재생: 기록을 클릭 실행기로 재생하고 보고를 출력")
+    void replay_shouldClickPressesAndPrintReport(@TempDir Path dir) throws Exception {
+        Path recording = dir.resolve("input.mrec");
+        try (RecordingWriter writer = RecordingWriter.open(recording)) {
+            writer.accept(1_000_000L, InputEventType.MOUSE_MOVE, 10, 10, 0);
+            writer.accept(2_000_000L, InputEventType.MOUSE_PRESS, 10, 10, 1);
+            writer.accept(3_000_000L, InputEventType.MOUSE_RELEASE, 10, 10, 1);
+            writer.accept(4_000_000L, InputEventType.MOUSE_PRESS, 20, 20, 2);
+            writer.accept(5_000_000L, InputEventType.MOUSE_RELEASE, 20, 20, 2);
+        }
+        Path dryRunOut = dir.resolve("dry-run.log");
+        String[] args = {"--replay=" + recording, "--speed=max", "--dry-run-out=" + dryRunOut};
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        Optional<ReplayReport> report = HeadlessReplay.run(HeadlessReplay.replayPath(args).orElseThrow(),
+                HeadlessReplay.parseOptions(args), LaunchOptions.parse(args),
+                new PrintStream(buffer, true, StandardCharsets.UTF_8));
+
+        assertEquals(5, report.orElseThrow().events());
+        assertTrue(buffer.toString(StandardCharsets.UTF_8).startsWith("[REPLAY] events=5 "));
+        assertEquals(2, Files.readAllLines(dryRunOut, StandardCharsets.US_ASCII).size());
+        assertThrows(IllegalArgumentException.class, () -> HeadlessReplay.parseOptions(new String[]{"--speed=fast"}));
+        assertThrows(IllegalArgumentException.class, () -> HeadlessReplay.parseOptions(new String[]{"--speed=0.1"}));
+    }
+}
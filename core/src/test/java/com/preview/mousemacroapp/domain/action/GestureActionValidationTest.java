@@ -0,0 +1,79 @@
+package com.preview.mousemacroapp.domain.action;
+
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 드래그/스크롤 동작 생성 제약(Validation) 검증 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link DragAction}, {@link ScrollAction} 생성자 제약 조건
+ * - {@link MacroAction} 닫힌 집합
+ *
+ * <p><b>검증 목적</b></p>
+ * - 잘못된 드래그/스크롤 값을 생성 시점에서 차단한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 0칸 스크롤/음수 시간 같은 값이 실행 엔진에 전달되면 무한 대기 또는 무의미한 입력이 된다.
+ *
+ * @since 0.9
+ */
+class GestureActionValidationTest {
+
+    /*
+     * 시나리오: 드래그 버튼/도착 좌표 null, 음수 시간은 거부한다
+     *
+     * 예상 결과(Then):
+     * - null은 NullPointerException, 음수 시간은 IllegalArgumentException
+     * - 0ms 드래그는 허용(바로 옮긴 뒤 뗀다)
+     */
+    @Test
+    @DisplayName("드래그: null/음수 시간은 예외, 0ms는 허용")
+    void dragAction_validation() {
+        ScreenPoint to = new ScreenPoint(1, 1);
+        assertThrows(NullPointerException.class, () -> new DragAction(null, to, 10));
+        assertThrows(NullPointerException.class, () -> new DragAction(MouseButton.LEFT, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> new DragAction(MouseButton.LEFT, to, -1));
+        assertEquals(0, DragAction.left(to, 0).durationMillis());
+    }
+
+    /*
+     * 시나리오: 0칸 스크롤, 음수 간격은 거부한다
+     *
+     * 예상 결과(Then):
+     * - IllegalArgumentException 발생, 위(음수)/아래(양수) 칸 수는 허용
+     */
+    @Test
+    @DisplayName("스크롤: 0칸/음수 간격은 예외")
+    void scrollAction_validation() {
+        assertThrows(IllegalArgumentException.class, () -> new ScrollAction(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new ScrollAction(3, -1));
+        assertEquals(-5, new ScrollAction(-5, 0).notches());
+    }
+
+    /*
+     * 시나리오: 동작 공통 타입을 switch 패턴으로 분기한다
+     *
+     * 예상 결과(Then):
+     * - default 없이 모든 종류가 처리된다(닫힌 집합)
+     */
+    @Test
+    @DisplayName("공통 타입: 클릭/드래그/스크롤/키보드 닫힌 집합")
+    void macroAction_isClosedSet() {
+        MacroAction[] actions = {ClickAction.singleLeft(), DragAction.left(new ScreenPoint(0, 0), 1), new ScrollAction(1, 0),
+                KeyAction.press(KeyStrokes.ENTER)};
+        StringBuilder kinds = new StringBuilder();
+        for (MacroAction action : actions) {
+            kinds.append(switch (action) {
+                case ClickAction c -> "C";
+                case DragAction d -> "D";
+                case ScrollAction s -> "S";
+                case KeyAction k -> "K";
+            });
+        }
+        assertEquals("CDSK", kinds.toString());
+    }
+}
@@ -0,0 +1,118 @@
+package com.preview.mousemacroapp.domain.action;
+
+import com.preview.mousemacroapp.domain.hotkey.KeyChord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 키 순서열 컴파일 규칙 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link KeyStrokes}, {@link KeyAction}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 문자열이 US 배열 가상 키 누름/뗌으로 컴파일되고, 연속된 Shift 문자는 Shift를 한 번만 누르는지 검증한다.
+ * - 키 조합이 수정키 → 키 → 역순 뗌 순서로 컴파일되는지 검증한다.
+ * - 키 입력 경계(STROKE_END)가 문자/조합 단위로 정확히 찍히는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 뗌이 빠지면 OS에 키가 눌린 채 남고, 경계가 어긋나면 문자 사이 최소 간격이 깨진다.
+ *
+ * @since 0.9
+ */
+class KeyStrokesTest {
+
+    /*
+     * 시나리오: "aBC!d" 를 컴파일한다
+     *
+     * 기대(Then):
+     * - a / Shift↓ B C 1 Shift↑ / d 순서(Shift는 한 번만)
+     * - 경계는 문자마다 1개(5개), Shift↑는 d 입력 구간의 시작
+     */
+    @Test
+    @DisplayName("문자열: 연속된 Shift 문자는 Shift를 한 번만 누른다")
+    void text_shouldGroupShiftRuns() {
+        KeyStrokes strokes = KeyStrokes.text("aBC!d");
+
+        assertEquals(List.of("+65", "-65|", "+16", "+66", "-66|", "+67", "-67|", "+49", "-49|", "-16", "+68", "-68|"),
+                decode(strokes));
+        assertEquals(5, strokes.strokeCount());
+        assertTrue(strokes.shiftHeldAt(3));
+        assertFalse(strokes.shiftHeldAt(10));
+    }
+
+    /*
+     * 시나리오: 대문자로 끝나는 문자열 / 줄바꿈·탭 / 지원하지 않는 문자
+     *
+     * 기대(Then):
+     * - 마지막 Shift↑가 마지막 입력 구간에 포함된다(경계는 Shift↑ 뒤)
+     * - 줄바꿈/탭은 Enter/Tab
+     * - 한글, 빈 문자열은 IllegalArgumentException
+     */
+    @Test
+    @DisplayName("문자열: 끝 Shift 정리/특수 문자/지원하지 않는 문자")
+    void text_edgeCases() {
+        assertEquals(List.of("+16", "+65", "-65", "-16|"), decode(KeyStrokes.text("A")));
+        assertEquals(List.of("+10", "-10|", "+9", "-9|"), decode(KeyStrokes.text("\n\t")));
+        assertThrows(IllegalArgumentException.class, () -> KeyStrokes.text("가"));
+        assertThrows(IllegalArgumentException.class, () -> KeyStrokes.text(""));
+        assertThrows(NullPointerException.class, () -> KeyStrokes.text(null));
+    }
+
+    /*
+     * 시나리오: Ctrl+Shift+S 조합을 컴파일한다
+     *
+     * 기대(Then):
+     * - Ctrl↓ Shift↓ S↓ S↑ Shift↑ Ctrl↑, 경계는 마지막 1개
+     */
+    @Test
+    @DisplayName("키 조합: 수정키를 누르고 역순으로 뗀다")
+    void chord_shouldPressModifiersThenReleaseInReverse() {
+        KeyAction action = KeyAction.chord(KeyChord.CTRL | KeyChord.SHIFT, 83);
+
+        assertEquals(List.of("+17", "+16", "+83", "-83", "-16", "-17|"), decode(action.strokes()));
+        assertEquals(1, action.strokes().strokeCount());
+        assertThrows(IllegalArgumentException.class, () -> KeyStrokes.chord(1 << 5, 83));
+        assertThrows(IllegalArgumentException.class, () -> KeyStrokes.key(0));
+        assertThrows(IllegalArgumentException.class, () -> KeyAction.type("x", -1));
+    }
+
+    /*
+     * 시나리오: 2KB 영문 문장을 컴파일한다
+     *
+     * 기대(Then):
+     * - 연산 수는 문자 수 × 2 + Shift 전환 수 이하(문자당 평균 2.1개 미만)
+     */
+    @Test
+    @DisplayName("압축: 2KB 문장은 문자당 약 2연산으로 컴파일된다")
+    void text_shouldStayCompact() {
+        String text = sentence(2048);
+        KeyStrokes strokes = KeyStrokes.text(text);
+
+        assertEquals(2048, strokes.strokeCount());
+        assertTrue(strokes.size() < 2048 * 2.1, "ops=" + strokes.size());
+    }
+
+    static String sentence(int length) {
+        String base = "The quick brown fox jumps over the lazy dog, 12345 times! ";
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append(base);
+        }
+        return sb.substring(0, length);
+    }
+
+    private static List<String> decode(KeyStrokes strokes) {
+        List<String> out = new ArrayList<>();
+        for (int i = 0; i < strokes.size(); i++) {
+            int op = strokes.op(i);
+            out.add((KeyStrokes.isPress(op) ? "+" : "-") + KeyStrokes.keyCode(op) + (KeyStrokes.endsStroke(op) ? "|" : ""));
+        }
+        return out;
+    }
+}
@@ -0,0 +1,121 @@
+package com.preview.mousemacroapp.domain.hotkey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HotkeyMatcher 상태 기계 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link HotkeyMatcher}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 단일 조합/순서열이 정확히 완성 시점에만 동작을 반환하는지 검증한다.
+ * - 순서열 제한 시간, 불일치 입력 후 재시작 규칙을 검증한다.
+ * - 도달할 수 없는(중복/접두어) 바인딩을 생성 시 거부하는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 단축키 오인식은 사용자가 의도하지 않은 시작/정지를 만든다.
+ *
+ * @since 0.9
+ */
+class HotkeyMatcherTest {
+
+    private static final int F9 = 67;
+    private static final int K = 37;
+    private static final int S = 31;
+    private static final int X = 45;
+
+    private static final Duration TIMEOUT = Duration.ofMillis(1000);
+    private static final long MS = 1_000_000L;
+
+    /*
+     * 시나리오: 단일 조합 Ctrl+Shift+F9 = START
+     *
+     * 기대(Then):
+     * - 수정키가 정확히 같을 때만 START
+     */
+    @Test
+    @DisplayName("단일 조합: 수정키까지 일치할 때만 동작 반환")
+    void chord_shouldMatchExactModifiers() {
+        HotkeyMatcher matcher = new HotkeyMatcher(List.of(
+                new HotkeyBinding(List.of(new KeyChord(KeyChord.CTRL | KeyChord.SHIFT, F9)), HotkeyAction.START)
+        ), TIMEOUT);
+
+        assertNull(matcher.onKeyPressed(KeyChord.CTRL, F9, 0));
+        assertNull(matcher.onKeyPressed(0, F9, 0));
+        assertEquals(HotkeyAction.START, matcher.onKeyPressed(KeyChord.CTRL | KeyChord.SHIFT, F9, 0));
+        assertEquals(HotkeyAction.START, matcher.onKeyPressed(KeyChord.CTRL | KeyChord.SHIFT, F9, 1));
+    }
+
+    /*
+     * 시나리오: 순서열 Ctrl+K, S = STOP / Ctrl+K, X = TOGGLE_PAUSE
+     *
+     * 기대(Then):
+     * - 두 번째 조합에서 동작 반환, 첫 조합만으로는 null
+     * - 제한 시간이 지나면 처음부터 다시 입력해야 한다.
+     */
+    @Test
+    @DisplayName("순서열: 공통 접두어 분기, 제한 시간 초과 시 초기화")
+    void sequence_shouldBranchAndTimeout() {
+        HotkeyMatcher matcher = new HotkeyMatcher(List.of(
+                new HotkeyBinding(List.of(new KeyChord(KeyChord.CTRL, K), new KeyChord(0, S)), HotkeyAction.STOP),
+                new HotkeyBinding(List.of(new KeyChord(KeyChord.CTRL, K), new KeyChord(0, X)), HotkeyAction.TOGGLE_PAUSE)
+        ), TIMEOUT);
+
+        assertEquals(4, matcher.stateCount());
+
+        assertNull(matcher.onKeyPressed(KeyChord.CTRL, K, 0));
+        assertEquals(HotkeyAction.STOP, matcher.onKeyPressed(0, S, 100 * MS));
+
+        assertNull(matcher.onKeyPressed(KeyChord.CTRL, K, 200 * MS));
+        assertEquals(HotkeyAction.TOGGLE_PAUSE, matcher.onKeyPressed(0, X, 300 * MS));
+
+        assertNull(matcher.onKeyPressed(KeyChord.CTRL, K, 400 * MS));
+        assertNull(matcher.onKeyPressed(0, S, 1_500 * MS), "제한 시간 초과 후에는 완성되지 않아야 한다.");
+        assertNull(matcher.onKeyPressed(0, S, 1_600 * MS), "단독 S는 바인딩이 아니다.");
+    }
+
+    /*
+     * 시나리오: 순서열 도중 불일치 입력이 새 순서열의 시작이면 그 입력부터 다시 진행한다
+     *
+     * 입력(Given):
+     * - Ctrl+K, S = STOP
+     * - 입력: Ctrl+K, Ctrl+K, S
+     *
+     * 기대(Then):
+     * - 두 번째 Ctrl+K가 새 시작이 되어 S에서 STOP
+     */
+    @Test
+    @DisplayName("순서열: 불일치 입력은 새 순서열 시작으로 재판단")
+    void sequence_mismatch_shouldRestartFromInput() {
+        HotkeyMatcher matcher = new HotkeyMatcher(List.of(
+                new HotkeyBinding(List.of(new KeyChord(KeyChord.CTRL, K), new KeyChord(0, S)), HotkeyAction.STOP)
+        ), TIMEOUT);
+
+        assertNull(matcher.onKeyPressed(KeyChord.CTRL, K, 0));
+        assertNull(matcher.onKeyPressed(KeyChord.CTRL, K, MS));
+        assertEquals(HotkeyAction.STOP, matcher.onKeyPressed(0, S, 2 * MS));
+    }
+
+    /*
+     * 시나리오: 중복/접두어 바인딩은 생성 시 거부한다
+     */
+    @Test
+    @DisplayName("컴파일: 중복/접두어 충돌 바인딩은 IllegalArgumentException")
+    void compile_conflicts_shouldThrow() {
+        KeyChord ctrlK = new KeyChord(KeyChord.CTRL, K);
+        HotkeyBinding single = new HotkeyBinding(List.of(ctrlK), HotkeyAction.START);
+        HotkeyBinding sequence = new HotkeyBinding(List.of(ctrlK, new KeyChord(0, S)), HotkeyAction.STOP);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new HotkeyMatcher(List.of(single, new HotkeyBinding(List.of(ctrlK), HotkeyAction.STOP)), TIMEOUT));
+        assertThrows(IllegalArgumentException.class, () -> new HotkeyMatcher(List.of(single, sequence), TIMEOUT));
+        assertThrows(IllegalArgumentException.class, () -> new HotkeyMatcher(List.of(sequence, single), TIMEOUT));
+    }
+}
@@ -0,0 +1,179 @@
+package com.preview.mousemacroapp.domain.motion;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 커서 이동 경로 모델 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link BezierTrajectoryModel}
+ * - {@link WindMouseTrajectoryModel}
+ * - {@link Easing}, {@link MotionProfile}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 경로 마지막 점이 정확히 목표 좌표이고, 시각이 주기 배수로 엄격히 증가하며, 점 수가 상한 안인지 검증한다.
+ * - 경로가 시작-목표 선분에서 크게 벗어나지 않는지(휨/바람 상한) 검증한다.
+ * - 가감속 표가 원래 곡선과 같은 값을 내는지 검증한다.
+ * - 버퍼를 재사용하는 경로 생성이 호출마다 할당하지 않는지 검증한다(생성 비용은 {@code TrajectoryBenchmark}).
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 마지막 점이 어긋나면 클릭 좌표가 바뀌고, 점 수가 상한을 넘으면 이동 중 버퍼 예외로 클릭이 실패한다.
+ *
+ * @since 0.9
+ */
+class TrajectoryModelTest {
+
+    private static final List<TrajectoryModel> MODELS = List.of(TrajectoryModel.bezier(), TrajectoryModel.windMouse());
+
+    /*
+     * 시나리오: 두 모델로 무작위 좌표 쌍(1px ~ 화면 대각선) 2,000개의 경로를 만든다
+     *
+     * 기대(Then):
+     * - 마지막 점 = 목표, 시각은 주기 배수이고 엄격히 증가, 점 수 ≤ maxSteps
+     * - 모든 점이 선분에서 거리의 절반 + 목표 반경 이내
+     * - 이동 시간 ≤ 최대 이동 시간 + 1주기
+     */
+    @Test
+    @DisplayName("계약: 마지막 점은 목표, 시각은 증가, 점 수는 상한 이내")
+    void generate_shouldEndAtTargetWithinLimits() {
+        MotionProfile profile = MotionProfile.defaults();
+        TrajectoryBuffer buffer = TrajectoryBuffer.forProfile(profile);
+        SplittableRandom random = new SplittableRandom(7);
+        long step = profile.stepNanos();
+
+        for (TrajectoryModel model : MODELS) {
+            for (int n = 0; n < 2_000; n++) {
+                int fx = random.nextInt(1920);
+                int fy = random.nextInt(1080);
+                int tx = n % 10 == 0 ? fx + 1 : random.nextInt(1920);
+                int ty = n % 10 == 0 ? fy : random.nextInt(1080);
+                model.generate(fx, fy, tx, ty, profile, random, buffer);
+
+                double distance = Math.hypot(tx - fx, ty - fy);
+                assertTrue(buffer.size() >= 1 && buffer.size() <= profile.maxSteps(), "size=" + buffer.size());
+                assertEquals(tx, buffer.x(buffer.size() - 1));
+                assertEquals(ty, buffer.y(buffer.size() - 1));
+                long previous = 0;
+                for (int i = 0; i < buffer.size(); i++) {
+                    long offset = buffer.offsetNanos(i);
+                    assertTrue(offset > previous, "offset must increase at " + i);
+                    assertEquals(0, offset % step);
+                    previous = offset;
+                    double deviation = distanceToSegment(buffer.x(i), buffer.y(i), fx, fy, tx, ty);
+                    assertTrue(deviation <= distance * 0.5 + WindMouseTrajectoryModel.DEFAULT_TARGET_AREA,
+                            model.getClass().getSimpleName() + " deviation=" + deviation + " distance=" + distance);
+                }
+                assertTrue(buffer.durationNanos() <= profile.maxMillis() * 1_000_000L + step);
+            }
+        }
+    }
+
+    /*
+     * 시나리오: 시작과 목표가 같다 / 같은 시드로 두 번 만든다 / 용량이 모자란 버퍼를 준다
+     *
+     * 기대(Then):
+     * - 이동 없음이면 점 0개
+     * - 같은 시드면 같은 경로
+     * - 용량 부족은 IllegalArgumentException
+     */
+    @Test
+    @DisplayName("경계: 이동 없음/같은 시드/용량 부족")
+    void generate_edgeCases() {
+        MotionProfile profile = MotionProfile.defaults();
+        TrajectoryBuffer a = TrajectoryBuffer.forProfile(profile);
+        TrajectoryBuffer b = TrajectoryBuffer.forProfile(profile);
+
+        for (TrajectoryModel model : MODELS) {
+            model.generate(5, 5, 5, 5, profile, new SplittableRandom(1), a);
+            assertEquals(0, a.size());
+
+            model.generate(0, 0, 800, 300, profile, new SplittableRandom(3), a);
+            model.generate(0, 0, 800, 300, profile, new SplittableRandom(3), b);
+            assertEquals(a.size(), b.size());
+            for (int i = 0; i < a.size(); i++) {
+                assertEquals(a.x(i), b.x(i));
+                assertEquals(a.y(i), b.y(i));
+                assertEquals(a.offsetNanos(i), b.offsetNanos(i));
+            }
+
+            assertThrows(IllegalArgumentException.class, () -> model.generate(0, 0, 10, 10, profile,
+                    new SplittableRandom(1), new TrajectoryBuffer(profile.maxSteps() - 1)));
+        }
+    }
+
+    /*
+     * 시나리오: 가감속 표 값을 원래 곡선 식과 비교한다
+     *
+     * 기대(Then):
+     * - 0 → 0, 1 → 1, 범위 밖은 잘린다
+     * - 표 보간 오차 1e-5 이하
+     */
+    @Test
+    @DisplayName("가감속 표: 원래 곡선과 같은 값을 낸다")
+    void easing_tableShouldMatchCurve() {
+        for (Easing easing : Easing.values()) {
+            assertEquals(0.0, easing.apply(0));
+            assertEquals(1.0, easing.apply(1));
+            assertEquals(0.0, easing.apply(-1));
+            assertEquals(1.0, easing.apply(2));
+        }
+        for (int i = 0; i <= 10_000; i++) {
+            double t = i / 10_000.0;
+            double jerk = t * t * t * (10 - 15 * t + 6 * t * t);
+            assertEquals(jerk, Easing.MINIMUM_JERK.apply(t), 1e-5);
+            assertEquals(1 - Math.pow(1 - t, 4), Easing.EASE_OUT_QUART.apply(t), 1e-5);
+        }
+    }
+
+    /*
+     * 시나리오: 같은 버퍼로 경로 20,000개를 만들며 스레드 할당 바이트를 잰다(워밍업 후)
+     *
+     * 기대(Then):
+     * - 경로 1개당 할당이 1바이트 미만(측정 자체의 잡음만 허용)
+     */
+    @Test
+    @DisplayName("무할당: 버퍼를 재사용하는 경로 생성은 할당하지 않는다")
+    void generate_shouldNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        MotionProfile profile = MotionProfile.defaults();
+        TrajectoryBuffer buffer = TrajectoryBuffer.forProfile(profile);
+        SplittableRandom random = new SplittableRandom(5);
+        int count = 20_000;
+
+        for (TrajectoryModel model : MODELS) {
+            long sink = run(model, profile, random, buffer, count);
+            long before = threads.getCurrentThreadAllocatedBytes();
+            sink += run(model, profile, random, buffer, count);
+            long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+            assertTrue(sink > 0);
+            assertTrue(allocated < count, "allocated=" + allocated);
+        }
+    }
+
+    private static long run(TrajectoryModel model, MotionProfile profile, SplittableRandom random,
+                            TrajectoryBuffer buffer, int count) {
+        long sink = 0;
+        for (int n = 0; n < count; n++) {
+            model.generate(random.nextInt(1920), random.nextInt(1080), random.nextInt(1920), random.nextInt(1080),
+                    profile, random, buffer);
+            sink += buffer.size();
+        }
+        return sink;
+    }
+
+    private static double distanceToSegment(int px, int py, int ax, int ay, int bx, int by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+        return Math.hypot(px - ax - t * dx, py - ay - t * dy);
+    }
+}
@@ -0,0 +1,167 @@
+package com.preview.mousemacroapp.domain.point;
+
+import com.preview.mousemacroapp.domain.action.policy.ClickPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.RandomAreaPositionPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 열 배열 포인트 라이브러리 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link PointLibrary}
+ * - {@link StringTable}
+ *
+ * <p><b>검증 목적</b></p>
+ * - view/단건 조회가 넣은 {@link MacroPoint}와 같은 값을 돌려주는지(음수 좌표 포함) 검증한다.
+ * - 이름은 공유 문자열 표에서, 정책은 정책 표에서 값이 같으면 한 항목을 쓰는지 검증한다.
+ * - 10만 포인트에서 힙 사용량이 레코드 목록의 절반 미만인지 검증한다(방문 비용은 {@code PointLibraryBenchmark}).
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - x/y를 long 하나로 묶을 때 부호 확장을 잘못하면 음수 y(위쪽 모니터)가 다른 좌표로 읽힌다.
+ *
+ * @since 0.9
+ */
+class PointLibraryTest {
+
+    /*
+     * 시나리오: 음수 좌표/같은 이름/서로 다른 Exact 인스턴스를 섞어 넣고, 이동/삭제한다
+     *
+     * 기대(Then):
+     * - view와 toMacroPoint가 넣은 값과 같다
+     * - 같은 이름은 같은 이름 번호, Exact 정책은 표 항목 1개
+     * - 삭제하면 마지막 포인트가 그 번호로 옮겨 온다
+     */
+    @Test
+    @DisplayName("view: MacroPoint와 같은 값을 읽는다")
+    void views_shouldReadBackInsertedPoints() {
+        StringTable shared = new StringTable();
+        PointLibrary library = new PointLibrary(shared, 2);
+        RandomAreaPositionPolicy area = new RandomAreaPositionPolicy(3, 4);
+        List<MacroPoint> points = List.of(
+                new MacroPoint("시작 버튼", new ScreenPoint(-1920, -1), new ExactPositionPolicy()),
+                new MacroPoint("확인", new ScreenPoint(Integer.MAX_VALUE, Integer.MIN_VALUE), area),
+                new MacroPoint("확인", new ScreenPoint(5, 6), new ExactPositionPolicy()));
+        for (MacroPoint point : points) {
+            library.add(point);
+        }
+
+        PointLibrary.PointView view = library.view();
+        for (int i = 0; i < points.size(); i++) {
+            MacroPoint expected = points.get(i);
+            assertEquals(expected.name(), view.at(i).name());
+            assertEquals(expected.base(), view.base());
+            assertEquals(expected.base().x(), view.x());
+            assertEquals(expected.base().y(), view.y());
+            assertSamePolicy(expected.positionPolicy(), view.positionPolicy());
+            assertSamePoint(expected, library.toMacroPoint(i));
+        }
+        assertEquals(library.nameId(1), library.nameId(2));
+        assertEquals(2, shared.size());
+        assertEquals(2, library.policyCount());
+
+        PointLibrary other = new PointLibrary(shared, 1);
+        other.add("확인", 0, 0, new ExactPositionPolicy());
+        assertEquals(library.nameId(1), other.nameId(0));
+
+        library.move(0, 10, -20);
+        assertEquals(new ScreenPoint(10, -20), library.view().at(0).base());
+        library.remove(0);
+        assertEquals(2, library.size());
+        assertEquals(new ScreenPoint(5, 6), library.view().at(0).base());
+        assertThrows(IndexOutOfBoundsException.class, () -> library.view().at(2));
+        assertThrows(IllegalArgumentException.class, () -> library.add(" ", 0, 0, new ExactPositionPolicy()));
+    }
+
+    /*
+     * 시나리오: 10만 포인트(고유 이름, 정책 3종)를 레코드 목록과 라이브러리(적재 뒤 trimToSize)로 각각 만든다
+     *
+     * 기대(Then):
+     * - 라이브러리 힙 사용량이 레코드 목록의 절반 미만
+     * - forEach 방문은 포인트당 할당이 없다
+     * - trimToSize 뒤에도 추가/조회가 된다
+     */
+    @Test
+    @DisplayName("힙: 10만 포인트가 레코드 목록의 절반 미만을 쓴다")
+    void packedLibrary_shouldUseLessHeapThanRecords() {
+        int count = 100_000;
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+        long before = usedAfterGc(memory);
+        List<MacroPoint> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            records.add(new MacroPoint("point-" + i, new ScreenPoint(i % 1920, i % 1080), policy(i)));
+        }
+        long recordBytes = usedAfterGc(memory) - before;
+
+        before = usedAfterGc(memory);
+        PointLibrary library = new PointLibrary(new StringTable(), count);
+        for (int i = 0; i < count; i++) {
+            library.add("point-" + i, i % 1920, i % 1080, policy(i));
+        }
+        library.trimToSize();
+        long libraryBytes = usedAfterGc(memory) - before;
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] sum = {0};
+        library.forEach(view -> sum[0] += view.x() + view.y());
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        library.forEach(view -> sum[0] += view.x() + view.y());
+        long visitAllocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        assertSamePoint(records.get(count - 1), library.toMacroPoint(count - 1));
+        assertEquals(3, library.policyCount());
+        library.add("point-after-trim", 1, 2, new ExactPositionPolicy());
+        assertEquals("point-after-trim", library.name(count));
+        assertEquals(library.nameId(0), library.names().intern("point-0"));
+        assertTrue(libraryBytes < recordBytes / 2, "record=" + recordBytes + ", library=" + libraryBytes);
+        assertTrue(visitAllocated < count, "allocated=" + visitAllocated);
+        Reference.reachabilityFence(records);
+        Reference.reachabilityFence(library);
+    }
+
+    /**
+     * {@link ExactPositionPolicy}는 값 비교(equals)를 정의하지 않으므로 종류로 비교한다.
+     */
+    private static void assertSamePolicy(ClickPositionPolicy expected, ClickPositionPolicy actual) {
+        if (expected instanceof ExactPositionPolicy) {
+            assertInstanceOf(ExactPositionPolicy.class, actual);
+        } else {
+            assertEquals(expected, actual);
+        }
+    }
+
+    private static void assertSamePoint(MacroPoint expected, MacroPoint actual) {
+        assertEquals(expected.name(), actual.name());
+        assertEquals(expected.base(), actual.base());
+        assertSamePolicy(expected.positionPolicy(), actual.positionPolicy());
+    }
+
+    /**
+     * 파일에서 읽은 것처럼 포인트마다 정책 인스턴스를 새로 만든다(값은 3종).
+     */
+    private static ClickPositionPolicy policy(int i) {
+        return switch (i % 3) {
+            case 0 -> new ExactPositionPolicy();
+            case 1 -> new RandomAreaPositionPolicy(3, 3);
+            default -> new RandomAreaPositionPolicy(10, 5);
+        };
+    }
+
+    private static long usedAfterGc(MemoryMXBean memory) {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,124 @@
+package com.preview.mousemacroapp.domain.program;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.KeyAction;
+import com.preview.mousemacroapp.domain.action.KeyStrokes;
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.domain.action.MouseButton;
+import com.preview.mousemacroapp.domain.action.policy.ClickPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.RandomAreaPositionPolicy;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 매크로 프로그램 컴파일 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link MacroProgram}, {@link ProgramCompiler}, {@link MacroStep}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 단계가 열 배열로 컴파일되고, 같은 값의 동작/좌표 정책/딜레이 정책은 표 항목 1개를 공유하는지 검증한다.
+ * - 좌표 정책 종류(정확/랜덤 영역/그 밖)와 반폭, 딜레이 값이 원시값으로 풀리는지 검증한다.
+ * - 컴파일된 단계를 작성 모델로 되돌렸을 때 원래 단계와 같은지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 표 공유가 깨지면 10만 단계 프로그램이 단계 수만큼 객체를 붙잡는다.
+ *
+ * @since 0.9
+ */
+class MacroProgramTest {
+
+    /*
+     * 시나리오: A 클릭 → 대기 → B 더블 클릭 → C 홀드 → 텍스트 입력 4단계를 컴파일한다
+     *
+     * 기대(Then):
+     * - 단계 수 4, 단계별 좌표/동작/딜레이가 그대로 읽힌다
+     * - step(i)는 원래 단계와 같다(정확 좌표 정책은 같은 표 항목)
+     */
+    @Test
+    @DisplayName("컴파일: 단계 열을 그대로 읽고 작성 모델로 되돌린다")
+    void compile_shouldKeepStepColumns() {
+        List<MacroStep> steps = List.of(
+                MacroStep.at(new ScreenPoint(10, 20), ClickAction.singleLeft(), 500),
+                MacroStep.at(new ScreenPoint(30, 40), ClickAction.doubleLeft(), 0),
+                new MacroStep(new ScreenPoint(50, 60), ClickAction.hold(MouseButton.RIGHT, 800),
+                        new RandomAreaPositionPolicy(3, 4), new DelayPolicy(100, 0, 50)),
+                MacroStep.at(new ScreenPoint(0, 0), KeyAction.type("ok", 0), 0));
+
+        MacroProgram program = MacroProgram.compile(steps);
+
+        assertEquals(4, program.size());
+        assertEquals(30, program.x(1));
+        assertEquals(60, program.y(2));
+        assertEquals(MacroProgram.PositionKind.EXACT, program.positionKind(0));
+        assertEquals(MacroProgram.PositionKind.AREA, program.positionKind(2));
+        assertEquals(3, program.halfWidth(2));
+        assertEquals(4, program.halfHeight(2));
+        assertEquals(100, program.baseDelayMillis(2));
+        assertEquals(50, program.maxRandomDelayMillis(2));
+        assertEquals(steps.get(2), program.step(2));
+        assertEquals(steps.get(1).action(), program.step(1).action());
+        assertEquals(2, program.distinctPositionPolicies());
+        assertThrows(IndexOutOfBoundsException.class, () -> program.x(4));
+    }
+
+    /*
+     * 시나리오: 동작 3종/좌표 정책 2종(단계마다 새 인스턴스)/딜레이 2종으로 10만 단계를 컴파일한다
+     *
+     * 기대(Then):
+     * - 표 크기는 3/2/2, 단계 열은 단계당 20바이트
+     */
+    @Test
+    @DisplayName("표 공유: 10만 단계도 값이 같은 정책은 항목 1개를 쓴다")
+    void compile_shouldInternRepeatedValues() {
+        MacroAction[] actions = {ClickAction.singleLeft(), ClickAction.doubleLeft(),
+                KeyAction.press(KeyStrokes.ENTER)};
+        ProgramCompiler compiler = new ProgramCompiler(1024);
+
+        for (int i = 0; i < 100_000; i++) {
+            ClickPositionPolicy policy = i % 2 == 0 ? new ExactPositionPolicy() : new RandomAreaPositionPolicy(2, 2);
+            compiler.add(i % 1920, i % 1080, actions[i % 3], policy, new DelayPolicy(i % 4 == 0 ? 0 : 10, 0, 0));
+        }
+        MacroProgram program = compiler.compile();
+
+        assertEquals(100_000, program.size());
+        assertEquals(3, program.distinctActions());
+        assertEquals(2, program.distinctPositionPolicies());
+        assertEquals(2, program.distinctDelayPolicies());
+        assertEquals(2_000_000, program.columnBytes());
+        assertEquals(actions[99_999 % 3], program.action(99_999));
+    }
+
+    /*
+     * 시나리오: 빈 목록, null 요소, 직접 구현한 좌표 정책
+     *
+     * 기대(Then):
+     * - 빈 목록은 IllegalArgumentException, null 요소는 NullPointerException
+     * - 직접 구현한 정책은 CUSTOM으로 분류되고 정책 객체가 그대로 남는다
+     */
+    @Test
+    @DisplayName("검증: 빈 프로그램 거부, 직접 구현한 좌표 정책은 CUSTOM")
+    void compile_validation() {
+        assertThrows(IllegalArgumentException.class, () -> MacroProgram.compile(List.of()));
+        List<MacroStep> withNull = new ArrayList<>();
+        withNull.add(null);
+        assertThrows(NullPointerException.class, () -> MacroProgram.compile(withNull));
+        assertThrows(IllegalArgumentException.class, () -> new ProgramCompiler(0));
+
+        ClickPositionPolicy mirrored = (base, random) -> new ScreenPoint(base.y(), base.x());
+        MacroProgram program = new ProgramCompiler()
+                .add(1, 2, ClickAction.singleLeft(), mirrored, new DelayPolicy(0, 0, 0))
+                .compile();
+
+        assertEquals(MacroProgram.PositionKind.CUSTOM, program.positionKind(0));
+        assertSame(mirrored, program.positionPolicy(0));
+    }
+}
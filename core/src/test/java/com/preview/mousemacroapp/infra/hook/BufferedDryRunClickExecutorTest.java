@@ -0,0 +1,207 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.MouseButton;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BufferedDryRunClickExecutor 출력 형식/flush 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link BufferedDryRunClickExecutor}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 텍스트 형식이 콘솔 Dry-Run({@link DryRunClickExecutor})과 같은 줄 형식을 유지하는지 검증한다.
+ * - 바이너리 형식이 헤더 + 고정 길이 레코드로 기록되는지 검증한다.
+ * - close 시 버퍼에 남은 레코드가 누락 없이 기록되는지 검증한다.
+ * - 실행 스레드가 빈 버퍼를 기다리는 동안 writer의 주기 flush가 막히지 않는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - CI에서 대량 Dry-Run 결과를 비교하므로, 형식/누락 회귀는 비교 결과를 깨뜨린다.
+ *
+ * @since 0.9
+ */
+class BufferedDryRunClickExecutorTest {
+
+    private static final Clock FIXED = Clock.fixed(Instant.parse("2026-02-14T00:00:01.007Z"), ZoneId.of("UTC"));
+
+    /*
+     * 시나리오: 텍스트 형식은 KST 타임스탬프 + 레코드 문자열 형식을 유지한다
+     *
+     * 입력(Given):
+     * - 시각 = 2026-02-14T00:00:01.007Z (KST 09:00:01.007)
+     * - 클릭 2회: singleLeft@(300,300), hold(RIGHT,250)@(-5,7)
+     *
+     * 기대(Then):
+     * - 두 줄이 DryRunClickExecutor와 같은 형식으로 기록된다.
+     */
+    @Test
+    @DisplayName("텍스트 형식: 콘솔 Dry-Run과 같은 줄 형식")
+    void text_shouldMatchConsoleFormat(@TempDir Path dir) throws Exception {
+        Path out = dir.resolve("dry-run.log");
+
+        try (BufferedDryRunClickExecutor executor =
+                     BufferedDryRunClickExecutor.open(out, BufferedDryRunClickExecutor.Format.TEXT, FIXED)) {
+            executor.execute(ClickAction.singleLeft(), new ScreenPoint(300, 300));
+            executor.execute(ClickAction.hold(MouseButton.RIGHT, 250), new ScreenPoint(-5, 7));
+        }
+
+        List<String> lines = Files.readAllLines(out, StandardCharsets.US_ASCII);
+        assertEquals(List.of(
+                "[DRY-RUN] 2026-02-14 09:00:01.007 action=" + ClickAction.singleLeft() + " point=" + new ScreenPoint(300, 300),
+                "[DRY-RUN] 2026-02-14 09:00:01.007 action=" + ClickAction.hold(MouseButton.RIGHT, 250) + " point=" + new ScreenPoint(-5, 7)
+        ), lines);
+    }
+
+    /*
+     * 시나리오: 바이너리 형식은 헤더 8바이트 + 레코드 32바이트 단위로 기록된다
+     *
+     * 입력(Given):
+     * - 클릭 N회(버퍼 여러 개를 순환할 만큼)
+     *
+     * 기대(Then):
+     * - 파일 크기 = 8 + N * 32
+     * - 마지막 레코드의 좌표/버튼이 입력과 같다.
+     */
+    @Test
+    @DisplayName("바이너리 형식: 고정 길이 레코드, 누락 없음")
+    void binary_shouldWriteFixedRecordsWithoutLoss(@TempDir Path dir) throws Exception {
+        Path out = dir.resolve("dry-run.bin");
+        int n = 100_000;
+
+        try (BufferedDryRunClickExecutor executor =
+                     BufferedDryRunClickExecutor.open(out, BufferedDryRunClickExecutor.Format.BINARY, FIXED)) {
+            for (int i = 0; i < n; i++) {
+                executor.execute(ClickAction.rightClick(), new ScreenPoint(i, -i));
+            }
+            assertEquals(n, executor.recordCount());
+        }
+
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(out));
+        assertEquals(8 + (long) n * BufferedDryRunClickExecutor.BINARY_RECORD_BYTES, bytes.capacity());
+        assertEquals(BufferedDryRunClickExecutor.BINARY_MAGIC, bytes.getInt(0));
+        assertEquals(BufferedDryRunClickExecutor.BINARY_VERSION, bytes.getInt(4));
+
+        int last = 8 + (n - 1) * BufferedDryRunClickExecutor.BINARY_RECORD_BYTES;
+        assertEquals(FIXED.millis(), bytes.getLong(last));
+        assertEquals(n - 1, bytes.getInt(last + 8));
+        assertEquals(-(n - 1), bytes.getInt(last + 12));
+        assertEquals(1, bytes.getInt(last + 24));
+        assertEquals(MouseButton.RIGHT.ordinal(), bytes.get(last + 28));
+    }
+
+    /*
+     * 시나리오: writer가 첫 버퍼 쓰기에서 멈춘 사이 실행 스레드가 나머지 버퍼를 채우고 빈 버퍼를 기다린다.
+     *          그 상태에서 writer 쪽 주기 flush를 부른다
+     *
+     * 기대(Then):
+     * - 주기 flush가 실행 스레드의 잠금을 기다리지 않고 바로 돌아온다(교착 없음)
+     * - 쓰기를 풀면 모든 레코드가 누락 없이 기록된다
+     */
+    @Test
+    @DisplayName("역압: 실행 스레드가 버퍼를 기다리는 동안 주기 flush가 막히지 않는다")
+    void flushPartial_whileProducerWaits_shouldNotBlock() throws Exception {
+        int recordBytes = BufferedDryRunClickExecutor.BINARY_RECORD_BYTES;
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        WritableByteChannel gated = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                int n = src.remaining();
+                byte[] bytes = new byte[n];
+                src.get(bytes);
+                written.write(bytes, 0, n);
+                return n;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        // 버퍼 4개 × 레코드 2개: 헤더(8) + 레코드 1개가 첫 버퍼를 채운다.
+        BufferedDryRunClickExecutor executor = new BufferedDryRunClickExecutor(
+                FIXED, gated, BufferedDryRunClickExecutor.Format.BINARY, recordBytes * 2);
+        int n = 16;
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < n; i++) {
+                executor.execute(ClickAction.singleLeft(), new ScreenPoint(i, i));
+            }
+        });
+        producer.start();
+        writing.await();
+        while (producer.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), executor::flushPartial);
+
+        release.countDown();
+        producer.join();
+        executor.close();
+        assertEquals(8 + (long) n * recordBytes, written.size());
+    }
+
+    /*
+     * 시나리오: 닫힌 뒤의 실행은 거부된다
+     *
+     * 기대(Then):
+     * - IllegalStateException 발생
+     * - close는 멱등
+     */
+    @Test
+    @DisplayName("수명 주기: close 이후 execute는 예외, close는 멱등")
+    void execute_afterClose_shouldThrow(@TempDir Path dir) throws Exception {
+        BufferedDryRunClickExecutor executor =
+                BufferedDryRunClickExecutor.open(dir.resolve("x.log"), BufferedDryRunClickExecutor.Format.TEXT, FIXED);
+        executor.close();
+        executor.close();
+
+        assertThrows(IllegalStateException.class,
+                () -> executor.execute(ClickAction.singleLeft(), new ScreenPoint(0, 0)));
+    }
+
+    /*
+     * 시나리오: 밀리초 접두어 캐시는 DateTimeFormatter 결과와 같아야 한다(초 경계 포함)
+     */
+    @Test
+    @DisplayName("타임스탬프 캐시: 초/밀리초 경계에서도 포맷 결과 동일")
+    void prefixCache_shouldMatchFormatterAcrossBoundaries() {
+        TimestampPrefixCache cache = new TimestampPrefixCache("[T] ", ZoneId.of("Asia/Seoul"));
+        long base = Instant.parse("2026-12-31T14:59:59.998Z").toEpochMilli();
+
+        assertEquals("[T] 2026-12-31 23:59:59.998 ", new String(cache.prefixFor(base), StandardCharsets.US_ASCII));
+        assertEquals("[T] 2026-12-31 23:59:59.999 ", new String(cache.prefixFor(base + 1), StandardCharsets.US_ASCII));
+        assertEquals("[T] 2027-01-01 00:00:00.000 ", new String(cache.prefixFor(base + 2), StandardCharsets.US_ASCII));
+        assertEquals("[T] 2027-01-01 00:00:00.000 ", new String(cache.prefixFor(base + 2), StandardCharsets.US_ASCII));
+    }
+}
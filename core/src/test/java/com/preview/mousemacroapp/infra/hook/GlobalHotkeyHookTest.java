@@ -0,0 +1,172 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.github.kwhat.jnativehook.NativeHookException;
+import com.github.kwhat.jnativehook.NativeInputEvent;
+import com.github.kwhat.jnativehook.keyboard.NativeKeyEvent;
+import com.github.kwhat.jnativehook.keyboard.NativeKeyListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseMotionListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseWheelListener;
+import com.preview.mousemacroapp.domain.hotkey.HotkeyAction;
+import com.preview.mousemacroapp.domain.hotkey.HotkeyLatency;
+import com.preview.mousemacroapp.domain.hotkey.KeyChord;
+import com.preview.mousemacroapp.launch.HotkeyOptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 전역 단축키 훅 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link GlobalHotkeyHook}
+ * - {@link NativeKeyNames}
+ * - {@link HotkeyOptions}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 키 이름 문자열이 JNativeHook 키 코드/정규화된 수정키로 해석되는지 검증한다.
+ * - 좌/우 수정키와 잠금키 마스크가 섞여도 같은 조합으로 판단되는지 검증한다.
+ * - 완성된 단축키만 처리 실행기로 전달되고, 지연 시간이 기록되는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 수정키 정규화가 깨지면 오른쪽 Ctrl이나 CapsLock 상태에서 단축키가 동작하지 않는다.
+ *
+ * @since 0.9
+ */
+class GlobalHotkeyHookTest {
+
+    @Test
+    @DisplayName("키 이름: 조합/순서열 해석")
+    void parse_shouldResolveNamesToCodes() {
+        assertEquals(List.of(new KeyChord(KeyChord.CTRL | KeyChord.SHIFT, NativeKeyEvent.VC_F9)),
+                NativeKeyNames.parseSequence("Ctrl+Shift+F9"));
+        assertEquals(List.of(new KeyChord(KeyChord.CTRL, NativeKeyEvent.VC_K), new KeyChord(0, NativeKeyEvent.VC_S)),
+                NativeKeyNames.parseSequence("ctrl+k, s"));
+
+        assertThrows(IllegalArgumentException.class, () -> NativeKeyNames.parseSequence("Ctrl+Shift"));
+        assertThrows(IllegalArgumentException.class, () -> NativeKeyNames.parseSequence("Ctrl+NoSuchKey"));
+        assertThrows(IllegalArgumentException.class, () -> NativeKeyNames.parseSequence("A+B"));
+    }
+
+    /*
+     * 시나리오: 기본 단축키로 훅을 구성하고 키 입력을 흘려보낸다
+     *
+     * 입력(Given):
+     * - 기본 구성(START=Ctrl+Shift+F9, STOP=Ctrl+Shift+F11)
+     * - 처리 실행기 = 호출 스레드 즉시 실행
+     * - 입력: Ctrl 단독, 오른쪽 Ctrl+왼쪽 Shift+CapsLock+F9, F9 단독, Ctrl+Shift+F11
+     *
+     * 기대(Then):
+     * - 처리된 동작 = [START, STOP]
+     * - 지연 시간 통계 count=2
+     */
+    @Test
+    @DisplayName("훅: 완성된 단축키만 처리, 지연 시간 기록")
+    void hook_shouldDispatchMatchedActionsAndRecordLatency() {
+        List<HotkeyAction> handled = new ArrayList<>();
+        RecordingFacade facade = new RecordingFacade();
+        GlobalHotkeyHook hook = new GlobalHotkeyHook(
+                facade, HotkeyOptions.parse(new String[0]).compile(), Runnable::run, handled::add);
+
+        hook.start();
+        hook.start();
+        assertEquals(1, facade.keyListeners.size());
+
+        int rightCtrlLeftShiftCaps = NativeInputEvent.CTRL_R_MASK | NativeInputEvent.SHIFT_L_MASK
+                | NativeInputEvent.CAPS_LOCK_MASK;
+        hook.onKeyPressed(NativeInputEvent.CTRL_L_MASK, NativeKeyEvent.VC_CONTROL);
+        hook.onKeyPressed(rightCtrlLeftShiftCaps, NativeKeyEvent.VC_F9);
+        hook.onKeyPressed(0, NativeKeyEvent.VC_F9);
+        hook.onKeyPressed(NativeInputEvent.CTRL_MASK | NativeInputEvent.SHIFT_MASK, NativeKeyEvent.VC_F11);
+
+        assertEquals(List.of(HotkeyAction.START, HotkeyAction.STOP), handled);
+        HotkeyLatency latency = hook.latency();
+        assertEquals(2, latency.count());
+        assertTrue(latency.maxNanos() >= latency.meanNanos());
+
+        hook.stop();
+        assertTrue(facade.keyListeners.isEmpty());
+    }
+
+    @Test
+    @DisplayName("구성: 사용자 지정 단축키/비활성화 인자 해석")
+    void options_shouldParseOverrides() {
+        HotkeyOptions options = HotkeyOptions.parse(new String[]{
+                "--hotkeys=off", "--hotkey-start=Alt+S", "--hotkey-sequence-timeout=500"
+        });
+
+        assertFalse(options.enabled());
+        assertTrue(options.bindings().stream().anyMatch(b -> b.action() == HotkeyAction.START
+                && b.sequence().equals(List.of(new KeyChord(KeyChord.ALT, NativeKeyEvent.VC_S)))));
+        assertEquals(500, options.sequenceTimeout().toMillis());
+        assertThrows(IllegalArgumentException.class,
+                () -> HotkeyOptions.parse(new String[]{"--hotkey-stop=Ctrl+Shift+F9"}).compile());
+    }
+
+    /**
+     * 키 리스너 연결/해제만 기록하는 테스트 전용 파사드.
+     */
+    private static final class RecordingFacade implements JNativeHookFacade {
+
+        private final List<NativeKeyListener> keyListeners = new ArrayList<>();
+
+        @Override
+        public void register() throws NativeHookException {
+        }
+
+        @Override
+        public void unregister() throws NativeHookException {
+        }
+
+        @Override
+        public void addKeyListener(NativeKeyListener listener) {
+            keyListeners.add(listener);
+        }
+
+        @Override
+        public void removeKeyListener(NativeKeyListener listener) {
+            keyListeners.remove(listener);
+        }
+
+        @Override
+        public void addMouseListener(NativeMouseListener listener) {
+        }
+
+        @Override
+        public void removeMouseListener(NativeMouseListener listener) {
+        }
+
+        @Override
+        public void addMouseMotionListener(NativeMouseMotionListener listener) {
+        }
+
+        @Override
+        public void removeMouseMotionListener(NativeMouseMotionListener listener) {
+        }
+
+        @Override
+        public void addMouseWheelListener(NativeMouseWheelListener listener) {
+        }
+
+        @Override
+        public void removeMouseWheelListener(NativeMouseWheelListener listener) {
+        }
+
+        @Override
+        public void addInputTap(NativeInputTap tap) {
+        }
+
+        @Override
+        public void removeInputTap(NativeInputTap tap) {
+        }
+
+        @Override
+        public boolean isRegistered() {
+            return true;
+        }
+    }
+}
@@ -214,6 +214,30 @@ class JNativeHookMouseClickCaptorTest {
             }
         }
 
+        @Override
+        public void addMouseMotionListener(com.github.kwhat.jnativehook.mouse.NativeMouseMotionListener listener) {
+        }
+
+        @Override
+        public void removeMouseMotionListener(com.github.kwhat.jnativehook.mouse.NativeMouseMotionListener listener) {
+        }
+
+        @Override
+        public void addMouseWheelListener(com.github.kwhat.jnativehook.mouse.NativeMouseWheelListener listener) {
+        }
+
+        @Override
+        public void removeMouseWheelListener(com.github.kwhat.jnativehook.mouse.NativeMouseWheelListener listener) {
+        }
+
+        @Override
+        public void addInputTap(NativeInputTap tap) {
+        }
+
+        @Override
+        public void removeInputTap(NativeInputTap tap) {
+        }
+
         @Override
         public boolean isRegistered() {
             return true;
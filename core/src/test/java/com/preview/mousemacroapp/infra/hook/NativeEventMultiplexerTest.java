@@ -0,0 +1,232 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.github.kwhat.jnativehook.keyboard.NativeKeyEvent;
+import com.github.kwhat.jnativehook.keyboard.NativeKeyListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseEvent;
+import com.github.kwhat.jnativehook.mouse.NativeMouseListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseMotionListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 전역 입력 이벤트 다중화기 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link NativeEventMultiplexer}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 구독자가 생긴 종류만 다리 리스너가 연결되고, 마지막 구독자가 빠지면 해제되는지 검증한다.
+ * - 구독자가 없는 종류의 이벤트는 처리 실행기에 넘기지 않고 버리는지 검증한다.
+ * - 한 구독자의 예외가 다른 구독자 전달을 막지 않는지 검증한다.
+ * - 느린 구독자가 훅 스레드(다리 리스너 호출자)를 붙잡지 않는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 훅 스레드가 리스너 처리에 묶이면 OS 입력 자체가 지연된다.
+ *
+ * @since 0.9
+ */
+class NativeEventMultiplexerTest {
+
+    private static final NativeKeyEvent F9_PRESSED = new NativeKeyEvent(
+            NativeKeyEvent.NATIVE_KEY_PRESSED, 0, 0, NativeKeyEvent.VC_F9, NativeKeyEvent.CHAR_UNDEFINED);
+    private static final NativeMouseEvent MOVED = new NativeMouseEvent(
+            NativeMouseEvent.NATIVE_MOUSE_MOVED, 0, 10, 20, 0);
+
+    /*
+     * 시나리오: 키 구독자 2개를 붙였다 떼고, 이동 구독자를 붙인다
+     *
+     * 입력(Given):
+     * - 연결 기록용 ScreenPort
+     *
+     * 기대(Then):
+     * - 키 다리 연결은 첫 구독 시 1회, 해제는 마지막 구독 해제 시 1회
+     * - 이동 구독 시 이동 다리만 연결
+     */
+    @Test
+    @DisplayName("연결: 구독 종류가 생길 때만 다리 연결/해제")
+    void subscribe_shouldAttachBridgePerTypeOnce() {
+        RecordingPort port = new RecordingPort();
+        NativeEventMultiplexer mux = new NativeEventMultiplexer(port, Runnable::run);
+        NativeKeyListener a = new NativeKeyListener() {
+        };
+        NativeKeyListener b = new NativeKeyListener() {
+        };
+
+        mux.addKeyListener(a);
+        mux.addKeyListener(b);
+        mux.removeKeyListener(a);
+        mux.removeKeyListener(a);
+        mux.removeKeyListener(b);
+        mux.addMouseMotionListener(new NativeMouseMotionListener() {
+        });
+
+        assertEquals(List.of("+key", "-key", "+motion"), port.log);
+    }
+
+    /*
+     * 시나리오: 키 구독자만 있는 상태에서 키/이동/버튼 이벤트를 흘려보낸다
+     *
+     * 입력(Given):
+     * - 처리 실행기 호출 횟수를 세는 실행기
+     *
+     * 기대(Then):
+     * - 키 이벤트만 실행기로 전달(1회), 나머지 2건은 버림 카운트
+     * - 구독자는 F9 눌림을 받는다
+     */
+    @Test
+    @DisplayName("필터: 구독자가 없는 종류는 실행기에 넘기지 않는다")
+    void fanOut_whenNoSubscriberForType_thenFilteredBeforeDispatch() {
+        List<Runnable> submitted = new ArrayList<>();
+        NativeEventMultiplexer mux = new NativeEventMultiplexer(new RecordingPort(), submitted::add);
+        List<Integer> pressed = new ArrayList<>();
+        mux.addKeyListener(new NativeKeyListener() {
+            @Override
+            public void nativeKeyPressed(NativeKeyEvent e) {
+                pressed.add(e.getKeyCode());
+            }
+        });
+
+        mux.bridge().nativeKeyPressed(F9_PRESSED);
+        mux.bridge().nativeMouseMoved(MOVED);
+        mux.bridge().nativeMousePressed(MOVED);
+
+        assertEquals(1, submitted.size());
+        assertEquals(1, mux.dispatchedCount());
+        assertEquals(2, mux.filteredCount());
+
+        submitted.forEach(Runnable::run);
+        assertEquals(List.of(NativeKeyEvent.VC_F9), pressed);
+    }
+
+    /*
+     * 시나리오: 첫 구독자가 예외를 던지고 두 번째 구독자는 정상 처리한다
+     *
+     * 기대(Then):
+     * - 두 번째 구독자도 이벤트를 받는다
+     * - 같은 종류가 아닌 구독자(버튼)는 키 이벤트를 받지 않는다
+     */
+    @Test
+    @DisplayName("격리: 구독자 예외가 다른 구독자 전달을 막지 않는다")
+    void deliver_whenListenerThrows_thenOthersStillReceive() {
+        NativeEventMultiplexer mux = new NativeEventMultiplexer(new RecordingPort(), Runnable::run);
+        List<String> received = new ArrayList<>();
+        mux.addKeyListener(new NativeKeyListener() {
+            @Override
+            public void nativeKeyPressed(NativeKeyEvent e) {
+                throw new IllegalStateException("boom");
+            }
+        });
+        mux.addMouseListener(new NativeMouseListener() {
+            @Override
+            public void nativeMousePressed(NativeMouseEvent e) {
+                received.add("button");
+            }
+        });
+        mux.addKeyListener(new NativeKeyListener() {
+            @Override
+            public void nativeKeyPressed(NativeKeyEvent e) {
+                received.add("key");
+            }
+        });
+
+        mux.bridge().nativeKeyPressed(F9_PRESSED);
+
+        assertEquals(List.of("key"), received);
+    }
+
+    /*
+     * 시나리오: 실제 순서 보장/가상 스레드 실행기에서 구독자가 막혀 있는 동안 이벤트를 계속 흘려보낸다
+     *
+     * 기대(Then):
+     * - 다리 리스너 호출(훅 스레드 역할)은 구독자 해제를 기다리지 않고 즉시 반환한다
+     * - 해제 후 모든 이벤트가 전달된다
+     */
+    @Test
+    @DisplayName("비차단: 느린 구독자가 훅 스레드를 붙잡지 않는다")
+    void fanOut_whenListenerBlocks_thenHookThreadNotHeld() throws Exception {
+        for (NativeEventMultiplexer.DispatchMode mode : NativeEventMultiplexer.DispatchMode.values()) {
+            NativeEventMultiplexer mux = new NativeEventMultiplexer(new RecordingPort(),
+                    NativeEventMultiplexer.newHandlerExecutor(mode));
+            CountDownLatch gate = new CountDownLatch(1);
+            CountDownLatch delivered = new CountDownLatch(100);
+            mux.addKeyListener(new NativeKeyListener() {
+                @Override
+                public void nativeKeyPressed(NativeKeyEvent e) {
+                    try {
+                        gate.await();
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    delivered.countDown();
+                }
+            });
+
+            long started = System.nanoTime();
+            for (int i = 0; i < 100; i++) {
+                mux.bridge().nativeKeyPressed(F9_PRESSED);
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            gate.countDown();
+
+            assertTrue(elapsedMillis < 1_000, mode + " elapsedMillis=" + elapsedMillis);
+            assertTrue(delivered.await(5, TimeUnit.SECONDS), mode.toString());
+        }
+    }
+
+    /*
+     * 시나리오: 리스너 없이 관찰자만 연결하고 키/이동 이벤트를 흘려보낸다
+     *
+     * 기대(Then):
+     * - 관찰자 연결 시 4종류 다리가 모두 연결, 해제 시 모두 해제
+     * - 관찰자는 호출 스레드에서 두 이벤트를 모두 받고, 처리 실행기로는 넘기지 않는다
+     */
+    @Test
+    @DisplayName("관찰자: 훅 스레드에서 모든 종류를 직접 받는다")
+    void tap_shouldObserveAllTypesInline() {
+        RecordingPort port = new RecordingPort();
+        List<Runnable> submitted = new ArrayList<>();
+        NativeEventMultiplexer mux = new NativeEventMultiplexer(port, submitted::add);
+        List<Integer> observed = new ArrayList<>();
+        NativeInputTap tap = e -> observed.add(e.getID());
+
+        mux.addInputTap(tap);
+        mux.bridge().nativeKeyPressed(F9_PRESSED);
+        mux.bridge().nativeMouseMoved(MOVED);
+        mux.removeInputTap(tap);
+
+        assertEquals(List.of(NativeKeyEvent.NATIVE_KEY_PRESSED, NativeMouseEvent.NATIVE_MOUSE_MOVED), observed);
+        assertTrue(submitted.isEmpty());
+        assertEquals(List.of("+key", "+button", "+motion", "+wheel", "-key", "-button", "-motion", "-wheel"), port.log);
+    }
+
+    private static final class RecordingPort implements NativeEventMultiplexer.ScreenPort {
+
+        private final List<String> log = new ArrayList<>();
+
+        @Override
+        public void attach(int type, NativeEventMultiplexer.Bridge bridge) {
+            log.add("+" + name(type));
+        }
+
+        @Override
+        public void detach(int type, NativeEventMultiplexer.Bridge bridge) {
+            log.add("-" + name(type));
+        }
+
+        private static String name(int type) {
+            return switch (type) {
+                case NativeEventMultiplexer.KEY -> "key";
+                case NativeEventMultiplexer.BUTTON -> "button";
+                case NativeEventMultiplexer.MOTION -> "motion";
+                default -> "wheel";
+            };
+        }
+    }
+}
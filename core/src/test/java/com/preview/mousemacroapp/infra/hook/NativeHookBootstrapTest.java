@@ -0,0 +1,270 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.github.kwhat.jnativehook.NativeHookException;
+import com.github.kwhat.jnativehook.keyboard.NativeKeyListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseMotionListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseWheelListener;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.service.CaptureResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 전역 훅 백그라운드 초기화 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link NativeHookBootstrap}
+ * - {@link JNativeHookMouseClickCaptor} (준비 Future 연결)
+ *
+ * <p><b>검증 목적</b></p>
+ * - 등록이 호출 스레드가 아닌 초기화 실행기에서 수행되는지 검증한다.
+ * - 준비 전 캡처 요청은 호출 스레드를 막지 않고, 준비 완료 후 리스너가 연결되는지 검증한다.
+ * - 준비 대기 중 취소하면 리스너가 연결되지 않는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 네이티브 로드가 UI 스레드로 돌아오면 창 표시/첫 캡처가 다시 느려진다.
+ *
+ * @since 0.9
+ */
+class NativeHookBootstrapTest {
+
+    /*
+     * 시나리오: 등록이 끝나기 전에는 ready가 완료되지 않는다
+     *
+     * 입력(Given):
+     * - register가 latch 해제까지 블록되는 파사드
+     *
+     * 기대(Then):
+     * - 시작 직후 ready 미완료, latch 해제 후 완료
+     * - register는 1회 호출, close 후 unregister 1회
+     */
+    @Test
+    @DisplayName("준비 Future: 등록 완료 후에 완료, close는 해제")
+    void ready_shouldCompleteAfterRegister() throws Exception {
+        BlockingFacade facade = new BlockingFacade();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            NativeHookBootstrap bootstrap = NativeHookBootstrap.start(facade, executor);
+            CompletableFuture<Void> ready = bootstrap.ready();
+
+            assertFalse(ready.isDone());
+            facade.release.countDown();
+            ready.get(1, TimeUnit.SECONDS);
+
+            bootstrap.close();
+            assertEquals(1, facade.registerCalls.get());
+            assertEquals(1, facade.unregisterCalls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /*
+     * 시나리오: 등록 실패는 ready를 예외로 완료한다
+     */
+    @Test
+    @DisplayName("준비 Future: 등록 실패 시 NativeHookException 원인으로 예외 완료")
+    void ready_whenRegisterFails_shouldCompleteExceptionally() {
+        BlockingFacade facade = new BlockingFacade();
+        facade.fail = true;
+        facade.release.countDown();
+
+        NativeHookBootstrap bootstrap = NativeHookBootstrap.start(facade, Runnable::run);
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> bootstrap.ready().get());
+        assertInstanceOf(NativeHookException.class, ex.getCause());
+    }
+
+    /*
+     * 시나리오: 준비 전에 캡처를 요청한다
+     *
+     * 기대(Then):
+     * - captureNextClick은 즉시 반환, 리스너는 아직 연결되지 않음
+     * - 준비 완료 후 리스너 연결
+     */
+    @Test
+    @DisplayName("캡처: 준비 전 요청은 비차단, 준비 후 리스너 연결")
+    void capture_beforeReady_shouldArmAfterReady() throws Exception {
+        BlockingFacade facade = new BlockingFacade();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            NativeHookBootstrap bootstrap = NativeHookBootstrap.start(facade, executor);
+            JNativeHookMouseClickCaptor captor =
+                    new JNativeHookMouseClickCaptor(facade, scheduler, bootstrap.ready());
+
+            CompletableFuture<CaptureResult<ScreenPoint>> future = captor.captureNextClick(Duration.ofSeconds(2));
+            assertFalse(future.isDone());
+            assertEquals(0, facade.addMouseCalls.get());
+
+            facade.release.countDown();
+            bootstrap.ready().get(1, TimeUnit.SECONDS);
+            awaitCount(facade.addMouseCalls, 1);
+
+            captor.cancel();
+            assertEquals(CaptureResult.Status.CANCELLED, future.get(1, TimeUnit.SECONDS).status());
+            assertEquals(1, facade.removeMouseCalls.get());
+        } finally {
+            executor.shutdownNow();
+            scheduler.shutdownNow();
+        }
+    }
+
+    /*
+     * 시나리오: 준비 대기 중 취소한다
+     *
+     * 기대(Then):
+     * - 준비 완료 후에도 리스너가 연결되지 않는다.
+     */
+    @Test
+    @DisplayName("캡처: 준비 대기 중 취소하면 리스너를 연결하지 않는다")
+    void capture_cancelledBeforeReady_shouldNotArm() throws Exception {
+        BlockingFacade facade = new BlockingFacade();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            NativeHookBootstrap bootstrap = NativeHookBootstrap.start(facade, executor);
+            JNativeHookMouseClickCaptor captor =
+                    new JNativeHookMouseClickCaptor(facade, scheduler, bootstrap.ready());
+
+            CompletableFuture<CaptureResult<ScreenPoint>> future = captor.captureNextClick(Duration.ofSeconds(2));
+            captor.cancel();
+            facade.release.countDown();
+            bootstrap.ready().get(1, TimeUnit.SECONDS);
+
+            assertEquals(CaptureResult.Status.CANCELLED, future.get(1, TimeUnit.SECONDS).status());
+            assertEquals(0, facade.addMouseCalls.get());
+        } finally {
+            executor.shutdownNow();
+            scheduler.shutdownNow();
+        }
+    }
+
+    /*
+     * 시나리오: 준비가 실패하면 캡처는 FAILED로 완료된다
+     *
+     * 기대(Then):
+     * - 리스너 연결 없이 FAILED
+     */
+    @Test
+    @DisplayName("캡처: 준비 실패 시 FAILED, 리스너 미연결")
+    void capture_whenReadyFailed_shouldFail() throws Exception {
+        BlockingFacade facade = new BlockingFacade();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        try {
+            JNativeHookMouseClickCaptor captor = new JNativeHookMouseClickCaptor(facade, scheduler,
+                    CompletableFuture.failedFuture(new UnsatisfiedLinkError("libXtst.so.6")));
+
+            CaptureResult<ScreenPoint> result = captor.captureNextClick(Duration.ofSeconds(2)).get(1, TimeUnit.SECONDS);
+
+            assertEquals(CaptureResult.Status.FAILED, result.status());
+            assertEquals(0, facade.registerCalls.get());
+            assertEquals(0, facade.addMouseCalls.get());
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static void awaitCount(AtomicInteger counter, int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (counter.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, counter.get());
+    }
+
+    /**
+     * register가 latch 해제까지 블록되는 테스트 전용 파사드.
+     */
+    private static final class BlockingFacade implements JNativeHookFacade {
+
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger registerCalls = new AtomicInteger();
+        private final AtomicInteger unregisterCalls = new AtomicInteger();
+        private final AtomicInteger addMouseCalls = new AtomicInteger();
+        private final AtomicInteger removeMouseCalls = new AtomicInteger();
+
+        private volatile boolean fail;
+        private volatile boolean registered;
+
+        @Override
+        public void register() throws NativeHookException {
+            registerCalls.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (fail) {
+                throw new NativeHookException("test failure");
+            }
+            registered = true;
+        }
+
+        @Override
+        public void unregister() {
+            unregisterCalls.incrementAndGet();
+            registered = false;
+        }
+
+        @Override
+        public void addKeyListener(NativeKeyListener listener) {
+        }
+
+        @Override
+        public void removeKeyListener(NativeKeyListener listener) {
+        }
+
+        @Override
+        public void addMouseListener(NativeMouseListener listener) {
+            addMouseCalls.incrementAndGet();
+        }
+
+        @Override
+        public void removeMouseListener(NativeMouseListener listener) {
+            removeMouseCalls.incrementAndGet();
+        }
+
+        @Override
+        public void addMouseMotionListener(NativeMouseMotionListener listener) {
+        }
+
+        @Override
+        public void removeMouseMotionListener(NativeMouseMotionListener listener) {
+        }
+
+        @Override
+        public void addMouseWheelListener(NativeMouseWheelListener listener) {
+        }
+
+        @Override
+        public void removeMouseWheelListener(NativeMouseWheelListener listener) {
+        }
+
+        @Override
+        public void addInputTap(NativeInputTap tap) {
+        }
+
+        @Override
+        public void removeInputTap(NativeInputTap tap) {
+        }
+
+        @Override
+        public boolean isRegistered() {
+            return registered;
+        }
+    }
+}
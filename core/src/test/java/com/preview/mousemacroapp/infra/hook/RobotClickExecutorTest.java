@@ -0,0 +1,467 @@
+package com.preview.mousemacroapp.infra.hook;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.DragAction;
+import com.preview.mousemacroapp.domain.action.KeyAction;
+import com.preview.mousemacroapp.domain.action.KeyStrokes;
+import com.preview.mousemacroapp.domain.action.MouseButton;
+import com.preview.mousemacroapp.domain.action.ScrollAction;
+import com.preview.mousemacroapp.domain.motion.MotionProfile;
+import com.preview.mousemacroapp.domain.motion.TrajectoryModel;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.service.replay.DeadlineTimer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.event.KeyEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RobotClickExecutor 동작 순서 및 파라미터 전달 회귀 방지 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link RobotClickExecutor}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 클릭 실행 순서(move → press/release)가 규칙대로 고정되는지 검증한다.
+ *
+ * <p><b>검증 범위</b></p>
+ * - 단일 클릭(clickCount=1, holdMillis=0)
+ * - 연속 클릭(clickCount>1, holdMillis=0)
+ * - 홀드 클릭(holdMillis>0)
+ * - 경로 이동(TrajectoryMover): 첫 클릭은 바로 이동, 이후 클릭은 직전 좌표에서 경로를 따라 이동
+ * - 드래그: press → 주기 마감마다 중간 점 → release (인터럽트 시에도 release)
+ * - 스크롤: 이동 후 휠 한 칸씩 간격 유지
+ * - 키보드: 간격 0이면 순서열 전체 1회 일괄 전달, 간격이 있으면 키 입력 경계마다 마감 대기, 중단 시 Shift 정리,
+ *   키보드 구현체가 없으면 지원하지 않는다고 알림
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - OS 입력은 부작용이 크므로, 실행 규칙이 깨지면 오작동이 즉시 발생한다.
+ *
+ * @since 0.6
+ */
+class RobotClickExecutorTest {
+
+    /*
+     * 시나리오: 단일 클릭은 move 후 press/release 1회가 수행되어야 한다
+     *
+     * 입력(Given):
+     * - action = new ClickAction(LEFT, 1, 0)
+     * - point = new ScreenPoint(10, 20)
+     *
+     * 예상 결과(Then):
+     * - 호출 순서: move(10,20) → press(LEFT) → release(LEFT)
+     */
+    @Test
+    @DisplayName("단일 클릭: move → press → release")
+    void singleClick_orderShouldBeFixed() {
+        FakeRobotMouse fake = new FakeRobotMouse();
+        RobotClickExecutor executor = new RobotClickExecutor(fake);
+
+        executor.execute(new ClickAction(MouseButton.LEFT, 1, 0), new ScreenPoint(10, 20));
+
+        assertEquals(List.of(
+                "move(10,20)",
+                "press(LEFT)",
+                "release(LEFT)"
+        ), fake.calls);
+    }
+
+    /*
+     * 시나리오: 연속 클릭은 move 후 press/release가 clickCount만큼 반복되어야 한다
+     *
+     * 입력(Given):
+     * - action = new ClickAction(RIGHT, 2, 0)
+     * - point = new ScreenPoint(1, 2)
+     *
+     * 예상 결과(Then):
+     * - press/release가 2회 반복된다
+     */
+    @Test
+    @DisplayName("연속 클릭: clickCount만큼 press/release 반복")
+    void multiClick_shouldRepeatPressRelease() {
+        FakeRobotMouse fake = new FakeRobotMouse();
+        RobotClickExecutor executor = new RobotClickExecutor(fake);
+
+        executor.execute(new ClickAction(MouseButton.RIGHT, 2, 0), new ScreenPoint(1, 2));
+
+        assertEquals(List.of(
+                "move(1,2)",
+                "press(RIGHT)",
+                "release(RIGHT)",
+                "press(RIGHT)",
+                "release(RIGHT)"
+        ), fake.calls);
+    }
+
+    /*
+     * 시나리오: 홀드 클릭은 move 후 press → (sleep) → release 순서가 유지되어야 한다
+     *
+     * 입력(Given):
+     * - action = new ClickAction(MIDDLE, 1, 50)
+     * - point = new ScreenPoint(7, 8)
+     *
+     * 예상 결과(Then):
+     * - 호출 순서: move → press → release
+     * - (sleep 자체는 시간 기반이라 직접 검증하지 않고, press/release 순서를 고정한다)
+     */
+    @Test
+    @DisplayName("홀드 클릭: move → press → release 순서 고정")
+    void holdClick_shouldPressThenRelease() {
+        FakeRobotMouse fake = new FakeRobotMouse();
+        RobotClickExecutor executor = new RobotClickExecutor(fake);
+
+        executor.execute(new ClickAction(MouseButton.MIDDLE, 1, 50), new ScreenPoint(7, 8));
+
+        assertEquals(List.of(
+                "move(7,8)",
+                "press(MIDDLE)",
+                "release(MIDDLE)"
+        ), fake.calls);
+    }
+
+    /*
+     * 시나리오: 경로 이동기를 붙여 두 좌표를 차례로 클릭한다(가상 타이머)
+     *
+     * 입력(Given):
+     * - Bezier 모델, 125Hz 기본 프로파일, 고정 시드
+     *
+     * 예상 결과(Then):
+     * - 첫 클릭: move 1회 후 press/release
+     * - 둘째 클릭: move 여러 회(마지막이 목표 좌표) 후 press/release
+     * - 이동 명령은 8ms 주기 마감에 나간다(가상 타이머 기준 지연 0)
+     */
+    @Test
+    @DisplayName("경로 이동: 직전 클릭 좌표에서 경로를 따라 이동한 뒤 클릭")
+    void trajectoryMover_shouldStreamMovesBetweenClicks() {
+        FakeRobotMouse fake = new FakeRobotMouse();
+        VirtualTimer timer = new VirtualTimer();
+        TrajectoryMover mover = new TrajectoryMover(fake, TrajectoryModel.bezier(), MotionProfile.defaults(),
+                new SplittableRandom(1), timer);
+        RobotClickExecutor executor = new RobotClickExecutor(fake, mover);
+        ClickAction click = new ClickAction(MouseButton.LEFT, 1, 0);
+
+        executor.execute(click, new ScreenPoint(100, 100));
+        assertEquals(List.of("move(100,100)", "press(LEFT)", "release(LEFT)"), fake.calls);
+
+        fake.calls.clear();
+        executor.execute(click, new ScreenPoint(900, 500));
+
+        int pressAt = fake.calls.indexOf("press(LEFT)");
+        assertTrue(pressAt > 10, "moves=" + pressAt);
+        assertEquals("move(900,500)", fake.calls.get(pressAt - 1));
+        assertTrue(fake.calls.subList(0, pressAt).stream().allMatch(c -> c.startsWith("move(")));
+        assertEquals(pressAt, timer.waits);
+        assertEquals(0, timer.now % MotionProfile.defaults().stepNanos());
+        assertEquals(0, mover.maxLatenessNanos());
+    }
+
+    /*
+     * 시나리오: 2초 드래그를 100Hz로 수행한다(가상 타이머, 출력 1회에 3ms 지연)
+     *
+     * 입력(Given):
+     * - DragAction(LEFT, to=(1000,100), 2000ms), 시작 (0,100)
+     *
+     * 예상 결과(Then):
+     * - move(0,100) → press → 중간 점 최대 200개(같은 픽셀 제외, 마지막이 도착 좌표) → release
+     * - 출력 지연(3ms)이 누적되지 않아 각 점은 10ms 배수 마감에 나간다(이동 명령 사이 간격 10ms 유지)
+     * - perform(동작 공통 타입)도 같은 경로로 보낸다
+     */
+    @Test
+    @DisplayName("드래그: 누른 채 중간 점을 고정 주기로 내보낸 뒤 뗀다")
+    void drag_shouldStreamPointsAtFixedCadence() {
+        VirtualTimer timer = new VirtualTimer();
+        FakeRobotMouse fake = new FakeRobotMouse();
+        fake.onMove = () -> {
+            fake.movedAt.add(timer.now);
+            timer.now += 3_000_000L;
+        };
+        RobotClickExecutor executor = new RobotClickExecutor(fake, null, 100, timer);
+
+        executor.perform(DragAction.left(new ScreenPoint(1000, 100), 2000), new ScreenPoint(0, 100));
+
+        assertEquals("move(0,100)", fake.calls.get(0));
+        assertEquals("press(LEFT)", fake.calls.get(1));
+        assertEquals("release(LEFT)", fake.calls.get(fake.calls.size() - 1));
+        assertEquals("move(1000,100)", fake.calls.get(fake.calls.size() - 2));
+        assertTrue(fake.calls.size() > 150 && fake.calls.size() <= 200 + 3, "calls=" + fake.calls.size());
+        long origin = fake.movedAt.get(0) + 3_000_000L;
+        for (int i = 1; i < fake.movedAt.size(); i++) {
+            long offset = fake.movedAt.get(i) - origin;
+            assertTrue(offset > 0 && offset % 10_000_000L == 0, "point " + i + " offset=" + offset);
+        }
+        assertEquals(2_000_000_000L, fake.movedAt.get(fake.movedAt.size() - 1) - origin);
+    }
+
+    /*
+     * 시나리오: 드래그 대기 중 인터럽트(stop 요청)된다
+     *
+     * 예상 결과(Then):
+     * - 남은 점을 건너뛰고 도착 좌표로 옮긴 뒤 release, 인터럽트 플래그는 유지
+     */
+    @Test
+    @DisplayName("드래그 중단: 도착 좌표로 옮기고 반드시 뗀다")
+    void drag_whenInterrupted_shouldStillRelease() {
+        FakeRobotMouse fake = new FakeRobotMouse();
+        DeadlineTimer interrupting = new DeadlineTimer() {
+            @Override
+            public long nanoTime() {
+                return 0;
+            }
+
+            @Override
+            public void awaitDeadline(long deadlineNanos) throws InterruptedException {
+                throw new InterruptedException();
+            }
+        };
+        RobotClickExecutor executor = new RobotClickExecutor(fake, null, 125, interrupting);
+
+        try {
+            executor.drag(new DragAction(MouseButton.RIGHT, new ScreenPoint(50, 60), 500), new ScreenPoint(1, 2));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertEquals(List.of("move(1,2)", "press(RIGHT)", "move(50,60)", "release(RIGHT)"), fake.calls);
+    }
+
+    /*
+     * 시나리오: 위로 3칸을 40ms 간격으로 스크롤한다
+     *
+     * 예상 결과(Then):
+     * - move 후 wheel(-1) 3회, 각 칸은 시작 기준 0/40/80ms
+     */
+    @Test
+    @DisplayName("스크롤: 좌표로 이동한 뒤 휠을 한 칸씩 간격을 두고 굴린다")
+    void scroll_shouldWheelOneNotchPerInterval() {
+        VirtualTimer timer = new VirtualTimer();
+        FakeRobotMouse fake = new FakeRobotMouse();
+        List<Long> wheeledAt = new ArrayList<>();
+        fake.onWheel = () -> wheeledAt.add(timer.now);
+        RobotClickExecutor executor = new RobotClickExecutor(fake, null, 125, timer);
+
+        executor.perform(new ScrollAction(-3, 40), new ScreenPoint(5, 5));
+
+        assertEquals(List.of("move(5,5)", "wheel(-1)", "wheel(-1)", "wheel(-1)"), fake.calls);
+        assertEquals(List.of(0L, 40_000_000L, 80_000_000L), wheeledAt);
+    }
+
+    /*
+     * 시나리오: 2KB 문자열을 간격 0으로 입력한다
+     *
+     * 예상 결과(Then):
+     * - 키보드 일괄 전달 1회로 모든 연산이 나간다(문자마다 호출하지 않음)
+     */
+    @Test
+    @DisplayName("키보드: 간격 0이면 순서열 전체를 한 번에 내보낸다")
+    void key_withoutInterval_shouldDispatchWholeSequenceOnce() {
+        FakeKeyboard keyboard = new FakeKeyboard();
+        RobotClickExecutor executor = new RobotClickExecutor(new FakeRobotMouse(), keyboard, null, 125, new VirtualTimer());
+        String text = sentence(2048);
+
+        executor.perform(KeyAction.type(text, 0), new ScreenPoint(0, 0));
+
+        assertEquals(1, keyboard.batches);
+        assertEquals(KeyStrokes.text(text).size(), keyboard.ops);
+        assertEquals(0, keyboard.held.size());
+    }
+
+    /*
+     * 시나리오: 키보드 구현체 없이 만든 실행기에 키 입력을 보낸다
+     *
+     * 예상 결과(Then):
+     * - supports는 클릭/드래그/스크롤만 true
+     * - key/perform 모두 IllegalArgumentException으로 거부하고, 마우스 호출도 없다
+     */
+    @Test
+    @DisplayName("키보드: 키보드 없는 실행기는 키 입력을 지원하지 않는다고 알린다")
+    void key_withoutKeyboard_shouldBeUnsupported() {
+        FakeRobotMouse fake = new FakeRobotMouse();
+        RobotClickExecutor executor = new RobotClickExecutor(fake);
+        KeyAction key = KeyAction.type("a", 0);
+
+        assertTrue(executor.supports(ClickAction.singleLeft()));
+        assertTrue(executor.supports(new ScrollAction(1, 0)));
+        assertFalse(executor.supports(key));
+        assertThrows(IllegalArgumentException.class, () -> executor.key(key));
+        assertThrows(IllegalArgumentException.class, () -> executor.perform(key, 0, 0));
+        assertTrue(fake.calls.isEmpty(), fake.calls.toString());
+    }
+
+    /*
+     * 시나리오: "Hi" 를 문자 간격 30ms로 입력한다(가상 타이머)
+     *
+     * 예상 결과(Then):
+     * - 일괄 전달 2회(문자당 1회), 시작 기준 0ms / 30ms
+     * - 1회차: Shift↓ H↓ H↑, 2회차: Shift↑ i↓ i↑
+     */
+    @Test
+    @DisplayName("키보드: 문자 사이 최소 간격을 마감 시각으로 지킨다")
+    void key_withInterval_shouldDispatchStrokePerDeadline() {
+        VirtualTimer timer = new VirtualTimer();
+        FakeKeyboard keyboard = new FakeKeyboard();
+        keyboard.timer = timer;
+        RobotClickExecutor executor = new RobotClickExecutor(new FakeRobotMouse(), keyboard, null, 125, timer);
+
+        executor.key(KeyAction.type("Hi", 30));
+
+        assertEquals(List.of("0:+16 +72 -72", "30000000:-16 +73 -73"), keyboard.log);
+        assertEquals(0, keyboard.held.size());
+    }
+
+    /*
+     * 시나리오: Shift를 누른 채 이어지는 문자열 입력 중 인터럽트(stop 요청)된다
+     *
+     * 예상 결과(Then):
+     * - 첫 문자만 입력하고 멈추며, 눌린 채 남은 Shift를 뗀다
+     */
+    @Test
+    @DisplayName("키보드 중단: 눌린 채 남은 Shift를 뗀다")
+    void key_whenInterrupted_shouldReleaseHeldShift() {
+        FakeKeyboard keyboard = new FakeKeyboard();
+        DeadlineTimer interrupting = new DeadlineTimer() {
+            @Override
+            public long nanoTime() {
+                return 0;
+            }
+
+            @Override
+            public void awaitDeadline(long deadlineNanos) throws InterruptedException {
+                throw new InterruptedException();
+            }
+        };
+        RobotClickExecutor executor = new RobotClickExecutor(new FakeRobotMouse(), keyboard, null, 125, interrupting);
+
+        try {
+            executor.key(KeyAction.type("ABC", 10));
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertEquals(1, keyboard.batches);
+        assertEquals(0, keyboard.held.size(), "held=" + keyboard.held);
+    }
+
+    /*
+     * 시나리오: 도메인 가상 키 상수가 AWT 키 코드와 같은지 확인한다
+     */
+    @Test
+    @DisplayName("키 코드: 도메인 상수는 AWT VK 값과 같다")
+    void keyCodes_shouldMatchAwt() {
+        assertEquals(KeyEvent.VK_SHIFT, KeyStrokes.SHIFT);
+        assertEquals(KeyEvent.VK_CONTROL, KeyStrokes.CONTROL);
+        assertEquals(KeyEvent.VK_ALT, KeyStrokes.ALT);
+        assertEquals(KeyEvent.VK_META, KeyStrokes.META);
+        assertEquals(KeyEvent.VK_ENTER, KeyStrokes.ENTER);
+        assertEquals(KeyEvent.VK_TAB, KeyStrokes.TAB);
+        assertEquals(KeyEvent.VK_QUOTE, KeyStrokes.keyCode(KeyStrokes.text("'").op(0)));
+        assertEquals(KeyEvent.VK_BACK_QUOTE, KeyStrokes.keyCode(KeyStrokes.text("`").op(0)));
+        assertEquals(KeyEvent.VK_BACK_SLASH, KeyStrokes.keyCode(KeyStrokes.text("\\").op(0)));
+        assertEquals(KeyEvent.VK_SEMICOLON, KeyStrokes.keyCode(KeyStrokes.text(";").op(0)));
+    }
+
+    private static String sentence(int length) {
+        String base = "The quick brown fox jumps over the lazy dog, 12345 times! ";
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append(base);
+        }
+        return sb.substring(0, length);
+    }
+
+    /**
+     * 일괄 전달 횟수/연산 수/눌린 키를 세는 가짜 키보드.
+     */
+    private static final class FakeKeyboard implements RobotKeyboard {
+
+        private final List<String> log = new ArrayList<>();
+        private final java.util.Set<Integer> held = new java.util.HashSet<>();
+        private VirtualTimer timer;
+        private int batches;
+        private long ops;
+
+        @Override
+        public void dispatch(KeyStrokes strokes, int from, int to) {
+            batches++;
+            StringBuilder sb = timer == null ? null : new StringBuilder().append(timer.now).append(':');
+            for (int i = from; i < to; i++) {
+                int op = strokes.op(i);
+                int code = KeyStrokes.keyCode(op);
+                if (KeyStrokes.isPress(op)) {
+                    held.add(code);
+                } else {
+                    held.remove(code);
+                }
+                if (sb != null) {
+                    sb.append(i == from ? "" : " ").append(KeyStrokes.isPress(op) ? "+" : "-").append(code);
+                }
+                ops++;
+            }
+            if (sb != null) {
+                log.add(sb.toString());
+            }
+        }
+
+        @Override
+        public void release(int keyCode) {
+            held.remove(keyCode);
+        }
+    }
+
+    /**
+     * 대기 시 마감 시각으로 즉시 이동하는 가상 타이머.
+     */
+    private static final class VirtualTimer implements DeadlineTimer {
+
+        private long now;
+        private int waits;
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+
+        @Override
+        public void awaitDeadline(long deadlineNanos) {
+            waits++;
+            now = Math.max(now, deadlineNanos);
+        }
+    }
+
+    private static final class FakeRobotMouse implements RobotMouse {
+
+        private final List<String> calls = new ArrayList<>();
+        private final List<Long> movedAt = new ArrayList<>();
+        private Runnable onMove = () -> {
+        };
+        private Runnable onWheel = () -> {
+        };
+
+        @Override
+        public void move(ScreenPoint point) {
+            calls.add("move(" + point.x() + "," + point.y() + ")");
+            onMove.run();
+        }
+
+        @Override
+        public void wheel(int notches) {
+            calls.add("wheel(" + notches + ")");
+            onWheel.run();
+        }
+
+        @Override
+        public void press(MouseButton button) {
+            calls.add("press(" + button + ")");
+        }
+
+        @Override
+        public void release(MouseButton button) {
+            calls.add("release(" + button + ")");
+        }
+    }
+}
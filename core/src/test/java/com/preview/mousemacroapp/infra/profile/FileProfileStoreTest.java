@@ -0,0 +1,268 @@
+package com.preview.mousemacroapp.infra.profile;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.MouseButton;
+import com.preview.mousemacroapp.domain.action.policy.ClickPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.RandomAreaPositionPolicy;
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+import com.preview.mousemacroapp.service.CorruptProfileException;
+import com.preview.mousemacroapp.service.MacroProfile;
+import com.preview.mousemacroapp.service.MacroProfiles;
+import com.preview.mousemacroapp.service.MacroRequest;
+import com.preview.mousemacroapp.service.ProfileCatalog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 프로파일 파일 저장소 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link FileProfileStore}
+ * - {@link ProfileFormat}
+ * - {@link ProfileText}
+ * - {@link ProfileCatalog#saveLastUsed(MacroProfile)}(손상본 복구)
+ *
+ * <p><b>검증 목적</b></p>
+ * - 저장한 프로파일(좌표/정책/동작/간격/스케줄/반복 횟수, 마지막 사용)이 그대로 적재되는지 검증한다.
+ * - 저장 실패 시 기존 파일이 남고 임시 파일이 남지 않는지, 손상/다른 버전 파일을 거부하는지 검증한다.
+ * - 손상된 파일에 마지막 사용 프로파일을 저장하면 손상본을 백업하고 그 프로파일만으로 새로 저장하는지 검증한다.
+ * - 1만 프로파일이 그대로 적재되고 프로파일당 48바이트 미만인지 검증한다(저장/적재 시간은 {@code FileProfileStoreBenchmark}).
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 저장 도중 종료되어 파일이 반쯤 쓰이면 다음 실행에서 모든 설정을 잃는다.
+ *
+ * @since 0.9
+ */
+class FileProfileStoreTest {
+
+    @TempDir
+    Path dir;
+
+    /*
+     * 시나리오: 음수 좌표/영역 정책/홀드/자정 통과 스케줄을 섞은 프로파일 3개를 저장하고 다시 읽는다
+     *
+     * 기대(Then):
+     * - 적재 결과가 저장한 값과 같다(마지막 사용 프로파일 포함)
+     * - 파일이 없으면 빈 목록, 저장 뒤 같은 이름을 넣으면 그 자리가 바뀐다
+     * - 텍스트 내보내기에 프로파일별 줄이 들어 있다
+     */
+    @Test
+    @DisplayName("왕복: 저장한 프로파일을 그대로 적재한다")
+    void saveThenLoad_shouldRoundTrip() throws IOException {
+        FileProfileStore store = new FileProfileStore(dir.resolve("nested/profiles.mmpf"));
+        assertEquals(MacroProfiles.empty(), store.load());
+
+        MacroProfiles saved = new MacroProfiles(List.of(
+                profile(0),
+                new MacroProfile("야간", new MacroPoint("확인 버튼", new ScreenPoint(-1920, -1),
+                        new RandomAreaPositionPolicy(3, 4)),
+                        ClickAction.hold(MouseButton.RIGHT, 750), new DelayPolicy(1_000, 5, 50),
+                        new ExecutionSchedule.Range(new DelayPolicy.LocalTimeRange(
+                                LocalTime.of(23, 0), LocalTime.of(2, 30, 15, 1))), 12),
+                new MacroProfile("최대", new MacroPoint("야간", new ScreenPoint(Integer.MAX_VALUE, Integer.MIN_VALUE),
+                        new ExactPositionPolicy()), new ClickAction(MouseButton.MIDDLE, 3, 0),
+                        new DelayPolicy(Long.MAX_VALUE, 0, Long.MAX_VALUE), new ExecutionSchedule.Always(),
+                        Integer.MAX_VALUE)), 1);
+        store.save(saved);
+
+        MacroProfiles loaded = store.load();
+        assertSameProfiles(saved, loaded);
+        assertEquals("야간", loaded.lastUsed().orElseThrow().name());
+
+        MacroProfile replaced = MacroProfile.of("최대", loaded.profiles().get(1).toRequest(new Random(1)));
+        store.save(loaded.withLastUsed(replaced));
+        MacroProfiles updated = store.load();
+        assertEquals(3, updated.profiles().size());
+        assertEquals(2, updated.lastUsedIndex());
+        assertEquals(new ScreenPoint(-1920, -1), updated.find("최대").orElseThrow().macroPoint().base());
+        MacroRequest request = updated.lastUsed().orElseThrow().toRequest(new Random(2));
+        assertEquals(new RandomAreaPositionPolicy(3, 4), request.positionPolicy());
+
+        Path text = dir.resolve("profiles.txt");
+        FileProfileStore.exportText(updated, text);
+        String exported = Files.readString(text, StandardCharsets.UTF_8);
+        assertTrue(exported.startsWith("# mousemacroapp profiles format=1 count=3 lastUsed=최대\n"), exported);
+        assertTrue(exported.contains("[야간]\npoint = 확인 버튼 (-1920, -1)\nposition = area 3x4\n"
+                + "click = RIGHT x1 hold=750ms\ndelay = 1000ms + random 5..50ms\n"
+                + "schedule = 23:00-02:30:15.000000001\nrepeat = 12\n"), exported);
+        assertEquals(List.of("profiles.mmpf"), listNames(store.file().getParent()));
+    }
+
+    /*
+     * 시나리오: 저장해 둔 뒤 (1) 저장할 수 없는 좌표 정책 (2) 이름 바꾸기 실패(대상이 비어 있지 않은 디렉터리)로 저장한다
+     *
+     * 기대(Then):
+     * - (1)은 IllegalArgumentException, 기존 파일 내용이 그대로다
+     * - (2)는 IOException, 임시 파일이 남지 않는다
+     */
+    @Test
+    @DisplayName("원자적 저장: 실패해도 기존 파일이 남고 임시 파일이 없다")
+    void failedSave_shouldKeepPreviousFile() throws IOException {
+        FileProfileStore store = new FileProfileStore(dir.resolve("profiles.mmpf"));
+        MacroProfiles saved = new MacroProfiles(List.of(profile(0), profile(1)), 0);
+        store.save(saved);
+        byte[] before = Files.readAllBytes(store.file());
+
+        ClickPositionPolicy custom = (base, random) -> base;
+        MacroProfile unsupported = new MacroProfile("사용자 정의", new MacroPoint("p", new ScreenPoint(1, 1), custom),
+                ClickAction.singleLeft(), new DelayPolicy(300, 0, 0), new ExecutionSchedule.Always(), 0);
+        assertThrows(IllegalArgumentException.class, () -> store.save(saved.withLastUsed(unsupported)));
+        assertArrayEquals(before, Files.readAllBytes(store.file()));
+
+        Path blocked = dir.resolve("blocked");
+        Files.createDirectories(blocked.resolve("child"));
+        assertThrows(IOException.class, () -> new FileProfileStore(blocked).save(saved));
+        assertEquals(List.of("blocked", "profiles.mmpf"), listNames(dir));
+        assertSameProfiles(saved, store.load());
+    }
+
+    /*
+     * 시나리오: 저장한 파일의 (1) 본문 1바이트 (2) 버전 (3) 매직을 바꾸고, (4) 끝을 잘라 적재한다
+     *
+     * 기대(Then): 모두 CorruptProfileException
+     */
+    @Test
+    @DisplayName("검증: 손상/다른 버전/잘린 파일을 거부한다")
+    void corruptedFile_shouldBeRejected() throws IOException {
+        FileProfileStore store = new FileProfileStore(dir.resolve("profiles.mmpf"));
+        MacroProfiles saved = new MacroProfiles(List.of(profile(0), profile(1)), -1);
+
+        store.save(saved);
+        patch(store.file(), ProfileFormat.HEADER_BYTES + 3, 0x7F);
+        assertTrue(assertThrows(CorruptProfileException.class, store::load).getMessage().contains("CRC"));
+
+        store.save(saved);
+        patch(store.file(), 5, ProfileFormat.VERSION + 1);
+        assertTrue(assertThrows(CorruptProfileException.class, store::load).getMessage().contains("버전"));
+
+        store.save(saved);
+        patch(store.file(), 0, 'X');
+        assertThrows(CorruptProfileException.class, store::load);
+
+        store.save(saved);
+        try (RandomAccessFile file = new RandomAccessFile(store.file().toFile(), "rw")) {
+            file.setLength(file.length() - 1);
+        }
+        assertThrows(CorruptProfileException.class, store::load);
+    }
+
+    /*
+     * 시나리오: 프로파일 2개를 저장하고 본문을 손상시킨 뒤, 검색 카탈로그로 마지막 사용 프로파일을 저장한다
+     *
+     * 기대(Then):
+     * - 복구했다고 알린다(true)
+     * - 손상본이 그대로 .bak으로 옮겨지고, 새 파일에는 그 프로파일만 마지막 사용으로 남는다
+     * - 다시 저장하면 파일을 다시 읽지 않고 현재 목록을 이어 쓴다(사이에 손상시켜도 false), 백업은 그대로다
+     */
+    @Test
+    @DisplayName("복구: 손상된 파일은 백업하고 마지막 사용 프로파일만으로 새로 저장한다")
+    void saveLastUsed_onCorruptFile_shouldBackUpAndStartOver() throws IOException {
+        FileProfileStore store = new FileProfileStore(dir.resolve("profiles.mmpf"));
+        store.save(new MacroProfiles(List.of(profile(0), profile(1)), 0));
+        patch(store.file(), ProfileFormat.HEADER_BYTES + 3, 0x7F);
+        byte[] corrupt = Files.readAllBytes(store.file());
+        ProfileCatalog catalog = new ProfileCatalog(store);
+
+        assertTrue(catalog.saveLastUsed(profile(2)));
+
+        assertArrayEquals(corrupt, Files.readAllBytes(store.backupFile()));
+        assertSameProfiles(new MacroProfiles(List.of(profile(2)), 0), store.load());
+        assertEquals(List.of("profile-2"), catalog.search("profile", 10).stream().map(MacroProfile::name).toList());
+
+        patch(store.file(), ProfileFormat.HEADER_BYTES + 3, 0x7F);
+        assertFalse(catalog.saveLastUsed(profile(3)));
+        assertSameProfiles(new MacroProfiles(List.of(profile(2), profile(3)), 1), store.load());
+        assertArrayEquals(corrupt, Files.readAllBytes(store.backupFile()));
+    }
+
+    /*
+     * 시나리오: 1만 프로파일(이름 고유, 정책/스케줄 섞음)을 저장하고 여러 번 적재한다
+     *
+     * 기대(Then):
+     * - 적재 결과가 저장한 값과 같다
+     * - 프로파일당 48바이트 미만
+     */
+    @Test
+    @DisplayName("크기: 1만 프로파일을 그대로 적재하고 프로파일당 48바이트 미만이다")
+    void largeLibrary_shouldRoundTripCompactly() throws IOException {
+        int count = 10_000;
+        List<MacroProfile> profiles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            profiles.add(profile(i));
+        }
+        MacroProfiles saved = new MacroProfiles(profiles, count - 1);
+        FileProfileStore store = new FileProfileStore(dir.resolve("library.mmpf"));
+
+        store.save(saved);
+
+        long size = Files.size(store.file());
+        assertSameProfiles(saved, store.load());
+        assertTrue(size < count * 48L, "size=" + size);
+    }
+
+    private static MacroProfile profile(int i) {
+        ClickPositionPolicy policy = (i % 2 == 0) ? new ExactPositionPolicy() : new RandomAreaPositionPolicy(i % 7, 2);
+        ExecutionSchedule schedule = (i % 3 == 0)
+                ? new ExecutionSchedule.Always()
+                : new ExecutionSchedule.Range(new DelayPolicy.LocalTimeRange(LocalTime.of(9, 0), LocalTime.of(18, i % 60)));
+        return new MacroProfile("profile-" + i, new MacroPoint("point-" + (i % 100), new ScreenPoint(i % 1920, i % 1080), policy),
+                ClickAction.singleLeft(), new DelayPolicy(300 + i % 10, 0, i % 50), schedule, i % 5);
+    }
+
+    private static void assertSameProfiles(MacroProfiles expected, MacroProfiles actual) {
+        assertEquals(expected.lastUsedIndex(), actual.lastUsedIndex());
+        assertEquals(expected.profiles().size(), actual.profiles().size());
+        for (int i = 0; i < expected.profiles().size(); i++) {
+            MacroProfile e = expected.profiles().get(i);
+            MacroProfile a = actual.profiles().get(i);
+            assertEquals(e.name(), a.name());
+            assertEquals(e.macroPoint().name(), a.macroPoint().name());
+            assertEquals(e.macroPoint().base(), a.macroPoint().base());
+            assertEquals(e.clickAction(), a.clickAction());
+            assertEquals(e.delayPolicy(), a.delayPolicy());
+            assertEquals(e.repeatCount(), a.repeatCount());
+            // ExactPositionPolicy/Always는 값 비교(equals)를 정의하지 않으므로 종류로 비교한다.
+            if (e.macroPoint().positionPolicy() instanceof ExactPositionPolicy) {
+                assertInstanceOf(ExactPositionPolicy.class, a.macroPoint().positionPolicy());
+            } else {
+                assertEquals(e.macroPoint().positionPolicy(), a.macroPoint().positionPolicy());
+            }
+            if (e.schedule() instanceof ExecutionSchedule.Always) {
+                assertInstanceOf(ExecutionSchedule.Always.class, a.schedule());
+            } else {
+                assertEquals(e.schedule(), a.schedule());
+            }
+        }
+    }
+
+    private static void patch(Path file, int position, int value) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(position);
+            raf.write(value);
+        }
+    }
+
+    private static List<String> listNames(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(p -> p.getFileName().toString()).sorted().toList();
+        }
+    }
+}
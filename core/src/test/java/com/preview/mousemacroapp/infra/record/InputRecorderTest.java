@@ -0,0 +1,222 @@
+package com.preview.mousemacroapp.infra.record;
+
+import com.github.kwhat.jnativehook.keyboard.NativeKeyEvent;
+import com.github.kwhat.jnativehook.keyboard.NativeKeyListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseEvent;
+import com.github.kwhat.jnativehook.mouse.NativeMouseListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseMotionListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseWheelListener;
+import com.github.kwhat.jnativehook.mouse.NativeMouseWheelEvent;
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+import com.preview.mousemacroapp.infra.hook.JNativeHookFacade;
+import com.preview.mousemacroapp.infra.hook.NativeInputTap;
+import com.preview.mousemacroapp.service.InputEventSink;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 입력 기록기/링 버퍼 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link InputEventRing}
+ * - {@link InputRecorder}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 여러 생산자가 동시에 넣어도 유실/중복 없이, 생산자별 순서대로 꺼내지는지 검증한다.
+ * - 가득 찬 링은 생산자를 기다리게 하지 않고 버림 수를 세는지 검증한다.
+ * - JNativeHook 이벤트가 (종류, x, y, 코드)로 변환되고, 종료 시 남은 이벤트가 모두 전달되는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 링 공개 순서가 깨지면 덜 쓰인 칸을 꺼내 좌표가 뒤섞인 기록이 남는다.
+ *
+ * @since 0.9
+ */
+class InputRecorderTest {
+
+    /*
+     * 시나리오: 생산자 4개가 각각 50,000건을 넣는 동안 소비자가 계속 꺼낸다
+     *
+     * 입력(Given):
+     * - 용량 1,024 링(가득 차면 생산자가 재시도)
+     * - code = 생산자 번호, x = 생산자별 일련번호
+     *
+     * 기대(Then):
+     * - 총 200,000건, 생산자별 x가 0부터 1씩 증가
+     */
+    @Test
+    @DisplayName("링: 다중 생산자 유실/중복 없음, 생산자별 순서 유지")
+    void ring_whenManyProducers_thenNoLossAndPerProducerOrder() throws Exception {
+        int producers = 4;
+        int perProducer = 50_000;
+        InputEventRing ring = new InputEventRing(1024);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int id = p;
+            Thread t = new Thread(() -> {
+                try {
+                    go.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!ring.offer(i, InputEventType.MOUSE_MOVE, i, -i, id)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            t.start();
+            threads.add(t);
+        }
+
+        int[] next = new int[producers];
+        long[] total = {0};
+        InputEventSink check = (ts, type, x, y, code) -> {
+            assertEquals(next[code], x);
+            assertEquals(-x, y);
+            next[code]++;
+            total[0]++;
+        };
+        go.countDown();
+        while (total[0] < (long) producers * perProducer) {
+            ring.drainTo(check, 256);
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+
+        assertEquals(0, ring.size());
+        for (int p = 0; p < producers; p++) {
+            assertEquals(perProducer, next[p]);
+        }
+    }
+
+    @Test
+    @DisplayName("링: 가득 차면 버리고 센다, 잘못된 용량은 예외")
+    void ring_whenFull_thenDropAndCount() {
+        InputEventRing ring = new InputEventRing(4);
+        for (int i = 0; i < 6; i++) {
+            ring.offer(i, InputEventType.KEY_PRESS, 0, 0, i);
+        }
+
+        List<Integer> codes = new ArrayList<>();
+        assertEquals(4, ring.drainTo((ts, type, x, y, code) -> codes.add(code), 100));
+        assertEquals(List.of(0, 1, 2, 3), codes);
+        assertEquals(2, ring.droppedCount());
+
+        assertThrows(IllegalArgumentException.class, () -> new InputEventRing(3));
+        assertThrows(IllegalArgumentException.class, () -> new InputEventRing(1));
+    }
+
+    /*
+     * 시나리오: 기록기를 시작하고 이동/버튼/클릭/휠/키/문자 이벤트를 관찰자에 흘려보낸 뒤 닫는다
+     *
+     * 기대(Then):
+     * - 관찰자는 시작 시 연결, 종료 시 해제
+     * - 클릭/문자(typed) 합성 이벤트를 제외한 6건이 순서대로 전달
+     * - 종료 반환 시점에 모든 이벤트가 전달 완료
+     */
+    @Test
+    @DisplayName("기록기: 이벤트 변환, 합성 이벤트 제외, 종료 시 모두 전달")
+    void recorder_shouldConvertEventsAndDrainOnClose() {
+        TapFacade facade = new TapFacade();
+        List<String> received = new ArrayList<>();
+        InputRecorder recorder = new InputRecorder(facade, new InputEventRing(64),
+                (ts, type, x, y, code) -> received.add(type + ":" + x + "," + y + ":" + code));
+
+        recorder.start();
+        recorder.start();
+        assertEquals(1, facade.taps.size());
+
+        NativeInputTap tap = facade.taps.get(0);
+        tap.onNativeEvent(new NativeMouseEvent(NativeMouseEvent.NATIVE_MOUSE_MOVED, 0, 10, 20, 0));
+        tap.onNativeEvent(new NativeMouseEvent(NativeMouseEvent.NATIVE_MOUSE_PRESSED, 0, 10, 20, 1, 1));
+        tap.onNativeEvent(new NativeMouseEvent(NativeMouseEvent.NATIVE_MOUSE_DRAGGED, 0, 11, 21, 0));
+        tap.onNativeEvent(new NativeMouseEvent(NativeMouseEvent.NATIVE_MOUSE_RELEASED, 0, 11, 21, 1, 1));
+        tap.onNativeEvent(new NativeMouseEvent(NativeMouseEvent.NATIVE_MOUSE_CLICKED, 0, 11, 21, 1, 1));
+        tap.onNativeEvent(new NativeMouseWheelEvent(NativeMouseEvent.NATIVE_MOUSE_WHEEL, 0, 11, 21, 0,
+                NativeMouseWheelEvent.WHEEL_UNIT_SCROLL, 3, -1));
+        tap.onNativeEvent(new NativeKeyEvent(NativeKeyEvent.NATIVE_KEY_PRESSED, 0, 0, NativeKeyEvent.VC_A, 'a'));
+        tap.onNativeEvent(new NativeKeyEvent(NativeKeyEvent.NATIVE_KEY_TYPED, 0, 0, NativeKeyEvent.VC_UNDEFINED, 'a'));
+        recorder.close();
+        recorder.close();
+
+        assertTrue(facade.taps.isEmpty());
+        assertEquals(List.of(
+                "MOUSE_MOVE:10,20:0",
+                "MOUSE_PRESS:10,20:1",
+                "MOUSE_MOVE:11,21:0",
+                "MOUSE_RELEASE:11,21:1",
+                "MOUSE_WHEEL:11,21:-1",
+                "KEY_PRESS:0,0:" + NativeKeyEvent.VC_A
+        ), received);
+        assertEquals(6, recorder.recordedCount());
+        assertEquals(0, recorder.droppedCount());
+    }
+
+    private static final class TapFacade implements JNativeHookFacade {
+
+        private final List<NativeInputTap> taps = new ArrayList<>();
+
+        @Override
+        public void register() {
+        }
+
+        @Override
+        public void unregister() {
+        }
+
+        @Override
+        public void addKeyListener(NativeKeyListener listener) {
+        }
+
+        @Override
+        public void removeKeyListener(NativeKeyListener listener) {
+        }
+
+        @Override
+        public void addMouseListener(NativeMouseListener listener) {
+        }
+
+        @Override
+        public void removeMouseListener(NativeMouseListener listener) {
+        }
+
+        @Override
+        public void addInputTap(NativeInputTap tap) {
+            taps.add(tap);
+        }
+
+        @Override
+        public void removeInputTap(NativeInputTap tap) {
+            taps.remove(tap);
+        }
+
+        @Override
+        public void addMouseMotionListener(NativeMouseMotionListener listener) {
+        }
+
+        @Override
+        public void removeMouseMotionListener(NativeMouseMotionListener listener) {
+        }
+
+        @Override
+        public void addMouseWheelListener(NativeMouseWheelListener listener) {
+        }
+
+        @Override
+        public void removeMouseWheelListener(NativeMouseWheelListener listener) {
+        }
+
+        @Override
+        public boolean isRegistered() {
+            return true;
+        }
+    }
+}
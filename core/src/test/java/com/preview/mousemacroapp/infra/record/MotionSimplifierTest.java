@@ -0,0 +1,245 @@
+package com.preview.mousemacroapp.infra.record;
+
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+import com.preview.mousemacroapp.service.InputEventSink;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이동 경로 단순화 단계 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link MotionSimplifier}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 버린 모든 점이 남긴 선분에서 허용 오차 이내인지 독립 계산으로 검증한다(창 경계 포함).
+ * - 남긴 점 사이 간격이 최대 간격을 넘지 않는지(입력 자체가 벌어진 경우 제외) 검증한다.
+ * - 이동이 아닌 이벤트의 순서/좌표가 보존되는지 검증한다.
+ * - 사람 손 이동(가감속 곡선 + 정지) 기록이 4배 이상 줄어드는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 편차 상한이 깨지면 재생 경로가 기록과 눈에 띄게 달라지고, 누름 앞 이동이 빠지면 클릭 좌표가 바뀐다.
+ *
+ * @since 0.9
+ */
+class MotionSimplifierTest {
+
+    private static final long MS = 1_000_000L;
+
+    /*
+     * 시나리오: 1초 동안 1ms마다 1px씩 오른쪽으로 움직이는 직선
+     *
+     * 기대(Then):
+     * - 최대 간격 제한이 없으면 양 끝 2점만 남는다
+     * - 최대 간격 8ms면 남긴 점 사이 간격이 모두 8ms 이하(약 1/8로 줄어든다)
+     */
+    @Test
+    @DisplayName("직선: 양 끝만 남기되 최대 간격은 지킨다")
+    void straightLine_shouldKeepEndpointsAndRespectMaxGap() {
+        List<long[]> unlimited = new ArrayList<>();
+        MotionSimplifier free = new MotionSimplifier(collect(unlimited), 1.0, Long.MAX_VALUE, 2048);
+        List<long[]> gapped = new ArrayList<>();
+        MotionSimplifier paced = new MotionSimplifier(collect(gapped), 1.0, 8 * MS, 2048);
+
+        for (int i = 0; i <= 1000; i++) {
+            free.accept(i * MS, InputEventType.MOUSE_MOVE, i, 100, 0);
+            paced.accept(i * MS, InputEventType.MOUSE_MOVE, i, 100, 0);
+        }
+        free.flush();
+        paced.flush();
+
+        assertEquals(2, unlimited.size());
+        assertEquals(0.0, free.maxDeviationPixels());
+        for (int i = 1; i < gapped.size(); i++) {
+            assertTrue(gapped.get(i)[0] - gapped.get(i - 1)[0] <= 8 * MS);
+        }
+        assertTrue(paced.compressionRatio() > 7, "ratio=" + paced.compressionRatio());
+    }
+
+    /*
+     * 시나리오: 누름/뗌/키 이벤트가 이동 사이에 끼어 있다
+     *
+     * 기대(Then):
+     * - 이동이 아닌 이벤트는 값 그대로, 순서대로 전달
+     * - 누름 직전 이동 점은 남는다(누름 좌표까지의 경로 보존)
+     */
+    @Test
+    @DisplayName("순서: 이동이 아닌 이벤트 전에 모아 둔 이동을 내보낸다")
+    void nonMoveEvent_shouldFlushPendingMovesFirst() {
+        List<long[]> out = new ArrayList<>();
+        MotionSimplifier simplifier = new MotionSimplifier(collect(out));
+
+        for (int i = 0; i < 5; i++) {
+            simplifier.accept(i * MS, InputEventType.MOUSE_MOVE, i, 0, 0);
+        }
+        simplifier.accept(5 * MS, InputEventType.MOUSE_PRESS, 4, 0, 1);
+        simplifier.accept(6 * MS, InputEventType.KEY_PRESS, 0, 0, 30);
+        simplifier.accept(7 * MS, InputEventType.MOUSE_MOVE, 9, 9, 0);
+        simplifier.flush();
+
+        List<String> lines = out.stream().map(MotionSimplifierTest::line).toList();
+        assertEquals(List.of(
+                "0 MOUSE_MOVE 0,0 0",
+                "4000000 MOUSE_MOVE 4,0 0",
+                "5000000 MOUSE_PRESS 4,0 1",
+                "6000000 KEY_PRESS 0,0 30",
+                "7000000 MOUSE_MOVE 9,9 0"), lines);
+    }
+
+    /*
+     * 시나리오: 사람 손 이동을 흉내 낸 10분 분량(1kHz, 가감속 곡선 + 정지 + 클릭)을 작은 창(64)과 기본 창으로 줄인다
+     *
+     * 기대(Then):
+     * - 모든 원본 이동 점이 남긴 선분에서 1px 이내(독립 계산), 보고된 최대 편차도 1px 이하
+     * - 남긴 점 사이 간격은 기본 최대 간격(16ms) 이하이거나 원본에서 바로 이웃한 점(정지 구간)
+     * - 압축률 4배 이상(±1px 손 떨림이 섞인 입력 기준)
+     */
+    @Test
+    @DisplayName("편차/압축: 사람 손 이동을 1px 이내로 줄인다")
+    void humanMotion_shouldStayWithinToleranceAndCompress() {
+        List<long[]> input = humanMotion(new Random(11), 600_000);
+
+        for (int window : new int[]{64, MotionSimplifier.DEFAULT_WINDOW}) {
+            List<long[]> out = new ArrayList<>();
+            MotionSimplifier simplifier =
+                    new MotionSimplifier(collect(out), 1.0, MotionSimplifier.DEFAULT_MAX_GAP_NANOS, window);
+            for (long[] e : input) {
+                simplifier.accept(e[0], InputEventType.ofCode((int) e[1]), (int) e[2], (int) e[3], (int) e[4]);
+            }
+            simplifier.flush();
+
+            double deviation = verifyDeviation(input, out, MotionSimplifier.DEFAULT_MAX_GAP_NANOS);
+            assertTrue(deviation <= 1.0 + 1e-9, "deviation=" + deviation);
+            assertTrue(simplifier.maxDeviationPixels() <= 1.0);
+            assertTrue(simplifier.compressionRatio() >= 4, "ratio=" + simplifier.compressionRatio());
+        }
+    }
+
+    /*
+     * 시나리오: 기록 파일을 줄인 새 파일로 쓴다
+     *
+     * 기대(Then):
+     * - 새 파일의 이벤트 수 = 이동 출력 수 + 이동이 아닌 이벤트 수, 파일도 더 작다
+     */
+    @Test
+    @DisplayName("파일: 기록 파일을 줄여 새 파일로 쓴다")
+    void simplifyFile_shouldWriteSmallerRecording(@TempDir Path dir) throws IOException {
+        Path in = dir.resolve("raw.mrec");
+        Path out = dir.resolve("simple.mrec");
+        List<long[]> input = humanMotion(new Random(3), 60_000);
+        long nonMoves = input.stream().filter(e -> e[1] != InputEventType.MOUSE_MOVE.code()).count();
+        try (RecordingWriter writer = RecordingWriter.open(in)) {
+            for (long[] e : input) {
+                writer.accept(e[0], InputEventType.ofCode((int) e[1]), (int) e[2], (int) e[3], (int) e[4]);
+            }
+        }
+
+        MotionSimplifier simplifier = MotionSimplifier.simplify(in, out, 1.0);
+
+        try (RecordingReader reader = RecordingReader.open(out)) {
+            assertEquals(simplifier.outputMoveCount() + nonMoves, reader.eventCount());
+        }
+        assertTrue(Files.size(out) < Files.size(in));
+    }
+
+    /**
+     * 원본 이동 점마다 그 점을 덮는 남긴 선분까지의 거리를 계산하고, 간격 조건을 확인한다.
+     *
+     * @return 최대 거리(px)
+     */
+    private static double verifyDeviation(List<long[]> input, List<long[]> out, long maxGap) {
+        List<long[]> inMoves = input.stream().filter(e -> e[1] == InputEventType.MOUSE_MOVE.code()).toList();
+        List<long[]> outMoves = out.stream().filter(e -> e[1] == InputEventType.MOUSE_MOVE.code()).toList();
+        double max = 0;
+        int k = 0;
+        int previousKeptIndex = -1;
+        for (int i = 0; i < inMoves.size(); i++) {
+            long[] p = inMoves.get(i);
+            if (k < outMoves.size() && outMoves.get(k)[0] == p[0] && outMoves.get(k)[2] == p[2] && outMoves.get(k)[3] == p[3]) {
+                if (k > 0) {
+                    long gap = p[0] - outMoves.get(k - 1)[0];
+                    assertTrue(gap <= maxGap || previousKeptIndex == i - 1, "gap=" + gap + " at " + i);
+                }
+                previousKeptIndex = i;
+                k++;
+                continue;
+            }
+            long[] a = outMoves.get(k - 1);
+            long[] b = outMoves.get(k);
+            max = Math.max(max, distance(p, a, b));
+        }
+        assertEquals(outMoves.size(), k, "남긴 점이 원본 순서의 부분열이어야 한다");
+        return max;
+    }
+
+    private static double distance(long[] p, long[] a, long[] b) {
+        double dx = b[2] - a[2];
+        double dy = b[3] - a[3];
+        double px = p[2] - a[2];
+        double py = p[3] - a[3];
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, (px * dx + py * dy) / lengthSquared));
+        return Math.hypot(px - t * dx, py - t * dy);
+    }
+
+    /**
+     * 사람 손 이동(최소 저크 가감속 곡선, 약간 휜 경로, 손 떨림, 정지 구간, 도착 후 클릭)을 1kHz로 만든다.
+     */
+    private static List<long[]> humanMotion(Random random, int millis) {
+        List<long[]> events = new ArrayList<>();
+        double x = 960;
+        double y = 540;
+        long t = 0;
+        while (t < millis * MS) {
+            double tx = random.nextInt(1920);
+            double ty = random.nextInt(1080);
+            int duration = 150 + random.nextInt(650);
+            double bend = random.nextGaussian() * 40;
+            double nx = -(ty - y);
+            double ny = tx - x;
+            double norm = Math.max(1, Math.hypot(nx, ny));
+            int lastX = Integer.MIN_VALUE;
+            int lastY = Integer.MIN_VALUE;
+            for (int ms = 1; ms <= duration; ms++) {
+                double s = (double) ms / duration;
+                double f = 10 * s * s * s - 15 * s * s * s * s + 6 * s * s * s * s * s;
+                double arc = Math.sin(Math.PI * f) * bend;
+                int px = (int) Math.round(x + (tx - x) * f + nx / norm * arc + random.nextGaussian() * 0.3);
+                int py = (int) Math.round(y + (ty - y) * f + ny / norm * arc + random.nextGaussian() * 0.3);
+                t += MS;
+                // 역할: 실제 마우스처럼 좌표가 바뀔 때만 이동 이벤트가 생긴다.
+                if (px != lastX || py != lastY) {
+                    events.add(new long[]{t, InputEventType.MOUSE_MOVE.code(), px, py, 0});
+                    lastX = px;
+                    lastY = py;
+                }
+            }
+            x = tx;
+            y = ty;
+            if (random.nextInt(3) == 0) {
+                events.add(new long[]{t + 30 * MS, InputEventType.MOUSE_PRESS.code(), (int) x, (int) y, 1});
+                events.add(new long[]{t + 110 * MS, InputEventType.MOUSE_RELEASE.code(), (int) x, (int) y, 1});
+            }
+            t += (200 + random.nextInt(800)) * MS;
+        }
+        return events;
+    }
+
+    private static InputEventSink collect(List<long[]> out) {
+        return (t, type, x, y, code) -> out.add(new long[]{t, type.code(), x, y, code});
+    }
+
+    private static String line(long[] e) {
+        return e[0] + " " + InputEventType.ofCode((int) e[1]) + " " + e[2] + "," + e[3] + " " + e[4];
+    }
+}
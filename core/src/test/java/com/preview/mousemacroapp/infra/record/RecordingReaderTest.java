@@ -0,0 +1,195 @@
+package com.preview.mousemacroapp.infra.record;
+
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 입력 기록 리더 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link RecordingReader}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 처음부터 읽은 이벤트가 기록한 이벤트와 같은지 검증한다.
+ * - 임의 시각 탐색 결과가 "목표 이상 첫 이벤트"부터인지(선형 탐색과 같은지) 검증한다.
+ * - 색인 항목 수가 블록 수와 무관하게 상한 이내인지 검증한다.
+ * - 중간 위치 저장 후 이어 읽기, 잘린 파일/손상 블록 처리를 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 탐색이 한 블록이라도 어긋나면 재생이 엉뚱한 시점에서 시작된다.
+ *
+ * @since 0.9
+ */
+class RecordingReaderTest {
+
+    private static final int EVENTS = 20_000;
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+    private long[] timestamps;
+
+    @BeforeEach
+    void writeRecording() throws IOException {
+        // 작은 블록(128B)으로 블록 수를 늘린다. 1ms 간격, 100건마다 2초 공백, 37건마다 클릭.
+        file = dir.resolve("input.mrec");
+        timestamps = new long[EVENTS];
+        try (RecordingWriter writer = RecordingWriter.open(file, 1_000, 128)) {
+            long t = 5_000_000_000L;
+            for (int i = 0; i < EVENTS; i++) {
+                t += (i % 100 == 0) ? 2_000_000_000L : 1_000_000L;
+                timestamps[i] = t;
+                if (i % 37 == 0) {
+                    writer.accept(t, InputEventType.MOUSE_PRESS, i % 500, i % 300, 1);
+                } else {
+                    writer.accept(t, InputEventType.MOUSE_MOVE, i % 500, i % 300, 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("순차: 처음부터 읽으면 기록 그대로")
+    void cursor_shouldReadAllEventsInOrder() throws IOException {
+        try (RecordingReader reader = RecordingReader.open(file)) {
+            assertEquals(EVENTS, reader.eventCount());
+            assertEquals(timestamps[0], reader.firstTimestampNanos());
+            assertEquals(timestamps[EVENTS - 1], reader.lastTimestampNanos());
+            assertEquals(Duration.ofNanos(timestamps[EVENTS - 1] - timestamps[0]), reader.duration());
+
+            RecordingReader.Cursor cursor = reader.cursor();
+            for (int i = 0; i < EVENTS; i++) {
+                assertTrue(cursor.next());
+                assertEquals(timestamps[i], cursor.timestampNanos());
+                assertEquals(i % 500, cursor.x());
+                assertEquals(i % 300, cursor.y());
+                assertEquals(i % 37 == 0 ? InputEventType.MOUSE_PRESS : InputEventType.MOUSE_MOVE, cursor.type());
+            }
+            assertFalse(cursor.next());
+        }
+    }
+
+    /*
+     * 시나리오: 색인 상한 8로 열고 여러 목표 시각으로 탐색한다
+     *
+     * 입력(Given):
+     * - 블록 수 수백 개(상한 8보다 훨씬 많음)
+     * - 목표: 시작 이전, 정확히 이벤트 시각, 이벤트 사이, 공백 구간, 끝 이후
+     *
+     * 기대(Then):
+     * - 색인 항목 수 <= 8
+     * - 탐색 후 첫 이벤트 = 목표 이상인 첫 이벤트(선형 탐색 결과)
+     */
+    @Test
+    @DisplayName("탐색: 희소 색인으로 목표 이상 첫 이벤트를 찾는다")
+    void seek_shouldFindFirstEventAtOrAfterTarget() throws IOException {
+        try (RecordingReader reader = RecordingReader.open(file, 8)) {
+            assertTrue(reader.blockCount() > 100, "blocks=" + reader.blockCount());
+            assertTrue(reader.indexSize() <= 8, "index=" + reader.indexSize());
+
+            long[] targets = {
+                    0L, timestamps[0], timestamps[1] - 1, timestamps[777], timestamps[777] + 1,
+                    timestamps[5_000] - 1_000_000_000L, timestamps[EVENTS - 1], timestamps[EVENTS - 1] + 1
+            };
+            for (long target : targets) {
+                int expected = firstIndexAtOrAfter(target);
+                RecordingReader.Cursor cursor = reader.seek(target);
+                if (expected == EVENTS) {
+                    assertFalse(cursor.next(), "target=" + target);
+                } else {
+                    assertTrue(cursor.next(), "target=" + target);
+                    assertEquals(timestamps[expected], cursor.timestampNanos(), "target=" + target);
+                    assertEquals(expected % 500, cursor.x());
+                }
+            }
+
+            RecordingReader.Cursor byOffset = reader.seek(Duration.ofNanos(timestamps[300] - timestamps[0]));
+            assertTrue(byOffset.next());
+            assertEquals(timestamps[300], byOffset.timestampNanos());
+        }
+    }
+
+    @Test
+    @DisplayName("이어 읽기: 저장한 위치부터 같은 이벤트가 이어진다")
+    void resume_shouldContinueFromSavedPosition() throws IOException {
+        try (RecordingReader reader = RecordingReader.open(file)) {
+            RecordingReader.Cursor first = reader.cursor();
+            for (int i = 0; i < 1_234; i++) {
+                first.next();
+            }
+            RecordingReader.Position saved = first.position();
+
+            RecordingReader.Cursor resumed = reader.resume(saved);
+            for (int i = 1_234; i < 1_300; i++) {
+                assertTrue(resumed.next());
+                assertEquals(timestamps[i], resumed.timestampNanos());
+            }
+
+            RecordingReader.Cursor seeked = reader.seek(timestamps[4_000]);
+            RecordingReader.Cursor seekResumed = reader.resume(seeked.position());
+            assertTrue(seekResumed.next());
+            assertEquals(timestamps[4_000], seekResumed.timestampNanos());
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> reader.resume(new RecordingReader.Position(saved.blockOffset() + 1, 0)));
+        }
+    }
+
+    @Test
+    @DisplayName("복구/손상: 잘린 마지막 블록은 무시, CRC 불일치는 예외")
+    void open_whenTruncatedOrCorrupted_thenHandled() throws IOException {
+        long size = Files.size(file);
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(size - 10);
+        }
+        long readable;
+        try (RecordingReader reader = RecordingReader.open(file)) {
+            assertTrue(reader.eventCount() < EVENTS);
+            readable = reader.eventCount();
+            RecordingReader.Cursor cursor = reader.cursor();
+            List<Long> seen = new ArrayList<>();
+            while (cursor.next()) {
+                seen.add(cursor.timestampNanos());
+            }
+            assertEquals(readable, seen.size());
+        }
+
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            int firstPayload = RecordingFormat.FILE_HEADER_BYTES + RecordingFormat.BLOCK_HEADER_BYTES;
+            raf.seek(firstPayload + 3);
+            int b = raf.read();
+            raf.seek(firstPayload + 3);
+            raf.write(b ^ 0x01);
+        }
+        try (RecordingReader reader = RecordingReader.open(file)) {
+            assertThrows(IllegalStateException.class, () -> reader.cursor().next());
+        }
+
+        Path notRecording = dir.resolve("other.bin");
+        Files.write(notRecording, new byte[64]);
+        assertThrows(IOException.class, () -> RecordingReader.open(notRecording));
+    }
+
+    private int firstIndexAtOrAfter(long target) {
+        for (int i = 0; i < EVENTS; i++) {
+            if (timestamps[i] >= target) {
+                return i;
+            }
+        }
+        return EVENTS;
+    }
+}
@@ -0,0 +1,211 @@
+package com.preview.mousemacroapp.infra.record;
+
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+import com.preview.mousemacroapp.service.InputEventSink;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 입력 기록 파일 형식/기록기 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link RecordingWriter}
+ * - {@link RecordingFormat}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 기록한 이벤트가 (해상도 내림을 제외하고) 그대로 복원되는지 검증한다(음수 좌표/휠, 큰 시각 간격 포함).
+ * - 블록 헤더의 이벤트 수/시각/CRC가 본문과 일치하는지 검증한다.
+ * - 1kHz 이동 입력 1시간 분량이 한 자릿수 MB 이내이며, 기록 중 할당이 없는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 델타 기준값이 블록 경계에서 초기화되지 않으면 중간 블록부터 읽는 탐색(seek)이 깨진다.
+ *
+ * @since 0.9
+ */
+class RecordingWriterTest {
+
+    @TempDir
+    Path dir;
+
+    /*
+     * 시나리오: 작은 블록(64B)으로 다양한 이벤트를 기록하고 파일을 직접 해석한다
+     *
+     * 입력(Given):
+     * - tickNanos=1(ns 그대로), 음수 좌표/휠 회전, 1시간 간격, 같은 간격 반복, 니블 범위 경계(-8, 7)
+     *
+     * 기대(Then):
+     * - 모든 이벤트가 순서/값 그대로 복원
+     * - 여러 블록으로 나뉘고, 각 블록 CRC 일치
+     */
+    @Test
+    @DisplayName("왕복: 기록한 이벤트가 블록을 넘어 그대로 복원된다")
+    void write_thenDecode_shouldRoundTrip() throws IOException {
+        Path file = dir.resolve("round.mrec");
+        List<String> expected = new ArrayList<>();
+        try (RecordingWriter writer = RecordingWriter.open(file, 1, 64)) {
+            long t = 1_000_000_000L;
+            int[][] samples = {
+                    {100, 200, 0}, {107, 192, 0}, {99, 200, 0}, {-50, -3000, 0},
+                    {-50, -3000, 0}, {4000, 2000, 0}, {4001, 2001, 0}, {4001, 2001, 0}
+            };
+            for (int i = 0; i < samples.length; i++) {
+                t += (i == 4) ? 3_600_000_000_000L : 1_000_000L;
+                record(writer, expected, t, InputEventType.MOUSE_MOVE, samples[i][0], samples[i][1], 0);
+            }
+            record(writer, expected, t + 1, InputEventType.MOUSE_PRESS, 4001, 2001, 1);
+            record(writer, expected, t + 2, InputEventType.MOUSE_WHEEL, 4001, 2001, -3);
+            record(writer, expected, t + 3, InputEventType.KEY_PRESS, 0, 0, 30);
+            record(writer, expected, t + 4, InputEventType.KEY_RELEASE, 0, 0, Integer.MAX_VALUE);
+
+            writer.flush();
+            assertTrue(writer.blockCount() > 1, "blocks=" + writer.blockCount());
+            assertEquals(Files.size(file), writer.byteCount());
+        }
+
+        List<String> actual = new ArrayList<>();
+        decodeFile(file, (ts, type, x, y, code) -> actual.add(line(ts, type, x, y, code)));
+        assertEquals(expected, actual);
+    }
+
+    /*
+     * 시나리오: 압축 이동 조건(니블 범위, 작은 잔차)을 만족하지만 code가 0이 아닌 이동을 기록한다
+     *
+     * 기대(Then):
+     * - code가 버려지지 않고 그대로 복원된다(일반 태그 형식으로 기록)
+     */
+    @Test
+    @DisplayName("왕복: code가 있는 작은 이동도 code가 복원된다")
+    void write_moveWithCode_shouldKeepCode() throws IOException {
+        Path file = dir.resolve("move-code.mrec");
+        List<String> expected = new ArrayList<>();
+        try (RecordingWriter writer = RecordingWriter.open(file, 1, 64)) {
+            record(writer, expected, 1_000L, InputEventType.MOUSE_MOVE, 10, 10, 0);
+            record(writer, expected, 1_010L, InputEventType.MOUSE_MOVE, 12, 9, 5);
+            record(writer, expected, 1_020L, InputEventType.MOUSE_MOVE, 13, 9, -1);
+            record(writer, expected, 1_030L, InputEventType.MOUSE_MOVE, 13, 9, 0);
+        }
+
+        List<String> actual = new ArrayList<>();
+        decodeFile(file, (ts, type, x, y, code) -> actual.add(line(ts, type, x, y, code)));
+        assertEquals(expected, actual);
+    }
+
+    /*
+     * 시나리오: 1kHz 폴링(±50µs 흔들림) 이동 입력 1시간 + 2초마다 클릭 + 5초마다 키 입력을 기록한다
+     *
+     * 입력(Given):
+     * - 부드럽게 변하는 속도(0~20px/ms)의 이동 3,600,000건
+     *
+     * 기대(Then):
+     * - 파일 크기 < 10MB
+     * - 기록 중 스레드 할당량 < 1MB(이벤트당 할당 없음)
+     * - 전체 이벤트가 복원된다
+     */
+    @Test
+    @DisplayName("크기/할당: 1시간 1kHz 이동 기록이 10MB 미만, 기록 중 할당 없음")
+    void write_hourOfDenseMotion_shouldStaySmallWithoutAllocation() throws IOException {
+        Path file = dir.resolve("hour.mrec");
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Random random = new Random(7);
+
+        long allocated;
+        long events;
+        try (RecordingWriter writer = RecordingWriter.open(file)) {
+            // 워밍업용 1건(직접 버퍼 등 지연 초기화 비용 분리)
+            writer.accept(0, InputEventType.MOUSE_MOVE, 0, 0, 0);
+
+            long before = threads.getCurrentThreadAllocatedBytes();
+            double x = 960;
+            double y = 540;
+            double vx = 0;
+            double vy = 0;
+            long t = 1_000_000L;
+            for (int ms = 1; ms <= 3_600_000; ms++) {
+                t = ms * 1_000_000L + random.nextInt(100_000) - 50_000;
+                vx = Math.max(-20, Math.min(20, vx * 0.98 + random.nextGaussian() * 0.6));
+                vy = Math.max(-20, Math.min(20, vy * 0.98 + random.nextGaussian() * 0.6));
+                x = Math.max(0, Math.min(3839, x + vx));
+                y = Math.max(0, Math.min(2159, y + vy));
+                writer.accept(t, InputEventType.MOUSE_MOVE, (int) x, (int) y, 0);
+                if (ms % 2_000 == 0) {
+                    writer.accept(t + 10, InputEventType.MOUSE_PRESS, (int) x, (int) y, 1);
+                    writer.accept(t + 20, InputEventType.MOUSE_RELEASE, (int) x, (int) y, 1);
+                }
+                if (ms % 5_000 == 0) {
+                    writer.accept(t + 30, InputEventType.KEY_PRESS, 0, 0, 30);
+                }
+            }
+            writer.flush();
+            allocated = threads.getCurrentThreadAllocatedBytes() - before;
+            events = writer.eventCount();
+        }
+
+        long size = Files.size(file);
+        assertTrue(size < 10L * 1024 * 1024, "size=" + size);
+        assertTrue(allocated < 1024 * 1024, "allocated=" + allocated);
+
+        long[] decoded = {0};
+        decodeFile(file, (ts, type, xx, yy, code) -> decoded[0]++);
+        assertEquals(events, decoded[0]);
+    }
+
+    private static void record(RecordingWriter writer, List<String> expected,
+                               long t, InputEventType type, int x, int y, int code) {
+        writer.accept(t, type, x, y, code);
+        expected.add(line(t, type, x, y, code));
+    }
+
+    private static String line(long t, InputEventType type, int x, int y, int code) {
+        return t + " " + type + " " + x + "," + y + " " + code;
+    }
+
+    private static void decodeFile(Path file, InputEventSink sink) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+        assertEquals(RecordingFormat.FILE_MAGIC, in.getInt());
+        assertEquals(RecordingFormat.VERSION, in.getShort());
+        assertEquals(RecordingFormat.FILE_HEADER_BYTES, in.getShort());
+        int tickNanos = in.getInt();
+        in.position(RecordingFormat.FILE_HEADER_BYTES);
+
+        CRC32 crc = new CRC32();
+        while (in.hasRemaining()) {
+            assertEquals(RecordingFormat.BLOCK_MAGIC, in.getInt());
+            int length = in.getInt();
+            int count = in.getInt();
+            long first = in.getLong();
+            long last = in.getLong();
+            int checksum = in.getInt();
+
+            crc.reset();
+            crc.update(in.slice(in.position(), length));
+            assertEquals(checksum, (int) crc.getValue());
+
+            RecordingFormat.BlockDecoder decoder = new RecordingFormat.BlockDecoder();
+            decoder.reset(in, in.position(), length, count, first / tickNanos, tickNanos);
+            int delivered = 0;
+            long lastSeen = Long.MIN_VALUE;
+            while (decoder.next()) {
+                lastSeen = decoder.timestampNanos();
+                sink.accept(lastSeen, decoder.type(), decoder.x(), decoder.y(), decoder.code());
+                delivered++;
+            }
+            assertEquals(count, delivered);
+            assertEquals(last, lastSeen);
+            in.position(in.position() + length);
+        }
+    }
+}
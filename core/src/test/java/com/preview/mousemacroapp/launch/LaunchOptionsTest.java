@@ -0,0 +1,64 @@
+package com.preview.mousemacroapp.launch;
+
+import com.preview.mousemacroapp.infra.hook.BufferedDryRunClickExecutor;
+import com.preview.mousemacroapp.infra.hook.NativeEventMultiplexer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LaunchOptions 실행 인자 해석 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link LaunchOptions#parse(String[])}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 인자가 없으면 Dry-Run 기본값을 유지하는지 검증한다.
+ * - 실행기 선택/파이프라인 단계 인자가 구성에 반영되는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 기본값이 실수로 robot이 되면 개발 중 실제 마우스가 제어된다.
+ *
+ * @since 0.9
+ */
+class LaunchOptionsTest {
+
+    @Test
+    @DisplayName("기본값: 인자가 없으면 Dry-Run, 추가 단계 없음")
+    void parse_whenNoArgs_thenDefaults() {
+        assertEquals(LaunchOptions.defaults(), LaunchOptions.parse(new String[]{}));
+        assertEquals(ExecutorMode.DRY_RUN, LaunchOptions.parse(new String[]{"-debug"}).executorMode());
+    }
+
+    @Test
+    @DisplayName("인자 반영: 실행기/단계 인자가 구성에 반영된다")
+    void parse_whenFlagsGiven_thenReflected() {
+        LaunchOptions options = LaunchOptions.parse(new String[]{
+                "--executor=robot", "--metrics", "--rate-limit=20", "--journal=100", "--tee-dry-run", "--clamp",
+                "--dry-run-out=clicks.bin", "--dry-run-format=binary", "--hook-dispatch=virtual",
+                "--record=input.mrec", "--record-simplify=1.5", "--motion=bezier", "--motion-rate=240"
+        });
+
+        assertEquals(new LaunchOptions(ExecutorMode.ROBOT, true, 20, 100, true, true,
+                Path.of("clicks.bin"), BufferedDryRunClickExecutor.Format.BINARY,
+                NativeEventMultiplexer.DispatchMode.VIRTUAL, Path.of("input.mrec"), 1.5,
+                MotionMode.BEZIER, 240), options);
+    }
+
+    @Test
+    @DisplayName("형식 오류: 잘못된 값은 예외")
+    void parse_whenInvalidValue_thenThrow() {
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[]{"--executor=mouse"}));
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[]{"--rate-limit=abc"}));
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[]{"--journal=-1"}));
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[]{"--dry-run-format=csv"}));
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[]{"--hook-dispatch=pool"}));
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[]{"--record-simplify=-1"}));
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[]{"--motion=jump"}));
+        assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(new String[]{"--motion-rate=0"}));
+        assertThrows(NullPointerException.class, () -> LaunchOptions.parse(null));
+    }
+}
@@ -0,0 +1,162 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MacroSimulator 가상 시간 실행 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link MacroSimulator}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 스케줄(허용 시간대)/딜레이 판단이 실제 실행 루프와 같은 결과를 내는지 검증한다.
+ * - 24시간 구간도 실시간 대기 없이 계산되는지 검증한다.
+ * - 미리보기가 요청의 랜덤 소스를 시드 1개만큼만 쓰고, 시드 지정 시에는 건드리지 않는지 검증한다.
+ *
+ * <p><b>검증 범위</b></p>
+ * - 클릭 횟수, 첫/마지막 클릭 시각, 반복 횟수 종료
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 미리보기 결과가 실제 실행과 어긋나면 사용자가 스케줄 설정을 잘못 판단하게 된다.
+ * - 미리보기가 호출자의 랜덤 소스를 구간 길이만큼 전진시키면 뒤이은 실행이 미리본 순서열을 재현하지 못한다.
+ *
+ * @since 0.9
+ */
+class MacroSimulatorTest {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final Instant MIDNIGHT_KST = Instant.parse("2026-02-13T15:00:00Z");
+
+    /*
+     * 시나리오: 09:00~10:00 스케줄, 1초 간격으로 24시간을 시뮬레이션한다
+     *
+     * 입력(Given):
+     * - 시작 = KST 00:00:00
+     * - schedule = Range(09:00, 10:00), delay = 1000ms 고정, 무한 반복
+     *
+     * 기대(Then):
+     * - 클릭 3600회, 첫 클릭 09:00:00, 마지막 클릭 09:59:59
+     * - 실시간 대기 없이 수 초 안에 끝난다.
+     */
+    @Test
+    @DisplayName("24시간 시뮬레이션: 허용 시간대 안에서만 1초 간격 클릭")
+    void simulate_24h_shouldClickOnlyInsideSchedule() {
+        MacroRequest request = request(
+                new ExecutionSchedule.Range(new DelayPolicy.LocalTimeRange(LocalTime.of(9, 0), LocalTime.of(10, 0))),
+                new DelayPolicy(1000, 0, 0),
+                0
+        );
+
+        long started = System.nanoTime();
+        ClickTimeline timeline = MacroSimulator.simulate(request, MIDNIGHT_KST, KST, Duration.ofHours(24));
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000L;
+
+        assertEquals(3600, timeline.size());
+        assertEquals(LocalTime.of(9, 0, 0), timeline.localTimeAt(0, KST));
+        assertEquals(LocalTime.of(9, 59, 59), timeline.localTimeAt(timeline.size() - 1, KST));
+        assertEquals(10, timeline.xAt(0));
+        assertEquals(20, timeline.yAt(0));
+        assertEquals(ClickAction.singleLeft(), timeline.actionAt(0));
+        assertTrue(elapsedMillis < 5_000, "24시간 시뮬레이션은 실시간 대기 없이 끝나야 한다. elapsed=" + elapsedMillis);
+    }
+
+    /*
+     * 시나리오: 반복 횟수에 도달하면 구간이 남아 있어도 종료한다
+     *
+     * 입력(Given):
+     * - schedule = Always, delay = 500ms, repeatCount = 5
+     *
+     * 기대(Then):
+     * - 클릭 5회, 간격 500ms
+     */
+    @Test
+    @DisplayName("반복 횟수: repeatCount 도달 시 종료")
+    void simulate_withRepeatCount_shouldStopAtCount() {
+        MacroRequest request = request(new ExecutionSchedule.Always(), new DelayPolicy(500, 0, 0), 5);
+
+        ClickTimeline timeline = MacroSimulator.simulate(request, MIDNIGHT_KST, KST, Duration.ofHours(1));
+
+        assertEquals(5, timeline.size());
+        assertEquals(MIDNIGHT_KST.toEpochMilli(), timeline.epochMillisAt(0));
+        assertEquals(500, timeline.epochMillisAt(1) - timeline.epochMillisAt(0));
+    }
+
+    /*
+     * 시나리오: 랜덤 딜레이(100~500ms) 50회를 (1) 시드 지정 (2) 시드 미지정으로 미리본다
+     *
+     * 기대(Then):
+     * - (1)은 요청의 랜덤 소스를 건드리지 않고, 랜덤 소스가 달라도 같은 시드면 같은 타임라인이다
+     * - (2)는 요청의 랜덤 소스에서 nextLong() 하나만 뽑고, 그 값을 시드로 한 (1)과 같은 타임라인이다
+     */
+    @Test
+    @DisplayName("랜덤 소스: 미리보기는 요청의 랜덤 소스를 시드 1개만큼만 쓴다")
+    void simulate_shouldNotConsumeRequestRandomBeyondSeed() {
+        DelayPolicy delay = new DelayPolicy(100, 0, 400);
+        MacroRequest first = request(new ExecutionSchedule.Always(), delay, 50, new Random(7));
+        MacroRequest second = request(new ExecutionSchedule.Always(), delay, 50, new Random(99));
+
+        ClickTimeline seeded = MacroSimulator.simulate(first, 42L, MIDNIGHT_KST, KST, Duration.ofHours(1));
+        assertEquals(new Random(7).nextLong(), first.random().nextLong());
+        assertSameTimeline(seeded, MacroSimulator.simulate(second, 42L, MIDNIGHT_KST, KST, Duration.ofHours(1)));
+
+        Random twin = new Random(0);
+        MacroRequest unseeded = request(new ExecutionSchedule.Always(), delay, 50, new Random(0));
+        ClickTimeline derived = MacroSimulator.simulate(unseeded, MIDNIGHT_KST, KST, Duration.ofHours(1));
+        long seed = twin.nextLong();
+        assertEquals(twin.nextLong(), unseeded.random().nextLong());
+        assertSameTimeline(MacroSimulator.simulate(second, seed, MIDNIGHT_KST, KST, Duration.ofHours(1)), derived);
+        assertEquals(50, derived.size());
+    }
+
+    /*
+     * 시나리오: horizon이 0 이하이면 거부한다
+     */
+    @Test
+    @DisplayName("입력 검증: horizon <= 0이면 IllegalArgumentException")
+    void simulate_withNonPositiveHorizon_shouldThrow() {
+        MacroRequest request = request(new ExecutionSchedule.Always(), new DelayPolicy(500, 0, 0), 1);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> MacroSimulator.simulate(request, MIDNIGHT_KST, KST, Duration.ZERO));
+    }
+
+    private static MacroRequest request(ExecutionSchedule schedule, DelayPolicy delayPolicy, int repeatCount) {
+        return request(schedule, delayPolicy, repeatCount, new Random(0));
+    }
+
+    private static MacroRequest request(ExecutionSchedule schedule, DelayPolicy delayPolicy, int repeatCount,
+                                        Random random) {
+        MacroPoint macroPoint = new MacroPoint("t", new ScreenPoint(10, 20), new ExactPositionPolicy());
+        return new MacroRequest(
+                macroPoint,
+                ClickAction.singleLeft(),
+                macroPoint.positionPolicy(),
+                delayPolicy,
+                schedule,
+                random,
+                repeatCount
+        );
+    }
+
+    private static void assertSameTimeline(ClickTimeline expected, ClickTimeline actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.epochMillisAt(i), actual.epochMillisAt(i), "index=" + i);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 마우스 사용권 중재기 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link MouseArbiter}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 경합이 없으면 기다림 없이 실행기로 보내는지 검증한다(동작당 비용은 {@code MouseArbiterBenchmark}).
+ * - 여러 세션의 동작이 실행기 안에서 겹치지 않는지 검증한다.
+ * - 대기 요청이 우선순위 → 커서와의 거리 순으로 넘겨지는지 검증한다.
+ * - 더 높은 우선순위 요청이 lease를 다음 동작 경계에서 선점하는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 사용권이 두 세션에 동시에 가면 한 세션의 누름과 뗌 사이에 다른 세션의 이동이 끼어든다.
+ * - 넘기기가 빠지면(반납과 줄서기 경합) 대기 세션이 영원히 park된다.
+ *
+ * @since 0.9
+ */
+class MouseArbiterTest {
+
+    /*
+     * 시나리오: 세션 하나가 11만 회 클릭한다(경합 없음)
+     *
+     * 기대(Then):
+     * - 모든 동작이 실행기에 도달하고, 동작마다 사용권을 1회 얻는다
+     * - 경합 0회, 대기 시간 0
+     */
+    @Test
+    @DisplayName("무경합: 기다림 없이 실행기로 보낸다")
+    void uncontended_shouldDispatchWithoutWaiting() {
+        AtomicInteger performed = new AtomicInteger();
+        MouseArbiter arbiter = new MouseArbiter(new ClickExecutor() {
+            @Override
+            public void execute(ClickAction action, ScreenPoint point) {
+                performed.incrementAndGet();
+            }
+
+            @Override
+            public void perform(MacroAction action, int x, int y) {
+                performed.incrementAndGet();
+            }
+        });
+        MouseArbiter.Session session = arbiter.session("solo", 0);
+        ClickAction click = ClickAction.singleLeft();
+        for (int i = 0; i < 110_000; i++) {
+            session.perform(click, i & 1023, i & 511);
+        }
+
+        assertEquals(110_000, performed.get());
+        assertEquals(110_000, session.acquisitions());
+        assertEquals(0, session.contendedAcquisitions());
+        assertEquals(0, session.totalWaitNanos());
+        assertEquals(0, arbiter.waitingCount());
+    }
+
+    /*
+     * 시나리오: 세션 4개가 각자 스레드에서 2000회씩 클릭한다(실행기 안에서 잠시 양보)
+     *
+     * 기대(Then):
+     * - 실행기에 동시에 들어간 동작은 최대 1건, 전체 8000건 수행
+     */
+    @Test
+    @DisplayName("상호 배제: 여러 세션의 동작이 겹치지 않는다")
+    void concurrentSessions_shouldNeverOverlapInExecutor() throws InterruptedException {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicInteger performed = new AtomicInteger();
+        MouseArbiter arbiter = new MouseArbiter((action, point) -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.yield();
+            performed.incrementAndGet();
+            inFlight.decrementAndGet();
+        });
+
+        List<Thread> threads = new ArrayList<>();
+        List<MouseArbiter.Session> sessions = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            MouseArbiter.Session session = arbiter.session("s" + t, t % 2);
+            sessions.add(session);
+            int base = t * 100;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    session.execute(ClickAction.singleLeft(), new ScreenPoint(base + (i & 7), base));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(20));
+            assertFalse(thread.isAlive());
+        }
+
+        assertEquals(1, maxInFlight.get());
+        assertEquals(8000, performed.get());
+        assertEquals(0, arbiter.waitingCount());
+        for (MouseArbiter.Session session : sessions) {
+            assertEquals(2000, session.acquisitions());
+        }
+    }
+
+    /*
+     * 시나리오: 보유 세션이 (0,0)에서 lease를 잡은 동안 세 세션이 줄을 선다
+     * - 낮음 (1000,1000), 낮음 (10,10), 높음 (900,900)
+     *
+     * 기대(Then):
+     * - lease를 닫으면 높음(900,900) → 커서에서 가까운 (1000,1000) → (10,10) 순서
+     * - 기다린 세션마다 경합 1회, 대기 시간 > 0
+     */
+    @Test
+    @DisplayName("넘기기 순서: 우선순위 다음 커서와 가까운 요청 먼저")
+    void waiters_shouldBeGrantedByPriorityThenProximity() throws InterruptedException {
+        List<ScreenPoint> performed = new CopyOnWriteArrayList<>();
+        MouseArbiter arbiter = new MouseArbiter((action, point) -> performed.add(point));
+        MouseArbiter.Session holder = arbiter.session("holder", 0);
+
+        MouseArbiter.Lease lease = holder.own();
+        holder.execute(ClickAction.singleLeft(), new ScreenPoint(0, 0));
+
+        MouseArbiter.Session far = arbiter.session("far", 0);
+        MouseArbiter.Session near = arbiter.session("near", 0);
+        MouseArbiter.Session high = arbiter.session("high", 5);
+        List<Thread> threads = List.of(
+                clickOn(far, 1000, 1000), clickOn(near, 10, 10), clickOn(high, 900, 900));
+        awaitWaiting(arbiter, 3);
+        lease.close();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        assertEquals(List.of(new ScreenPoint(0, 0), new ScreenPoint(900, 900),
+                new ScreenPoint(1000, 1000), new ScreenPoint(10, 10)), performed);
+        for (MouseArbiter.Session session : List.of(far, near, high)) {
+            assertEquals(1, session.contendedAcquisitions());
+            assertTrue(session.totalWaitNanos() > 0);
+            assertEquals(session.totalWaitNanos(), session.maxWaitNanos());
+        }
+        assertFalse(lease.isRevoked());
+    }
+
+    /*
+     * 시나리오: 우선순위 0 세션이 lease를 잡은 동안 우선순위 5 세션이 줄을 서고, 보유 세션이 다음 동작을 시도한다
+     *
+     * 기대(Then):
+     * - 보유 세션의 다음 동작 경계에서 lease가 회수되어 높은 쪽이 먼저 실행된다
+     * - isRevoked=true, 선점 1회, 이후 close는 아무것도 하지 않는다
+     * - 다시 잡은 lease는 회수 상태가 아니고, 보유 중 중복 own은 거부된다
+     */
+    @Test
+    @DisplayName("선점: 더 높은 우선순위 요청이 lease를 동작 경계에서 회수한다")
+    void higherPriority_shouldPreemptLeaseAtActionBoundary() throws InterruptedException {
+        List<ScreenPoint> performed = new CopyOnWriteArrayList<>();
+        MouseArbiter arbiter = new MouseArbiter((action, point) -> performed.add(point));
+        MouseArbiter.Session low = arbiter.session("low", 0);
+        MouseArbiter.Session high = arbiter.session("high", 5);
+
+        MouseArbiter.Lease lease = low.own();
+        low.execute(ClickAction.singleLeft(), new ScreenPoint(1, 1));
+        Thread waiter = clickOn(high, 2, 2);
+        awaitWaiting(arbiter, 1);
+        low.execute(ClickAction.singleLeft(), new ScreenPoint(3, 3));
+        waiter.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertEquals(List.of(new ScreenPoint(1, 1), new ScreenPoint(2, 2), new ScreenPoint(3, 3)), performed);
+        assertTrue(lease.isRevoked());
+        assertEquals(1, low.preemptions());
+        lease.close();
+        MouseArbiter.Lease again = low.own();
+        assertFalse(again.isRevoked());
+        assertThrows(IllegalStateException.class, low::own);
+        again.close();
+        assertFalse(again.isRevoked());
+        assertEquals(0, arbiter.waitingCount());
+    }
+
+    private static Thread clickOn(MouseArbiter.Session session, int x, int y) {
+        return Thread.ofPlatform().start(() -> session.execute(ClickAction.singleLeft(), new ScreenPoint(x, y)));
+    }
+
+    private static void awaitWaiting(MouseArbiter arbiter, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (arbiter.waitingCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(count, arbiter.waitingCount());
+    }
+}
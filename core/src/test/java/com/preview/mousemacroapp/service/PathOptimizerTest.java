@@ -0,0 +1,125 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 좌표 방문 순서 최적화 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link PathOptimizer}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 결과가 입력 좌표의 순열이고, 최근접 이웃 경로보다 짧아지는지 검증한다(1천/1만 좌표, 시간은 {@code PathOptimizerBenchmark}).
+ * - 한 줄 위 좌표처럼 최적 경로가 분명한 경우 최적 경로를 찾는지 검증한다.
+ * - 비동기 실행이 호출 시점의 좌표 목록으로 실행되는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 구간 이동/뒤집기에서 위치 색인이 어긋나면 좌표가 빠지거나 중복된 순서가 나온다.
+ *
+ * @since 0.9
+ */
+class PathOptimizerTest {
+
+    /*
+     * 시나리오: 1920x1080 화면의 무작위 좌표 1천/1만 개를 최적화한다
+     *
+     * 기대(Then):
+     * - 결과는 입력의 순열
+     * - 개선 경로 < 최근접 이웃 경로 < 입력 순서 경로
+     */
+    @Test
+    @DisplayName("무작위 1천/1만 좌표: 최근접 이웃보다 짧은 순열을 만든다")
+    void randomPoints_shouldBeShorterThanNearestNeighbor() {
+        PathOptimizer optimizer = new PathOptimizer();
+        for (int count : new int[]{1_000, 10_000}) {
+            List<MacroPoint> points = randomPoints(count, new Random(count));
+
+            PathOptimizer.Result result = optimizer.optimize(points, new ScreenPoint(960, 540));
+
+            assertEquals(count, result.points().size());
+            assertEquals(new HashSet<>(points), new HashSet<>(result.points()));
+            assertTrue(result.constructedLength() < result.initialLength());
+            assertTrue(result.optimizedLength() < result.constructedLength() * 0.97,
+                    "nn=" + result.constructedLength() + ", optimized=" + result.optimizedLength());
+            assertTrue(result.reduction() > 0.8);
+        }
+    }
+
+    /*
+     * 시나리오: x=0..99 한 줄 좌표를 섞어서, (0,0)에서 출발하도록 최적화한다
+     *
+     * 기대(Then):
+     * - x 오름차순으로 방문하고 경로 길이는 99
+     */
+    @Test
+    @DisplayName("한 줄 좌표: 최적 경로(끝까지 한 방향)를 찾는다")
+    void collinearPoints_shouldBeVisitedInOneSweep() {
+        List<MacroPoint> points = new ArrayList<>();
+        for (int x = 0; x < 100; x++) {
+            points.add(point(x, 0));
+        }
+        Collections.shuffle(points, new Random(7));
+
+        PathOptimizer.Result result = new PathOptimizer(ForkJoinPool.commonPool(), 4)
+                .optimize(points, new ScreenPoint(0, 0));
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, result.points().get(i).base().x());
+        }
+        assertEquals(99, result.optimizedLength(), 1e-9);
+    }
+
+    /*
+     * 시나리오: 빈 목록/좌표 1개/시작 위치 생략/비동기 실행
+     *
+     * 기대(Then):
+     * - 빈 목록은 길이 0, 좌표 1개는 시작 위치까지 거리
+     * - 시작 위치 생략 시 첫 좌표에서 출발
+     * - 비동기 실행은 호출 뒤 입력 목록을 비워도 호출 시점 좌표로 결과를 만든다
+     */
+    @Test
+    @DisplayName("경계/비동기: 빈 목록, 좌표 1개, pool 실행")
+    void edgeCasesAndAsync_shouldFollowContract() throws Exception {
+        PathOptimizer optimizer = new PathOptimizer();
+        assertEquals(0, optimizer.optimize(List.of()).optimizedLength());
+        assertEquals(5, optimizer.optimize(List.of(point(3, 4)), new ScreenPoint(0, 0)).optimizedLength(), 1e-9);
+        assertEquals(0, optimizer.optimize(List.of(point(3, 4))).optimizedLength());
+
+        List<MacroPoint> points = randomPoints(600, new Random(3));
+        CompletableFuture<PathOptimizer.Result> future = optimizer.optimizeAsync(points, new ScreenPoint(0, 0));
+        points.clear();
+        PathOptimizer.Result result = future.get(10, TimeUnit.SECONDS);
+
+        assertEquals(600, result.points().size());
+        assertThrows(IllegalArgumentException.class, () -> new PathOptimizer(ForkJoinPool.commonPool(), 0));
+        assertThrows(NullPointerException.class, () -> optimizer.optimize(null));
+    }
+
+    private static List<MacroPoint> randomPoints(int count, Random random) {
+        List<MacroPoint> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            points.add(new MacroPoint("p" + i, new ScreenPoint(random.nextInt(1920), random.nextInt(1080)),
+                    new ExactPositionPolicy()));
+        }
+        return points;
+    }
+
+    private static MacroPoint point(int x, int y) {
+        return new MacroPoint("p" + x + "," + y, new ScreenPoint(x, y), new ExactPositionPolicy());
+    }
+}
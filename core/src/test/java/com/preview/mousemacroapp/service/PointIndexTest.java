@@ -0,0 +1,172 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.point.ScreenBounds;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 포인트 공간 색인/캡처 좌표 맞춤 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link PointIndex}
+ * - {@link SnappingClickCaptor}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 추가/삭제를 섞은 뒤에도 최근접/허용 거리/영역 조회가 전수 비교와 같은 답을 내는지 검증한다(음수 좌표 포함).
+ * - 10만 포인트에서 허용 거리 조회가 전수 비교와 같은 답을 내는지 검증한다(조회 시간은 {@code PointIndexBenchmark}).
+ * - 캡처 결과가 허용 거리 안 포인트로 맞춰지고, 그 밖의 결과는 그대로 전달되는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 칸 경계(음수 좌표의 내림 나눗셈)나 고리 탐색 종료 조건이 틀리면, 가까운 포인트를 두고 먼 포인트를 돌려준다.
+ *
+ * @since 0.9
+ */
+class PointIndexTest {
+
+    /*
+     * 시나리오: 다중 모니터 범위(-1920..3839)에 5천 개를 넣고 1천 개를 지운 뒤, 무작위 좌표 2천 개로 조회한다
+     *
+     * 기대(Then):
+     * - 최근접/허용 거리(40px) 조회의 거리가 전수 비교와 같다
+     * - 영역 조회 결과 집합이 전수 비교와 같다
+     */
+    @Test
+    @DisplayName("정확성: 추가/삭제 뒤 조회가 전수 비교와 같다")
+    void queries_shouldMatchBruteForceAfterAddAndRemove() {
+        Random random = new Random(11);
+        PointIndex index = new PointIndex(32);
+        List<MacroPoint> live = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            MacroPoint point = point(i, random.nextInt(5760) - 1920, random.nextInt(1080) - 200);
+            index.add(point);
+            live.add(point);
+        }
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(index.remove(live.remove(random.nextInt(live.size()))));
+        }
+        assertFalse(index.remove(point(-1, 0, 0)));
+        assertEquals(4_000, index.size());
+
+        for (int q = 0; q < 2_000; q++) {
+            ScreenPoint at = new ScreenPoint(random.nextInt(6400) - 2200, random.nextInt(1400) - 300);
+            long expected = bruteForceSquared(live, at);
+            assertEquals(expected, squared(index.nearest(at).orElseThrow(), at));
+
+            Optional<MacroPoint> near = index.nearest(at, 40);
+            if (expected <= 40 * 40) {
+                assertEquals(expected, squared(near.orElseThrow(), at));
+            } else {
+                assertTrue(near.isEmpty());
+            }
+        }
+
+        ScreenBounds region = new ScreenBounds(-500, -100, 700, 400);
+        List<MacroPoint> expectedInRegion = live.stream()
+                .filter(p -> region.contains(p.base().x(), p.base().y())).toList();
+        assertEquals(new HashSet<>(expectedInRegion), new HashSet<>(index.within(region)));
+    }
+
+    /*
+     * 시나리오: 1920x1080에 10만 포인트를 넣고, 무작위 캡처 좌표 1만 개를 허용 거리 2px로 맞춘다
+     *
+     * 기대(Then):
+     * - 좌표마다 색인 결과(있음/없음)가 전수 비교와 같다
+     */
+    @Test
+    @DisplayName("정확성: 10만 포인트에서 허용 거리 조회가 전수 비교와 같다")
+    void snapLookup_shouldMatchLinearScanAtScale() {
+        Random random = new Random(5);
+        PointIndex index = new PointIndex(16);
+        List<MacroPoint> all = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            MacroPoint point = point(i, random.nextInt(1920), random.nextInt(1080));
+            index.add(point);
+            all.add(point);
+        }
+        ScreenPoint[] queries = new ScreenPoint[10_000];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = new ScreenPoint(random.nextInt(1920), random.nextInt(1080));
+        }
+
+        int hits = 0;
+        for (ScreenPoint at : queries) {
+            boolean found = index.nearest(at, 2).isPresent();
+            assertEquals(bruteForceSquared(all, at) <= 4, found, "at=" + at);
+            hits += found ? 1 : 0;
+        }
+        assertTrue(hits > 0);
+    }
+
+    /*
+     * 시나리오: (100,100)에 포인트가 있을 때 (104,97)/(130,130) 캡처, 타임아웃 결과, cancel
+     *
+     * 기대(Then):
+     * - (104,97)은 (100,100)으로 맞춰진다(허용 거리 6px)
+     * - (130,130)은 그대로, 타임아웃은 그대로 전달된다
+     * - cancel은 실제 캡처 구현으로 전달된다
+     */
+    @Test
+    @DisplayName("맞춤: 허용 거리 안 캡처 좌표를 저장된 포인트로 맞춘다")
+    void snappingCaptor_shouldSnapWithinTolerance() {
+        PointIndex index = new PointIndex();
+        index.add(point(0, 100, 100));
+        index.add(point(1, 400, 400));
+        AtomicInteger cancelled = new AtomicInteger();
+        List<CaptureResult<ScreenPoint>> results = new ArrayList<>(List.of(
+                CaptureResult.captured(new ScreenPoint(104, 97)),
+                CaptureResult.captured(new ScreenPoint(130, 130)),
+                CaptureResult.timeout()));
+        MouseClickCaptor source = new MouseClickCaptor() {
+            @Override
+            public CompletableFuture<CaptureResult<ScreenPoint>> captureNextClick(Duration timeout) {
+                return CompletableFuture.completedFuture(results.remove(0));
+            }
+
+            @Override
+            public void cancel() {
+                cancelled.incrementAndGet();
+            }
+        };
+        SnappingClickCaptor captor = new SnappingClickCaptor(source, index, 6);
+
+        assertEquals(new ScreenPoint(100, 100), captor.captureNextClick(Duration.ofSeconds(1)).join().value().orElseThrow());
+        assertEquals(new ScreenPoint(130, 130), captor.captureNextClick(Duration.ofSeconds(1)).join().value().orElseThrow());
+        assertEquals(CaptureResult.Status.TIMEOUT, captor.captureNextClick(Duration.ofSeconds(1)).join().status());
+        captor.cancel();
+        assertEquals(1, cancelled.get());
+        assertThrows(IllegalArgumentException.class, () -> new SnappingClickCaptor(source, index, -1));
+        assertThrows(IllegalArgumentException.class, () -> new PointIndex(0));
+    }
+
+    private static long bruteForceSquared(List<MacroPoint> points, ScreenPoint at) {
+        long best = Long.MAX_VALUE;
+        for (MacroPoint point : points) {
+            best = Math.min(best, squared(point, at));
+        }
+        return best;
+    }
+
+    private static long squared(MacroPoint point, ScreenPoint at) {
+        long dx = point.base().x() - at.x();
+        long dy = point.base().y() - at.y();
+        return dx * dx + dy * dy;
+    }
+
+    private static MacroPoint point(int id, int x, int y) {
+        return new MacroPoint("p" + id, new ScreenPoint(x, y), new ExactPositionPolicy());
+    }
+}
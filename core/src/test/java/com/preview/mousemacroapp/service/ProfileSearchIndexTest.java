@@ -0,0 +1,243 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 프로파일 검색 색인/카탈로그 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link ProfileSearchIndex}
+ * - {@link ProfileCatalog}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 추가/교체/삭제(재구성 포함)를 섞은 뒤에도 검색 결과 집합이 전수 비교와 같고, 접두어 일치가 먼저 오는지 검증한다.
+ * - 카탈로그가 저장/삭제 성공 시에만 색인을 갱신하는지 검증한다.
+ * - 1만 프로파일에서도 개수 제한 검색 결과가 전수 비교와 맞는지 검증한다(지연은 {@code ProfileSearchIndexBenchmark}).
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 죽은 번호를 건너뛰지 않거나 재구성 후 번호가 어긋나면, 지운 프로파일이 검색 결과에 다시 나온다.
+ *
+ * @since 0.9
+ */
+class ProfileSearchIndexTest {
+
+    private static final String[] WORDS = {
+            "야간", "주간", "확인", "확인창", "보스", "Login", "loot", "채집", "auto", "AutoRun", "상자", "클릭"
+    };
+
+    /*
+     * 시나리오: 무작위 이름 3천 개를 넣고, 2천 5백 개를 지우거나(재구성 발생) 포인트 이름을 바꿔 다시 넣은 뒤 검색한다
+     *
+     * 기대(Then):
+     * - 결과 집합이 전수 비교(이름/단어/포인트 이름 접두어 또는 이름 부분 문자열)와 같다
+     * - 접두어 일치가 부분 문자열 일치보다 먼저 온다
+     * - 개수 제한과 빈 검색어(넣은 순서) 규칙을 지킨다
+     */
+    @Test
+    @DisplayName("정확성: 갱신 뒤 검색이 전수 비교와 같다")
+    void search_shouldMatchBruteForceAfterUpdates() {
+        Random random = new Random(3);
+        ProfileSearchIndex index = new ProfileSearchIndex();
+        Map<String, MacroProfile> live = new LinkedHashMap<>();
+        for (int i = 0; i < 3_000; i++) {
+            MacroProfile profile = profile(randomName(random, i), randomName(random, -1));
+            index.put(profile);
+            live.put(profile.name(), profile);
+        }
+        List<String> names = new ArrayList<>(live.keySet());
+        for (int i = 0; i < 2_500; i++) {
+            String name = names.get(i);
+            if (i % 5 == 0) {
+                MacroProfile moved = profile(name, randomName(random, -1));
+                index.put(moved);
+                live.put(name, moved);
+            } else {
+                assertTrue(index.remove(name));
+                live.remove(name);
+            }
+        }
+        assertFalse(index.remove("없는 이름"));
+        assertEquals(live.size(), index.size());
+
+        List<String> queries = new ArrayList<>(List.of("야", "확인", "확인창", "LOG", "oot", "o", "간 확", "run", "상자 7", "없음"));
+        for (int i = 0; i < 200; i++) {
+            String name = randomName(random, random.nextInt(3_000));
+            int start = random.nextInt(name.length());
+            queries.add(name.substring(start, Math.min(name.length(), start + 1 + random.nextInt(4))));
+        }
+        for (String query : queries) {
+            List<MacroProfile> results = index.search(query, Integer.MAX_VALUE);
+            Set<String> expected = new HashSet<>();
+            for (MacroProfile profile : live.values()) {
+                if (prefixMatch(profile, query) || normalize(profile.name()).contains(normalize(query.strip()))) {
+                    expected.add(profile.name());
+                }
+            }
+            List<String> actual = results.stream().map(MacroProfile::name).toList();
+            assertEquals(expected, new HashSet<>(actual), "query=" + query);
+            assertEquals(actual.size(), new HashSet<>(actual).size(), "중복 query=" + query);
+            boolean substringSeen = false;
+            for (MacroProfile profile : results) {
+                assertSame(live.get(profile.name()), profile);
+                boolean prefix = prefixMatch(profile, query);
+                assertFalse(substringSeen && prefix, "접두어 일치가 뒤에 왔다. query=" + query);
+                substringSeen |= !prefix;
+            }
+            assertEquals(Math.min(3, expected.size()), index.search(query, 3).size());
+        }
+
+        assertEquals(2, index.search("  ", 2).size());
+        assertEquals(live.size(), index.search("", Integer.MAX_VALUE).size());
+        assertThrows(IllegalArgumentException.class, () -> index.search("a", 0));
+    }
+
+    /*
+     * 시나리오: 카탈로그로 적재/저장/삭제하고, 실패하는 저장을 한 번 한다
+     *
+     * 기대(Then):
+     * - 저장/삭제 뒤 검색 결과가 바로 바뀐다
+     * - 실패한 저장은 현재 목록/색인을 바꾸지 않는다
+     */
+    @Test
+    @DisplayName("카탈로그: 저장/삭제 성공 시에만 색인을 갱신한다")
+    void catalog_shouldUpdateIndexOnSaveAndDelete() throws IOException {
+        MacroProfiles[] disk = {new MacroProfiles(List.of(profile("야간 보스", "확인")), 0)};
+        boolean[] failNext = {false};
+        ProfileCatalog catalog = new ProfileCatalog(new MacroProfileStore() {
+            @Override
+            public MacroProfiles load() {
+                return disk[0];
+            }
+
+            @Override
+            public void save(MacroProfiles profiles) throws IOException {
+                if (failNext[0]) {
+                    failNext[0] = false;
+                    throw new IOException("disk full");
+                }
+                disk[0] = profiles;
+            }
+
+            @Override
+            public void backupCorrupt() {
+            }
+        });
+
+        assertTrue(catalog.search("보스", 10).isEmpty());
+        catalog.load();
+        assertEquals(List.of("야간 보스"), names(catalog.search("보스", 10)));
+        assertEquals(List.of("야간 보스"), names(catalog.search("확", 10)));
+
+        catalog.save(catalog.current().withLastUsed(profile("주간 보스", "상자")));
+        assertEquals(List.of("야간 보스", "주간 보스"), names(catalog.search("보스", 10)));
+
+        failNext[0] = true;
+        MacroProfiles before = catalog.current();
+        assertThrows(IOException.class, () -> catalog.save(before.withLastUsed(profile("채집", "상자"))));
+        assertSame(before, catalog.current());
+        assertTrue(catalog.search("채집", 10).isEmpty());
+
+        assertTrue(catalog.delete("야간 보스"));
+        assertFalse(catalog.delete("야간 보스"));
+        assertEquals(List.of("주간 보스"), names(catalog.search("보스", 10)));
+        assertEquals(List.of("주간 보스"), names(disk[0].profiles()));
+        assertEquals(0, disk[0].lastUsedIndex());
+    }
+
+    /*
+     * 시나리오: 1만 프로파일에서 이름 조각(1~4글자) 검색어 100개로 결과 20개씩 찾는다
+     *
+     * 기대(Then):
+     * - 결과 수가 min(20, 전수 비교 일치 수)이다
+     * - 결과는 모두 일치하는 프로파일이고, 접두어 일치가 먼저 온다
+     */
+    @Test
+    @DisplayName("규모: 1만 프로파일에서 개수 제한 검색이 전수 비교와 맞는다")
+    void limitedSearch_shouldMatchBruteForceAtScale() {
+        Random random = new Random(9);
+        ProfileSearchIndex index = new ProfileSearchIndex();
+        List<MacroProfile> all = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            MacroProfile profile = profile(randomName(random, i), randomName(random, -1));
+            index.put(profile);
+            all.add(profile);
+        }
+
+        int found = 0;
+        for (int i = 0; i < 100; i++) {
+            String name = all.get(random.nextInt(all.size())).name();
+            int start = random.nextInt(name.length());
+            String query = name.substring(start, Math.min(name.length(), start + 1 + random.nextInt(4)));
+            String key = normalize(query.strip());
+            long matches = all.stream()
+                    .filter(p -> prefixMatch(p, query) || normalize(p.name()).contains(key))
+                    .count();
+
+            List<MacroProfile> results = index.search(query, 20);
+            assertEquals(Math.min(20, matches), results.size(), "query=" + query);
+            boolean substringSeen = false;
+            for (MacroProfile profile : results) {
+                boolean prefix = prefixMatch(profile, query);
+                assertTrue(prefix || normalize(profile.name()).contains(key), "query=" + query);
+                assertFalse(substringSeen && prefix, "접두어 일치가 뒤에 왔다. query=" + query);
+                substringSeen |= !prefix;
+            }
+            found += results.size();
+        }
+        assertTrue(found > 0);
+    }
+
+    private static boolean prefixMatch(MacroProfile profile, String query) {
+        String key = normalize(query.strip());
+        return termsOf(profile.name()).stream().anyMatch(t -> t.startsWith(key))
+                || termsOf(profile.macroPoint().name()).stream().anyMatch(t -> t.startsWith(key));
+    }
+
+    private static List<String> termsOf(String name) {
+        String key = normalize(name);
+        List<String> terms = new ArrayList<>(List.of(key));
+        terms.addAll(List.of(key.split("[\\s_-]+")));
+        return terms;
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static String randomName(Random random, int id) {
+        StringBuilder name = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        int words = 1 + random.nextInt(3);
+        for (int i = 1; i < words; i++) {
+            name.append(random.nextBoolean() ? ' ' : '_').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return id >= 0 ? name.append(' ').append(id).toString() : name.toString();
+    }
+
+    private static List<String> names(List<MacroProfile> profiles) {
+        return profiles.stream().map(MacroProfile::name).toList();
+    }
+
+    private static MacroProfile profile(String name, String pointName) {
+        return new MacroProfile(name, new MacroPoint(pointName, new ScreenPoint(1, 2), new ExactPositionPolicy()),
+                ClickAction.singleLeft(), new DelayPolicy(300, 0, 0), new ExecutionSchedule.Always(), 0);
+    }
+}
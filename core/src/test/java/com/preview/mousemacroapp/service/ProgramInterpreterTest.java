@@ -0,0 +1,201 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.KeyAction;
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.domain.action.MouseButton;
+import com.preview.mousemacroapp.domain.action.policy.ExactPositionPolicy;
+import com.preview.mousemacroapp.domain.action.policy.RandomAreaPositionPolicy;
+import com.preview.mousemacroapp.domain.point.MacroPoint;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.program.MacroProgram;
+import com.preview.mousemacroapp.domain.program.MacroStep;
+import com.preview.mousemacroapp.domain.program.ProgramCompiler;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+import com.preview.mousemacroapp.domain.status.MacroStatus;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 매크로 프로그램 실행(인터프리터) 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link ProgramInterpreter}
+ * - {@link MacroRunner#runProgramOnCurrentThread}
+ * - {@link DefaultMacroService#startProgram}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 단계가 순서대로 수행되고, 단계별 딜레이 뒤에 다음 단계로 넘어가며, 회차 끝에서 처음으로 돌아가는지 검증한다.
+ * - 단일 단계 프로그램이 같은 시드의 단일 좌표 반복 실행과 같은 좌표/딜레이를 내는지 검증한다.
+ * - 10만 단계 프로그램을 실행하는 동안 단계당 할당이 없는지 검증한다(처리량은 {@code ProgramBenchmark}).
+ * - 프로그램 실행이 매크로 실행과 같은 상태 전이를 따르는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 단계마다 좌표/정책 객체를 만들면 긴 순서열 반복 실행에서 GC 일시정지가 클릭 간격에 섞인다.
+ *
+ * @since 0.9
+ */
+class ProgramInterpreterTest {
+
+    /*
+     * 시나리오: A 클릭(300ms) → B 더블 클릭(0ms) → C 오른쪽 홀드(1s) 3단계를 2회차 실행한다
+     *
+     * 기대(Then):
+     * - 수행 순서 A, B, C, A, B, C
+     * - 대기는 300, 1000, 300 (딜레이 0 단계와 마지막 회차의 마지막 단계 뒤에는 대기하지 않음)
+     */
+    @Test
+    @DisplayName("순서: 단계를 차례로 수행하고 단계별 딜레이만큼 기다린다")
+    void run_shouldExecuteStepsInOrderWithDelays() {
+        List<String> performed = new ArrayList<>();
+        List<Long> sleeps = new ArrayList<>();
+        ClickExecutor recorder = (action, point) ->
+                performed.add(action.button() + "x" + action.clickCount() + "@" + point.x() + "," + point.y());
+        MacroRunner runner = new MacroRunner(recorder, Clock.systemUTC(), sleeps::add);
+        MacroProgram program = MacroProgram.compile(List.of(
+                MacroStep.at(new ScreenPoint(10, 10), ClickAction.singleLeft(), 300),
+                MacroStep.at(new ScreenPoint(20, 20), ClickAction.doubleLeft(), 0),
+                MacroStep.at(new ScreenPoint(30, 30), ClickAction.hold(MouseButton.RIGHT, 500), 1000)));
+
+        long steps = runner.runProgramOnCurrentThread(program, new ExecutionSchedule.Always(), new Random(0), 2);
+
+        assertEquals(6, steps);
+        assertEquals(List.of("LEFTx1@10,10", "LEFTx2@20,20", "RIGHTx1@30,30",
+                "LEFTx1@10,10", "LEFTx2@20,20", "RIGHTx1@30,30"), performed);
+        assertEquals(List.of(300L, 1000L, 300L), sleeps);
+    }
+
+    /*
+     * 시나리오: 랜덤 영역(±5px) + 랜덤 딜레이(10~30ms) 단일 좌표를 50회 반복한다
+     *
+     * 입력(Given):
+     * - 단일 좌표 반복 실행(MacroRunner.runOnCurrentThread)과 1단계 프로그램, 같은 시드(42)
+     *
+     * 기대(Then):
+     * - 클릭 좌표 목록과 대기 목록이 같다(랜덤 소스를 같은 순서로 쓴다)
+     */
+    @Test
+    @DisplayName("호환: 1단계 프로그램은 같은 시드의 단일 좌표 반복 실행과 같다")
+    void singleStepProgram_shouldMatchSinglePointRunner() {
+        RandomAreaPositionPolicy area = new RandomAreaPositionPolicy(5, 5);
+        DelayPolicy delay = new DelayPolicy(10, 0, 20);
+        ScreenPoint base = new ScreenPoint(400, 300);
+
+        List<String> classic = new ArrayList<>();
+        List<Long> classicSleeps = new ArrayList<>();
+        new MacroRunner((action, point) -> classic.add(point.x() + "," + point.y()), Clock.systemUTC(), classicSleeps::add)
+                .runOnCurrentThread(new MacroPoint("p", base, area), ClickAction.singleLeft(), area, delay,
+                        new ExecutionSchedule.Always(), new Random(42), 50);
+
+        List<String> programmed = new ArrayList<>();
+        List<Long> programSleeps = new ArrayList<>();
+        new MacroRunner((action, point) -> programmed.add(point.x() + "," + point.y()), Clock.systemUTC(), programSleeps::add)
+                .runProgramOnCurrentThread(
+                        MacroProgram.compile(List.of(new MacroStep(base, ClickAction.singleLeft(), area, delay))),
+                        new ExecutionSchedule.Always(), new Random(42), 50);
+
+        assertEquals(classic, programmed);
+        assertEquals(classicSleeps, programSleeps);
+    }
+
+    /*
+     * 시나리오: 10만 단계(클릭 3종 + 키 입력, 정확/랜덤 영역 좌표, 랜덤 딜레이)를 단계 객체 없이 적재하고 3회차 실행한다
+     *
+     * 입력(Given):
+     * - 좌표 객체 없는 경로를 재정의한 계수 실행기, 즉시 반환하는 대기
+     *
+     * 기대(Then):
+     * - 30만 단계 수행 동안 스레드 할당량 < 64KB(단계당 할당 없음)
+     */
+    @Test
+    @DisplayName("무할당: 10만 단계 프로그램을 단계당 할당 없이 실행한다")
+    void hundredThousandSteps_shouldRunWithoutPerStepAllocation() {
+        MacroAction[] actions = {ClickAction.singleLeft(), ClickAction.doubleLeft(),
+                ClickAction.hold(MouseButton.LEFT, 50), KeyAction.press(10)};
+        ProgramCompiler compiler = new ProgramCompiler(100_000);
+        ExactPositionPolicy exact = new ExactPositionPolicy();
+        RandomAreaPositionPolicy area = new RandomAreaPositionPolicy(3, 3);
+        for (int i = 0; i < 100_000; i++) {
+            compiler.add(i % 1920, i % 1080, actions[i & 3], (i & 1) == 0 ? exact : area,
+                    new DelayPolicy(i % 7, 0, i % 5));
+        }
+        MacroProgram program = compiler.compile();
+
+        CountingExecutor executor = new CountingExecutor();
+        long[] slept = {0};
+        MacroRunner runner = new MacroRunner(executor, Clock.systemUTC(), millis -> slept[0] += millis);
+        runner.runProgramOnCurrentThread(program, new ExecutionSchedule.Always(), new Random(1), 1);
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        long steps = runner.runProgramOnCurrentThread(program, new ExecutionSchedule.Always(), new Random(2), 3);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertEquals(300_000, steps);
+        assertTrue(slept[0] > 0);
+        assertEquals(400_000, executor.performed);
+        assertTrue(allocated < 64 * 1024, "allocated=" + allocated);
+    }
+
+    /*
+     * 시나리오: 서비스로 2단계 프로그램을 5회차 실행하며, 실행 중 재시작을 호출한다
+     *
+     * 기대(Then):
+     * - 실행 중 startProgram/start는 IllegalStateException
+     * - 회차를 마치면 STOPPED로 수렴하고 10단계가 수행된다
+     */
+    @Test
+    @DisplayName("서비스: 프로그램도 RUNNING → STOPPED 상태 전이를 따른다")
+    void service_startProgram_shouldFollowStatusTransitions() throws InterruptedException {
+        List<ScreenPoint> performed = new java.util.concurrent.CopyOnWriteArrayList<>();
+        DefaultMacroService service = new DefaultMacroService((action, point) -> performed.add(point));
+        MacroProgram program = MacroProgram.compile(List.of(
+                MacroStep.at(new ScreenPoint(1, 1), ClickAction.singleLeft(), 20),
+                MacroStep.at(new ScreenPoint(2, 2), ClickAction.singleLeft(), 20)));
+        ProgramRequest request = ProgramRequest.of(program, null, new Random(0), 5);
+
+        service.startProgram(request);
+        assertEquals(MacroStatus.RUNNING, service.status());
+        assertThrows(IllegalStateException.class, () -> service.startProgram(request));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.status().isActive() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(MacroStatus.STOPPED, service.status());
+        assertEquals(10, performed.size());
+        assertThrows(IllegalArgumentException.class, () -> ProgramRequest.of(program, null, new Random(0), -1));
+    }
+
+    /**
+     * 좌표 객체 없는 경로로 수행 횟수/좌표 합만 세는 실행기.
+     */
+    private static final class CountingExecutor implements ClickExecutor {
+
+        private long performed;
+        private long checksum;
+
+        @Override
+        public void execute(ClickAction action, ScreenPoint point) {
+            throw new AssertionError("좌표 객체 경로를 쓰면 안 된다.");
+        }
+
+        @Override
+        public void perform(MacroAction action, int x, int y) {
+            performed++;
+            checksum += x + y;
+        }
+    }
+}
@@ -0,0 +1,252 @@
+package com.preview.mousemacroapp.service;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.program.MacroProgram;
+import com.preview.mousemacroapp.domain.program.MacroStep;
+import com.preview.mousemacroapp.service.replay.DeadlineTimer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 세션 그룹(시작 장벽/단계 장벽) 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link SessionGroup}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 50개 세션이 예약 시각 전에는 동작하지 않고, 예약 시각에 함께 시작하는지(시작 편차 0) 가상 타이머로 검증한다.
+ * - 단계 장벽이 회차를 맞추는지(어떤 세션도 다른 세션보다 한 회차 넘게 앞서지 않음) 검증한다.
+ * - 주기/오프셋으로 두 세션이 번갈아 실행되는지 검증한다.
+ * - stop이 장벽에서 기다리는 세션까지 끝내는지 검증한다.
+ * - 예외로 끝난 세션의 예외가 세션별로 남는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 끝난 세션이 장벽에서 빠지지 않거나 stop이 장벽을 종료하지 않으면, 남은 세션이 영원히 기다린다.
+ *
+ * @since 0.9
+ */
+class SessionGroupTest {
+
+    /*
+     * 시나리오: 50개 세션(1단계, 1회차)을 고정 시계 기준 200ms 뒤 시작하도록 예약한다(가상 타이머)
+     *
+     * 입력(Given):
+     * - 가상 타이머: 마감 대기는 시각을 마감으로 옮기고 바로 돌아온다(시각은 줄지 않는다)
+     *
+     * 기대(Then):
+     * - 모든 클릭이 예약 시각(가상 시각)에 나온다(예약 전 클릭 없음), 모든 세션 1회차 완료
+     * - 시작 편차/최대 지연이 0(세션 수가 CPU 수보다 많든 적든)
+     */
+    @Test
+    @DisplayName("시작 장벽: 50개 세션이 예약 시각에 함께 시작한다")
+    void startAt_shouldReleaseAllSessionsAtInstant() throws InterruptedException {
+        VirtualTimer timer = new VirtualTimer(1_000_000L);
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        List<Long> clickedAt = new CopyOnWriteArrayList<>();
+        SessionGroup group = new SessionGroup((action, point) -> clickedAt.add(timer.nanoTime()),
+                Clock.fixed(now, ZoneOffset.UTC), SessionGroup.Sync.START_ONLY, timer, millis -> { });
+        for (int i = 0; i < 50; i++) {
+            group.add(ProgramRequest.of(program(i, 0), null, new Random(i), 1));
+        }
+
+        long scheduledAt = timer.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+        group.startAt(now.plusMillis(200));
+        assertTrue(group.awaitTermination(Duration.ofSeconds(5)));
+
+        assertEquals(50, clickedAt.size());
+        assertTrue(clickedAt.stream().allMatch(t -> t == scheduledAt), "clickedAt=" + clickedAt);
+        assertEquals(0, group.startSkewNanos());
+        assertEquals(0, group.maxStartLatenessNanos());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(1, group.passes(i));
+            assertTrue(group.failure(i).isEmpty());
+        }
+        assertFalse(group.isRunning());
+    }
+
+    /*
+     * 시나리오: 3개 세션을 회차마다 맞추며 실행하고, 세션 1의 실행기가 첫 클릭에서 예외를 던진다
+     *
+     * 기대(Then):
+     * - 세션 1은 그 예외로 끝나고 failure(1)로 같은 예외를 조회할 수 있다
+     * - 나머지 세션은 장벽에서 기다리지 않고 3회차를 마치며 failure가 비어 있다
+     */
+    @Test
+    @DisplayName("실패 보관: 예외로 끝난 세션의 예외를 세션별로 조회한다")
+    void failingSession_shouldExposeFailure() throws InterruptedException {
+        IllegalStateException boom = new IllegalStateException("boom");
+        SessionGroup group = new SessionGroup((action, point) -> {
+            if (point.x() == 1) {
+                throw boom;
+            }
+        }, Clock.systemUTC(), SessionGroup.Sync.EVERY_PASS);
+        for (int i = 0; i < 3; i++) {
+            group.add(ProgramRequest.of(program(i, 0), null, new Random(i), 3));
+        }
+
+        group.startAt(Instant.now());
+        assertTrue(group.awaitTermination(Duration.ofSeconds(5)));
+
+        assertSame(boom, group.failure(1).orElseThrow());
+        assertEquals(0, group.passes(1));
+        for (int i : new int[]{0, 2}) {
+            assertTrue(group.failure(i).isEmpty());
+            assertEquals(3, group.passes(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> group.failure(3));
+    }
+
+    /*
+     * 시나리오: 딜레이가 서로 다른 3개 세션(2단계)을 회차마다 맞추며 4회차 실행한다
+     *
+     * 기대(Then):
+     * - 클릭 순서에서 회차 번호가 줄어들지 않는다(모든 세션의 r회차가 끝난 뒤 r+1회차 시작)
+     */
+    @Test
+    @DisplayName("단계 장벽: 회차마다 세션을 맞춘다")
+    void everyPass_shouldKeepSessionsInLockstep() throws InterruptedException {
+        List<Integer> clicks = new CopyOnWriteArrayList<>();
+        SessionGroup group = new SessionGroup((action, point) -> clicks.add(point.x()),
+                Clock.systemUTC(), SessionGroup.Sync.EVERY_PASS);
+        for (int i = 0; i < 3; i++) {
+            group.add(ProgramRequest.of(program(i, 1 + 2 * i), null, new Random(i), 4));
+        }
+
+        group.startAt(Instant.now());
+        assertTrue(group.awaitTermination(Duration.ofSeconds(5)));
+
+        assertEquals(24, clicks.size());
+        Map<Integer, Integer> seen = new HashMap<>();
+        int previousRound = 0;
+        for (int session : clicks) {
+            int round = (seen.merge(session, 1, Integer::sum) - 1) / 2;
+            assertTrue(round >= previousRound, "clicks=" + clicks);
+            previousRound = round;
+        }
+    }
+
+    /*
+     * 시나리오: 세션 A(주기 2, 오프셋 0)와 B(주기 2, 오프셋 1)를 각 3회차 실행한다
+     *
+     * 기대(Then):
+     * - 클릭 순서가 A, B, A, B, A, B
+     */
+    @Test
+    @DisplayName("번갈아 실행: 주기/오프셋으로 세션이 단계를 나눠 쓴다")
+    void phasePeriod_shouldAlternateSessions() throws InterruptedException {
+        List<Integer> clicks = new CopyOnWriteArrayList<>();
+        SessionGroup group = new SessionGroup((action, point) -> clicks.add(point.x()),
+                Clock.systemUTC(), SessionGroup.Sync.EVERY_PASS);
+        group.add(ProgramRequest.of(MacroProgram.compile(List.of(
+                MacroStep.at(new ScreenPoint(0, 0), ClickAction.singleLeft(), 0))), null, new Random(0), 3), 2, 0);
+        group.add(ProgramRequest.of(MacroProgram.compile(List.of(
+                MacroStep.at(new ScreenPoint(1, 0), ClickAction.singleLeft(), 0))), null, new Random(0), 3), 2, 1);
+
+        group.startAt(Instant.now());
+        assertTrue(group.awaitTermination(Duration.ofSeconds(5)));
+
+        assertEquals(List.of(0, 1, 0, 1, 0, 1), clicks);
+    }
+
+    /*
+     * 시나리오: 끝나지 않는 세션 4개(그중 2개는 주기 3)를 실행하다가 stop한다
+     *
+     * 기대(Then):
+     * - 모든 세션이 끝나고, 이후 클릭이 늘지 않는다
+     */
+    @Test
+    @DisplayName("stop: 장벽에서 기다리는 세션까지 끝낸다")
+    void stop_shouldTerminateWaitingSessions() throws InterruptedException {
+        List<Integer> clicks = new CopyOnWriteArrayList<>();
+        SessionGroup group = new SessionGroup((action, point) -> clicks.add(point.x()),
+                Clock.systemUTC(), SessionGroup.Sync.EVERY_PASS);
+        for (int i = 0; i < 4; i++) {
+            group.add(ProgramRequest.of(program(i, 5), null, new Random(i), 0), i < 2 ? 1 : 3, i < 2 ? 0 : i - 2);
+        }
+
+        group.startAt(Instant.now());
+        Thread.sleep(80);
+        group.stop();
+
+        assertTrue(group.awaitTermination(Duration.ofSeconds(2)));
+        assertFalse(group.isRunning());
+        int settled = clicks.size();
+        assertTrue(settled > 0);
+        Thread.sleep(40);
+        assertEquals(settled, clicks.size());
+    }
+
+    /*
+     * 시나리오: 잘못된 주기/오프셋, 빈 그룹 시작, 시작 후 추가/재시작
+     *
+     * 기대(Then):
+     * - IllegalArgumentException / IllegalStateException
+     */
+    @Test
+    @DisplayName("검증: 잘못된 구성과 재시작을 거부한다")
+    void invalidUsage_shouldBeRejected() throws InterruptedException {
+        SessionGroup group = new SessionGroup((action, point) -> {
+        }, Clock.systemUTC(), SessionGroup.Sync.START_ONLY);
+        ProgramRequest request = ProgramRequest.of(program(0, 0), null, new Random(0), 1);
+
+        assertThrows(IllegalArgumentException.class, () -> group.add(request, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> group.add(request, 2, 2));
+        assertThrows(IllegalStateException.class, () -> group.startAt(Instant.now()));
+
+        group.add(request);
+        group.startAt(Instant.now());
+        assertThrows(IllegalStateException.class, () -> group.add(request));
+        assertThrows(IllegalStateException.class, () -> group.startAt(Instant.now()));
+        assertTrue(group.awaitTermination(Duration.ofSeconds(2)));
+    }
+
+    /**
+     * 마감 대기 시 시각을 마감으로 옮기고 바로 돌아오는 가상 타이머(여러 스레드에서 써도 시각이 줄지 않는다).
+     */
+    private static final class VirtualTimer implements DeadlineTimer {
+
+        private final AtomicLong now;
+
+        private VirtualTimer(long start) {
+            this.now = new AtomicLong(start);
+        }
+
+        @Override
+        public long nanoTime() {
+            return now.get();
+        }
+
+        @Override
+        public void awaitDeadline(long deadlineNanos) {
+            now.accumulateAndGet(deadlineNanos, Math::max);
+        }
+    }
+
+    /**
+     * x좌표가 세션 번호인 프로그램(딜레이가 있으면 2단계, 0이면 1단계).
+     */
+    private static MacroProgram program(int session, long delayMillis) {
+        List<MacroStep> steps = new ArrayList<>();
+        steps.add(MacroStep.at(new ScreenPoint(session, 0), ClickAction.singleLeft(), delayMillis));
+        if (delayMillis > 0) {
+            steps.add(MacroStep.at(new ScreenPoint(session, 1), ClickAction.singleLeft(), delayMillis));
+        }
+        return MacroProgram.compile(steps);
+    }
+}
@@ -0,0 +1,217 @@
+package com.preview.mousemacroapp.service.pipeline;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.DragAction;
+import com.preview.mousemacroapp.domain.action.ScrollAction;
+import com.preview.mousemacroapp.domain.point.ScreenBounds;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.service.ClickExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ClickPipeline 조립/실행 순서 회귀 방지 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link ClickPipeline}
+ * - 기본 제공 단계(경계 보정/측정/저널/복제)
+ *
+ * <p><b>검증 목적</b></p>
+ * - 단계가 목록 순서대로 실행되고 마지막에 실제 실행기가 호출되는지 검증한다.
+ * - 각 단계가 다음 단계로 전달하는 좌표/횟수 계약을 검증한다.
+ * - 실제 실행기가 지원하지 않는 동작은 실행 전에 거부되는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 단계 순서가 바뀌면(예: 보정 전에 기록) 실제 클릭 좌표와 로그가 달라진다.
+ *
+ * @since 0.9
+ */
+class ClickPipelineTest {
+
+    /*
+     * 시나리오: 단계는 목록 순서대로 감싸며 실행되어야 한다
+     *
+     * 입력(Given):
+     * - stages = [A, B], terminal = T
+     *
+     * 기대(Then):
+     * - 호출 순서: A-before → B-before → T → B-after → A-after
+     */
+    @Test
+    @DisplayName("실행 순서: 앞 단계가 바깥에서 감싼다")
+    void execute_shouldWrapStagesInOrder() {
+        List<String> calls = new ArrayList<>();
+        ClickExecutor terminal = (action, point) -> calls.add("T");
+
+        ClickPipeline pipeline = ClickPipeline.of(terminal, List.of(
+                tracing("A", calls),
+                tracing("B", calls)
+        ));
+
+        pipeline.execute(ClickAction.singleLeft(), new ScreenPoint(1, 2));
+
+        assertEquals(List.of("A-before", "B-before", "T", "B-after", "A-after"), calls);
+        assertEquals(2, pipeline.stageCount());
+    }
+
+    /*
+     * 시나리오: next를 호출하지 않는 단계는 클릭을 차단한다
+     *
+     * 기대(Then):
+     * - 실제 실행기는 호출되지 않는다.
+     */
+    @Test
+    @DisplayName("차단: next 미호출 시 실제 실행기가 호출되지 않는다")
+    void execute_whenStageDoesNotProceed_shouldNotReachTerminal() {
+        List<String> calls = new ArrayList<>();
+        ClickExecutor terminal = (action, point) -> calls.add("T");
+
+        ClickPipeline pipeline = ClickPipeline.of(terminal, List.of((action, point, next) -> calls.add("blocked")));
+
+        pipeline.execute(ClickAction.singleLeft(), new ScreenPoint(1, 2));
+
+        assertEquals(List.of("blocked"), calls);
+    }
+
+    /*
+     * 시나리오: 클릭만 구현한 실제 실행기에 파이프라인을 거쳐 드래그/스크롤을 보낸다
+     *
+     * 기대(Then):
+     * - supports는 실제 실행기의 결과(클릭만 true)를 그대로 돌려준다
+     * - 드래그/스크롤은 실행 경로로 가기 전에 IllegalArgumentException으로 거부되고, 실제 실행기는 호출되지 않는다
+     */
+    @Test
+    @DisplayName("지원 검사: 클릭만 구현한 실행기는 드래그/스크롤을 미리 거부한다")
+    void perform_unsupportedAction_shouldBeRejectedUpFront() {
+        List<String> calls = new ArrayList<>();
+        ClickExecutor terminal = (action, point) -> calls.add("T");
+        ClickPipeline pipeline = ClickPipeline.of(terminal, List.of(tracing("A", calls)));
+        DragAction drag = DragAction.left(new ScreenPoint(10, 10), 0);
+        ScrollAction scroll = new ScrollAction(3, 0);
+
+        assertTrue(pipeline.supports(ClickAction.singleLeft()));
+        assertFalse(pipeline.supports(drag));
+        assertFalse(pipeline.supports(scroll));
+
+        IllegalArgumentException ex =
+                assertThrows(IllegalArgumentException.class, () -> pipeline.perform(drag, 1, 2));
+        assertTrue(ex.getMessage().contains("DragAction"), ex.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> pipeline.perform(scroll, new ScreenPoint(1, 2)));
+        assertTrue(calls.isEmpty(), calls.toString());
+    }
+
+    /*
+     * 시나리오: 경계 보정 단계는 화면 밖 좌표를 경계 안으로 바꿔 전달한다
+     *
+     * 입력(Given):
+     * - bounds = (0,0)~(99,99)
+     * - point = (150, -5)
+     *
+     * 기대(Then):
+     * - 실제 실행기는 (99, 0)을 받는다.
+     */
+    @Test
+    @DisplayName("경계 보정: 화면 밖 좌표는 경계 안으로 보정")
+    void clamp_shouldClampOutOfBoundsPoint() {
+        List<ScreenPoint> received = new ArrayList<>();
+        ClickExecutor terminal = (action, point) -> received.add(point);
+
+        ClickPipeline pipeline = ClickPipeline.of(terminal,
+                List.of(new BoundsClampClickInterceptor(new ScreenBounds(0, 0, 99, 99))));
+
+        ScreenPoint inside = new ScreenPoint(10, 10);
+        pipeline.execute(ClickAction.singleLeft(), new ScreenPoint(150, -5));
+        pipeline.execute(ClickAction.singleLeft(), inside);
+
+        assertEquals(new ScreenPoint(99, 0), received.get(0));
+        assertSame(inside, received.get(1), "경계 안 좌표는 같은 인스턴스를 전달해야 한다.");
+    }
+
+    /*
+     * 시나리오: 측정/저널/복제 단계는 실행 횟수와 이력을 정확히 남긴다
+     *
+     * 입력(Given):
+     * - stages = [metrics, journal(capacity=2), tee]
+     * - 클릭 3회
+     *
+     * 기대(Then):
+     * - metrics.count == 3
+     * - journal은 최근 2건만 보관, 누적 기록 3
+     * - tee 대상과 실제 실행기 모두 3회 호출
+     */
+    @Test
+    @DisplayName("측정/저널/복제: 횟수와 최근 이력 보관")
+    void metricsJournalTee_shouldRecordEveryClick() {
+        List<ScreenPoint> terminalCalls = new ArrayList<>();
+        List<ScreenPoint> tapCalls = new ArrayList<>();
+
+        MetricsClickInterceptor metrics = new MetricsClickInterceptor();
+        Clock clock = Clock.fixed(Instant.parse("2026-02-14T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+        JournalClickInterceptor journal = new JournalClickInterceptor(2, clock);
+        TeeClickInterceptor tee = new TeeClickInterceptor((action, point) -> tapCalls.add(point));
+
+        ClickPipeline pipeline = ClickPipeline.of((action, point) -> terminalCalls.add(point),
+                List.of(metrics, journal, tee));
+
+        for (int i = 0; i < 3; i++) {
+            pipeline.execute(ClickAction.singleLeft(), new ScreenPoint(i, i));
+        }
+
+        assertEquals(3, metrics.snapshot().count());
+        assertEquals(0, metrics.snapshot().failures());
+        assertEquals(3, journal.totalRecorded());
+        assertEquals(List.of(new ScreenPoint(1, 1), new ScreenPoint(2, 2)),
+                journal.entries().stream().map(JournalClickInterceptor.Entry::point).toList());
+        assertEquals(3, tapCalls.size());
+        assertEquals(3, terminalCalls.size());
+    }
+
+    /*
+     * 시나리오: 속도 제한 단계는 최소 간격을 보장한다
+     *
+     * 입력(Given):
+     * - maxPerSecond = 50 (최소 간격 20ms)
+     * - 연속 클릭 3회
+     *
+     * 기대(Then):
+     * - 총 소요 시간이 최소 40ms 이상
+     */
+    @Test
+    @DisplayName("속도 제한: 연속 클릭 사이 최소 간격 보장")
+    void rateLimit_shouldSpaceClicks() {
+        ClickPipeline pipeline = ClickPipeline.of((action, point) -> {
+        }, List.of(new RateLimitClickInterceptor(50)));
+
+        long started = System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            pipeline.execute(ClickAction.singleLeft(), new ScreenPoint(0, 0));
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertTrue(elapsedMillis >= 38, "elapsedMillis=" + elapsedMillis);
+    }
+
+    @Test
+    @DisplayName("생성 제약: terminal/stages가 null이면 예외")
+    void of_nullArguments_shouldThrow() {
+        assertThrows(NullPointerException.class, () -> ClickPipeline.of(null, List.of()));
+        assertThrows(NullPointerException.class, () -> ClickPipeline.of((a, p) -> {
+        }, null));
+    }
+
+    private static ClickInterceptor tracing(String name, List<String> calls) {
+        return (action, point, next) -> {
+            calls.add(name + "-before");
+            next.execute(action, point);
+            calls.add(name + "-after");
+        };
+    }
+}
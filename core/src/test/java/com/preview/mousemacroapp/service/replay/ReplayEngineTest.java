@@ -0,0 +1,305 @@
+package com.preview.mousemacroapp.service.replay;
+
+import com.preview.mousemacroapp.domain.recording.InputEventType;
+import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
+import com.preview.mousemacroapp.domain.status.MacroStatus;
+import com.preview.mousemacroapp.domain.timing.DelayPolicy;
+import com.preview.mousemacroapp.service.DefaultMacroService;
+import com.preview.mousemacroapp.service.VirtualClock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 기록 재생 엔진 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link ReplayEngine}
+ * - {@link DefaultMacroService#startReplay}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 이벤트가 절대 마감 시각에 나가고, 출력 지연이 이후 이벤트로 누적되지 않는지 검증한다.
+ * - 배속/유휴 간격 상한이 마감 계산에 반영되고, 최대 배속은 대기하지 않는지 검증한다.
+ * - 일시정지/스케줄 대기 시간이 타임라인에서 빠지는지(재개 후 간격 유지) 검증한다.
+ * - 재생이 매크로 실행과 같은 상태 전이를 따르는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 상대 대기로 바뀌면 긴 기록에서 오차가 누적되어 재생 타이밍이 기록과 점점 어긋난다.
+ *
+ * @since 0.9
+ */
+class ReplayEngineTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /*
+     * 시나리오: 10ms 간격 이벤트를 1배속으로 재생하고, 출력 1회에 3ms가 걸린다
+     *
+     * 입력(Given):
+     * - 가상 타이머(대기 시 마감 시각으로 즉시 이동)
+     *
+     * 기대(Then):
+     * - 출력 시각은 시작 기준 0/10/20/30ms (3ms 출력 지연이 누적되지 않음)
+     * - 지연 0, 기대 길이 = 실제 길이 = 30ms
+     */
+    @Test
+    @DisplayName("절대 마감: 출력 지연이 다음 이벤트로 누적되지 않는다")
+    void run_shouldEmitAtAbsoluteDeadlines() {
+        VirtualTimer timer = new VirtualTimer();
+        List<Long> emittedAt = new ArrayList<>();
+        ReplayEngine engine = new ReplayEngine((type, x, y, code) -> {
+            emittedAt.add(timer.now);
+            timer.now += 3 * MS;
+        }, Clock.systemUTC(), timer);
+
+        ReplayReport report = engine.runOnCurrentThread(
+                ArraySource.moves(5_000 * MS, 10 * MS, 4), ReplayOptions.realTime());
+
+        assertEquals(List.of(0L, 10 * MS, 20 * MS, 30 * MS), emittedAt);
+        assertEquals(4, report.events());
+        assertTrue(report.completed());
+        assertEquals(30 * MS, report.recordedNanos());
+        assertEquals(30 * MS, report.expectedNanos());
+        assertEquals(Duration.ZERO, report.endDrift());
+        assertEquals(0, report.maxLatenessNanos());
+    }
+
+    /*
+     * 시나리오: 0 / 100ms / 10s 시각의 이벤트를 2배속 + 유휴 간격 상한 1s로 재생한다
+     *
+     * 기대(Then):
+     * - 출력 시각 0 / 50ms / 550ms (9.9s 간격은 1s로 줄인 뒤 배속 적용)
+     * - 기록상 길이는 10s, 기대 길이는 550ms
+     */
+    @Test
+    @DisplayName("배속/간격 상한: 간격을 상한으로 줄인 뒤 배속을 적용한다")
+    void run_withSpeedAndIdleCap_shouldScaleCappedOffsets() {
+        VirtualTimer timer = new VirtualTimer();
+        List<Long> emittedAt = new ArrayList<>();
+        ReplayEngine engine = new ReplayEngine((type, x, y, code) -> emittedAt.add(timer.now), Clock.systemUTC(), timer);
+
+        ReplayReport report = engine.runOnCurrentThread(
+                new ArraySource(new long[]{0, 100 * MS, 10_000 * MS}),
+                new ReplayOptions(2.0, Duration.ofSeconds(1), new ExecutionSchedule.Always()));
+
+        assertEquals(List.of(0L, 50 * MS, 550 * MS), emittedAt);
+        assertEquals(10_000 * MS, report.recordedNanos());
+        assertEquals(550 * MS, report.expectedNanos());
+        assertEquals(550 * MS, report.replayedNanos());
+    }
+
+    /*
+     * 시나리오: 최대 배속으로 1초 간격 이벤트를 재생한다
+     *
+     * 기대(Then):
+     * - 타이머 대기를 한 번도 하지 않고 모든 이벤트를 내보낸다
+     */
+    @Test
+    @DisplayName("최대 배속: 대기 없이 내보낸다")
+    void run_unpaced_shouldNotWait() {
+        VirtualTimer timer = new VirtualTimer();
+        List<InputEventType> emitted = new ArrayList<>();
+        ReplayEngine engine = new ReplayEngine((type, x, y, code) -> emitted.add(type), Clock.systemUTC(), timer);
+
+        ReplayReport report = engine.runOnCurrentThread(
+                ArraySource.moves(0, 1_000 * MS, 100), new ReplayOptions(ReplayOptions.MAX_SPEED, null,
+                        new ExecutionSchedule.Always()));
+
+        assertEquals(100, emitted.size());
+        assertEquals(0, timer.waits);
+        assertEquals(0, report.expectedNanos());
+    }
+
+    /*
+     * 시나리오: 두 번째 이벤트 출력 중 일시정지하고, 가상 시간 5초 뒤 재개한다
+     *
+     * 기대(Then):
+     * - 세 번째 이벤트는 (두 번째 + 10ms + 멈춘 시간)에 나간다(간격 유지)
+     * - 보고의 실제 길이는 멈춘 시간을 빼서 기대 길이와 같다
+     */
+    @Test
+    @DisplayName("일시정지: 멈춘 시간만큼 타임라인을 밀고 간격을 유지한다")
+    void pause_shouldShiftTimelineByHeldTime() {
+        VirtualTimer timer = new VirtualTimer();
+        List<Long> emittedAt = new ArrayList<>();
+        ReplayEngine[] holder = new ReplayEngine[1];
+        ReplayEngine engine = new ReplayEngine((type, x, y, code) -> {
+            emittedAt.add(timer.now);
+            if (emittedAt.size() == 2) {
+                holder[0].pause();
+                timer.onAdvance = now -> {
+                    if (now >= 5_010 * MS) {
+                        holder[0].resume();
+                    }
+                };
+            }
+        }, Clock.systemUTC(), timer);
+        holder[0] = engine;
+
+        ReplayReport report = engine.runOnCurrentThread(ArraySource.moves(0, 10 * MS, 3), ReplayOptions.realTime());
+
+        assertEquals(3, emittedAt.size());
+        long held = report.heldNanos();
+        assertTrue(held >= 5_000 * MS, "held=" + held);
+        assertEquals(20 * MS + held, emittedAt.get(2));
+        assertEquals(report.expectedNanos(), report.replayedNanos());
+    }
+
+    /*
+     * 시나리오: 허용 시간대(09:00-18:00) 시작 0.5초 전에 재생을 시작한다
+     *
+     * 기대(Then):
+     * - 첫 이벤트는 09:00 이후에 나간다
+     * - 대기 시간은 보고에 held로 잡히고, 이벤트 간격(10ms)은 유지된다
+     */
+    @Test
+    @DisplayName("스케줄: 허용 시간대가 될 때까지 재생을 멈춘다")
+    void run_outsideWindow_shouldHoldUntilAllowed() {
+        VirtualClock clock = new VirtualClock(
+                LocalDateTime.of(2026, 1, 5, 8, 59, 59, 500_000_000).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        VirtualTimer timer = new VirtualTimer();
+        timer.clock = clock;
+        List<LocalTime> emittedAt = new ArrayList<>();
+        List<Long> emittedNanos = new ArrayList<>();
+        ReplayEngine engine = new ReplayEngine((type, x, y, code) -> {
+            emittedAt.add(LocalTime.now(clock));
+            emittedNanos.add(timer.now);
+        }, clock, timer);
+        ExecutionSchedule window = new ExecutionSchedule.Range(
+                new DelayPolicy.LocalTimeRange(LocalTime.of(9, 0), LocalTime.of(18, 0)));
+
+        ReplayReport report = engine.runOnCurrentThread(ArraySource.moves(0, 10 * MS, 2),
+                new ReplayOptions(1.0, null, window));
+
+        assertEquals(2, emittedAt.size());
+        assertFalse(emittedAt.get(0).isBefore(LocalTime.of(9, 0)), emittedAt.toString());
+        assertTrue(report.heldNanos() >= 500 * MS, "held=" + report.heldNanos());
+        assertEquals(10 * MS, emittedNanos.get(1) - emittedNanos.get(0));
+    }
+
+    /*
+     * 시나리오: 서비스로 20ms 간격 10건을 재생하며, 실행 중 재시작/일시정지/재개를 호출한다
+     *
+     * 기대(Then):
+     * - 재생 중 startReplay는 IllegalStateException
+     * - pause/resume은 반복 실행과 같은 상태 전이를 따른다
+     * - 재생이 끝나면 STOPPED로 수렴하고 보고가 남는다
+     */
+    @Test
+    @DisplayName("서비스: 재생도 RUNNING → STOPPED 상태 전이를 따른다")
+    void service_startReplay_shouldFollowStatusTransitions() throws InterruptedException {
+        List<InputEventType> emitted = new ArrayList<>();
+        DefaultMacroService service = new DefaultMacroService(
+                (action, point) -> {
+                }, Clock.systemDefaultZone(), (type, x, y, code) -> emitted.add(type));
+
+        service.startReplay(ArraySource.moves(0, 20 * MS, 10), ReplayOptions.realTime());
+        assertEquals(MacroStatus.RUNNING, service.status());
+        assertThrows(IllegalStateException.class,
+                () -> service.startReplay(ArraySource.moves(0, MS, 1), ReplayOptions.realTime()));
+
+        service.pause();
+        assertEquals(MacroStatus.PAUSED, service.status());
+        service.resume();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.status().isActive() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(MacroStatus.STOPPED, service.status());
+        assertEquals(10, emitted.size());
+        assertTrue(service.lastReplayReport().orElseThrow().completed());
+    }
+
+    /**
+     * 대기 시 마감 시각으로 즉시 이동하는 가상 타이머.
+     */
+    private static final class VirtualTimer implements DeadlineTimer {
+
+        private long now;
+        private int waits;
+        private VirtualClock clock;
+        private LongConsumer onAdvance = n -> {
+        };
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+
+        @Override
+        public void awaitDeadline(long deadlineNanos) {
+            waits++;
+            if (deadlineNanos > now) {
+                if (clock != null) {
+                    clock.advance((deadlineNanos - now) / MS);
+                }
+                now = deadlineNanos;
+            }
+            onAdvance.accept(now);
+        }
+    }
+
+    /**
+     * 시각 배열로 만든 이동 이벤트 원본.
+     */
+    private static final class ArraySource implements ReplaySource {
+
+        private final long[] timestamps;
+        private int index = -1;
+
+        private ArraySource(long[] timestamps) {
+            this.timestamps = timestamps;
+        }
+
+        static ArraySource moves(long start, long interval, int count) {
+            long[] timestamps = new long[count];
+            for (int i = 0; i < count; i++) {
+                timestamps[i] = start + i * interval;
+            }
+            return new ArraySource(timestamps);
+        }
+
+        @Override
+        public boolean next() {
+            return ++index < timestamps.length;
+        }
+
+        @Override
+        public long timestampNanos() {
+            return timestamps[index];
+        }
+
+        @Override
+        public InputEventType type() {
+            return InputEventType.MOUSE_MOVE;
+        }
+
+        @Override
+        public int x() {
+            return index;
+        }
+
+        @Override
+        public int y() {
+            return index;
+        }
+
+        @Override
+        public int code() {
+            return 0;
+        }
+    }
+}
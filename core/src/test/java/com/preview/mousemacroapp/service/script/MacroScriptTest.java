@@ -0,0 +1,273 @@
+package com.preview.mousemacroapp.service.script;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.action.DragAction;
+import com.preview.mousemacroapp.domain.action.KeyAction;
+import com.preview.mousemacroapp.domain.action.MacroAction;
+import com.preview.mousemacroapp.domain.action.MouseButton;
+import com.preview.mousemacroapp.domain.action.ScrollAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.status.MacroStatus;
+import com.preview.mousemacroapp.service.ClickExecutor;
+import com.preview.mousemacroapp.service.DefaultMacroService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 매크로 스크립트 파싱/컴파일/실행 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link MacroScript}, {@link ScriptParser}, {@link ScriptCompiler}
+ * - {@link DefaultMacroService#startScript}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 변수/반복/조건/대기/동작 문장이 의도한 순서와 좌표로 실행되는지 검증한다.
+ * - 연산자 우선순위와 단락 평가(&amp;&amp;, ||)가 Java와 같은지 검증한다.
+ * - 문법 오류가 행/열과 함께 보고되는지 검증한다.
+ * - 동작이 없는 무한 루프도 중단 요청으로 끝나는지 검증한다.
+ * - 실행기가 지원하지 않는 동작(키 입력)이 있는 스크립트는 시작 전에 거부되는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 조합 트리 구성이 어긋나면 인자 순서가 바뀌어 좌표가 뒤바뀌거나, 중단 지점이 빠져 stop이 먹지 않는다.
+ *
+ * @since 0.9
+ */
+class MacroScriptTest {
+
+    /*
+     * 시나리오: 변수로 x를 옮겨 가며 3회 더블 클릭하고, 조건에 따라 오른쪽 클릭/스크롤/키 입력을 한다
+     *
+     * 기대(Then):
+     * - 클릭 좌표 100/140/180, 대기 50ms 3회
+     * - 조건 분기(else if)와 스크롤/키 입력 동작이 순서대로 나간다
+     * - 끝난 뒤 변수 값을 조회할 수 있다
+     */
+    @Test
+    @DisplayName("실행: 변수/반복/조건/대기/동작이 순서대로 실행된다")
+    void run_shouldExecuteStatementsInOrder() {
+        MacroScript script = MacroScript.compile("""
+                # 세 칸 옮겨 가며 더블 클릭
+                let x = 100
+                repeat 3 {
+                    click x, 200 double
+                    wait 50
+                    x = x + 40
+                }
+                if x < 200 { click 1, 1 } else if x == 220 { click 5, 6 right } else { click 2, 2 }
+                scroll 10, 20, -3
+                type "ok"
+                """);
+        RecordingExecutor executor = new RecordingExecutor();
+        List<Long> sleeps = new ArrayList<>();
+
+        ScriptResult result = script.run(executor, new Random(0), ScriptControl.of(sleeps::add));
+
+        assertEquals(List.of(
+                "LEFTx2@100,200", "LEFTx2@140,200", "LEFTx2@180,200", "RIGHTx1@5,6",
+                "scroll(-3)@10,20", "key(2)"), executor.performed);
+        assertEquals(List.of(50L, 50L, 50L), sleeps);
+        assertTrue(result.completed());
+        assertEquals(6, result.actions());
+        assertEquals(220, result.variable("x"));
+        assertEquals(List.of("x"), script.variables());
+    }
+
+    /*
+     * 시나리오: 우선순위/단락 평가/나머지/단항 연산을 섞은 식을 계산한다
+     *
+     * 기대(Then):
+     * - Java와 같은 값
+     * - 0으로 나누는 오른쪽 식은 단락 평가로 계산되지 않는다
+     * - rand(a, b)는 [a, b] 범위
+     */
+    @Test
+    @DisplayName("식: 연산자 우선순위와 단락 평가가 Java와 같다")
+    void expressions_shouldFollowJavaSemantics() {
+        MacroScript script = MacroScript.compile("""
+                let zero = 0
+                let a = 2 + 3 * 4 - 10 / 3 % 2
+                let b = -(a - 20) * 2
+                let c = 1 < 2 && 3 >= 3 || zero
+                let d = zero != 0 && 1 / zero
+                let e = 1 == 1 || 1 / zero
+                let f = !zero + !5
+                let g = 0
+                let r = 0
+                while g < 100 {
+                    r = rand(3, 5)
+                    if r < 3 || r > 5 { g = 1000 } else { g = g + 1 }
+                }
+                """);
+
+        ScriptResult result = script.run(new RecordingExecutor(), new Random(3), ScriptControl.of(millis -> {
+        }));
+
+        assertEquals(2 + 3 * 4 - 10 / 3 % 2, result.variable("a"));
+        assertEquals(-(result.variable("a") - 20) * 2, result.variable("b"));
+        assertEquals(1, result.variable("c"));
+        assertEquals(0, result.variable("d"));
+        assertEquals(1, result.variable("e"));
+        assertEquals(1, result.variable("f"));
+        assertEquals(100, result.variable("g"));
+        assertThrows(ArithmeticException.class, () -> MacroScript.compile("let z = 0 let w = 1 / z")
+                .run(new RecordingExecutor(), new Random(0), ScriptControl.of(millis -> {
+                })));
+    }
+
+    /*
+     * 시나리오: 문법 오류가 있는 스크립트를 컴파일한다
+     *
+     * 기대(Then):
+     * - IllegalArgumentException, 메시지에 행/열과 원인
+     */
+    @Test
+    @DisplayName("오류: 문법 오류를 행/열과 함께 알린다")
+    void compile_shouldReportPosition() {
+        assertEquals("스크립트 2행 9열: ','이(가) 와야 한다",
+                assertThrows(IllegalArgumentException.class,
+                        () -> MacroScript.compile("let x = 1\nclick x 2")).getMessage());
+        assertTrue(assertThrows(IllegalArgumentException.class,
+                () -> MacroScript.compile("x = 1")).getMessage().contains("선언하지 않은 변수다: x"));
+        assertTrue(assertThrows(IllegalArgumentException.class,
+                () -> MacroScript.compile("let x = 1 let x = 2")).getMessage().contains("이미 선언한 변수다"));
+        assertTrue(assertThrows(IllegalArgumentException.class,
+                () -> MacroScript.compile("repeat 3 { wait 1")).getMessage().contains("블록이 닫히지 않았다"));
+        assertTrue(assertThrows(IllegalArgumentException.class,
+                () -> MacroScript.compile("type \"가\"")).getMessage().startsWith("스크립트 1행 6열"));
+        assertTrue(assertThrows(IllegalArgumentException.class,
+                () -> MacroScript.compile("click 1, 2 double hold 100")).getMessage().contains("hold"));
+        assertThrows(IllegalArgumentException.class, () -> MacroScript.compile("wait 1 @"));
+    }
+
+    /*
+     * 시나리오: 동작이 없는 무한 루프를 실행하다가 중단 요청을 받는다
+     *
+     * 기대(Then):
+     * - 중단 지점에서 멈추고 completed=false, 루프 뒤 문장은 실행되지 않는다
+     */
+    @Test
+    @DisplayName("중단: 동작 없는 무한 루프도 중단 지점에서 멈춘다")
+    void run_whenStopRequested_shouldStopEvenInTightLoop() {
+        MacroScript script = MacroScript.compile("""
+                let n = 0
+                while 1 { n = n + 1 }
+                click 1, 1
+                """);
+        int[] checks = {0};
+        ScriptControl stopAfterThousand = new ScriptControl() {
+            @Override
+            public boolean checkpoint() {
+                return ++checks[0] < 1000;
+            }
+
+            @Override
+            public boolean sleep(long millis) {
+                return true;
+            }
+        };
+        RecordingExecutor executor = new RecordingExecutor();
+
+        ScriptResult result = script.run(executor, new Random(0), stopAfterThousand);
+
+        assertFalse(result.completed());
+        assertEquals(999, result.variable("n"));
+        assertTrue(executor.performed.isEmpty());
+    }
+
+    /*
+     * 시나리오: 서비스로 스크립트(20ms 대기 사이 클릭 5회)를 실행하며, 실행 중 재시작을 호출한다
+     *
+     * 기대(Then):
+     * - 실행 중 startScript는 IllegalStateException
+     * - 스크립트 끝에서 STOPPED로 수렴하고 5회 클릭된다
+     */
+    @Test
+    @DisplayName("서비스: 스크립트도 RUNNING → STOPPED 상태 전이를 따른다")
+    void service_startScript_shouldFollowStatusTransitions() throws InterruptedException {
+        List<ScreenPoint> performed = new CopyOnWriteArrayList<>();
+        DefaultMacroService service = new DefaultMacroService((action, point) -> performed.add(point));
+        MacroScript script = MacroScript.compile("let i = 0 repeat 5 { click i, i wait 20 i = i + 1 }");
+
+        service.startScript(script, new Random(0));
+        assertEquals(MacroStatus.RUNNING, service.status());
+        assertThrows(IllegalStateException.class, () -> service.startScript(script, new Random(0)));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.status().isActive() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(MacroStatus.STOPPED, service.status());
+        assertEquals(List.of(new ScreenPoint(0, 0), new ScreenPoint(1, 1), new ScreenPoint(2, 2),
+                new ScreenPoint(3, 3), new ScreenPoint(4, 4)), performed);
+    }
+
+    /*
+     * 시나리오: 클릭만 지원하는 실행기로, 마지막에 키 입력이 있는 스크립트를 서비스로 시작한다
+     *
+     * 기대(Then):
+     * - actions()는 스크립트에 쓰인 동작을 처음 나온 순서로 1번씩 돌려준다
+     * - startScript가 IllegalArgumentException으로 거부하고, 상태는 STOPPED, 클릭은 한 번도 나가지 않는다
+     */
+    @Test
+    @DisplayName("서비스: 실행기가 지원하지 않는 키 입력은 시작 전에 거부한다")
+    void service_startScript_withUnsupportedKey_shouldRejectBeforeRunning() {
+        List<ScreenPoint> performed = new CopyOnWriteArrayList<>();
+        DefaultMacroService service = new DefaultMacroService((action, point) -> performed.add(point));
+        MacroScript script = MacroScript.compile("""
+                repeat 3 { click 1, 1 }
+                if 1 { click 2, 2 } else { type "x" }
+                """);
+
+        assertEquals(2, script.actions().size());
+        assertInstanceOf(ClickAction.class, script.actions().get(0));
+        assertInstanceOf(KeyAction.class, script.actions().get(1));
+
+        IllegalArgumentException ex =
+                assertThrows(IllegalArgumentException.class, () -> service.startScript(script, new Random(0)));
+        assertTrue(ex.getMessage().contains("KeyAction"), ex.getMessage());
+        assertEquals(MacroStatus.STOPPED, service.status());
+        assertTrue(performed.isEmpty());
+    }
+
+    /**
+     * 동작을 문자열로 기록하는 실행기.
+     */
+    private static final class RecordingExecutor implements ClickExecutor {
+
+        private final List<String> performed = new ArrayList<>();
+
+        @Override
+        public void execute(ClickAction action, ScreenPoint point) {
+            performed.add(action.button() + "x" + action.clickCount() + "@" + point.x() + "," + point.y());
+        }
+
+        @Override
+        public void scroll(ScrollAction action, ScreenPoint at) {
+            performed.add("scroll(" + action.notches() + ")@" + at.x() + "," + at.y());
+        }
+
+        @Override
+        public void key(KeyAction action) {
+            performed.add("key(" + action.strokes().strokeCount() + ")");
+        }
+
+        @Override
+        public boolean supports(MacroAction action) {
+            return !(action instanceof DragAction);
+        }
+
+        @Override
+        public void perform(MacroAction action, int x, int y) {
+            ClickExecutor.super.perform(action, x, y);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.preview.mousemacroapp.service.script;
+
+import com.preview.mousemacroapp.domain.action.ClickAction;
+import com.preview.mousemacroapp.domain.point.ScreenPoint;
+import com.preview.mousemacroapp.domain.status.MacroStatus;
+import com.preview.mousemacroapp.service.ClickExecutor;
+import com.preview.mousemacroapp.service.DefaultMacroService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 스크립트 병렬 분기 계약 테스트.
+ *
+ * <p><b>테스트 대상</b></p>
+ * - {@link ScriptParser}/{@link ScriptCompiler}의 {@code parallel}/{@code race}
+ * - {@link BranchScope}, {@link com.preview.mousemacroapp.service.SerializedClickExecutor}
+ *
+ * <p><b>검증 목적</b></p>
+ * - 분기 동작이 한 번에 하나씩 실행기에 들어가는지(겹치지 않음) 검증한다.
+ * - parallel은 모든 분기를, race는 첫 분기를 기다린 뒤 다음 문장으로 넘어가는지 검증한다.
+ * - 한 분기의 예외가 나머지 분기를 취소하고 호출자에게 전달되는지 검증한다.
+ * - 세션 stop이 모든 분기를 멈추는지 검증한다.
+ *
+ * <p><b>회귀 방지 이유</b></p>
+ * - 분기가 범위를 벗어나 살아남으면 stop 뒤에도 클릭이 계속되고, 동작이 겹치면 이동/누름 사이에 다른 분기 이동이 끼어든다.
+ *
+ * @since 0.9
+ */
+class ParallelBranchesTest {
+
+    /*
+     * 시나리오: 두 분기가 각자 20회 클릭하고(실행기 안에서 1ms 머묾), 끝난 뒤 한 번 더 클릭한다
+     *
+     * 기대(Then):
+     * - 실행기에 동시에 들어간 동작은 최대 1건
+     * - 동작 수 41, 마지막 동작은 parallel 뒤 클릭
+     * - 분기 안 변수 변경은 부모에 돌아오지 않는다
+     */
+    @Test
+    @DisplayName("parallel: 분기 동작을 하나씩 내보내고 모든 분기를 기다린다")
+    void parallel_shouldSerializeDispatchAndJoinAllBranches() {
+        MacroScript script = MacroScript.compile("""
+                let x = 1
+                parallel {
+                    branch { repeat 20 { click 10, 10  wait 1 } x = 99 }
+                    branch { repeat 20 { click 20, 20 } }
+                }
+                click 30, 30
+                """);
+        TrackingExecutor executor = new TrackingExecutor(1, null);
+
+        ScriptResult result = script.run(executor, new Random(0), ScriptControl.of(Thread::sleep));
+
+        assertTrue(script.hasParallelBranches());
+        assertTrue(result.completed());
+        assertEquals(1, executor.maxInFlight.get());
+        assertEquals(41, result.actions());
+        assertEquals(41, executor.performed.size());
+        assertEquals(new ScreenPoint(30, 30), executor.performed.get(40));
+        assertEquals(1, result.variable("x"));
+    }
+
+    /*
+     * 시나리오: 한 분기는 무한히 클릭하고, 다른 분기는 30ms 뒤 실패하는 좌표(2,2)를 클릭한다
+     *
+     * 기대(Then):
+     * - 실행기 예외가 run 호출자에게 그대로 전달된다
+     * - run이 돌아온 뒤에는 더 이상 클릭이 없다(형제 분기 취소)
+     */
+    @Test
+    @DisplayName("실패: 한 분기의 예외가 형제 분기를 취소하고 전달된다")
+    void parallel_whenBranchFails_shouldCancelSiblings() throws InterruptedException {
+        MacroScript script = MacroScript.compile("""
+                parallel {
+                    branch { while 1 { click 1, 1  wait 5 } }
+                    branch { wait 30  click 2, 2 }
+                }
+                click 3, 3
+                """);
+        TrackingExecutor executor = new TrackingExecutor(0, new ScreenPoint(2, 2));
+
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> script.run(executor, new Random(0), ScriptControl.of(Thread::sleep)));
+
+        assertEquals("fail@2,2", thrown.getMessage());
+        assertQuiet(executor);
+        assertFalse(executor.performed.contains(new ScreenPoint(3, 3)));
+    }
+
+    /*
+     * 시나리오: race에서 감시 분기(50ms 대기)가 먼저 끝나고, 다른 분기는 무한히 클릭한다
+     *
+     * 기대(Then):
+     * - race 뒤 클릭(9,9)이 실행되고 스크립트가 정상 종료된다
+     * - 이후 더 이상 클릭이 없다
+     */
+    @Test
+    @DisplayName("race: 첫 분기가 끝나면 나머지를 취소하고 다음 문장으로 간다")
+    void race_shouldCancelRemainingBranchesAfterFirstCompletes() throws InterruptedException {
+        MacroScript script = MacroScript.compile("""
+                race {
+                    branch { while 1 { click 1, 1  wait 5 } }
+                    branch { wait 50 }
+                }
+                click 9, 9
+                """);
+        TrackingExecutor executor = new TrackingExecutor(0, null);
+
+        ScriptResult result = script.run(executor, new Random(0), ScriptControl.of(Thread::sleep));
+
+        assertTrue(result.completed());
+        assertEquals(new ScreenPoint(9, 9), executor.performed.get(executor.performed.size() - 1));
+        assertTrue(executor.performed.size() > 2, "performed=" + executor.performed.size());
+        assertQuiet(executor);
+    }
+
+    /*
+     * 시나리오: 서비스로 끝나지 않는 두 분기를 실행하다가 stop한다
+     *
+     * 기대(Then):
+     * - STOPPED로 수렴하고, 이후 어떤 분기도 클릭하지 않는다
+     */
+    @Test
+    @DisplayName("서비스: stop이 모든 분기를 멈춘다")
+    void service_stop_shouldCancelAllBranches() throws InterruptedException {
+        TrackingExecutor executor = new TrackingExecutor(0, null);
+        DefaultMacroService service = new DefaultMacroService(executor);
+        MacroScript script = MacroScript.compile("""
+                parallel {
+                    branch { while 1 { click 1, 1  wait 5 } }
+                    branch { while 1 { click 2, 2  wait 7 } }
+                }
+                """);
+
+        service.startScript(script, new Random(0));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.performed.size() < 10 && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        service.stop();
+        while (service.status().isActive() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertEquals(MacroStatus.STOPPED, service.status());
+        assertTrue(executor.performed.contains(new ScreenPoint(1, 1)));
+        assertTrue(executor.performed.contains(new ScreenPoint(2, 2)));
+        assertQuiet(executor);
+    }
+
+    /*
+     * 시나리오: branch 없는 parallel, 빈 race, 블록 밖 branch
+     *
+     * 기대(Then):
+     * - 모두 행/열을 담은 IllegalArgumentException
+     */
+    @Test
+    @DisplayName("문법: branch는 parallel/race 안에 하나 이상 있어야 한다")
+    void compile_withMisplacedBranch_shouldReportPosition() {
+        IllegalArgumentException notBranch = assertThrows(IllegalArgumentException.class,
+                () -> MacroScript.compile("parallel {\n  click 1, 1\n}"));
+        assertEquals("스크립트 2행 3열: branch 블록이 와야 한다", notBranch.getMessage());
+
+        IllegalArgumentException empty = assertThrows(IllegalArgumentException.class,
+                () -> MacroScript.compile("race { }"));
+        assertEquals("스크립트 1행 6열: 분기가 하나 이상 있어야 한다", empty.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> MacroScript.compile("branch { click 1, 1 }"));
+        assertFalse(MacroScript.compile("click 1, 1").hasParallelBranches());
+    }
+
+    /**
+     * 잠시 기다린 뒤 클릭 수가 더 늘지 않는지 확인한다(살아남은 분기가 없음).
+     */
+    private static void assertQuiet(TrackingExecutor executor) throws InterruptedException {
+        int settled = executor.performed.size();
+        Thread.sleep(60);
+        assertEquals(settled, executor.performed.size());
+    }
+
+    /**
+     * 동시에 들어온 동작 수를 추적하고, 지정 좌표 클릭에서 실패하는 실행기.
+     */
+    private static final class TrackingExecutor implements ClickExecutor {
+
+        private final long dwellMillis;
+        private final ScreenPoint failAt;
+        private final List<ScreenPoint> performed = new CopyOnWriteArrayList<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+
+        private TrackingExecutor(long dwellMillis, ScreenPoint failAt) {
+            this.dwellMillis = dwellMillis;
+            this.failAt = failAt;
+        }
+
+        @Override
+        public void execute(ClickAction action, ScreenPoint point) {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                if (point.equals(failAt)) {
+                    throw new IllegalStateException("fail@" + point.x() + "," + point.y());
+                }
+                if (dwellMillis > 0) {
+                    Thread.sleep(dwellMillis);
+                }
+                performed.add(point);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -1 +1,5 @@
-rootProject.name = "mousemacroapp"
\ No newline at end of file
+rootProject.name = "mousemacroapp"
+
+// core: 도메인/서비스/인프라/헤드리스 실행(JavaFX 비의존)
+// 루트: JavaFX UI 애플리케이션(core에 의존)
+include("core")
@@ -2,22 +2,30 @@ package com.preview.mousemacroapp;
 
 import com.preview.mousemacroapp.debug.DebugLog;
 import com.preview.mousemacroapp.debug.DebugMode;
-import com.preview.mousemacroapp.infra.hook.AwtRobotMouse;
-import com.preview.mousemacroapp.infra.hook.DryRunClickExecutor;
+import com.preview.mousemacroapp.infra.hook.GlobalHotkeyHook;
 import com.preview.mousemacroapp.infra.hook.GlobalKeyHook;
 import com.preview.mousemacroapp.infra.hook.JNativeHookFacade;
 import com.preview.mousemacroapp.infra.hook.JNativeHookMouseClickCaptor;
-import com.preview.mousemacroapp.infra.hook.RobotClickExecutor;
-import com.preview.mousemacroapp.service.ClickExecutor;
+import com.preview.mousemacroapp.infra.hook.NativeHookBootstrap;
+import com.preview.mousemacroapp.infra.profile.FileProfileStore;
+import com.preview.mousemacroapp.infra.record.RecordingSession;
+import com.preview.mousemacroapp.launch.ClickExecutorAssembler;
+import com.preview.mousemacroapp.launch.ClickExecutorAssembly;
+import com.preview.mousemacroapp.launch.HotkeyOptions;
+import com.preview.mousemacroapp.launch.LaunchOptions;
 import com.preview.mousemacroapp.service.DefaultMacroService;
 import com.preview.mousemacroapp.service.MacroService;
 import com.preview.mousemacroapp.service.MouseClickCaptor;
+import com.preview.mousemacroapp.service.ProfileCatalog;
 import com.preview.mousemacroapp.ui.MainWindow;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Clock;
+import java.util.Optional;
 
 /**
  * 애플리케이션 진입점.
@@ -31,32 +39,53 @@ import java.time.Clock;
  */
 public class Main extends Application {
 
-    /**
-     * 역할: 개발 초기에는 실제 마우스 제어를 막기 위해 Dry-Run을 기본값으로 둔다.
-     * 필요 시 false로 바꾸면 AWT Robot 기반 실행으로 전환된다.
-     */
-    private static final boolean DRY_RUN = true;
-
     @Override
     public void start(Stage primaryStage) {
         // 역할: 실행 인자 기반으로 디버그 모드를 초기화한다.
-        DebugMode.initialize(getParameters().getRaw().toArray(new String[0]));
+        String[] args = getParameters().getRaw().toArray(new String[0]);
+        DebugMode.initialize(args);
         DebugLog.log(() -> "mode=ON args=" + getParameters().getRaw());
 
-        ClickExecutor clickExecutor = buildClickExecutor();
-        MacroService macroService = new DefaultMacroService(clickExecutor);
+        // 역할: 실행기 선택(dry-run/robot)과 파이프라인 단계는 실행 인자로 결정한다.
+        // - 개발 초기에는 실제 마우스 제어를 막기 위해 Dry-Run이 기본값이다(--executor=robot으로 전환).
+        LaunchOptions options = LaunchOptions.parse(args);
 
         // 역할: 전역 훅 파사드는 하나를 공유하여 등록/해제 및 리스너 관리 책임을 집중한다.
-        JNativeHookFacade hookFacade = new JNativeHookFacade.Default();
+        // - 네이티브 라이브러리 로드/등록은 장면 구성과 병렬로 백그라운드에서 미리 수행한다.
+        // - 첫 "좌표 캡처"는 준비 완료 Future에 이어서 동작하므로 UI 스레드가 로드 비용을 기다리지 않는다.
+        // - 리스너 호출 방식(--hook-dispatch)은 다중화기가 처리하며, 훅 스레드는 리스너를 기다리지 않는다.
+        JNativeHookFacade hookFacade = new JNativeHookFacade.Default(options.hookDispatch());
+        NativeHookBootstrap hookBootstrap = NativeHookBootstrap.startInBackground(hookFacade);
+
+        ClickExecutorAssembly assembly = ClickExecutorAssembler.assemble(options, Clock.systemDefaultZone());
+        MacroService macroService = new DefaultMacroService(assembly.executor());
 
-        // 역할: 디버그 모드에서만 전역 키 입력 로거를 활성화한다.
+        // 역할: 디버그 모드에서만 전역 키 입력 로거를 활성화한다(훅 준비 완료 후, 초기화 스레드에서).
         GlobalKeyHook globalKeyHook = new GlobalKeyHook(hookFacade);
-        globalKeyHook.startIfDebugEnabled();
+        hookBootstrap.ready().thenRun(globalKeyHook::startIfDebugEnabled);
 
-        // 역할: “전역 클릭 1회 캡처” 어댑터를 UI에 주입한다.
-        MouseClickCaptor clickCaptor = new JNativeHookMouseClickCaptor(hookFacade);
+        // 역할: --record 지정 시 전역 입력(이동/버튼/휠/키)을 파일로 기록한다(훅 준비 완료 후 시작).
+        Optional<RecordingSession> recording = openRecording(hookFacade, options);
+        recording.ifPresent(r -> hookBootstrap.ready().thenRun(r::start));
 
-        MainWindow mainWindow = new MainWindow(macroService, clickCaptor);
+        // 역할: “전역 클릭 1회 캡처” 어댑터를 UI에 주입한다.
+        MouseClickCaptor clickCaptor = new JNativeHookMouseClickCaptor(hookFacade, hookBootstrap.ready());
+
+        // 역할: 마지막 사용 설정은 사용자 홈의 프로파일 파일에 저장하고 다음 실행 때 되살린다.
+        // - 적재/저장한 목록은 메모리 검색 색인에도 반영되어 창의 프로파일 검색에 쓰인다.
+        ProfileCatalog profileStore = new ProfileCatalog(new FileProfileStore(
+                Path.of(System.getProperty("user.home"), ".mousemacroapp", "profiles.mmpf")));
+
+        MainWindow mainWindow = new MainWindow(macroService, clickCaptor, profileStore);
+
+        // 역할: 전역 단축키(시작/일시정지/정지)를 메인 창 버튼 동작으로 연결한다.
+        // - 판단은 훅 스레드에서, 버튼 동작은 UI 스레드(Platform::runLater)에서 수행한다.
+        HotkeyOptions hotkeyOptions = HotkeyOptions.parse(args);
+        GlobalHotkeyHook hotkeyHook = new GlobalHotkeyHook(
+                hookFacade, hotkeyOptions.compile(), Platform::runLater, mainWindow::onHotkey);
+        if (hotkeyOptions.enabled()) {
+            hookBootstrap.ready().thenRun(hotkeyHook::start);
+        }
 
         primaryStage.setTitle("Mouse Macro App");
         primaryStage.setScene(mainWindow.scene());
@@ -73,8 +102,29 @@ public class Main extends Application {
                 // 역할: 종료 시점 stop 실패로 앱 종료가 막히지 않도록 방어한다.
             }
 
+            assembly.metrics().ifPresent(m -> DebugLog.log("PIPELINE", () -> "metrics " + m));
+
             try {
+                assembly.close();
+            } catch (Exception ex) {
+                // 역할: Dry-Run 파일 flush 실패로 앱 종료가 막히지 않도록 방어한다.
+                DebugLog.log("PIPELINE", () -> "close failed: " + ex.getMessage());
+            }
+
+            recording.ifPresent(r -> {
+                try {
+                    r.close();
+                } catch (IOException ex) {
+                    // 역할: 기록 파일 정리 실패로 앱 종료가 막히지 않도록 방어한다.
+                    DebugLog.log("RECORD", () -> "close failed: " + ex.getMessage());
+                }
+            });
+
+            try {
+                hotkeyHook.stop();
+                DebugLog.log("HOTKEY", () -> "latency " + hotkeyHook.latency());
                 globalKeyHook.stopIfStarted();
+                hookBootstrap.close();
             } catch (RuntimeException ignored) {
                 // 역할: 디버그 훅 정리 실패로 앱 종료가 막히지 않도록 방어한다.
             }
@@ -84,12 +134,17 @@ public class Main extends Application {
         });
     }
 
-    private ClickExecutor buildClickExecutor() {
-        if (DRY_RUN) {
-            return new DryRunClickExecutor(Clock.systemDefaultZone());
+    private static Optional<RecordingSession> openRecording(JNativeHookFacade facade, LaunchOptions options) {
+        if (options.recordOut().isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(RecordingSession.open(facade, options.recordOut().get(), options.recordSimplifyPixels()));
+        } catch (IOException ex) {
+            // 역할: 기록 파일을 열 수 없어도 앱 기능은 그대로 사용할 수 있게 한다.
+            DebugLog.log("RECORD", () -> "open failed: " + ex.getMessage());
+            return Optional.empty();
         }
-        AwtRobotMouse robotMouse = new AwtRobotMouse();
-        return new RobotClickExecutor(robotMouse);
     }
 
     public static void main(String[] args) {
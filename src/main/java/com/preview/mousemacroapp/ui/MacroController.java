@@ -10,16 +10,25 @@ import com.preview.mousemacroapp.domain.schedule.ExecutionSchedule;
 import com.preview.mousemacroapp.domain.status.MacroStatus;
 import com.preview.mousemacroapp.domain.timing.DelayPolicy;
 import com.preview.mousemacroapp.service.CaptureResult;
+import com.preview.mousemacroapp.service.ClickTimeline;
+import com.preview.mousemacroapp.service.MacroProfile;
+import com.preview.mousemacroapp.service.MacroProfiles;
 import com.preview.mousemacroapp.service.MacroRequest;
 import com.preview.mousemacroapp.service.MacroService;
 import com.preview.mousemacroapp.service.MouseClickCaptor;
+import com.preview.mousemacroapp.service.ProfileCatalog;
 import javafx.application.Platform;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.time.ZoneId;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * UI 이벤트를 Service 호출로 변환하는 컨트롤러.
@@ -32,12 +41,31 @@ import java.util.Random;
  *   <li>상태 표시/버튼 활성화 등 화면 갱신 규칙을 일원화한다.</li>
  *   <li>좌표 캡처 결과를 UI에 반영하고, Start 요청에 사용한다.</li>
  *   <li>반복 횟수 입력을 파싱하여 실행 요청에 반영한다(0=무한).</li>
+ *   <li>현재 입력으로 24시간 실행을 가상 시간으로 미리 계산해 요약을 보여준다.</li>
+ *   <li>시작한 설정을 마지막 사용 프로파일로 저장하고, 다음 실행 때 입력 필드에 되살린다(저장소가 있을 때).</li>
+ *   <li>프로파일 이름 검색 결과를 목록에 보여주고, 고른 프로파일을 입력 필드에 반영한다.</li>
  * </ul>
  */
 public final class MacroController {
 
+    private static final Duration PREVIEW_HORIZON = Duration.ofHours(24);
+
+    /**
+     * Start 시 저장하는 마지막 사용 프로파일 이름.
+     */
+    static final String LAST_USED_PROFILE = "최근 설정";
+
+    /**
+     * 검색 결과 목록에 보여주는 최대 프로파일 수.
+     */
+    private static final int SEARCH_LIMIT = 50;
+
     private final MacroService macroService;
     private final MouseClickCaptor clickCaptor;
+    private final ProfileCatalog profileStore;
+
+    // 역할: 저장/적재를 순서대로 수행하기 위한 작업 사슬(UI 스레드에서만 이어 붙인다).
+    private CompletableFuture<Void> profileWork = CompletableFuture.completedFuture(null);
 
     // Delay UI 필드(연결되지 않으면 null)
     private volatile TextField baseIntervalMillisField;
@@ -49,9 +77,25 @@ public final class MacroController {
      */
     private volatile ScreenPoint selectedPoint;
 
+    /**
+     * 되살린 프로파일(없으면 null). UI에 입력 필드가 없는 값(동작/좌표 정책/스케줄/포인트 이름)은 이 값을 따른다.
+     */
+    private volatile MacroProfile restoredProfile;
+
     public MacroController(MacroService macroService, MouseClickCaptor clickCaptor) {
+        this(macroService, clickCaptor, null);
+    }
+
+    /**
+     * @param macroService 매크로 서비스
+     * @param clickCaptor  좌표 캡처 포트
+     * @param profileStore 검색 색인을 붙인 프로파일 저장소(null이면 저장/복원/검색하지 않는다)
+     * @since 0.9
+     */
+    public MacroController(MacroService macroService, MouseClickCaptor clickCaptor, ProfileCatalog profileStore) {
         this.macroService = macroService;
         this.clickCaptor = clickCaptor;
+        this.profileStore = profileStore;
     }
 
     public void start(Label statusLabel,
@@ -82,6 +126,7 @@ public final class MacroController {
 
             macroService.start(request);
             refresh(statusLabel, messageLabel, pauseResumeButton);
+            saveLastUsed(MacroProfile.of(LAST_USED_PROFILE, request), messageLabel);
 
             publishMessage(messageLabel, "시작 요청이 처리되었다.");
         } catch (RuntimeException ex) {
@@ -128,6 +173,40 @@ public final class MacroController {
         }
     }
 
+    /**
+     * 현재 입력으로 24시간 실행을 미리 계산하여 요약을 표시한다.
+     *
+     * <p>역할:</p>
+     * <ul>
+     *   <li>실제 클릭/상태 전이 없이 가상 시간으로 계산한다.</li>
+     *   <li>계산은 백그라운드에서 수행하고, 결과만 UI 스레드에 반영한다.</li>
+     * </ul>
+     */
+    public void preview(Label messageLabel, TextField repeatCountField) {
+        DebugLog.log("UI_BTN", () -> "click Preview");
+
+        int repeatCount = parseRepeatCount(repeatCountField, messageLabel);
+        if (repeatCount < 0) {
+            return;
+        }
+        DelayPolicy delayPolicy = resolveDelayPolicyFromUi(messageLabel);
+        if (delayPolicy == null) {
+            return;
+        }
+
+        MacroRequest request = defaultRequest(repeatCount, delayPolicy);
+        publishMessage(messageLabel, "미리보기 계산 중...");
+
+        CompletableFuture.supplyAsync(() -> macroService.preview(request, PREVIEW_HORIZON))
+                .whenComplete((timeline, ex) -> Platform.runLater(() -> {
+                    if (ex != null) {
+                        publishMessage(messageLabel, "미리보기 실패: " + ex.getMessage());
+                    } else {
+                        publishMessage(messageLabel, summarize(timeline));
+                    }
+                }));
+    }
+
     /**
      * 좌표 캡처를 시작한다.
      *
@@ -154,6 +233,64 @@ public final class MacroController {
         publishMessage(messageLabel, "좌표 캡처 취소 요청이 처리되었다.");
     }
 
+    /**
+     * 마지막 사용 프로파일을 읽어 입력 필드에 되살린다.
+     *
+     * <p>역할:</p>
+     * <ul>
+     *   <li>적재는 백그라운드에서 수행하고, 좌표/반복 횟수/딜레이 필드 반영만 UI 스레드에서 한다.</li>
+     *   <li>저장소가 없거나 저장된 프로파일이 없으면 기본값을 그대로 둔다.</li>
+     *   <li>적재가 끝나면(검색 색인 준비 완료) onLoaded를 UI 스레드에서 실행한다.</li>
+     * </ul>
+     *
+     * @since 0.9
+     */
+    public void restoreLastUsed(Label messageLabel, Label pointLabel, TextField repeatCountField, Runnable onLoaded) {
+        if (profileStore == null) {
+            return;
+        }
+        profileWork = profileWork.thenApplyAsync(ignored -> loadProfiles())
+                .thenAccept(profiles -> Platform.runLater(() -> {
+                    profiles.lastUsed().ifPresent(profile -> applyProfile(profile, pointLabel, repeatCountField));
+                    onLoaded.run();
+                }))
+                .exceptionally(ex -> {
+                    Platform.runLater(() -> publishMessage(messageLabel, "설정 불러오기 실패: " + ex.getMessage()));
+                    return null;
+                });
+    }
+
+    /**
+     * 프로파일 이름을 검색하여 결과 이름을 목록에 보여준다(입력할 때마다 호출, UI 스레드).
+     *
+     * <p>검색은 메모리 색인만 보므로 UI 스레드에서 바로 수행한다.</p>
+     *
+     * @since 0.9
+     */
+    public void searchProfiles(String query, ListView<String> resultList) {
+        if (profileStore == null) {
+            return;
+        }
+        resultList.getItems().setAll(profileStore.search(query == null ? "" : query, SEARCH_LIMIT).stream()
+                .map(MacroProfile::name)
+                .toList());
+    }
+
+    /**
+     * 검색 목록에서 고른 프로파일을 입력 필드에 반영한다(다음 Start에 사용).
+     *
+     * @since 0.9
+     */
+    public void selectProfile(String name, Label messageLabel, Label pointLabel, TextField repeatCountField) {
+        if (profileStore == null || name == null) {
+            return;
+        }
+        profileStore.current().find(name).ifPresent(profile -> {
+            applyProfile(profile, pointLabel, repeatCountField);
+            publishMessage(messageLabel, "프로파일을 불러왔다: " + name);
+        });
+    }
+
     public void refresh(Label statusLabel, Label messageLabel, Button pauseResumeButton) {
         MacroStatus status = macroService.status();
         statusLabel.setText(String.valueOf(status));
@@ -184,6 +321,75 @@ public final class MacroController {
         }
     }
 
+    private void applyProfile(MacroProfile profile, Label pointLabel, TextField repeatCountField) {
+        ScreenPoint point = profile.macroPoint().base();
+        restoredProfile = profile;
+        selectedPoint = point;
+        pointLabel.setText("좌표: (" + point.x() + ", " + point.y() + ")");
+        repeatCountField.setText(String.valueOf(profile.repeatCount()));
+
+        DelayPolicy delay = profile.delayPolicy();
+        setIfAttached(baseIntervalMillisField, delay.baseIntervalMillis());
+        setIfAttached(minRandomMillisField, delay.minRandomMillis());
+        setIfAttached(maxRandomMillisField, delay.maxRandomMillis());
+        DebugLog.log("PROFILE", () -> "restored " + profile.name());
+    }
+
+    private static void setIfAttached(TextField field, long value) {
+        if (field != null) {
+            field.setText(String.valueOf(value));
+        }
+    }
+
+    /**
+     * 프로파일을 마지막 사용 프로파일로 저장한다(백그라운드, 앞선 저장/적재 뒤에 순서대로).
+     *
+     * <p>정책:</p>
+     * <ul>
+     *   <li>저장 실패는 실행을 막지 않는다. 실패 내용은 메시지로 알린다.</li>
+     *   <li>저장된 파일이 손상되었으면 백업(.bak)해 두고 이 프로파일만으로 새로 저장한 뒤 알린다.</li>
+     * </ul>
+     */
+    private void saveLastUsed(MacroProfile profile, Label messageLabel) {
+        if (profileStore == null) {
+            return;
+        }
+        restoredProfile = profile;
+        profileWork = profileWork.exceptionally(ex -> null)
+                .thenRunAsync(() -> {
+                    try {
+                        if (profileStore.saveLastUsed(profile)) {
+                            Platform.runLater(() -> publishMessage(messageLabel,
+                                    "설정 파일이 손상되어 백업(.bak)하고 최근 설정만 새로 저장했다."));
+                        }
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                })
+                .exceptionally(ex -> {
+                    Platform.runLater(() -> publishMessage(messageLabel, "설정 저장 실패: " + ex.getMessage()));
+                    return null;
+                });
+    }
+
+    private MacroProfiles loadProfiles() {
+        try {
+            return profileStore.load();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private String summarize(ClickTimeline timeline) {
+        if (timeline.isEmpty()) {
+            return "24시간 미리보기: 클릭 없음";
+        }
+        ZoneId zone = ZoneId.systemDefault();
+        return "24시간 미리보기: 클릭 " + timeline.size() + "회 (첫 "
+                + timeline.localTimeAt(0, zone).withNano(0) + ", 마지막 "
+                + timeline.localTimeAt(timeline.size() - 1, zone).withNano(0) + ")";
+    }
+
     private void publishMessage(Label messageLabel, String message) {
         messageLabel.setText(message);
         DebugLog.log("UI_MSG", () -> message);
@@ -242,13 +448,17 @@ public final class MacroController {
 
 
     // delayPolicy를 외부에서 주입받도록 변경
+    // 역할: 입력 필드가 없는 값은 되살린 프로파일을, 없으면 기본값을 사용한다.
     private MacroRequest defaultRequest(int repeatCount, DelayPolicy delayPolicy) {
+        MacroProfile profile = restoredProfile;
         ScreenPoint point = (selectedPoint != null) ? selectedPoint : new ScreenPoint(300, 300);
-        MacroPoint macroPoint = new MacroPoint("default", point, new ExactPositionPolicy());
+        MacroPoint macroPoint = (profile != null)
+                ? new MacroPoint(profile.macroPoint().name(), point, profile.macroPoint().positionPolicy())
+                : new MacroPoint("default", point, new ExactPositionPolicy());
 
-        ClickAction action = ClickAction.singleLeft();
+        ClickAction action = (profile != null) ? profile.clickAction() : ClickAction.singleLeft();
         ClickPositionPolicy positionPolicy = macroPoint.positionPolicy();
-        ExecutionSchedule schedule = new ExecutionSchedule.Always();
+        ExecutionSchedule schedule = (profile != null) ? profile.schedule() : new ExecutionSchedule.Always();
 
         return new MacroRequest(
                 macroPoint,
@@ -1,18 +1,23 @@
 package com.preview.mousemacroapp.ui;
 
+import com.preview.mousemacroapp.domain.hotkey.HotkeyAction;
 import com.preview.mousemacroapp.service.MacroService;
 import com.preview.mousemacroapp.service.MouseClickCaptor;
+import com.preview.mousemacroapp.service.ProfileCatalog;
 import javafx.geometry.Insets;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 
+import java.util.Objects;
+
 /**
  * UI 최상위 화면 구성 요소.
  *
@@ -29,8 +34,12 @@ public final class MainWindow {
 
     private final Scene scene;
 
-    public MainWindow(MacroService macroService, MouseClickCaptor clickCaptor) {
-        MacroController controller = new MacroController(macroService, clickCaptor);
+    private final Button startButton;
+    private final Button pauseResumeButton;
+    private final Button stopButton;
+
+    public MainWindow(MacroService macroService, MouseClickCaptor clickCaptor, ProfileCatalog profileStore) {
+        MacroController controller = new MacroController(macroService, clickCaptor, profileStore);
 
         Label statusLabel = new Label();
         Label messageLabel = new Label();
@@ -69,6 +78,10 @@ public final class MainWindow {
         Button startButton = new Button("Start");
         Button pauseResumeButton = new Button("Pause");
         Button stopButton = new Button("Stop");
+        this.startButton = startButton;
+        this.pauseResumeButton = pauseResumeButton;
+        this.stopButton = stopButton;
+        Button previewButton = new Button("미리보기(24h)");
 
         /*
          * 역할: UI 이벤트를 Controller에 위임한다.
@@ -80,14 +93,29 @@ public final class MainWindow {
         startButton.setOnAction(e -> controller.start(statusLabel, messageLabel, pauseResumeButton, pointLabel, repeatCountField));
         pauseResumeButton.setOnAction(e -> controller.togglePauseResume(statusLabel, messageLabel, pauseResumeButton));
         stopButton.setOnAction(e -> controller.stop(statusLabel, messageLabel, pauseResumeButton));
+        previewButton.setOnAction(e -> controller.preview(messageLabel, repeatCountField));
 
-        HBox buttons = new HBox(8, captureButton, startButton, pauseResumeButton, stopButton);
+        HBox buttons = new HBox(8, captureButton, startButton, pauseResumeButton, stopButton, previewButton);
 
         HBox repeatRow = new HBox(8, new Label("반복(0=무한):"), repeatCountField);
 
-        Parent root = buildRoot(statusLabel, messageLabel, pointLabel, delayRow, repeatRow, buttons);
+        /*
+         * 역할: 프로파일 검색(입력하는 대로 찾기)과 결과 목록.
+         * - 입력이 바뀔 때마다 메모리 색인을 검색하고, 목록에서 고르면 그 프로파일을 입력 필드에 반영한다.
+         */
+        TextField searchField = new TextField();
+        searchField.setPrefColumnCount(20);
+        searchField.setPromptText("프로파일 이름/포인트 이름 검색");
+        ListView<String> profileList = new ListView<>();
+        profileList.setPrefHeight(96);
+        searchField.textProperty().addListener((obs, before, after) -> controller.searchProfiles(after, profileList));
+        profileList.getSelectionModel().selectedItemProperty().addListener((obs, before, after) ->
+                controller.selectProfile(after, messageLabel, pointLabel, repeatCountField));
+        VBox profileBox = new VBox(4, new HBox(8, new Label("프로파일:"), searchField), profileList);
+
+        Parent root = buildRoot(statusLabel, messageLabel, pointLabel, delayRow, repeatRow, buttons, profileBox);
 
-        Scene created = new Scene(root, 520, 280);
+        Scene created = new Scene(root, 520, 420);
 
         // ✅ Scene 생성 직후: ESC로 캡처 취소를 처리한다(앱 포커스 내에서 확실히 동작).
         created.addEventFilter(KeyEvent.KEY_PRESSED, e -> {
@@ -97,8 +125,10 @@ public final class MainWindow {
             }
         });
 
-        // 역할: 최초 상태를 화면에 반영한다.
+        // 역할: 최초 상태를 화면에 반영하고, 마지막 사용 설정을 입력 필드에 되살린다.
         controller.refresh(statusLabel, messageLabel, pauseResumeButton);
+        controller.restoreLastUsed(messageLabel, pointLabel, repeatCountField,
+                () -> controller.searchProfiles(searchField.getText(), profileList));
         this.scene = created;
     }
 
@@ -107,7 +137,8 @@ public final class MainWindow {
                              Label pointLabel,
                              HBox delayRow,
                              HBox repeatRow,
-                             HBox buttons) {
+                             HBox buttons,
+                             VBox profileBox) {
         VBox root = new VBox(
                 10,
                 new Label("Status:"),
@@ -117,6 +148,7 @@ public final class MainWindow {
                 repeatRow,
                 delayRow,
                 buttons,
+                profileBox,
                 new Label("Message:"),
                 messageLabel
         );
@@ -124,8 +156,30 @@ public final class MainWindow {
         return root;
     }
 
-
     public Scene scene() {
         return scene;
     }
+
+    /**
+     * 전역 단축키 동작을 해당 버튼 동작으로 처리한다.
+     *
+     * <p>역할:</p>
+     * <ul>
+     *   <li>버튼과 같은 경로(Controller)를 거치므로 입력 검증/상태 표시가 동일하게 적용된다.</li>
+     *   <li>비활성 버튼은 fire되지 않으므로, 현재 상태에서 허용되지 않는 요청은 무시된다.</li>
+     * </ul>
+     *
+     * <p>UI 스레드에서 호출해야 한다.</p>
+     *
+     * @param action 단축키 동작
+     * @since 0.9
+     */
+    public void onHotkey(HotkeyAction action) {
+        Objects.requireNonNull(action, "action");
+        switch (action) {
+            case START -> startButton.fire();
+            case TOGGLE_PAUSE -> pauseResumeButton.fire();
+            case STOP -> stopButton.fire();
+        }
+    }
 }
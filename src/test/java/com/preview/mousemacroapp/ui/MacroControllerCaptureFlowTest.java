@@ -319,5 +319,21 @@ class MacroControllerCaptureFlowTest {
         public com.preview.mousemacroapp.domain.status.MacroStatus status() {
             return com.preview.mousemacroapp.domain.status.MacroStatus.STOPPED;
         }
+
+        @Override
+        public void startProgram(com.preview.mousemacroapp.service.ProgramRequest request) {
+            // no-op
+        }
+
+        @Override
+        public void startScript(com.preview.mousemacroapp.service.script.MacroScript script, java.util.Random random) {
+            // no-op
+        }
+
+        @Override
+        public void startReplay(com.preview.mousemacroapp.service.replay.ReplaySource source,
+                                com.preview.mousemacroapp.service.replay.ReplayOptions options) {
+            // no-op
+        }
     }
 }